@@ -19,11 +19,12 @@
 
 /* Usage: 
  This tool is placed at the root of the Wikimedia source-tree and then php is executed standalone via e.g. bash 
+ The target directory is src/main/resources/se/lth/cs/nlp/wikipedia/lang, one [code].lang file is written per language.
 */
 date_default_timezone_set("UTC");
 
 if(count($argv) < 2) {
-	echo "Error: Please specify target directory for the sources!";
+	echo "Error: Please specify target directory for the language resources!";
 	echo "autogenerate-configs.php [target-directory]";
 	return;
 }
@@ -130,74 +131,42 @@ function mergeMessages($extracts) {
 	return $extractions;
 }
 
-function getJava($lang, $extraction) {
-	ob_start();
-?>
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
+function escapeField($field) {
+	return str_replace(array("\t", "\n"), array('\t', '\n'), $field);
+}
 
-<?php
-	echo "//Autogenerated from Wikimedia sources at " . date("c") . "\n\n";
-	echo "public class " . ucfirst($lang) . "Config extends TemplateConfig {\n";
+function getLang($lang, $extraction) {
+	ob_start();
 
-	echo "\tpublic " . ucfirst($lang) . "Config() {\n";
+	echo "# Autogenerated from Wikimedia sources at " . date("c") . "\n";
+	echo "sitename\tWikipedia\n";
+	echo "url\thttp://" . $lang . ".wikipedia.org/\n";
+	echo "iso639\t" . $lang . "\n";
 
 	foreach($extraction->dict as $key => $arr) {
-		echo "\t\t" . 'addNamespaceAlias(' . $key;
+		echo "ns\t" . $key;
 		foreach($arr as $item) {
-			echo ', "' . str_replace("$1", "Wikipedia", $item) . '"';
+			echo "\t" . escapeField(str_replace("$1", "Wikipedia", $item));
 		}
-		echo ");\n";
+		echo "\n";
 	}
 
-	echo "\n";
 	foreach($extraction->magicWords as $key => $arr) {
 		if($arr[0] == '1') {
-			echo "\t\t" . 'addI18nAlias("';
+			echo "i18n\t";
 		}
 		else if($arr[0] == '0') {
-			echo "\t\t" . 'addI18nCIAlias("';
+			echo "i18nci\t";
 		}
 
-		echo $key . '"';
+		echo $key;
 
 		foreach(array_slice($arr,1) as $alias) {
-			echo ', "' . $alias . '"';
+			echo "\t" . escapeField($alias);
 		}
-		echo ");\n";
+		echo "\n";
 	}
 
-	echo "\t}\n\n";
-	echo "\t@Override\n";
-	echo "\tprotected String getSiteName() {\n";
-	echo "\t\treturn" . ' "Wikipedia"' . ";\n";
-	echo "\t}\n\n";
-
-	echo "\t@Override\n";
-	echo "\tprotected String getWikiUrl() {\n";
-	echo "\t\treturn " . '"http://' . $lang . '.wikipedia.org/"' . ";\n";
-	echo "\t}\n\n";
-
-	echo "\t@Override\n";
-	echo "\tpublic String getIso639() {\n";
-	echo "\t\treturn " . '"' . $lang . '"' . ";\n";
-	echo "\t}\n";
-	echo "}\n";
 	$contents = ob_get_contents();
 	ob_end_clean();
 	return $contents;
@@ -205,58 +174,16 @@ function getJava($lang, $extraction) {
 
 $i = 0;
 
-$langs = array();
-
 $searchpath = dirname(__FILE__) . "/languages/messages";
 foreach(scandir($searchpath) as $file) {
 	if(is_file($searchpath . "/" . $file)) {
 		if(preg_match("/Messages([A-Za-z]+)\\.php$/", $file, $matches)) {
-			array_push($langs, strtolower($matches[1]));
-			file_put_contents($targetdir . "/" . $matches[1] . "Config.java", getJava(strtolower($matches[1]), parseAll($searchpath . "/" . $file)));
+			file_put_contents($targetdir . "/" . strtolower($matches[1]) . ".lang", getLang(strtolower($matches[1]), parseAll($searchpath . "/" . $file)));
 			$i++;
 		}
 	}
 }
 
-ob_start();
-?>
-package se.lth.cs.nlp.wikipedia.lang;
-
-import java.util.HashMap;
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- public class LangFactory {
- 	private static final HashMap<String,Class<?php echo "<? extends TemplateConfig>>"; ?> languages = new HashMap<String,Class<?php echo "<? extends TemplateConfig>>"; ?>();
-
- 	static {<?php echo "\n";
- 		foreach($langs as $lang) {
- 			echo "\t\t" . 'languages.put("' . $lang . '", ' . ucfirst($lang) . 'Config.class);' . "\n";
- 		}?>
- 	}
-
- 	public static Class<?php echo "<? extends TemplateConfig>"; ?> get(String lang) {
- 		return languages.get(lang);
- 	}
- }
-<?php
-$contents = ob_get_contents();
-ob_end_clean();
-
-file_put_contents($targetdir . "/LangFactory.java", $contents);
 echo "Generated configurations for " . $i . " languages.\n";
 
 ?>
\ No newline at end of file
@@ -1,16 +1,23 @@
 package se.lth.cs.nlp.io;
 
+import org.apache.commons.lang3.StringUtils;
+import se.lth.cs.nlp.pipeline.Checkpointable;
+
 import java.io.*;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Parallel split writer, writes in parallel IO data out to files, creates files as needed.
  */
-public abstract class ParallelSplitWriter<T> extends SplitWriter {
+public abstract class ParallelSplitWriter<T> extends SplitWriter implements Checkpointable {
 
     private ConcurrentLinkedDeque<Writer<T>> writers;
+    private final ConcurrentHashMap<Writer<T>,String> splitNames = new ConcurrentHashMap<Writer<T>,String>();
+    private final ConcurrentLinkedQueue<String> completedSplits = new ConcurrentLinkedQueue<String>();
     private int openWriters = 0;
     private final int maxWriters;
     private final AtomicLong written = new AtomicLong(0);
@@ -75,7 +82,9 @@ public abstract class ParallelSplitWriter<T> extends SplitWriter {
 
             toOpen = newSplit();
 
-            return newWriter(toOpen);
+            writer = newWriter(toOpen);
+            splitNames.put(writer, toOpen.getName());
+            return writer;
         }
         else
             return writer;
@@ -107,7 +116,7 @@ public abstract class ParallelSplitWriter<T> extends SplitWriter {
      */
     protected void returnWriter(Writer<T> writer) {
         if(writer.isFull()) {
-            writer.close();
+            closeSplit(writer);
             synchronized (this) {
                 openWriters--;
                 notifyAll();
@@ -121,6 +130,17 @@ public abstract class ParallelSplitWriter<T> extends SplitWriter {
         }
     }
 
+    /**
+     * Close a writer and mark its split as completed
+     * @param writer the writer to close
+     */
+    private void closeSplit(Writer<T> writer) {
+        writer.close();
+        String name = splitNames.remove(writer);
+        if(name != null)
+            completedSplits.add(name);
+    }
+
     /**
      * Construct a new writer
      * @param path the target file for the writer
@@ -134,12 +154,12 @@ public abstract class ParallelSplitWriter<T> extends SplitWriter {
     public void close() {
         Writer<T> datawriter;
         while( (datawriter = writers.poll()) != null ) {
-            datawriter.close();
+            closeSplit(datawriter);
             openWriters--;
         }
 
         try {
-            BufferedWriter writer = new BufferedWriter(new FileWriter(new File(basepath.getAbsolutePath(), "_count")));
+            BufferedWriter writer = new BufferedWriter(new FileWriter(new File(basepath.getAbsolutePath(), tag == null ? "_count" : "_count-" + tag)));
             writer.write(Long.toString(written.get())+"\n");
             writer.flush();
             writer.close();
@@ -147,4 +167,54 @@ public abstract class ParallelSplitWriter<T> extends SplitWriter {
             throw new IOError(e);
         }
     }
+
+    /**
+     * Close all open splits, every item written so far is then in a completed split.
+     * @param state the checkpoint, split numbering and the completed splits are added
+     */
+    @Override
+    public void checkpoint(Properties state) {
+        synchronized (this) {
+            Writer<T> datawriter;
+            while( (datawriter = writers.poll()) != null ) {
+                closeSplit(datawriter);
+                openWriters--;
+            }
+            notifyAll();
+        }
+
+        state.setProperty("splits.counter", Long.toString(getSplitCounter()));
+        state.setProperty("splits.written", Long.toString(written.get()));
+        state.setProperty("splits.completed", StringUtils.join(completedSplits, ","));
+    }
+
+    /**
+     * Continue the split numbering of a checkpoint, splits that were not completed at the checkpoint are removed.
+     * @param state the checkpoint
+     */
+    @Override
+    public void restore(Properties state) {
+        setSplitCounter(Long.parseLong(state.getProperty("splits.counter", "0")));
+        written.set(Long.parseLong(state.getProperty("splits.written", "0")));
+
+        HashSet<String> completed = new HashSet<String>();
+        for (String split : state.getProperty("splits.completed", "").split(",")) {
+            if(!split.isEmpty())
+                completed.add(split);
+        }
+        completedSplits.addAll(completed);
+
+        File[] files = basepath.listFiles();
+        if(files == null)
+            return;
+
+        for (File file : files) {
+            String name = file.getName();
+            int end = name.indexOf('.');
+            if(isSplit(name) && !completed.contains(end == -1 ? name : name.substring(0, end))) {
+                if(!file.delete())
+                    throw new IOError(new IOException("Failed to remove incomplete split " + file.getAbsolutePath()));
+            }
+        }
+    }
 }
@@ -4,12 +4,14 @@ import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import se.lth.cs.nlp.mediawiki.model.WikipediaPage;
+import se.lth.cs.nlp.pipeline.Checkpointable;
 import se.lth.cs.nlp.pipeline.Sink;
 
 import java.io.File;
 import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Properties;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -18,7 +20,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * Uses the format:
  *  [title]\t[escaped text using commons StringEscapeUtils.escapeJava(text)]
  */
-public class SimpleHadoopTextWriter implements Sink<WikipediaPage> {
+public class SimpleHadoopTextWriter implements Sink<WikipediaPage>, Checkpointable {
 
     private final File basepath;
     private final int limit;
@@ -35,17 +37,42 @@ public class SimpleHadoopTextWriter implements Sink<WikipediaPage> {
      * @param maxWriters the maximum number of concurrent writers
      */
     public SimpleHadoopTextWriter(File basepath, int limit, int maxWriters, boolean gzip) {
+        this(basepath, limit, maxWriters, gzip, null);
+    }
+
+    /**
+     * Construct a hadoop text writer with tagged splits
+     * @param basepath the target location (directory)
+     * @param limit the size limit of a split
+     * @param maxWriters the maximum number of concurrent writers
+     * @param tag included in all split names, null for no tag
+     */
+    public SimpleHadoopTextWriter(File basepath, int limit, int maxWriters, boolean gzip, String tag) {
+        this(basepath, limit, maxWriters, gzip, tag, false);
+    }
+
+    /**
+     * Construct a hadoop text writer with tagged splits
+     * @param basepath the target location (directory)
+     * @param limit the size limit of a split
+     * @param maxWriters the maximum number of concurrent writers
+     * @param tag included in all split names, null for no tag
+     * @param resume allow an existing basepath, output is continued from a checkpoint using restore
+     */
+    public SimpleHadoopTextWriter(File basepath, int limit, int maxWriters, boolean gzip, String tag, boolean resume) {
         this.basepath = basepath;
         this.limit = limit;
         this.maxWriters = maxWriters;
         this.gzip = gzip;
-        if(basepath.exists())
+        if(!resume && basepath.exists())
             throw new IllegalArgumentException("Safety feature: basepath must not exist prior to output");
 
         if(gzip)
             this.writer = LineWriter.openFastGzipParallelWriter(basepath, limit, maxWriters);
         else
             this.writer = LineWriter.openParallelWriter(basepath, limit, maxWriters);
+
+        this.writer.setTag(tag);
     }
 
     @Override
@@ -77,6 +104,19 @@ public class SimpleHadoopTextWriter implements Sink<WikipediaPage> {
         }
     }
 
+    @Override
+    public void checkpoint(Properties state) {
+        writer.checkpoint(state);
+        state.setProperty("pages.written", Long.toString(written.get()));
+    }
+
+    @Override
+    public void restore(Properties state) {
+        writer.restore(state);
+        written.set(Long.parseLong(state.getProperty("pages.written", "0")));
+        logger.info("Resuming after {} written pages.", written.get());
+    }
+
     @Override
     public String toString() {
         NumberFormat nf = NumberFormat.getIntegerInstance();
@@ -13,6 +13,7 @@ import java.util.concurrent.atomic.AtomicLong;
 public abstract class SplitWriter {
     private AtomicLong splitCounter = new AtomicLong(0);
     protected File basepath;
+    protected String tag = null;
 
     public SplitWriter(File basepath) {
         this.basepath = basepath;
@@ -22,7 +23,45 @@ public abstract class SplitWriter {
             }
     }
 
+    /**
+     * Tag all splits, used to keep split names unique when several writers share a basepath.
+     * @param tag the tag, null for no tag
+     */
+    public void setTag(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * @return the number of splits created so far
+     */
+    protected long getSplitCounter() {
+        return splitCounter.get();
+    }
+
+    /**
+     * Continue split numbering after a restart
+     * @param counter the number of splits already created
+     */
+    protected void setSplitCounter(long counter) {
+        splitCounter.set(counter);
+    }
+
+    /**
+     * Check if a file is a split of this writer
+     * @param name the file name
+     * @return true if the name is part-[tag-]NNNNN with an optional extension
+     */
+    protected boolean isSplit(String name) {
+        String prefix = "part-" + (tag == null ? "" : tag + "-");
+        if(!name.startsWith(prefix))
+            return false;
+
+        int end = name.indexOf('.', prefix.length());
+        String number = name.substring(prefix.length(), end == -1 ? name.length() : end);
+        return !number.isEmpty() && StringUtils.isNumeric(number);
+    }
+
     protected File newSplit() {
-        return new File(basepath, "part-" + StringUtils.leftPad(String.valueOf(splitCounter.addAndGet(1)), 5, '0'));
+        return new File(basepath, "part-" + (tag == null ? "" : tag + "-") + StringUtils.leftPad(String.valueOf(splitCounter.addAndGet(1)), 5, '0'));
     }
 }
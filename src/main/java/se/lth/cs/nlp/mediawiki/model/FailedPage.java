@@ -0,0 +1,49 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.mediawiki.model;
+
+/**
+ * Represents a page that could not be parsed, sent to the error sink.
+ */
+public class FailedPage extends Page {
+    public enum Reason {
+        /** The parser threw an exception */
+        ERROR,
+        /** The parse exceeded the time budget and was abandoned */
+        TIMEOUT
+    }
+
+    private final Reason reason;
+    private final String message;
+
+    public FailedPage(Page page, Reason reason, String message) {
+        super(page.getHeader(), page.getId(), page.getTitle(), page.getContent(), page.getRevision(), page.getNamespace(), page.getFormat());
+        this.reason = reason;
+        this.message = message;
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    /**
+     * @return a description of the failure, might be null
+     */
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.mediawiki.parser;
+
+import java.nio.ByteBuffer;
+import java.text.NumberFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+
+/**
+ * Bounded pool of reusable block buffers, thread safe.
+ *
+ * Buffers are handed out in power of two size classes, a returned buffer is kept for reuse
+ * as long as the idle buffers stay within the capacity of the pool, otherwise it is left to the garbage collector.
+ */
+public class BlockBufferPool {
+    private static final int MIN_SIZE_CLASS = 16; //64 KiB
+    private static final int MAX_SIZE_CLASS = 30; //1 GiB
+
+    private final long capacity;
+    private final boolean direct;
+    private final ArrayList<ArrayDeque<ByteBuffer>> free = new ArrayList<ArrayDeque<ByteBuffer>>();
+
+    private long idleBytes = 0;
+    private long usedBytes = 0;
+    private long peakBytes = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long dropped = 0;
+
+    /**
+     * Pool constructor
+     * @param capacity the maximum number of bytes kept in idle buffers
+     * @param direct allocate direct buffers instead of heap buffers
+     */
+    public BlockBufferPool(long capacity, boolean direct) {
+        this.capacity = capacity;
+        this.direct = direct;
+        for (int i = 0; i <= MAX_SIZE_CLASS; i++) {
+            free.add(new ArrayDeque<ByteBuffer>());
+        }
+    }
+
+    private static int sizeClass(int size) {
+        return Math.max(MIN_SIZE_CLASS, 32 - Integer.numberOfLeadingZeros(Math.max(size - 1, 1)));
+    }
+
+    /**
+     * @return the maximum number of bytes kept in idle buffers
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * @return true if the buffers are direct buffers
+     */
+    public boolean isDirect() {
+        return direct;
+    }
+
+    /**
+     * Borrow a buffer, it must be returned with release when no longer used
+     * @param size the minimum size of the buffer
+     * @return a buffer with position 0 and limit size, the capacity may be larger
+     */
+    public synchronized ByteBuffer borrow(int size) {
+        int sizeClass = sizeClass(size);
+        ByteBuffer buffer = null;
+
+        if(sizeClass <= MAX_SIZE_CLASS)
+            buffer = free.get(sizeClass).poll();
+
+        if(buffer != null) {
+            hits++;
+            idleBytes -= buffer.capacity();
+        } else {
+            misses++;
+            int capacity = sizeClass <= MAX_SIZE_CLASS ? 1 << sizeClass : size;
+            buffer = direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity);
+        }
+
+        usedBytes += buffer.capacity();
+        peakBytes = Math.max(peakBytes, usedBytes);
+
+        buffer.clear();
+        buffer.limit(size);
+        return buffer;
+    }
+
+    /**
+     * Return a buffer borrowed from this pool, it must not be used afterwards
+     * @param buffer the borrowed buffer
+     */
+    public synchronized void release(ByteBuffer buffer) {
+        usedBytes -= buffer.capacity();
+
+        int sizeClass = sizeClass(buffer.capacity());
+        if(sizeClass > MAX_SIZE_CLASS || idleBytes + buffer.capacity() > capacity) {
+            dropped++;
+            return;
+        }
+
+        idleBytes += buffer.capacity();
+        free.get(sizeClass).push(buffer);
+    }
+
+    /**
+     * @return the number of borrowed buffers that were reused
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return the number of borrowed buffers that had to be allocated
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return the largest number of bytes borrowed at the same time
+     */
+    public synchronized long getPeakBytes() {
+        return peakBytes;
+    }
+
+    /**
+     * @return the number of bytes borrowed and not yet returned
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * @return the number of bytes in idle buffers
+     */
+    public synchronized long getIdleBytes() {
+        return idleBytes;
+    }
+
+    /**
+     * @return the number of returned buffers that did not fit in the pool
+     */
+    public synchronized long getDropped() {
+        return dropped;
+    }
+
+    @Override
+    public synchronized String toString() {
+        NumberFormat nf = NumberFormat.getIntegerInstance();
+        nf.setGroupingUsed(true);
+
+        return String.format("%s pool of %s KiB: %s hits, %s misses, %s dropped, peak %s KiB in use",
+                             direct ? "Direct" : "Heap",
+                             nf.format(capacity / 1024),
+                             nf.format(hits),
+                             nf.format(misses),
+                             nf.format(dropped),
+                             nf.format(peakBytes / 1024));
+    }
+}
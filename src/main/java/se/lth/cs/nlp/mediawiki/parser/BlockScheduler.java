@@ -0,0 +1,201 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.mediawiki.parser;
+
+import java.util.ArrayList;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out blocks from a single reader to a fixed set of workers, thread safe.
+ *
+ * Every worker has its own deque, the reader puts a block in the shortest deque and a worker with an empty deque
+ * steals the oldest block of the longest one, so workers do not contend on a single queue and a worker stuck
+ * on an expensive block does not hold up the blocks queued behind it.
+ *
+ * The number of queued blocks (the prefetch depth) adapts to the observed time per block: enough blocks are
+ * queued to keep every worker busy for a lookahead period, between one and eight blocks per worker.
+ * Cheap blocks get a deep prefetch, expensive blocks only keep one block per worker in memory.
+ *
+ * A FIFO scheduler hands out blocks in the order they were put, which ordered output and checkpoints depend on:
+ * there is a single deque that all workers block on, there is nothing to steal.
+ *
+ * @param <T> the block type
+ */
+final class BlockScheduler<T> {
+    /** Queued work per worker the prefetch aims for */
+    private static final long LOOKAHEAD_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    /** Weight of a new observation in the moving average of the time per block */
+    private static final double SMOOTHING = 0.1;
+
+    private final ArrayList<LinkedBlockingDeque<T>> deques = new ArrayList<LinkedBlockingDeque<T>>();
+    private final int workers;
+    private final int minDepth;
+    private final int maxDepth;
+    private final boolean fifo;
+    private final AtomicInteger queued = new AtomicInteger(0);
+    private final AtomicLong steals = new AtomicLong(0);
+    private final Object notFull = new Object();
+
+    private volatile int depth;
+    private volatile boolean closed = false;
+    private double averageNanos = 0;
+    private long observations = 0;
+
+    /**
+     * Create a scheduler
+     * @param workers the number of workers
+     * @param fifo hand out blocks in the order they were put
+     */
+    public BlockScheduler(int workers, boolean fifo) {
+        this.fifo = fifo;
+        this.workers = workers;
+        for (int i = 0; i < (fifo ? 1 : workers); i++) {
+            deques.add(new LinkedBlockingDeque<T>());
+        }
+
+        this.minDepth = workers;
+        this.maxDepth = workers * 8;
+        this.depth = workers * 3;
+    }
+
+    /**
+     * Queue a block, waits while the prefetch depth is reached
+     * @param block the block
+     * @return false if the scheduler has been closed, the block is not queued
+     * @throws InterruptedException
+     */
+    public boolean put(T block) throws InterruptedException {
+        synchronized (notFull) {
+            while(queued.get() >= depth && !closed)
+                notFull.wait();
+        }
+
+        if(closed)
+            return false;
+
+        LinkedBlockingDeque<T> target = deques.get(0);
+        for (int i = 1; i < deques.size(); i++) {
+            if(deques.get(i).size() < target.size())
+                target = deques.get(i);
+        }
+
+        queued.incrementAndGet();
+        target.addLast(block);
+        return true;
+    }
+
+    /**
+     * Take the next block of a worker, stealing from the other workers if its own deque is empty
+     * @param worker the worker, 0 to workers - 1, ignored by a FIFO scheduler
+     * @return the block, null when closed and no blocks remain
+     * @throws InterruptedException
+     */
+    public T take(int worker) throws InterruptedException {
+        LinkedBlockingDeque<T> own = fifo ? deques.get(0) : deques.get(worker);
+        while(true) {
+            T block = own.pollFirst();
+            if(block == null && !fifo)
+                block = steal(worker);
+
+            if(block == null && !closed)
+                block = own.pollFirst(10, TimeUnit.MILLISECONDS);
+
+            if(block != null) {
+                if(queued.decrementAndGet() < depth) {
+                    synchronized (notFull) {
+                        notFull.notifyAll();
+                    }
+                }
+                return block;
+            }
+
+            if(closed && queued.get() == 0)
+                return null;
+        }
+    }
+
+    private T steal(int worker) {
+        LinkedBlockingDeque<T> victim = null;
+        for (int i = 0; i < deques.size(); i++) {
+            if(i != worker && (victim == null || deques.get(i).size() > victim.size()))
+                victim = deques.get(i);
+        }
+
+        if(victim == null)
+            return null;
+
+        T block = victim.pollFirst();
+        if(block != null)
+            steals.incrementAndGet();
+
+        return block;
+    }
+
+    /**
+     * No more blocks will be put, workers drain the queued blocks and then get null
+     */
+    public void close() {
+        closed = true;
+        synchronized (notFull) {
+            notFull.notifyAll();
+        }
+    }
+
+    /**
+     * Report the time a worker spent on a block, adjusts the prefetch depth
+     * @param nanos the time in nanoseconds
+     */
+    public synchronized void finished(long nanos) {
+        observations++;
+        averageNanos = observations == 1 ? nanos : averageNanos + SMOOTHING * (nanos - averageNanos);
+
+        long perWorker = (long)Math.ceil(LOOKAHEAD_NANOS / Math.max(averageNanos, 1.0));
+        int target = (int)Math.max(minDepth, Math.min(maxDepth, perWorker * workers));
+        if(target > depth) {
+            depth = target;
+            synchronized (notFull) {
+                notFull.notifyAll();
+            }
+        }
+        else
+            depth = target;
+    }
+
+    /**
+     * @return the current prefetch depth
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * @return the number of blocks taken from the deque of another worker
+     */
+    public long getSteals() {
+        return steals.get();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%s%d steals, prefetch depth %d (%d - %d), %.1f ms per block",
+                             fifo ? "FIFO, " : "", steals.get(), depth, minDepth, maxDepth, averageNanos / 1e6);
+    }
+}
@@ -0,0 +1,32 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.mediawiki.parser;
+
+import se.lth.cs.nlp.mediawiki.model.Page;
+import se.lth.cs.nlp.pipeline.Source;
+
+/**
+ * Dump source that can skip pages while parsing
+ */
+public interface FilteredDumpSource extends Source<Page,Void> {
+
+    /**
+     * Only emit pages accepted by a predicate, must be called before run.
+     * @param predicate the predicate, null to emit all pages
+     */
+    public void setPagePredicate(PagePredicate predicate);
+}
@@ -0,0 +1,330 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.mediawiki.parser;
+
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Binary block index of a multistream dump, the sorted offsets of all bzip2 streams and the page id range of each.
+ *
+ * The first time a dump is opened the text index is parsed and the result is written to a sidecar file
+ * next to it (index path + ".blocks"), later runs memory map the sidecar instead of parsing the text index again.
+ * The sidecar holds a fingerprint of the dump and is rebuilt if it does not match.
+ *
+ * Stream 0 is always the header stream, it has no pages and its page id range is -1, -1.
+ */
+public class MultistreamBlockIndex {
+    private static final int MAGIC = 0x57464249; //WFBI
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4;
+
+    /** Number of bytes from the start and end of the page file included in the fingerprint */
+    private static final int FINGERPRINT_SAMPLE = 64 * 1024;
+
+    private final long pageFileSize;
+    private final LongBuffer offsets;
+    private final LongBuffer firstIds;
+    private final LongBuffer lastIds;
+
+    private MultistreamBlockIndex(long pageFileSize, LongBuffer offsets, LongBuffer firstIds, LongBuffer lastIds) {
+        this.pageFileSize = pageFileSize;
+        this.offsets = offsets;
+        this.firstIds = firstIds;
+        this.lastIds = lastIds;
+    }
+
+    /**
+     * Open the block index of a dump, loads the sidecar if valid otherwise builds it from the text index.
+     * @param indexFile the multistream text index (bzip2 format)
+     * @param pageFile  the multistream page file
+     * @return block index
+     */
+    public static MultistreamBlockIndex open(File indexFile, File pageFile) {
+        Logger logger = LoggerFactory.getLogger(MultistreamBlockIndex.class);
+        File sidecar = getSidecar(indexFile);
+
+        try {
+            long fingerprint = fingerprint(indexFile, pageFile);
+
+            if(sidecar.exists()) {
+                MultistreamBlockIndex index = load(sidecar, pageFile.length(), fingerprint);
+                if(index != null)
+                    return index;
+
+                logger.info("Block index {} does not match the dump, rebuilding.", sidecar.getAbsolutePath());
+            }
+
+            MultistreamBlockIndex index = build(indexFile, pageFile);
+            try {
+                index.write(sidecar, fingerprint);
+                logger.info("Block index with {} streams written to {}", index.size(), sidecar.getAbsolutePath());
+            } catch (IOException e) {
+                logger.warn("Could not write block index to {}, continuing without it.", sidecar.getAbsolutePath(), e);
+            }
+
+            return index;
+        } catch (IOException e) {
+            throw new IOError(e);
+        }
+    }
+
+    /**
+     * Get the sidecar location for a text index
+     * @param indexFile the multistream text index
+     * @return the binary index location
+     */
+    public static File getSidecar(File indexFile) {
+        return new File(indexFile.getAbsolutePath() + ".blocks");
+    }
+
+    /**
+     * Parse the text index, every line has the format offset:pageid:title
+     * @param indexFile the multistream text index (bzip2 format)
+     * @param pageFile  the multistream page file
+     * @return block index
+     * @throws IOException
+     */
+    public static MultistreamBlockIndex build(File indexFile, File pageFile) throws IOException {
+        long[] offsets = new long[1024];
+        long[] firstIds = new long[1024];
+        long[] lastIds = new long[1024];
+
+        offsets[0] = 0;
+        firstIds[0] = -1;
+        lastIds[0] = -1;
+        int count = 1;
+
+        BufferedReader reader = new BufferedReader(
+                                    new InputStreamReader(
+                                        new BZip2CompressorInputStream(
+                                            new BufferedInputStream(
+                                                new FileInputStream(indexFile))), "UTF-8"));
+
+        try {
+            String line;
+            while( (line = reader.readLine()) != null) {
+                if(line.isEmpty())
+                    continue;
+
+                int pos = line.indexOf(':');
+                int idpos = line.indexOf(':', pos+1);
+                long offset = Long.parseLong(line.substring(0, pos));
+                long id = Long.parseLong(line.substring(pos+1, idpos == -1 ? line.length() : idpos));
+
+                if(offsets[count-1] != offset) {
+                    if(count == offsets.length) {
+                        offsets = Arrays.copyOf(offsets, count * 2);
+                        firstIds = Arrays.copyOf(firstIds, count * 2);
+                        lastIds = Arrays.copyOf(lastIds, count * 2);
+                    }
+
+                    offsets[count] = offset;
+                    firstIds[count] = id;
+                    lastIds[count] = id;
+                    count++;
+                }
+                else {
+                    firstIds[count-1] = Math.min(firstIds[count-1], id);
+                    lastIds[count-1] = Math.max(lastIds[count-1], id);
+                }
+            }
+        }
+        finally {
+            reader.close();
+        }
+
+        return new MultistreamBlockIndex(
+                pageFile.length(),
+                LongBuffer.wrap(offsets, 0, count).slice(),
+                LongBuffer.wrap(firstIds, 0, count).slice(),
+                LongBuffer.wrap(lastIds, 0, count).slice());
+    }
+
+    /**
+     * Memory map a sidecar
+     * @param sidecar the sidecar file
+     * @param pageFileSize the expected size of the page file
+     * @param fingerprint the expected fingerprint
+     * @return null if the sidecar is not valid for the dump
+     * @throws IOException
+     */
+    private static MultistreamBlockIndex load(File sidecar, long pageFileSize, long fingerprint) throws IOException {
+        FileChannel channel = FileChannel.open(sidecar.toPath(), StandardOpenOption.READ);
+        try {
+            if(channel.size() < HEADER_SIZE)
+                return null;
+
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if(buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+                return null;
+
+            if(buffer.getLong() != pageFileSize || buffer.getLong() != fingerprint)
+                return null;
+
+            int count = buffer.getInt();
+            if(buffer.remaining() != count * 3L * 8L)
+                return null;
+
+            LongBuffer longs = buffer.slice().asLongBuffer();
+
+            longs.limit(count);
+            LongBuffer offsets = longs.slice();
+            longs.limit(count * 2).position(count);
+            LongBuffer firstIds = longs.slice();
+            longs.limit(count * 3).position(count * 2);
+            LongBuffer lastIds = longs.slice();
+
+            return new MultistreamBlockIndex(pageFileSize, offsets, firstIds, lastIds);
+        }
+        finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Write this index as a sidecar, the file is replaced atomically.
+     * @param sidecar the target file
+     * @param fingerprint the dump fingerprint
+     * @throws IOException
+     */
+    private void write(File sidecar, long fingerprint) throws IOException {
+        File tmp = new File(sidecar.getAbsolutePath() + ".tmp");
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)));
+        try {
+            int count = size();
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(pageFileSize);
+            output.writeLong(fingerprint);
+            output.writeInt(count);
+
+            for (int i = 0; i < count; i++)
+                output.writeLong(offsets.get(i));
+
+            for (int i = 0; i < count; i++)
+                output.writeLong(firstIds.get(i));
+
+            for (int i = 0; i < count; i++)
+                output.writeLong(lastIds.get(i));
+        }
+        finally {
+            output.close();
+        }
+
+        if(!tmp.renameTo(sidecar)) {
+            if(!sidecar.delete() || !tmp.renameTo(sidecar)) {
+                tmp.delete();
+                throw new IOException("Failed to move " + tmp.getAbsolutePath() + " to " + sidecar.getAbsolutePath());
+            }
+        }
+    }
+
+    /**
+     * Fingerprint a dump: the sizes of both files and the first and last bytes of the page file,
+     * which is cheap compared to a checksum of the entire dump.
+     */
+    static long fingerprint(File indexFile, File pageFile) throws IOException {
+        CRC32 crc = new CRC32();
+        long size = pageFile.length();
+
+        ByteBuffer sizes = ByteBuffer.allocate(16);
+        sizes.putLong(size).putLong(indexFile.length());
+        crc.update(sizes.array());
+
+        RandomAccessFile file = new RandomAccessFile(pageFile, "r");
+        try {
+            byte[] sample = new byte[(int)Math.min(FINGERPRINT_SAMPLE, size)];
+            file.readFully(sample);
+            crc.update(sample);
+
+            file.seek(size - sample.length);
+            file.readFully(sample);
+            crc.update(sample);
+        }
+        finally {
+            file.close();
+        }
+
+        return crc.getValue();
+    }
+
+    /**
+     * @return the number of streams, including the header stream
+     */
+    public int size() {
+        return offsets.limit();
+    }
+
+    /**
+     * @param stream the stream number
+     * @return the byte offset of the stream in the page file
+     */
+    public long getStart(int stream) {
+        return offsets.get(stream);
+    }
+
+    /**
+     * @param stream the stream number
+     * @return the byte offset directly after the stream
+     */
+    public long getEnd(int stream) {
+        return stream + 1 < size() ? offsets.get(stream + 1) : pageFileSize;
+    }
+
+    /**
+     * @param stream the stream number
+     * @return the smallest page id in the stream, -1 for the header stream
+     */
+    public long getFirstPageId(int stream) {
+        return firstIds.get(stream);
+    }
+
+    /**
+     * @param stream the stream number
+     * @return the largest page id in the stream, -1 for the header stream
+     */
+    public long getLastPageId(int stream) {
+        return lastIds.get(stream);
+    }
+
+    /**
+     * Find the stream that contains an offset
+     * @param offset byte offset in the page file
+     * @return the stream number
+     */
+    public int findStream(long offset) {
+        int lo = 0, hi = size() - 1;
+        while(lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if(offsets.get(mid) <= offset)
+                lo = mid;
+            else
+                hi = mid - 1;
+        }
+        return lo;
+    }
+}
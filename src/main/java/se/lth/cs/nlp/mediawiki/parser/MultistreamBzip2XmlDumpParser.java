@@ -17,61 +17,146 @@
 package se.lth.cs.nlp.mediawiki.parser;
 
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
-import org.codehaus.stax2.XMLInputFactory2;
-import org.codehaus.stax2.XMLStreamReader2;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Marker;
 import se.lth.cs.nlp.mediawiki.model.Header;
 import se.lth.cs.nlp.pipeline.AbstractEmitter;
-import se.lth.cs.nlp.pipeline.Source;
+import se.lth.cs.nlp.pipeline.CheckpointedSource;
+import se.lth.cs.nlp.pipeline.Checkpointable;
+import se.lth.cs.nlp.pipeline.SequencedSource;
+import se.lth.cs.nlp.pipeline.Sequencer;
 import se.lth.cs.nlp.mediawiki.model.Page;
 
-import javax.xml.stream.XMLInputFactory;
-import javax.xml.stream.XMLStreamException;
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.text.NumberFormat;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Multistream Mediawiki bzip2 xml dump parser (supporting parallel decompression and xml parsing)
  */
-public class MultistreamBzip2XmlDumpParser extends AbstractEmitter<Page,Void> implements Source<Page,Void> {
+public class MultistreamBzip2XmlDumpParser extends AbstractEmitter<Page,Void> implements SequencedSource<Page,Void>, CheckpointedSource<Page,Void>, FilteredDumpSource {
 
     /**
      * Represents a page block
      */
     private final static class PageBlock {
         private final Block block;
-        private final byte[] buffer;
+        private final ByteBuffer buffer;
+        private BlockBufferPool pool;
 
-        public PageBlock(Block block, byte[] buffer) {
+        public PageBlock(Block block, ByteBuffer buffer) {
+            this(block, buffer, null);
+        }
+
+        /**
+         * Pooled block constructor
+         * @param block the block
+         * @param buffer the compressed stream
+         * @param pool the pool the buffer was borrowed from, null if not pooled
+         */
+        public PageBlock(Block block, ByteBuffer buffer, BlockBufferPool pool) {
             this.block = block;
             this.buffer = buffer;
+            this.pool = pool;
+        }
+
+        /**
+         * Return the buffer to its pool, the block must not be read afterwards
+         */
+        public void recycle() {
+            if(pool != null) {
+                pool.release(buffer);
+                pool = null;
+            }
         }
 
         public Block getBlock() {
             return block;
         }
 
-        public final byte[] getBuffer() {
+        /**
+         * Get the compressed stream
+         * @return a buffer positioned at the start of the stream, use duplicate() before reading
+         */
+        public final ByteBuffer getBuffer() {
             return buffer;
         }
 
         public final boolean isEof() {
             return buffer == null;
         }
+
+        /**
+         * Write the compressed stream to a file
+         * @param output the target file
+         * @throws IOException
+         */
+        public void writeTo(File output) throws IOException {
+            FileOutputStream outputStream = new FileOutputStream(output);
+            try {
+                outputStream.getChannel().write(buffer.duplicate());
+            } finally {
+                outputStream.close();
+            }
+        }
     }
 
-    private final ArrayBlockingQueue<PageBlock> blocks;
+    /**
+     * The size of a memory mapped window of the page file, blocks larger than this are mapped as a whole.
+     */
+    private static final long MAPPED_WINDOW_SIZE = 1L << 30;
+
+    /**
+     * The default number of bytes kept in idle buffers by each of the block buffer pools.
+     */
+    private static final long DEFAULT_POOL_CAPACITY = 64L * 1024 * 1024;
+
+    private BlockScheduler<PageBlock> scheduler;
+    /** Set on a fatal error in a thread, workers then get eof blocks */
+    private final AtomicBoolean terminate = new AtomicBoolean(false);
+    private final IndexReader indexReader;
     private final PageReader pageReader;
     private final int batchsize;
+    private long batchBytes = 0;
     private final Worker[] workers;
     private final File indexFile, pageFile;
+    private final boolean memoryMapped;
+    private Sequencer sequencer;
+    private PagePredicate predicate;
+    private PagePredicate whitelist;
+    private int shard = 0;
+    private int numShards = 1;
+    private boolean interleaved = false;
+    private boolean byteScanner = false;
+
+    //Reused buffers for compressed blocks (unless memory mapped) and decompressed blocks (staged parsing)
+    private BlockBufferPool compressedPool = new BlockBufferPool(DEFAULT_POOL_CAPACITY, false);
+    private BlockBufferPool decodedPool = new BlockBufferPool(DEFAULT_POOL_CAPACITY, false);
+
+    //Staged parsing, decompression, xml parsing and the downstream pipeline run on separate threads
+    private int decodeThreads = 0;
+    private int parseThreads = 0;
+    private int mapThreads = 0;
+
+    //Blocks fetched but not yet finished, new blocks are not fetched while a checkpoint is taken
+    //so a checkpoint is only written when every fetched block is finished.
+    private int inFlight = 0;
+    private int maxInFlight = Integer.MAX_VALUE;
+    private File checkpointFile;
+    private long checkpointInterval;
+    private Checkpointable checkpointTarget;
+    private long nextCheckpoint;
+    private boolean checkpointing = false;
+    private long finishedOffset = 0;
+    private long finishedBlocks = 0;
 
     /**
      * Default constructor (batchsize = 100, numThreads = available processors)
@@ -93,205 +178,423 @@ public class MultistreamBzip2XmlDumpParser extends AbstractEmitter<Page,Void> im
     }
 
     /**
-     * Full constructor
+     * Threaded constructor (stream reader)
      * @param index the index file containing all the indicies of blocks
      * @param pages the page file contain all the multistreams
      * @param numThreads the number of threads to use above the current
      * @param batchsize the size of a batch
      */
     public MultistreamBzip2XmlDumpParser(File index, File pages, int batchsize, int numThreads) {
+        this(index, pages, batchsize, numThreads, false);
+    }
+
+    /**
+     * Full constructor
+     * @param index the index file containing all the indicies of blocks
+     * @param pages the page file contain all the multistreams
+     * @param numThreads the number of threads to use above the current
+     * @param batchsize the size of a batch
+     * @param memoryMapped map the page file into memory and let workers slice their own blocks,
+     *                     instead of copying every block from a single reader thread.
+     */
+    public MultistreamBzip2XmlDumpParser(File index, File pages, int batchsize, int numThreads, boolean memoryMapped) {
         this.indexFile = index;
         this.pageFile = pages;
+        this.memoryMapped = memoryMapped;
         this.workers = new Worker[numThreads];
-        this.blocks = new ArrayBlockingQueue<PageBlock>(numThreads*3);
-        this.pageReader = new PageReader(new IndexReader(index, pages, numThreads * 3), pages);
+
+        this.indexReader = new IndexReader(MultistreamBlockIndex.open(index, pages));
+        if(memoryMapped)
+            this.pageReader = new MappedPageReader(indexReader, pages);
+        else {
+            StreamPageReader reader = new StreamPageReader(indexReader, pages);
+            reader.setBufferPool(compressedPool);
+            this.pageReader = reader;
+        }
+
         this.batchsize = batchsize;
     }
 
     private static class Block {
         public final long start;
         public final int size;
+        public final long sequence;
 
-        public Block(long start, int size) {
+        public Block(long start, int size, long sequence) {
             this.start = start;
             this.size = size;
+            this.sequence = sequence;
         }
     }
 
     /**
-     * The index reader
+     * The index reader, iterates the header block and then the page blocks of the selected shard in order.
+     * The header block has sequence number -1, page blocks are numbered from 0.
      */
     private static class IndexReader {
-        private BufferedReader indexReader;
-        private final long pageFileSize;
-        private final int bufferAhead;
-        private final ArrayDeque<Block> buffer;
+        private final MultistreamBlockIndex index;
+        private int current = 0;
+        private long sequence = -1;
+        private int first = 1;
+        private int step = 1;
+        private int end;
+        private BitSet selected = null;
+
+        public IndexReader(MultistreamBlockIndex index) {
+            this.index = index;
+            this.end = index.size();
+        }
 
-        public IndexReader(File indexFile, File pageFile, int bufferAhead) {
-            try {
-                this.pageFileSize = pageFile.length();
-                this.buffer = new ArrayDeque<Block>();
-                this.bufferAhead = bufferAhead;
-                this.indexReader =
-                        new BufferedReader(
-                            new InputStreamReader(
-                                new BZip2CompressorInputStream(
-                                        new BufferedInputStream(
-                                                new FileInputStream(indexFile)))));
-            } catch (IOException e) {
-                throw new IOError(e);
+        /**
+         * Select a subset of the page blocks, the header block is always read.
+         * @param shard the shard, 0 to numShards - 1
+         * @param numShards the number of shards
+         * @param interleaved take every numShards:th block instead of a contiguous range of blocks
+         */
+        public void select(int shard, int numShards, boolean interleaved) {
+            if(numShards < 1 || shard < 0 || shard >= numShards)
+                throw new IllegalArgumentException("Invalid shard " + shard + "/" + numShards);
+
+            if(current > first)
+                throw new IllegalStateException("Page blocks have already been read.");
+
+            if(interleaved) {
+                first = 1 + shard;
+                step = numShards;
+                end = index.size();
             }
+            else if(index.size() > 1) {
+                //Contiguous ranges of roughly the same compressed size
+                long start = index.getStart(1);
+                long total = index.getEnd(index.size() - 1) - start;
+
+                first = streamAtOrAfter(start + total * shard / numShards);
+                step = 1;
+                end = shard + 1 == numShards ? index.size() : streamAtOrAfter(start + total * (shard + 1) / numShards);
+            }
+
+            if(current > 0)
+                current = first;
+        }
+
+        private int streamAtOrAfter(long offset) {
+            int stream = index.findStream(offset);
+            return index.getStart(stream) < offset ? stream + 1 : stream;
+        }
+
+        private Block get(int stream) {
+            return new Block(index.getStart(stream), (int)(index.getEnd(stream) - index.getStart(stream)), sequence);
         }
 
-        private long start = 0;
+        /**
+         * Skip the page blocks that start before an offset, used to resume.
+         * @param offset the byte offset in the page file
+         */
+        public void skipTo(long offset) {
+            if(current > first)
+                throw new IllegalStateException("Page blocks have already been read.");
+
+            while(first < end && index.getStart(first) < offset)
+                first += step;
 
-        private void fillBuffer() {
-            if(indexReader == null)
+            if(current > 0)
+                current = first;
+        }
+
+        /**
+         * Only read some page blocks, in addition to the shard selection
+         * @param streams the stream numbers to read
+         */
+        public void restrict(BitSet streams) {
+            if(current > first)
+                throw new IllegalStateException("Page blocks have already been read.");
+
+            this.selected = streams;
+        }
+
+        /**
+         * Move past page blocks that are not selected
+         */
+        private void skipUnselected() {
+            if(selected == null || current == 0)
                 return;
 
-            try {
-                int counter = 0;
-                String line;
-                while( (line = indexReader.readLine()) != null && counter < bufferAhead) {
-                    if(line.isEmpty())
-                        continue;
-
-                    int pos = line.indexOf(':');
-                    long current = Long.parseLong(line.substring(0, pos));
-                    if(start != current) {
-                        long diff = current - start;
-                        buffer.addLast(new Block(start, (int)diff));
-                        start = current;
-
-                        counter++;
-                    }
-                }
+            while(current < end && !selected.get(current))
+                current += step;
+        }
 
-                if(counter != bufferAhead) {
-                    buffer.addLast(new Block(start, (int)(pageFileSize - start)));
-                    indexReader.close();
-                    indexReader = null;
-                }
-            } catch (IOException e) {
-                throw new IOError(e);
-            }
+        /**
+         * @return true if the block is the last stream of the dump, it ends with the closing &lt;/mediawiki&gt; tag
+         */
+        public boolean isLast(Block block) {
+            return block.start + block.size == index.getEnd(index.size() - 1);
         }
 
         public Block peek() {
-            if(buffer.isEmpty())
-                fillBuffer();
-
-            return buffer.isEmpty() ? null : buffer.peekFirst();
+            skipUnselected();
+            return current < end ? get(current) : null;
         }
 
         /**
          * Get next block to read
-         * @return -1 if no more blocks to read, integer > 0 if more blocks to read
+         * @return null if no more blocks to read
          */
         public Block next() {
-            if(buffer.isEmpty())
-                fillBuffer();
+            skipUnselected();
+            if(current >= end)
+                return null;
 
-            return buffer.isEmpty() ? null : buffer.removeFirst();
+            Block block = get(current);
+            sequence++;
+            current = current == 0 ? first : current + step;
+            return block;
         }
     }
 
     /**
      * The compressed block reader
      */
-    private static class PageReader {
+    private static abstract class PageReader {
         private final IndexReader indexReader;
+        private Header header;
+
+        public PageReader(IndexReader indexReader) {
+            this.indexReader = indexReader;
+        }
+
+        protected final void readHeader() throws IOException {
+            ByteBuffer header = next().getBuffer().duplicate();
+            this.header = XmlDumpParser.readHeaderStream(new BZip2CompressorInputStream(new ByteBufferInputStream(header)));
+        }
+
+        public Header getHeader() {
+            return header;
+        }
+
+        /**
+         * Read the compressed stream of a block
+         * @param block the block to read
+         * @return buffer containing the block
+         * @throws IOException
+         */
+        protected abstract ByteBuffer read(Block block) throws IOException;
+
+        /**
+         * @return the pool buffers returned by read are borrowed from, null if they are not pooled
+         */
+        protected BlockBufferPool getBufferPool() {
+            return null;
+        }
+
+        /**
+         * Read page blocks
+         * @return null if no more blocks, otherwise a page block with the compressed stream
+         */
+        public PageBlock next() {
+            Block block = indexReader.next();
+            if(block == null)
+                return null;
+
+            try
+            {
+                return new PageBlock(block, read(block), getBufferPool());
+            } catch (IOException e) {
+                throw new IOError(e);
+            }
+        }
+    }
+
+    /**
+     * Reads blocks sequentially from the page file, copying every block into a buffer borrowed from the pool.
+     */
+    private static class StreamPageReader extends PageReader {
         private final FileInputStream pageStream;
-        private final Header header;
+        private BlockBufferPool pool;
 
-        public PageReader(IndexReader indexReader, File pages) {
+        public StreamPageReader(IndexReader indexReader, File pages) {
+            super(indexReader);
             try {
-                this.indexReader = indexReader;
                 this.pageStream = new FileInputStream(pages);
-                this.header = readHeader();
+                readHeader();
             } catch (IOException e) {
                 throw new IOError(e);
             }
         }
 
         /**
-         * Header parsing code
-         * @param xml the header xml
-         * @return true if match
-         * @throws javax.xml.stream.XMLStreamException
+         * Borrow block buffers from a pool, blocks read before are not pooled.
+         * @param pool the pool
          */
-        public static Header parseHeader(String xml) throws XMLStreamException
-        {
-            XMLInputFactory2 factory = (XMLInputFactory2) XMLInputFactory2.newInstance();
-            factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, Boolean.TRUE);
-            BufferedReader buffreader = new BufferedReader(new StringReader(xml));
-
-            XMLStreamReader2 xmlReader = (XMLStreamReader2)factory.createXMLStreamReader(buffreader);
-            return XmlDumpParser.readHeader(xmlReader);
+        public void setBufferPool(BlockBufferPool pool) {
+            this.pool = pool;
         }
 
-        private Header readHeader() throws IOException {
-            byte[] header = next().buffer;
-
-            ByteArrayInputStream bais = new ByteArrayInputStream(header);
-            BZip2CompressorInputStream bcis = new BZip2CompressorInputStream(bais);
+        @Override
+        protected BlockBufferPool getBufferPool() {
+            return pool;
+        }
 
-            StringBuilder sb = new StringBuilder();
-            BufferedReader reader = new BufferedReader(new InputStreamReader(bcis,"UTF-8"));
-            String line;
-            while( (line = reader.readLine()) != null)
-            {
-                sb.append(line).append("\n");
+        @Override
+        protected ByteBuffer read(Block block) throws IOException {
+            ByteBuffer buffer = pool != null ? pool.borrow(block.size) : ByteBuffer.allocate(block.size);
+            FileChannel channel = pageStream.getChannel();
+
+            while(buffer.hasRemaining()) {
+                int read = channel.read(buffer, block.start + buffer.position());
+                if(read == -1)
+                    throw new IOError(new EOFException("Unexpected end of file!"));
             }
 
-            sb.append("</mediawiki>");
+            buffer.flip();
+            return buffer;
+        }
+    }
 
-            reader.close();
+    /**
+     * Maps the page file into memory in windows and hands out slices of it, no data is copied.
+     * Thread safe, workers use it directly to fetch their next block.
+     */
+    private static class MappedPageReader extends PageReader {
+        private final FileChannel channel;
+        private final long pageFileSize;
+        private MappedByteBuffer window;
+        private long windowStart;
 
+        public MappedPageReader(IndexReader indexReader, File pages) {
+            super(indexReader);
             try {
-                return parseHeader(sb.toString());
-            } catch (XMLStreamException e) {
+                this.channel = FileChannel.open(pages.toPath(), StandardOpenOption.READ);
+                this.pageFileSize = channel.size();
+                readHeader();
+            } catch (IOException e) {
                 throw new IOError(e);
             }
         }
 
-        public Header getHeader() {
-            return header;
+        @Override
+        protected ByteBuffer read(Block block) throws IOException {
+            if(block.start + block.size > pageFileSize)
+                throw new IOError(new EOFException("Unexpected end of file!"));
+
+            if(window == null || block.start < windowStart || block.start + block.size > windowStart + window.capacity()) {
+                long size = Math.max(Math.min(MAPPED_WINDOW_SIZE, pageFileSize - block.start), block.size);
+                window = channel.map(FileChannel.MapMode.READ_ONLY, block.start, size);
+                windowStart = block.start;
+            }
+
+            ByteBuffer slice = window.duplicate();
+            slice.position((int)(block.start - windowStart));
+            slice.limit(slice.position() + block.size);
+            return slice.slice();
         }
 
-        /**
-         * Read page blocks
-         * @return null if no more blocks, otherwise a byte[] with the block
-         */
-        public PageBlock next() {
-            Block block = indexReader.next();
-            if(block == null)
-                return null;
+        @Override
+        public synchronized PageBlock next() {
+            return super.next();
+        }
+    }
 
-            try
-            {
-                byte[] buffer = new byte[block.size];
-                int left = block.size;
-                while(left > 0) {
-                    int read = pageStream.read(buffer, block.size - left, left);
-                    if(read == -1)
-                        throw new IOError(new EOFException("Unexpected end of file!"));
-
-                    left -= read;
-                }
+    /**
+     * Sequential input stream on top of a byte buffer
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
 
-                return new PageBlock(block, buffer);
-            } catch (IOException e) {
-                throw new IOError(e);
-            }
+        public ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if(!buffer.hasRemaining())
+                return -1;
+
+            int toRead = Math.min(buffer.remaining(), len);
+            buffer.get(b, off, toRead);
+            return toRead;
         }
     }
 
-    protected final ParallelDumpStream getStream() {
-        return new ParallelDumpStream();
+    /**
+     * Get the next block for a worker
+     * @param fetcher the index of the fetching thread
+     * @return the block, an eof block if no more blocks are available
+     * @throws InterruptedException
+     */
+    private PageBlock nextBlock(int fetcher) throws InterruptedException {
+        //memory mapped reads do not block, the interrupt of a terminating run is never seen by them
+        if(terminate.get())
+            return new PageBlock(null, null);
+
+        PageBlock block = memoryMapped ? pageReader.next() : scheduler.take(fetcher);
+        return block == null ? new PageBlock(null, null) : block;
+    }
+
+    /**
+     * Report the time spent on a block, adapts the prefetch depth of the scheduler
+     * @param nanos the time in nanoseconds
+     */
+    private void blockFinished(long nanos) {
+        if(!memoryMapped)
+            scheduler.finished(nanos);
+    }
+
+    /**
+     * Create a page parser for decompressed page xml
+     * @param xml the xml stream
+     * @return parser
+     */
+    private PageParser newParser(InputStream xml) {
+        PageParser parser;
+        if(byteScanner)
+            parser = new XmlDumpScanner(pageReader.getHeader(), xml);
+        else
+            parser = new XmlDumpParser(pageReader.getHeader(), xml);
+
+        parser.setPredicate(getPredicate());
+        return parser;
+    }
+
+    /**
+     * Create a page parser for a decompressed block in memory
+     * @param xml heap buffer with the xml of the block between position and limit
+     * @return parser
+     */
+    private PageParser newParser(ByteBuffer xml) {
+        if(!byteScanner)
+            return newParser(new ByteArrayInputStream(xml.array(), xml.arrayOffset() + xml.position(), xml.remaining()));
+
+        PageParser parser = new XmlDumpScanner(pageReader.getHeader(), xml.array(), xml.arrayOffset() + xml.position(), xml.remaining());
+        parser.setPredicate(getPredicate());
+        return parser;
+    }
+
+    /**
+     * @return the whitelist and the page predicate combined, null if neither is set
+     */
+    private PagePredicate getPredicate() {
+        if(whitelist != null && predicate != null)
+            return PagePredicates.all(Arrays.asList(whitelist, predicate));
+        else
+            return whitelist != null ? whitelist : predicate;
+    }
+
+    protected final ParallelDumpStream getStream(int fetcher) {
+        return new ParallelDumpStream(fetcher);
     }
 
     protected class ParallelDumpStream extends InputStream {
+        private final int fetcher;
+        private long blockStart = 0;
+
+        public ParallelDumpStream(int fetcher) {
+            this.fetcher = fetcher;
+        }
 
         private PageBlock lastBlock = null;
         private PageBlock currentBlock = null;
@@ -304,20 +607,28 @@ public class MultistreamBzip2XmlDumpParser extends AbstractEmitter<Page,Void> im
             return currentBlock;
         }
 
-        private byte[] buffer = new byte[0];
-        private int pos = 0;
+        private ByteBuffer buffer = ByteBuffer.allocate(0);
 
         private boolean getNext() {
             PageBlock block;
             try {
-                block = blocks.take();
+                if(blockStart != 0)
+                    blockFinished(System.nanoTime() - blockStart);
+
+                //the xml parser stops at the closing tag of the dump, blocks taken after it would never be parsed
+                if(currentBlock != null && indexReader.isLast(currentBlock.block))
+                    return false;
+
+                block = nextBlock(fetcher);
+                blockStart = System.nanoTime();
                 if(block.isEof()) {
-                    pos = 0;
                     return false;
                 }
                 else {
-                    pos = 0;
-                    this.buffer = block.getBuffer();
+                    this.buffer = block.getBuffer().duplicate();
+                    if(this.lastBlock != null)
+                        this.lastBlock.recycle();
+
                     this.lastBlock = this.currentBlock;
                     this.currentBlock = block;
                     return true;
@@ -328,16 +639,34 @@ public class MultistreamBzip2XmlDumpParser extends AbstractEmitter<Page,Void> im
             }
         }
 
+        /**
+         * Return the buffers of the blocks still held to their pool, the stream must not be read afterwards
+         */
+        public void recycle() {
+            if(lastBlock != null)
+                lastBlock.recycle();
+
+            if(currentBlock != null)
+                currentBlock.recycle();
+        }
+
+        /**
+         * @return true if there is data to read, false if there are no more blocks
+         */
+        public boolean hasData() {
+            return buffer.hasRemaining() || getNext();
+        }
+
         @Override
         public final int read() throws IOException {
-            if(pos == buffer.length) {
+            if(!buffer.hasRemaining()) {
                 if(!getNext())
                     return -1;
                 else
-                    return buffer[pos++] & 0xFF;
+                    return buffer.get() & 0xFF;
             }
             else
-                return buffer[pos++] & 0xFF;
+                return buffer.get() & 0xFF;
         }
 
         @Override
@@ -346,14 +675,14 @@ public class MultistreamBzip2XmlDumpParser extends AbstractEmitter<Page,Void> im
             int current = off;
 
             while(left > 0) {
-                if(pos == buffer.length) {
+                if(!buffer.hasRemaining()) {
                     if(!getNext())
-                        return len - left;
+                        return len == left ? -1 : len - left;
                 }
 
-                int possibleToRead = Math.min(buffer.length - pos, len);
+                int possibleToRead = Math.min(buffer.remaining(), left);
 
-                System.arraycopy(buffer, pos, b, current, possibleToRead);
+                buffer.get(b, current, possibleToRead);
                 left -= possibleToRead;
                 current += possibleToRead;
             }
@@ -364,112 +693,714 @@ public class MultistreamBzip2XmlDumpParser extends AbstractEmitter<Page,Void> im
     }
 
     public class Worker extends Thread {
+        private final int index;
+
+        public Worker(int index) {
+            this.index = index;
+        }
+
         public void run()
         {
             try {
-                ParallelDumpStream dumpStream = getStream();
-                XmlDumpParser parser = new XmlDumpParser(pageReader.getHeader(), new BZip2CompressorInputStream(dumpStream, true));
-                ArrayList<Page> batch = new ArrayList<Page>(batchsize);
-
-                Page page;
-                while((page = parser.next()) != null) {
-                    batch.add(page);
-                    if(batch.size() == batchsize)
-                    {
-                        try {
-                            output(batch);
-                        }
-                        catch (Exception ex) {
-                            //Save prev block, current block
-                            PageBlock currentBlock = dumpStream.getCurrentBlock();
-                            PageBlock prevBlock = dumpStream.getLastBlock();
-
-                            if(currentBlock != null && currentBlock.block != null) {
-                                File output = new File("stream-current-" + currentBlock.block.start + "-" + currentBlock.block.size + ".xml.bz2");
-                                FileOutputStream outputStream = new FileOutputStream(output);
-                                outputStream.write(currentBlock.buffer);
-                                outputStream.flush();
-                                outputStream.close();
-                            }
-
-                            if(prevBlock != null && prevBlock.block != null) {
-                                File output = new File("stream-prev-" + prevBlock.block.start + "-" + prevBlock.block.size + ".xml.bz2");
-                                FileOutputStream outputStream = new FileOutputStream(output);
-                                outputStream.write(prevBlock.buffer);
-                                outputStream.flush();
-                                outputStream.close();
-                            }
-
-                            throw new IOError(ex);
+                if(sequencer != null || checkpointFile != null)
+                    parseBlocks();
+                else
+                    parseStream();
+            } catch (IOException e) {
+                throw new IOError(e);
+            } catch (InterruptedException e) {
+                //terminated
+            }
+        }
+
+        /**
+         * Parse all blocks as one continuous stream
+         */
+        private void parseStream() throws IOException {
+            ParallelDumpStream dumpStream = getStream(index);
+
+            //a worker may get no blocks at all, e.g. when a shard has fewer blocks than there are workers
+            if(!dumpStream.hasData())
+                return;
+
+            PageParser parser = newParser(new BZip2CompressorInputStream(dumpStream, true));
+            PageBatcher batcher = new PageBatcher(batchsize, batchBytes);
+
+            Page page;
+            while((page = parser.next()) != null) {
+                if(batcher.wouldOverflow(page))
+                    emit(batcher.take(), dumpStream.getCurrentBlock(), dumpStream.getLastBlock());
+
+                if(batcher.add(page))
+                    emit(batcher.take(), dumpStream.getCurrentBlock(), dumpStream.getLastBlock());
+            }
+
+            if(!batcher.isEmpty())
+                output(batcher.take());
+
+            dumpStream.recycle();
+        }
+
+        /**
+         * Parse one block at a time and report its sequence number, pages from different blocks never share a batch.
+         */
+        private void parseBlocks() throws IOException, InterruptedException {
+            while(true) {
+                checkpointIfDue();
+                acquireBlock();
+
+                PageBlock block = nextBlock(index);
+                if(block.isEof()) {
+                    releaseBlock(null);
+                    return;
+                }
+
+                long start = System.nanoTime();
+                parseBlock(block);
+                blockFinished(System.nanoTime() - start);
+                block.recycle();
+                releaseBlock(block.getBlock());
+            }
+        }
+
+        private void parseBlock(PageBlock block) throws IOException {
+            long sequence = block.getBlock().sequence;
+            if(sequencer != null)
+                sequencer.begin(sequence);
+
+            PageParser parser = newParser(new BZip2CompressorInputStream(new ByteBufferInputStream(block.getBuffer().duplicate()), true));
+
+            PageBatcher batcher = new PageBatcher(batchsize, batchBytes);
+
+            Page page;
+            while((page = parser.next()) != null) {
+                if(batcher.wouldOverflow(page))
+                    emit(batcher.take(), block, null);
+
+                if(batcher.add(page))
+                    emit(batcher.take(), block, null);
+            }
+
+            if(!batcher.isEmpty())
+                emit(batcher.take(), block, null);
+
+            if(sequencer != null)
+                sequencer.complete(sequence);
+        }
+    }
+
+    /**
+     * Output a batch, saves the compressed blocks the batch was read from if processing fails.
+     */
+    private void emit(ArrayList<Page> batch, PageBlock currentBlock, PageBlock prevBlock) throws IOException {
+        try {
+            output(batch);
+        }
+        catch (Exception ex) {
+            //Save prev block, current block
+            if(currentBlock != null && currentBlock.block != null) {
+                currentBlock.writeTo(new File("stream-current-" + currentBlock.block.start + "-" + currentBlock.block.size + ".xml.bz2"));
+            }
+
+            if(prevBlock != null && prevBlock.block != null) {
+                prevBlock.writeTo(new File("stream-prev-" + prevBlock.block.start + "-" + prevBlock.block.size + ".xml.bz2"));
+            }
+
+            throw new IOError(ex);
+        }
+    }
+
+    /**
+     * Queue between two stages, unbounded as the number of blocks in flight is bounded when fetched.
+     * An ordered queue hands out items by sequence number.
+     */
+    private static final class StageQueue<T> {
+        private final boolean ordered;
+        private final ArrayDeque<T> items = new ArrayDeque<T>();
+        private final HashMap<Long,T> sequenced = new HashMap<Long,T>();
+        private long next = 0;
+        private int producers;
+
+        public StageQueue(boolean ordered, int producers) {
+            this.ordered = ordered;
+            this.producers = producers;
+        }
+
+        public synchronized void put(long sequence, T item) {
+            if(ordered)
+                sequenced.put(sequence, item);
+            else
+                items.add(item);
+
+            notifyAll();
+        }
+
+        /**
+         * A producer will not put any more items
+         */
+        public synchronized void producerDone() {
+            producers--;
+            notifyAll();
+        }
+
+        /**
+         * Take the next item
+         * @return null when all producers are done and the queue is empty
+         * @throws InterruptedException
+         */
+        public synchronized T take() throws InterruptedException {
+            while(true) {
+                T item = ordered ? sequenced.remove(next) : items.poll();
+                if(item != null) {
+                    next++;
+                    return item;
+                }
+
+                if(producers == 0)
+                    return null;
+
+                wait();
+            }
+        }
+    }
+
+    private static final class DecodedBlock {
+        public final PageBlock block;
+        public final ByteBuffer xml;
+
+        public DecodedBlock(PageBlock block, ByteBuffer xml) {
+            this.block = block;
+            this.xml = xml;
+        }
+    }
+
+    private static final class ParsedBlock {
+        public final PageBlock block;
+        public final ArrayList<ArrayList<Page>> batches;
+
+        public ParsedBlock(PageBlock block, ArrayList<ArrayList<Page>> batches) {
+            this.block = block;
+            this.batches = batches;
+        }
+    }
+
+    /**
+     * First stage, fetches blocks and decompresses them
+     */
+    private class DecodeStage extends Thread {
+        private final StageQueue<DecodedBlock> output;
+        private final int index;
+
+        public DecodeStage(StageQueue<DecodedBlock> output, int index) {
+            this.output = output;
+            this.index = index;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while(true) {
+                    checkpointIfDue();
+                    acquireBlock();
+
+                    PageBlock block = nextBlock(index);
+                    if(block.isEof()) {
+                        releaseBlock(null);
+                        return;
+                    }
+
+                    long start = System.nanoTime();
+                    BZip2CompressorInputStream bcis = new BZip2CompressorInputStream(new ByteBufferInputStream(block.getBuffer().duplicate()), true);
+                    ByteBuffer xml = decodedPool.borrow(block.getBlock().size * 4);
+                    xml.clear();
+
+                    int read;
+                    while((read = bcis.read(xml.array(), xml.arrayOffset() + xml.position(), xml.remaining())) != -1) {
+                        xml.position(xml.position() + read);
+                        if(!xml.hasRemaining()) {
+                            ByteBuffer larger = decodedPool.borrow(xml.capacity() * 2);
+                            larger.clear();
+                            xml.flip();
+                            larger.put(xml);
+                            decodedPool.release(xml);
+                            xml = larger;
                         }
-                        batch = new ArrayList<Page>(batchsize);
                     }
+                    bcis.close();
+                    xml.flip();
+
+                    blockFinished(System.nanoTime() - start);
+                    output.put(block.getBlock().sequence, new DecodedBlock(block, xml));
+                }
+            } catch (IOException e) {
+                throw new IOError(e);
+            } catch (InterruptedException e) {
+                //terminated
+            } finally {
+                output.producerDone();
+            }
+        }
+    }
+
+    /**
+     * Second stage, extracts the pages of decompressed blocks
+     */
+    private class ParseStage extends Thread {
+        private final StageQueue<DecodedBlock> input;
+        private final StageQueue<ParsedBlock> output;
+
+        public ParseStage(StageQueue<DecodedBlock> input, StageQueue<ParsedBlock> output) {
+            this.input = input;
+            this.output = output;
+        }
+
+        @Override
+        public void run() {
+            try {
+                DecodedBlock decoded;
+                while((decoded = input.take()) != null) {
+                    PageParser parser = newParser(decoded.xml);
+
+                    ArrayList<ArrayList<Page>> batches = new ArrayList<ArrayList<Page>>();
+                    PageBatcher batcher = new PageBatcher(batchsize, batchBytes);
+
+                    Page page;
+                    while((page = parser.next()) != null) {
+                        if(batcher.wouldOverflow(page))
+                            batches.add(batcher.take());
+
+                        if(batcher.add(page))
+                            batches.add(batcher.take());
+                    }
+
+                    if(!batcher.isEmpty())
+                        batches.add(batcher.take());
+
+                    //Pages hold copies of their text
+                    decodedPool.release(decoded.xml);
+                    output.put(decoded.block.getBlock().sequence, new ParsedBlock(decoded.block, batches));
                 }
+            } catch (InterruptedException e) {
+                //terminated
+            } finally {
+                output.producerDone();
+            }
+        }
+    }
+
+    /**
+     * Last stage, runs the downstream pipeline on the pages of parsed blocks
+     */
+    private class MapStage extends Thread {
+        private final StageQueue<ParsedBlock> input;
+
+        public MapStage(StageQueue<ParsedBlock> input) {
+            this.input = input;
+        }
+
+        @Override
+        public void run() {
+            try {
+                ParsedBlock parsed;
+                while((parsed = input.take()) != null) {
+                    long sequence = parsed.block.getBlock().sequence;
+                    if(sequencer != null)
+                        sequencer.begin(sequence);
+
+                    for (ArrayList<Page> batch : parsed.batches) {
+                        emit(batch, parsed.block, null);
+                    }
+
+                    if(sequencer != null)
+                        sequencer.complete(sequence);
 
-                if(batch.size() > 0)
-                    output(batch);
+                    parsed.block.recycle();
+                    releaseBlock(parsed.block.getBlock());
+                }
             } catch (IOException e) {
                 throw new IOError(e);
+            } catch (InterruptedException e) {
+                //terminated
+            }
+        }
+    }
+
+    /**
+     * Run decompression, xml parsing and the downstream pipeline as separate stages with their own threads,
+     * instead of workers doing all of it. Blocks are parsed one at a time as with ordered output.
+     * @param decodeThreads the number of threads decompressing blocks
+     * @param parseThreads the number of threads extracting pages from decompressed blocks
+     * @param mapThreads the number of threads running the downstream pipeline
+     * @remarks at most two blocks per thread are in flight, which bounds the queues between the stages.
+     */
+    public void setStages(int decodeThreads, int parseThreads, int mapThreads) {
+        if(decodeThreads < 1 || parseThreads < 1 || mapThreads < 1)
+            throw new IllegalArgumentException("Every stage needs at least one thread.");
+
+        this.decodeThreads = decodeThreads;
+        this.parseThreads = parseThreads;
+        this.mapThreads = mapThreads;
+        this.maxInFlight = 2 * (decodeThreads + parseThreads + mapThreads);
+    }
+
+    /**
+     * Parse pages with the byte level {@link XmlDumpScanner} instead of the StAX based {@link XmlDumpParser}.
+     * @param byteScanner true to use the scanner
+     */
+    public void setByteScanner(boolean byteScanner) {
+        this.byteScanner = byteScanner;
+    }
+
+    /**
+     * Limit batches by the size of their pages in addition to the batch size,
+     * see {@link PageBatcher} for how pages are measured.
+     * @param batchBytes the maximum number of bytes in a batch, 0 for no limit
+     */
+    public void setBatchBytes(long batchBytes) {
+        this.batchBytes = batchBytes;
+    }
+
+    /**
+     * Configure the block buffer pools, compressed blocks are pooled unless memory mapped
+     * and decompressed blocks are pooled when parsing in stages.
+     * @param capacity the maximum number of bytes kept in idle buffers by each pool, 0 disables pooling
+     * @param direct use direct buffers for compressed blocks
+     */
+    public void setBufferPool(long capacity, boolean direct) {
+        this.compressedPool = new BlockBufferPool(capacity, direct);
+        this.decodedPool = new BlockBufferPool(capacity, false);
+        if(pageReader instanceof StreamPageReader)
+            ((StreamPageReader)pageReader).setBufferPool(compressedPool);
+    }
+
+    /**
+     * @return the pool of compressed block buffers
+     */
+    public BlockBufferPool getCompressedPool() {
+        return compressedPool;
+    }
+
+    /**
+     * @return the pool of decompressed block buffers
+     */
+    public BlockBufferPool getDecodedPool() {
+        return decodedPool;
+    }
+
+    /**
+     * Only parse a subset of the dump, the header is parsed by all shards.
+     * @param shard the shard to parse, 0 to numShards - 1
+     * @param numShards the total number of shards
+     * @param interleaved if true every numShards:th block is parsed,
+     *                    otherwise a contiguous range of blocks of roughly 1/numShards of the compressed dump.
+     */
+    public void setShard(int shard, int numShards, boolean interleaved) {
+        indexReader.select(shard, numShards, interleaved);
+        this.shard = shard;
+        this.numShards = numShards;
+        this.interleaved = interleaved;
+    }
+
+    /**
+     * Skip pages while parsing, the text of rejected pages is never decoded.
+     * @param predicate the predicate, null to emit all pages
+     */
+    @Override
+    public void setPagePredicate(PagePredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    /**
+     * Only parse the streams that contain wanted pages, the streams are found using the index
+     * and no other stream is read or decompressed. Other pages in those streams are skipped.
+     * @param ids the page ids
+     * @param titles the titles, underscores are treated as spaces
+     * @remarks must be called before run.
+     */
+    public void setWhitelist(Collection<Long> ids, Collection<String> titles) {
+        MultistreamPageLookup lookup = new MultistreamPageLookup(indexFile, pageFile, 1);
+        BitSet streams = new BitSet();
+        try {
+            for (Integer stream : lookup.findStreams(ids, titles)) {
+                streams.set(stream);
+            }
+            lookup.close();
+        } catch (IOException e) {
+            throw new IOError(e);
+        }
+
+        indexReader.restrict(streams);
+        this.whitelist = PagePredicates.whitelist(ids, titles);
+
+        LoggerFactory.getLogger(MultistreamBzip2XmlDumpParser.class)
+                     .info("Whitelist of {} pages selects {} streams.", ids.size() + titles.size(), streams.cardinality());
+    }
+
+    /**
+     * Enables ordered output, every block is reported to the sequencer and pages from
+     * different blocks are never mixed in a batch.
+     * @param sequencer the sequencer
+     */
+    @Override
+    public void setSequencer(Sequencer sequencer) {
+        this.sequencer = sequencer;
+    }
+
+    /**
+     * Periodically checkpoint the progress together with the target, the checkpoint holds the offset
+     * after the last finished block. Enables block at a time parsing, as with ordered output.
+     * @param checkpointFile where the checkpoint is stored, removed when the dump has been fully parsed
+     * @param interval minimum time between checkpoints in milliseconds
+     * @param target the sink that is checkpointed together with the parser
+     * @param resume skip the blocks finished in the checkpoint stored in checkpointFile and restore the target
+     * @remarks if sharding is used it must be selected before calling this method.
+     */
+    @Override
+    public void setCheckpoint(File checkpointFile, long interval, Checkpointable target, boolean resume) {
+        this.checkpointFile = checkpointFile;
+        this.checkpointInterval = interval;
+        this.checkpointTarget = target;
+        this.nextCheckpoint = System.currentTimeMillis() + interval;
+
+        if(!resume)
+            return;
+
+        Properties state = new Properties();
+        try {
+            FileInputStream input = new FileInputStream(checkpointFile);
+            try {
+                state.load(input);
+            } finally {
+                input.close();
+            }
+        } catch (IOException e) {
+            throw new IOError(e);
+        }
+
+        if(!pageFile.getName().equals(state.getProperty("dump"))
+           || pageFile.length() != Long.parseLong(state.getProperty("dump.size", "-1")))
+            throw new IOError(new IllegalArgumentException("Checkpoint " + checkpointFile.getAbsolutePath() + " was taken for another dump."));
+
+        if(!getShardSpec().equals(state.getProperty("shard")))
+            throw new IOError(new IllegalArgumentException("Checkpoint " + checkpointFile.getAbsolutePath() + " was taken for shard " + state.getProperty("shard") + ", not " + getShardSpec()));
+
+        finishedOffset = Long.parseLong(state.getProperty("block.offset"));
+        finishedBlocks = Long.parseLong(state.getProperty("block.count"));
+        indexReader.skipTo(finishedOffset);
+        target.restore(state);
+
+        LoggerFactory.getLogger(MultistreamBzip2XmlDumpParser.class)
+                     .info("Resuming at offset {}, {} blocks already finished.", finishedOffset, finishedBlocks);
+    }
+
+    private String getShardSpec() {
+        return shard + "/" + numShards + (interleaved ? "/interleaved" : "");
+    }
+
+    /**
+     * Wait until a block may be fetched, blocks are not fetched while a checkpoint is taken
+     * or when the maximum number of blocks are in flight.
+     */
+    private synchronized void acquireBlock() throws InterruptedException {
+        while(checkpointing || inFlight >= maxInFlight)
+            wait();
+
+        inFlight++;
+    }
+
+    /**
+     * Release a fetched block, not called if processing fails which prevents any later checkpoint.
+     * @param finished the block, all its pages have passed through the pipeline. null for the eof block.
+     */
+    private synchronized void releaseBlock(Block finished) {
+        if(finished != null) {
+            finishedOffset = Math.max(finishedOffset, finished.start + finished.size);
+            finishedBlocks++;
+        }
+
+        inFlight--;
+        notifyAll();
+    }
+
+    /**
+     * Take a checkpoint if the interval has passed, called by the threads fetching blocks when they hold no block.
+     */
+    private void checkpointIfDue() throws IOException, InterruptedException {
+        if(checkpointFile == null)
+            return;
+
+        synchronized (this) {
+            if(checkpointing || System.currentTimeMillis() < nextCheckpoint)
+                return;
+
+            checkpointing = true;
+            try {
+                while(inFlight > 0)
+                    wait();
+            } catch (InterruptedException e) {
+                checkpointing = false;
+                notifyAll();
+                throw e;
+            }
+        }
+
+        try {
+            writeCheckpoint();
+        }
+        finally {
+            synchronized (this) {
+                checkpointing = false;
+                nextCheckpoint = System.currentTimeMillis() + checkpointInterval;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Write a checkpoint, requires that no block is being parsed. The file is replaced atomically.
+     */
+    private void writeCheckpoint() throws IOException {
+        Properties state = new Properties();
+        state.setProperty("dump", pageFile.getName());
+        state.setProperty("dump.size", Long.toString(pageFile.length()));
+        state.setProperty("shard", getShardSpec());
+
+        synchronized (this) {
+            state.setProperty("block.offset", Long.toString(finishedOffset));
+            state.setProperty("block.count", Long.toString(finishedBlocks));
+        }
+
+        checkpointTarget.checkpoint(state);
+
+        File tmp = new File(checkpointFile.getAbsolutePath() + ".tmp");
+        FileOutputStream output = new FileOutputStream(tmp);
+        try {
+            state.store(output, "Wikiforia checkpoint");
+        } finally {
+            output.close();
+        }
+
+        if(!tmp.renameTo(checkpointFile)) {
+            if(!checkpointFile.delete() || !tmp.renameTo(checkpointFile)) {
+                tmp.delete();
+                throw new IOException("Failed to move " + tmp.getAbsolutePath() + " to " + checkpointFile.getAbsolutePath());
             }
         }
+
+        LoggerFactory.getLogger(MultistreamBzip2XmlDumpParser.class)
+                     .info("Checkpoint written, {} blocks finished.", state.getProperty("block.count"));
     }
 
     @Override
     public void run() {
-        final AtomicBoolean terminate = new AtomicBoolean(false);
         final Logger logger = LoggerFactory.getLogger(MultistreamBzip2XmlDumpParser.class);
+        final ArrayList<Thread> threads = new ArrayList<Thread>();
+        int fetchers;
+
         //1. Start all worker threads
-        for (int i = 0; i < workers.length; i++) {
-            workers[i] = new Worker();
-            workers[i].setName("Dump Worker " + i);
+        if(decodeThreads > 0) {
+            StageQueue<DecodedBlock> decoded = new StageQueue<DecodedBlock>(false, decodeThreads);
+            StageQueue<ParsedBlock> parsed = new StageQueue<ParsedBlock>(sequencer != null, parseThreads);
+
+            for (int i = 0; i < decodeThreads; i++) {
+                Thread thread = new DecodeStage(decoded, i);
+                thread.setName("Dump Decoder " + i);
+                threads.add(thread);
+            }
+
+            for (int i = 0; i < parseThreads; i++) {
+                Thread thread = new ParseStage(decoded, parsed);
+                thread.setName("Dump Parser " + i);
+                threads.add(thread);
+            }
+
+            for (int i = 0; i < mapThreads; i++) {
+                Thread thread = new MapStage(parsed);
+                thread.setName("Dump Worker " + i);
+                threads.add(thread);
+            }
+
+            fetchers = decodeThreads;
+        }
+        else {
+            for (int i = 0; i < workers.length; i++) {
+                workers[i] = new Worker(i);
+                workers[i].setName("Dump Worker " + i);
+                threads.add(workers[i]);
+            }
+
+            fetchers = workers.length;
         }
 
+        if(!memoryMapped)
+            scheduler = new BlockScheduler<PageBlock>(fetchers, sequencer != null || checkpointFile != null);
+
         //Add an uncaught exception handler and allow for a graceful shutdown.
         Thread.UncaughtExceptionHandler h = new Thread.UncaughtExceptionHandler() {
             public void uncaughtException(Thread th, Throwable ex) {
                 logger.error("Fatal error in thread {}, terminating...", th.getName(), ex);
-                for (Worker worker : workers) {
-                    worker.interrupt();
-                }
                 terminate.set(true);
+                for (Thread thread : threads) {
+                    thread.interrupt();
+                }
+                if(scheduler != null)
+                    scheduler.close();
             }
         };
 
-        for (Worker worker : workers) {
-            worker.setUncaughtExceptionHandler(h);
-            worker.start();
+        for (Thread thread : threads) {
+            thread.setUncaughtExceptionHandler(h);
+            thread.start();
         }
 
-        //2. Seed them with data until there is no more
-        PageBlock data;
-        while((data = pageReader.next()) != null && !terminate.get()) {
-            try {
-                blocks.put(data);
-            } catch (InterruptedException e) {
-                logger.error("Data put interrupted", e);
-                break;
+        //2. Seed them with data until there is no more, memory mapped workers fetch their own blocks.
+        if(!memoryMapped) {
+            PageBlock data;
+            while((data = pageReader.next()) != null && !terminate.get()) {
+                try {
+                    if(!scheduler.put(data))
+                        break;
+                } catch (InterruptedException e) {
+                    logger.error("Data put interrupted", e);
+                    break;
+                }
             }
-        }
 
-        for (int i = 0; i < workers.length; i++) {
-            try {
-                blocks.put(new PageBlock(null, null));
-            } catch (InterruptedException e) {
-                logger.info("Termination interrupted", e);
-                break;
-            }
+            //Workers finish the queued blocks and then get eof blocks
+            scheduler.close();
         }
 
         //3. Await termination of all workers
-        for (Worker worker : workers) {
+        for (Thread thread : threads) {
             try {
-                worker.join();
+                thread.join();
             } catch (InterruptedException e) {
-                logger.error("Worker {} thread interrupted.", worker.getName(), e);
+                logger.error("Worker {} thread interrupted.", thread.getName(), e);
             }
         }
 
         output(Collections.<Page>emptyList());
+
+        if(!memoryMapped) {
+            logger.info("Block scheduler: {}", scheduler);
+            logger.info("Compressed block buffers: {}", compressedPool);
+        }
+
+        if(decodeThreads > 0)
+            logger.info("Decompressed block buffers: {}", decodedPool);
+
+        //The dump is fully parsed, a checkpoint is only kept if the run failed.
+        if(checkpointFile != null && !terminate.get() && checkpointFile.exists()) {
+            if(!checkpointFile.delete())
+                logger.warn("Could not remove checkpoint {}", checkpointFile.getAbsolutePath());
+        }
+    }
+
+    /**
+     * @return true if the run was terminated by a fatal error of a worker
+     */
+    boolean isTerminated() {
+        return terminate.get();
     }
 
     @Override
@@ -477,9 +1408,17 @@ public class MultistreamBzip2XmlDumpParser extends AbstractEmitter<Page,Void> im
         NumberFormat nf = NumberFormat.getIntegerInstance();
         nf.setGroupingUsed(true);
 
-        return String.format("Multistreamed Bzip2 XML Dump parser { \n * Threads: %s, \n * Batch size: %s, \n * Index: %s, \n * Pages: %s, \n * Basepath: %s \n}",
+        return String.format("Multistreamed Bzip2 XML Dump parser { \n * Threads: %s, \n * Stages: %s, \n * Page parser: %s, \n * Batch size: %s, \n * Memory mapped: %s, \n * Buffer pool: %s, \n * Ordered: %s, \n * Shard: %s, \n * Page filter: %s, \n * Checkpoint: %s, \n * Index: %s, \n * Pages: %s, \n * Basepath: %s \n}",
                              nf.format(workers.length),
-                             nf.format(batchsize),
+                             decodeThreads == 0 ? "None" : String.format("decode %d, parse %d, map %d", decodeThreads, parseThreads, mapThreads),
+                             byteScanner ? "Byte scanner" : "StAX",
+                             nf.format(batchsize) + (batchBytes > 0 ? " pages or " + nf.format(batchBytes / 1024) + " KiB" : ""),
+                             memoryMapped ? "Yes" : "No",
+                             compressedPool.getCapacity() == 0 ? "None" : nf.format(compressedPool.getCapacity() / 1024) + " KiB" + (compressedPool.isDirect() ? " (direct)" : ""),
+                             sequencer != null ? "Yes" : "No",
+                             numShards == 1 ? "None" : shard + "/" + numShards + (interleaved ? " (interleaved)" : ""),
+                             getPredicate() == null ? "None" : getPredicate().toString(),
+                             checkpointFile == null ? "None" : checkpointFile.getAbsolutePath(),
                              indexFile.getName(),
                              pageFile.getName(),
                              pageFile.getParentFile().getAbsolutePath());
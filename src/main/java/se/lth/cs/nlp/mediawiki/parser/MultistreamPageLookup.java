@@ -0,0 +1,636 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.mediawiki.parser;
+
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import se.lth.cs.nlp.mediawiki.model.Header;
+import se.lth.cs.nlp.mediawiki.model.Page;
+import se.lth.cs.nlp.pipeline.AbstractEmitter;
+import se.lth.cs.nlp.pipeline.Source;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.text.NumberFormat;
+import java.util.*;
+
+/**
+ * Random access to the pages of a multistream dump by page id or title.
+ *
+ * The text index is turned into two sorted tables, page id to stream and title hash to stream, which are written
+ * to a sidecar file next to the index (index path + ".lookup") and memory mapped by later runs.
+ * Only the streams containing requested pages are decompressed and parsed, recently parsed streams are cached.
+ */
+public class MultistreamPageLookup implements Closeable {
+    private static final int MAGIC = 0x5746504C; //WFPL
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 4;
+    private static final int ENTRY_SIZE = 8 + 8 + 4 + 4;
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    private final Logger logger = LoggerFactory.getLogger(MultistreamPageLookup.class);
+    private final File indexFile, pageFile;
+    private final MultistreamBlockIndex blocks;
+    private final FileChannel pages;
+    private final Header header;
+    private final long segmentSize;
+
+    private Table ids;
+    private Table titles;
+
+    private final LinkedHashMap<Integer,List<Page>> cache;
+
+    /**
+     * Default constructor (cacheSize = 16)
+     * @param index the index file containing all the indicies of blocks
+     * @param pages the page file contain all the multistreams
+     */
+    public MultistreamPageLookup(File index, File pages) {
+        this(index, pages, 16);
+    }
+
+    /**
+     * Full constructor
+     * @param index the index file containing all the indicies of blocks
+     * @param pages the page file contain all the multistreams
+     * @param cacheSize the number of parsed streams to keep
+     */
+    public MultistreamPageLookup(File index, File pages, int cacheSize) {
+        this(index, pages, cacheSize, SEGMENT_SIZE);
+    }
+
+    /**
+     * Constructor with the segment size of the mapped sidecar, used by tests
+     * @param index the index file containing all the indicies of blocks
+     * @param pages the page file contain all the multistreams
+     * @param cacheSize the number of parsed streams to keep
+     * @param segmentSize the maximum size of a mapped region of the sidecar in bytes
+     */
+    MultistreamPageLookup(File index, File pages, final int cacheSize, long segmentSize) {
+        this.indexFile = index;
+        this.segmentSize = segmentSize;
+        this.pageFile = pages;
+        this.blocks = MultistreamBlockIndex.open(index, pages);
+        this.cache = new LinkedHashMap<Integer,List<Page>>(cacheSize * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, List<Page>> eldest) {
+                return size() > cacheSize;
+            }
+        };
+
+        try {
+            openTables();
+            this.pages = FileChannel.open(pages.toPath(), StandardOpenOption.READ);
+            this.header = XmlDumpParser.readHeaderStream(new BZip2CompressorInputStream(new ByteArrayInputStream(readStream(0))));
+        } catch (IOException e) {
+            throw new IOError(e);
+        }
+    }
+
+    /**
+     * A sorted table of keys and their streams, in segments of at most segmentSize bytes of keys
+     */
+    private static final class Table {
+        private final LongBuffer[] keys;
+        private final IntBuffer[] streams;
+        private final int segmentEntries;
+        private final int size;
+
+        public Table(LongBuffer[] keys, IntBuffer[] streams, int segmentEntries, int size) {
+            this.keys = keys;
+            this.streams = streams;
+            this.segmentEntries = segmentEntries;
+            this.size = size;
+        }
+
+        public Table(long[] keys, int[] streams, int size) {
+            this(new LongBuffer[] { LongBuffer.wrap(keys, 0, size).slice() },
+                 new IntBuffer[] { IntBuffer.wrap(streams, 0, size).slice() },
+                 Math.max(size, 1), size);
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public long key(int i) {
+            return keys[i / segmentEntries].get(i % segmentEntries);
+        }
+
+        public int stream(int i) {
+            return streams[i / segmentEntries].get(i % segmentEntries);
+        }
+    }
+
+    /**
+     * Get the sidecar location for a text index
+     * @param indexFile the multistream text index
+     * @return the lookup table location
+     */
+    public static File getSidecar(File indexFile) {
+        return new File(indexFile.getAbsolutePath() + ".lookup");
+    }
+
+    /**
+     * Hash of a title, 64-bit FNV-1a of the normalized title
+     */
+    private static long titleHash(String title) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < title.length(); i++) {
+            hash ^= title.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * Normalize a title, underscores are spaces in MediaWiki titles.
+     * @param title the title
+     * @return normalized title
+     */
+    public static String normalize(String title) {
+        return title.trim().replace('_', ' ');
+    }
+
+    private void openTables() throws IOException {
+        File sidecar = getSidecar(indexFile);
+        long fingerprint = MultistreamBlockIndex.fingerprint(indexFile, pageFile);
+
+        if(sidecar.exists()) {
+            try {
+                if(load(sidecar, fingerprint))
+                    return;
+
+                logger.info("Lookup table {} does not match the dump, rebuilding.", sidecar.getAbsolutePath());
+            } catch (IOException e) {
+                logger.warn("Could not map lookup table {}, rebuilding.", sidecar.getAbsolutePath(), e);
+            } catch (IllegalArgumentException e) {
+                logger.warn("Could not map lookup table {}, rebuilding.", sidecar.getAbsolutePath(), e);
+            }
+        }
+
+        build();
+        try {
+            write(sidecar, fingerprint);
+            logger.info("Lookup table with {} pages written to {}", ids.size(), sidecar.getAbsolutePath());
+        } catch (IOException e) {
+            logger.warn("Could not write lookup table to {}, continuing without it.", sidecar.getAbsolutePath(), e);
+        }
+    }
+
+    /**
+     * Parse the text index, every line has the format offset:pageid:title
+     * @throws IOException
+     */
+    private void build() throws IOException {
+        long[] ids = new long[1024];
+        long[] titles = new long[1024];
+        int[] streams = new int[1024];
+        int count = 0;
+
+        BufferedReader reader = new BufferedReader(
+                                    new InputStreamReader(
+                                        new BZip2CompressorInputStream(
+                                            new BufferedInputStream(
+                                                new FileInputStream(indexFile))), "UTF-8"));
+
+        try {
+            String line;
+            int stream = 0;
+            long streamOffset = 0;
+            while( (line = reader.readLine()) != null) {
+                if(line.isEmpty())
+                    continue;
+
+                int pos = line.indexOf(':');
+                int idpos = line.indexOf(':', pos+1);
+                long offset = Long.parseLong(line.substring(0, pos));
+                if(offset != streamOffset) {
+                    stream = blocks.findStream(offset);
+                    streamOffset = offset;
+                }
+
+                if(count == ids.length) {
+                    ids = Arrays.copyOf(ids, count * 2);
+                    titles = Arrays.copyOf(titles, count * 2);
+                    streams = Arrays.copyOf(streams, count * 2);
+                }
+
+                ids[count] = Long.parseLong(line.substring(pos+1, idpos == -1 ? line.length() : idpos));
+                titles[count] = idpos == -1 ? 0 : titleHash(normalize(line.substring(idpos+1)));
+                streams[count] = stream;
+                count++;
+            }
+        }
+        finally {
+            reader.close();
+        }
+
+        int[] titleStreams = Arrays.copyOf(streams, count);
+        sort(ids, streams, 0, count);
+        sort(titles, titleStreams, 0, count);
+
+        this.ids = new Table(ids, streams, count);
+        this.titles = new Table(titles, titleStreams, count);
+    }
+
+    /**
+     * Sort keys and their values, quicksort that recurses on the smaller partition.
+     */
+    private static void sort(long[] keys, int[] values, int from, int to) {
+        while(to - from > 16) {
+            int mid = (from + to) >>> 1;
+            long pivot = median(keys[from], keys[mid], keys[to - 1]);
+
+            int i = from, j = to - 1;
+            while(i <= j) {
+                while(keys[i] < pivot) i++;
+                while(keys[j] > pivot) j--;
+                if(i <= j) {
+                    swap(keys, values, i, j);
+                    i++;
+                    j--;
+                }
+            }
+
+            if(j + 1 - from < to - i) {
+                sort(keys, values, from, j + 1);
+                from = i;
+            }
+            else {
+                sort(keys, values, i, to);
+                to = j + 1;
+            }
+        }
+
+        //insertion sort of small ranges
+        for (int i = from + 1; i < to; i++) {
+            for (int j = i; j > from && keys[j - 1] > keys[j]; j--) {
+                swap(keys, values, j, j - 1);
+            }
+        }
+    }
+
+    private static long median(long a, long b, long c) {
+        return Math.max(Math.min(a, b), Math.min(Math.max(a, b), c));
+    }
+
+    private static void swap(long[] keys, int[] values, int i, int j) {
+        long key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+
+        int value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+    /**
+     * Memory map a sidecar, every table is mapped in segments of at most segmentSize bytes
+     * @return false if the sidecar is not valid for the dump
+     */
+    private boolean load(File sidecar, long fingerprint) throws IOException {
+        FileChannel channel = FileChannel.open(sidecar.toPath(), StandardOpenOption.READ);
+        try {
+            if(channel.size() < HEADER_SIZE)
+                return false;
+
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+            if(buffer.getInt() != MAGIC || buffer.getInt() != VERSION)
+                return false;
+
+            if(buffer.getLong() != pageFile.length() || buffer.getLong() != fingerprint)
+                return false;
+
+            int count = buffer.getInt();
+            if(count < 0 || channel.size() - HEADER_SIZE != (long)count * ENTRY_SIZE)
+                return false;
+
+            int segmentEntries = (int)Math.max(Math.min(segmentSize / 8, Integer.MAX_VALUE), 1);
+            long idKeys = HEADER_SIZE;
+            long titleKeys = idKeys + count * 8L;
+            long idStreams = titleKeys + count * 8L;
+            long titleStreams = idStreams + count * 4L;
+
+            this.ids = new Table(mapKeys(channel, idKeys, count, segmentEntries),
+                                 mapStreams(channel, idStreams, count, segmentEntries),
+                                 segmentEntries, count);
+
+            this.titles = new Table(mapKeys(channel, titleKeys, count, segmentEntries),
+                                    mapStreams(channel, titleStreams, count, segmentEntries),
+                                    segmentEntries, count);
+            return true;
+        }
+        finally {
+            channel.close();
+        }
+    }
+
+    private static LongBuffer[] mapKeys(FileChannel channel, long offset, int count, int segmentEntries) throws IOException {
+        LongBuffer[] segments = new LongBuffer[Math.max((int)((count + (long)segmentEntries - 1) / segmentEntries), 1)];
+        for (int i = 0; i < segments.length; i++) {
+            long start = (long)i * segmentEntries;
+            long entries = Math.min(segmentEntries, count - start);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset + start * 8, entries * 8).asLongBuffer();
+        }
+        return segments;
+    }
+
+    private static IntBuffer[] mapStreams(FileChannel channel, long offset, int count, int segmentEntries) throws IOException {
+        IntBuffer[] segments = new IntBuffer[Math.max((int)((count + (long)segmentEntries - 1) / segmentEntries), 1)];
+        for (int i = 0; i < segments.length; i++) {
+            long start = (long)i * segmentEntries;
+            long entries = Math.min(segmentEntries, count - start);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset + start * 4, entries * 4).asIntBuffer();
+        }
+        return segments;
+    }
+
+    /**
+     * Write the tables as a sidecar, the file is replaced atomically.
+     */
+    private void write(File sidecar, long fingerprint) throws IOException {
+        File tmp = new File(sidecar.getAbsolutePath() + ".tmp");
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmp)));
+        try {
+            int count = ids.size();
+            output.writeInt(MAGIC);
+            output.writeInt(VERSION);
+            output.writeLong(pageFile.length());
+            output.writeLong(fingerprint);
+            output.writeInt(count);
+
+            for (int i = 0; i < count; i++)
+                output.writeLong(ids.key(i));
+
+            for (int i = 0; i < count; i++)
+                output.writeLong(titles.key(i));
+
+            for (int i = 0; i < count; i++)
+                output.writeInt(ids.stream(i));
+
+            for (int i = 0; i < count; i++)
+                output.writeInt(titles.stream(i));
+        }
+        finally {
+            output.close();
+        }
+
+        if(!tmp.renameTo(sidecar)) {
+            if(!sidecar.delete() || !tmp.renameTo(sidecar)) {
+                tmp.delete();
+                throw new IOException("Failed to move " + tmp.getAbsolutePath() + " to " + sidecar.getAbsolutePath());
+            }
+        }
+    }
+
+    /**
+     * Find the streams of all entries with a key
+     */
+    private static void find(Table table, long key, Collection<Integer> streams) {
+        int lo = 0, hi = table.size();
+        while(lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if(table.key(mid) < key)
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+
+        for (int i = lo; i < table.size() && table.key(i) == key; i++) {
+            streams.add(table.stream(i));
+        }
+    }
+
+    /**
+     * Find the streams that may contain pages, no stream is decompressed.
+     * @param ids the page ids
+     * @param titles the titles, underscores are treated as spaces
+     * @return the stream numbers in dump order, a title hash collision can add a stream without the page
+     */
+    public TreeSet<Integer> findStreams(Collection<Long> ids, Collection<String> titles) {
+        TreeSet<Integer> streams = new TreeSet<Integer>();
+        for (Long id : ids) {
+            find(this.ids, id, streams);
+        }
+
+        for (String title : titles) {
+            find(this.titles, titleHash(normalize(title)), streams);
+        }
+
+        return streams;
+    }
+
+    private byte[] readStream(int stream) throws IOException {
+        long start = blocks.getStart(stream);
+        ByteBuffer buffer = ByteBuffer.allocate((int)(blocks.getEnd(stream) - start));
+        while(buffer.hasRemaining()) {
+            if(pages.read(buffer, start + buffer.position()) == -1)
+                throw new EOFException("Unexpected end of file!");
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Get the pages of a stream, from the cache if recently used
+     * @param stream the stream number
+     * @return all pages in the stream
+     */
+    private synchronized List<Page> getStream(int stream) {
+        List<Page> streamPages = cache.get(stream);
+        if(streamPages != null)
+            return streamPages;
+
+        try {
+            XmlDumpParser parser = new XmlDumpParser(header, new BZip2CompressorInputStream(new ByteArrayInputStream(readStream(stream)), true));
+            streamPages = new ArrayList<Page>();
+
+            Page page;
+            while((page = parser.next()) != null) {
+                streamPages.add(page);
+            }
+        } catch (IOException e) {
+            throw new IOError(e);
+        }
+
+        cache.put(stream, streamPages);
+        return streamPages;
+    }
+
+    /**
+     * @return the dump header
+     */
+    public Header getHeader() {
+        return header;
+    }
+
+    /**
+     * Get a page by id
+     * @param id the page id
+     * @return null if not found
+     */
+    public Page getById(long id) {
+        List<Page> found = lookup(Collections.singleton(id), Collections.<String>emptySet());
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    /**
+     * Get a page by title
+     * @param title the title, underscores are treated as spaces
+     * @return null if not found
+     */
+    public Page getByTitle(String title) {
+        List<Page> found = lookup(Collections.<Long>emptySet(), Collections.singleton(title));
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    private static HashSet<String> normalizeAll(Collection<String> titles) {
+        HashSet<String> normalized = new HashSet<String>();
+        for (String title : titles) {
+            normalized.add(normalize(title));
+        }
+        return normalized;
+    }
+
+    /**
+     * Get the requested pages of a stream
+     * @param stream the stream number
+     * @param ids the page ids
+     * @param titles the normalized titles
+     * @return the found pages in dump order
+     */
+    private List<Page> match(int stream, Set<Long> ids, Set<String> titles) {
+        ArrayList<Page> found = new ArrayList<Page>();
+        for (Page page : getStream(stream)) {
+            if(ids.contains(page.getId()) || titles.contains(page.getTitle()))
+                found.add(page);
+        }
+        return found;
+    }
+
+    /**
+     * Get many pages, every stream is only parsed once.
+     * @param ids the page ids
+     * @param titles the titles, underscores are treated as spaces
+     * @return the found pages in dump order
+     */
+    public List<Page> lookup(Collection<Long> ids, Collection<String> titles) {
+        HashSet<String> normalized = normalizeAll(titles);
+        HashSet<Long> idSet = new HashSet<Long>(ids);
+
+        ArrayList<Page> found = new ArrayList<Page>();
+        for (Integer stream : findStreams(idSet, normalized)) {
+            found.addAll(match(stream, idSet, normalized));
+        }
+
+        return found;
+    }
+
+    /**
+     * Get a source emitting the requested pages, for conversion with a pipeline
+     * @param ids the page ids
+     * @param titles the titles
+     * @param batchsize the size of a batch
+     * @return source
+     */
+    public Source<Page,Void> source(Collection<Long> ids, Collection<String> titles, int batchsize) {
+        return source(ids, titles, batchsize, 0);
+    }
+
+    /**
+     * Get a source emitting the requested pages in batches limited by size, for conversion with a pipeline
+     * @param ids the page ids
+     * @param titles the titles
+     * @param batchsize the maximum number of pages in a batch
+     * @param batchBytes the maximum number of bytes in a batch, 0 for no limit
+     * @return source
+     */
+    public Source<Page,Void> source(Collection<Long> ids, Collection<String> titles, int batchsize, long batchBytes) {
+        return new LookupSource(ids, titles, batchsize, batchBytes);
+    }
+
+    private class LookupSource extends AbstractEmitter<Page,Void> implements Source<Page,Void> {
+        private final Collection<Long> ids;
+        private final Collection<String> titles;
+        private final int batchsize;
+        private final long batchBytes;
+
+        public LookupSource(Collection<Long> ids, Collection<String> titles, int batchsize, long batchBytes) {
+            this.ids = ids;
+            this.titles = titles;
+            this.batchsize = batchsize;
+            this.batchBytes = batchBytes;
+        }
+
+        @Override
+        public void run() {
+            HashSet<String> normalized = normalizeAll(titles);
+            HashSet<Long> idSet = new HashSet<Long>(ids);
+
+            //pages are emitted stream by stream, only the pages of one stream are held at a time
+            PageBatcher batcher = new PageBatcher(batchsize, batchBytes);
+            //the requests not resolved to a page, a page may resolve both its id and its title
+            HashSet<Long> missingIds = new HashSet<Long>(idSet);
+            HashSet<String> missingTitles = new HashSet<String>(normalized);
+            int found = 0;
+            for (Integer stream : findStreams(idSet, normalized)) {
+                for (Page page : match(stream, idSet, normalized)) {
+                    found++;
+                    missingIds.remove(page.getId());
+                    missingTitles.remove(page.getTitle());
+                    if(batcher.wouldOverflow(page))
+                        output(batcher.take());
+
+                    if(batcher.add(page))
+                        output(batcher.take());
+                }
+            }
+
+            if(!batcher.isEmpty())
+                output(batcher.take());
+
+            int missing = missingIds.size() + missingTitles.size();
+            if(missing > 0)
+                logger.warn("Found {} pages, {} of the requested ids and titles were not found.", found, missing);
+
+            output(Collections.<Page>emptyList());
+        }
+
+        @Override
+        public String toString() {
+            NumberFormat nf = NumberFormat.getIntegerInstance();
+            nf.setGroupingUsed(true);
+
+            return String.format("Multistream page lookup { \n * Ids: %s, \n * Titles: %s, \n * Batch size: %s, \n * Index: %s, \n * Pages: %s \n}",
+                                 nf.format(ids.size()),
+                                 nf.format(titles.size()),
+                                 nf.format(batchsize) + (batchBytes > 0 ? " pages or " + nf.format(batchBytes / 1024) + " KiB" : ""),
+                                 indexFile.getAbsolutePath(),
+                                 pageFile.getAbsolutePath());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        pages.close();
+    }
+}
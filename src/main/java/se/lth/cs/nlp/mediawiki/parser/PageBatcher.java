@@ -0,0 +1,100 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.mediawiki.parser;
+
+import se.lth.cs.nlp.mediawiki.model.Page;
+
+import java.util.ArrayList;
+
+/**
+ * Collects pages into batches limited by a number of pages and a number of bytes.
+ *
+ * The size of a page is the in-memory size of its title and text (two bytes per char),
+ * a single page larger than the byte limit is a batch of its own. The byte limit holds if the current batch is taken
+ * whenever {@link #wouldOverflow(Page)} is true before a page is added:
+ * <pre>
+ * if(batcher.wouldOverflow(page))
+ *     output(batcher.take());
+ *
+ * if(batcher.add(page))
+ *     output(batcher.take());
+ * </pre>
+ */
+public class PageBatcher {
+    private final int maxPages;
+    private final long maxBytes;
+    private ArrayList<Page> batch;
+    private long bytes = 0;
+
+    /**
+     * Batcher constructor
+     * @param maxPages the maximum number of pages in a batch
+     * @param maxBytes the maximum number of bytes in a batch, 0 for no limit
+     */
+    public PageBatcher(int maxPages, long maxBytes) {
+        this.maxPages = maxPages;
+        this.maxBytes = maxBytes;
+        this.batch = new ArrayList<Page>(Math.min(maxPages, 1024));
+    }
+
+    /**
+     * @param page the page
+     * @return the number of bytes a page adds to a batch
+     */
+    public static long size(Page page) {
+        return 2L * (page.getTitle().length() + page.getContent().length());
+    }
+
+    /**
+     * Check if a page fits the current batch
+     * @param page the page
+     * @return true if the batch has pages and the page would take it over the byte limit, the batch should then be
+     *         taken before the page is added
+     */
+    public boolean wouldOverflow(Page page) {
+        return maxBytes > 0 && !batch.isEmpty() && bytes + size(page) > maxBytes;
+    }
+
+    /**
+     * Add a page to the current batch
+     * @param page the page
+     * @return true if the batch is full and should be taken
+     */
+    public boolean add(Page page) {
+        batch.add(page);
+        bytes += size(page);
+        return batch.size() >= maxPages || (maxBytes > 0 && bytes >= maxBytes);
+    }
+
+    /**
+     * @return true if the current batch has no pages
+     */
+    public boolean isEmpty() {
+        return batch.isEmpty();
+    }
+
+    /**
+     * Take the current batch and start a new one
+     * @return the batch
+     */
+    public ArrayList<Page> take() {
+        ArrayList<Page> full = batch;
+        batch = new ArrayList<Page>(Math.min(maxPages, Math.max(full.size(), 16)));
+        bytes = 0;
+        return full;
+    }
+}
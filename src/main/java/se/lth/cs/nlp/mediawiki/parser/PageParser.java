@@ -0,0 +1,38 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.mediawiki.parser;
+
+import se.lth.cs.nlp.mediawiki.model.Page;
+
+/**
+ * Pull parser for the pages of a MediaWiki XML dump
+ */
+public interface PageParser {
+
+    /**
+     * Read the next page
+     * @return the page or null if there are no more pages
+     */
+    public Page next();
+
+    /**
+     * Only return pages accepted by a predicate, it is evaluated when the revision starts
+     * and the revisions of rejected pages are skipped without reading their text.
+     * @param predicate the predicate, null to return all pages
+     */
+    public void setPredicate(PagePredicate predicate);
+}
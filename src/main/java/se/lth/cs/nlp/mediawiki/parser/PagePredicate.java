@@ -0,0 +1,34 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.mediawiki.parser;
+
+/**
+ * Page predicate evaluated by the dump parser before the text of a page is read,
+ * the text of rejected pages is skipped without being decoded.
+ */
+public interface PagePredicate {
+
+    /**
+     * Decide if a page should be parsed
+     * @param id the page id
+     * @param namespace the namespace id
+     * @param title the title
+     * @param redirect true if the page is a redirect
+     * @return true to keep the page
+     */
+    public boolean accept(long id, int namespace, String title, boolean redirect);
+}
@@ -0,0 +1,145 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.mediawiki.parser;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.*;
+
+/**
+ * Common page predicates
+ */
+public final class PagePredicates {
+    private PagePredicates() {
+    }
+
+    /**
+     * Keep pages in some namespaces
+     * @param namespaces the namespace ids to keep
+     * @return predicate
+     */
+    public static PagePredicate namespaces(Collection<Integer> namespaces) {
+        final HashSet<Integer> keep = new HashSet<Integer>(namespaces);
+        return new PagePredicate() {
+            @Override
+            public boolean accept(long id, int namespace, String title, boolean redirect) {
+                return keep.contains(namespace);
+            }
+
+            @Override
+            public String toString() {
+                return "namespaces: " + StringUtils.join(keep, ",");
+            }
+        };
+    }
+
+    /**
+     * Keep pages with a title that starts with any of the prefixes
+     * @param prefixes the title prefixes
+     * @return predicate
+     */
+    public static PagePredicate titlePrefixes(Collection<String> prefixes) {
+        final ArrayList<String> keep = new ArrayList<String>(prefixes);
+        return new PagePredicate() {
+            @Override
+            public boolean accept(long id, int namespace, String title, boolean redirect) {
+                for (String prefix : keep) {
+                    if(title.startsWith(prefix))
+                        return true;
+                }
+                return false;
+            }
+
+            @Override
+            public String toString() {
+                return "title prefixes: " + StringUtils.join(keep, ",");
+            }
+        };
+    }
+
+    /**
+     * Keep pages with given ids or titles
+     * @param ids the page ids
+     * @param titles the titles, underscores are treated as spaces
+     * @return predicate
+     */
+    public static PagePredicate whitelist(Collection<Long> ids, Collection<String> titles) {
+        final HashSet<Long> keepIds = new HashSet<Long>(ids);
+        final HashSet<String> keepTitles = new HashSet<String>();
+        for (String title : titles) {
+            keepTitles.add(MultistreamPageLookup.normalize(title));
+        }
+
+        return new PagePredicate() {
+            @Override
+            public boolean accept(long id, int namespace, String title, boolean redirect) {
+                return keepIds.contains(id) || keepTitles.contains(title);
+            }
+
+            @Override
+            public String toString() {
+                return String.format("whitelist: %d ids, %d titles", keepIds.size(), keepTitles.size());
+            }
+        };
+    }
+
+    /**
+     * Skip redirects
+     * @return predicate
+     */
+    public static PagePredicate noRedirects() {
+        return new PagePredicate() {
+            @Override
+            public boolean accept(long id, int namespace, String title, boolean redirect) {
+                return !redirect;
+            }
+
+            @Override
+            public String toString() {
+                return "no redirects";
+            }
+        };
+    }
+
+    /**
+     * Keep pages accepted by all predicates
+     * @param predicates the predicates
+     * @return predicate, null if there are no predicates
+     */
+    public static PagePredicate all(final List<PagePredicate> predicates) {
+        if(predicates.isEmpty())
+            return null;
+        else if(predicates.size() == 1)
+            return predicates.get(0);
+
+        return new PagePredicate() {
+            @Override
+            public boolean accept(long id, int namespace, String title, boolean redirect) {
+                for (PagePredicate predicate : predicates) {
+                    if(!predicate.accept(id, namespace, title, redirect))
+                        return false;
+                }
+                return true;
+            }
+
+            @Override
+            public String toString() {
+                return StringUtils.join(predicates, ", ");
+            }
+        };
+    }
+}
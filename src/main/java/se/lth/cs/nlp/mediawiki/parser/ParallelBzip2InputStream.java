@@ -0,0 +1,429 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.mediawiki.parser;
+
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+
+import java.io.*;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bzip2 input stream that decompresses blocks in parallel.
+ *
+ * The compressed data is scanned for the bit aligned block and end of stream magics (like pbzip2 does),
+ * every block is turned into a single block bzip2 stream of its own and decoded by a pool of threads.
+ * The decoded blocks are returned in order, concatenated streams are supported.
+ *
+ * The magics may also occur by chance inside the compressed data. Every piece therefore keeps its compressed bits up to
+ * the next block magic and all the end of stream magics found on the way, a piece that fails to decode is retried
+ * with its next end and then merged with the following piece.
+ */
+public class ParallelBzip2InputStream extends InputStream {
+    private static final long BLOCK_MAGIC = 0x314159265359L;
+    private static final long EOS_MAGIC = 0x177245385090L;
+    private static final long MAGIC_MASK = 0xFFFFFFFFFFFFL;
+
+    /** The number of following pieces a piece that fails to decode may be merged with */
+    private static final int MAX_MERGES = 2;
+
+    private final InputStream input;
+    private final ExecutorService executor;
+    private final ArrayDeque<Piece> decoded = new ArrayDeque<Piece>();
+    private final int maxInFlight;
+
+    //Scanner state, pending holds the compressed bytes from the start of the current block
+    private final byte[] chunk = new byte[64 * 1024];
+    private int chunkPosition = 0;
+    private int chunkLength = 0;
+    private byte[] pending = new byte[1024 * 1024];
+    private int pendingLength = 0;
+    private long blockStart = -1;
+    private long[] ends = new long[4];
+    private int numEnds = 0;
+    private long window = 0;
+    private long bitsRead = 0;
+    private boolean scanned = false;
+
+    private byte[] current = new byte[0];
+    private int position = 0;
+
+    /**
+     * Default constructor (numThreads = available processors)
+     * @param input the compressed stream
+     */
+    public ParallelBzip2InputStream(InputStream input) throws IOException {
+        this(input, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Threaded constructor
+     * @param input the compressed stream
+     * @param numThreads the number of decoding threads
+     */
+    public ParallelBzip2InputStream(InputStream input, int numThreads) throws IOException {
+        this.input = input;
+        this.maxInFlight = numThreads * 2;
+
+        byte[] magic = new byte[3];
+        if(readFully(magic) != 3 || magic[0] != 'B' || magic[1] != 'Z' || magic[2] != 'h')
+            throw new IOException("Not a bzip2 stream.");
+
+        final AtomicInteger threadId = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(numThreads, new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "Bzip2 Decoder " + threadId.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    private int readFully(byte[] buffer) throws IOException {
+        int total = 0;
+        while(total < buffer.length) {
+            int read = input.read(buffer, total, buffer.length - total);
+            if(read == -1)
+                break;
+
+            total += read;
+        }
+        return total;
+    }
+
+    /**
+     * The compressed bits from a block magic to the next block magic or the end of the data
+     */
+    private static class Piece {
+        private final byte[] data;
+        private final long start;
+        private final long end;
+        private final long[] ends;
+        private Future<byte[]> decoded;
+
+        /**
+         * @param data  the compressed data
+         * @param start the bit offset of the block magic
+         * @param end   the bit offset of the next block magic, the number of bits in data if none
+         * @param ends  the bit offsets of the magics the block may end at, in order
+         */
+        public Piece(byte[] data, long start, long end, long[] ends) {
+            this.data = data;
+            this.start = start;
+            this.end = end;
+            this.ends = ends;
+        }
+
+        /**
+         * Merge with the following piece, the magic between the pieces did not start a block
+         * @param next the piece directly after this one
+         * @return merged piece
+         */
+        public Piece merge(Piece next) {
+            //the next piece starts in the byte that holds the end of this piece
+            int shared = (int)(end >>> 3);
+            byte[] merged = Arrays.copyOf(data, shared + next.data.length);
+            System.arraycopy(next.data, 0, merged, shared, next.data.length);
+
+            long[] mergedEnds = new long[next.ends.length];
+            for (int i = 0; i < next.ends.length; i++) {
+                mergedEnds[i] = next.ends[i] + shared * 8L;
+            }
+
+            return new Piece(merged, start, next.end + shared * 8L, mergedEnds);
+        }
+    }
+
+    /**
+     * Decodes a single block stream
+     */
+    private static class Decoder implements Callable<byte[]> {
+        private final Piece piece;
+
+        public Decoder(Piece piece) {
+            this.piece = piece;
+        }
+
+        @Override
+        public byte[] call() throws Exception {
+            return decode(toStream(piece.data, piece.start, piece.ends[0]));
+        }
+    }
+
+    private static byte[] decode(byte[] stream) throws IOException {
+        BZip2CompressorInputStream bcis = new BZip2CompressorInputStream(new ByteArrayInputStream(stream));
+        ByteArrayOutputStream output = new ByteArrayOutputStream(stream.length * 6);
+        byte[] buffer = new byte[64 * 1024];
+        int read;
+        while((read = bcis.read(buffer)) != -1) {
+            output.write(buffer, 0, read);
+        }
+        bcis.close();
+        return output.toByteArray();
+    }
+
+    /**
+     * Cut the pending bytes at the end of the current piece
+     * @param end the bit offset in pending where the piece ends
+     * @return the piece
+     */
+    private Piece cut(long end) {
+        int first = (int)(blockStart >>> 3);
+        long[] pieceEnds = new long[numEnds];
+        for (int i = 0; i < numEnds; i++) {
+            pieceEnds[i] = ends[i] - first * 8L;
+        }
+
+        return new Piece(Arrays.copyOfRange(pending, first, (int)((end + 7) >>> 3)), blockStart & 7, end - first * 8L, pieceEnds);
+    }
+
+    /**
+     * Scan for the next block
+     * @return the block and the bits up to the next block, null if there are no more blocks
+     * @throws IOException
+     */
+    private Piece nextBlock() throws IOException {
+        while(true) {
+            if(chunkPosition == chunkLength) {
+                int read = input.read(chunk);
+                if(read == -1) {
+                    if(blockStart == -1)
+                        return null;
+
+                    if(numEnds == 0)
+                        throw new EOFException("Unexpected end of bzip2 data, the last block is not terminated.");
+
+                    Piece piece = cut((long)pendingLength * 8);
+                    blockStart = -1;
+                    numEnds = 0;
+                    return piece;
+                }
+
+                chunkPosition = 0;
+                chunkLength = read;
+                continue;
+            }
+
+            byte b = chunk[chunkPosition++];
+            if(pendingLength == pending.length)
+                pending = Arrays.copyOf(pending, pending.length * 2);
+
+            pending[pendingLength++] = b;
+            window = (window << 8) | (b & 0xFF);
+            bitsRead += 8;
+
+            Piece block = null;
+
+            //The magic ends somewhere in the last 8 bits read
+            for (int k = 7; k >= 0; k--) {
+                if(bitsRead - k < 48)
+                    continue;
+
+                long candidate = (window >>> k) & MAGIC_MASK;
+                if(candidate == BLOCK_MAGIC || candidate == EOS_MAGIC) {
+                    long magicStart = (long)pendingLength * 8 - k - 48;
+                    if(blockStart != -1) {
+                        if(numEnds == ends.length)
+                            ends = Arrays.copyOf(ends, numEnds * 2);
+
+                        ends[numEnds++] = magicStart;
+                    }
+
+                    if(candidate == BLOCK_MAGIC) {
+                        if(blockStart != -1)
+                            block = cut(magicStart);
+
+                        //Keep the bytes from the start of the new block
+                        int startByte = (int)(magicStart >>> 3);
+                        System.arraycopy(pending, startByte, pending, 0, pendingLength - startByte);
+                        pendingLength -= startByte;
+                        blockStart = magicStart & 7;
+                        numEnds = 0;
+                    }
+                    break;
+                }
+            }
+
+            //Before the first block, only the last bytes are needed to find the next magic
+            if(blockStart == -1 && pendingLength > 8) {
+                System.arraycopy(pending, pendingLength - 8, pending, 0, 8);
+                pendingLength = 8;
+            }
+
+            if(block != null)
+                return block;
+        }
+    }
+
+    /**
+     * Build a single block bzip2 stream
+     * @param data   the compressed data
+     * @param start  the bit offset of the block magic
+     * @param end    the bit offset directly after the block
+     * @return the bzip2 stream
+     */
+    private static byte[] toStream(byte[] data, long start, long end) {
+        int numBits = (int)(end - start);
+        byte[] stream = new byte[(32 + numBits + 48 + 32 + 7) / 8];
+        stream[0] = 'B';
+        stream[1] = 'Z';
+        stream[2] = 'h';
+        stream[3] = '9';
+
+        int shift = (int)(start & 7);
+        int first = (int)(start >>> 3);
+        int numBytes = (numBits + 7) / 8;
+        for (int i = 0; i < numBytes; i++) {
+            int hi = (data[first + i] & 0xFF) << shift;
+            int lo = first + i + 1 < data.length ? (data[first + i + 1] & 0xFF) >>> (8 - shift) : 0;
+            stream[4 + i] = (byte)(hi | lo);
+        }
+
+        if((numBits & 7) != 0)
+            stream[4 + numBytes - 1] &= (byte)(0xFF << (8 - (numBits & 7)));
+
+        //The combined crc of a single block stream is the block crc, which follows the block magic.
+        long crc = readBits(data, start + 48, 32);
+        writeBits(stream, 32 + numBits, EOS_MAGIC, 48);
+        writeBits(stream, 32 + numBits + 48, crc, 32);
+        return stream;
+    }
+
+    private static long readBits(byte[] data, long offset, int numBits) {
+        long value = 0;
+        for (int i = 0; i < numBits; i++) {
+            long bit = offset + i;
+            value = (value << 1) | ((data[(int)(bit >>> 3)] >>> (7 - (bit & 7))) & 1);
+        }
+        return value;
+    }
+
+    private static void writeBits(byte[] data, long offset, long value, int numBits) {
+        for (int i = 0; i < numBits; i++) {
+            long bit = offset + i;
+            if(((value >>> (numBits - 1 - i)) & 1) != 0)
+                data[(int)(bit >>> 3)] |= (byte)(1 << (7 - (bit & 7)));
+        }
+    }
+
+    /**
+     * Scan and submit blocks until enough blocks are in flight
+     * @throws IOException
+     */
+    private void submit() throws IOException {
+        while(!scanned && decoded.size() < maxInFlight) {
+            Piece block = nextBlock();
+            if(block == null)
+                scanned = true;
+            else {
+                block.decoded = executor.submit(new Decoder(block));
+                decoded.add(block);
+            }
+        }
+    }
+
+    /**
+     * Decode a piece that failed to decode at its first end: a magic inside the compressed data was taken for the
+     * end of the block. The later ends of the piece are tried, then the piece is merged with the following pieces.
+     * @param piece the piece
+     * @param cause the decoding error
+     * @return the decoded block
+     * @throws IOException if the block can not be decoded at any end
+     */
+    private byte[] retry(Piece piece, Throwable cause) throws IOException {
+        int tried = 1;
+        for (int merges = 0; merges <= MAX_MERGES; merges++) {
+            for (; tried < piece.ends.length; tried++) {
+                try {
+                    return decode(toStream(piece.data, piece.start, piece.ends[tried]));
+                } catch (IOException e) {
+                    //try the next end
+                } catch (RuntimeException e) {
+                    //corrupt data may fail in the decoder
+                }
+            }
+
+            submit();
+            Piece next = decoded.poll();
+            if(next == null)
+                break;
+
+            //the ends of the merged piece are the ends of the next piece, none of them tried
+            next.decoded.cancel(false);
+            piece = piece.merge(next);
+            tried = 0;
+        }
+
+        throw new IOException("Corrupt bzip2 block", cause);
+    }
+
+    /**
+     * Keep the decoders busy and move to the next decoded block
+     * @return false if there are no more blocks
+     * @throws IOException
+     */
+    private boolean fill() throws IOException {
+        while(position == current.length) {
+            submit();
+
+            Piece next = decoded.poll();
+            if(next == null)
+                return false;
+
+            try {
+                current = next.decoded.get();
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            } catch (ExecutionException e) {
+                current = retry(next, e.getCause());
+            }
+            position = 0;
+        }
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if(position == current.length && !fill())
+            return -1;
+
+        return current[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if(len == 0)
+            return 0;
+
+        if(position == current.length && !fill())
+            return -1;
+
+        int toRead = Math.min(len, current.length - position);
+        System.arraycopy(current, position, b, off, toRead);
+        position += toRead;
+        return toRead;
+    }
+
+    @Override
+    public void close() throws IOException {
+        executor.shutdownNow();
+        input.close();
+    }
+}
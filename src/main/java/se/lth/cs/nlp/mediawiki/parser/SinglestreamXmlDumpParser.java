@@ -19,22 +19,23 @@ package se.lth.cs.nlp.mediawiki.parser;
 import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 import se.lth.cs.nlp.mediawiki.model.Page;
 import se.lth.cs.nlp.pipeline.AbstractEmitter;
-import se.lth.cs.nlp.pipeline.Source;
 
 import java.io.*;
 import java.text.NumberFormat;
-import java.util.ArrayList;
 import java.util.Collections;
 
 /**
  * Singlestream Mediawiki xml dump parser (supporting uncompressed and bzip2 compressed)
  */
-public class SinglestreamXmlDumpParser extends AbstractEmitter<Page,Void> implements Source<Page,Void> {
+public class SinglestreamXmlDumpParser extends AbstractEmitter<Page,Void> implements FilteredDumpSource {
 
     private final InputStream input;
-    private final XmlDumpParser parser;
     private final int batchsize;
+    private long batchBytes = 0;
     private final File pageInput;
+    private final int numThreads;
+    private PagePredicate predicate;
+    private boolean byteScanner = false;
 
     /**
      * File constructor
@@ -58,11 +59,25 @@ public class SinglestreamXmlDumpParser extends AbstractEmitter<Page,Void> implem
      * @param batchsize the size of a batch
      */
     public SinglestreamXmlDumpParser(File path, int batchsize) {
+        this(path, batchsize, 1);
+    }
+
+    /**
+     * File constructor with batchsize and parallel decompression
+     * @param path file to read from
+     * @param batchsize the size of a batch
+     * @param numThreads the number of threads decompressing bzip2 blocks, 1 decompresses in the parsing thread
+     */
+    public SinglestreamXmlDumpParser(File path, int batchsize, int numThreads) {
         this.pageInput = path;
         this.batchsize = batchsize;
+        this.numThreads = numThreads;
         try {
             if(path.getAbsolutePath().toLowerCase().endsWith(".bz2")) {
-                this.input = new BZip2CompressorInputStream(new FileInputStream(path), true);
+                if(numThreads > 1)
+                    this.input = new ParallelBzip2InputStream(new BufferedInputStream(new FileInputStream(path)), numThreads);
+                else
+                    this.input = new BZip2CompressorInputStream(new FileInputStream(path), true);
             }
             else
             {
@@ -71,9 +86,6 @@ public class SinglestreamXmlDumpParser extends AbstractEmitter<Page,Void> implem
         } catch (IOException e) {
             throw new IOError(e);
         }
-
-        parser = new XmlDumpParser(input);
-
     }
 
     /**
@@ -83,27 +95,65 @@ public class SinglestreamXmlDumpParser extends AbstractEmitter<Page,Void> implem
      */
     public SinglestreamXmlDumpParser(InputStream stream, int batchsize) {
         this.pageInput = null;
+        this.numThreads = 1;
         this.input = stream;
         this.batchsize = batchsize;
-        this.parser = new XmlDumpParser(input);
+    }
+
+    /**
+     * Skip pages while parsing, the text of rejected pages is never decoded.
+     * @param predicate the predicate, null to emit all pages
+     */
+    @Override
+    public void setPagePredicate(PagePredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    /**
+     * Limit batches by the size of their pages in addition to the batch size,
+     * see {@link PageBatcher} for how pages are measured.
+     * @param batchBytes the maximum number of bytes in a batch, 0 for no limit
+     */
+    public void setBatchBytes(long batchBytes) {
+        this.batchBytes = batchBytes;
+    }
+
+    /**
+     * Parse pages with the byte level {@link XmlDumpScanner} instead of the StAX based {@link XmlDumpParser}.
+     * @param byteScanner true to use the scanner
+     */
+    public void setByteScanner(boolean byteScanner) {
+        this.byteScanner = byteScanner;
     }
 
     @Override
     public void run()
     {
-        ArrayList<Page> pages = new ArrayList<Page>(batchsize);
+        PageParser parser = byteScanner ? new XmlDumpScanner(input) : new XmlDumpParser(input);
+        parser.setPredicate(predicate);
+
+        PageBatcher batcher = new PageBatcher(batchsize, batchBytes);
         Page page;
 
         while( (page = parser.next()) != null) {
-            pages.add(page);
-            if(pages.size() == batchsize) {
-                output(pages);
-                pages = new ArrayList<Page>(batchsize);
-            }
+            if(batcher.wouldOverflow(page))
+                output(batcher.take());
+
+            if(batcher.add(page))
+                output(batcher.take());
         }
 
-        if(!pages.isEmpty())
-            output(pages);
+        if(!batcher.isEmpty())
+            output(batcher.take());
+
+        //Streams opened from a file are closed, also stops the decompression threads.
+        if(pageInput != null) {
+            try {
+                input.close();
+            } catch (IOException e) {
+                throw new IOError(e);
+            }
+        }
 
         output(Collections.<Page>emptyList());
     }
@@ -113,8 +163,11 @@ public class SinglestreamXmlDumpParser extends AbstractEmitter<Page,Void> implem
         NumberFormat nf = NumberFormat.getIntegerInstance();
         nf.setGroupingUsed(true);
 
-        return String.format("Singlestreamed XML Dump parser { \n * Batch size: %s, \n * Input: %s \n}",
-                             nf.format(batchsize),
+        return String.format("Singlestreamed XML Dump parser { \n * Batch size: %s, \n * Decompression threads: %s, \n * Page parser: %s, \n * Page filter: %s, \n * Input: %s \n}",
+                             nf.format(batchsize) + (batchBytes > 0 ? " pages or " + nf.format(batchBytes / 1024) + " KiB" : ""),
+                             nf.format(numThreads),
+                             byteScanner ? "Byte scanner" : "StAX",
+                             predicate == null ? "None" : predicate.toString(),
                              pageInput == null ? "[Inputstream]" : pageInput.getAbsolutePath());
     }
 }
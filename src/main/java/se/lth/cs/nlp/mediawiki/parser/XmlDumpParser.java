@@ -17,6 +17,7 @@
 package se.lth.cs.nlp.mediawiki.parser;
 
 import com.ctc.wstx.api.WstxInputProperties;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
 import org.codehaus.stax2.XMLInputFactory2;
 import org.codehaus.stax2.XMLStreamReader2;
 import se.lth.cs.nlp.mediawiki.model.Header;
@@ -25,7 +26,6 @@ import se.lth.cs.nlp.mediawiki.model.Siteinfo;
 
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.XMLStreamReader;
 import javax.xml.stream.events.XMLEvent;
 import java.io.*;
 import java.util.ArrayDeque;
@@ -35,11 +35,12 @@ import java.util.TreeMap;
 /**
  * The XML parser for a MediaWiki XML dump.
  */
-public class XmlDumpParser
+public class XmlDumpParser implements PageParser
 {
     private final Header header;
     private final XMLStreamReader2 xmlReader;
     private final ParserContext state = new ParserContext();
+    private PagePredicate predicate = null;
 
     /**
      * Constructor used by Multistream parser
@@ -152,6 +153,69 @@ public class XmlDumpParser
         }
     }
 
+    /**
+     * Parse the header stream of a multistream dump, which only contains the opening tags and the siteinfo.
+     * @param input the decompressed header stream, closed when read
+     * @return header
+     * @throws IOException
+     */
+    public static Header readHeaderStream(InputStream input) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, "UTF-8"));
+        try {
+            String line;
+            while( (line = reader.readLine()) != null)
+            {
+                sb.append(line).append("\n");
+            }
+        } finally {
+            reader.close();
+        }
+
+        sb.append("</mediawiki>");
+
+        try {
+            XMLInputFactory2 factory = (XMLInputFactory2) XMLInputFactory2.newInstance();
+            factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, Boolean.TRUE);
+            XMLStreamReader2 xmlReader = (XMLStreamReader2)factory.createXMLStreamReader(new StringReader(sb.toString()));
+            return readHeader(xmlReader);
+        } catch (XMLStreamException e) {
+            throw new IOError(e);
+        }
+    }
+
+    /**
+     * Read only the header of a dump file, plain xml or bzip2 compressed (single- or multistream).
+     * @param dump the dump file
+     * @return header
+     */
+    public static Header readHeader(File dump) {
+        try {
+            InputStream input = new BufferedInputStream(new FileInputStream(dump));
+            try {
+                if(dump.getName().toLowerCase().endsWith(".bz2"))
+                    input = new BZip2CompressorInputStream(input, true);
+
+                XMLInputFactory2 factory = (XMLInputFactory2) XMLInputFactory2.newInstance();
+                factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, Boolean.TRUE);
+                factory.setProperty(WstxInputProperties.P_INPUT_PARSING_MODE, WstxInputProperties.PARSING_MODE_FRAGMENT);
+
+                XMLStreamReader2 xmlReader = (XMLStreamReader2)factory.createXMLStreamReader(input);
+                try {
+                    return readHeader(xmlReader);
+                } finally {
+                    xmlReader.closeCompletely();
+                }
+            } finally {
+                input.close();
+            }
+        } catch (IOException e) {
+            throw new IOError(e);
+        } catch (XMLStreamException e) {
+            throw new IOError(e);
+        }
+    }
+
     /**
      * Standalone constructor
      * @param xmlInput the stream to read from
@@ -183,6 +247,7 @@ public class XmlDumpParser
         public String pageTitle = "";
         public String pageText = "";
         public int pageNamespace = 0;
+        public boolean pageRedirect = false;
         public long pageTimestamp = 0;
         public String pageModel = "";
         public String pageFormat = "";
@@ -195,6 +260,7 @@ public class XmlDumpParser
             pageTitle = "";
             pageText = "";
             pageNamespace = 0;
+            pageRedirect = false;
             pageTimestamp = 0;
             wikiPageId = -1;
             pageModel = "";
@@ -210,6 +276,20 @@ public class XmlDumpParser
         }
     }
 
+    /**
+     * Only return pages accepted by a predicate, it is evaluated when the revision starts
+     * and the revisions of rejected pages are skipped without reading their text.
+     * @param predicate the predicate, null to return all pages
+     */
+    @Override
+    public void setPredicate(PagePredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    private boolean accept(ParserContext state) {
+        return predicate == null || predicate.accept(state.wikiPageId, state.pageNamespace, state.pageTitle, state.pageRedirect);
+    }
+
     /**
      * The page parsing code
      * @param state  the state variables
@@ -217,7 +297,7 @@ public class XmlDumpParser
      * @return true if match
      * @throws javax.xml.stream.XMLStreamException
      */
-    private boolean processPages(ParserContext state, XMLStreamReader reader) throws XMLStreamException {
+    private boolean processPages(ParserContext state, XMLStreamReader2 reader) throws XMLStreamException {
         switch (state.pageExtractMode) {
             case 0: //looking for a page
                 if (state.isStartElement()) {
@@ -245,7 +325,15 @@ public class XmlDumpParser
                         } catch(NumberFormatException nfe) {
                             nfe.printStackTrace();
                         }
+                    } else if(localName.equals("redirect")) {
+                        state.pageRedirect = true;
                     } else if(localName.equals("revision")) {
+                        if(!accept(state)) {
+                            state.pageExtractMode = 3;
+                            reader.skipElement();
+                            return true;
+                        }
+
                         state.pageExtractMode = 2;
                         break;
                     }
@@ -254,7 +342,10 @@ public class XmlDumpParser
                 else if(state.isEndElement())
                 {
                     if (reader.getLocalName().equals("page")) {
-                        state.pagesRead.add(getPage(state));
+                        if(accept(state))
+                            state.pagesRead.add(getPage(state));
+                        else
+                            state.resetPage();
                     }
                     return true;
                 }
@@ -294,6 +385,20 @@ public class XmlDumpParser
                     return true;
                 }
                 break;
+            case 3: //rejected page, skip everything until the page ends
+                if (state.isStartElement())
+                {
+                    reader.skipElement();
+                    return true;
+                }
+                else if(state.isEndElement())
+                {
+                    if (reader.getLocalName().equals("page"))
+                        state.resetPage();
+
+                    return true;
+                }
+                break;
         }
 
         return false;
@@ -316,6 +421,7 @@ public class XmlDumpParser
         return page;
     }
 
+    @Override
     public Page next()
     {
         if(!state.pagesRead.isEmpty())
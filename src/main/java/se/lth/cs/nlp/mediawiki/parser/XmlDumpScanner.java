@@ -0,0 +1,801 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.mediawiki.parser;
+
+import se.lth.cs.nlp.mediawiki.model.Header;
+import se.lth.cs.nlp.mediawiki.model.Page;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Calendar;
+
+/**
+ * Byte level scanner for MediaWiki XML dumps, an alternative to the StAX based {@link XmlDumpParser}.
+ *
+ * The export schema is fixed, so instead of tokenizing all of the XML the scanner jumps from tag to tag in the raw
+ * UTF-8 bytes and only decodes the content of the elements it extracts: title, ns, id, timestamp, model, format and text.
+ * Everything else, including the text of rejected pages, is skipped without creating any objects.
+ *
+ * The pages produced are the same as the ones produced by {@link XmlDumpParser}, the differences are that
+ * DTDs are not supported and that the trailing &lt;/mediawiki&gt; of the last multistream block is simply ignored.
+ */
+public class XmlDumpScanner implements PageParser {
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+    private static final int DEFAULT_BUFFER_SIZE = 256 * 1024;
+
+    private static final int EOF = -1;
+    private static final int START = 1;
+    private static final int END = 2;
+    private static final int EMPTY = 3;
+
+    private static final int OTHER = 0;
+    private static final int PAGE = 1;
+    private static final int TITLE = 2;
+    private static final int NS = 3;
+    private static final int ID = 4;
+    private static final int REDIRECT = 5;
+    private static final int REVISION = 6;
+    private static final int TIMESTAMP = 7;
+    private static final int TEXT = 8;
+    private static final int MODEL = 9;
+    private static final int FORMAT = 10;
+    private static final int SITEINFO = 11;
+
+    /** Element names, the index + 1 is the element constant */
+    private static final byte[][] NAMES = {
+            bytes("page"), bytes("title"), bytes("ns"), bytes("id"), bytes("redirect"), bytes("revision"),
+            bytes("timestamp"), bytes("text"), bytes("model"), bytes("format"), bytes("siteinfo")
+    };
+
+    private static final byte[] PI_END = bytes("?>");
+    private static final byte[] COMMENT_END = bytes("-->");
+    private static final byte[] CDATA_START = bytes("<![CDATA[");
+    private static final byte[] CDATA_END = bytes("]]>");
+    private static final byte[] DECL_END = bytes(">");
+
+    private final Header header;
+    private final InputStream input;
+    private byte[] buffer;
+    private int position;
+    private int limit;
+
+    /** Start of the bytes that must be kept when the buffer is refilled, -1 to keep nothing before the position */
+    private int mark = -1;
+
+    /** Copy of all consumed bytes while reading the header */
+    private ByteArrayOutputStream capture = null;
+    private int captureFrom = 0;
+
+    private byte[] scratch = new byte[1024];
+    private int scratchLength;
+
+    private int tagType;
+    private int tagName;
+
+    private PagePredicate predicate = null;
+
+    //Page state variables
+    private int pageExtractMode = 0;
+    private String pageTitle = "";
+    private String pageText = "";
+    private int pageNamespace = 0;
+    private boolean pageRedirect = false;
+    private long pageTimestamp = 0;
+    private String pageFormat = "";
+    private long wikiPageId = -1;
+
+    /**
+     * Standalone constructor, reads the header from the stream
+     * @param xmlInput the stream to read from
+     */
+    public XmlDumpScanner(InputStream xmlInput) {
+        this(null, xmlInput, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Constructor used by Multistream parser
+     * @param header   parsed header
+     * @param xmlInput decompressed stream of pages
+     */
+    public XmlDumpScanner(Header header, InputStream xmlInput) {
+        this(header, xmlInput, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Scan decompressed pages in memory, the array is used as is without copying
+     * @param header parsed header
+     * @param xml    the decompressed pages
+     */
+    public XmlDumpScanner(Header header, byte[] xml) {
+        this(header, xml, 0, xml.length);
+    }
+
+    /**
+     * Scan decompressed pages in a part of an array, the array is used as is without copying
+     * @param header parsed header
+     * @param xml    the array
+     * @param offset the start of the pages
+     * @param length the number of bytes
+     */
+    public XmlDumpScanner(Header header, byte[] xml, int offset, int length) {
+        this.input = null;
+        this.buffer = xml;
+        this.position = offset;
+        this.limit = offset + length;
+        this.header = header != null ? header : readHeader();
+    }
+
+    /**
+     * Stream constructor with a specific initial buffer size, the buffer grows to fit the largest element text.
+     * @param header     parsed header, null to read it from the stream
+     * @param xmlInput   the stream to read from
+     * @param bufferSize initial buffer size
+     */
+    XmlDumpScanner(Header header, InputStream xmlInput, int bufferSize) {
+        this.input = xmlInput;
+        this.buffer = new byte[bufferSize];
+        this.header = header != null ? header : readHeader();
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(UTF8);
+    }
+
+    private static IOError unexpectedEof() {
+        return new IOError(new EOFException("Unexpected end of xml dump"));
+    }
+
+    @Override
+    public void setPredicate(PagePredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    /**
+     * Parse the header, which ends with the siteinfo element, using {@link XmlDumpParser#readHeaderStream(InputStream)}.
+     * @return header
+     */
+    private Header readHeader() {
+        try {
+            capture = new ByteArrayOutputStream();
+            captureFrom = position;
+
+            int type;
+            while( (type = nextTag()) != EOF) {
+                if(type == END && tagName == SITEINFO)
+                    break;
+                else if(type != END && tagName == PAGE)
+                    throw new IOError(new IllegalArgumentException("Did not find siteinfo before the first page."));
+            }
+
+            if(type == EOF)
+                throw new IOError(new IllegalArgumentException("Did not find siteinfo in the header."));
+
+            capture.write(buffer, captureFrom, position - captureFrom);
+            byte[] headerXml = capture.toByteArray();
+            capture = null;
+
+            return XmlDumpParser.readHeaderStream(new ByteArrayInputStream(headerXml));
+        } catch (IOException e) {
+            throw new IOError(e);
+        }
+    }
+
+    /**
+     * Read more data into the buffer, everything before the mark (or the position if no mark is set) is discarded.
+     * @return false if the end of the stream has been reached
+     * @throws IOException
+     */
+    private boolean fill() throws IOException {
+        if(input == null)
+            return false;
+
+        int keep = mark == -1 ? position : mark;
+        if(keep > 0) {
+            if(capture != null) {
+                capture.write(buffer, captureFrom, keep - captureFrom);
+                captureFrom = 0;
+            }
+
+            System.arraycopy(buffer, keep, buffer, 0, limit - keep);
+            limit -= keep;
+            position -= keep;
+            if(mark != -1)
+                mark -= keep;
+        }
+
+        if(limit == buffer.length)
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+
+        int read = input.read(buffer, limit, buffer.length - limit);
+        if(read == -1)
+            return false;
+
+        limit += read;
+        return true;
+    }
+
+    /**
+     * Make sure that at least n bytes are available after the position
+     * @return false if the stream ends before
+     */
+    private boolean require(int n) throws IOException {
+        while(limit - position < n) {
+            if(!fill())
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Move the position to the next occurrence of a byte
+     * @return false if the stream ended before it was found
+     */
+    private boolean skipTo(byte b) throws IOException {
+        while(true) {
+            final byte[] buf = buffer;
+            final int end = limit;
+            int p = position;
+            while(p < end) {
+                if(buf[p] == b) {
+                    position = p;
+                    return true;
+                }
+                p++;
+            }
+
+            position = p;
+            if(!fill())
+                return false;
+        }
+    }
+
+    /**
+     * Move the position directly after the next occurrence of a byte sequence
+     */
+    private void skipPast(byte[] sequence) throws IOException {
+        while(true) {
+            if(!skipTo(sequence[0]) || !require(sequence.length))
+                throw unexpectedEof();
+
+            if(matches(sequence)) {
+                position += sequence.length;
+                return;
+            }
+
+            position++;
+        }
+    }
+
+    private boolean matches(byte[] sequence) {
+        for (int i = 0; i < sequence.length; i++) {
+            if(buffer[position + i] != sequence[i])
+                return false;
+        }
+        return true;
+    }
+
+    private int peek() throws IOException {
+        if(position == limit && !fill())
+            throw unexpectedEof();
+
+        return buffer[position];
+    }
+
+    private static boolean isNameEnd(int b) {
+        return b == '>' || b == '/' || b == ' ' || b == '\n' || b == '\t' || b == '\r';
+    }
+
+    private int lookupName(int start, int end) {
+        int length = end - start;
+        for (int i = 0; i < NAMES.length; i++) {
+            byte[] name = NAMES[i];
+            if(name.length != length)
+                continue;
+
+            int k = 0;
+            while(k < length && buffer[start + k] == name[k])
+                k++;
+
+            if(k == length)
+                return i + 1;
+        }
+
+        return OTHER;
+    }
+
+    /**
+     * Move to the next start, end or empty element tag, skipping character data, comments,
+     * processing instructions and declarations.
+     * @return the tag type, which is also stored in tagType together with the name in tagName
+     * @throws IOException
+     */
+    private int nextTag() throws IOException {
+        while(true) {
+            mark = -1;
+            if(!skipTo((byte)'<'))
+                return tagType = EOF;
+
+            mark = position;
+            if(!require(2))
+                throw unexpectedEof();
+
+            byte b = buffer[position + 1];
+            if(b == '?') {
+                position += 2;
+                skipPast(PI_END);
+                continue;
+            }
+            else if(b == '!') {
+                if(require(4) && buffer[position + 2] == '-' && buffer[position + 3] == '-') {
+                    position += 4;
+                    skipPast(COMMENT_END);
+                } else if(require(CDATA_START.length) && matches(CDATA_START)) {
+                    position += CDATA_START.length;
+                    skipPast(CDATA_END);
+                } else {
+                    position += 2;
+                    skipPast(DECL_END);
+                }
+                continue;
+            }
+
+            boolean end = b == '/';
+            position += end ? 2 : 1;
+
+            int nameOffset = position - mark;
+            while(!isNameEnd(peek()))
+                position++;
+
+            tagName = lookupName(mark + nameOffset, position);
+
+            //Attributes are not needed, find the end of the tag
+            boolean empty = false;
+            byte quote = 0;
+            while(true) {
+                b = (byte)peek();
+                if(quote != 0) {
+                    if(b == quote)
+                        quote = 0;
+                } else if(b == '"' || b == '\'') {
+                    quote = b;
+                } else if(b == '>') {
+                    break;
+                } else if(b == '/') {
+                    empty = true;
+                } else if(b != ' ' && b != '\n' && b != '\t' && b != '\r') {
+                    empty = false;
+                }
+                position++;
+            }
+
+            position++;
+            mark = -1;
+            return tagType = end ? END : (empty ? EMPTY : START);
+        }
+    }
+
+    /**
+     * Skip the rest of the current element including all children
+     */
+    private void skipElement() throws IOException {
+        if(tagType == EMPTY)
+            return;
+
+        int depth = 1;
+        while(depth > 0) {
+            switch (nextTag()) {
+                case START:
+                    depth++;
+                    break;
+                case END:
+                    depth--;
+                    break;
+                case EOF:
+                    throw unexpectedEof();
+            }
+        }
+    }
+
+    /**
+     * Read the text content of the current element and move past its end tag, the equivalent of
+     * XMLStreamReader.getElementText(): entities are replaced, CDATA is included and comments are dropped.
+     * @return the text
+     * @throws IOException
+     */
+    private String readElementText() throws IOException {
+        if(tagType == EMPTY)
+            return "";
+
+        scratchLength = 0;
+        boolean buffered = false;
+        mark = position;
+
+        while(true) {
+            boolean plain = true;
+            int p = position;
+
+            scan:
+            while(true) {
+                final byte[] buf = buffer;
+                final int end = limit;
+                while(p < end) {
+                    byte c = buf[p];
+                    if(c == '<')
+                        break scan;
+                    else if(c == '&' || c == '\r')
+                        plain = false;
+                    p++;
+                }
+
+                position = p;
+                if(!fill())
+                    throw unexpectedEof();
+                p = position;
+            }
+
+            position = p;
+            if(!require(2))
+                throw unexpectedEof();
+
+            byte b = buffer[position + 1];
+            if(b == '/' && !buffered) {
+                //Common case: text without comments and CDATA
+                String text;
+                if(plain) {
+                    text = new String(buffer, mark, position - mark, UTF8);
+                } else {
+                    appendDecoded(mark, position);
+                    text = new String(scratch, 0, scratchLength, UTF8);
+                }
+
+                nextTag();
+                return text;
+            }
+
+            appendDecoded(mark, position);
+            buffered = true;
+
+            if(b == '/') {
+                String text = new String(scratch, 0, scratchLength, UTF8);
+                nextTag();
+                return text;
+            }
+            else if(b == '!' && require(CDATA_START.length) && matches(CDATA_START)) {
+                position += CDATA_START.length;
+                mark = position;
+                skipPast(CDATA_END);
+                appendRaw(mark, position - CDATA_END.length);
+            }
+            else if(b == '!' && require(4) && buffer[position + 2] == '-' && buffer[position + 3] == '-') {
+                position += 4;
+                mark = position;
+                skipPast(COMMENT_END);
+            }
+            else if(b == '?') {
+                position += 2;
+                mark = position;
+                skipPast(PI_END);
+            }
+            else {
+                throw new IOError(new IOException("Expected text only element, but found a child element."));
+            }
+
+            mark = position;
+        }
+    }
+
+    private void ensureScratch(int additional) {
+        if(scratchLength + additional > scratch.length)
+            scratch = Arrays.copyOf(scratch, Math.max(scratch.length * 2, scratchLength + additional));
+    }
+
+    /**
+     * Append bytes as is except for line endings, which are normalized to \n.
+     */
+    private void appendRaw(int from, int to) {
+        ensureScratch(to - from);
+        for (int i = from; i < to; i++) {
+            byte b = buffer[i];
+            if(b == '\r') {
+                scratch[scratchLength++] = '\n';
+                if(i + 1 < to && buffer[i + 1] == '\n')
+                    i++;
+            }
+            else
+                scratch[scratchLength++] = b;
+        }
+    }
+
+    /**
+     * Append character data with entities replaced and line endings normalized,
+     * the output is never longer than the input.
+     */
+    private void appendDecoded(int from, int to) {
+        ensureScratch(to - from);
+        for (int i = from; i < to; i++) {
+            byte b = buffer[i];
+            if(b == '&') {
+                int end = i + 1;
+                while(end < to && buffer[end] != ';')
+                    end++;
+
+                if(end == to)
+                    throw new IOError(new IOException("Unterminated entity reference."));
+
+                appendEntity(i + 1, end);
+                i = end;
+            }
+            else if(b == '\r') {
+                scratch[scratchLength++] = '\n';
+                if(i + 1 < to && buffer[i + 1] == '\n')
+                    i++;
+            }
+            else
+                scratch[scratchLength++] = b;
+        }
+    }
+
+    private void appendEntity(int from, int to) {
+        int length = to - from;
+        if(length > 0 && buffer[from] == '#') {
+            int codepoint = 0;
+            boolean hex = length > 1 && buffer[from + 1] == 'x';
+            int digits = from + (hex ? 2 : 1);
+            for (int i = digits; i < to; i++) {
+                int digit = Character.digit(buffer[i], hex ? 16 : 10);
+                if(digit == -1 || codepoint > Character.MAX_CODE_POINT)
+                    throw new IOError(new IOException("Invalid character reference: " + new String(buffer, from, length, UTF8)));
+
+                codepoint = codepoint * (hex ? 16 : 10) + digit;
+            }
+
+            //no digits, out of range, surrogates and NUL are not characters
+            if(digits == to
+                    || codepoint == 0
+                    || codepoint > Character.MAX_CODE_POINT
+                    || (codepoint >= Character.MIN_SURROGATE && codepoint <= Character.MAX_SURROGATE))
+                throw new IOError(new IOException("Invalid character reference: " + new String(buffer, from, length, UTF8)));
+
+            appendCodepoint(codepoint);
+        }
+        else if(length == 2 && buffer[from] == 'l' && buffer[from + 1] == 't')
+            scratch[scratchLength++] = '<';
+        else if(length == 2 && buffer[from] == 'g' && buffer[from + 1] == 't')
+            scratch[scratchLength++] = '>';
+        else if(length == 3 && buffer[from] == 'a' && buffer[from + 1] == 'm' && buffer[from + 2] == 'p')
+            scratch[scratchLength++] = '&';
+        else if(length == 4 && buffer[from] == 'q' && buffer[from + 1] == 'u' && buffer[from + 2] == 'o' && buffer[from + 3] == 't')
+            scratch[scratchLength++] = '"';
+        else if(length == 4 && buffer[from] == 'a' && buffer[from + 1] == 'p' && buffer[from + 2] == 'o' && buffer[from + 3] == 's')
+            scratch[scratchLength++] = '\'';
+        else
+            throw new IOError(new IOException("Undeclared entity: " + new String(buffer, from, length, UTF8)));
+    }
+
+    private void appendCodepoint(int codepoint) {
+        if(codepoint < 0x80) {
+            scratch[scratchLength++] = (byte)codepoint;
+        } else if(codepoint < 0x800) {
+            scratch[scratchLength++] = (byte)(0xC0 | (codepoint >> 6));
+            scratch[scratchLength++] = (byte)(0x80 | (codepoint & 0x3F));
+        } else if(codepoint < 0x10000) {
+            scratch[scratchLength++] = (byte)(0xE0 | (codepoint >> 12));
+            scratch[scratchLength++] = (byte)(0x80 | ((codepoint >> 6) & 0x3F));
+            scratch[scratchLength++] = (byte)(0x80 | (codepoint & 0x3F));
+        } else {
+            scratch[scratchLength++] = (byte)(0xF0 | (codepoint >> 18));
+            scratch[scratchLength++] = (byte)(0x80 | ((codepoint >> 12) & 0x3F));
+            scratch[scratchLength++] = (byte)(0x80 | ((codepoint >> 6) & 0x3F));
+            scratch[scratchLength++] = (byte)(0x80 | (codepoint & 0x3F));
+        }
+    }
+
+    /**
+     * Parse a timestamp, the dumps always use yyyy-MM-ddTHH:mm:ssZ, other formats fall back to the xsd:dateTime parser.
+     * @param timestamp the timestamp
+     * @return milliseconds since the epoch
+     */
+    static long parseTimestamp(String timestamp) {
+        if(timestamp.length() == 20
+                && timestamp.charAt(4) == '-' && timestamp.charAt(7) == '-' && timestamp.charAt(10) == 'T'
+                && timestamp.charAt(13) == ':' && timestamp.charAt(16) == ':' && timestamp.charAt(19) == 'Z') {
+            int year = digits(timestamp, 0, 4);
+            int month = digits(timestamp, 5, 2);
+            int day = digits(timestamp, 8, 2);
+            int hour = digits(timestamp, 11, 2);
+            int minute = digits(timestamp, 14, 2);
+            int second = digits(timestamp, 17, 2);
+
+            if(year > 1582 && month >= 1 && month <= 12 && day >= 1 && day <= 31 && hour < 24 && minute < 60 && second < 60) {
+                //Days since the epoch in the proleptic gregorian calendar
+                int y = month <= 2 ? year - 1 : year;
+                int era = y / 400;
+                int yoe = y - era * 400;
+                int doy = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+                int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+                long days = era * 146097L + doe - 719468L;
+
+                return ((days * 24 + hour) * 60 + minute) * 60000L + second * 1000L;
+            }
+        }
+
+        Calendar c = javax.xml.bind.DatatypeConverter.parseDate(timestamp);
+        return c.getTimeInMillis();
+    }
+
+    private static int digits(String text, int start, int length) {
+        int value = 0;
+        for (int i = start; i < start + length; i++) {
+            char c = text.charAt(i);
+            if(c < '0' || c > '9')
+                return -1;
+
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private boolean accept() {
+        return predicate == null || predicate.accept(wikiPageId, pageNamespace, pageTitle, pageRedirect);
+    }
+
+    private void resetPage() {
+        pageExtractMode = 0;
+        pageTitle = "";
+        pageText = "";
+        pageNamespace = 0;
+        pageRedirect = false;
+        pageTimestamp = 0;
+        wikiPageId = -1;
+        pageFormat = "";
+    }
+
+    private Page getPage() {
+        Page page = new Page(header, wikiPageId, pageTitle, pageText, pageTimestamp, pageNamespace, pageFormat);
+        resetPage();
+        return page;
+    }
+
+    /**
+     * Process a start tag, the same state machine as {@link XmlDumpParser}
+     * @return true if the element has been consumed including its end tag
+     */
+    private boolean processStart() throws IOException {
+        switch (pageExtractMode) {
+            case 0: //looking for a page
+                if(tagName == PAGE)
+                    pageExtractMode = 1;
+                break;
+            case 1: //found page content, extract page centric info
+                switch (tagName) {
+                    case TITLE:
+                        pageTitle = readElementText();
+                        return true;
+                    case NS:
+                        pageNamespace = Integer.parseInt(readElementText());
+                        return true;
+                    case ID:
+                        String id = readElementText();
+                        try
+                        {
+                            wikiPageId = Long.parseLong(id);
+                        } catch(NumberFormatException nfe) {
+                            nfe.printStackTrace();
+                        }
+                        return true;
+                    case REDIRECT:
+                        pageRedirect = true;
+                        break;
+                    case REVISION:
+                        if(!accept()) {
+                            pageExtractMode = 3;
+                            skipElement();
+                            return true;
+                        }
+
+                        pageExtractMode = 2;
+                        break;
+                }
+                break;
+            case 2: //revision content found, read that
+                switch (tagName) {
+                    case TIMESTAMP:
+                        String timestamp = readElementText();
+                        try {
+                            pageTimestamp = parseTimestamp(timestamp);
+                        }
+                        catch(Exception ex) {
+                            ex.printStackTrace();
+                        }
+                        return true;
+                    case TEXT:
+                        pageText = readElementText();
+                        return true;
+                    case MODEL:
+                        readElementText();
+                        return true;
+                    case FORMAT:
+                        pageFormat = readElementText();
+                        return true;
+                }
+                break;
+            case 3: //rejected page, skip everything until the page ends
+                skipElement();
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Process an end tag
+     * @return a completed page or null
+     */
+    private Page processEnd() {
+        switch (pageExtractMode) {
+            case 1:
+                if(tagName == PAGE) {
+                    if(accept())
+                        return getPage();
+                    else
+                        resetPage();
+                }
+                break;
+            case 2:
+                if(tagName == PAGE)
+                    return getPage();
+                else if(tagName == REVISION)
+                    pageExtractMode = 1;
+                break;
+            case 3:
+                if(tagName == PAGE)
+                    resetPage();
+                break;
+        }
+
+        return null;
+    }
+
+    @Override
+    public Page next() {
+        try {
+            while(true) {
+                Page page = null;
+                switch (nextTag()) {
+                    case EOF:
+                        return null;
+                    case START:
+                        processStart();
+                        break;
+                    case END:
+                        page = processEnd();
+                        break;
+                    case EMPTY:
+                        if(!processStart())
+                            page = processEnd();
+                        break;
+                }
+
+                if(page != null)
+                    return page;
+            }
+        } catch (IOException e) {
+            throw new IOError(e);
+        }
+    }
+}
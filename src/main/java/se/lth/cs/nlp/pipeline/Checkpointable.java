@@ -0,0 +1,39 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.pipeline;
+
+import java.util.Properties;
+
+/**
+ * Sink that can make its output durable at a checkpoint and continue from it after a restart.
+ */
+public interface Checkpointable {
+
+    /**
+     * Make everything received so far durable and save the state needed to continue from this point.
+     * @param state the checkpoint, add state to it
+     * @remarks only called when no batches are in flight.
+     */
+    public void checkpoint(Properties state);
+
+    /**
+     * Continue from a checkpoint, discards output received after it was taken.
+     * @param state the checkpoint
+     * @remarks called before the first batch is received.
+     */
+    public void restore(Properties state);
+}
@@ -0,0 +1,34 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.pipeline;
+
+import java.io.File;
+
+/**
+ * Source that can periodically checkpoint its progress together with a sink, and resume from the last checkpoint.
+ */
+public interface CheckpointedSource<TOutput,TError> extends Source<TOutput,TError> {
+
+    /**
+     * Enable checkpoints, must be called before run.
+     * @param checkpointFile where the checkpoint is stored
+     * @param interval minimum time between checkpoints in milliseconds
+     * @param target the sink that is checkpointed together with the source
+     * @param resume continue from the checkpoint in checkpointFile
+     */
+    public void setCheckpoint(File checkpointFile, long interval, Checkpointable target, boolean resume);
+}
@@ -0,0 +1,109 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.pipeline;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Reordering sink, buffers batches emitted out of order and releases them to the target in sequence order.
+ *
+ * Batches that are emitted outside of a sequence (such as the end signal) are passed through directly.
+ */
+public class OrderedSink<T> implements Sink<T>, Sequencer {
+    private final Sink<T> target;
+    private final int maxAhead;
+    private final ThreadLocal<Long> current = new ThreadLocal<Long>();
+    private final HashMap<Long,ArrayList<List<T>>> pending = new HashMap<Long, ArrayList<List<T>>>();
+    private final HashSet<Long> completed = new HashSet<Long>();
+    private long next = 0;
+
+    /**
+     * Default constructor
+     * @param target the sink to release batches to
+     * @param maxAhead how many sequence numbers ahead of the oldest incomplete one a thread may begin,
+     *                 bounds the memory used by buffered batches.
+     */
+    public OrderedSink(Sink<T> target, int maxAhead) {
+        if(maxAhead < 1)
+            throw new IllegalArgumentException("maxAhead must be > 0");
+
+        this.target = target;
+        this.maxAhead = maxAhead;
+    }
+
+    @Override
+    public synchronized void begin(long sequence) {
+        while(sequence - next >= maxAhead) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        current.set(sequence);
+    }
+
+    @Override
+    public synchronized void complete(long sequence) {
+        current.remove();
+        completed.add(sequence);
+
+        while(completed.remove(next)) {
+            next++;
+
+            ArrayList<List<T>> batches = pending.remove(next);
+            if(batches != null) {
+                for (List<T> batch : batches) {
+                    target.process(batch);
+                }
+            }
+        }
+
+        notifyAll();
+    }
+
+    @Override
+    public synchronized void process(List<T> batch) {
+        Long sequence = current.get();
+        if(sequence == null) {
+            target.process(batch);
+        }
+        else if(batch.size() > 0) {
+            if(sequence == next) {
+                target.process(batch);
+            }
+            else {
+                ArrayList<List<T>> batches = pending.get(sequence);
+                if(batches == null) {
+                    batches = new ArrayList<List<T>>();
+                    pending.put(sequence, batches);
+                }
+
+                batches.add(batch);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Ordered { max ahead: %s, target: %s }", maxAhead, target);
+    }
+}
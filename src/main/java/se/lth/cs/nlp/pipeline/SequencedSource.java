@@ -0,0 +1,30 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.pipeline;
+
+/**
+ * Source that emits batches concurrently, but can report the sequence of its output
+ * so that it can be put back in order further down the pipeline.
+ */
+public interface SequencedSource<TOutput,TError> extends Source<TOutput,TError> {
+
+    /**
+     * Set the sequencer to report to, must be called before run.
+     * @param sequencer the sequencer
+     */
+    public void setSequencer(Sequencer sequencer);
+}
@@ -0,0 +1,38 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.pipeline;
+
+/**
+ * Sequencer, receives the sequence number of the unit of work a thread is about to emit.
+ *
+ * All batches emitted by a thread between begin and complete belong to that sequence number.
+ */
+public interface Sequencer {
+
+    /**
+     * Start emitting batches for a sequence number
+     * @param sequence the sequence number, starts at 0 and every number must be used once
+     * @remarks might block until the sequence is allowed to proceed.
+     */
+    public void begin(long sequence);
+
+    /**
+     * All batches for the current sequence number of this thread have been emitted
+     * @param sequence the sequence number
+     */
+    public void complete(long sequence);
+}
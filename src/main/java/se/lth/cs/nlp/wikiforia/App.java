@@ -23,21 +23,25 @@ import org.slf4j.LoggerFactory;
 import se.lth.cs.nlp.io.PlainTextWikipediaPageWriter;
 import se.lth.cs.nlp.io.SimpleHadoopTextWriter;
 import se.lth.cs.nlp.io.XmlWikipediaPageWriter;
+import se.lth.cs.nlp.mediawiki.model.Header;
 import se.lth.cs.nlp.mediawiki.model.Page;
 import se.lth.cs.nlp.mediawiki.model.WikipediaPage;
-import se.lth.cs.nlp.mediawiki.parser.MultistreamBzip2XmlDumpParser;
-import se.lth.cs.nlp.mediawiki.parser.SinglestreamXmlDumpParser;
+import se.lth.cs.nlp.mediawiki.parser.*;
 import se.lth.cs.nlp.pipeline.Filter;
 import se.lth.cs.nlp.pipeline.Sink;
 import se.lth.cs.nlp.pipeline.Source;
-import se.lth.cs.nlp.wikipedia.lang.EnglishConfig;
 import se.lth.cs.nlp.wikipedia.lang.LangFactory;
+import se.lth.cs.nlp.wikipedia.lang.ResourceConfig;
+import se.lth.cs.nlp.wikipedia.lang.SiteinfoConfig;
 import se.lth.cs.nlp.wikipedia.lang.TemplateConfig;
+import se.lth.cs.nlp.wikipedia.parser.TemplateExpansion;
+import se.lth.cs.nlp.wikipedia.parser.TemplateStore;
 
-import java.io.File;
-import java.io.IOError;
-import java.io.IOException;
+import java.io.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -74,6 +78,43 @@ public class App
             .withDescription("set the size of a batch, defaults to 100")
             .create("batchsize");
 
+    @SuppressWarnings("static-access")
+    private static final Option batchBytes = OptionBuilder.withLongOpt("batch-bytes")
+            .hasArg()
+            .withArgName("KiB")
+            .withDescription("also limit a batch by the size of its pages (title and text), a batch ends at whichever limit is reached first")
+            .create("batchbytes");
+
+    @SuppressWarnings("static-access")
+    private static final Option hugePages = OptionBuilder.withLongOpt("huge-pages")
+            .hasArg()
+            .withArgName("chars[,threads]")
+            .withDescription("parse pages with more chars than this on a separate lane of threads (defaults to 1 thread), so that they do not hold up the other pages")
+            .create("hugepages");
+
+    @SuppressWarnings("static-access")
+    private static final Option parseBudget = OptionBuilder.withLongOpt("parse-budget")
+            .hasArg()
+            .withArgName("ms")
+            .withDescription("give up on the parse of a page after this many milliseconds, the page is reported as failed")
+            .create("parsebudget");
+
+    @SuppressWarnings("static-access")
+    private static final Option slowPages = OptionBuilder.withLongOpt("slow-pages")
+            .hasArg()
+            .withArgName("n")
+            .withDescription("log the n pages that took the longest time to parse when finished")
+            .create("slowpages");
+
+    @SuppressWarnings("static-access")
+    private static final Option expandTemplates = OptionBuilder.withLongOpt("expand-templates")
+            .hasOptionalArg()
+            .withArgName("depth[,ms]")
+            .withDescription("expand templates with the template pages of the dump, which are read in a first pass over the dump. Templates deeper than depth (defaults to "
+                             + TemplateExpansion.DEFAULT_MAX_DEPTH + ") or after ms milliseconds of a page (defaults to "
+                             + TemplateExpansion.DEFAULT_BUDGET + ", 0 for no limit) are not expanded")
+            .create("expandtemplates");
+
     @SuppressWarnings("static-access")
     private static final Option hadoop = OptionBuilder.withLongOpt("use-hadoop-format")
             .withDescription("use splits and a simple but hadoop friendly output format")
@@ -84,18 +125,121 @@ public class App
             .withDescription("enable gzip compression of output (uses fast compression)")
             .create("gzip");
 
+    @SuppressWarnings("static-access")
+    private static final Option byteScanner = OptionBuilder.withLongOpt("byte-scanner")
+            .withDescription("parse the xml dump with the byte level scanner instead of the StAX parser")
+            .create("scanner");
+
     @SuppressWarnings("static-access")
     private static final Option filterNs = OptionBuilder.withLongOpt("filter-by-namespace-id")
                                                     .hasArg()
                                                     .withDescription("only include namespaces that match given numbers, separate by ',' for more than 1 filter")
                                                     .create("fns");
 
+    @SuppressWarnings("static-access")
+    private static final Option filterTitlePrefix = OptionBuilder.withLongOpt("filter-by-title-prefix")
+                                                    .hasArg()
+                                                    .withDescription("only include pages with titles that start with any of the given prefixes, separate by ','")
+                                                    .create("ftp");
+
+    @SuppressWarnings("static-access")
+    private static final Option skipRedirects = OptionBuilder.withLongOpt("skip-redirects")
+                                                    .withDescription("skip redirect pages")
+                                                    .create("noredirects");
+
     @SuppressWarnings("static-access")
     private static final Option splitsize = OptionBuilder.withLongOpt("split-size")
                                                     .hasArg()
                                                     .withDescription("set split size (defaults to 64 M UTF-8 chars), only applicable with hadoop, max value = 2 G")
                                                     .create("splitsize");
 
+    @SuppressWarnings("static-access")
+    private static final Option memoryMapped = OptionBuilder.withLongOpt("memory-mapped")
+                                                    .withDescription("memory map the pages file and let threads read their own blocks, only applicable with an index")
+                                                    .create("mmap");
+
+    @SuppressWarnings("static-access")
+    private static final Option ordered = OptionBuilder.withLongOpt("ordered")
+                                                    .withDescription("write pages in the same order as the dump, only applicable with an index")
+                                                    .create("ordered");
+
+    @SuppressWarnings("static-access")
+    private static final Option reorderWindow = OptionBuilder.withLongOpt("reorder-window")
+                                                    .hasArg()
+                                                    .withDescription("the number of blocks threads may run ahead when output is ordered, defaults to 64, bounds the memory used for reordering")
+                                                    .create("reorderwindow");
+
+    @SuppressWarnings("static-access")
+    private static final Option shardOption = OptionBuilder.withLongOpt("shard")
+                                                    .hasArg()
+                                                    .withArgName("k/N")
+                                                    .withDescription("only process shard k of N (k = 0 to N-1) of the dump, split names include the shard, only applicable with an index")
+                                                    .create("shard");
+
+    @SuppressWarnings("static-access")
+    private static final Option shardInterleaved = OptionBuilder.withLongOpt("shard-interleaved")
+                                                    .withDescription("shards take every N:th block instead of a contiguous range of blocks")
+                                                    .create("shardinterleaved");
+
+    @SuppressWarnings("static-access")
+    private static final Option lookupTitles = OptionBuilder.withLongOpt("lookup-titles")
+                                                    .hasArg()
+                                                    .withArgName("file")
+                                                    .withDescription("only convert the pages with the titles in this file (one per line), only applicable with an index")
+                                                    .create("lookuptitles");
+
+    @SuppressWarnings("static-access")
+    private static final Option lookupIds = OptionBuilder.withLongOpt("lookup-ids")
+                                                    .hasArg()
+                                                    .withArgName("file")
+                                                    .withDescription("only convert the pages with the page ids in this file (one per line), only applicable with an index")
+                                                    .create("lookupids");
+
+    @SuppressWarnings("static-access")
+    private static final Option whitelistTitles = OptionBuilder.withLongOpt("whitelist-titles")
+                                                    .hasArg()
+                                                    .withArgName("file")
+                                                    .withDescription("only parse the streams that contain the titles in this file (one per line) and only convert those pages, only applicable with an index")
+                                                    .create("whitelisttitles");
+
+    @SuppressWarnings("static-access")
+    private static final Option whitelistIds = OptionBuilder.withLongOpt("whitelist-ids")
+                                                    .hasArg()
+                                                    .withArgName("file")
+                                                    .withDescription("only parse the streams that contain the page ids in this file (one per line) and only convert those pages, only applicable with an index")
+                                                    .create("whitelistids");
+
+    @SuppressWarnings("static-access")
+    private static final Option bufferPool = OptionBuilder.withLongOpt("buffer-pool")
+                                                    .hasArg()
+                                                    .withArgName("MiB")
+                                                    .withDescription("the size of the pools of reused block buffers, 0 disables pooling, only applicable with an index, default: 64")
+                                                    .create("bufferpool");
+
+    @SuppressWarnings("static-access")
+    private static final Option directBuffers = OptionBuilder.withLongOpt("direct-buffers")
+                                                    .withDescription("read compressed blocks into direct buffers, only applicable with an index")
+                                                    .create("directbuffers");
+
+    @SuppressWarnings("static-access")
+    private static final Option stages = OptionBuilder.withLongOpt("stages")
+                                                    .hasArg()
+                                                    .withArgName("decode,parse,map")
+                                                    .withDescription("run decompression, xml parsing and the conversion as separate stages with these thread counts, only applicable with an index")
+                                                    .create("stages");
+
+    @SuppressWarnings("static-access")
+    private static final Option checkpoint = OptionBuilder.withLongOpt("checkpoint-interval")
+                                                    .hasArg()
+                                                    .withArgName("seconds")
+                                                    .withDescription("checkpoint the progress this often, defaults to 300 with resume, only applicable with hadoop and an index")
+                                                    .create("checkpoint");
+
+    @SuppressWarnings("static-access")
+    private static final Option resume = OptionBuilder.withLongOpt("resume")
+                                                    .withDescription("continue a failed conversion from its last checkpoint in the output directory")
+                                                    .create("resume");
+
     @SuppressWarnings("static-access")
     private static final Option testDecompression = OptionBuilder.withLongOpt("test")
                                                                  .create("test");
@@ -115,6 +259,18 @@ public class App
             .withArgName("language")
             .create("lang");
 
+    @SuppressWarnings("static-access")
+    private static final Option langConfig = OptionBuilder.withLongOpt("language-config")
+            .withDescription("language config file (see ResourceConfig) for a wiki without a built-in config, overrides -lang")
+            .hasArg()
+            .withArgName("path")
+            .create("langconfig");
+
+    @SuppressWarnings("static-access")
+    private static final Option noSiteinfo = OptionBuilder.withLongOpt("no-siteinfo")
+            .withDescription("do not add the namespaces of the dump header to the language config")
+            .create("nositeinfo");
+
     @SuppressWarnings("static-access")
     private static final Option outputFormatOption = OptionBuilder.withLongOpt("output-format")
             .withDescription("Output format : xml or plain-text")
@@ -180,18 +336,23 @@ public class App
                                      boolean gzip,
                                      ArrayList<Filter<WikipediaPage>> filters)
     {
-        Source<Page,Void> source;
-
-        if(indexPath == null)
-            source = new SinglestreamXmlDumpParser(pagesPath, batchsize);
-        else
-            source = new MultistreamBzip2XmlDumpParser(indexPath, pagesPath, batchsize, numThreads);
+        Source<Page,Void> source = openSource(indexPath, pagesPath, numThreads, batchsize, false);
 
         Pipeline pipeline = new Pipeline(source, new SimpleHadoopTextWriter(outputPath, splitsize, numThreads, gzip), config);
         pipeline.appendAllFilters(filters);
         pipeline.run();
     }
 
+    /**
+     * Get the checkpoint location of a hadoop conversion
+     * @param outputPath the output path
+     * @param splitTag the split tag, null for no tag
+     * @return checkpoint file
+     */
+    public static File getCheckpointFile(File outputPath, String splitTag) {
+        return new File(outputPath, splitTag == null ? "_checkpoint" : "_checkpoint-" + splitTag);
+    }
+
     /**
      * Used to invoke the conversion internally
      * @param config the language config
@@ -295,12 +456,7 @@ public class App
             ArrayList<Filter<WikipediaPage>> filters,
             String outputFormat)
     {
-        Source<Page,Void> source;
-
-        if(indexPath == null)
-            source = new SinglestreamXmlDumpParser(pagesPath, batchsize);
-        else
-            source = new MultistreamBzip2XmlDumpParser(indexPath, pagesPath, batchsize, numThreads);
+        Source<Page,Void> source = openSource(indexPath, pagesPath, numThreads, batchsize, false);
 
         Pipeline pipeline = new Pipeline(source, getSink(outputFormat, outputPath), config);
         pipeline.appendAllFilters(filters);
@@ -312,15 +468,70 @@ public class App
                             File pagesPath,
                             int numThreads,
                             int batchsize) {
-        Source<Page,Void> source;
+        test(config, openSource(indexPath, pagesPath, numThreads, batchsize, false));
+    }
+
+    public static void test(TemplateConfig config, Source<Page,Void> source) {
+        Pipeline pipeline = new Pipeline(source, null, config, true);
+        pipeline.run();
+    }
+
+    /**
+     * Read the non-empty lines of a UTF-8 text file
+     * @param file the file
+     * @return the trimmed lines
+     */
+    private static List<String> readLines(File file) {
+        ArrayList<String> lines = new ArrayList<String>();
+        try {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+            try {
+                String line;
+                while((line = reader.readLine()) != null) {
+                    if(!line.trim().isEmpty())
+                        lines.add(line.trim());
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (IOException e) {
+            throw new IOError(e);
+        }
+        return lines;
+    }
 
+    /**
+     * Open a page source for a dump
+     * @param indexPath the index path (might be null)
+     * @param pagesPath the pages path (must never be null)
+     * @param numThreads the number of threads to use
+     * @param batchsize the size of a batch
+     * @param memoryMapped memory map the pages file, only applicable with an index
+     * @return multistream source if there is an index, otherwise a singlestream source
+     */
+    public static Source<Page,Void> openSource(File indexPath, File pagesPath, int numThreads, int batchsize, boolean memoryMapped) {
         if(indexPath == null)
-            source = new SinglestreamXmlDumpParser(pagesPath, batchsize);
+            return new SinglestreamXmlDumpParser(pagesPath, batchsize, numThreads);
         else
-            source = new MultistreamBzip2XmlDumpParser(indexPath, pagesPath, batchsize, numThreads);
+            return new MultistreamBzip2XmlDumpParser(indexPath, pagesPath, batchsize, numThreads, memoryMapped);
+    }
 
-        Pipeline pipeline = new Pipeline(source, null, config, true);
-        pipeline.run();
+    /**
+     * Read the templates of a dump in a pass over the template namespace
+     * @param config the language config
+     * @param indexPath the index path (might be null)
+     * @param pagesPath the pages path (must never be null)
+     * @param numThreads the number of threads to use
+     * @param batchsize the size of a batch
+     * @param memoryMapped memory map the pages file, only applicable with an index
+     * @return complete template store
+     */
+    public static TemplateStore readTemplates(TemplateConfig config, File indexPath, File pagesPath, int numThreads, int batchsize, boolean memoryMapped) {
+        Source<Page,Void> source = openSource(indexPath, pagesPath, numThreads, batchsize, memoryMapped);
+        if(source instanceof FilteredDumpSource)
+            ((FilteredDumpSource)source).setPagePredicate(PagePredicates.namespaces(Collections.singleton(TemplateStore.TEMPLATE_NAMESPACE)));
+
+        return TemplateStore.build(config.get(), source);
     }
 
     /**
@@ -338,13 +549,37 @@ public class App
         options.addOption(pages);
         options.addOption(threads);
         options.addOption(batch);
+        options.addOption(batchBytes);
+        options.addOption(hugePages);
+        options.addOption(parseBudget);
+        options.addOption(slowPages);
+        options.addOption(expandTemplates);
         options.addOption(output);
         options.addOption(lang);
+        options.addOption(langConfig);
+        options.addOption(noSiteinfo);
         options.addOption(hadoop);
         options.addOption(gzip);
         options.addOption(testDecompression);
+        options.addOption(byteScanner);
         options.addOption(filterNs);
+        options.addOption(filterTitlePrefix);
+        options.addOption(skipRedirects);
         options.addOption(outputFormatOption);
+        options.addOption(memoryMapped);
+        options.addOption(ordered);
+        options.addOption(reorderWindow);
+        options.addOption(shardOption);
+        options.addOption(shardInterleaved);
+        options.addOption(lookupTitles);
+        options.addOption(lookupIds);
+        options.addOption(whitelistTitles);
+        options.addOption(whitelistIds);
+        options.addOption(bufferPool);
+        options.addOption(directBuffers);
+        options.addOption(stages);
+        options.addOption(checkpoint);
+        options.addOption(resume);
 
         CommandLineParser parser = new PosixParser();
         try {
@@ -354,6 +589,7 @@ public class App
             int batchsize = 100;
             int numThreads = Runtime.getRuntime().availableProcessors();
             String outputFormat = OUTPUT_FORMAT_DEFAULT;
+            int orderedWindow = 0;
 
             //Read batch size
             if(cmdline.hasOption(batch.getOpt())) {
@@ -365,6 +601,13 @@ public class App
                 numThreads = Integer.parseInt(cmdline.getOptionValue(threads.getOpt()));
             }
 
+            //Ordered output
+            if(cmdline.hasOption(ordered.getOpt())) {
+                orderedWindow = 64;
+                if(cmdline.hasOption(reorderWindow.getOpt()))
+                    orderedWindow = Integer.parseInt(cmdline.getOptionValue(reorderWindow.getOpt()));
+            }
+
             //Output format
             if(cmdline.hasOption(outputFormatOption.getOpt())) {
                 outputFormat = cmdline.getOptionValue(outputFormatOption.getOpt());
@@ -409,11 +652,24 @@ public class App
                 indexPath = null;
             }
 
+            Header header = null;
+            if(!cmdline.hasOption(noSiteinfo.getOpt())) {
+                try {
+                    header = XmlDumpParser.readHeader(pagesPath);
+                } catch (IOError e) {
+                    logger.warn("Could not read the dump header, continuing without siteinfo.", e);
+                }
+            }
+
             String langId;
             if(cmdline.hasOption(lang.getOpt()))
             {
                 langId = cmdline.getOptionValue(lang.getOpt());
             }
+            else if(header != null)
+            {
+                langId = header.getLang();
+            }
             else
             {
                 Pattern langmatcher = Pattern.compile("([a-z]{2})wiki-");
@@ -428,6 +684,7 @@ public class App
             }
 
             ArrayList<Filter<WikipediaPage>> filters = new ArrayList<Filter<WikipediaPage>>();
+            ArrayList<PagePredicate> predicates = new ArrayList<PagePredicate>();
             if(cmdline.hasOption(filterNs.getOpt())) {
                 String optionValue = cmdline.getOptionValue(filterNs.getOpt());
                 final TreeSet<Integer> ns = new TreeSet<Integer>();
@@ -436,6 +693,7 @@ public class App
                 }
 
                 if(ns.size() > 0) {
+                    predicates.add(PagePredicates.namespaces(ns));
                     filters.add(new Filter<WikipediaPage>() {
                         @Override
                         protected boolean accept(WikipediaPage item) {
@@ -450,42 +708,254 @@ public class App
                 }
             }
 
+            if(cmdline.hasOption(filterTitlePrefix.getOpt())) {
+                predicates.add(PagePredicates.titlePrefixes(Arrays.asList(cmdline.getOptionValue(filterTitlePrefix.getOpt()).split(","))));
+            }
+
+            if(cmdline.hasOption(skipRedirects.getOpt())) {
+                predicates.add(PagePredicates.noRedirects());
+            }
+
             TemplateConfig config;
-            Class<? extends TemplateConfig> configClazz = LangFactory.get(langId);
-            if(configClazz != null) {
-                try {
-                    config = configClazz.newInstance();
-                } catch (InstantiationException e) {
-                    throw new RuntimeException(e);
-                } catch (IllegalAccessException e) {
-                    throw new RuntimeException(e);
-                }
-            } else {
-                config = new EnglishConfig();
+            if(cmdline.hasOption(langConfig.getOpt()))
+                config = new ResourceConfig(new File(cmdline.getOptionValue(langConfig.getOpt())));
+            else
+                config = LangFactory.getConfig(langId);
+
+            if(config == null) {
+                config = LangFactory.getConfig("en");
                 logger.error("language {} is not yet supported and will be defaulted to a English setting for Sweble.", langId);
                 langId = "en";
             }
 
-            if(cmdline.hasOption(hadoop.getOpt())) {
-                if(outputPath.exists()) {
-                    logger.error("The target location already exists, please remove before using the tool!");
+            if(header != null) {
+                if(!cmdline.hasOption(langConfig.getOpt()) && langId.equals(header.getLang()))
+                    config = LangFactory.getConfig(header);
+                else
+                    config = new SiteinfoConfig(header, config);
+
+                logger.info("Namespaces of {} added from the dump header.", header.getSiteinfo().getDbname());
+            }
+
+            long maxBatchBytes = 0;
+            if(cmdline.hasOption(batchBytes.getOpt()))
+                maxBatchBytes = Long.parseLong(cmdline.getOptionValue(batchBytes.getOpt())) * 1024;
+
+            Source<Page,Void> source;
+            MultistreamPageLookup lookup = null;
+            if(cmdline.hasOption(lookupTitles.getOpt()) || cmdline.hasOption(lookupIds.getOpt())) {
+                if(indexPath == null) {
+                    logger.error("Page lookups require an index file.");
                     System.exit(1);
                 }
-                else {
+
+                ArrayList<String> titles = new ArrayList<String>();
+                if(cmdline.hasOption(lookupTitles.getOpt()))
+                    titles.addAll(readLines(new File(cmdline.getOptionValue(lookupTitles.getOpt()))));
+
+                ArrayList<Long> ids = new ArrayList<Long>();
+                if(cmdline.hasOption(lookupIds.getOpt())) {
+                    for (String id : readLines(new File(cmdline.getOptionValue(lookupIds.getOpt())))) {
+                        ids.add(Long.parseLong(id));
+                    }
+                }
+
+                lookup = new MultistreamPageLookup(indexPath, pagesPath);
+                source = lookup.source(ids, titles, batchsize, maxBatchBytes);
+            }
+            else
+                source = openSource(indexPath, pagesPath, numThreads, batchsize, cmdline.hasOption(memoryMapped.getOpt()));
+
+            //Evaluated by the dump parser, the namespace filter above also covers other sources
+            if(!predicates.isEmpty()) {
+                if(source instanceof FilteredDumpSource)
+                    ((FilteredDumpSource)source).setPagePredicate(PagePredicates.all(predicates));
+                else if(cmdline.hasOption(filterTitlePrefix.getOpt()) || cmdline.hasOption(skipRedirects.getOpt()))
+                    logger.warn("Title prefix and redirect filters are not supported by {}, ignored.", source.getClass().getSimpleName());
+            }
+
+            if(maxBatchBytes > 0) {
+                if(source instanceof SinglestreamXmlDumpParser)
+                    ((SinglestreamXmlDumpParser)source).setBatchBytes(maxBatchBytes);
+                else if(source instanceof MultistreamBzip2XmlDumpParser)
+                    ((MultistreamBzip2XmlDumpParser)source).setBatchBytes(maxBatchBytes);
+            }
+
+            if(cmdline.hasOption(byteScanner.getOpt())) {
+                if(source instanceof SinglestreamXmlDumpParser)
+                    ((SinglestreamXmlDumpParser)source).setByteScanner(true);
+                else if(source instanceof MultistreamBzip2XmlDumpParser)
+                    ((MultistreamBzip2XmlDumpParser)source).setByteScanner(true);
+                else
+                    logger.warn("The byte scanner is not supported by {}, ignored.", source.getClass().getSimpleName());
+            }
+
+            int hugePageThreshold = 0;
+            int hugePageThreads = 0;
+            if(cmdline.hasOption(hugePages.getOpt())) {
+                String[] laneSpec = cmdline.getOptionValue(hugePages.getOpt()).split(",");
+                if(laneSpec.length > 2)
+                    throw new ParseException("huge pages must be given as chars[,threads], e.g. 100000,2");
+
+                hugePageThreshold = Integer.parseInt(laneSpec[0].trim());
+                hugePageThreads = laneSpec.length == 2 ? Integer.parseInt(laneSpec[1].trim()) : 1;
+            }
+
+            long maxParseTime = 0;
+            if(cmdline.hasOption(parseBudget.getOpt()))
+                maxParseTime = Long.parseLong(cmdline.getOptionValue(parseBudget.getOpt()));
+
+            int slowPageReport = 0;
+            if(cmdline.hasOption(slowPages.getOpt()))
+                slowPageReport = Integer.parseInt(cmdline.getOptionValue(slowPages.getOpt()));
+
+            int maxTemplateDepth = TemplateExpansion.DEFAULT_MAX_DEPTH;
+            long templateBudget = TemplateExpansion.DEFAULT_BUDGET;
+            if(cmdline.hasOption(expandTemplates.getOpt()) && cmdline.getOptionValue(expandTemplates.getOpt()) != null) {
+                String[] expansionSpec = cmdline.getOptionValue(expandTemplates.getOpt()).split(",");
+                if(expansionSpec.length > 2)
+                    throw new ParseException("expand templates must be given as depth[,ms], e.g. 40,1000");
+
+                maxTemplateDepth = Integer.parseInt(expansionSpec[0].trim());
+                if(expansionSpec.length == 2)
+                    templateBudget = Long.parseLong(expansionSpec[1].trim());
+            }
+
+            String splitTag = null;
+            if(cmdline.hasOption(shardOption.getOpt())) {
+                String[] shardSpec = cmdline.getOptionValue(shardOption.getOpt()).split("/");
+                if(shardSpec.length != 2)
+                    throw new ParseException("shard must be given as k/N, e.g. 0/4");
+
+                int shard = Integer.parseInt(shardSpec[0].trim());
+                int numShards = Integer.parseInt(shardSpec[1].trim());
+
+                if(!(source instanceof MultistreamBzip2XmlDumpParser)) {
+                    logger.error("Sharding requires an index file.");
+                    System.exit(1);
+                }
+
+                ((MultistreamBzip2XmlDumpParser)source).setShard(shard, numShards, cmdline.hasOption(shardInterleaved.getOpt()));
+                splitTag = "shard" + shard;
+            }
+
+            if(cmdline.hasOption(whitelistTitles.getOpt()) || cmdline.hasOption(whitelistIds.getOpt())) {
+                if(!(source instanceof MultistreamBzip2XmlDumpParser)) {
+                    logger.error("Whitelists require an index file.");
+                    System.exit(1);
+                }
+
+                ArrayList<String> titles = new ArrayList<String>();
+                if(cmdline.hasOption(whitelistTitles.getOpt()))
+                    titles.addAll(readLines(new File(cmdline.getOptionValue(whitelistTitles.getOpt()))));
+
+                ArrayList<Long> ids = new ArrayList<Long>();
+                if(cmdline.hasOption(whitelistIds.getOpt())) {
+                    for (String id : readLines(new File(cmdline.getOptionValue(whitelistIds.getOpt())))) {
+                        ids.add(Long.parseLong(id));
+                    }
+                }
+
+                ((MultistreamBzip2XmlDumpParser)source).setWhitelist(ids, titles);
+            }
+
+            if(cmdline.hasOption(bufferPool.getOpt()) || cmdline.hasOption(directBuffers.getOpt())) {
+                if(!(source instanceof MultistreamBzip2XmlDumpParser)) {
+                    logger.error("Buffer pools require an index file.");
+                    System.exit(1);
+                }
+
+                long poolSize = 64;
+                if(cmdline.hasOption(bufferPool.getOpt()))
+                    poolSize = Long.parseLong(cmdline.getOptionValue(bufferPool.getOpt()));
+
+                ((MultistreamBzip2XmlDumpParser)source).setBufferPool(poolSize * 1024 * 1024, cmdline.hasOption(directBuffers.getOpt()));
+            }
+
+            if(cmdline.hasOption(stages.getOpt())) {
+                String[] stageSpec = cmdline.getOptionValue(stages.getOpt()).split(",");
+                if(stageSpec.length != 3)
+                    throw new ParseException("stages must be given as decode,parse,map thread counts, e.g. 4,2,16");
+
+                if(!(source instanceof MultistreamBzip2XmlDumpParser)) {
+                    logger.error("Stages require an index file.");
+                    System.exit(1);
+                }
+
+                ((MultistreamBzip2XmlDumpParser)source).setStages(Integer.parseInt(stageSpec[0].trim()),
+                                                                  Integer.parseInt(stageSpec[1].trim()),
+                                                                  Integer.parseInt(stageSpec[2].trim()));
+            }
+
+            long checkpointInterval = 0;
+            if(cmdline.hasOption(checkpoint.getOpt()) || cmdline.hasOption(resume.getOpt())) {
+                checkpointInterval = 300 * 1000L;
+                if(cmdline.hasOption(checkpoint.getOpt()))
+                    checkpointInterval = Long.parseLong(cmdline.getOptionValue(checkpoint.getOpt())) * 1000L;
+
+                if(!cmdline.hasOption(hadoop.getOpt()) || !(source instanceof MultistreamBzip2XmlDumpParser)) {
+                    logger.error("Checkpoints require the hadoop format and an index file.");
+                    System.exit(1);
+                }
+            }
+
+            TemplateExpansion templateExpansion = null;
+            try {
+                if(cmdline.hasOption(hadoop.getOpt())) {
+                    if(cmdline.hasOption(resume.getOpt()) && !getCheckpointFile(outputPath, splitTag).exists()) {
+                        logger.error("There is no checkpoint to resume from in {}", outputPath.getAbsolutePath());
+                        System.exit(1);
+                    }
+                    else if(!cmdline.hasOption(resume.getOpt()) && outputPath.exists()) {
+                        logger.error("The target location already exists, please remove before using the tool!");
+                        System.exit(1);
+                    }
+                }
+                else if(cmdline.hasOption(testDecompression.getOpt())) {
+                    test(config, source);
+                    return;
+                }
+
+                //first pass, the templates are read from the whole dump regardless of shards and lookups
+                if(cmdline.hasOption(expandTemplates.getOpt()))
+                    templateExpansion = new TemplateExpansion(readTemplates(config, indexPath, pagesPath, numThreads, batchsize, cmdline.hasOption(memoryMapped.getOpt())), maxTemplateDepth, templateBudget);
+
+                Sink<WikipediaPage> sink;
+                if(cmdline.hasOption(hadoop.getOpt())) {
                     int splitsize = 64000000;
                     if(cmdline.hasOption(App.splitsize.getOpt())) {
                         splitsize = Integer.parseInt(cmdline.getOptionValue(App.splitsize.getOpt()));
                     }
 
-                    hadoopConvert(config, indexPath, pagesPath, outputPath, numThreads, batchsize, splitsize, cmdline.hasOption(gzip.getOpt()), filters);
+                    sink = new SimpleHadoopTextWriter(outputPath, splitsize, numThreads, cmdline.hasOption(gzip.getOpt()), splitTag, cmdline.hasOption(resume.getOpt()));
                 }
+                else
+                    sink = getSink(outputFormat, outputPath);
+
+                Pipeline pipeline = new Pipeline(source, sink, config);
+                pipeline.appendAllFilters(filters);
+                pipeline.enableOrderedOutput(orderedWindow);
+                if(checkpointInterval > 0)
+                    pipeline.enableCheckpoints(getCheckpointFile(outputPath, splitTag), checkpointInterval, cmdline.hasOption(resume.getOpt()));
+
+                if(hugePageThreads > 0)
+                    pipeline.enableHugePageLane(hugePageThreshold, hugePageThreads);
+
+                pipeline.setParseBudget(maxParseTime);
+                pipeline.setSlowPageReport(slowPageReport);
+                pipeline.setTemplateExpansion(templateExpansion);
+                pipeline.run();
             }
-            else {
-                if(cmdline.hasOption(testDecompression.getOpt())) {
-                    test(config, indexPath, pagesPath, numThreads, batchsize);
-                }
-                else {
-                    convert(config,indexPath,pagesPath, outputPath, numThreads, batchsize, filters, outputFormat);
+            finally {
+                if(templateExpansion != null)
+                    templateExpansion.getStore().close();
+
+                if(lookup != null) {
+                    try {
+                        lookup.close();
+                    } catch (IOException e) {
+                        logger.warn("Could not close the page lookup.", e);
+                    }
                 }
             }
 
@@ -5,12 +5,15 @@ import org.apache.commons.lang3.time.DurationFormatUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import se.lth.cs.nlp.io.SimpleHadoopTextWriter;
+import se.lth.cs.nlp.mediawiki.model.FailedPage;
 import se.lth.cs.nlp.mediawiki.model.Page;
 import se.lth.cs.nlp.mediawiki.model.WikipediaPage;
 import se.lth.cs.nlp.pipeline.*;
 import se.lth.cs.nlp.wikipedia.lang.TemplateConfig;
 import se.lth.cs.nlp.wikipedia.parser.SwebleWikimarkupToText;
+import se.lth.cs.nlp.wikipedia.parser.TemplateExpansion;
 
+import java.io.File;
 import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -29,6 +32,15 @@ public class Pipeline {
     protected final ArrayList<Filter<WikipediaPage>> filters = new ArrayList<Filter<WikipediaPage>>();
     protected final TemplateConfig config;
     protected final boolean test;
+    protected int orderedWindow = 0;
+    protected File checkpointFile = null;
+    protected long checkpointInterval = 0;
+    protected boolean resume = false;
+    protected int hugePageThreshold = 0;
+    protected int hugePageThreads = 0;
+    protected long parseBudget = 0;
+    protected int slowPageReport = 0;
+    protected TemplateExpansion templateExpansion = null;
 
     public Pipeline(Source<Page, Void> source, Sink<WikipediaPage> target, TemplateConfig config) {
         this(source,target,config,false);
@@ -41,6 +53,60 @@ public class Pipeline {
         this.test = test;
     }
 
+    /**
+     * Write pages in dump order, only has an effect if the source emits out of order.
+     * @param maxAhead the number of blocks a worker may run ahead of the oldest unfinished block
+     */
+    public void enableOrderedOutput(int maxAhead) {
+        this.orderedWindow = maxAhead;
+    }
+
+    /**
+     * Periodically checkpoint the progress, requires a checkpointed source and a checkpointable target.
+     * @param checkpointFile where the checkpoint is stored
+     * @param interval minimum time between checkpoints in milliseconds
+     * @param resume continue from the checkpoint in checkpointFile
+     */
+    public void enableCheckpoints(File checkpointFile, long interval, boolean resume) {
+        this.checkpointFile = checkpointFile;
+        this.checkpointInterval = interval;
+        this.resume = resume;
+    }
+
+    /**
+     * Parse pages with more than threshold chars of content on a separate bounded executor.
+     * @param threshold pages with more chars than this are huge
+     * @param threads the number of threads parsing huge pages
+     */
+    public void enableHugePageLane(int threshold, int threads) {
+        this.hugePageThreshold = threshold;
+        this.hugePageThreads = threads;
+    }
+
+    /**
+     * Give up on pages that take longer than the budget to parse, these are counted as failed.
+     * @param budget the maximum parse time of a page in milliseconds
+     */
+    public void setParseBudget(long budget) {
+        this.parseBudget = budget;
+    }
+
+    /**
+     * Log the slowest pages and their parse times when finished.
+     * @param size the number of pages to report
+     */
+    public void setSlowPageReport(int size) {
+        this.slowPageReport = size;
+    }
+
+    /**
+     * Expand the templates of pages before the text is extracted.
+     * @param expansion the templates and the limits of the expansion, null for no expansion
+     */
+    public void setTemplateExpansion(TemplateExpansion expansion) {
+        this.templateExpansion = expansion;
+    }
+
     public void appendFilter(Filter<WikipediaPage> filter) {
         this.filters.add(filter);
     }
@@ -69,7 +135,22 @@ public class Pipeline {
         }
     }
 
+    @SuppressWarnings("unchecked")
     public void run() {
+        Sink<WikipediaPage> target = this.target;
+        if(checkpointFile != null) {
+            if(!(source instanceof CheckpointedSource) || !(target instanceof Checkpointable))
+                throw new IllegalArgumentException("Checkpoints are not supported by the source or the target.");
+
+            ((CheckpointedSource<Page,Void>)source).setCheckpoint(checkpointFile, checkpointInterval, (Checkpointable)target, resume);
+        }
+
+        if(orderedWindow > 0 && target != null && source instanceof SequencedSource) {
+            OrderedSink<WikipediaPage> ordered = new OrderedSink<WikipediaPage>(target, orderedWindow);
+            ((SequencedSource<Page,Void>)source).setSequencer(ordered);
+            target = ordered;
+        }
+
         logger.info("Source: {}", source.toString());
         logger.info("Target: {}", target == null ? " NULL " :  target.toString());
         logger.info("Filters: {}", filters.isEmpty() ? "None" : "{ " + StringUtils.join(filters, ", \n") + " }");
@@ -91,6 +172,23 @@ public class Pipeline {
             }
         };
 
+        SwebleWikimarkupToText parser = new SwebleWikimarkupToText(config);
+        if(hugePageThreads > 0) {
+            //without ordering or checkpoints a batch need not be completely emitted when the parser returns
+            boolean detached = orderedWindow == 0 && checkpointFile == null;
+            parser.enableHugePageLane(hugePageThreshold, hugePageThreads, hugePageThreads * 2, orderedWindow > 0, detached);
+            logger.info("Huge page lane: pages > {} chars parsed by {} threads{}", hugePageThreshold, hugePageThreads, detached ? ", detached" : "");
+        }
+
+        parser.setParseBudget(parseBudget);
+        parser.setSlowPageReport(slowPageReport);
+        if(parseBudget > 0)
+            logger.info("Parse budget: {} ms per page", parseBudget);
+
+        parser.setTemplateExpansion(templateExpansion);
+        if(templateExpansion != null)
+            logger.info("Templates expanded with {}", templateExpansion.getStore());
+
         Filter<WikipediaPage> filter;
         if(filters.size() > 0) {
             filter = new MergedFilter(filters);
@@ -134,7 +232,7 @@ public class Pipeline {
                             count.addAndGet(batch.size());
                         }
                     })
-                    .pipe(new SwebleWikimarkupToText(config))
+                    .pipe(parser)
                     .sendLog(new Sink<String>() {
                         @Override
                         public void process(List<String> batch) {
@@ -147,7 +245,10 @@ public class Pipeline {
                         @Override
                         public void process(List<Page> batch) {
                             for (Page page : batch) {
-                                logger.error("Failed to parse " + page.getTitle());
+                                if(page instanceof FailedPage)
+                                    logger.error("Failed to parse {}, {}: {}", page.getTitle(), ((FailedPage) page).getReason(), ((FailedPage) page).getMessage());
+                                else
+                                    logger.error("Failed to parse " + page.getTitle());
                             }
 
                             failcount.addAndGet(batch.size());
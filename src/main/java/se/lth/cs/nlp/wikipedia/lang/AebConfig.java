@@ -1,218 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class AebConfig extends TemplateConfig {
-	public AebConfig() {
-		addNamespaceAlias(-2, "ميديا", "وسائط");
-		addNamespaceAlias(-1, "خاص");
-		addNamespaceAlias(1, "نقاش");
-		addNamespaceAlias(2, "مستخدم", "مستخدم", "مستخدمة");
-		addNamespaceAlias(3, "نقاش_المستخدم", "نقاش_المستخدم", "نقاش_المستخدمة");
-		addNamespaceAlias(5, "نقاش_Wikipedia");
-		addNamespaceAlias(6, "ملف", "صورة");
-		addNamespaceAlias(7, "نقاش_الملف", "نقاش_الصورة");
-		addNamespaceAlias(8, "ميدياويكي");
-		addNamespaceAlias(9, "نقاش_ميدياويكي");
-		addNamespaceAlias(10, "قالب");
-		addNamespaceAlias(11, "نقاش_القالب");
-		addNamespaceAlias(12, "مساعدة");
-		addNamespaceAlias(13, "نقاش_المساعدة");
-		addNamespaceAlias(14, "تصنيف");
-		addNamespaceAlias(15, "نقاش_التصنيف");
-
-		addI18nCIAlias("redirect", "#تحويل", "#REDIRECT");
-		addI18nCIAlias("notoc", "__لافهرس__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__لامعرض__", "__NOGALLERY__");
-		addI18nCIAlias("forcetoc", "__لصق_فهرس__", "__FORCETOC__");
-		addI18nCIAlias("toc", "__فهرس__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__لاتحريرقسم__", "__NOEDITSECTION__");
-		addI18nAlias("currentmonth", "شهر_حالي", "شهر_حالي2", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonth1", "شهر_حالي1", "CURRENTMONTH1");
-		addI18nAlias("currentmonthname", "اسم_الشهر_الحالي", "CURRENTMONTHNAME");
-		addI18nAlias("currentmonthnamegen", "اسم_الشهر_الحالي_المولد", "CURRENTMONTHNAMEGEN");
-		addI18nAlias("currentmonthabbrev", "اختصار_الشهر_الحالي", "CURRENTMONTHABBREV");
-		addI18nAlias("currentday", "يوم_حالي", "CURRENTDAY");
-		addI18nAlias("currentday2", "يوم_حالي2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "اسم_اليوم_الحالي", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "عام_حالي", "CURRENTYEAR");
-		addI18nAlias("currenttime", "وقت_حالي", "CURRENTTIME");
-		addI18nAlias("currenthour", "ساعة_حالية", "CURRENTHOUR");
-		addI18nAlias("localmonth", "شهر_محلي", "شهر_محلي2", "LOCALMONTH", "LOCALMONTH2");
-		addI18nAlias("localmonth1", "شهر_محلي1", "LOCALMONTH1");
-		addI18nAlias("localmonthname", "اسم_الشهر_المحلي", "LOCALMONTHNAME");
-		addI18nAlias("localmonthnamegen", "اسم_الشهر_المحلي_المولد", "LOCALMONTHNAMEGEN");
-		addI18nAlias("localmonthabbrev", "اختصار_الشهر_المحلي", "LOCALMONTHABBREV");
-		addI18nAlias("localday", "يوم_محلي", "LOCALDAY");
-		addI18nAlias("localday2", "يوم_محلي2", "LOCALDAY2");
-		addI18nAlias("localdayname", "اسم_اليوم_المحلي", "LOCALDAYNAME");
-		addI18nAlias("localyear", "عام_محلي", "LOCALYEAR");
-		addI18nAlias("localtime", "وقت_محلي", "LOCALTIME");
-		addI18nAlias("localhour", "ساعة_محلية", "LOCALHOUR");
-		addI18nAlias("numberofpages", "عدد_الصفحات", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "عدد_المقالات", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "عدد_الملفات", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "عدد_المستخدمين", "NUMBEROFUSERS");
-		addI18nAlias("numberofactiveusers", "عدد_المستخدمين_النشطين", "NUMBEROFACTIVEUSERS");
-		addI18nAlias("numberofedits", "عدد_التعديلات", "NUMBEROFEDITS");
-		addI18nAlias("numberofviews", "عدد_المشاهدات", "NUMBEROFVIEWS");
-		addI18nAlias("pagename", "اسم_الصفحة", "PAGENAME");
-		addI18nAlias("pagenamee", "عنوان_الصفحة", "PAGENAMEE");
-		addI18nAlias("namespace", "نطاق", "NAMESPACE");
-		addI18nAlias("namespacee", "عنوان_نطاق", "NAMESPACEE");
-		addI18nAlias("namespacenumber", "عدد_نطاق", "NAMESPACENUMBER");
-		addI18nAlias("talkspace", "نطاق_النقاش", "TALKSPACE");
-		addI18nAlias("talkspacee", "عنوان_النقاش", "TALKSPACEE");
-		addI18nAlias("subjectspace", "نطاق_الموضوع", "نطاق_المقالة", "SUBJECTSPACE", "ARTICLESPACE");
-		addI18nAlias("subjectspacee", "عنوان_نطاق_الموضوع", "عنوان_نطاق_المقالة", "SUBJECTSPACEE", "ARTICLESPACEE");
-		addI18nAlias("fullpagename", "اسم_الصفحة_الكامل", "اسم_صفحة_كامل", "اسم_كامل", "FULLPAGENAME");
-		addI18nAlias("fullpagenamee", "عنوان_الصفحة_الكامل", "عنوان_صفحة_كامل", "FULLPAGENAMEE");
-		addI18nAlias("subpagename", "اسم_الصفحة_الفرعي", "SUBPAGENAME");
-		addI18nAlias("subpagenamee", "عنوان_الصفحة_الفرعي", "SUBPAGENAMEE");
-		addI18nAlias("rootpagename", "جذر_اسم_الصفحة", "ROOTPAGENAME");
-		addI18nAlias("basepagename", "اسم_الصفحة_الأساسي", "BASEPAGENAME");
-		addI18nAlias("basepagenamee", "عنوان_الصفحة_الأساسي", "BASEPAGENAMEE");
-		addI18nAlias("talkpagename", "اسم_صفحة_النقاش", "TALKPAGENAME");
-		addI18nAlias("talkpagenamee", "عنوان_صفحة_النقاش", "TALKPAGENAMEE");
-		addI18nAlias("subjectpagename", "اسم_صفحة_الموضوع", "اسم_صفحة_المقالة", "SUBJECTPAGENAME", "ARTICLEPAGENAME");
-		addI18nAlias("subjectpagenamee", "عنوان_صفحة_الموضوع", "عنوان_صفحة_المقالة", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE");
-		addI18nCIAlias("msg", "رسالة:", "MSG:");
-		addI18nCIAlias("subst", "نسخ:", "SUBST:");
-		addI18nCIAlias("safesubst", "نسخ_آمن:", "SAFESUBST:");
-		addI18nCIAlias("msgnw", "رسالة_بدون_تهيئة:", "MSGNW:");
-		addI18nAlias("img_thumbnail", "تصغير", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "تصغير=$1", "مصغر=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "يمين", "right");
-		addI18nAlias("img_left", "يسار", "left");
-		addI18nAlias("img_none", "بدون", "بلا", "none");
-		addI18nAlias("img_width", "$1بك", "$1عن", "$1px");
-		addI18nAlias("img_center", "مركز", "center", "centre");
-		addI18nAlias("img_framed", "إطار", "بإطار", "framed", "enframed", "frame");
-		addI18nAlias("img_frameless", "لاإطار", "frameless");
-		addI18nAlias("img_lang", "لغة=$1", "lang=$1");
-		addI18nAlias("img_page", "صفحة=$1", "صفحة_$1", "page=$1", "page $1");
-		addI18nAlias("img_upright", "معدول", "معدول=$1", "معدول_$1", "upright", "upright=$1", "upright $1");
-		addI18nAlias("img_border", "حدود", "border");
-		addI18nAlias("img_baseline", "خط_أساسي", "baseline");
-		addI18nAlias("img_sub", "فرعي", "sub");
-		addI18nAlias("img_super", "سوبر", "سب", "super", "sup");
-		addI18nAlias("img_top", "أعلى", "top");
-		addI18nAlias("img_text_top", "نص_أعلى", "text-top");
-		addI18nAlias("img_middle", "وسط", "middle");
-		addI18nAlias("img_bottom", "أسفل", "bottom");
-		addI18nAlias("img_text_bottom", "نص_أسفل", "text-bottom");
-		addI18nAlias("img_link", "وصلة=$1", "رابط=$1", "link=$1");
-		addI18nAlias("img_alt", "بديل=$1", "alt=$1");
-		addI18nAlias("img_class", "رتبة=$1", "class=$1");
-		addI18nCIAlias("int", "محتوى:", "INT:");
-		addI18nAlias("sitename", "اسم_الموقع", "SITENAME");
-		addI18nCIAlias("ns", "نط:", "NS:");
-		addI18nCIAlias("nse", "نطم:", "NSE:");
-		addI18nCIAlias("localurl", "مسار_محلي:", "LOCALURL:");
-		addI18nCIAlias("localurle", "عنوان_المسار_المحلي:", "LOCALURLE:");
-		addI18nCIAlias("articlepath", "مسار_المقالة", "ARTICLEPATH");
-		addI18nCIAlias("pageid", "رقم_صفحة", "PAGEID");
-		addI18nCIAlias("server", "خادم", "SERVER");
-		addI18nCIAlias("servername", "اسم_الخادم", "SERVERNAME");
-		addI18nCIAlias("scriptpath", "مسار_السكريبت", "مسار_سكريبت", "SCRIPTPATH");
-		addI18nCIAlias("stylepath", "مسار_الهيئة", "STYLEPATH");
-		addI18nCIAlias("grammar", "قواعد_اللغة:", "GRAMMAR:");
-		addI18nCIAlias("gender", "نوع:", "GENDER:");
-		addI18nCIAlias("notitleconvert", "__لاتحويل_عنوان__", "__لاتع__", "__NOTITLECONVERT__", "__NOTC__");
-		addI18nCIAlias("nocontentconvert", "__لاتحويل_محتوى__", "__لاتم__", "__NOCONTENTCONVERT__", "__NOCC__");
-		addI18nAlias("currentweek", "أسبوع_حالي", "CURRENTWEEK");
-		addI18nAlias("currentdow", "يوم_حالي_مأ", "CURRENTDOW");
-		addI18nAlias("localweek", "أسبوع_محلي", "LOCALWEEK");
-		addI18nAlias("localdow", "يوم_محلي_مأ", "LOCALDOW");
-		addI18nAlias("revisionid", "رقم_المراجعة", "REVISIONID");
-		addI18nAlias("revisionday", "يوم_المراجعة", "REVISIONDAY");
-		addI18nAlias("revisionday2", "يوم_المراجعة2", "REVISIONDAY2");
-		addI18nAlias("revisionmonth", "شهر_المراجعة", "REVISIONMONTH");
-		addI18nAlias("revisionmonth1", "شهر_المراجعة1", "REVISIONMONTH1");
-		addI18nAlias("revisionyear", "عام_المراجعة", "REVISIONYEAR");
-		addI18nAlias("revisiontimestamp", "طابع_وقت_المراجعة", "REVISIONTIMESTAMP");
-		addI18nAlias("revisionuser", "مستخدم_المراجعة", "REVISIONUSER");
-		addI18nAlias("revisionsize", "حجم_المراجعة", "REVISIONSIZE");
-		addI18nCIAlias("plural", "جمع:", "PLURAL:");
-		addI18nCIAlias("fullurl", "عنوان_كامل:", "FULLURL:");
-		addI18nCIAlias("fullurle", "مسار_كامل:", "FULLURLE:");
-		addI18nCIAlias("canonicalurl", "عنوان_قاعدة:", "CANONICALURL:");
-		addI18nCIAlias("canonicalurle", "مسار_قاعدة:", "CANONICALURLE:");
-		addI18nCIAlias("lcfirst", "عنوان_كبير:", "LCFIRST:");
-		addI18nCIAlias("ucfirst", "عنوان_صغير:", "UCFIRST:");
-		addI18nCIAlias("lc", "صغير:", "LC:");
-		addI18nCIAlias("uc", "كبير:", "UC:");
-		addI18nCIAlias("raw", "خام:", "RAW:");
-		addI18nAlias("displaytitle", "عرض_العنوان", "DISPLAYTITLE");
-		addI18nAlias("rawsuffix", "أر", "آر", "R");
-		addI18nAlias("newsectionlink", "__وصلة_قسم_جديد__", "__NEWSECTIONLINK__");
-		addI18nAlias("nonewsectionlink", "لا_وصلة_قسم_جديد__", "__NONEWSECTIONLINK__");
-		addI18nAlias("currentversion", "نسخة_حالية", "CURRENTVERSION");
-		addI18nCIAlias("urlencode", "كود_المسار:", "URLENCODE:");
-		addI18nCIAlias("anchorencode", "كود_الأنكور", "ANCHORENCODE");
-		addI18nAlias("currenttimestamp", "طابع_الوقت_الحالي", "CURRENTTIMESTAMP");
-		addI18nAlias("localtimestamp", "طابع_الوقت_المحلي", "LOCALTIMESTAMP");
-		addI18nAlias("directionmark", "علامة_الاتجاه", "علامة_اتجاه", "DIRECTIONMARK", "DIRMARK");
-		addI18nCIAlias("language", "#لغة:", "#LANGUAGE:");
-		addI18nAlias("contentlanguage", "لغة_المحتوى", "لغة_محتوى", "CONTENTLANGUAGE", "CONTENTLANG");
-		addI18nAlias("pagesinnamespace", "صفحات_في_نطاق:", "صفحات_في_نط:", "PAGESINNAMESPACE:", "PAGESINNS:");
-		addI18nAlias("numberofadmins", "عدد_الإداريين", "NUMBEROFADMINS");
-		addI18nCIAlias("formatnum", "صيغة_رقم", "FORMATNUM");
-		addI18nCIAlias("padleft", "باد_يسار", "PADLEFT");
-		addI18nCIAlias("padright", "باد_يمين", "PADRIGHT");
-		addI18nCIAlias("special", "خاص", "special");
-		addI18nCIAlias("speciale", "عنوان_خاص", "speciale");
-		addI18nAlias("defaultsort", "ترتيب_افتراضي:", "مفتاح_ترتيب_افتراضي:", "ترتيب_تصنيف_افتراضي:", "ترتيب_غيابي:", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:");
-		addI18nCIAlias("filepath", "مسار_الملف:", "FILEPATH:");
-		addI18nCIAlias("tag", "وسم", "tag");
-		addI18nAlias("hiddencat", "__تصنيف_مخفي__", "__HIDDENCAT__");
-		addI18nAlias("pagesincategory", "صفحات_في_التصنيف", "صفحات_في_تصنيف", "PAGESINCATEGORY", "PAGESINCAT");
-		addI18nAlias("pagesize", "حجم_الصفحة", "PAGESIZE");
-		addI18nAlias("index", "__فهرسة__", "__INDEX__");
-		addI18nAlias("noindex", "__لافهرسة__", "__NOINDEX__");
-		addI18nAlias("numberingroup", "عدد_في_المجموعة", "عدد_في_مجموعة", "NUMBERINGROUP", "NUMINGROUP");
-		addI18nAlias("staticredirect", "__تحويلة_إستاتيكية__", "__تحويلة_ساكنة__", "__STATICREDIRECT__");
-		addI18nAlias("protectionlevel", "مستوى_الحماية", "PROTECTIONLEVEL");
-		addI18nCIAlias("formatdate", "تهيئة_التاريخ", "تهيئة_تاريخ", "formatdate", "dateformat");
-		addI18nCIAlias("url_path", "مسار", "PATH");
-		addI18nCIAlias("url_wiki", "ويكي", "WIKI");
-		addI18nCIAlias("url_query", "استعلام", "QUERY");
-		addI18nCIAlias("defaultsort_noerror", "لاخطأ", "noerror");
-		addI18nCIAlias("defaultsort_noreplace", "لاتستبدل", "noreplace");
-		addI18nCIAlias("pagesincategory_all", "كل", "all");
-		addI18nCIAlias("pagesincategory_pages", "صفحات", "pages");
-		addI18nCIAlias("pagesincategory_subcats", "تصنيفات_فرعية", "subcats");
-		addI18nCIAlias("pagesincategory_files", "ملفات", "files");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://aeb.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "aeb";
-	}
-}
@@ -1,56 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class AkConfig extends TemplateConfig {
-	public AkConfig() {
-		addNamespaceAlias(-2, "Media");
-		addNamespaceAlias(-1, "Soronko");
-		addNamespaceAlias(1, "Nkɔmmɔ");
-		addNamespaceAlias(2, "Odwumanyɛni");
-		addNamespaceAlias(3, "Odwumanyɛni_nkɔmmɔbea");
-		addNamespaceAlias(5, "Wikipedia_nkɔmmɔ");
-		addNamespaceAlias(6, "File");
-		addNamespaceAlias(7, "File_nkɔmmɔ");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "MediaWiki_nkɔmmɔ");
-		addNamespaceAlias(10, "Nhwɛsode");
-		addNamespaceAlias(11, "Nhwɛsode_nkɔmmɔbea");
-		addNamespaceAlias(12, "Boa");
-		addNamespaceAlias(13, "Mmoa_nkɔmmɔbea");
-		addNamespaceAlias(14, "Nkyekyem");
-		addNamespaceAlias(15, "Nkyekyem_nkɔmmɔbea");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://ak.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "ak";
-	}
-}
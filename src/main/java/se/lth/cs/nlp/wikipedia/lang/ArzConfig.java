@@ -1,218 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class ArzConfig extends TemplateConfig {
-	public ArzConfig() {
-		addNamespaceAlias(-2, "ميديا", "وسائط", "ميديا", "وسائط");
-		addNamespaceAlias(-1, "خاص", "خاص");
-		addNamespaceAlias(1, "نقاش", "نقاش");
-		addNamespaceAlias(2, "مستخدم", "مستخدم", "مستخدم", "مستخدمة");
-		addNamespaceAlias(3, "نقاش_المستخدم", "نقاش_المستخدم", "نقاش_المستخدم", "نقاش_المستخدمة");
-		addNamespaceAlias(5, "نقاش_Wikipedia", "نقاش_Wikipedia");
-		addNamespaceAlias(6, "ملف", "صورة", "ملف", "صورة");
-		addNamespaceAlias(7, "نقاش_الملف", "نقاش_الصورة", "نقاش_الملف", "نقاش_الصورة");
-		addNamespaceAlias(8, "ميدياويكى", "ميدياويكي");
-		addNamespaceAlias(9, "نقاش_ميدياويكى", "نقاش_ميدياويكي");
-		addNamespaceAlias(10, "قالب", "قالب");
-		addNamespaceAlias(11, "نقاش_القالب", "نقاش_القالب");
-		addNamespaceAlias(12, "مساعدة", "مساعدة");
-		addNamespaceAlias(13, "نقاش_المساعدة", "نقاش_المساعدة");
-		addNamespaceAlias(14, "تصنيف", "تصنيف");
-		addNamespaceAlias(15, "نقاش_التصنيف", "نقاش_التصنيف");
-
-		addI18nCIAlias("redirect", "#تحويل", "#REDIRECT", "Array");
-		addI18nCIAlias("notoc", "__لافهرس__", "__NOTOC__", "Array");
-		addI18nCIAlias("nogallery", "__لامعرض__", "__NOGALLERY__", "Array");
-		addI18nCIAlias("forcetoc", "__لصق_فهرس__", "__FORCETOC__", "Array");
-		addI18nCIAlias("toc", "__فهرس__", "__TOC__", "Array");
-		addI18nCIAlias("noeditsection", "__لاتحريرقسم__", "__NOEDITSECTION__", "Array");
-		addI18nAlias("currentmonth", "شهر_حالى", "شهر_حالي2", "شهر_حالي", "CURRENTMONTH", "CURRENTMONTH2", "Array");
-		addI18nAlias("currentmonth1", "شهر_حالي1", "CURRENTMONTH1", "Array");
-		addI18nAlias("currentmonthname", "اسم_الشهر_الحالى", "اسم_الشهر_الحالي", "CURRENTMONTHNAME", "Array");
-		addI18nAlias("currentmonthnamegen", "اسم_الشهر_الحالى_المولد", "اسم_الشهر_الحالي_المولد", "CURRENTMONTHNAMEGEN", "Array");
-		addI18nAlias("currentmonthabbrev", "اختصار_الشهر_الحالى", "اختصار_الشهر_الحالي", "CURRENTMONTHABBREV", "Array");
-		addI18nAlias("currentday", "يوم_حالى", "يوم_حالي", "CURRENTDAY", "Array");
-		addI18nAlias("currentday2", "يوم_حالى2", "يوم_حالي2", "CURRENTDAY2", "Array");
-		addI18nAlias("currentdayname", "اسم_اليوم_الحالى", "اسم_اليوم_الحالي", "CURRENTDAYNAME", "Array");
-		addI18nAlias("currentyear", "عام_حالى", "عام_حالي", "CURRENTYEAR", "Array");
-		addI18nAlias("currenttime", "وقت_حالى", "وقت_حالي", "CURRENTTIME", "Array");
-		addI18nAlias("currenthour", "ساعة_حالية", "CURRENTHOUR", "Array");
-		addI18nAlias("localmonth", "شهر_محلى", "شهر_محلي2", "شهر_محلي", "LOCALMONTH", "LOCALMONTH2", "Array");
-		addI18nAlias("localmonth1", "شهر_محلى1", "شهر_محلي1", "LOCALMONTH1", "Array");
-		addI18nAlias("localmonthname", "اسم_الشهر_المحلى", "اسم_شهر_محلى", "اسم_الشهر_المحلي", "اسم_شهر_محلي", "LOCALMONTHNAME", "Array");
-		addI18nAlias("localmonthnamegen", "اسم_الشهر_المحلى_المولد", "اسم_شهر_محلى_مولد", "اسم_الشهر_المحلي_المولد", "اسم_شهر_محلي_مولد", "LOCALMONTHNAMEGEN", "Array");
-		addI18nAlias("localmonthabbrev", "اختصار_الشهر_المحلى", "اختصار_شهر_محلى", "اختصار_الشهر_المحلي", "اختصار_شهر_محلي", "LOCALMONTHABBREV", "Array");
-		addI18nAlias("localday", "يوم_محلى", "يوم_محلي", "LOCALDAY", "Array");
-		addI18nAlias("localday2", "يوم_محلى2", "يوم_محلي2", "LOCALDAY2", "Array");
-		addI18nAlias("localdayname", "اسم_اليوم_المحلى", "اسم_يوم_محلى", "اسم_اليوم_المحلي", "اسم_يوم_محلي", "LOCALDAYNAME", "Array");
-		addI18nAlias("localyear", "عام_محلى", "عام_محلي", "LOCALYEAR", "Array");
-		addI18nAlias("localtime", "وقت_محلى", "وقت_محلي", "LOCALTIME", "Array");
-		addI18nAlias("localhour", "ساعة_محلية", "LOCALHOUR", "Array");
-		addI18nAlias("numberofpages", "عدد_الصفحات", "NUMBEROFPAGES", "Array");
-		addI18nAlias("numberofarticles", "عدد_المقالات", "NUMBEROFARTICLES", "Array");
-		addI18nAlias("numberoffiles", "عدد_الملفات", "NUMBEROFFILES", "Array");
-		addI18nAlias("numberofusers", "عدد_المستخدمين", "NUMBEROFUSERS", "Array");
-		addI18nAlias("numberofactiveusers", "عدد_المستخدمين_النشطين", "NUMBEROFACTIVEUSERS", "Array");
-		addI18nAlias("numberofedits", "عدد_التعديلات", "NUMBEROFEDITS", "Array");
-		addI18nAlias("numberofviews", "عدد_المشاهدات", "NUMBEROFVIEWS", "Array");
-		addI18nAlias("pagename", "اسم_الصفحة", "PAGENAME", "Array");
-		addI18nAlias("pagenamee", "عنوان_الصفحة", "PAGENAMEE", "Array");
-		addI18nAlias("namespace", "نطاق", "NAMESPACE", "Array");
-		addI18nAlias("namespacee", "عنوان_نطاق", "NAMESPACEE", "Array");
-		addI18nAlias("talkspace", "نطاق_النقاش", "TALKSPACE", "Array");
-		addI18nAlias("talkspacee", "عنوان_النقاش", "TALKSPACEE", "Array");
-		addI18nAlias("subjectspace", "نطاق_الموضوع", "نطاق_المقالة", "SUBJECTSPACE", "ARTICLESPACE", "Array");
-		addI18nAlias("subjectspacee", "عنوان_نطاق_الموضوع", "عنوان_نطاق_المقالة", "SUBJECTSPACEE", "ARTICLESPACEE", "Array");
-		addI18nAlias("fullpagename", "اسم_الصفحة_الكامل", "اسم_صفحة_كامل", "اسم_كامل", "FULLPAGENAME", "Array");
-		addI18nAlias("fullpagenamee", "عنوان_الصفحة_الكامل", "عنوان_صفحة_كامل", "عنوان_كامل", "FULLPAGENAMEE", "Array");
-		addI18nAlias("subpagename", "اسم_الصفحة_الفرعي", "SUBPAGENAME", "Array");
-		addI18nAlias("subpagenamee", "عنوان_الصفحة_الفرعى", "عنوان_الصفحة_الفرعي", "SUBPAGENAMEE", "Array");
-		addI18nAlias("basepagename", "اسم_الصفحة_الأساسى", "اسم_الصفحة_الأساسي", "BASEPAGENAME", "Array");
-		addI18nAlias("basepagenamee", "عنوان_الصفحة_الأساسى", "عنوان_الصفحة_الأساسي", "BASEPAGENAMEE", "Array");
-		addI18nAlias("talkpagename", "اسم_صفحة_النقاش", "TALKPAGENAME", "Array");
-		addI18nAlias("talkpagenamee", "عنوان_صفحة_النقاش", "TALKPAGENAMEE", "Array");
-		addI18nAlias("subjectpagename", "اسم_صفحة_الموضوع", "اسم_صفحة_المقالة", "SUBJECTPAGENAME", "ARTICLEPAGENAME", "Array");
-		addI18nAlias("subjectpagenamee", "عنوان_صفحة_الموضوع", "عنوان_صفحة_المقالة", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE", "Array");
-		addI18nCIAlias("msg", "رسالة:", "MSG:", "Array");
-		addI18nCIAlias("subst", "نسخ:", "إحلال:", "SUBST:", "Array");
-		addI18nCIAlias("safesubst", "نسخ_آمن:", "SAFESUBST:", "Array");
-		addI18nCIAlias("msgnw", "مصدر:", "مصدر_قالب:", "رسالة_بدون_تهيئة:", "MSGNW:", "Array");
-		addI18nAlias("img_thumbnail", "تصغير", "مصغر", "thumbnail", "thumb", "Array");
-		addI18nAlias("img_manualthumb", "تصغير=$1", "مصغر=$1", "thumbnail=$1", "thumb=$1", "Array");
-		addI18nAlias("img_right", "يمين", "right", "Array");
-		addI18nAlias("img_left", "يسار", "left", "Array");
-		addI18nAlias("img_none", "بدون", "بلا", "none", "Array");
-		addI18nAlias("img_width", "$1بك", "$1عن", "$1px", "Array");
-		addI18nAlias("img_center", "مركز", "center", "centre", "Array");
-		addI18nAlias("img_framed", "إطار", "بإطار", "framed", "enframed", "frame", "Array");
-		addI18nAlias("img_frameless", "لاإطار", "frameless", "Array");
-		addI18nAlias("img_page", "صفحة=$1", "صفحة $1", "صفحة_$1", "page=$1", "page $1", "Array");
-		addI18nAlias("img_upright", "معدول", "معدول=$1", "معدول $1", "معدول_$1", "upright", "upright=$1", "upright $1", "Array");
-		addI18nAlias("img_border", "حد", "حدود", "border", "Array");
-		addI18nAlias("img_baseline", "خط_أساسى", "خط_أساسي", "baseline", "Array");
-		addI18nAlias("img_sub", "فرعى", "فرعي", "sub", "Array");
-		addI18nAlias("img_super", "سوبر", "سب", "super", "sup", "Array");
-		addI18nAlias("img_top", "أعلى", "top", "Array");
-		addI18nAlias("img_text_top", "نص_أعلى", "text-top", "Array");
-		addI18nAlias("img_middle", "وسط", "middle", "Array");
-		addI18nAlias("img_bottom", "أسفل", "bottom", "Array");
-		addI18nAlias("img_text_bottom", "نص_أسفل", "text-bottom", "Array");
-		addI18nAlias("img_link", "وصلة=$1", "رابط=$1", "link=$1", "Array");
-		addI18nAlias("img_alt", "بديل=$1", "alt=$1", "Array");
-		addI18nCIAlias("int", "محتوى:", "INT:", "Array");
-		addI18nAlias("sitename", "اسم_الموقع", "اسم_موقع", "SITENAME", "Array");
-		addI18nCIAlias("ns", "نط:", "NS:", "Array");
-		addI18nCIAlias("nse", "نطم:", "NSE:", "Array");
-		addI18nCIAlias("localurl", "مسار_محلى:", "مسار_محلي:", "LOCALURL:", "Array");
-		addI18nCIAlias("localurle", "عنوان_المسار_المحلى:", "عنوان_المسار_المحلي:", "LOCALURLE:", "Array");
-		addI18nCIAlias("server", "خادم", "SERVER", "Array");
-		addI18nCIAlias("servername", "اسم_الخادم", "SERVERNAME", "Array");
-		addI18nCIAlias("scriptpath", "مسار_السكريبت", "مسار_سكريبت", "SCRIPTPATH", "Array");
-		addI18nCIAlias("stylepath", "مسار_الهيئة", "STYLEPATH", "Array");
-		addI18nCIAlias("grammar", "قواعد_اللغة:", "GRAMMAR:", "Array");
-		addI18nCIAlias("gender", "نوع:", "GENDER:", "Array");
-		addI18nCIAlias("notitleconvert", "__لاتحويل_عنوان__", "__لاتع__", "__NOTITLECONVERT__", "__NOTC__", "Array");
-		addI18nCIAlias("nocontentconvert", "__لاتحويل_محتوى__", "__لاتم__", "__NOCONTENTCONVERT__", "__NOCC__", "Array");
-		addI18nAlias("currentweek", "أسبوع_حالى", "أسبوع_حالي", "CURRENTWEEK", "Array");
-		addI18nAlias("currentdow", "يوم_حالى_مأ", "يوم_حالي_مأ", "CURRENTDOW", "Array");
-		addI18nAlias("localweek", "أسبوع_محلى", "أسبوع_محلي", "LOCALWEEK", "Array");
-		addI18nAlias("localdow", "يوم_محلى_مأ", "يوم_محلي_مأ", "LOCALDOW", "Array");
-		addI18nAlias("revisionid", "رقم_المراجعة", "REVISIONID", "Array");
-		addI18nAlias("revisionday", "يوم_المراجعة", "REVISIONDAY", "Array");
-		addI18nAlias("revisionday2", "يوم_المراجعة2", "REVISIONDAY2", "Array");
-		addI18nAlias("revisionmonth", "شهر_المراجعة", "REVISIONMONTH", "Array");
-		addI18nAlias("revisionmonth1", "شهر_المراجعة1", "REVISIONMONTH1", "Array");
-		addI18nAlias("revisionyear", "عام_المراجعة", "REVISIONYEAR", "Array");
-		addI18nAlias("revisiontimestamp", "طابع_وقت_المراجعة", "REVISIONTIMESTAMP", "Array");
-		addI18nAlias("revisionuser", "مستخدم_المراجعة", "REVISIONUSER", "Array");
-		addI18nCIAlias("plural", "جمع:", "PLURAL:", "Array");
-		addI18nCIAlias("fullurl", "عنوان_كامل:", "FULLURL:", "Array");
-		addI18nCIAlias("fullurle", "مسار_كامل:", "FULLURLE:", "Array");
-		addI18nCIAlias("lcfirst", "عنوان_كبير:", "LCFIRST:", "Array");
-		addI18nCIAlias("ucfirst", "عنوان_صغير:", "UCFIRST:", "Array");
-		addI18nCIAlias("lc", "صغير:", "LC:", "Array");
-		addI18nCIAlias("uc", "كبير:", "UC:", "Array");
-		addI18nCIAlias("raw", "خام:", "RAW:", "Array");
-		addI18nAlias("displaytitle", "عرض_العنوان", "DISPLAYTITLE", "Array");
-		addI18nAlias("rawsuffix", "أر", "آر", "R", "Array");
-		addI18nAlias("newsectionlink", "__وصلة_قسم_جديد__", "__NEWSECTIONLINK__", "Array");
-		addI18nAlias("nonewsectionlink", "__لا_وصلة_قسم_جديد__", "لا_وصلة_قسم_جديد__", "__NONEWSECTIONLINK__", "Array");
-		addI18nAlias("currentversion", "نسخة_حالية", "CURRENTVERSION", "Array");
-		addI18nCIAlias("urlencode", "كود_المسار:", "URLENCODE:", "Array");
-		addI18nCIAlias("anchorencode", "كود_الأنكور", "ANCHORENCODE", "Array");
-		addI18nAlias("currenttimestamp", "طابع_الوقت_الحالي", "CURRENTTIMESTAMP", "Array");
-		addI18nAlias("localtimestamp", "طابع_الوقت_المحلى", "طابع_الوقت_المحلي", "LOCALTIMESTAMP", "Array");
-		addI18nAlias("directionmark", "علامة_الاتجاه", "علامة_اتجاه", "DIRECTIONMARK", "DIRMARK", "Array");
-		addI18nCIAlias("language", "#لغة:", "#LANGUAGE:", "Array");
-		addI18nAlias("contentlanguage", "لغة_المحتوى", "لغة_محتوى", "CONTENTLANGUAGE", "CONTENTLANG", "Array");
-		addI18nAlias("pagesinnamespace", "صفحات_فى_نطاق:", "صفحات_فى_نط:", "صفحات_في_نطاق:", "صفحات_في_نط:", "PAGESINNAMESPACE:", "PAGESINNS:", "Array");
-		addI18nAlias("numberofadmins", "عدد_الإداريين", "NUMBEROFADMINS", "Array");
-		addI18nCIAlias("formatnum", "صيغة_رقم", "FORMATNUM", "Array");
-		addI18nCIAlias("padleft", "باد_يسار", "PADLEFT", "Array");
-		addI18nCIAlias("padright", "باد_يمين", "PADRIGHT", "Array");
-		addI18nCIAlias("special", "خاص", "special", "Array");
-		addI18nAlias("defaultsort", "ترتيب_قياسى:", "ترتيب_افتراضى:", "مفتاح_ترتيب_قياسى:", "مفتاح_ترتيب_افتراضى:", "ترتيب_تصنيف_قياسى:", "ترتيب_تصنيف_افتراضى:", "ترتيب_قياسي:", "ترتيب_افتراضي:", "مفتاح_ترتيب_قياسي:", "مفتاح_ترتيب_افتراضي:", "ترتيب_تصنيف_قياسي:", "ترتيب_تصنيف_افتراضي:", "ترتيب_غيابي:", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:", "Array");
-		addI18nCIAlias("filepath", "مسار_الملف:", "FILEPATH:", "Array");
-		addI18nCIAlias("tag", "وسم", "tag", "Array");
-		addI18nAlias("hiddencat", "__تصنيف_مخفي__", "__HIDDENCAT__", "Array");
-		addI18nAlias("pagesincategory", "صفحات_في_التصنيف", "صفحات_في_تصنيف", "PAGESINCATEGORY", "PAGESINCAT", "Array");
-		addI18nAlias("pagesize", "حجم_الصفحة", "PAGESIZE", "Array");
-		addI18nAlias("index", "__فهرسة__", "__INDEX__", "Array");
-		addI18nAlias("noindex", "__لافهرسة__", "__NOINDEX__", "Array");
-		addI18nAlias("numberingroup", "عدد_فى_المجموعة", "عدد_فى_مجموعة", "عدد_في_المجموعة", "عدد_في_مجموعة", "NUMBERINGROUP", "NUMINGROUP", "Array");
-		addI18nAlias("staticredirect", "__تحويلة_إستاتيكية__", "__تحويلة_ساكنة__", "__STATICREDIRECT__", "Array");
-		addI18nAlias("protectionlevel", "مستوى_الحماية", "PROTECTIONLEVEL", "Array");
-		addI18nCIAlias("formatdate", "تهيئة_التاريخ", "تهيئة_تاريخ", "formatdate", "dateformat", "Array");
-		addI18nCIAlias("url_path", "مسار", "PATH", "Array");
-		addI18nCIAlias("url_wiki", "ويكى", "ويكي", "WIKI", "Array");
-		addI18nCIAlias("url_query", "استعلام", "QUERY", "Array");
-		addI18nAlias("namespacenumber", "عدد_نطاق", "NAMESPACENUMBER");
-		addI18nAlias("rootpagename", "جذر_اسم_الصفحة", "ROOTPAGENAME");
-		addI18nAlias("img_lang", "لغة=$1", "lang=$1");
-		addI18nAlias("img_class", "رتبة=$1", "class=$1");
-		addI18nCIAlias("articlepath", "مسار_المقالة", "ARTICLEPATH");
-		addI18nCIAlias("pageid", "رقم_صفحة", "PAGEID");
-		addI18nAlias("revisionsize", "حجم_المراجعة", "REVISIONSIZE");
-		addI18nCIAlias("canonicalurl", "عنوان_قاعدة:", "CANONICALURL:");
-		addI18nCIAlias("canonicalurle", "مسار_قاعدة:", "CANONICALURLE:");
-		addI18nCIAlias("speciale", "عنوان_خاص", "speciale");
-		addI18nCIAlias("defaultsort_noerror", "لاخطأ", "noerror");
-		addI18nCIAlias("defaultsort_noreplace", "لاتستبدل", "noreplace");
-		addI18nCIAlias("pagesincategory_all", "كل", "all");
-		addI18nCIAlias("pagesincategory_pages", "صفحات", "pages");
-		addI18nCIAlias("pagesincategory_subcats", "تصنيفات_فرعية", "subcats");
-		addI18nCIAlias("pagesincategory_files", "ملفات", "files");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://arz.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "arz";
-	}
-}
@@ -1,60 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class AsConfig extends TemplateConfig {
-	public AsConfig() {
-		addNamespaceAlias(-2, "মাধ্যম");
-		addNamespaceAlias(-1, "বিশেষ", "विशेष");
-		addNamespaceAlias(1, "বাৰ্তা", "वार्ता", "বার্তা");
-		addNamespaceAlias(2, "সদস্য", "सदस्य");
-		addNamespaceAlias(3, "সদস্য_বাৰ্তা", "सदस्य_वार्ता", "সদস্য বার্তা");
-		addNamespaceAlias(5, "Wikipedia_বাৰ্তা", "Wikipedia_वार्ता", "Wikipedia বার্তা");
-		addNamespaceAlias(6, "চিত্ৰ", "चित्र", "চিত্র");
-		addNamespaceAlias(7, "চিত্ৰ_বাৰ্তা", "चित्र_वार्ता", "চিত্র বার্তা");
-		addNamespaceAlias(8, "মিডিয়াৱিকি", "মেডিয়াৱিকি");
-		addNamespaceAlias(9, "মিডিয়াৱিকি_আলোচনা", "মেডিয়াৱিকি_বাৰ্তা", "MediaWiki বার্তা");
-		addNamespaceAlias(10, "সাঁচ", "साँचा");
-		addNamespaceAlias(11, "সাঁচ_বাৰ্তা", "साँचा_वार्ता", "সাঁচ বার্তা");
-		addNamespaceAlias(12, "সহায়");
-		addNamespaceAlias(13, "সহায়_বাৰ্তা", "সহায় বার্তা");
-		addNamespaceAlias(14, "শ্ৰেণী", "श्रेणी", "শ্রেণী");
-		addNamespaceAlias(15, "শ্ৰেণী_বাৰ্তা", "श्रेणी_वार्ता", "শ্রেণী বার্তা");
-
-		addI18nCIAlias("special", "বিশেষ", "special");
-		addI18nAlias("hiddencat", "__গোপন_শ্ৰেণী__", "__HIDDENCAT__");
-		addI18nAlias("pagesize", "পৃষ্ঠাৰ_আকাৰ", "PAGESIZE");
-		addI18nAlias("index", "__সূচী__", "__INDEX__");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://as.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "as";
-	}
-}
@@ -1,56 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class AstConfig extends TemplateConfig {
-	public AstConfig() {
-		addNamespaceAlias(-2, "Medios");
-		addNamespaceAlias(-1, "Especial");
-		addNamespaceAlias(1, "Alderique", "Discusión");
-		addNamespaceAlias(2, "Usuariu");
-		addNamespaceAlias(3, "Usuariu_alderique", "Usuariu_discusión");
-		addNamespaceAlias(5, "Wikipedia_alderique", "Wikipedia_discusión");
-		addNamespaceAlias(6, "Ficheru", "Imaxe", "Imaxen", "Archivu");
-		addNamespaceAlias(7, "Ficheru_alderique", "Imaxe alderique", "Imaxen_discusión", "Archivu_alderique");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "MediaWiki_alderique", "MediaWiki_discusión");
-		addNamespaceAlias(10, "Plantía", "Plantilla");
-		addNamespaceAlias(11, "Plantía_alderique", "Plantilla_discusión");
-		addNamespaceAlias(12, "Ayuda", "Aida");
-		addNamespaceAlias(13, "Ayuda_alderique", "Ayuda_discusión", "Aida_alderique");
-		addNamespaceAlias(14, "Categoría");
-		addNamespaceAlias(15, "Categoría_alderique", "Categoría_discusión");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://ast.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "ast";
-	}
-}
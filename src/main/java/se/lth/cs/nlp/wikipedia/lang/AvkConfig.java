@@ -1,56 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class AvkConfig extends TemplateConfig {
-	public AvkConfig() {
-		addNamespaceAlias(-2, "Mamind");
-		addNamespaceAlias(-1, "Aptaca");
-		addNamespaceAlias(1, "Prilara");
-		addNamespaceAlias(2, "Favesik");
-		addNamespaceAlias(3, "Favesikprilara");
-		addNamespaceAlias(5, "Wikipedia prilara");
-		addNamespaceAlias(6, "Ewava");
-		addNamespaceAlias(7, "Ewavaprilara");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "MediaWiki prilara");
-		addNamespaceAlias(10, "Teza");
-		addNamespaceAlias(11, "Tezaprilara");
-		addNamespaceAlias(12, "Pomara");
-		addNamespaceAlias(13, "Pomaraprilara");
-		addNamespaceAlias(14, "Loma");
-		addNamespaceAlias(15, "Lomaprilara");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://avk.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "avk";
-	}
-}
@@ -1,64 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class BeConfig extends TemplateConfig {
-	public BeConfig() {
-		addNamespaceAlias(-2, "Мультымедыя");
-		addNamespaceAlias(-1, "Адмысловае");
-		addNamespaceAlias(1, "Размовы");
-		addNamespaceAlias(2, "Удзельнік");
-		addNamespaceAlias(3, "Размовы_з_удзельнікам");
-		addNamespaceAlias(5, "Размовы_пра_{{GRAMMAR:вінавальны|Wikipedia}}", "Wikipedia_размовы");
-		addNamespaceAlias(6, "Файл", "Выява");
-		addNamespaceAlias(7, "Размовы_пра_файл", "Размовы_пра_выяву");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "Размовы_пра_MediaWiki");
-		addNamespaceAlias(10, "Шаблон");
-		addNamespaceAlias(11, "Размовы_пра_шаблон");
-		addNamespaceAlias(12, "Даведка");
-		addNamespaceAlias(13, "Размовы_пра_даведку");
-		addNamespaceAlias(14, "Катэгорыя");
-		addNamespaceAlias(15, "Размовы_пра_катэгорыю");
-
-		addI18nAlias("img_thumbnail", "міні", "мініяцюра", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "міні=$1", "мініяцюра=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "справа", "right");
-		addI18nAlias("img_left", "злева", "left");
-		addI18nAlias("img_none", "няма", "none");
-		addI18nAlias("img_width", "$1пкс", "$1px");
-		addI18nAlias("img_center", "цэнтр", "center", "centre");
-		addI18nAlias("img_framed", "безрамкі", "framed", "enframed", "frame");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://be.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "be";
-	}
-}
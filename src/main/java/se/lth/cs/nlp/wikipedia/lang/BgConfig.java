@@ -1,136 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class BgConfig extends TemplateConfig {
-	public BgConfig() {
-		addNamespaceAlias(-2, "Медия");
-		addNamespaceAlias(-1, "Специални");
-		addNamespaceAlias(1, "Беседа");
-		addNamespaceAlias(2, "Потребител");
-		addNamespaceAlias(3, "Потребител_беседа");
-		addNamespaceAlias(5, "Wikipedia_беседа");
-		addNamespaceAlias(6, "Файл", "Картинка");
-		addNamespaceAlias(7, "Файл_беседа", "Картинка беседа");
-		addNamespaceAlias(8, "МедияУики");
-		addNamespaceAlias(9, "МедияУики_беседа");
-		addNamespaceAlias(10, "Шаблон");
-		addNamespaceAlias(11, "Шаблон_беседа");
-		addNamespaceAlias(12, "Помощ");
-		addNamespaceAlias(13, "Помощ_беседа");
-		addNamespaceAlias(14, "Категория");
-		addNamespaceAlias(15, "Категория_беседа");
-
-		addI18nCIAlias("redirect", "#пренасочване", "#виж", "#REDIRECT");
-		addI18nCIAlias("notoc", "__БЕЗСЪДЪРЖАНИЕ__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__БЕЗГАЛЕРИЯ__", "__NOGALLERY__");
-		addI18nCIAlias("forcetoc", "__СЪССЪДЪРЖАНИЕ__", "__FORCETOC__");
-		addI18nCIAlias("toc", "__СЪДЪРЖАНИЕ__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__БЕЗ_РЕДАКТИРАНЕ_НА_РАЗДЕЛИ__", "__NOEDITSECTION__");
-		addI18nAlias("currentmonth", "ТЕКУЩМЕСЕЦ", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonth1", "ТЕКУЩМЕСЕЦ1", "CURRENTMONTH1");
-		addI18nAlias("currentmonthname", "ТЕКУЩМЕСЕЦИМЕ", "CURRENTMONTHNAME");
-		addI18nAlias("currentmonthnamegen", "ТЕКУЩМЕСЕЦИМЕРОД", "CURRENTMONTHNAMEGEN");
-		addI18nAlias("currentmonthabbrev", "ТЕКУЩМЕСЕЦСЪКР", "CURRENTMONTHABBREV");
-		addI18nAlias("currentday", "ТЕКУЩДЕН", "CURRENTDAY");
-		addI18nAlias("currentday2", "ТЕКУЩДЕН2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "ТЕКУЩДЕНИМЕ", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "ТЕКУЩАГОДИНА", "CURRENTYEAR");
-		addI18nAlias("currenttime", "ТЕКУЩОВРЕМЕ", "CURRENTTIME");
-		addI18nAlias("currenthour", "ТЕКУЩЧАС", "CURRENTHOUR");
-		addI18nAlias("numberofpages", "БРОЙСТРАНИЦИ", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "БРОЙСТАТИИ", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "БРОЙФАЙЛОВЕ", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "БРОЙПОТРЕБИТЕЛИ", "NUMBEROFUSERS");
-		addI18nAlias("numberofactiveusers", "БРОЙАКТИВНИПОТРЕБИТЕЛИ", "NUMBEROFACTIVEUSERS");
-		addI18nAlias("numberofedits", "БРОЙРЕДАКЦИИ", "NUMBEROFEDITS");
-		addI18nAlias("numberofviews", "БРОЙПРЕГЛЕДИ", "NUMBEROFVIEWS");
-		addI18nAlias("pagename", "СТРАНИЦА", "PAGENAME");
-		addI18nAlias("pagenamee", "СТРАНИЦАИ", "PAGENAMEE");
-		addI18nAlias("namespace", "ИМЕННОПРОСТРАНСТВО", "NAMESPACE");
-		addI18nAlias("namespacee", "ИМЕННОПРОСТРАНСТВОИ", "NAMESPACEE");
-		addI18nAlias("fullpagename", "ПЪЛНОИМЕ_СТРАНИЦА", "FULLPAGENAME");
-		addI18nAlias("fullpagenamee", "ПЪЛНОИМЕ_СТРАНИЦАИ", "FULLPAGENAMEE");
-		addI18nAlias("subpagename", "ИМЕ_ПОДСТРАНИЦА", "SUBPAGENAME");
-		addI18nAlias("subpagenamee", "ИМЕ_ПОДСТРАНИЦАИ", "SUBPAGENAMEE");
-		addI18nAlias("talkpagename", "ИМЕ_БЕСЕДА", "TALKPAGENAME");
-		addI18nAlias("talkpagenamee", "ИМЕ_БЕСЕДАИ", "TALKPAGENAMEE");
-		addI18nCIAlias("msg", "СЪОБЩ:", "MSG:");
-		addI18nCIAlias("subst", "ЗАМЕСТ:", "SUBST:");
-		addI18nCIAlias("msgnw", "СЪОБЩБУ:", "MSGNW:");
-		addI18nAlias("img_thumbnail", "мини", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "мини=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "вдясно", "дясно", "д", "right");
-		addI18nAlias("img_left", "вляво", "ляво", "л", "left");
-		addI18nAlias("img_none", "н", "none");
-		addI18nAlias("img_width", "$1пкс", "$1п", "$1px");
-		addI18nAlias("img_center", "център", "центр", "ц", "center", "centre");
-		addI18nAlias("img_framed", "рамка", "врамка", "framed", "enframed", "frame");
-		addI18nAlias("img_frameless", "безрамка", "frameless");
-		addI18nAlias("img_border", "ръб", "контур", "border");
-		addI18nCIAlias("int", "ВЪТР:", "INT:");
-		addI18nAlias("sitename", "ИМЕНАСАЙТА", "SITENAME");
-		addI18nCIAlias("ns", "ИП:", "NS:");
-		addI18nCIAlias("localurl", "ЛОКАЛЕНАДРЕС:", "LOCALURL:");
-		addI18nCIAlias("localurle", "ЛОКАЛЕНАДРЕСИ:", "LOCALURLE:");
-		addI18nCIAlias("server", "СЪРВЪР", "SERVER");
-		addI18nCIAlias("servername", "ИМЕНАСЪРВЪРА", "SERVERNAME");
-		addI18nCIAlias("scriptpath", "ПЪТДОСКРИПТА", "SCRIPTPATH");
-		addI18nCIAlias("grammar", "ГРАМАТИКА:", "GRAMMAR:");
-		addI18nCIAlias("gender", "ПОЛ:", "GENDER:");
-		addI18nAlias("currentweek", "ТЕКУЩАСЕДМИЦА", "CURRENTWEEK");
-		addI18nAlias("currentdow", "ТЕКУЩ_ДЕН_ОТ_СЕДМИЦАТА", "CURRENTDOW");
-		addI18nAlias("revisionid", "ИД_НА_ВЕРСИЯТА", "REVISIONID");
-		addI18nAlias("revisionday", "ДЕН_НА_ВЕРСИЯТА", "REVISIONDAY");
-		addI18nAlias("revisionday2", "ДЕН_НА_ВЕРСИЯТА2", "REVISIONDAY2");
-		addI18nAlias("revisionmonth", "МЕСЕЦ_НА_ВЕРСИЯТА", "REVISIONMONTH");
-		addI18nAlias("revisionyear", "ГОДИНА_НА_ВЕРСИЯТА", "REVISIONYEAR");
-		addI18nCIAlias("plural", "МН_ЧИСЛО:", "PLURAL:");
-		addI18nCIAlias("fullurl", "ПЪЛЕН_АДРЕС:", "FULLURL:");
-		addI18nCIAlias("fullurle", "ПЪЛЕН_АДРЕСИ:", "FULLURLE:");
-		addI18nCIAlias("lcfirst", "МБПЪРВА:", "LCFIRST:");
-		addI18nCIAlias("ucfirst", "ГБПЪРВА:", "UCFIRST:");
-		addI18nCIAlias("lc", "МБ:", "LC:");
-		addI18nCIAlias("uc", "ГБ:", "UC:");
-		addI18nCIAlias("raw", "НЕОБРАБ:", "RAW:");
-		addI18nAlias("displaytitle", "ПОКАЗВ_ЗАГЛАВИЕ", "DISPLAYTITLE");
-		addI18nAlias("newsectionlink", "__ВРЪЗКА_ЗА_НОВ_РАЗДЕЛ__", "__NEWSECTIONLINK__");
-		addI18nCIAlias("language", "#ЕЗИК:", "#LANGUAGE:");
-		addI18nAlias("numberofadmins", "БРОЙАДМИНИСТРАТОРИ", "NUMBEROFADMINS");
-		addI18nAlias("defaultsort", "СОРТКАТ:", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:");
-		addI18nAlias("hiddencat", "__СКРИТАКАТЕГОРИЯ__", "__HIDDENCAT__");
-		addI18nAlias("index", "__ИНДЕКСИРАНЕ__", "__INDEX__");
-		addI18nAlias("noindex", "__БЕЗИНДЕКСИРАНЕ__", "__NOINDEX__");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://bg.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "bg";
-	}
-}
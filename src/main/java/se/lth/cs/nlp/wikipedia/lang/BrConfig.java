@@ -1,93 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class BrConfig extends TemplateConfig {
-	public BrConfig() {
-		addNamespaceAlias(-2, "Media");
-		addNamespaceAlias(-1, "Dibar");
-		addNamespaceAlias(1, "Kaozeal");
-		addNamespaceAlias(2, "Implijer");
-		addNamespaceAlias(3, "Kaozeadenn_Implijer");
-		addNamespaceAlias(5, "Kaozeadenn_Wikipedia");
-		addNamespaceAlias(6, "Restr", "Skeudenn");
-		addNamespaceAlias(7, "Kaozeadenn_Restr", "Kaozeadenn_Skeudenn");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "Kaozeadenn_MediaWiki");
-		addNamespaceAlias(10, "Patrom");
-		addNamespaceAlias(11, "Kaozeadenn_Patrom");
-		addNamespaceAlias(12, "Skoazell");
-		addNamespaceAlias(13, "Kaozeadenn_Skoazell");
-		addNamespaceAlias(14, "Rummad");
-		addNamespaceAlias(15, "Kaozeadenn_Rummad");
-
-		addI18nCIAlias("redirect", "#ADKAS", "#REDIRECT");
-		addI18nAlias("numberofpages", "NIVERABAJENNOU", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "NIVERABENNADOU", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "NIVERARESTROU", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "NIVERAIMPLIJERIEN", "NUMBEROFUSERS");
-		addI18nAlias("numberofactiveusers", "NIVERAIMPLIJERIENOBERIANT", "NUMBEROFACTIVEUSERS");
-		addI18nAlias("numberofedits", "NIVERAZEGASEDENNOU", "NUMBEROFEDITS");
-		addI18nAlias("numberofviews", "NIVERALENNADENNOU", "NUMBEROFVIEWS");
-		addI18nAlias("pagename", "ANVPAJENN", "PAGENAME");
-		addI18nAlias("pagenamee", "ANVPAJENNSK", "PAGENAMEE");
-		addI18nAlias("namespace", "ESAOUENNANV", "NAMESPACE");
-		addI18nAlias("namespacee", "ESAOUENNANVSK", "NAMESPACEE");
-		addI18nAlias("fullpagename", "ANVPAJENNKLOK", "FULLPAGENAME");
-		addI18nAlias("fullpagenamee", "ANVPAJENNKLOKSK", "FULLPAGENAMEE");
-		addI18nAlias("subpagename", "ANVISPAJENN", "SUBPAGENAME");
-		addI18nAlias("img_right", "dehou", "right");
-		addI18nAlias("img_left", "kleiz", "left");
-		addI18nAlias("img_none", "netra", "none");
-		addI18nAlias("img_center", "kreizenn", "center", "centre");
-		addI18nAlias("img_page", "pajenn=$1", "pajenn $1", "page=$1", "page $1");
-		addI18nAlias("img_sub", "is", "sub");
-		addI18nAlias("img_top", "krec'h", "top");
-		addI18nAlias("img_middle", "kreiz", "middle");
-		addI18nAlias("img_bottom", "traoñ", "bottom");
-		addI18nAlias("img_link", "liamm=$1", "link=$1");
-		addI18nAlias("sitename", "ANVLEC'HIENN", "SITENAME");
-		addI18nCIAlias("server", "SERVIJER", "SERVER");
-		addI18nCIAlias("servername", "ANVSERVIJER", "SERVERNAME");
-		addI18nCIAlias("grammar", "YEZHADUR:", "GRAMMAR:");
-		addI18nCIAlias("gender", "JENER:", "GENDER:");
-		addI18nCIAlias("plural", "LIESTER:", "PLURAL:");
-		addI18nCIAlias("fullurl", "URLKLOK:", "FULLURL:");
-		addI18nAlias("currentversion", "STUMMRED", "CURRENTVERSION");
-		addI18nCIAlias("language", "#YEZH:", "#LANGUAGE:");
-		addI18nCIAlias("special", "dibar", "special");
-		addI18nAlias("pagesize", "MENTPAJENN", "PAGESIZE");
-		addI18nCIAlias("url_path", "HENT", "PATH");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://br.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "br";
-	}
-}
@@ -1,52 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class ChConfig extends TemplateConfig {
-	public ChConfig() {
-		addNamespaceAlias(-2, "Media");
-		addNamespaceAlias(-1, "Espesiat");
-		addNamespaceAlias(1, "Kombetsasion");
-		addNamespaceAlias(2, "Muna'sesetbi");
-		addNamespaceAlias(3, "Kombetsasion_ni_muna'sesetbi");
-		addNamespaceAlias(5, "Kombetsasion_nu_Wikipedia");
-		addNamespaceAlias(6, "Litratu");
-		addNamespaceAlias(7, "Kombetsasion_ni_litratu");
-		addNamespaceAlias(12, "Ayudo");
-		addNamespaceAlias(13, "Kombetsasion_ni_ayudo");
-		addNamespaceAlias(14, "Katigoria");
-		addNamespaceAlias(15, "Kombetsasion_ni_katigoria");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://ch.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "ch";
-	}
-}
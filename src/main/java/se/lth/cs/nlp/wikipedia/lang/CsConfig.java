@@ -1,173 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class CsConfig extends TemplateConfig {
-	public CsConfig() {
-		addNamespaceAlias(-2, "Média");
-		addNamespaceAlias(-1, "Speciální");
-		addNamespaceAlias(1, "Diskuse");
-		addNamespaceAlias(2, "Uživatel", "Uživatel", "Uživatelka");
-		addNamespaceAlias(3, "Diskuse_s_uživatelem", "Uživatel_diskuse", "Uživatelka_diskuse", "Diskuse_s_uživatelem", "Diskuse_s_uživatelkou");
-		addNamespaceAlias(5, "Diskuse_k_{{grammar:3sg|Wikipedia}}", "Wikipedia_diskuse");
-		addNamespaceAlias(6, "Soubor");
-		addNamespaceAlias(7, "Diskuse_k_souboru", "Soubor_diskuse");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "Diskuse_k_MediaWiki", "MediaWiki_diskuse");
-		addNamespaceAlias(10, "Šablona");
-		addNamespaceAlias(11, "Diskuse_k_šabloně", "Šablona_diskuse");
-		addNamespaceAlias(12, "Nápověda");
-		addNamespaceAlias(13, "Diskuse_k_nápovědě", "Nápověda_diskuse");
-		addNamespaceAlias(14, "Kategorie");
-		addNamespaceAlias(15, "Diskuse_ke_kategorii", "Kategorie_diskuse");
-
-		addI18nCIAlias("redirect", "#PŘESMĚRUJ", "#REDIRECT");
-		addI18nCIAlias("notoc", "__BEZOBSAHU__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__BEZGALERIE__", "__NOGALLERY__");
-		addI18nCIAlias("forcetoc", "__VŽDYOBSAH__", "__FORCETOC__");
-		addI18nCIAlias("toc", "__OBSAH__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__BEZEDITOVATČÁST__", "__NOEDITSECTION__");
-		addI18nAlias("currentmonth", "AKTUÁLNÍMĚSÍC", "AKTUÁLNÍMĚSÍC2", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonth1", "AKTUÁLNÍMĚSÍC1", "CURRENTMONTH1");
-		addI18nAlias("currentmonthname", "AKTUÁLNÍMĚSÍCJMÉNO", "CURRENTMONTHNAME");
-		addI18nAlias("currentmonthnamegen", "AKTUÁLNÍMĚSÍCGEN", "CURRENTMONTHNAMEGEN");
-		addI18nAlias("currentmonthabbrev", "AKTUÁLNÍMĚSÍCZKR", "CURRENTMONTHABBREV");
-		addI18nAlias("currentday", "AKTUÁLNÍDEN", "CURRENTDAY");
-		addI18nAlias("currentday2", "AKTUÁLNÍDEN2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "AKTUÁLNÍDENJMÉNO", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "AKTUÁLNÍROK", "CURRENTYEAR");
-		addI18nAlias("currenttime", "AKTUÁLNÍČAS", "CURRENTTIME");
-		addI18nAlias("currenthour", "AKTUÁLNÍHODINA", "CURRENTHOUR");
-		addI18nAlias("localmonth", "MÍSTNÍMĚSÍC", "MÍSTNÍMĚSÍC2", "LOCALMONTH", "LOCALMONTH2");
-		addI18nAlias("localmonth1", "MÍSTNÍMĚSÍC1", "LOCALMONTH1");
-		addI18nAlias("localmonthname", "MÍSTNÍMĚSÍCJMÉNO", "LOCALMONTHNAME");
-		addI18nAlias("localmonthnamegen", "MÍSTNÍMĚSÍCGEN", "LOCALMONTHNAMEGEN");
-		addI18nAlias("localmonthabbrev", "MÍSTNÍMĚSÍCZKR", "LOCALMONTHABBREV");
-		addI18nAlias("localday", "MÍSTNÍDEN", "LOCALDAY");
-		addI18nAlias("localday2", "MÍSTNÍDEN2", "LOCALDAY2");
-		addI18nAlias("localdayname", "MÍSTNÍDENJMÉNO", "LOCALDAYNAME");
-		addI18nAlias("localyear", "MÍSTNÍROK", "LOCALYEAR");
-		addI18nAlias("localtime", "MÍSTNÍČAS", "LOCALTIME");
-		addI18nAlias("localhour", "MÍSTNÍHODINA", "LOCALHOUR");
-		addI18nAlias("numberofpages", "POČETSTRAN", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "POČETČLÁNKŮ", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "POČETSOUBORŮ", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "POČETUŽIVATELŮ", "NUMBEROFUSERS");
-		addI18nAlias("numberofactiveusers", "POČETAKTIVNÍCHUŽIVATELŮ", "NUMBEROFACTIVEUSERS");
-		addI18nAlias("numberofedits", "POČETEDITACÍ", "NUMBEROFEDITS");
-		addI18nAlias("pagename", "NÁZEVSTRANY", "PAGENAME");
-		addI18nAlias("pagenamee", "NÁZEVSTRANYE", "PAGENAMEE");
-		addI18nAlias("namespace", "JMENNÝPROSTOR", "NAMESPACE");
-		addI18nAlias("namespacee", "JMENNÝPROSTORE", "NAMESPACEE");
-		addI18nAlias("talkspace", "DISKUSNÍPROSTOR", "TALKSPACE");
-		addI18nAlias("talkspacee", "DISKUSNÍPROSTORE", "TALKSPACEE");
-		addI18nAlias("subjectspace", "ČLÁNEKPROSTOR", "SUBJECTSPACE", "ARTICLESPACE");
-		addI18nAlias("subjectspacee", "ČLÁNEKPROSTORE", "SUBJECTSPACEE", "ARTICLESPACEE");
-		addI18nAlias("fullpagename", "PLNÝNÁZEVSTRANY", "FULLPAGENAME");
-		addI18nAlias("fullpagenamee", "PLNÝNÁZEVSTRANYE", "FULLPAGENAMEE");
-		addI18nAlias("subpagename", "NÁZEVPODSTRANY", "SUBPAGENAME");
-		addI18nAlias("subpagenamee", "NÁZEVPODSTRANYE", "SUBPAGENAMEE");
-		addI18nAlias("basepagename", "NÁZEVNADSTRANY", "BASEPAGENAME");
-		addI18nAlias("basepagenamee", "NÁZEVNADSTRANYE", "BASEPAGENAMEE");
-		addI18nAlias("talkpagename", "NÁZEVDISKUSE", "TALKPAGENAME");
-		addI18nAlias("talkpagenamee", "NÁZEVDISKUSEE", "TALKPAGENAMEE");
-		addI18nAlias("subjectpagename", "NÁZEVČLÁNKU", "SUBJECTPAGENAME", "ARTICLEPAGENAME");
-		addI18nAlias("subjectpagenamee", "NÁZEVČLÁNKUE", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE");
-		addI18nCIAlias("subst", "VLOŽIT:", "SUBST:");
-		addI18nCIAlias("msgnw", "VLOŽITNW:", "MSGNW:");
-		addI18nAlias("img_thumbnail", "náhled", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "náhled=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "vpravo", "right");
-		addI18nAlias("img_left", "vlevo", "left");
-		addI18nAlias("img_none", "žádné", "none");
-		addI18nAlias("img_width", "$1pixelů", "$1px");
-		addI18nAlias("img_center", "střed", "center", "centre");
-		addI18nAlias("img_framed", "rám", "framed", "enframed", "frame");
-		addI18nAlias("img_frameless", "bezrámu", "frameless");
-		addI18nAlias("img_lang", "jazyk=$1", "lang=$1");
-		addI18nAlias("img_page", "strana=$1", "strana_$1", "page=$1", "page $1");
-		addI18nAlias("img_border", "okraj", "border");
-		addI18nAlias("sitename", "NÁZEVWEBU", "SITENAME");
-		addI18nCIAlias("ns", "JMENNÝPROSTOR:", "NS:");
-		addI18nCIAlias("localurl", "MÍSTNÍURL:", "LOCALURL:");
-		addI18nCIAlias("localurle", "MÍSTNÍURLE:", "LOCALURLE:");
-		addI18nCIAlias("servername", "NÁZEVSERVERU", "SERVERNAME");
-		addI18nCIAlias("grammar", "SKLOŇUJ:", "GRAMMAR:");
-		addI18nCIAlias("notitleconvert", "__BEZKONVERZENADPISU__", "__NOTITLECONVERT__", "__NOTC__");
-		addI18nCIAlias("nocontentconvert", "__BEZKONVERZEOBSAHU__", "__NOCONTENTCONVERT__", "__NOCC__");
-		addI18nAlias("currentweek", "AKTUÁLNÍTÝDEN", "CURRENTWEEK");
-		addI18nAlias("currentdow", "AKTUÁLNÍDENTÝDNE", "CURRENTDOW");
-		addI18nAlias("localweek", "MÍSTNÍTÝDEN", "LOCALWEEK");
-		addI18nAlias("localdow", "MÍSTNÍDENTÝDNE", "LOCALDOW");
-		addI18nAlias("revisionid", "IDREVIZE", "REVISIONID");
-		addI18nAlias("revisionday", "DENREVIZE", "REVISIONDAY");
-		addI18nAlias("revisionday2", "DENREVIZE2", "REVISIONDAY2");
-		addI18nAlias("revisionmonth", "MĚSÍCREVIZE", "REVISIONMONTH");
-		addI18nAlias("revisionyear", "ROKREVIZE", "REVISIONYEAR");
-		addI18nAlias("revisiontimestamp", "KÓDČASUREVIZE", "REVISIONTIMESTAMP");
-		addI18nCIAlias("plural", "PLURÁL:", "PLURAL:");
-		addI18nCIAlias("fullurl", "PLNÉURL:", "FULLURL:");
-		addI18nCIAlias("fullurle", "PLNÉURLE:", "FULLURLE:");
-		addI18nCIAlias("lcfirst", "PRVNÍMALÉ:", "LCFIRST:");
-		addI18nCIAlias("ucfirst", "PRVNÍVELKÉ:", "UCFIRST:");
-		addI18nCIAlias("lc", "MALÁ:", "LC:");
-		addI18nCIAlias("uc", "VELKÁ:", "UC:");
-		addI18nAlias("displaytitle", "ZOBRAZOVANÝNADPIS", "DISPLAYTITLE");
-		addI18nAlias("newsectionlink", "__LINKPŘIDATKOMENTÁŘ__", "__NEWSECTIONLINK__");
-		addI18nAlias("currentversion", "VERZESOFTWARE", "CURRENTVERSION");
-		addI18nCIAlias("urlencode", "ENKÓDOVATURL:", "URLENCODE:");
-		addI18nCIAlias("anchorencode", "ENKÓDOVATNADPIS", "ANCHORENCODE");
-		addI18nAlias("currenttimestamp", "AKTUÁLNÍKÓDČASU", "CURRENTTIMESTAMP");
-		addI18nAlias("localtimestamp", "MÍSTNÍKÓDČASU", "LOCALTIMESTAMP");
-		addI18nCIAlias("language", "#JAZYK:", "#LANGUAGE:");
-		addI18nAlias("contentlanguage", "JAZYKOBSAHU", "CONTENTLANGUAGE", "CONTENTLANG");
-		addI18nAlias("pagesinnamespace", "STRÁNEKVEJMENNÉMPROSTORU:", "PAGESINNAMESPACE:", "PAGESINNS:");
-		addI18nAlias("numberofadmins", "POČETSPRÁVCŮ", "NUMBEROFADMINS");
-		addI18nCIAlias("formatnum", "FORMÁTUJČÍSLO", "FORMATNUM");
-		addI18nCIAlias("padleft", "ZAROVNATVLEVO", "PADLEFT");
-		addI18nCIAlias("padright", "ZAROVNATVPRAVO", "PADRIGHT");
-		addI18nCIAlias("special", "speciální", "special");
-		addI18nAlias("defaultsort", "KLÍČŘAZENÍ:", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:");
-		addI18nCIAlias("filepath", "CESTAKSOUBORU", "FILEPATH:");
-		addI18nCIAlias("tag", "značka", "tag");
-		addI18nAlias("hiddencat", "__SKRÝTKAT__", "__HIDDENCAT__");
-		addI18nAlias("pagesincategory", "STRÁNEKVKATEGORII", "STRÁNEKVKAT", "PAGESINCATEGORY", "PAGESINCAT");
-		addI18nAlias("pagesize", "VELIKOSTSTRÁNKY", "PAGESIZE");
-		addI18nAlias("index", "__INDEXOVAT__", "__INDEX__");
-		addI18nAlias("noindex", "__NEINDEXOVAT__", "__NOINDEX__");
-		addI18nAlias("staticredirect", "__STATICKÉPŘESMĚROVÁNÍ__", "__STATICREDIRECT__");
-		addI18nAlias("protectionlevel", "ÚROVEŇZAMČENÍ", "PROTECTIONLEVEL");
-		addI18nCIAlias("pagesincategory_files", "soubory", "files");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://cs.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "cs";
-	}
-}
@@ -1,58 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class CuConfig extends TemplateConfig {
-	public CuConfig() {
-		addNamespaceAlias(-2, "Срѣдьства", "Срѣдьства");
-		addNamespaceAlias(-1, "Нарочьна", "Нарочьна");
-		addNamespaceAlias(1, "Бєсѣда", "Бесѣда");
-		addNamespaceAlias(2, "Польꙃєватєл҄ь", "Польѕевател҄ь");
-		addNamespaceAlias(3, "Польꙃєватєлꙗ_бєсѣда", "Польѕевател_бесѣда");
-		addNamespaceAlias(5, "{{GRAMMAR:genitive|Wikipedia}}_бєсѣда", "{{grammar:genitive|Wikipedia}}_бесѣда");
-		addNamespaceAlias(6, "Дѣло", "Ви́дъ", "Видъ");
-		addNamespaceAlias(7, "Дѣла_бєсѣда", "Ви́да_бєсѣ́да", "Вида_бесѣда");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "MediaWiki_бєсѣда", "MediaWiki_бесѣда");
-		addNamespaceAlias(10, "Обраꙁьць", "Образьць");
-		addNamespaceAlias(11, "Обраꙁьца_бєсѣда", "Образьца_бесѣда");
-		addNamespaceAlias(12, "Помощь", "Помощь");
-		addNamespaceAlias(13, "Помощи_бєсѣда", "Помощи_бесѣда");
-		addNamespaceAlias(14, "Катигорїꙗ", "Катигорї");
-		addNamespaceAlias(15, "Катигорїѩ_бєсѣда", "Катигорїѩ_бесѣда");
-
-		addI18nCIAlias("redirect", "#ПРѢНАПРАВЛЄНИѤ", "#REDIRECT");
-		addI18nCIAlias("language", "#ѨꙀꙐКЪ:", "#LANGUAGE:");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://cu.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "cu";
-	}
-}
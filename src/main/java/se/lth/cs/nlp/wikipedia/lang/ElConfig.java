@@ -1,200 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class ElConfig extends TemplateConfig {
-	public ElConfig() {
-		addNamespaceAlias(-2, "Μέσο", "Μέσον");
-		addNamespaceAlias(-1, "Ειδικό");
-		addNamespaceAlias(1, "Συζήτηση");
-		addNamespaceAlias(2, "Χρήστης");
-		addNamespaceAlias(3, "Συζήτηση_χρήστη");
-		addNamespaceAlias(5, "Συζήτηση_Wikipedia", "Wikipedia_συζήτηση");
-		addNamespaceAlias(6, "Αρχείο", "Εικόνα");
-		addNamespaceAlias(7, "Συζήτηση_αρχείου", "Συζήτηση_εικόνας");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "Συζήτηση_MediaWiki");
-		addNamespaceAlias(10, "Πρότυπο");
-		addNamespaceAlias(11, "Συζήτηση_προτύπου");
-		addNamespaceAlias(12, "Βοήθεια");
-		addNamespaceAlias(13, "Συζήτηση_βοήθειας");
-		addNamespaceAlias(14, "Κατηγορία");
-		addNamespaceAlias(15, "Συζήτηση_κατηγορίας");
-
-		addI18nCIAlias("redirect", "#ΑΝΑΚΑΤΕΥΘΥΝΣΗ", "#REDIRECT");
-		addI18nCIAlias("notoc", "__ΧΩΡΙΣΠΠ__", "__ΧΩΡΙΣΠΙΝΑΚΑΠΕΡΙΕΧΟΜΕΝΩΝ__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__ΧΩΡΙΣΠΙΝΑΚΟΘΗΚΗ__", "__NOGALLERY__");
-		addI18nCIAlias("forcetoc", "__ΜΕΠΠ__", "__ΜΕΠΙΝΑΚΑΠΕΡΙΕΧΟΜΕΝΩΝ__", "__FORCETOC__");
-		addI18nCIAlias("toc", "__ΠΠ__", "__ΠΙΝΑΚΑΣΠΕΡΙΕΧΟΜΕΝΩΝ__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__ΧΩΡΙΣΕΠΕΞΕΝΟΤ__", "__ΧΩΡΙΣΕΠΕΞΕΡΓΑΣΙΑΕΝΟΤΗΤΩΝ__", "__NOEDITSECTION__");
-		addI18nAlias("currentmonth", "ΤΡΕΧΩΝΜΗΝΑΣ", "ΤΡΕΧΩΝΜΗΝΑΣ2", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonth1", "ΤΡΕΧΩΝΜΗΝΑΣ1", "CURRENTMONTH1");
-		addI18nAlias("currentmonthname", "ΤΡΕΧΩΝΜΗΝΑΣΟΝΟΜΑ", "CURRENTMONTHNAME");
-		addI18nAlias("currentmonthnamegen", "ΤΡΕΧΩΝΜΗΝΑΣΓΕΝΙΚΗ", "CURRENTMONTHNAMEGEN");
-		addI18nAlias("currentmonthabbrev", "ΤΡΕΧΩΝΜΗΝΑΣΣΥΝΤ", "CURRENTMONTHABBREV");
-		addI18nAlias("currentday", "ΤΡΕΧΟΥΣΑΜΕΡΑ", "CURRENTDAY");
-		addI18nAlias("currentday2", "ΤΡΕΧΟΥΣΑΜΕΡΑ2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "ΤΡΕΧΟΥΣΑΜΕΡΑΟΝΟΜΑ", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "ΤΡΕΧΟΝΕΤΟΣ", "CURRENTYEAR");
-		addI18nAlias("currenttime", "ΤΡΕΧΩΝΧΡΟΝΟΣ", "CURRENTTIME");
-		addI18nAlias("currenthour", "ΤΡΕΧΟΥΣΑΩΡΑ", "CURRENTHOUR");
-		addI18nAlias("localmonth", "ΤΟΠΙΚΟΣΜΗΝΑΣ", "LOCALMONTH", "LOCALMONTH2");
-		addI18nAlias("localmonth1", "ΤΟΠΙΚΟΣΜΗΝΑΣ1", "LOCALMONTH1");
-		addI18nAlias("localmonthname", "ΤΟΠΙΚΟΣΜΗΝΑΣΟΝΟΜΑ", "LOCALMONTHNAME");
-		addI18nAlias("localmonthnamegen", "ΤΟΠΙΚΟΣΜΗΝΑΣΓΕΝΙΚΗ", "LOCALMONTHNAMEGEN");
-		addI18nAlias("localmonthabbrev", "ΤΟΠΙΚΟΣΜΗΝΑΣΣΥΝΤ", "LOCALMONTHABBREV");
-		addI18nAlias("localday", "ΤΟΠΙΚΗΜΕΡΑ", "LOCALDAY");
-		addI18nAlias("localday2", "ΤΟΠΙΚΗΜΕΡΑ2", "LOCALDAY2");
-		addI18nAlias("localdayname", "ΤΟΠΙΚΗΜΕΡΑΟΝΟΜΑ", "LOCALDAYNAME");
-		addI18nAlias("localyear", "ΤΟΠΙΚΟΕΤΟΣ", "LOCALYEAR");
-		addI18nAlias("localtime", "ΤΟΠΙΚΟΣΧΡΟΝΟΣ", "LOCALTIME");
-		addI18nAlias("localhour", "ΤΟΠΙΚΗΩΡΑ", "LOCALHOUR");
-		addI18nAlias("numberofpages", "ΑΡΙΘΜΟΣΣΕΛΙΔΩΝ", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "ΑΡΙΘΜΟΣΑΡΘΡΩΝ", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "ΑΡΙΘΜΟΣΑΡΧΕΙΩΝ", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "ΑΡΙΘΜΟΣΧΡΗΣΤΩΝ", "NUMBEROFUSERS");
-		addI18nAlias("numberofactiveusers", "ΕΝΕΡΓΟΙΧΡΗΣΤΕΣ", "ΑΡΙΘΜΟΣΕΝΕΡΓΩΝΧΡΗΣΤΩΝ", "NUMBEROFACTIVEUSERS");
-		addI18nAlias("numberofedits", "ΑΡΙΘΜΟΣΕΠΕΞΕΡΓΑΣΙΩΝ", "NUMBEROFEDITS");
-		addI18nAlias("numberofviews", "ΑΡΙΘΜΟΣΕΜΦΑΝΙΣΕΩΝ", "NUMBEROFVIEWS");
-		addI18nAlias("pagename", "ΟΝΟΜΑΣΕΛΙΔΑΣ", "PAGENAME");
-		addI18nAlias("pagenamee", "ΟΝΟΜΑΣΕΛΙΔΑΣΚ", "PAGENAMEE");
-		addI18nAlias("namespace", "ΠΕΡΙΟΧΗ", "NAMESPACE");
-		addI18nAlias("namespacee", "ΠΕΡΙΟΧΗΚ", "NAMESPACEE");
-		addI18nAlias("namespacenumber", "ΑΡΙΘΜΟΣΟΝΟΜΑΤΟΣΧΩΡΟΥ", "ΑΡΙΘΜΟΣΟΝΟΜΑΤΟΧΩΡΟΥ", "NAMESPACENUMBER");
-		addI18nAlias("talkspace", "ΠΕΡΙΟΧΗΣΥΖΗΤΗΣΕΩΝ", "TALKSPACE");
-		addI18nAlias("talkspacee", "ΠΕΡΙΟΧΗΣΥΖΗΤΗΣΕΩΝΚ", "TALKSPACEE");
-		addI18nAlias("subjectspace", "ΠΕΡΙΟΧΗΘΕΜΑΤΩΝ", "SUBJECTSPACE", "ARTICLESPACE");
-		addI18nAlias("subjectspacee", "ΠΕΡΙΟΧΗΘΕΜΑΤΩΝΚ", "SUBJECTSPACEE", "ARTICLESPACEE");
-		addI18nAlias("fullpagename", "ΠΛΗΡΕΣΟΝΟΜΑΣΕΛΙΔΑΣ", "FULLPAGENAME");
-		addI18nAlias("fullpagenamee", "ΠΛΗΡΕΣΟΝΟΜΑΣΕΛΙΔΑΣΚ", "FULLPAGENAMEE");
-		addI18nAlias("subpagename", "ΟΝΟΜΑΥΠΟΣΕΛΙΔΑΣ", "SUBPAGENAME");
-		addI18nAlias("subpagenamee", "ΟΝΟΜΑΥΠΟΣΕΛΙΔΑΣΚ", "SUBPAGENAMEE");
-		addI18nAlias("basepagename", "ΒΑΣΗΟΝΟΜΑΤΟΣΣΕΛΙΔΑΣ", "BASEPAGENAME");
-		addI18nAlias("basepagenamee", "ΒΑΣΗΟΝΟΜΑΤΟΣΣΕΛΙΔΑΣΚ", "BASEPAGENAMEE");
-		addI18nAlias("talkpagename", "ΟΝΟΜΑΣΕΛΙΔΑΣΣΥΖΗΤΗΣΕΩΝ", "TALKPAGENAME");
-		addI18nAlias("talkpagenamee", "ΟΝΟΜΑΣΕΛΙΔΑΣΣΥΖΗΤΗΣΕΩΝΚ", "TALKPAGENAMEE");
-		addI18nAlias("subjectpagename", "ΟΝΟΜΑΣΕΛΙΔΑΣΘΕΜΑΤΟΣ", "SUBJECTPAGENAME", "ARTICLEPAGENAME");
-		addI18nAlias("subjectpagenamee", "ΟΝΟΜΑΣΕΛΙΔΑΣΘΕΜΑΤΟΣΚ", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE");
-		addI18nCIAlias("msg", "ΚΕΙΜΕΝΟ:", "MSG:");
-		addI18nCIAlias("subst", "ΑΛΛΑΓΗ:", "SUBST:");
-		addI18nCIAlias("msgnw", "ΑΠΛΟΚΕΙΜΕΝΟ:", "MSGNW:");
-		addI18nAlias("img_thumbnail", "μικρογραφία", "μινιατούρα", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "μικρογραφία=$1", "μινιατούρα=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "δεξιά", "right");
-		addI18nAlias("img_left", "αριστερά", "left");
-		addI18nAlias("img_none", "καθόλου", "none");
-		addI18nAlias("img_width", "$1εσ", "$1px");
-		addI18nAlias("img_center", "κέντρο", "center", "centre");
-		addI18nAlias("img_framed", "με-πλαίσιο", "framed", "enframed", "frame");
-		addI18nAlias("img_frameless", "χωρίς-πλαίσιο", "frameless");
-		addI18nAlias("img_page", "σελίδα=$1", "σελίδα_$1", "page=$1", "page $1");
-		addI18nAlias("img_upright", "κατακόρυφα", "κατακόρυφα=$1", "κατακόρυφα_$1", "upright", "upright=$1", "upright $1");
-		addI18nAlias("img_border", "πλαίσιο", "border");
-		addI18nAlias("img_baseline", "γραμμήβάσης", "baseline");
-		addI18nAlias("img_sub", "δείκτης", "sub");
-		addI18nAlias("img_super", "εκθέτης", "super", "sup");
-		addI18nAlias("img_top", "άνω", "top");
-		addI18nAlias("img_text_top", "πάνω-από-το-κείμενο", "text-top");
-		addI18nAlias("img_middle", "μέσο", "middle");
-		addI18nAlias("img_bottom", "κάτω", "bottom");
-		addI18nAlias("img_text_bottom", "κάτω-από-το-κείμενο", "text-bottom");
-		addI18nAlias("img_link", "σύνδεσμος=$1", "link=$1");
-		addI18nAlias("img_alt", "εναλλ.=$1", "alt=$1");
-		addI18nCIAlias("int", "ΕΣΩΤ:", "INT:");
-		addI18nAlias("sitename", "ΙΣΤΟΧΩΡΟΣ", "SITENAME");
-		addI18nCIAlias("ns", "ΧΟ:", "ΧΩΡΟΣΟΝΟΜΑΤΩΝ:", "ΟΧ:", "ΟΝΟΜΑΤΟΧΩΡΟΣ:", "NS:");
-		addI18nCIAlias("localurl", "ΤΟΠΙΚΟURL:", "LOCALURL:");
-		addI18nCIAlias("localurle", "ΤΟΠΙΚΟURLΚ:", "LOCALURLE:");
-		addI18nCIAlias("server", "ΕΞΥΠΗΡΕΤΗΤΗΣ", "SERVER");
-		addI18nCIAlias("servername", "ΟΝΟΜΑΕΞΥΠΗΡΕΤΗΤΗ", "SERVERNAME");
-		addI18nCIAlias("scriptpath", "ΔΙΑΔΡΟΜΗΠΡΟΓΡΑΜΜΑΤΟΣ", "SCRIPTPATH");
-		addI18nCIAlias("stylepath", "ΔΙΑΔΡΟΜΗΣΤΥΛ", "STYLEPATH");
-		addI18nCIAlias("grammar", "ΓΡΑΜΜΑΤΙΚΗ:", "GRAMMAR:");
-		addI18nCIAlias("gender", "ΦΥΛΟ:", "GENDER:");
-		addI18nCIAlias("notitleconvert", "__ΧΩΡΙΣΜΕΤΑΤΡΟΠΗΤΙΤΛΟΥ__", "__NOTITLECONVERT__", "__NOTC__");
-		addI18nCIAlias("nocontentconvert", "__ΧΩΡΙΣΜΕΤΑΤΡΟΠΗΠΕΡΙΧΟΜΕΝΟΥ__", "__NOCONTENTCONVERT__", "__NOCC__");
-		addI18nAlias("currentweek", "ΤΡΕΧΟΥΣΑΕΒΔΟΜΑΔΑ", "CURRENTWEEK");
-		addI18nAlias("currentdow", "ΤΡΕΧΟΥΣΑΜΕΡΑΕΒΔΟΜΑΔΑΣ", "CURRENTDOW");
-		addI18nAlias("localweek", "ΤΟΠΙΚΗΕΒΔΟΜΑΔΑ", "LOCALWEEK");
-		addI18nAlias("localdow", "ΤΟΠΙΚΗΜΕΡΑΕΒΔΟΜΑΔΑΣ", "LOCALDOW");
-		addI18nAlias("revisionid", "ΚΩΔΙΚΟΣΑΛΛΑΓΗΣ", "REVISIONID");
-		addI18nAlias("revisionday", "ΜΕΡΑΑΛΛΑΓΗΣ", "REVISIONDAY");
-		addI18nAlias("revisionday2", "ΜΕΡΑΑΛΛΑΓΗΣ2", "REVISIONDAY2");
-		addI18nAlias("revisionmonth", "ΜΗΝΑΣΑΛΛΑΓΗΣ", "REVISIONMONTH");
-		addI18nAlias("revisionmonth1", "ΜΗΝΑΣΑΝΑΘΕΩΡΗΣΗΣ1", "REVISIONMONTH1");
-		addI18nAlias("revisionyear", "ΕΤΟΣΑΛΛΑΓΗΣ", "REVISIONYEAR");
-		addI18nAlias("revisiontimestamp", "ΧΡΟΝΟΣΗΜΑΝΣΗΑΛΛΑΓΗΣ", "REVISIONTIMESTAMP");
-		addI18nAlias("revisionuser", "ΧΡΗΣΤΗΣΑΝΑΘΕΩΡΗΣΗΣ", "REVISIONUSER");
-		addI18nCIAlias("plural", "ΠΛΗΘΥΝΤΙΚΟΣ:", "PLURAL:");
-		addI18nCIAlias("fullurl", "ΠΛΗΡΕΣURL:", "FULLURL:");
-		addI18nCIAlias("fullurle", "ΠΛΗΡΕΣURLΚ:", "FULLURLE:");
-		addI18nCIAlias("canonicalurl", "ΚΑΝΟΝΙΚΟURL:", "CANONICALURL:");
-		addI18nCIAlias("canonicalurle", "ΚΑΝΟΝΙΚΟURLΚ:", "CANONICALURLE:");
-		addI18nCIAlias("lcfirst", "ΠΡΩΤΟΠΕΖΟ:", "LCFIRST:");
-		addI18nCIAlias("ucfirst", "ΠΡΩΤΟΚΕΦΑΛΑΙΟ:", "UCFIRST:");
-		addI18nCIAlias("lc", "ΠΕΖΑ:", "LC:");
-		addI18nCIAlias("uc", "ΚΕΦΑΛΑΙΑ:", "UC:");
-		addI18nCIAlias("raw", "ΓΥΜΝΑ:", "RAW:");
-		addI18nAlias("displaytitle", "ΔΕΙΞΕΤΙΤΛΟ", "ΠΡΟΒΟΛΗΤΙΤΛΟΥ", "DISPLAYTITLE");
-		addI18nAlias("rawsuffix", "Γ", "R");
-		addI18nAlias("newsectionlink", "__ΔΕΣΜΟΣΝΕΑΣΕΝΟΤΗΤΑΣ__", "__NEWSECTIONLINK__");
-		addI18nAlias("currentversion", "ΤΡΕΧΟΥΣΑΕΚΔΟΣΗ", "CURRENTVERSION");
-		addI18nCIAlias("urlencode", "ΚΩΔΙΚΟΠΟΙΗΣΗURL:", "URLENCODE:");
-		addI18nCIAlias("anchorencode", "ΚΩΔΙΚΟΠΟΙΗΣΗΑΓΚΥΡΑΣ", "ANCHORENCODE");
-		addI18nAlias("currenttimestamp", "ΤΡΕΧΟΥΣΑΧΡΟΝΟΣΗΜΑΝΣΗ", "CURRENTTIMESTAMP");
-		addI18nAlias("localtimestamp", "ΤΟΠΙΚΗΧΡΟΝΟΣΗΜΑΝΣΗ", "LOCALTIMESTAMP");
-		addI18nAlias("directionmark", "ΚΩΔΙΚΟΣΦΟΡΑΣ", "DIRECTIONMARK", "DIRMARK");
-		addI18nCIAlias("language", "#ΓΛΩΣΣΑ:", "#LANGUAGE:");
-		addI18nAlias("contentlanguage", "ΓΛΩΣΣΑΠΕΡΙΕΧΟΜΕΝΟΥ", "CONTENTLANGUAGE", "CONTENTLANG");
-		addI18nAlias("pagesinnamespace", "ΣΕΛΙΔΕΣΣΤΗΝΠΕΡΙΟΧΗΟΝΟΜΑΤΩΝ:", "ΣΕΛΙΔΕΣΣΤΗΝΠΟ:", "PAGESINNAMESPACE:", "PAGESINNS:");
-		addI18nAlias("numberofadmins", "ΑΡΙΘΜΟΣΔΙΑΧΕΙΡΙΣΤΩΝ", "NUMBEROFADMINS");
-		addI18nCIAlias("formatnum", "ΜΟΡΦΟΠΟΙΗΣΗΑΡΙΘΜΟΥ", "FORMATNUM");
-		addI18nCIAlias("padleft", "ΑΡΙΣΤΕΡΟΠΑΡΑΓΕΜΙΣΜΑ", "PADLEFT");
-		addI18nCIAlias("padright", "ΔΕΞΙΠΑΡΑΓΕΜΙΣΜΑ", "PADRIGHT");
-		addI18nCIAlias("special", "λειτουργία", "special");
-		addI18nAlias("defaultsort", "ΠΡΟΚΑΘΟΡΙΣΜΕΝΗΤΑΞΙΝΟΜΗΣΗ:", "ΚΛΕΙΔΙΠΡΟΚΑΘΟΡΙΣΜΕΝΗΣΤΑΞΙΝΟΜΗΣΗΣ:", "ΠΡΟΚΑΘΟΡΙΣΜΕΝΗΤΑΞΙΝΟΜΗΣΗΚΑΤΗΓΟΡΙΑΣ:", "ΠΡΟΚΤΑΞ:", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:");
-		addI18nCIAlias("filepath", "ΔΙΑΔΡΟΜΗΑΡΧΕΙΟΥ:", "FILEPATH:");
-		addI18nCIAlias("tag", "ετικέτα", "tag");
-		addI18nAlias("hiddencat", "__ΚΡΥΦΗΚΑΤΗΓΟΡΙΑ__", "__HIDDENCAT__");
-		addI18nAlias("pagesincategory", "ΣΕΛΙΔΕΣΣΤΗΝΚΑΤΗΓΟΡΙΑ", "PAGESINCATEGORY", "PAGESINCAT");
-		addI18nAlias("pagesize", "ΜΕΓΕΘΟΣΣΕΛΙΔΑΣ", "PAGESIZE");
-		addI18nAlias("index", "__ΕΥΡΕΤΗΡΙΟ__", "__INDEX__");
-		addI18nAlias("noindex", "__ΧΩΡΙΣΕΥΡΕΤΗΡΙΟ__", "__NOINDEX__");
-		addI18nAlias("numberingroup", "ΟΜΑΔΑΑΡΙΘΜΗΣΗΣ", "NUMBERINGROUP", "NUMINGROUP");
-		addI18nAlias("staticredirect", "__ΣΤΑΤΙΚΗΑΝΑΚΑΤΕΥΘΥΝΣΗ__", "__STATICREDIRECT__");
-		addI18nAlias("protectionlevel", "ΕΠΙΠΕΔΟΠΡΟΣΤΑΣΙΑΣ", "PROTECTIONLEVEL");
-		addI18nCIAlias("url_path", "ΔΙΑΔΡΟΜΗ", "PATH");
-		addI18nCIAlias("url_query", "ΕΡΩΤΗΜΑ", "QUERY");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://el.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "el";
-	}
-}
@@ -1,72 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class EuConfig extends TemplateConfig {
-	public EuConfig() {
-		addNamespaceAlias(-2, "Media");
-		addNamespaceAlias(-1, "Berezi", "Aparteko");
-		addNamespaceAlias(1, "Eztabaida");
-		addNamespaceAlias(2, "Lankide");
-		addNamespaceAlias(3, "Lankide_eztabaida");
-		addNamespaceAlias(5, "Wikipedia_eztabaida");
-		addNamespaceAlias(6, "Fitxategi", "Irudi");
-		addNamespaceAlias(7, "Fitxategi_eztabaida", "Irudi_eztabaida");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "MediaWiki_eztabaida");
-		addNamespaceAlias(10, "Txantiloi");
-		addNamespaceAlias(11, "Txantiloi_eztabaida");
-		addNamespaceAlias(12, "Laguntza");
-		addNamespaceAlias(13, "Laguntza_eztabaida");
-		addNamespaceAlias(14, "Kategoria");
-		addNamespaceAlias(15, "Kategoria_eztabaida");
-
-		addI18nCIAlias("redirect", "#BIRZUZENDU", "#REDIRECT");
-		addI18nAlias("currentmonth", "ORAINGOHILABETE", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonthname", "ORAINGOHILABETEIZEN", "CURRENTMONTHNAME");
-		addI18nAlias("currentday", "ORAINGOEGUN", "CURRENTDAY");
-		addI18nAlias("currentday2", "ORAINGOEGUN2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "ORAINGOEGUNIZEN", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "ORAINGOURTE", "CURRENTYEAR");
-		addI18nAlias("numberofpages", "ORRIALDEKOPURU", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "ARTIKULUKOPURU", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "FITXATEGIKOPURU", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "LANKIDEKOPURU", "NUMBEROFUSERS");
-		addI18nAlias("numberofedits", "ALDAKETAKOPURU", "NUMBEROFEDITS");
-		addI18nAlias("pagename", "ORRIALDEIZEN", "PAGENAME");
-		addI18nAlias("img_right", "eskuinera", "right");
-		addI18nAlias("img_left", "ezkerrera", "left");
-		addI18nAlias("img_center", "erdian", "center", "centre");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://eu.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "eu";
-	}
-}
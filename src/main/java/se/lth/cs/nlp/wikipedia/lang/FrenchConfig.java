@@ -175,6 +175,7 @@ public class FrenchConfig extends TemplateConfig {
         addI18nCIAlias("pagesincategory_all", "tous", "all");
         addI18nCIAlias("pagesincategory_subcats", "souscats", "subcats");
         addI18nCIAlias("pagesincategory_files", "fichiers", "files");
+        addExcludedSections("fr");
     }
 
     @Override
@@ -1,214 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class FrpConfig extends TemplateConfig {
-	public FrpConfig() {
-		addNamespaceAlias(-2, "Mèdia", "Média");
-		addNamespaceAlias(-1, "Spèciâl", "Spécial");
-		addNamespaceAlias(1, "Discussion", "Discutar", "Discussion", "Discuter");
-		addNamespaceAlias(2, "Utilisator", "Usanciér", "Utilisateur", "Utilisateur", "Utilisatrice");
-		addNamespaceAlias(3, "Discussion_utilisator", "Discussion_usanciér", "Discussion_utilisateur", "Discussion_Utilisateur", "Discussion_utilisateur", "Discussion_utilisatrice");
-		addNamespaceAlias(5, "Discussion_Wikipedia", "Discussion_Wikipedia");
-		addNamespaceAlias(6, "Fichiér", "Émâge", "Fichier");
-		addNamespaceAlias(7, "Discussion_fichiér", "Discussion_Émâge", "Discussion_fichier", "Discussion_Fichier", "Discussion_Image");
-		addNamespaceAlias(8, "MediaWiki", "MediaWiki");
-		addNamespaceAlias(9, "Discussion_MediaWiki", "Discussion_MediaWiki");
-		addNamespaceAlias(10, "Modèlo", "Modèle");
-		addNamespaceAlias(11, "Discussion_modèlo", "Discussion_Modèlo", "Discussion_modèle", "Discussion_Modèle");
-		addNamespaceAlias(12, "Éde", "Aide");
-		addNamespaceAlias(13, "Discussion_éde", "Discussion_Éde", "Discussion_aide", "Discussion_Aide");
-		addNamespaceAlias(14, "Catègorie", "Catégorie");
-		addNamespaceAlias(15, "Discussion_catègorie", "Discussion_Catègorie", "Discussion_catégorie", "Discussion_Catégorie");
-
-		addI18nCIAlias("redirect", "#REDIRÈCCION", "#REDIRECTION", "#REDIRECT", "Array");
-		addI18nCIAlias("notoc", "__NION_SOMÈRO__", "__NIONA_TRÂBLA__", "__AUCUNSOMMAIRE__", "__AUCUNETDM__", "__NOTOC__", "Array");
-		addI18nCIAlias("nogallery", "__NIONA_GALERIE__", "__AUCUNEGALERIE__", "__NOGALLERY__", "Array");
-		addI18nCIAlias("forcetoc", "__FORCIÉR_LO_SOMÈRO__", "__FORCIÉR_LA_TRÂBLA__", "__FORCERSOMMAIRE__", "__FORCERTDM__", "__FORCETOC__", "Array");
-		addI18nCIAlias("toc", "__SOMÈRO__", "__TRÂBLA__", "__SOMMAIRE__", "__TDM__", "__TOC__", "Array");
-		addI18nCIAlias("noeditsection", "__SÈCCION_QUE_PÔT_PAS_ÉTRE_CHANGIÊ__", "__SECTIONNONEDITABLE__", "__NOEDITSECTION__", "Array");
-		addI18nAlias("currentmonth", "MÊS_D_ORA", "MÊS_D_ORA_2", "MOISACTUEL", "MOIS2ACTUEL", "CURRENTMONTH", "CURRENTMONTH2", "Array");
-		addI18nAlias("currentmonth1", "MÊS_D_ORA_1", "MOIS1ACTUEL", "CURRENTMONTH1", "Array");
-		addI18nAlias("currentmonthname", "NOM_DU_MÊS_D_ORA", "NOMMOISACTUEL", "CURRENTMONTHNAME", "Array");
-		addI18nAlias("currentmonthnamegen", "GÈNITIF_DU_NOM_DU_MÊS_D_ORA", "NOMGENMOISACTUEL", "CURRENTMONTHNAMEGEN", "Array");
-		addI18nAlias("currentmonthabbrev", "ABRÈV_DU_MÊS_D_ORA", "ABREVMOISACTUEL", "CURRENTMONTHABBREV", "Array");
-		addI18nAlias("currentday", "JORN_D_ORA", "JOURACTUEL", "JOUR1ACTUEL", "CURRENTDAY", "Array");
-		addI18nAlias("currentday2", "JORN_D_ORA_2", "JOUR2ACTUEL", "CURRENTDAY2", "Array");
-		addI18nAlias("currentdayname", "NOM_DU_JORN_D_ORA", "NOMJOURACTUEL", "CURRENTDAYNAME", "Array");
-		addI18nAlias("currentyear", "AN_D_ORA", "ANNEEACTUELLE", "CURRENTYEAR", "Array");
-		addI18nAlias("currenttime", "HORÈRO_D_ORA", "HORAIREACTUEL", "CURRENTTIME", "Array");
-		addI18nAlias("currenthour", "HORA_D_ORA", "HEUREACTUELLE", "CURRENTHOUR", "Array");
-		addI18nAlias("localmonth", "MÊS_LOCAL", "MÊS_LOCAL_2", "MOISLOCAL", "MOIS2LOCAL", "LOCALMONTH", "LOCALMONTH2", "Array");
-		addI18nAlias("localmonth1", "MÊS_LOCAL_1", "MOIS1LOCAL", "LOCALMONTH1", "Array");
-		addI18nAlias("localmonthname", "NOM_DU_MÊS_LOCAL", "NOMMOISLOCAL", "LOCALMONTHNAME", "Array");
-		addI18nAlias("localmonthnamegen", "GÈNITIF_DU_NOM_DU_MÊS_LOCAL", "NOMGENMOISLOCAL", "LOCALMONTHNAMEGEN", "Array");
-		addI18nAlias("localmonthabbrev", "ABRÈV_DU_MÊS_LOCAL", "ABREVMOISLOCAL", "LOCALMONTHABBREV", "Array");
-		addI18nAlias("localday", "JORN_LOCAL", "JOURLOCAL", "JOUR1LOCAL", "LOCALDAY", "Array");
-		addI18nAlias("localday2", "JORN_LOCAL_2", "JOUR2LOCAL", "LOCALDAY2", "Array");
-		addI18nAlias("localdayname", "NOM_DU_JORN_LOCAL", "NOMJOURLOCAL", "LOCALDAYNAME", "Array");
-		addI18nAlias("localyear", "AN_LOCAL", "ANNEELOCALE", "LOCALYEAR", "Array");
-		addI18nAlias("localtime", "HORÈRO_LOCAL", "HORAIRELOCAL", "LOCALTIME", "Array");
-		addI18nAlias("localhour", "HORA_LOCALA", "HEURELOCALE", "LOCALHOUR", "Array");
-		addI18nAlias("numberofpages", "NOMBRO_DE_PÂGES", "NOMBREPAGES", "NUMBEROFPAGES", "Array");
-		addI18nAlias("numberofarticles", "NOMBRO_D_ARTICLLOS", "NOMBREARTICLES", "NUMBEROFARTICLES", "Array");
-		addI18nAlias("numberoffiles", "NOMBRO_DE_FICHIÉRS", "NOMBREFICHIERS", "NUMBEROFFILES", "Array");
-		addI18nAlias("numberofusers", "NOMBRO_D_USANCIÉRS", "NOMBREUTILISATEURS", "NUMBEROFUSERS", "Array");
-		addI18nAlias("numberofactiveusers", "NOMBRO_D_USANCIÉRS_ACTIFS", "NOMBREUTILISATEURSACTIFS", "NUMBEROFACTIVEUSERS", "Array");
-		addI18nAlias("numberofedits", "NOMBRO_DE_CHANGEMENTS", "NOMBREMODIFS", "NUMBEROFEDITS", "Array");
-		addI18nAlias("numberofviews", "NOMBRO_DE_VUES", "NOMBREVUES", "NUMBEROFVIEWS", "Array");
-		addI18nAlias("pagename", "NOM_DE_LA_PÂGE", "NOMPAGE", "PAGENAME", "Array");
-		addI18nAlias("pagenamee", "NOM_DE_LA_PÂGE_URL", "NOMPAGEX", "PAGENAMEE", "Array");
-		addI18nAlias("namespace", "ÈSPÂÇO_DE_NOMS", "ESPACENOMMAGE", "NAMESPACE", "Array");
-		addI18nAlias("namespacee", "ÈSPÂÇO_DE_NOMS_URL", "ESPACENOMMAGEX", "NAMESPACEE", "Array");
-		addI18nAlias("talkspace", "ÈSPÂÇO_DE_DISCUSSION", "ESPACEDISCUSSION", "TALKSPACE", "Array");
-		addI18nAlias("talkspacee", "ÈSPÂÇO_DE_DISCUSSION_URL", "ESPACEDISCUSSIONX", "TALKSPACEE", "Array");
-		addI18nAlias("subjectspace", "ÈSPÂÇO_DU_SUJÈT", "ÈSPÂÇO_DE_L_ARTICLLO", "ESPACESUJET", "ESPACEARTICLE", "SUBJECTSPACE", "ARTICLESPACE", "Array");
-		addI18nAlias("subjectspacee", "ÈSPÂÇO_DU_SUJÈT_URL", "ÈSPÂÇO_DE_L_ARTICLLO_URL", "ESPACESUJETX", "ESPACEARTICLEX", "SUBJECTSPACEE", "ARTICLESPACEE", "Array");
-		addI18nAlias("fullpagename", "NOM_COMPLÈT_DE_LA_PÂGE", "NOMPAGECOMPLET", "FULLPAGENAME", "Array");
-		addI18nAlias("fullpagenamee", "NOM_COMPLÈT_DE_LA_PÂGE_URL", "NOMPAGECOMPLETX", "FULLPAGENAMEE", "Array");
-		addI18nAlias("subpagename", "NOM_DE_LA_SOT_PÂGE", "NOMSOUSPAGE", "SUBPAGENAME", "Array");
-		addI18nAlias("subpagenamee", "NOM_DE_LA_SOT_PÂGE_URL", "NOMSOUSPAGEX", "SUBPAGENAMEE", "Array");
-		addI18nAlias("basepagename", "NOM_DE_LA_PÂGE_DE_BÂSA", "NOMBASEDEPAGE", "BASEPAGENAME", "Array");
-		addI18nAlias("basepagenamee", "NOM_DE_LA_PÂGE_DE_BÂSA_URL", "NOMBASEDEPAGEX", "BASEPAGENAMEE", "Array");
-		addI18nAlias("talkpagename", "NOM_DE_LA_PÂGE_DE_DISCUSSION", "NOMPAGEDISCUSSION", "TALKPAGENAME", "Array");
-		addI18nAlias("talkpagenamee", "NOM_DE_LA_PÂGE_DE_DISCUSSION_URL", "NOMPAGEDISCUSSIONX", "TALKPAGENAMEE", "Array");
-		addI18nAlias("subjectpagename", "NOM_DE_LA_PÂGE_DU_SUJÈT", "NOM_DE_LA_PÂGE_DE_L_ARTICLLO", "NOMPAGESUJET", "NOMPAGEARTICLE", "SUBJECTPAGENAME", "ARTICLEPAGENAME", "Array");
-		addI18nAlias("subjectpagenamee", "NOM_DE_LA_PÂGE_DU_SUJÈT_URL", "NOM_DE_LA_PÂGE_DE_L_ARTICLLO_URL", "NOMPAGESUJETX", "NOMPAGEARTICLEX", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE", "Array");
-		addI18nCIAlias("msg", "MSJ:", "MSG:");
-		addI18nCIAlias("msgnw", "MSJNV:", "MSGNW:");
-		addI18nAlias("img_thumbnail", "figura", "vignette", "thumbnail", "thumb", "Array");
-		addI18nAlias("img_manualthumb", "figura=$1", "vignette=$1", "thumbnail=$1", "thumb=$1", "Array");
-		addI18nAlias("img_right", "drêta", "droite", "right", "Array");
-		addI18nAlias("img_left", "gôche", "gauche", "left", "Array");
-		addI18nAlias("img_none", "vouedo", "néant", "neant", "none", "Array");
-		addI18nAlias("img_center", "centrâ", "centré", "center", "centre", "Array");
-		addI18nAlias("img_framed", "encâdrâ", "câdro", "cadre", "encadré", "encadre", "framed", "enframed", "frame", "Array");
-		addI18nAlias("img_frameless", "sen_câdro", "pas_encâdrâ", "sans_cadre", "non_encadré", "non_encadre", "frameless", "Array");
-		addI18nAlias("img_page", "pâge=$1", "pâge $1", "page=$1", "page $1");
-		addI18nAlias("img_upright", "drêt", "drêt=$1", "drêt $1", "redresse", "redresse=$1", "redresse $1", "upright", "upright=$1", "upright $1", "Array");
-		addI18nAlias("img_border", "bordura", "bordure", "border", "Array");
-		addI18nAlias("img_baseline", "legne_de_bâsa", "ligne_de_base", "base", "baseline", "Array");
-		addI18nAlias("img_sub", "segno", "indice", "ind", "sub", "Array");
-		addI18nAlias("img_super", "èxposent", "èxp", "exposant", "exp", "super", "sup", "Array");
-		addI18nAlias("img_top", "d'amont", "haut", "top", "Array");
-		addI18nAlias("img_text_top", "tèxto-d'amont", "haut-texte", "haut-txt", "text-top", "Array");
-		addI18nAlias("img_middle", "entre-mié", "milieu", "middle", "Array");
-		addI18nAlias("img_bottom", "d'avâl", "bas", "bottom", "Array");
-		addI18nAlias("img_text_bottom", "tèxto-d'avâl", "bas-texte", "bas-txt", "text-bottom", "Array");
-		addI18nAlias("img_link", "lim=$1", "lien=$1", "link=$1", "Array");
-		addI18nCIAlias("int", "ENT:", "INT:");
-		addI18nAlias("sitename", "NOM_DU_SETO", "NOMSITE", "SITENAME", "Array");
-		addI18nCIAlias("ns", "ÈDN:", "ESPACEN:", "NS:", "Array");
-		addI18nCIAlias("nse", "ÈDN_URL:", "ESPACENX:", "NSE:", "Array");
-		addI18nCIAlias("localurl", "URL_LOCALA:", "URLLOCALE:", "LOCALURL:", "Array");
-		addI18nCIAlias("localurle", "URL_LOCALA_URL:", "URLLOCALEX:", "LOCALURLE:", "Array");
-		addI18nCIAlias("articlepath", "CHEMIN_DE_L_ARTICLLO", "CHEMINARTICLE", "ARTICLEPATH", "Array");
-		addI18nCIAlias("server", "SÈRVOR", "SERVEUR", "SERVER", "Array");
-		addI18nCIAlias("servername", "NOM_DU_SÈRVOR", "NOMSERVEUR", "SERVERNAME", "Array");
-		addI18nCIAlias("scriptpath", "CHEMIN_DU_SCRIPTE", "CHEMINSCRIPT", "SCRIPTPATH", "Array");
-		addI18nCIAlias("stylepath", "CHEMIN_DU_STILO", "CHEMINSTYLE", "STYLEPATH", "Array");
-		addI18nCIAlias("grammar", "GRAMÈRE:", "GRAMMAIRE:", "GRAMMAR:", "Array");
-		addI18nCIAlias("gender", "GENRO:", "GENRE:", "GENDER:", "Array");
-		addI18nCIAlias("notitleconvert", "__SEN_CONVÈRSION_DE_TITRO__", "__SENCDT__", "__SANSCONVERSIONTITRE__", "__SANSCT__", "__NOTITLECONVERT__", "__NOTC__", "Array");
-		addI18nCIAlias("nocontentconvert", "__SEN_CONVÈRSION_DE_CONTEGNU__", "__SENCDC__", "__SANSCONVERSIONCONTENU__", "__SANSCC__", "__NOCONTENTCONVERT__", "__NOCC__", "Array");
-		addI18nAlias("currentweek", "SEMANA_D_ORA", "SEMAINEACTUELLE", "CURRENTWEEK", "Array");
-		addI18nAlias("currentdow", "JDS_D_ORA", "JDSACTUEL", "CURRENTDOW", "Array");
-		addI18nAlias("localweek", "SEMANA_LOCALA", "SEMAINELOCALE", "LOCALWEEK", "Array");
-		addI18nAlias("localdow", "JDS_LOCAL", "JDSLOCAL", "LOCALDOW", "Array");
-		addI18nAlias("revisionid", "NUMERÔ_DE_LA_VÈRSION", "IDVERSION", "REVISIONID", "Array");
-		addI18nAlias("revisionday", "JORN_DE_LA_VÈRSION", "JOURVERSION", "JOUR1VERSION", "REVISIONDAY", "Array");
-		addI18nAlias("revisionday2", "JORN_DE_LA_VÈRSION_2", "JOUR2VERSION", "REVISIONDAY2", "Array");
-		addI18nAlias("revisionmonth", "MÊS_DE_LA_VÈRSION", "MOISVERSION", "REVISIONMONTH", "Array");
-		addI18nAlias("revisionmonth1", "MÊS_DE_LA_VÈRSION_1", "MOISVERSION1", "REVISIONMONTH1", "Array");
-		addI18nAlias("revisionyear", "AN_DE_LA_VÈRSION", "ANNEEVERSION", "REVISIONYEAR", "Array");
-		addI18nAlias("revisiontimestamp", "DÂTA_ET_HORA_DE_LA_VÈRSION", "INSTANTVERSION", "REVISIONTIMESTAMP", "Array");
-		addI18nAlias("revisionuser", "USANCIÉR_DE_LA_VÈRSION", "UTILISATEURVERSION", "REVISIONUSER", "Array");
-		addI18nCIAlias("plural", "PLURÂL:", "PLURIEL:", "PLURAL:", "Array");
-		addI18nCIAlias("fullurl", "URL_COMPLÈTA:", "URLCOMPLETE:", "FULLURL:", "Array");
-		addI18nCIAlias("fullurle", "URL_COMPLÈTA_URL:", "URLCOMPLETEX:", "FULLURLE:", "Array");
-		addI18nCIAlias("lcfirst", "PREMIÉRE_PETIÔTA_LÈTRA:", "INITMINUS:", "LCFIRST:", "Array");
-		addI18nCIAlias("ucfirst", "PREMIÉRE_GRANTA_LÈTRA:", "INITMAJUS:", "INITCAPIT:", "UCFIRST:", "Array");
-		addI18nCIAlias("lc", "PETIÔTA_LÈTRA:", "MINUS:", "LC:", "Array");
-		addI18nCIAlias("uc", "GRANTA_LÈTRA:", "MAJUS:", "CAPIT:", "UC:", "Array");
-		addI18nCIAlias("raw", "BRUTO:", "BRUT:", "RAW:", "Array");
-		addI18nAlias("displaytitle", "FÂRE_VÊRE_LO_TITRO", "AFFICHERTITRE", "DISPLAYTITLE", "Array");
-		addI18nAlias("rawsuffix", "B", "BRUT", "R", "Array");
-		addI18nAlias("newsectionlink", "__LIM_DE_NOVÈLA_SÈCCION__", "__LIENNOUVELLESECTION__", "__NEWSECTIONLINK__", "Array");
-		addI18nAlias("nonewsectionlink", "__NION_LIM_DE_NOVÈLA_SÈCCION__", "__AUCUNLIENNOUVELLESECTION__", "__NONEWSECTIONLINK__", "Array");
-		addI18nAlias("currentversion", "VÈRSION_D_ORA", "VERSIONACTUELLE", "CURRENTVERSION", "Array");
-		addI18nCIAlias("urlencode", "URL_ENCODÂ:", "ENCODEURL:", "URLENCODE:", "Array");
-		addI18nCIAlias("anchorencode", "ANCRO_ENCODÂ", "ENCODEANCRE", "ANCHORENCODE", "Array");
-		addI18nAlias("currenttimestamp", "DÂTA_ET_HORA_D_ORA", "INSTANTACTUEL", "CURRENTTIMESTAMP", "Array");
-		addI18nAlias("localtimestamp", "DÂTA_ET_HORA_LOCALA", "INSTANTLOCAL", "LOCALTIMESTAMP", "Array");
-		addI18nAlias("directionmark", "MÂRCA_DE_DIRÈCCION", "MARQUEDIRECTION", "MARQUEDIR", "DIRECTIONMARK", "DIRMARK", "Array");
-		addI18nCIAlias("language", "#LENGOUA:", "#LANGUE:", "#LANGUAGE:", "Array");
-		addI18nAlias("contentlanguage", "LENGOUA_DU_CONTEGNU", "LANGUECONTENU", "LANGCONTENU", "CONTENTLANGUAGE", "CONTENTLANG", "Array");
-		addI18nAlias("pagesinnamespace", "PÂGES_DENS_L_ÈSPÂÇO_DE_NOMS:", "PÂGES_DENS_L_ÈDN:", "PAGESDANSESPACE:", "PAGESINNAMESPACE:", "PAGESINNS:", "Array");
-		addI18nAlias("numberofadmins", "NOMBRO_D_ADMINS", "NOMBREADMINS", "NUMBEROFADMINS", "Array");
-		addI18nCIAlias("formatnum", "FORMAT_NOMBRO", "FORMATNOMBRE", "FORMATNUM", "Array");
-		addI18nCIAlias("padleft", "BORRÂJO_A_GÔCHE", "BOURRAGEGAUCHE", "BOURREGAUCHE", "PADLEFT", "Array");
-		addI18nCIAlias("padright", "BORRÂJO_A_DRÊTA", "BOURRAGEDROITE", "BOURREDROITE", "PADRIGHT", "Array");
-		addI18nCIAlias("special", "spèciâl", "spécial", "special", "Array");
-		addI18nAlias("defaultsort", "CLLÂF_DE_TRI:", "CLEFDETRI:", "CLEDETRI:", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:", "Array");
-		addI18nCIAlias("filepath", "CHEMIN_D_ACCÈS:", "CHEMIN:", "FILEPATH:", "Array");
-		addI18nCIAlias("tag", "balisa", "balise", "tag", "Array");
-		addI18nAlias("hiddencat", "__CATÈGORIE_CACHIÊ__", "__CATCACHEE__", "__HIDDENCAT__", "Array");
-		addI18nAlias("pagesincategory", "PÂGES_DENS_LA_CATÈGORIE", "PAGESDANSCAT", "PAGESINCATEGORY", "PAGESINCAT", "Array");
-		addI18nAlias("pagesize", "TALYE_DE_LA_PÂGE", "TAILLEPAGE", "PAGESIZE", "Array");
-		addI18nAlias("index", "__ENDÈXE__", "__INDEX__");
-		addI18nAlias("noindex", "__NION_ENDÈXE__", "__AUCUNINDEX__", "__NOINDEX__", "Array");
-		addI18nAlias("numberingroup", "NOMBRO_D_USANCIÉRS_DENS_LA_TROPA", "NOMBREDANSGROUPE", "NBDANSGROUPE", "NUMBERINGROUP", "NUMINGROUP", "Array");
-		addI18nAlias("staticredirect", "__REDIRÈCCION_IMOBILA__", "__REDIRECTIONSTATIQUE__", "__STATICREDIRECT__", "Array");
-		addI18nAlias("protectionlevel", "NIVÉL_DE_PROTÈCCION", "NIVEAUDEPROTECTION", "PROTECTIONLEVEL", "Array");
-		addI18nCIAlias("formatdate", "format_de_dâta", "formatdate", "dateformat");
-		addI18nCIAlias("url_path", "CHEMIN", "PATH", "Array");
-		addI18nCIAlias("url_wiki", "VOUIQUI", "WIKI");
-		addI18nAlias("namespacenumber", "NOMBREESPACENOMMAGE", "NAMESPACENUMBER");
-		addI18nAlias("rootpagename", "NOMPAGERACINE", "ROOTPAGENAME");
-		addI18nAlias("rootpagenamee", "NOMPAGERACINEX", "ROOTPAGENAMEE");
-		addI18nAlias("img_lang", "langue=$1", "lang=$1");
-		addI18nAlias("img_class", "classe=$1", "class=$1");
-		addI18nCIAlias("pageid", "IDPAGE", "PAGEID");
-		addI18nCIAlias("canonicalurl", "URLCANONIQUE:", "CANONICALURL:");
-		addI18nCIAlias("canonicalurle", "URLCANONIQUEX:", "CANONICALURLE:");
-		addI18nCIAlias("nocommafysuffix", "SANSSEP", "NOSEP");
-		addI18nCIAlias("speciale", "spéciale", "speciale");
-		addI18nCIAlias("url_query", "QUESTION", "QUERY");
-		addI18nCIAlias("defaultsort_noerror", "sanserreur", "noerror");
-		addI18nCIAlias("defaultsort_noreplace", "sansremplacer", "noreplace");
-		addI18nCIAlias("pagesincategory_all", "tous", "all");
-		addI18nCIAlias("pagesincategory_subcats", "souscats", "subcats");
-		addI18nCIAlias("pagesincategory_files", "fichiers", "files");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://frp.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "frp";
-	}
-}
@@ -1,56 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class FyConfig extends TemplateConfig {
-	public FyConfig() {
-		addNamespaceAlias(-2, "Media");
-		addNamespaceAlias(-1, "Wiki");
-		addNamespaceAlias(1, "Oerlis");
-		addNamespaceAlias(2, "Meidogger", "Brûker");
-		addNamespaceAlias(3, "Meidogger_oerlis", "Brûker_oerlis");
-		addNamespaceAlias(5, "Wikipedia_oerlis");
-		addNamespaceAlias(6, "Ofbyld");
-		addNamespaceAlias(7, "Ofbyld_oerlis");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "MediaWiki_oerlis");
-		addNamespaceAlias(10, "Berjocht");
-		addNamespaceAlias(11, "Berjocht_oerlis");
-		addNamespaceAlias(12, "Hulp");
-		addNamespaceAlias(13, "Hulp_oerlis");
-		addNamespaceAlias(14, "Kategory");
-		addNamespaceAlias(15, "Kategory_oerlis");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://fy.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "fy";
-	}
-}
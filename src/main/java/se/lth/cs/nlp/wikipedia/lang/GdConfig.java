@@ -1,56 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class GdConfig extends TemplateConfig {
-	public GdConfig() {
-		addNamespaceAlias(-2, "Meadhan");
-		addNamespaceAlias(-1, "Sònraichte");
-		addNamespaceAlias(1, "Deasbaireachd");
-		addNamespaceAlias(2, "Cleachdaiche");
-		addNamespaceAlias(3, "Deasbaireachd_a'_chleachdaiche");
-		addNamespaceAlias(5, "An_deasbaireachd_aig_Wikipedia");
-		addNamespaceAlias(6, "Faidhle");
-		addNamespaceAlias(7, "Deasbaireachd_an_fhaidhle");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "Deasbaireachd_MediaWiki");
-		addNamespaceAlias(10, "Teamplaid");
-		addNamespaceAlias(11, "Deasbaireachd_na_teamplaid");
-		addNamespaceAlias(12, "Cobhair");
-		addNamespaceAlias(13, "Deasbaireachd_na_cobharach");
-		addNamespaceAlias(14, "Roinn-seòrsa");
-		addNamespaceAlias(15, "Deasbaireachd_na_roinn-seòrsa");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://gd.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "gd";
-	}
-}
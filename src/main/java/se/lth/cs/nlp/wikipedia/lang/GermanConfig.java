@@ -178,6 +178,7 @@ public class GermanConfig extends TemplateConfig {
         addI18nCIAlias("pagesincategory_pages", "seiten", "pages");
         addI18nCIAlias("pagesincategory_subcats", "unterkategorien", "unterkats", "subcats");
         addI18nCIAlias("pagesincategory_files", "dateien", "files");
+        addExcludedSections("de");
     }
 
     @Override
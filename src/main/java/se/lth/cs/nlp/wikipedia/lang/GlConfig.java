@@ -1,188 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class GlConfig extends TemplateConfig {
-	public GlConfig() {
-		addNamespaceAlias(-2, "Media", "Multimédia");
-		addNamespaceAlias(-1, "Especial", "Especial");
-		addNamespaceAlias(1, "Conversa", "Discussão");
-		addNamespaceAlias(2, "Usuario", "Usuario", "Usuaria", "Utilizador", "Usuário", "Utilizador", "Utilizadora");
-		addNamespaceAlias(3, "Conversa_usuario", "Conversa_Usuario", "Conversa_usuario", "Conversa_usuaria", "Utilizador_Discussão", "Usuário_Discussão", "Utilizador_Discussão", "Utilizadora_Discussão");
-		addNamespaceAlias(5, "Conversa_Wikipedia", "Wikipedia_Discussão");
-		addNamespaceAlias(6, "Ficheiro", "Imaxe", "Ficheiro", "Imagem", "Arquivo");
-		addNamespaceAlias(7, "Conversa_ficheiro", "Conversa_Imaxe", "Ficheiro_Discussão", "Imagem_Discussão", "Arquivo_Discussão");
-		addNamespaceAlias(8, "MediaWiki", "MediaWiki");
-		addNamespaceAlias(9, "Conversa_MediaWiki", "MediaWiki_Discussão");
-		addNamespaceAlias(10, "Modelo", "Predefinição");
-		addNamespaceAlias(11, "Conversa_modelo", "Conversa_Modelo", "Predefinição_Discussão");
-		addNamespaceAlias(12, "Axuda", "Ajuda");
-		addNamespaceAlias(13, "Conversa_axuda", "Conversa_Axuda", "Ajuda_Discussão");
-		addNamespaceAlias(14, "Categoría", "Categoria");
-		addNamespaceAlias(15, "Conversa_categoría", "Conversa_Categoría", "Categoria_Discussão");
-
-		addI18nCIAlias("redirect", "#REDIRECCIÓN", "#REDIRECIONAMENTO", "#REDIRECT", "Array");
-		addI18nCIAlias("notoc", "__SENÍNDICE__", "__SEMTDC__", "__SEMSUMÁRIO__", "__NOTOC__", "Array");
-		addI18nCIAlias("nogallery", "__SENGALERÍA__", "__SEMGALERIA__", "__NOGALLERY__", "Array");
-		addI18nCIAlias("forcetoc", "__FORZAROÍNDICE__", "__FORCARTDC__", "__FORCARSUMARIO__", "__FORÇARTDC__", "__FORÇARSUMÁRIO__", "__FORCETOC__", "Array");
-		addI18nCIAlias("toc", "__ÍNDICE__", "__TDC__", "__SUMÁRIO__", "__SUMARIO__", "__TOC__", "Array");
-		addI18nCIAlias("noeditsection", "__SECCIÓNSNONEDITABLES__", "__NÃOEDITARSEÇÃO__", "__SEMEDITARSEÇÃO__", "__NAOEDITARSECAO__", "__SEMEDITARSECAO__", "__NOEDITSECTION__", "Array");
-		addI18nAlias("currentmonth", "MESACTUAL", "MESACTUAL2", "MESATUAL", "MESATUAL2", "CURRENTMONTH", "CURRENTMONTH2", "Array");
-		addI18nAlias("currentmonth1", "MESACTUAL1", "MESATUAL1", "CURRENTMONTH1", "Array");
-		addI18nAlias("currentmonthname", "NOMEDOMESACTUAL", "NOMEDOMESATUAL", "CURRENTMONTHNAME", "Array");
-		addI18nAlias("currentmonthabbrev", "ABREVIATURADOMESACTUAL", "MESATUALABREV", "MESATUALABREVIADO", "ABREVIATURADOMESATUAL", "CURRENTMONTHABBREV", "Array");
-		addI18nAlias("currentday", "DÍAACTUAL", "DIAATUAL", "CURRENTDAY", "Array");
-		addI18nAlias("currentday2", "DÍAACTUAL2", "DIAATUAL2", "CURRENTDAY2", "Array");
-		addI18nAlias("currentdayname", "NOMEDODÍAACTUAL", "NOMEDODIAATUAL", "CURRENTDAYNAME", "Array");
-		addI18nAlias("currentyear", "ANOACTUAL", "ANOATUAL", "CURRENTYEAR", "Array");
-		addI18nAlias("currenttime", "DATAEHORAACTUAIS", "HORARIOATUAL", "CURRENTTIME", "Array");
-		addI18nAlias("currenthour", "HORAACTUAL", "HORAATUAL", "CURRENTHOUR", "Array");
-		addI18nAlias("localmonth", "MESLOCAL", "MESLOCAL2", "LOCALMONTH", "LOCALMONTH2", "Array");
-		addI18nAlias("localmonth1", "MESLOCAL1", "LOCALMONTH1", "Array");
-		addI18nAlias("localmonthname", "NOMEDOMESLOCAL", "LOCALMONTHNAME", "Array");
-		addI18nAlias("localmonthabbrev", "ABREVIATURADOMESLOCAL", "MESLOCALABREV", "MESLOCALABREVIADO", "LOCALMONTHABBREV", "Array");
-		addI18nAlias("localday", "DÍALOCAL", "DIALOCAL", "LOCALDAY", "Array");
-		addI18nAlias("localday2", "DÍALOCAL2", "DIALOCAL2", "LOCALDAY2", "Array");
-		addI18nAlias("localdayname", "NOMEDODÍALOCAL", "NOMEDODIALOCAL", "LOCALDAYNAME", "Array");
-		addI18nAlias("localyear", "ANOLOCAL", "LOCALYEAR", "Array");
-		addI18nAlias("localtime", "DATAEHORALOCAIS", "HORARIOLOCAL", "LOCALTIME", "Array");
-		addI18nAlias("localhour", "HORALOCAL", "LOCALHOUR", "Array");
-		addI18nAlias("numberofpages", "NÚMERODEPÁXINAS", "NUMERODEPAGINAS", "NÚMERODEPÁGINAS", "NUMBEROFPAGES", "Array");
-		addI18nAlias("numberofarticles", "NÚMERODEARTIGOS", "NUMERODEARTIGOS", "NUMBEROFARTICLES", "Array");
-		addI18nAlias("numberoffiles", "NÚMERODEFICHEIROS", "NUMERODEARQUIVOS", "NÚMERODEARQUIVOS", "NUMBEROFFILES", "Array");
-		addI18nAlias("numberofusers", "NÚMERODEUSUARIOS", "NUMERODEUSUARIOS", "NÚMERODEUSUÁRIOS", "NUMBEROFUSERS", "Array");
-		addI18nAlias("numberofactiveusers", "NÚMERODEUSUARIOSACTIVOS", "NUMERODEUSUARIOSATIVOS", "NÚMERODEUSUÁRIOSATIVOS", "NUMBEROFACTIVEUSERS", "Array");
-		addI18nAlias("numberofedits", "NÚMERODEEDICIÓNS", "NUMERODEEDICOES", "NÚMERODEEDIÇÕES", "NUMBEROFEDITS", "Array");
-		addI18nAlias("numberofviews", "NÚMERODEVISITAS", "NUMERODEEXIBICOES", "NÚMERODEEXIBIÇÕES", "NUMBEROFVIEWS", "Array");
-		addI18nAlias("pagename", "NOMEDAPÁXINA", "NOMEDAPAGINA", "NOMEDAPÁGINA", "PAGENAME", "Array");
-		addI18nAlias("namespace", "ESPAZODENOMES", "DOMINIO", "DOMÍNIO", "ESPACONOMINAL", "ESPAÇONOMINAL", "NAMESPACE", "Array");
-		addI18nAlias("namespacenumber", "NÚMERODOESPAZODENOMES", "NAMESPACENUMBER");
-		addI18nAlias("talkspace", "ESPAZODECONVERSA", "PAGINADEDISCUSSAO", "PÁGINADEDISCUSSÃO", "TALKSPACE", "Array");
-		addI18nAlias("subjectspace", "ESPAZODECONTIDO", "PAGINADECONTEUDO", "PAGINADECONTEÚDO", "SUBJECTSPACE", "ARTICLESPACE", "Array");
-		addI18nAlias("fullpagename", "NOMECOMPLETODAPÁXINA", "NOMECOMPLETODAPAGINA", "NOMECOMPLETODAPÁGINA", "FULLPAGENAME", "Array");
-		addI18nAlias("subpagename", "NOMEDASUBPÁXINA", "NOMEDASUBPAGINA", "NOMEDASUBPÁGINA", "SUBPAGENAME", "Array");
-		addI18nAlias("rootpagename", "NOMEDAPÁXINARAÍZ", "ROOTPAGENAME");
-		addI18nAlias("basepagename", "NOMEDAPÁXINABASE", "NOMEDAPAGINABASE", "NOMEDAPÁGINABASE", "BASEPAGENAME", "Array");
-		addI18nAlias("talkpagename", "NOMEDAPÁXINADECONVERSA", "NOMEDAPAGINADEDISCUSSAO", "NOMEDAPÁGINADEDISCUSSÃO", "TALKPAGENAME", "Array");
-		addI18nAlias("subjectpagename", "NOMEDAPÁXINADECONTIDO", "NOMEDAPAGINADECONTEUDO", "NOMEDAPÁGINADECONTEÚDO", "SUBJECTPAGENAME", "ARTICLEPAGENAME", "Array");
-		addI18nAlias("img_thumbnail", "miniatura", "miniaturadaimaxe", "miniaturadaimagem", "thumbnail", "thumb", "Array");
-		addI18nAlias("img_manualthumb", "miniatura=$1", "miniaturadaimaxe=$1", "miniaturadaimagem=$1", "thumbnail=$1", "thumb=$1", "Array");
-		addI18nAlias("img_right", "dereita", "direita", "right", "Array");
-		addI18nAlias("img_left", "esquerda", "left", "Array");
-		addI18nAlias("img_none", "ningún", "nenhum", "none", "Array");
-		addI18nAlias("img_center", "centro", "center", "centre", "Array");
-		addI18nAlias("img_framed", "conmarco", "conbordo", "marco", "commoldura", "comborda", "framed", "enframed", "frame", "Array");
-		addI18nAlias("img_frameless", "senmarco", "senbordo", "semmoldura", "semborda", "frameless", "Array");
-		addI18nAlias("img_page", "páxina=$1", "páxina_$1", "página=$1", "página $1", "page=$1", "page $1", "Array");
-		addI18nAlias("img_upright", "arribaádereita", "arribaádereita=$1", "arribaádereita_$1", "superiordireito", "superiordireito=$1", "superiordireito $1", "upright", "upright=$1", "upright $1", "Array");
-		addI18nAlias("img_border", "bordo", "borda", "border", "Array");
-		addI18nAlias("img_baseline", "liñadebase", "linhadebase", "baseline", "Array");
-		addI18nAlias("img_top", "arriba", "acima", "top", "Array");
-		addI18nAlias("img_text_top", "texto-arriba", "text-top");
-		addI18nAlias("img_middle", "medio", "meio", "middle", "Array");
-		addI18nAlias("img_bottom", "abaixo", "bottom", "Array");
-		addI18nAlias("img_text_bottom", "texto-abaixo", "text-bottom");
-		addI18nAlias("img_link", "ligazón=$1", "ligação=$1", "link=$1", "Array");
-		addI18nAlias("img_class", "clase=$1", "class=$1");
-		addI18nAlias("sitename", "NOMEDOSITIO", "NOMEDOSITE", "NOMEDOSÍTIO", "SITENAME", "Array");
-		addI18nCIAlias("localurl", "URLLOCAL:", "LOCALURL:");
-		addI18nCIAlias("articlepath", "RUTADOARTIGO", "ARTICLEPATH");
-		addI18nCIAlias("pageid", "IDDAPÁXINA", "PAGEID");
-		addI18nCIAlias("server", "SERVIDOR", "SERVER", "Array");
-		addI18nCIAlias("servername", "NOMEDOSERVIDOR", "SERVERNAME", "Array");
-		addI18nCIAlias("scriptpath", "RUTADAESCRITURA", "CAMINHODOSCRIPT", "SCRIPTPATH", "Array");
-		addI18nCIAlias("stylepath", "RUTADOESTILO", "STYLEPATH");
-		addI18nCIAlias("grammar", "GRAMÁTICA:", "GRAMMAR:");
-		addI18nCIAlias("gender", "SEXO:", "GENERO", "GÊNERO", "GENDER:", "Array");
-		addI18nAlias("currentweek", "SEMANAACTUAL", "SEMANAATUAL", "CURRENTWEEK", "Array");
-		addI18nAlias("localweek", "SEMANALOCAL", "LOCALWEEK", "Array");
-		addI18nAlias("revisionid", "IDDAREVISIÓN", "IDDAREVISAO", "IDDAREVISÃO", "REVISIONID", "Array");
-		addI18nAlias("revisionday", "DÍADAREVISIÓN", "DIADAREVISAO", "DIADAREVISÃO", "REVISIONDAY", "Array");
-		addI18nAlias("revisionday2", "DÍADAREVISIÓN2", "DIADAREVISAO2", "DIADAREVISÃO2", "REVISIONDAY2", "Array");
-		addI18nAlias("revisionmonth", "MESDAREVISIÓN", "MESDAREVISAO", "MÊSDAREVISÃO", "REVISIONMONTH", "Array");
-		addI18nAlias("revisionmonth1", "MESDAREVISIÓN1", "REVISIONMONTH1");
-		addI18nAlias("revisionyear", "ANODAREVISIÓN", "ANODAREVISAO", "ANODAREVISÃO", "REVISIONYEAR", "Array");
-		addI18nAlias("revisiontimestamp", "DATAEHORADAREVISIÓN", "REVISIONTIMESTAMP");
-		addI18nAlias("revisionuser", "USUARIODAREVISIÓN", "USUARIODAREVISAO", "USUÁRIODAREVISÃO", "REVISIONUSER", "Array");
-		addI18nCIAlias("fullurl", "URLCOMPLETO:", "FULLURL:", "Array");
-		addI18nCIAlias("canonicalurl", "URLCANÓNICO:", "CANONICALURL:");
-		addI18nCIAlias("lcfirst", "PRIMEIRAMINÚSCULA:", "PRIMEIRAMINUSCULA:", "LCFIRST:", "Array");
-		addI18nCIAlias("ucfirst", "PRIMEIRAMAIÚSCULA:", "PRIMEIRAMAIUSCULA:", "UCFIRST:", "Array");
-		addI18nCIAlias("lc", "MINÚSCULA:", "MINUSCULA", "MINÚSCULA", "MINUSCULAS", "MINÚSCULAS", "LC:", "Array");
-		addI18nCIAlias("uc", "MAIÚSCULA:", "MAIUSCULA", "MAIÚSCULA", "MAIUSCULAS", "MAIÚSCULAS", "UC:", "Array");
-		addI18nCIAlias("raw", "ENBRUTO:", "RAW:");
-		addI18nAlias("displaytitle", "AMOSAROTÍTULO", "MOSTRAROTÍTULO", "EXIBETITULO", "EXIBETÍTULO", "DISPLAYTITLE", "Array");
-		addI18nAlias("newsectionlink", "__LIGAZÓNDANOVASECCIÓN__", "__LINKDENOVASECAO__", "__LINKDENOVASEÇÃO__", "__LIGACAODENOVASECAO__", "__LIGAÇÃODENOVASEÇÃO__", "__NEWSECTIONLINK__", "Array");
-		addI18nAlias("currentversion", "VERSIÓNACTUAL", "REVISAOATUAL", "REVISÃOATUAL", "CURRENTVERSION", "Array");
-		addI18nCIAlias("language", "#LINGUA:", "#IDIOMA:", "#LANGUAGE:", "Array");
-		addI18nAlias("contentlanguage", "LINGUADOCONTIDO", "IDIOMADOCONTIDO", "IDIOMADOCONTEUDO", "IDIOMADOCONTEÚDO", "CONTENTLANGUAGE", "CONTENTLANG", "Array");
-		addI18nAlias("pagesinnamespace", "PÁXINASNOESPAZODENOMES:", "PAGINASNOESPACONOMINAL", "PÁGINASNOESPAÇONOMINAL", "PAGINASNODOMINIO", "PÁGINASNODOMÍNIO", "PAGESINNAMESPACE:", "PAGESINNS:", "Array");
-		addI18nAlias("numberofadmins", "NÚMERODEADMINISTRADORES", "NUMERODEADMINISTRADORES", "NUMBEROFADMINS", "Array");
-		addI18nCIAlias("special", "especial", "special");
-		addI18nAlias("defaultsort", "ORDENAR:", "ORDENACAOPADRAO", "ORDENAÇÃOPADRÃO", "ORDEMPADRAO", "ORDEMPADRÃO", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:", "Array");
-		addI18nCIAlias("tag", "etiqueta", "tag");
-		addI18nAlias("hiddencat", "__CATEGORÍAOCULTA__", "__CATEGORIAOCULTA__", "__CATOCULTA__", "__HIDDENCAT__", "Array");
-		addI18nAlias("pagesincategory", "PÁXINASNACATEGORÍA", "PAGINASNACATEGORIA", "PÁGINASNACATEGORIA", "PAGINASNACAT", "PÁGINASNACAT", "PAGESINCATEGORY", "PAGESINCAT", "Array");
-		addI18nAlias("pagesize", "TAMAÑODAPÁXINA", "TAMANHODAPAGINA", "TAMANHODAPÁGINA", "PAGESIZE", "Array");
-		addI18nCIAlias("url_path", "RUTA", "PATH");
-		addI18nCIAlias("url_query", "PESCUDA", "QUERY");
-		addI18nCIAlias("pagesincategory_all", "todos", "all");
-		addI18nCIAlias("pagesincategory_pages", "páxinas", "pages");
-		addI18nCIAlias("pagesincategory_subcats", "subcategorías", "subcats");
-		addI18nCIAlias("pagesincategory_files", "ficheiros", "files");
-		addI18nAlias("pagenamee", "NOMEDAPAGINAC", "NOMEDAPÁGINAC", "PAGENAMEE");
-		addI18nAlias("namespacee", "DOMINIOC", "DOMÍNIOC", "ESPACONOMINALC", "ESPAÇONOMINALC", "NAMESPACEE");
-		addI18nAlias("talkspacee", "PAGINADEDISCUSSAOC", "PÁGINADEDISCUSSÃOC", "TALKSPACEE");
-		addI18nAlias("subjectspacee", "PAGINADECONTEUDOC", "PAGINADECONTEÚDOC", "SUBJECTSPACEE", "ARTICLESPACEE");
-		addI18nAlias("fullpagenamee", "NOMECOMPLETODAPAGINAC", "NOMECOMPLETODAPÁGINAC", "FULLPAGENAMEE");
-		addI18nAlias("subpagenamee", "NOMEDASUBPAGINAC", "NOMEDASUBPÁGINAC", "SUBPAGENAMEE");
-		addI18nAlias("basepagenamee", "NOMEDAPAGINABASEC", "NOMEDAPÁGINABASEC", "BASEPAGENAMEE");
-		addI18nAlias("talkpagenamee", "NOMEDAPAGINADEDISCUSSAOC", "NOMEDAPÁGINADEDISCUSSÃOC", "TALKPAGENAMEE");
-		addI18nAlias("subjectpagenamee", "NOMEDAPAGINADECONTEUDOC", "NOMEDAPÁGINADECONTEÚDOC", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE");
-		addI18nCIAlias("notitleconvert", "__SEMCONVERTERTITULO__", "__SEMCONVERTERTÍTULO__", "__SEMCT__", "__NOTITLECONVERT__", "__NOTC__");
-		addI18nCIAlias("nocontentconvert", "__SEMCONVERTERCONTEUDO__", "__SEMCONVERTERCONTEÚDO__", "__SEMCC__", "__NOCONTENTCONVERT__", "__NOCC__");
-		addI18nAlias("currentdow", "DIADASEMANAATUAL", "CURRENTDOW");
-		addI18nAlias("localdow", "DIADASEMANALOCAL", "LOCALDOW");
-		addI18nCIAlias("fullurle", "URLCOMPLETOC:", "FULLURLE:");
-		addI18nAlias("nonewsectionlink", "__SEMLINKDENOVASECAO__", "__SEMLINKDENOVASEÇÃO__", "__SEMLIGACAODENOVASECAO__", "__SEMLIGAÇÃODENOVASEÇÃO__", "__NONEWSECTIONLINK__");
-		addI18nCIAlias("urlencode", "CODIFICAURL:", "URLENCODE:");
-		addI18nCIAlias("anchorencode", "CODIFICAANCORA:", "CODIFICAÂNCORA:", "ANCHORENCODE");
-		addI18nCIAlias("filepath", "CAMINHODOARQUIVO", "FILEPATH:");
-		addI18nAlias("index", "__INDEXAR__", "__INDEX__");
-		addI18nAlias("noindex", "__NAOINDEXAR__", "__NÃOINDEXAR__", "__NOINDEX__");
-		addI18nAlias("numberingroup", "NUMERONOGRUPO", "NÚMERONOGRUPO", "NUMBERINGROUP", "NUMINGROUP");
-		addI18nAlias("staticredirect", "__REDIRECIONAMENTOESTATICO__", "__REDIRECIONAMENTOESTÁTICO__", "__STATICREDIRECT__");
-		addI18nAlias("protectionlevel", "NIVELDEPROTECAO", "NÍVELDEPROTEÇÃO", "PROTECTIONLEVEL");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://gl.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "gl";
-	}
-}
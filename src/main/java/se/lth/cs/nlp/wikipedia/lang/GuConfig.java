@@ -1,56 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class GuConfig extends TemplateConfig {
-	public GuConfig() {
-		addNamespaceAlias(-2, "દ્રશ્ય-શ્રાવ્ય_(મિડિયા)");
-		addNamespaceAlias(-1, "વિશેષ");
-		addNamespaceAlias(1, "ચર્ચા");
-		addNamespaceAlias(2, "સભ્ય");
-		addNamespaceAlias(3, "સભ્યની_ચર્ચા");
-		addNamespaceAlias(5, "Wikipedia_ચર્ચા");
-		addNamespaceAlias(6, "ચિત્ર");
-		addNamespaceAlias(7, "ચિત્રની_ચર્ચા");
-		addNamespaceAlias(8, "મીડિયાવિકિ");
-		addNamespaceAlias(9, "મીડિયાવિકિ_ચર્ચા");
-		addNamespaceAlias(10, "ઢાંચો");
-		addNamespaceAlias(11, "ઢાંચાની_ચર્ચા");
-		addNamespaceAlias(12, "મદદ");
-		addNamespaceAlias(13, "મદદની_ચર્ચા");
-		addNamespaceAlias(14, "શ્રેણી");
-		addNamespaceAlias(15, "શ્રેણીની_ચર્ચા");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://gu.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "gu";
-	}
-}
@@ -1,181 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class HrConfig extends TemplateConfig {
-	public HrConfig() {
-		addNamespaceAlias(-2, "Mediji");
-		addNamespaceAlias(-1, "Posebno");
-		addNamespaceAlias(1, "Razgovor");
-		addNamespaceAlias(2, "Suradnik", "Suradnik", "Suradnica");
-		addNamespaceAlias(3, "Razgovor_sa_suradnikom", "Razgovor_sa_suradnikom", "Razgovor_sa_suradnicom");
-		addNamespaceAlias(5, "Razgovor_Wikipedia");
-		addNamespaceAlias(6, "Datoteka", "Slika");
-		addNamespaceAlias(7, "Razgovor_o_datoteci", "Razgovor_o_slici");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "MediaWiki_razgovor");
-		addNamespaceAlias(10, "Predložak");
-		addNamespaceAlias(11, "Razgovor_o_predlošku");
-		addNamespaceAlias(12, "Pomoć");
-		addNamespaceAlias(13, "Razgovor_o_pomoći");
-		addNamespaceAlias(14, "Kategorija");
-		addNamespaceAlias(15, "Razgovor_o_kategoriji");
-
-		addI18nCIAlias("redirect", "#PREUSMJERI", "#REDIRECT");
-		addI18nCIAlias("notoc", "__BEZSADRŽAJA__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__BEZGALERIJE__", "__NOGALLERY__");
-		addI18nCIAlias("forcetoc", "__UKLJUČISADRŽAJ__", "__FORCETOC__");
-		addI18nCIAlias("toc", "__SADRŽAJ__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__BEZUREĐIVANJAODLOMAKA__", "__NOEDITSECTION__");
-		addI18nAlias("currentmonth", "TRENUTAČNIMJESEC", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonth1", "TRENUTAČNIMJESEC1", "CURRENTMONTH1");
-		addI18nAlias("currentmonthname", "TRENUTAČNIMJESECIME", "CURRENTMONTHNAME");
-		addI18nAlias("currentmonthnamegen", "TRENUTAČNIMJESECIMEGEN", "CURRENTMONTHNAMEGEN");
-		addI18nAlias("currentmonthabbrev", "TRENUTAČNIMJESECKRAT", "CURRENTMONTHABBREV");
-		addI18nAlias("currentday", "TRENUTAČNIDAN", "CURRENTDAY");
-		addI18nAlias("currentday2", "TRENUTAČNIDAN2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "TRENUTAČNIDANIME", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "TRENUTAČNAGODINA", "CURRENTYEAR");
-		addI18nAlias("currenttime", "TRENUTAČNOVRIJEME", "CURRENTTIME");
-		addI18nAlias("currenthour", "TRENUTAČNISAT", "CURRENTHOUR");
-		addI18nAlias("localmonth", "MJESNIMJESEC", "LOCALMONTH", "LOCALMONTH2");
-		addI18nAlias("localmonth1", "MJESNIMJESEC1", "LOCALMONTH1");
-		addI18nAlias("localmonthname", "MJESNIMJESECIME", "LOCALMONTHNAME");
-		addI18nAlias("localmonthnamegen", "MJESNIMJESECIMEGEN", "LOCALMONTHNAMEGEN");
-		addI18nAlias("localmonthabbrev", "MJESNIMJESECKRAT", "LOCALMONTHABBREV");
-		addI18nAlias("localday", "MJESNIDAN", "LOCALDAY");
-		addI18nAlias("localday2", "MJESNIDAN2", "LOCALDAY2");
-		addI18nAlias("localdayname", "MJESNIDANIME", "LOCALDAYNAME");
-		addI18nAlias("localyear", "MJESNAGODINA", "LOCALYEAR");
-		addI18nAlias("localtime", "MJESNOVRIJEME", "LOCALTIME");
-		addI18nAlias("localhour", "MJESNISAT", "LOCALHOUR");
-		addI18nAlias("numberofpages", "BROJSTRANICA", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "BROJČLANAKA", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "BROJDATOTEKA", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "BROJSURADNIKA", "NUMBEROFUSERS");
-		addI18nAlias("numberofactiveusers", "BROJAKTIVNIHSURADNIKA", "NUMBEROFACTIVEUSERS");
-		addI18nAlias("numberofedits", "BROJUREĐIVANJA", "NUMBEROFEDITS");
-		addI18nAlias("numberofviews", "BROJPREGLEDA", "NUMBEROFVIEWS");
-		addI18nAlias("pagename", "IMESTRANICE", "PAGENAME");
-		addI18nAlias("pagenamee", "IMESTRANICEE", "PAGENAMEE");
-		addI18nAlias("namespace", "IMENSKIPROSTOR", "NAMESPACE");
-		addI18nAlias("namespacee", "IMENSKIPROSTORE", "NAMESPACEE");
-		addI18nAlias("talkspace", "RAZGOVOR", "TALKSPACE");
-		addI18nAlias("talkspacee", "RAZGOVORE", "TALKSPACEE");
-		addI18nAlias("subjectspace", "PROSTORSTRANICE", "IMPSTRANICE", "SUBJECTSPACE", "ARTICLESPACE");
-		addI18nAlias("subjectspacee", "PROSTORSTRANICEE", "IMPSTRANICEE", "SUBJECTSPACEE", "ARTICLESPACEE");
-		addI18nAlias("fullpagename", "PUNOIMESTRANICE", "FULLPAGENAME");
-		addI18nAlias("fullpagenamee", "PUNOIMESTRANICEE", "FULLPAGENAMEE");
-		addI18nAlias("subpagename", "IMEPODSTRANICE", "SUBPAGENAME");
-		addI18nAlias("subpagenamee", "IMEPODSTRANICEE", "SUBPAGENAMEE");
-		addI18nAlias("basepagename", "IMEOSNOVNESTRANICE", "BASEPAGENAME");
-		addI18nAlias("basepagenamee", "IMEOSNOVNESTRANICEE", "BASEPAGENAMEE");
-		addI18nAlias("talkpagename", "IMERAZGOVORASTRANICE", "TALKPAGENAME");
-		addI18nAlias("talkpagenamee", "IMERAZGOVORASTRANICEE", "TALKPAGENAMEE");
-		addI18nAlias("subjectpagename", "IMEGLAVNESTRANICE", "SUBJECTPAGENAME", "ARTICLEPAGENAME");
-		addI18nAlias("subjectpagenamee", "IMEGLAVNESTRANICEE", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE");
-		addI18nCIAlias("subst", "ZAMJENA:", "SUBST:");
-		addI18nAlias("img_thumbnail", "minijatura", "mini", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "minijatura=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "desno", "right");
-		addI18nAlias("img_left", "lijevo", "left");
-		addI18nAlias("img_none", "ništa", "none");
-		addI18nAlias("img_center", "središte", "center", "centre");
-		addI18nAlias("img_framed", "okvir", "framed", "enframed", "frame");
-		addI18nAlias("img_frameless", "bezokvira", "frameless");
-		addI18nAlias("img_page", "stranica=$1", "stranica $1", "page=$1", "page $1");
-		addI18nAlias("img_upright", "uspravno=$1", "uspravno $1", "upright", "upright=$1", "upright $1");
-		addI18nAlias("img_border", "obrub", "border");
-		addI18nAlias("img_baseline", "osnovnacrta", "baseline");
-		addI18nAlias("img_sub", "potpis", "ind", "sub");
-		addI18nAlias("img_super", "natpis", "eks", "super", "sup");
-		addI18nAlias("img_top", "vrh", "top");
-		addI18nAlias("img_text_top", "tekst-vrh", "text-top");
-		addI18nAlias("img_middle", "pola", "middle");
-		addI18nAlias("img_bottom", "dno", "bottom");
-		addI18nAlias("img_text_bottom", "tekst-dno", "text-bottom");
-		addI18nAlias("sitename", "IMEPROJEKTA", "SITENAME");
-		addI18nCIAlias("ns", "IMP:", "NS:");
-		addI18nCIAlias("localurl", "MJESNIURL:", "LOCALURL:");
-		addI18nCIAlias("localurle", "MJESNIURLE:", "LOCALURLE:");
-		addI18nCIAlias("servername", "IMESERVERA", "SERVERNAME");
-		addI18nCIAlias("scriptpath", "PUTANJASKRIPTE", "SCRIPTPATH");
-		addI18nCIAlias("grammar", "GRAMATIKA:", "GRAMMAR:");
-		addI18nCIAlias("notitleconvert", "__BEZPRETVARANJANASLOVA__", "__BPN__", "__NOTITLECONVERT__", "__NOTC__");
-		addI18nCIAlias("nocontentconvert", "__BEZPRETVARANJASADRŽAJA__", "__BPS__", "__NOCONTENTCONVERT__", "__NOCC__");
-		addI18nAlias("currentweek", "TRENUTAČNITJEDAN", "CURRENTWEEK");
-		addI18nAlias("currentdow", "TRENUTAČNIDANTJEDNA", "CURRENTDOW");
-		addI18nAlias("localweek", "MJESNITJEDAN", "LOCALWEEK");
-		addI18nAlias("localdow", "MJESNIDANTJEDNA", "LOCALDOW");
-		addI18nAlias("revisionid", "IDIZMJENE", "REVISIONID");
-		addI18nAlias("revisionday", "DANIZMJENE", "REVISIONDAY");
-		addI18nAlias("revisionday2", "DANIZMJENE2", "REVISIONDAY2");
-		addI18nAlias("revisionmonth", "MJESECIZMJENE", "REVISIONMONTH");
-		addI18nAlias("revisionyear", "GODINAIZMJENE", "REVISIONYEAR");
-		addI18nAlias("revisiontimestamp", "VREMENSKAOZNAKAIZMJENE", "REVISIONTIMESTAMP");
-		addI18nCIAlias("plural", "MNOŽINA:", "PLURAL:");
-		addI18nCIAlias("fullurl", "PUNIURL:", "FULLURL:");
-		addI18nCIAlias("fullurle", "PUNIURLE:", "FULLURLE:");
-		addI18nCIAlias("lcfirst", "MSPRVO:", "LCFIRST:");
-		addI18nCIAlias("ucfirst", "VSPRVO:", "UCFIRST:");
-		addI18nCIAlias("lc", "MS:", "LC:");
-		addI18nCIAlias("uc", "VS:", "UC:");
-		addI18nCIAlias("raw", "NEOBRAĐENO:", "RAW:");
-		addI18nAlias("displaytitle", "POKAŽINASLOV", "DISPLAYTITLE");
-		addI18nAlias("rawsuffix", "NEO", "R");
-		addI18nAlias("newsectionlink", "__NOVIODLOMAKPOVEZNICA__", "__NEWSECTIONLINK__");
-		addI18nAlias("currentversion", "TRENUTAČNAIZMJENA", "CURRENTVERSION");
-		addI18nCIAlias("urlencode", "URLKODIRANJE:", "URLENCODE:");
-		addI18nCIAlias("anchorencode", "SIDROKODIRANJE", "ANCHORENCODE");
-		addI18nAlias("currenttimestamp", "TRENUTAČNAOZNAKAVREMENA", "CURRENTTIMESTAMP");
-		addI18nAlias("localtimestamp", "MJESNAOZNAKAVREMENA", "LOCALTIMESTAMP");
-		addI18nCIAlias("language", "#JEZIK:", "#LANGUAGE:");
-		addI18nAlias("contentlanguage", "JEZIKPROJEKTA", "CONTENTLANGUAGE", "CONTENTLANG");
-		addI18nAlias("pagesinnamespace", "STRANICEPOPROSTORU:", "STRANICEUIMP", "PAGESINNAMESPACE:", "PAGESINNS:");
-		addI18nAlias("numberofadmins", "BROJADMINA", "NUMBEROFADMINS");
-		addI18nCIAlias("formatnum", "OBLIKBROJA", "FORMATNUM");
-		addI18nCIAlias("padleft", "POSTAVALIJEVO", "PADLEFT");
-		addI18nCIAlias("padright", "POSTAVADESNO", "PADRIGHT");
-		addI18nCIAlias("special", "posebno", "special");
-		addI18nAlias("defaultsort", "GLAVNIRASPORED:", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:");
-		addI18nCIAlias("filepath", "PUTANJADATOTEKE:", "FILEPATH:");
-		addI18nCIAlias("tag", "oznaka", "tag");
-		addI18nAlias("hiddencat", "__SKRIVENAKAT__", "__HIDDENCAT__");
-		addI18nAlias("pagesincategory", "STRANICEPOKATEGORIJI", "STRANICEUKAT", "PAGESINCATEGORY", "PAGESINCAT");
-		addI18nAlias("pagesize", "VELIČINASTRANICE", "PAGESIZE");
-		addI18nAlias("index", "__KAZALO__", "__INDEX__");
-		addI18nAlias("noindex", "__BEZKAZALA__", "__NOINDEX__");
-		addI18nAlias("staticredirect", "__NEPOMIČNOPREUSMJERAVANJE__", "__STATICREDIRECT__");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://hr.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "hr";
-	}
-}
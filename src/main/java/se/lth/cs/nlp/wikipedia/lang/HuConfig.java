@@ -1,178 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class HuConfig extends TemplateConfig {
-	public HuConfig() {
-		addNamespaceAlias(-2, "Média");
-		addNamespaceAlias(-1, "Speciális");
-		addNamespaceAlias(1, "Vita");
-		addNamespaceAlias(2, "Szerkesztő");
-		addNamespaceAlias(3, "Szerkesztővita", "User_vita");
-		addNamespaceAlias(5, "Wikipedia-vita", "Wikipedia_vita");
-		addNamespaceAlias(6, "Fájl", "Kép");
-		addNamespaceAlias(7, "Fájlvita", "Képvita", "Kép_vita");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "MediaWiki-vita", "MediaWiki_vita");
-		addNamespaceAlias(10, "Sablon");
-		addNamespaceAlias(11, "Sablonvita", "Sablon_vita");
-		addNamespaceAlias(12, "Segítség");
-		addNamespaceAlias(13, "Segítségvita", "Segítség_vita");
-		addNamespaceAlias(14, "Kategória");
-		addNamespaceAlias(15, "Kategóriavita", "Kategória_vita");
-
-		addI18nCIAlias("redirect", "#ÁTIRÁNYÍTÁS", "#REDIRECT");
-		addI18nCIAlias("notoc", "__NINCSTARTALOMJEGYZÉK__", "__NINCSTJ__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__NINCSGALÉRIA__", "__NOGALLERY__");
-		addI18nCIAlias("forcetoc", "__LEGYENTARTALOMJEGYZÉK__", "__LEGYENTJ__", "__FORCETOC__");
-		addI18nCIAlias("toc", "__TARTALOMJEGYZÉK__", "__TJ__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__NINCSSZERKESZTÉS__", "__NINCSSZERK__", "__NOEDITSECTION__");
-		addI18nAlias("currentmonth", "HÓNAP", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonth1", "HÓNAP1", "CURRENTMONTH1");
-		addI18nAlias("currentmonthname", "HÓNAPNEVE", "CURRENTMONTHNAME");
-		addI18nAlias("currentmonthabbrev", "HÓNAPRÖVID", "CURRENTMONTHABBREV");
-		addI18nAlias("currentday", "MAINAP", "CURRENTDAY");
-		addI18nAlias("currentday2", "MAINAP2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "MAINAPNEVE", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "ÉV", "CURRENTYEAR");
-		addI18nAlias("currenttime", "IDŐ", "CURRENTTIME");
-		addI18nAlias("currenthour", "ÓRA", "CURRENTHOUR");
-		addI18nAlias("localmonth", "HELYIHÓNAP", "LOCALMONTH", "LOCALMONTH2");
-		addI18nAlias("localmonth1", "HELYIHÓNAP1", "LOCALMONTH1");
-		addI18nAlias("localmonthname", "HELYIHÓNAPNÉV", "LOCALMONTHNAME");
-		addI18nAlias("localmonthabbrev", "HELYIHÓNAPRÖVIDÍTÉS", "LOCALMONTHABBREV");
-		addI18nAlias("localday", "HELYINAP", "LOCALDAY");
-		addI18nAlias("localday2", "HELYINAP2", "LOCALDAY2");
-		addI18nAlias("localdayname", "HELYINAPNEVE", "LOCALDAYNAME");
-		addI18nAlias("localyear", "HELYIÉV", "LOCALYEAR");
-		addI18nAlias("localtime", "HELYIIDŐ", "LOCALTIME");
-		addI18nAlias("localhour", "HELYIÓRA", "LOCALHOUR");
-		addI18nAlias("numberofpages", "OLDALAKSZÁMA", "LAPOKSZÁMA", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "SZÓCIKKEKSZÁMA", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "FÁJLOKSZÁMA", "KÉPEKSZÁMA", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "SZERKESZTŐKSZÁMA", "NUMBEROFUSERS");
-		addI18nAlias("numberofactiveusers", "AKTÍVSZERKESZTŐKSZÁMA", "NUMBEROFACTIVEUSERS");
-		addI18nAlias("numberofedits", "SZERKESZTÉSEKSZÁMA", "NUMBEROFEDITS");
-		addI18nAlias("numberofviews", "MEGTEKINTÉSEKSZÁMA", "NUMBEROFVIEWS");
-		addI18nAlias("pagename", "OLDALNEVE", "PAGENAME");
-		addI18nAlias("pagenamee", "OLDALNEVEE", "PAGENAMEE");
-		addI18nAlias("namespace", "NÉVTERE", "NAMESPACE");
-		addI18nAlias("namespacee", "NÉVTEREE", "NAMESPACEE");
-		addI18nAlias("talkspace", "VITATERE", "TALKSPACE");
-		addI18nAlias("talkspacee", "VITATEREE", "TALKSPACEE");
-		addI18nAlias("subjectspace", "SZÓCIKKNÉVTERE", "SUBJECTSPACE", "ARTICLESPACE");
-		addI18nAlias("subjectspacee", "SZÓCIKKNÉVTEREE", "SUBJECTSPACEE", "ARTICLESPACEE");
-		addI18nAlias("fullpagename", "LAPTELJESNEVE", "FULLPAGENAME");
-		addI18nAlias("fullpagenamee", "LAPTELJESNEVEE", "FULLPAGENAMEE");
-		addI18nAlias("subpagename", "ALLAPNEVE", "SUBPAGENAME");
-		addI18nAlias("subpagenamee", "ALLAPNEVEE", "SUBPAGENAMEE");
-		addI18nAlias("basepagename", "ALAPLAPNEVE", "BASEPAGENAME");
-		addI18nAlias("basepagenamee", "ALAPLAPNEVEE", "BASEPAGENAMEE");
-		addI18nAlias("talkpagename", "VITALAPNEVE", "TALKPAGENAME");
-		addI18nAlias("talkpagenamee", "VITALAPNEVEE", "TALKPAGENAMEE");
-		addI18nAlias("subjectpagename", "SZÓCIKKNEVE", "SUBJECTPAGENAME", "ARTICLEPAGENAME");
-		addI18nAlias("subjectpagenamee", "SZÓCIKKNEVEE", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE");
-		addI18nCIAlias("msg", "ÜZENET:", "ÜZ:", "MSG:");
-		addI18nCIAlias("subst", "BEILLESZT:", "BEMÁSOL:", "SUBST:");
-		addI18nAlias("img_thumbnail", "bélyegkép", "bélyeg", "miniatűr", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "bélyegkép=$1", "bélyeg=$1", "miniatűr=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "jobb", "jobbra", "right");
-		addI18nAlias("img_left", "bal", "balra", "left");
-		addI18nAlias("img_none", "semmi", "none");
-		addI18nAlias("img_center", "közép", "középre", "center", "centre");
-		addI18nAlias("img_framed", "keretezett", "keretes", "keretben", "kerettel", "framed", "enframed", "frame");
-		addI18nAlias("img_frameless", "keretnélküli", "frameless");
-		addI18nAlias("img_page", "oldal=$1", "oldal $1", "page=$1", "page $1");
-		addI18nAlias("img_upright", "fennjobbra", "fennjobbra=$1", "fennjobbra $1", "upright", "upright=$1", "upright $1");
-		addI18nAlias("img_border", "keret", "border");
-		addI18nAlias("img_baseline", "alapvonal", "baseline");
-		addI18nAlias("img_sub", "ai", "alsóindex", "sub");
-		addI18nAlias("img_super", "fi", "felsőindex", "super", "sup");
-		addI18nAlias("img_top", "fenn", "fent", "top");
-		addI18nAlias("img_text_top", "szöveg-fenn", "szöveg-fent", "text-top");
-		addI18nAlias("img_middle", "vközépen", "vközépre", "middle");
-		addI18nAlias("img_bottom", "lenn", "lent", "bottom");
-		addI18nAlias("img_text_bottom", "szöveg-lenn", "szöveg-lent", "text-bottom");
-		addI18nAlias("sitename", "WIKINEVE", "SITENAME");
-		addI18nCIAlias("ns", "NÉVTÉR:", "NS:");
-		addI18nCIAlias("localurl", "HELYIURL:", "LOCALURL:");
-		addI18nCIAlias("localurle", "HELYIURLE:", "LOCALURLE:");
-		addI18nCIAlias("server", "SZERVER", "KISZOLGÁLÓ", "SERVER");
-		addI18nCIAlias("servername", "SZERVERNEVE", "KISZOLGÁLÓNEVE", "SERVERNAME");
-		addI18nCIAlias("grammar", "NYELVTAN:", "GRAMMAR:");
-		addI18nAlias("currentweek", "HÉT", "CURRENTWEEK");
-		addI18nAlias("currentdow", "HÉTNAPJA", "CURRENTDOW");
-		addI18nAlias("localweek", "HELYIHÉT", "LOCALWEEK");
-		addI18nAlias("localdow", "HELYIHÉTNAPJA", "LOCALDOW");
-		addI18nAlias("revisionid", "VÁLTOZATAZON", "VÁLTOZATAZONOSÍTÓ", "REVISIONID");
-		addI18nAlias("revisionday", "VÁLTOZATNAPJA", "REVISIONDAY");
-		addI18nAlias("revisionday2", "VÁLTOZATNAPJA2", "REVISIONDAY2");
-		addI18nAlias("revisionmonth", "VÁLTOZATHÓNAPJA", "REVISIONMONTH");
-		addI18nAlias("revisionyear", "VÁLTOZATÉVE", "REVISIONYEAR");
-		addI18nAlias("revisiontimestamp", "VÁLTOZATIDŐBÉLYEG", "VÁLTOZATIDEJE", "REVISIONTIMESTAMP");
-		addI18nAlias("revisionuser", "VÁLTOZATSZERKESZTŐJE", "REVISIONUSER");
-		addI18nCIAlias("plural", "TÖBBESSZÁM:", "PLURAL:");
-		addI18nCIAlias("fullurl", "TELJESURL:", "FULLURL:");
-		addI18nCIAlias("fullurle", "TELJESURLE:", "FULLURLE:");
-		addI18nCIAlias("lcfirst", "KISKEZDŐ:", "KISKEZDŐBETŰ:", "LCFIRST:");
-		addI18nCIAlias("ucfirst", "NAGYKEZDŐ:", "NAGYKEZDŐBETŰ:", "UCFIRST:");
-		addI18nCIAlias("lc", "KISBETŰ:", "KISBETŰK:", "KB:", "KISBETŰS:", "LC:");
-		addI18nCIAlias("uc", "NAGYBETŰ:", "NAGYBETŰK", "NB:", "NAGYBETŰS:", "UC:");
-		addI18nAlias("displaytitle", "MEGJELENÍTENDŐCÍM", "CÍM", "DISPLAYTITLE");
-		addI18nAlias("newsectionlink", "__ÚJSZAKASZHIV__", "__ÚJSZAKASZLINK__", "__NEWSECTIONLINK__");
-		addI18nAlias("nonewsectionlink", "__NINCSÚJSZAKASZHIV__", "__NINCSÚJSZAKASZLINK__", "__NONEWSECTIONLINK__");
-		addI18nAlias("currentversion", "JELENLEGIVÁLTOZAT", "CURRENTVERSION");
-		addI18nCIAlias("urlencode", "URLKÓDOLVA:", "URLENCODE:");
-		addI18nCIAlias("anchorencode", "HORGONYKÓDOLVA", "ANCHORENCODE");
-		addI18nAlias("currenttimestamp", "IDŐBÉLYEG", "CURRENTTIMESTAMP");
-		addI18nAlias("localtimestamp", "HELYIIDŐBÉLYEG", "LOCALTIMESTAMP");
-		addI18nAlias("directionmark", "IRÁNYJELZŐ", "DIRECTIONMARK", "DIRMARK");
-		addI18nCIAlias("language", "#NYELV:", "#LANGUAGE:");
-		addI18nAlias("contentlanguage", "TARTALOMNYELVE", "TARTNYELVE", "CONTENTLANGUAGE", "CONTENTLANG");
-		addI18nAlias("pagesinnamespace", "OLDALAKNÉVTÉRBEN:", "OLDALAKNBEN:", "PAGESINNAMESPACE:", "PAGESINNS:");
-		addI18nAlias("numberofadmins", "ADMINOKSZÁMA", "NUMBEROFADMINS");
-		addI18nCIAlias("formatnum", "FORMÁZOTTSZÁM", "SZÁMFORMÁZÁS", "SZÁMFORM", "FORMATNUM");
-		addI18nCIAlias("special", "speciális", "special");
-		addI18nAlias("defaultsort", "RENDEZÉS:", "KULCS:", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:");
-		addI18nCIAlias("filepath", "ELÉRÉSIÚT:", "FILEPATH:");
-		addI18nAlias("hiddencat", "__REJTETTKAT__", "__REJTETTKATEGÓRIA__", "__HIDDENCAT__");
-		addI18nAlias("pagesincategory", "LAPOKAKATEGÓRIÁBAN", "PAGESINCATEGORY", "PAGESINCAT");
-		addI18nAlias("pagesize", "LAPMÉRET", "PAGESIZE");
-		addI18nAlias("noindex", "__NINCSINDEX__", "__NOINDEX__");
-		addI18nAlias("numberingroup", "CSOPORTTAGOK", "NUMBERINGROUP", "NUMINGROUP");
-		addI18nAlias("staticredirect", "__ÁLLANDÓÁTIRÁNYÍTÁS__", "__STATIKUSÁTIRÁNYÍTÁS__", "__STATICREDIRECT__");
-		addI18nAlias("protectionlevel", "VÉDELMISZINT", "PROTECTIONLEVEL");
-		addI18nCIAlias("formatdate", "dátumformázás", "formatdate", "dateformat");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://hu.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "hu";
-	}
-}
@@ -1,159 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class HyConfig extends TemplateConfig {
-	public HyConfig() {
-		addNamespaceAlias(-2, "Մեդիա");
-		addNamespaceAlias(-1, "Սպասարկող", "Սպասարկող");
-		addNamespaceAlias(1, "Քննարկում");
-		addNamespaceAlias(2, "Մասնակից");
-		addNamespaceAlias(3, "Մասնակցի_քննարկում");
-		addNamespaceAlias(5, "{{GRAMMAR:genitive|Wikipedia}}_քննարկում");
-		addNamespaceAlias(6, "Պատկեր");
-		addNamespaceAlias(7, "Պատկերի_քննարկում");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "MediaWiki_քննարկում");
-		addNamespaceAlias(10, "Կաղապար");
-		addNamespaceAlias(11, "Կաղապարի_քննարկում");
-		addNamespaceAlias(12, "Օգնություն");
-		addNamespaceAlias(13, "Օգնության_քննարկում");
-		addNamespaceAlias(14, "Կատեգորիա");
-		addNamespaceAlias(15, "Կատեգորիայի_քննարկում");
-
-		addI18nCIAlias("redirect", "#ՎԵՐԱՀՂՈՒՄ", "#REDIRECT");
-		addI18nCIAlias("notoc", "__ԱՌԱՆՑ_ԲՈՎ__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__ԱՌԱՆՑ_ՍՐԱՀԻ__", "__NOGALLERY__");
-		addI18nCIAlias("forcetoc", "__ՍՏԻՊԵԼ_ԲՈՎ__", "__FORCETOC__");
-		addI18nCIAlias("toc", "__ԲՈՎ__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__ԱՌԱՆՑ_ԲԱԺՆԻ_ԽՄԲԱԳՐՄԱՆ__", "__NOEDITSECTION__");
-		addI18nAlias("currentmonth", "ԸՆԹԱՑԻՔ_ԱՄԻՍԸ", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonthname", "ԸՆԹԱՑԻՔ_ԱՄՍՎԱ_ԱՆՈՒՆԸ", "CURRENTMONTHNAME");
-		addI18nAlias("currentmonthnamegen", "ԸՆԹԱՑԻՔ_ԱՄՍՎԱ_ԱՆՈՒՆԸ_ՍԵՌ", "CURRENTMONTHNAMEGEN");
-		addI18nAlias("currentmonthabbrev", "ԸՆԹԱՑԻՔ_ԱՄՍՎԱ_ԱՆՎԱՆ_ՀԱՊԱՎՈՒՄԸ", "CURRENTMONTHABBREV");
-		addI18nAlias("currentday", "ԸՆԹԱՑԻՔ_ՕՐԸ", "CURRENTDAY");
-		addI18nAlias("currentday2", "ԸՆԹԱՑԻՔ_ՕՐԸ_2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "ԸՆԹԱՑԻՔ_ՕՐՎԱ_ԱՆՈՒՆԸ", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "ԸՆԹԱՑԻՔ_ՏԱՐԻՆ", "CURRENTYEAR");
-		addI18nAlias("currenttime", "ԸՆԹԱՑԻՔ_ԺԱՄԱՆԱԿԸ", "CURRENTTIME");
-		addI18nAlias("currenthour", "ԸՆԹԱՑԻՔ_ԺԱՄԸ", "CURRENTHOUR");
-		addI18nAlias("localmonth", "ՏԵՂԱԿԱՆ_ԱՄԻՍԸ", "LOCALMONTH", "LOCALMONTH2");
-		addI18nAlias("localmonthname", "ՏԵՂԱԿԱՆ_ԱՄՍՎԱ_ԱՆՈՒՆԸ", "LOCALMONTHNAME");
-		addI18nAlias("localmonthnamegen", "ՏԵՂԱԿԱՆ_ԱՄՍՎԱ_ԱՆՈՒՆԸ_ՍԵՌ", "LOCALMONTHNAMEGEN");
-		addI18nAlias("localmonthabbrev", "ՏԵՂԱԿԱՆ_ԱՄՍՎԱ_ԱՆՎԱՆ_ՀԱՊԱՎՈՒՄԸ", "LOCALMONTHABBREV");
-		addI18nAlias("localday", "ՏԵՂԱԿԱՆ_ՕՐԸ", "LOCALDAY");
-		addI18nAlias("localday2", "ՏԵՂԱԿԱՆ_ՕՐԸ_2", "LOCALDAY2");
-		addI18nAlias("localdayname", "ՏԵՂԱԿԱՆ_ՕՐՎԱ_ԱՆՈՒՆԸ", "LOCALDAYNAME");
-		addI18nAlias("localyear", "ՏԵՂԱԿԱՆ_ՏԱՐԻՆ", "LOCALYEAR");
-		addI18nAlias("localtime", "ՏԵՂԱԿԱՆ_ԺԱՄԱՆԱԿԸ", "LOCALTIME");
-		addI18nAlias("localhour", "ՏԵՂԱԿԱՆ_ԺԱՄԸ", "LOCALHOUR");
-		addI18nAlias("numberofpages", "ԷՋԵՐԻ_ՔԱՆԱԿԸ", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "ՀՈԴՎԱԾՆԵՐԻ_ՔԱՆԱԿԸ", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "ՖԱՅԼԵՐԻ_ՔԱՆԱԿԸ", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "ՄԱՍՆԱԿԻՑՆԵՐԻ_ՔԱՆԱԿԸ", "NUMBEROFUSERS");
-		addI18nAlias("pagename", "ԷՋԻ_ԱՆՈՒՆԸ", "PAGENAME");
-		addI18nAlias("pagenamee", "ԷՋԻ_ԱՆՈՒՆԸ_2", "PAGENAMEE");
-		addI18nAlias("namespace", "ԱՆՎԱՆԱՏԱՐԱԾՔ", "NAMESPACE");
-		addI18nAlias("namespacee", "ԱՆՎԱՆԱՏԱՐԱԾՔ_2", "NAMESPACEE");
-		addI18nAlias("talkspace", "ՔՆՆԱՐԿՄԱՆ_ՏԱՐԱԾՔԸ", "TALKSPACE");
-		addI18nAlias("talkspacee", "ՔՆՆԱՐԿՄԱՆ_ՏԱՐԱԾՔԸ_2", "TALKSPACEE");
-		addI18nAlias("subjectspace", "ՀՈԴՎԱԾՆԵՐԻ_ՏԱՐԱԾՔԸ", "SUBJECTSPACE", "ARTICLESPACE");
-		addI18nAlias("subjectspacee", "ՀՈԴՎԱԾՆԵՐԻ_ՏԱՐԱԾՔԸ_2", "SUBJECTSPACEE", "ARTICLESPACEE");
-		addI18nAlias("fullpagename", "ARTICLESPACE", "ԷՋԻ_ԼՐԻՎ_ԱՆՎԱՆՈՒՄԸ", "FULLPAGENAME");
-		addI18nAlias("fullpagenamee", "ԷՋԻ_ԼՐԻՎ_ԱՆՎԱՆՈՒՄԸ_2", "FULLPAGENAMEE");
-		addI18nAlias("subpagename", "ԵՆԹԱԷՋԻ_ԱՆՎԱՆՈՒՄԸ", "SUBPAGENAME");
-		addI18nAlias("subpagenamee", "ԵՆԹԱԷՋԻ_ԱՆՎԱՆՈՒՄԸ_2", "SUBPAGENAMEE");
-		addI18nAlias("basepagename", "ՀԻՄՆԱԿԱՆ_ԷՋԻ_ԱՆՎԱՆՈՒՄԸ", "BASEPAGENAME");
-		addI18nAlias("basepagenamee", "ՀԻՄՆԱԿԱՆ_ԷՋԻ_ԱՆՎԱՆՈՒՄԸ_2", "BASEPAGENAMEE");
-		addI18nAlias("talkpagename", "ՔՆՆԱՐԿՄԱՆ_ԷՋԻ_ԱՆՎԱՆՈՒՄԸ", "TALKPAGENAME");
-		addI18nAlias("talkpagenamee", "ՔՆՆԱՐԿՄԱՆ_ԷՋԻ_ԱՆՎԱՆՈՒՄԸ_2", "TALKPAGENAMEE");
-		addI18nAlias("subjectpagename", "ՀՈԴՎԱԾԻ_ԷՋԻ_ԱՆՎԱՆՈՒՄԸ", "SUBJECTPAGENAME", "ARTICLEPAGENAME");
-		addI18nAlias("subjectpagenamee", "ՀՈԴՎԱԾԻ_ԷՋԻ_ԱՆՎԱՆՈՒՄԸ_2", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE");
-		addI18nCIAlias("msg", "ՀՈՂՈՐԴ՝", "MSG:");
-		addI18nCIAlias("msgnw", "ՀՈՂՈՐԴ_ԱՌԱՆՑ_ՎԻՔԻԻ՝", "MSGNW:");
-		addI18nAlias("img_thumbnail", "մինի", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "մինի=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "աջից", "right");
-		addI18nAlias("img_left", "ձախից", "left");
-		addI18nAlias("img_none", "առանց", "none");
-		addI18nAlias("img_width", "$1փքս", "$1px");
-		addI18nAlias("img_center", "կենտրոն", "center", "centre");
-		addI18nAlias("img_framed", "շրջափակել", "framed", "enframed", "frame");
-		addI18nAlias("img_page", "էջը=$1", "էջ $1", "page=$1", "page $1");
-		addI18nCIAlias("int", "ՆԵՐՔ՝", "INT:");
-		addI18nAlias("sitename", "ԿԱՅՔԻ_ԱՆՈՒՆԸ", "SITENAME");
-		addI18nCIAlias("ns", "ԱՏ՝", "NS:");
-		addI18nCIAlias("localurl", "ՏԵՂԱԿԱՆ_ՀԱՍՑԵՆ՝", "LOCALURL:");
-		addI18nCIAlias("localurle", "ՏԵՂԱԿԱՆ_ՀԱՍՑԵՆ_2՝", "LOCALURLE:");
-		addI18nCIAlias("server", "ՍԵՐՎԵՐԸ", "SERVER");
-		addI18nCIAlias("servername", "ՍԵՐՎԵՐԻ_ԱՆՈՒՆԸ", "SERVERNAME");
-		addI18nCIAlias("scriptpath", "ՍՔՐԻՊՏԻ_ՃԱՆԱՊԱՐՀԸ", "SCRIPTPATH");
-		addI18nCIAlias("grammar", "ՀՈԼՈՎ՛", "GRAMMAR:");
-		addI18nCIAlias("notitleconvert", "__ԱՌԱՆՑ_ՎԵՐՆԱԳՐԻ_ՓՈՓՈԽՄԱՆ__", "__NOTITLECONVERT__", "__NOTC__");
-		addI18nCIAlias("nocontentconvert", "__ԱՌԱՆՑ_ՊԱՐՈՒՆԱԿՈՒԹՅԱՆ_ՓՈՓՈԽՄԱՆ__", "__NOCONTENTCONVERT__", "__NOCC__");
-		addI18nAlias("currentweek", "ԸՆԹԱՑԻՔ_ՇԱԲԱԹԸ", "CURRENTWEEK");
-		addI18nAlias("currentdow", "ԸՆԹԱՑԻՔ_ՇԱԲԱԹՎԱ_ՕՐԸ", "CURRENTDOW");
-		addI18nAlias("localweek", "ՏԵՂԱԿԱՆ_ՇԱԲԱԹՎԸ", "LOCALWEEK");
-		addI18nAlias("localdow", "ՏԵՂԱԿԱՆ_ՇԱԲԱԹՎԱ_ՕՐԸ", "LOCALDOW");
-		addI18nAlias("revisionid", "ՏԱՐԲԵՐԱԿԻ_ՀԱՄԱՐԸ", "REVISIONID");
-		addI18nAlias("revisionday", "ՏԱՐԲԵՐԱԿԻ_ՕՐԸ", "REVISIONDAY");
-		addI18nAlias("revisionday2", "ՏԱՐԲԵՐԱԿԻ_ՕՐԸ_2", "REVISIONDAY2");
-		addI18nAlias("revisionmonth", "ՏԱՐԲԵՐԱԿԻ_ԱՄԻՍԸ", "REVISIONMONTH");
-		addI18nAlias("revisionyear", "ՏԱՐԲԵՐԱԿԻ_ՏԱՐԻՆ", "REVISIONYEAR");
-		addI18nCIAlias("plural", "ՀՈԳՆԱԿԻ՝", "PLURAL:");
-		addI18nCIAlias("fullurl", "ԼՐԻՎ_ՀԱՍՑԵՆ՝", "FULLURL:");
-		addI18nCIAlias("fullurle", "ԼՐԻՎ_ՀԱՍՑԵՆ_2՝", "FULLURLE:");
-		addI18nCIAlias("lcfirst", "ՓՈՔՐԱՏԱՌ_ՍԿԶԲՆԱՏԱՌ՝", "LCFIRST:");
-		addI18nCIAlias("ucfirst", "ՄԵԾԱՏԱՌ_ՍԿԶԲՆԱՏԱՌ՝", "UCFIRST:");
-		addI18nCIAlias("lc", "ՓՈՔՐԱՏԱՌ՝", "LC:");
-		addI18nCIAlias("uc", "ՄԵԾԱՏԱՌ՝", "UC:");
-		addI18nAlias("displaytitle", "ՑՈՒՅՑ_ՏԱԼ_ՎԵՐՆԱԳԻՐԸ", "DISPLAYTITLE");
-		addI18nAlias("rawsuffix", "Չ", "R");
-		addI18nAlias("newsectionlink", "__ՀՂՈՒՄ_ՆՈՐ_ԲԱԺՆԻ_ՎՐԱ__", "__NEWSECTIONLINK__");
-		addI18nAlias("currentversion", "ԸՆԹԱՑԻՔ_ՏԱՐԲԵՐԱԿԸ", "CURRENTVERSION");
-		addI18nCIAlias("urlencode", "ՄՇԱԿՎԱԾ_ՀԱՍՑԵ՛", "URLENCODE:");
-		addI18nAlias("currenttimestamp", "ԸՆԹԱՑԻՔ_ԺԱՄԱՆԱԿԻ_ԴՐՈՇՄ", "CURRENTTIMESTAMP");
-		addI18nAlias("localtimestamp", "ՏԵՂԱԿԱՆ_ԺԱՄԱՆԱԿԻ_ԴՐՈՇՄ", "LOCALTIMESTAMP");
-		addI18nAlias("directionmark", "ՆԱՄԱԿԻ_ՈՒՂՂՈՒԹՅՈՒՆԸ", "DIRECTIONMARK", "DIRMARK");
-		addI18nCIAlias("language", "#ԼԵԶՈՒ՝", "#LANGUAGE:");
-		addI18nAlias("contentlanguage", "ՊԱՐՈՒՆԱԿՈՒԹՅԱՆ_ԼԵԶՈՒՆ", "CONTENTLANGUAGE", "CONTENTLANG");
-		addI18nAlias("pagesinnamespace", "ԷՋԵՐ_ԱՆՎԱՆԱՏԱՐԱԾՔՈՒՄ՝", "PAGESINNAMESPACE:", "PAGESINNS:");
-		addI18nAlias("numberofadmins", "ԱԴՄԻՆՆԵՐԻ_ՔԱՆԱԿԸ", "NUMBEROFADMINS");
-		addI18nCIAlias("formatnum", "ՁԵՎԵԼ_ԹԻՎԸ", "FORMATNUM");
-		addI18nCIAlias("padleft", "ԼՐԱՑՆԵԼ_ՁԱԽԻՑ", "PADLEFT");
-		addI18nCIAlias("padright", "ԼՐԱՑՆԵԼ_ԱՋԻՑ", "PADRIGHT");
-		addI18nCIAlias("special", "սպասարկող", "special");
-		addI18nAlias("defaultsort", "ԼՌՈՒԹՅԱՄԲ_ԴԱՍԱՎՈՐՈՒՄ՝", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://hy.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "hy";
-	}
-}
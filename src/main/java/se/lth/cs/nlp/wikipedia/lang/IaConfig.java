@@ -1,56 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class IaConfig extends TemplateConfig {
-	public IaConfig() {
-		addNamespaceAlias(-2, "Multimedia");
-		addNamespaceAlias(-1, "Special");
-		addNamespaceAlias(1, "Discussion");
-		addNamespaceAlias(2, "Usator");
-		addNamespaceAlias(3, "Discussion_Usator");
-		addNamespaceAlias(5, "Discussion_Wikipedia");
-		addNamespaceAlias(6, "File", "Imagine");
-		addNamespaceAlias(7, "Discussion_File", "Discussion_Imagine");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "Discussion_MediaWiki");
-		addNamespaceAlias(10, "Patrono");
-		addNamespaceAlias(11, "Discussion_Patrono");
-		addNamespaceAlias(12, "Adjuta");
-		addNamespaceAlias(13, "Discussion_Adjuta");
-		addNamespaceAlias(14, "Categoria");
-		addNamespaceAlias(15, "Discussion_Categoria");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://ia.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "ia";
-	}
-}
@@ -1,56 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class IloConfig extends TemplateConfig {
-	public IloConfig() {
-		addNamespaceAlias(-2, "Midia");
-		addNamespaceAlias(-1, "Espesial");
-		addNamespaceAlias(1, "Tungtungan");
-		addNamespaceAlias(2, "Agar-aramat");
-		addNamespaceAlias(3, "Agar-aramat_tungtungan");
-		addNamespaceAlias(5, "Wikipedia_tungtungan");
-		addNamespaceAlias(6, "Papeles");
-		addNamespaceAlias(7, "Papeles_tungtungan");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "MediaWiki_tungtungan");
-		addNamespaceAlias(10, "Plantilia");
-		addNamespaceAlias(11, "Plantilia_tungtungan");
-		addNamespaceAlias(12, "Tulong");
-		addNamespaceAlias(13, "Tulong_tungtungan");
-		addNamespaceAlias(14, "Kategoria");
-		addNamespaceAlias(15, "Kategoria_tungtungan");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://ilo.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "ilo";
-	}
-}
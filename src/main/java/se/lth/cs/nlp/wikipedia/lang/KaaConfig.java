@@ -1,180 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class KaaConfig extends TemplateConfig {
-	public KaaConfig() {
-		addNamespaceAlias(-2, "Media", "Taspa", "Таспа", "تاسپا", "Таспа", "Taspa", "تاسپا");
-		addNamespaceAlias(-1, "Arnawlı", "Arnaýı", "Арнайы", "ارنايى", "Арнайы", "Arnaýı", "ارنايى");
-		addNamespaceAlias(1, "Sa'wbet", "Talqılaw", "Талқылау", "تالقىلاۋ", "Талқылау", "Talqılaw", "تالقىلاۋ");
-		addNamespaceAlias(2, "Paydalanıwshı", "Qatıswşı", "Қатысушы", "قاتىسۋشى", "Қатысушы", "Qatıswşı", "قاتىسۋشى");
-		addNamespaceAlias(3, "Paydalanıwshı_sa'wbeti", "Qatıswşı_talqılawı", "Қатысушы_талқылауы", "قاتىسۋشى_تالقىلاۋى", "Қатысушы_талқылауы", "Qatıswşı_talqılawı", "قاتىسۋشى_تالقىلاۋى");
-		addNamespaceAlias(5, "Wikipedia_sa'wbeti", "Wikipedia_talqılawı", "Wikipedia_талқылауы", "Wikipedia_تالقىلاۋى", "Wikipedia_талқылауы", "Wikipedia_talqılawı", "Wikipedia_تالقىلاۋى");
-		addNamespaceAlias(6, "Su'wret", "Swret", "Сурет", "سۋرەت", "Сурет", "Swret", "سۋرەت");
-		addNamespaceAlias(7, "Su'wret_sa'wbeti", "Swret_talqılawı", "Сурет_талқылауы", "سۋرەت_تالقىلاۋى", "Сурет_талқылауы", "Swret_talqılawı", "سۋرەت_تالقىلاۋى");
-		addNamespaceAlias(8, "MediaWiki", "MedïaWïkï", "МедиаУики", "مەدياۋيكي", "МедиаУики", "MedïaWïkï", "مەدياۋيكي");
-		addNamespaceAlias(9, "MediaWiki_sa'wbeti", "MedïaWïkï_talqılawı", "МедиаУики_талқылауы", "مەدياۋيكي_تالقىلاۋى", "МедиаУики_талқылауы", "MedïaWïkï_talqılawı", "مەدياۋيكي_تالقىلاۋى");
-		addNamespaceAlias(10, "Shablon", "Ülgi", "Үлгі", "ٷلگٸ", "ٴۇلگٴى", "Үлгі", "Ülgi", "ٷلگٸ", "ٴۇلگٴى");
-		addNamespaceAlias(11, "Shablon_sa'wbeti", "Ülgi_talqılawı", "Үлгі_талқылауы", "ٷلگٸ_تالقىلاۋى", "ٴۇلگٴى_تالقىلاۋى", "Үлгі_талқылауы", "Ülgi_talqılawı", "ٷلگٸ_تالقىلاۋى", "ٴۇلگٴى_تالقىلاۋى");
-		addNamespaceAlias(12, "Anıqlama", "Anıqtama", "Анықтама", "انىقتاما", "Анықтама", "Anıqtama", "انىقتاما");
-		addNamespaceAlias(13, "Anıqlama_sa'wbeti", "Anıqtama_talqılawı", "Анықтама_талқылауы", "انىقتاما_تالقىلاۋى", "Анықтама_талқылауы", "Anıqtama_talqılawı", "انىقتاما_تالقىلاۋى");
-		addNamespaceAlias(14, "Kategoriya", "Sanat", "Санат", "سانات", "Санат", "Sanat", "سانات");
-		addNamespaceAlias(15, "Kategoriya_sa'wbeti", "Sanat_talqılawı", "Санат_талқылауы", "سانات_تالقىلاۋى", "Санат_талқылауы", "Sanat_talqılawı", "سانات_تالقىلاۋى");
-
-		addI18nCIAlias("redirect", "#AÝDAW", "#АЙДАУ", "#REDIRECT", "Array");
-		addI18nCIAlias("notoc", "__MAZMUNSIZ__", "__MSIZ__", "__МАЗМҰНСЫЗ__", "__МСЫЗ__", "__NOTOC__", "Array");
-		addI18nCIAlias("nogallery", "__QOÝMASIZ__", "__QSIZ__", "__ҚОЙМАСЫЗ__", "__ҚСЫЗ__", "__NOGALLERY__", "Array");
-		addI18nCIAlias("forcetoc", "__MAZMUNDATQIZW__", "__MQIZW__", "__МАЗМҰНДАТҚЫЗУ__", "__МҚЫЗУ__", "__FORCETOC__", "Array");
-		addI18nCIAlias("toc", "__MAZMUNI__", "__MZMN__", "__МАЗМҰНЫ__", "__МЗМН__", "__TOC__", "Array");
-		addI18nCIAlias("noeditsection", "__BÖLİDİMÖNDEMEW__", "__BÖLİMÖNDETKİZBEW__", "__БӨЛІДІМӨНДЕМЕУ__", "__БӨЛІМӨНДЕТКІЗБЕУ__", "__NOEDITSECTION__", "Array");
-		addI18nAlias("currentmonth", "AĞIMDAĞIAÝ", "АҒЫМДАҒЫАЙ", "CURRENTMONTH", "CURRENTMONTH2", "Array");
-		addI18nAlias("currentmonthname", "AĞIMDAĞIAÝATAWI", "АҒЫМДАҒЫАЙАТАУЫ", "CURRENTMONTHNAME", "Array");
-		addI18nAlias("currentmonthnamegen", "AĞIMDAĞIAÝİLİKATAWI", "АҒЫМДАҒЫАЙІЛІКАТАУЫ", "CURRENTMONTHNAMEGEN", "Array");
-		addI18nAlias("currentmonthabbrev", "AĞIMDAĞIAÝJÏIR", "AĞIMDAĞIAÝQISQA", "АҒЫМДАҒЫАЙЖИЫР", "АҒЫМДАҒЫАЙҚЫСҚА", "CURRENTMONTHABBREV", "Array");
-		addI18nAlias("currentday", "AĞIMDAĞIKÜN", "АҒЫМДАҒЫКҮН", "CURRENTDAY", "Array");
-		addI18nAlias("currentday2", "AĞIMDAĞIKÜN2", "АҒЫМДАҒЫКҮН2", "CURRENTDAY2", "Array");
-		addI18nAlias("currentdayname", "AĞIMDAĞIKÜNATAWI", "АҒЫМДАҒЫКҮНАТАУЫ", "CURRENTDAYNAME", "Array");
-		addI18nAlias("currentyear", "AĞIMDAĞIJIL", "АҒЫМДАҒЫЖЫЛ", "CURRENTYEAR", "Array");
-		addI18nAlias("currenttime", "AĞIMDAĞIWAQIT", "АҒЫМДАҒЫУАҚЫТ", "CURRENTTIME", "Array");
-		addI18nAlias("currenthour", "AĞIMDAĞISAĞAT", "АҒЫМДАҒЫСАҒАТ", "CURRENTHOUR", "Array");
-		addI18nAlias("localmonth", "JERGİLİKTİAÝ", "ЖЕРГІЛІКТІАЙ", "LOCALMONTH", "LOCALMONTH2", "Array");
-		addI18nAlias("localmonthname", "JERGİLİKTİAÝATAWI", "ЖЕРГІЛІКТІАЙАТАУЫ", "LOCALMONTHNAME", "Array");
-		addI18nAlias("localmonthnamegen", "JERGİLİKTİAÝİLİKATAWI", "ЖЕРГІЛІКТІАЙІЛІКАТАУЫ", "LOCALMONTHNAMEGEN", "Array");
-		addI18nAlias("localmonthabbrev", "JERGİLİKTİAÝJÏIR", "JERGİLİKTİAÝQISQAŞA", "JERGİLİKTİAÝQISQA", "ЖЕРГІЛІКТІАЙЖИЫР", "ЖЕРГІЛІКТІАЙҚЫСҚАША", "ЖЕРГІЛІКТІАЙҚЫСҚА", "LOCALMONTHABBREV", "Array");
-		addI18nAlias("localday", "JERGİLİKTİKÜN", "ЖЕРГІЛІКТІКҮН", "LOCALDAY", "Array");
-		addI18nAlias("localday2", "JERGİLİKTİKÜN2", "ЖЕРГІЛІКТІКҮН2", "LOCALDAY2", "Array");
-		addI18nAlias("localdayname", "JERGİLİKTİKÜNATAWI", "ЖЕРГІЛІКТІКҮНАТАУЫ", "LOCALDAYNAME", "Array");
-		addI18nAlias("localyear", "JERGİLİKTİJIL", "ЖЕРГІЛІКТІЖЫЛ", "LOCALYEAR", "Array");
-		addI18nAlias("localtime", "JERGİLİKTİWAQIT", "ЖЕРГІЛІКТІУАҚЫТ", "LOCALTIME", "Array");
-		addI18nAlias("localhour", "JERGİLİKTİSAĞAT", "ЖЕРГІЛІКТІСАҒАТ", "LOCALHOUR", "Array");
-		addI18nAlias("numberofpages", "BETSANI", "БЕТСАНЫ", "NUMBEROFPAGES", "Array");
-		addI18nAlias("numberofarticles", "MAQALASANI", "МАҚАЛАСАНЫ", "NUMBEROFARTICLES", "Array");
-		addI18nAlias("numberoffiles", "FAÝLSANI", "ФАЙЛСАНЫ", "NUMBEROFFILES", "Array");
-		addI18nAlias("numberofusers", "QATISWŞISANI", "ҚАТЫСУШЫСАНЫ", "NUMBEROFUSERS", "Array");
-		addI18nAlias("numberofedits", "ÖÑDEMESANI", "TÜZETWSANI", "ӨҢДЕМЕСАНЫ", "ТҮЗЕТУСАНЫ", "NUMBEROFEDITS", "Array");
-		addI18nAlias("pagename", "BETATAWI", "БЕТАТАУЫ", "PAGENAME", "Array");
-		addI18nAlias("pagenamee", "BETATAWI2", "БЕТАТАУЫ2", "PAGENAMEE", "Array");
-		addI18nAlias("namespace", "ESİMAYASI", "ЕСІМАЯСЫ", "NAMESPACE", "Array");
-		addI18nAlias("namespacee", "ESİMAYASI2", "ЕСІМАЯСЫ2", "NAMESPACEE", "Array");
-		addI18nAlias("talkspace", "TALQILAWAYASI", "ТАЛҚЫЛАУАЯСЫ", "TALKSPACE", "Array");
-		addI18nAlias("talkspacee", "TALQILAWAYASI2", "ТАЛҚЫЛАУАЯСЫ2", "TALKSPACEE", "Array");
-		addI18nAlias("subjectspace", "TAQIRIPBETİ", "MAQALABETİ", "ТАҚЫРЫПБЕТІ", "МАҚАЛАБЕТІ", "SUBJECTSPACE", "ARTICLESPACE", "Array");
-		addI18nAlias("subjectspacee", "TAQIRIPBETİ2", "MAQALABETİ2", "ТАҚЫРЫПБЕТІ2", "МАҚАЛАБЕТІ2", "SUBJECTSPACEE", "ARTICLESPACEE", "Array");
-		addI18nAlias("fullpagename", "TOLIQBETATAWI", "ТОЛЫҚБЕТАТАУЫ", "FULLPAGENAME", "Array");
-		addI18nAlias("fullpagenamee", "TOLIQBETATAWI2", "ТОЛЫҚБЕТАТАУЫ2", "FULLPAGENAMEE", "Array");
-		addI18nAlias("subpagename", "BETŞEATAWI", "ASTIÑĞIBETATAWI", "БЕТШЕАТАУЫ", "АСТЫҢҒЫБЕТАТАУЫ", "SUBPAGENAME", "Array");
-		addI18nAlias("subpagenamee", "BETŞEATAWI2", "ASTIÑĞIBETATAWI2", "БЕТШЕАТАУЫ2", "АСТЫҢҒЫБЕТАТАУЫ2", "SUBPAGENAMEE", "Array");
-		addI18nAlias("basepagename", "NEGİZGİBETATAWI", "НЕГІЗГІБЕТАТАУЫ", "BASEPAGENAME", "Array");
-		addI18nAlias("basepagenamee", "NEGİZGİBETATAWI2", "НЕГІЗГІБЕТАТАУЫ2", "BASEPAGENAMEE", "Array");
-		addI18nAlias("talkpagename", "TALQILAWBETATAWI", "ТАЛҚЫЛАУБЕТАТАУЫ", "TALKPAGENAME", "Array");
-		addI18nAlias("talkpagenamee", "TALQILAWBETATAWI2", "ТАЛҚЫЛАУБЕТАТАУЫ2", "TALKPAGENAMEE", "Array");
-		addI18nAlias("subjectpagename", "TAQIRIPBETATAWI", "MAQALABETATAWI", "ТАҚЫРЫПБЕТАТАУЫ", "МАҚАЛАБЕТАТАУЫ", "SUBJECTPAGENAME", "ARTICLEPAGENAME", "Array");
-		addI18nAlias("subjectpagenamee", "TAQIRIPBETATAWI2", "MAQALABETATAWI2", "ТАҚЫРЫПБЕТАТАУЫ2", "МАҚАЛАБЕТАТАУЫ2", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE", "Array");
-		addI18nCIAlias("msg", "XBR:", "ХБР:", "MSG:", "Array");
-		addI18nCIAlias("subst", "BÄDEL:", "БӘДЕЛ:", "SUBST:", "Array");
-		addI18nCIAlias("msgnw", "WÏKÏSİZXBR:", "УИКИСІЗХБР:", "MSGNW:", "Array");
-		addI18nAlias("img_thumbnail", "nobaý", "нобай", "thumbnail", "thumb", "Array");
-		addI18nAlias("img_manualthumb", "nobaý=$1", "нобай=$1", "thumbnail=$1", "thumb=$1", "Array");
-		addI18nAlias("img_right", "oñğa", "oñ", "оңға", "оң", "right", "Array");
-		addI18nAlias("img_left", "solğa", "sol", "солға", "сол", "left", "Array");
-		addI18nAlias("img_none", "eşqandaý", "joq", "ешқандай", "жоқ", "none", "Array");
-		addI18nAlias("img_width", "$1 nükte", "$1 нүкте", "$1px", "Array");
-		addI18nAlias("img_center", "ortağa", "orta", "ортаға", "орта", "center", "centre", "Array");
-		addI18nAlias("img_framed", "sürmeli", "сүрмелі", "framed", "enframed", "frame", "Array");
-		addI18nAlias("img_frameless", "sürmesiz", "сүрмесіз", "frameless", "Array");
-		addI18nAlias("img_page", "bet=$1", "bet $1", "бет=$1", "бет $1", "page=$1", "page $1", "Array");
-		addI18nAlias("img_upright", "tikti", "tiktik=$1", "tiktik $1", "тікті", "тіктік=$1", "тіктік $1", "upright", "upright=$1", "upright $1", "Array");
-		addI18nAlias("img_border", "jïekti", "жиекті", "border", "Array");
-		addI18nAlias("img_baseline", "tirekjol", "тірекжол", "baseline", "Array");
-		addI18nAlias("img_sub", "astılığı", "ast", "астылығы", "аст", "sub", "Array");
-		addI18nAlias("img_super", "üstiligi", "üst", "үстілігі", "үст", "super", "sup", "Array");
-		addI18nAlias("img_top", "üstine", "үстіне", "top", "Array");
-		addI18nAlias("img_text_top", "mätin-üstinde", "мәтін-үстінде", "text-top", "Array");
-		addI18nAlias("img_middle", "aralığına", "аралығына", "middle", "Array");
-		addI18nAlias("img_bottom", "astına", "астына", "bottom", "Array");
-		addI18nAlias("img_text_bottom", "mätin-astında", "мәтін-астында", "text-bottom", "Array");
-		addI18nCIAlias("int", "İŞKİ:", "ІШКІ:", "INT:", "Array");
-		addI18nAlias("sitename", "TORAPATAWI", "ТОРАПАТАУЫ", "SITENAME", "Array");
-		addI18nCIAlias("ns", "EA:", "ESİMAYA:", "ЕА:", "ЕСІМАЯ:", "NS:", "Array");
-		addI18nCIAlias("localurl", "JERGİLİKTİJAÝ:", "ЖЕРГІЛІКТІЖАЙ:", "LOCALURL:", "Array");
-		addI18nCIAlias("localurle", "JERGİLİKTİJAÝ2:", "ЖЕРГІЛІКТІЖАЙ2:", "LOCALURLE:", "Array");
-		addI18nCIAlias("servername", "SERVERATAWI", "СЕРВЕРАТАУЫ", "SERVERNAME", "Array");
-		addI18nCIAlias("scriptpath", "ÄMİRJOLI", "ӘМІРЖОЛЫ", "SCRIPTPATH", "Array");
-		addI18nCIAlias("grammar", "SEPTİGİ:", "SEPTİK:", "СЕПТІГІ:", "СЕПТІК:", "GRAMMAR:", "Array");
-		addI18nCIAlias("notitleconvert", "__TAQIRIPATINTÜRLENDİRGİZBEW__", "__TATJOQ__", "__ATAWALMASTIRĞIZBAW__", "__AABAW__", "__ТАҚЫРЫПАТЫНТҮРЛЕНДІРГІЗБЕУ__", "__ТАТЖОҚ__", "__АТАУАЛМАСТЫРҒЫЗБАУ__", "__ААБАУ__", "__NOTITLECONVERT__", "__NOTC__", "Array");
-		addI18nCIAlias("nocontentconvert", "__MAĞLUMATINTÜRLENDİRGİZBEW__", "__MATJOQ__", "__MAĞLUMATALMASTIRĞIZBAW__", "__MABAW__", "__МАҒЛҰМАТЫНТҮРЛЕНДІРГІЗБЕУ__", "__МАТЖОҚ__", "__МАҒЛҰМАТАЛМАСТЫРҒЫЗБАУ__", "__МАБАУ__", "__NOCONTENTCONVERT__", "__NOCC__", "Array");
-		addI18nAlias("currentweek", "AĞIMDAĞIAPTASI", "AĞIMDAĞIAPTA", "АҒЫМДАҒЫАПТАСЫ", "АҒЫМДАҒЫАПТА", "CURRENTWEEK", "Array");
-		addI18nAlias("currentdow", "AĞIMDAĞIAPTAKÜNİ", "АҒЫМДАҒЫАПТАКҮНІ", "CURRENTDOW", "Array");
-		addI18nAlias("localweek", "JERGİLİKTİAPTASI", "JERGİLİKTİAPTA", "ЖЕРГІЛІКТІАПТАСЫ", "ЖЕРГІЛІКТІАПТА", "LOCALWEEK", "Array");
-		addI18nAlias("localdow", "JERGİLİKTİAPTAKÜNİ", "ЖЕРГІЛІКТІАПТАКҮНІ", "LOCALDOW", "Array");
-		addI18nAlias("revisionid", "TÜZETWNÖMİRİ", "NUSQANÖMİRİ", "ТҮЗЕТУНӨМІРІ", "НҰСҚАНӨМІРІ", "REVISIONID", "Array");
-		addI18nAlias("revisionday", "TÜZETWKÜNİ", "NUSQAKÜNİ", "ТҮЗЕТУКҮНІ", "НҰСҚАКҮНІ", "REVISIONDAY", "Array");
-		addI18nAlias("revisionday2", "TÜZETWKÜNİ2", "NUSQAKÜNİ2", "ТҮЗЕТУКҮНІ2", "НҰСҚАКҮНІ2", "REVISIONDAY2", "Array");
-		addI18nAlias("revisionmonth", "TÜZETWAÝI", "NUSQAAÝI", "ТҮЗЕТУАЙЫ", "НҰСҚААЙЫ", "REVISIONMONTH", "Array");
-		addI18nAlias("revisionyear", "TÜZETWJILI", "NUSQAJILI", "ТҮЗЕТУЖЫЛЫ", "НҰСҚАЖЫЛЫ", "REVISIONYEAR", "Array");
-		addI18nAlias("revisiontimestamp", "TÜZETWWAQITITAÑBASI", "NUSQAWAQITTÜÝİNDEMESİ", "ТҮЗЕТУУАҚЫТЫТАҢБАСЫ", "НҰСҚАУАҚЫТТҮЙІНДЕМЕСІ", "REVISIONTIMESTAMP", "Array");
-		addI18nCIAlias("plural", "KÖPŞETÜRİ:", "KÖPŞE:", "КӨПШЕТҮРІ:", "КӨПШЕ:", "PLURAL:", "Array");
-		addI18nCIAlias("fullurl", "TOLIQJAÝI:", "TOLIQJAÝ:", "ТОЛЫҚЖАЙЫ:", "ТОЛЫҚЖАЙ:", "FULLURL:", "Array");
-		addI18nCIAlias("fullurle", "TOLIQJAÝI2:", "TOLIQJAÝ2:", "ТОЛЫҚЖАЙЫ2:", "ТОЛЫҚЖАЙ2:", "FULLURLE:", "Array");
-		addI18nCIAlias("lcfirst", "KÄ1:", "KİŞİÄRİPPEN1:", "КӘ1:", "КІШІӘРІППЕН1:", "LCFIRST:", "Array");
-		addI18nCIAlias("ucfirst", "BÄ1:", "BASÄRİPPEN1:", "БӘ1:", "БАСӘРІППЕН1:", "UCFIRST:", "Array");
-		addI18nCIAlias("lc", "KÄ:", "KİŞİÄRİPPEN:", "КӘ:", "КІШІӘРІППЕН:", "LC:", "Array");
-		addI18nCIAlias("uc", "BÄ:", "BASÄRİPPEN:", "БӘ:", "БАСӘРІППЕН:", "UC:", "Array");
-		addI18nCIAlias("raw", "QAM:", "ҚАМ:", "RAW:", "Array");
-		addI18nAlias("displaytitle", "KÖRİNETİNTAQIRIAPATI", "KÖRSETİLETİNATAW", "КӨРІНЕТІНТАҚЫРЫАПАТЫ", "КӨРСЕТІЛЕТІНАТАУ", "DISPLAYTITLE", "Array");
-		addI18nAlias("rawsuffix", "Q", "Қ", "R", "Array");
-		addI18nAlias("newsectionlink", "__JAÑABÖLİMSİLTEMESİ__", "__ЖАҢАБӨЛІМСІЛТЕМЕСІ__", "__NEWSECTIONLINK__", "Array");
-		addI18nAlias("currentversion", "BAĞDARLAMANUSQASI", "БАҒДАРЛАМАНҰСҚАСЫ", "CURRENTVERSION", "Array");
-		addI18nCIAlias("urlencode", "JAÝDIMUQAMDAW:", "ЖАЙДЫМҰҚАМДАУ:", "URLENCODE:", "Array");
-		addI18nCIAlias("anchorencode", "JÄKİRDİMUQAMDAW", "ЖӘКІРДІМҰҚАМДАУ", "ANCHORENCODE", "Array");
-		addI18nAlias("currenttimestamp", "AĞIMDAĞIWAQITTÜÝİNDEMESİ", "AĞIMDAĞIWAQITTÜÝİN", "АҒЫМДАҒЫУАҚЫТТҮЙІНДЕМЕСІ", "АҒЫМДАҒЫУАҚЫТТҮЙІН", "CURRENTTIMESTAMP", "Array");
-		addI18nAlias("localtimestamp", "JERGİLİKTİWAQITTÜÝİNDEMESİ", "JERGİLİKTİWAQITTÜÝİN", "ЖЕРГІЛІКТІУАҚЫТТҮЙІНДЕМЕСІ", "ЖЕРГІЛІКТІУАҚЫТТҮЙІН", "LOCALTIMESTAMP", "Array");
-		addI18nAlias("directionmark", "BAĞITBELGİSİ", "БАҒЫТБЕЛГІСІ", "DIRECTIONMARK", "DIRMARK", "Array");
-		addI18nCIAlias("language", "#TİL:", "#ТІЛ:", "#LANGUAGE:", "Array");
-		addI18nAlias("contentlanguage", "MAĞLUMATTİLİ", "МАҒЛҰМАТТІЛІ", "CONTENTLANGUAGE", "CONTENTLANG", "Array");
-		addI18nAlias("pagesinnamespace", "ESİMAYABETSANI:", "EABETSANI:", "AYABETSANI:", "ЕСІМАЯБЕТСАНЫ:", "ЕАБЕТСАНЫ:", "АЯБЕТСАНЫ:", "PAGESINNAMESPACE:", "PAGESINNS:", "Array");
-		addI18nAlias("numberofadmins", "ÄKİMŞİSANI", "ӘКІМШІСАНЫ", "NUMBEROFADMINS", "Array");
-		addI18nCIAlias("formatnum", "SANPİŞİMİ", "САНПІШІМІ", "FORMATNUM", "Array");
-		addI18nCIAlias("padleft", "SOLĞAIĞIS", "SOLIĞIS", "СОЛҒАЫҒЫС", "СОЛЫҒЫС", "PADLEFT", "Array");
-		addI18nCIAlias("padright", "OÑĞAIĞIS", "OÑIĞIS", "ОҢҒАЫҒЫС", "ОҢЫҒЫС", "PADRIGHT", "Array");
-		addI18nCIAlias("special", "arnaýı", "арнайы", "special", "Array");
-		addI18nAlias("defaultsort", "ÄDEPKİSURIPTAW:", "ÄDEPKİSANATSURIPTAW:", "ÄDEPKİSURIPTAWKİLTİ:", "ÄDEPKİSURIP:", "ӘДЕПКІСҰРЫПТАУ:", "ӘДЕПКІСАНАТСҰРЫПТАУ:", "ӘДЕПКІСҰРЫПТАУКІЛТІ:", "ӘДЕПКІСҰРЫП:", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:", "Array");
-		addI18nCIAlias("filepath", "FAÝLMEKENİ:", "ФАЙЛМЕКЕНІ:", "FILEPATH:", "Array");
-		addI18nCIAlias("tag", "belgi", "белгі", "tag", "Array");
-		addI18nAlias("hiddencat", "__JASIRINSANAT__", "__ЖАСЫРЫНСАНАТ__", "__HIDDENCAT__", "Array");
-		addI18nAlias("pagesincategory", "SANATTAĞIBETTER", "САНАТТАҒЫБЕТТЕР", "PAGESINCATEGORY", "PAGESINCAT", "Array");
-		addI18nAlias("pagesize", "BETMÖLŞERİ", "БЕТМӨЛШЕРІ", "PAGESIZE", "Array");
-		addI18nCIAlias("server", "СЕРВЕР", "SERVER");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://kaa.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "kaa";
-	}
-}
@@ -1,56 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class KabConfig extends TemplateConfig {
-	public KabConfig() {
-		addNamespaceAlias(-2, "Media");
-		addNamespaceAlias(-1, "Uslig");
-		addNamespaceAlias(1, "Mmeslay");
-		addNamespaceAlias(2, "Amseqdac");
-		addNamespaceAlias(3, "Amyannan_umsqedac");
-		addNamespaceAlias(5, "Amyannan_n_Wikipedia");
-		addNamespaceAlias(6, "Tugna");
-		addNamespaceAlias(7, "Amyannan_n_tugna");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "Amyannan_n_MediaWiki");
-		addNamespaceAlias(10, "Talɣa", "Talγa");
-		addNamespaceAlias(11, "Amyannan_n_talɣa", "Amyannan_n_talγa");
-		addNamespaceAlias(12, "Tallat");
-		addNamespaceAlias(13, "Amyannan_n_tallat");
-		addNamespaceAlias(14, "Taggayt");
-		addNamespaceAlias(15, "Amyannan_n_taggayt");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://kab.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "kab";
-	}
-}
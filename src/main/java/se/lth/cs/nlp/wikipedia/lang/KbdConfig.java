@@ -1,56 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class KbdConfig extends TemplateConfig {
-	public KbdConfig() {
-		addNamespaceAlias(-2, "Медиа");
-		addNamespaceAlias(-1, "Служебная");
-		addNamespaceAlias(1, "Тепсэлъэхьыгъуэ", "Обсуждение");
-		addNamespaceAlias(2, "ЦӀыхухэт", "Участник");
-		addNamespaceAlias(3, "ЦӀыхухэт_тепсэлъэхьыгъуэ", "Обсуждение_участника");
-		addNamespaceAlias(5, "Wikipedia_тепсэлъэхьыгъуэ", "Обсуждение_{{GRAMMAR:genitive|Wikipedia}}");
-		addNamespaceAlias(6, "Файл");
-		addNamespaceAlias(7, "Файл_тепсэлъэхьыгъуэ", "Обсуждение_файла");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "MediaWiki_тепсэлъэхьыгъуэ", "Обсуждение_MediaWiki");
-		addNamespaceAlias(10, "Шаблон");
-		addNamespaceAlias(11, "Шаблон_тепсэлъэхьыгъуэ", "Обсуждение_шаблона");
-		addNamespaceAlias(12, "ДэӀэпыкъуэгъуэ", "Справка");
-		addNamespaceAlias(13, "ДэӀэпыкъуэгъуэ_тепсэлъэхьыгъуэ", "Обсуждение_справки");
-		addNamespaceAlias(14, "Категориэ", "Категория");
-		addNamespaceAlias(15, "Категориэ_тепсэлъэхьыгъуэ", "Обсуждение_категории");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://kbd.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "kbd";
-	}
-}
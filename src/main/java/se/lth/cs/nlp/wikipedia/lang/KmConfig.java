@@ -1,125 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class KmConfig extends TemplateConfig {
-	public KmConfig() {
-		addNamespaceAlias(-2, "មេឌា", "មីឌា");
-		addNamespaceAlias(-1, "ពិសេស");
-		addNamespaceAlias(1, "ការពិភាក្សា", "ពិភាក្សា");
-		addNamespaceAlias(2, "អ្នកប្រើប្រាស់");
-		addNamespaceAlias(3, "ការពិភាក្សារបស់អ្នកប្រើប្រាស់", "អ្នកប្រើប្រាស់-ពិភាក្សា");
-		addNamespaceAlias(5, "ការពិភាក្សាអំពីWikipedia", "Wikipedia_ពិភាក្ស");
-		addNamespaceAlias(6, "ឯកសារ", "រូបភាព");
-		addNamespaceAlias(7, "ការពិភាក្សាអំពីឯកសារ", "ការពិភាក្សាអំពីរូបភាព", "រូបភាព-ពិភាក្សា");
-		addNamespaceAlias(8, "មេឌាវិគី", "មីឌាវិគី");
-		addNamespaceAlias(9, "ការពិភាក្សាអំពីមេឌាវិគី", "មីឌាវិគី-ពិភាក្សា");
-		addNamespaceAlias(10, "ទំព័រគំរូ");
-		addNamespaceAlias(11, "ការពិភាក្សាអំពីទំព័រគំរូ", "ទំព័រគំរូ-ពិភាក្សា");
-		addNamespaceAlias(12, "ជំនួយ");
-		addNamespaceAlias(13, "ការពិភាក្សាអំពីជំនួយ", "ជំនួយ-ពិភាក្សា");
-		addNamespaceAlias(14, "ចំណាត់ថ្នាក់ក្រុម", "ចំណាត់ថ្នាក់ក្រុម", "ចំណាត់ក្រុម", "ចំនាត់ថ្នាក់ក្រុម");
-		addNamespaceAlias(15, "ការពិភាក្សាអំពីចំណាត់ថ្នាក់ក្រុម", "ការពិភាក្សាអំពីចំណាត់ថ្នាក់ក្រុម", "ចំណាត់ក្រុម-ពិភាក្សា", "ការពិភាក្សាអំពីចំនាត់ថ្នាក់ក្រុម");
-
-		addI18nCIAlias("redirect", "#បញ្ជូនបន្ត", "#ប្ដូរទីតាំងទៅ", "#ប្តូរទីតាំងទៅ", "#ប្ដូរទីតាំង", "#ប្តូរទីតាំង", "#ប្ដូរចំណងជើង", "#REDIRECT");
-		addI18nCIAlias("notoc", "__លាក់មាតិកា__", "__លាក់បញ្ជីអត្ថបទ__", "__គ្មានមាតិកា__", "__គ្មានបញ្ជីអត្ថបទ__", "__កុំបង្ហាញមាតិកា__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__លាក់វិចិត្រសាល__", "__NOGALLERY__");
-		addI18nCIAlias("forcetoc", "__បង្ខំមាតិកា__", "__បង្ខំបញ្ជីអត្ថបទ__", "__បង្ខំអោយបង្ហាញមាតិកា__", "__FORCETOC__");
-		addI18nCIAlias("toc", "__មាតិកា__", "__បញ្ជីអត្ថបទ__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__ផ្នែកមិនត្រូវកែប្រែ__", "__មិនមានផ្នែកកែប្រែ__", "__លាក់ផ្នែកកែប្រែ__", "__NOEDITSECTION__");
-		addI18nAlias("currentmonth", "ខែនេះ", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonthname", "ឈ្មោះខែនេះ", "CURRENTMONTHNAME");
-		addI18nAlias("currentday", "ថ្ងៃនេះ", "CURRENTDAY");
-		addI18nAlias("currentdayname", "ឈ្មោះថ្ងៃនេះ", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "ឆ្នាំនេះ", "CURRENTYEAR");
-		addI18nAlias("currenttime", "ពេលនេះ", "CURRENTTIME");
-		addI18nAlias("currenthour", "ម៉ោងនេះ", "ម៉ោងឥឡូវ", "CURRENTHOUR");
-		addI18nAlias("localyear", "LOCALDAYNAME", "LOCALYEAR");
-		addI18nAlias("localtime", "ពេលវេលាក្នុងតំបន់", "LOCALTIME");
-		addI18nAlias("localhour", "ម៉ោងតំបន់", "LOCALHOUR");
-		addI18nAlias("numberofpages", "ចំនួនទំព័រ", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "ចំនួនអត្ថបទ", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "ចំនួនឯកសារ", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "ចំនួនអ្នកប្រើប្រាស់", "NUMBEROFUSERS");
-		addI18nAlias("numberofedits", "ចំនួនកំណែប្រែ", "NUMBEROFEDITS");
-		addI18nAlias("pagename", "ឈ្មោះទំព័រ", "PAGENAME");
-		addI18nAlias("namespace", "លំហឈ្មោះ", "NAMESPACE");
-		addI18nAlias("talkspace", "លំហឈ្មោះទំព័រពិភាក្សា", "TALKSPACE");
-		addI18nAlias("fullpagename", "ឈ្មោះទំព័រពេញ", "FULLPAGENAME");
-		addI18nAlias("subpagename", "ឈ្មោះទំព័ររង", "SUBPAGENAME");
-		addI18nAlias("talkpagename", "ឈ្មោះទំព័រពិភាក្សា", "TALKPAGENAME");
-		addI18nCIAlias("msg", "សារ:", "MSG:");
-		addI18nCIAlias("msgnw", "សារមិនមែនជាកូដវិគី:", "MSGNW:");
-		addI18nAlias("img_thumbnail", "រូបភាពតូច", "រូបតូច", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "រូបភាពតូច=$1", "រូបតូច=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "ស្តាំ", "ខាងស្តាំ", "right");
-		addI18nAlias("img_left", "ធ្វេង", "ខាងធ្វេង", "left");
-		addI18nAlias("img_none", "ទទេ", "គ្មាន", "none");
-		addI18nAlias("img_width", "$1ភីកសែល", "$1ភស", "$1px");
-		addI18nAlias("img_center", "កណ្តាល", "center", "centre");
-		addI18nAlias("img_framed", "ស៊ុម", "framed", "enframed", "frame");
-		addI18nAlias("img_frameless", "គ្មានស៊ុម", "frameless");
-		addI18nAlias("img_page", "ទំព័រ=$1", "ទំព័រ$1", "page=$1", "page $1");
-		addI18nAlias("img_top", "ផ្នែកលើ", "ផ្នែកខាងលើ", "top");
-		addI18nAlias("img_text_top", "ឃ្លានៅផ្នែកខាងលើ", "ឃ្លាផ្នែកខាងលើ", "text-top");
-		addI18nAlias("img_middle", "ផ្នែកកណ្តាល", "middle");
-		addI18nAlias("img_bottom", "បាត", "ផ្នែកបាត", "bottom");
-		addI18nAlias("img_text_bottom", "ឃ្លានៅផ្នែកបាត", "ឃ្លាផ្នែកបាត", "text-bottom");
-		addI18nAlias("img_link", "តំនភ្ជាប់=$1", "តំណភ្ជាប់=$1", "link=$1");
-		addI18nAlias("sitename", "ឈ្មោះវិបសាយ", "ឈ្មោះគេហទំព័រ", "SITENAME");
-		addI18nCIAlias("ns", "លឈ:", "NS:");
-		addI18nCIAlias("server", "ម៉ាស៊ីនបម្រើសេវា", "SERVER");
-		addI18nCIAlias("servername", "ឈ្មោះម៉ាស៊ីនបម្រើសេវា", "SERVERNAME");
-		addI18nCIAlias("scriptpath", "ផ្លូវស្រ្គីប", "SCRIPTPATH");
-		addI18nCIAlias("grammar", "វេយ្យាករណ៍:", "GRAMMAR:");
-		addI18nAlias("currentweek", "សប្ដាហ៍នេះ", "CURRENTWEEK");
-		addI18nCIAlias("plural", "ពហុវចនៈ:", "PLURAL:");
-		addI18nCIAlias("fullurl", "URLពេញ:", "FULLURL:");
-		addI18nAlias("displaytitle", "បង្ហាញចំណងជើង", "បង្ហាញចំនងជើង", "DISPLAYTITLE");
-		addI18nAlias("rawsuffix", "រ", "R");
-		addI18nAlias("newsectionlink", "__តំនភ្ជាប់ផ្នែកថ្មី__", "__តំណភ្ជាប់ផ្នែកថ្មី__", "__NEWSECTIONLINK__");
-		addI18nCIAlias("language", "#ភាសា:", "#LANGUAGE:");
-		addI18nAlias("contentlanguage", "កូដភាសា", "CONTENTLANGUAGE", "CONTENTLANG");
-		addI18nAlias("numberofadmins", "ចំនួនអ្នកអភិបាល", "ចំនួនអ្នកថែទាំប្រព័ន្ធ", "NUMBEROFADMINS");
-		addI18nCIAlias("special", "ពិសេស", "special");
-		addI18nCIAlias("filepath", "ផ្លូវនៃឯកសារ:", "FILEPATH:");
-		addI18nCIAlias("tag", "ប្លាក", "tag");
-		addI18nAlias("hiddencat", "__ចំណាត់ថ្នាក់ក្រុមមិនបានបង្ហាញ__", "__HIDDENCAT__");
-		addI18nAlias("pagesincategory", "ចំនួនទំព័រក្នុងចំនាត់ថ្នាក់ក្រុម", "ចំនួនទំព័រក្នុងចំណាត់ថ្នាក់ក្រុម", "PAGESINCATEGORY", "PAGESINCAT");
-		addI18nAlias("pagesize", "ទំហំទំព័រ", "PAGESIZE");
-		addI18nAlias("index", "__លិបិក្រម__", "__INDEX__");
-		addI18nAlias("noindex", "__មិនមានលិបិក្រម__", "__NOINDEX__");
-		addI18nAlias("staticredirect", "__ស្ថិតិទំព័របញ្ជូនបន្ត__", "__STATICREDIRECT__");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://km.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "km";
-	}
-}
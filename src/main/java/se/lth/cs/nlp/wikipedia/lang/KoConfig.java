@@ -1,220 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class KoConfig extends TemplateConfig {
-	public KoConfig() {
-		addNamespaceAlias(-2, "미디어");
-		addNamespaceAlias(-1, "특수", "특", "특수기능");
-		addNamespaceAlias(1, "토론");
-		addNamespaceAlias(2, "사용자");
-		addNamespaceAlias(3, "사용자토론");
-		addNamespaceAlias(5, "Wikipedia토론");
-		addNamespaceAlias(6, "파일", "그림");
-		addNamespaceAlias(7, "파일토론", "그림토론");
-		addNamespaceAlias(8, "미디어위키");
-		addNamespaceAlias(9, "미디어위키토론", "MediaWiki토론");
-		addNamespaceAlias(10, "틀");
-		addNamespaceAlias(11, "틀토론");
-		addNamespaceAlias(12, "도움말");
-		addNamespaceAlias(13, "도움말토론");
-		addNamespaceAlias(14, "분류");
-		addNamespaceAlias(15, "분류토론");
-
-		addI18nCIAlias("redirect", "#넘겨주기", "#REDIRECT");
-		addI18nCIAlias("notoc", "__목차숨김__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__갤러리숨김__", "__화랑숨김__", "__NOGALLERY__");
-		addI18nCIAlias("forcetoc", "__목차보임__", "__목차표시__", "__FORCETOC__");
-		addI18nCIAlias("toc", "__목차__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__부분편집숨김__", "__문단편집숨김__", "__단락편집숨김__", "__NOEDITSECTION__");
-		addI18nAlias("currentmonth", "현재월", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonth1", "현재월1", "CURRENTMONTH1");
-		addI18nAlias("currentmonthname", "현재월이름", "CURRENTMONTHNAME");
-		addI18nAlias("currentmonthnamegen", "현재월이름소유격", "CURRENTMONTHNAMEGEN");
-		addI18nAlias("currentmonthabbrev", "현재월이름약자", "CURRENTMONTHABBREV");
-		addI18nAlias("currentday", "현재일", "CURRENTDAY");
-		addI18nAlias("currentday2", "현재일2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "현재요일", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "현재년", "CURRENTYEAR");
-		addI18nAlias("currenttime", "현재시각", "현재시분", "CURRENTTIME");
-		addI18nAlias("currenthour", "현재시", "CURRENTHOUR");
-		addI18nAlias("localmonth", "지역월", "LOCALMONTH", "LOCALMONTH2");
-		addI18nAlias("localmonth1", "지역월1", "LOCALMONTH1");
-		addI18nAlias("localmonthname", "지역월이름", "LOCALMONTHNAME");
-		addI18nAlias("localmonthnamegen", "지역월이름소유격", "LOCALMONTHNAMEGEN");
-		addI18nAlias("localmonthabbrev", "지역월이름약자", "LOCALMONTHABBREV");
-		addI18nAlias("localday", "지역일", "LOCALDAY");
-		addI18nAlias("localday2", "지역일2", "LOCALDAY2");
-		addI18nAlias("localdayname", "지역요일", "LOCALDAYNAME");
-		addI18nAlias("localyear", "지역년", "LOCALYEAR");
-		addI18nAlias("localtime", "지역시분", "지역시각", "LOCALTIME");
-		addI18nAlias("localhour", "지역시", "LOCALHOUR");
-		addI18nAlias("numberofpages", "모든문서수", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "문서수", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "파일수", "그림수", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "사용자수", "계정수", "NUMBEROFUSERS");
-		addI18nAlias("numberofactiveusers", "활동중인사용자수", "NUMBEROFACTIVEUSERS");
-		addI18nAlias("numberofedits", "편집수", "NUMBEROFEDITS");
-		addI18nAlias("numberofviews", "조회수", "NUMBEROFVIEWS");
-		addI18nAlias("pagename", "문서이름", "PAGENAME");
-		addI18nAlias("pagenamee", "문서이름E", "PAGENAMEE");
-		addI18nAlias("namespace", "이름공간", "NAMESPACE");
-		addI18nAlias("namespacee", "이름공간E", "NAMESPACEE");
-		addI18nAlias("namespacenumber", "이름공간수", "NAMESPACENUMBER");
-		addI18nAlias("talkspace", "토론이름공간", "TALKSPACE");
-		addI18nAlias("talkspacee", "토론이름공간E", "TALKSPACEE");
-		addI18nAlias("subjectspace", "본문서이름공간", "SUBJECTSPACE", "ARTICLESPACE");
-		addI18nAlias("subjectspacee", "본문서이름공간E", "SUBJECTSPACEE", "ARTICLESPACEE");
-		addI18nAlias("fullpagename", "전체문서이름", "FULLPAGENAME");
-		addI18nAlias("fullpagenamee", "전체문서이름E", "FULLPAGENAMEE");
-		addI18nAlias("subpagename", "하위문서이름", "SUBPAGENAME");
-		addI18nAlias("subpagenamee", "하위문서이름E", "SUBPAGENAMEE");
-		addI18nAlias("rootpagename", "최상위문서이름", "ROOTPAGENAME");
-		addI18nAlias("rootpagenamee", "최상위문서이름E", "ROOTPAGENAMEE");
-		addI18nAlias("basepagename", "상위문서이름", "BASEPAGENAME");
-		addI18nAlias("basepagenamee", "상위문서이름E", "BASEPAGENAMEE");
-		addI18nAlias("talkpagename", "토론문서이름", "TALKPAGENAME");
-		addI18nAlias("talkpagenamee", "토론문서이름E", "TALKPAGENAMEE");
-		addI18nAlias("subjectpagename", "본문서이름", "SUBJECTPAGENAME", "ARTICLEPAGENAME");
-		addI18nAlias("subjectpagenamee", "본문서이름E", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE");
-		addI18nCIAlias("msg", "메시지:", "MSG:");
-		addI18nCIAlias("subst", "풀기:", "SUBST:");
-		addI18nCIAlias("safesubst", "안전풀기:", "SAFESUBST:");
-		addI18nCIAlias("msgnw", "위키잘못메시지:", "MSGNW:");
-		addI18nAlias("img_thumbnail", "섬네일", "썸네일", "축소판", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "섬네일=$1", "썸네일=$1", "축소판=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "오른쪽", "right");
-		addI18nAlias("img_left", "왼쪽", "left");
-		addI18nAlias("img_none", "없음", "none");
-		addI18nAlias("img_width", "$1픽셀", "$1px");
-		addI18nAlias("img_center", "가운데", "center", "centre");
-		addI18nAlias("img_framed", "프레임", "framed", "enframed", "frame");
-		addI18nAlias("img_frameless", "프레임없음", "frameless");
-		addI18nAlias("img_lang", "언어=$1", "lang=$1");
-		addI18nAlias("img_page", "문서=$1", "page=$1", "page $1");
-		addI18nAlias("img_upright", "위오른쪽", "위오른쪽=$1", "upright", "upright=$1", "upright $1");
-		addI18nAlias("img_border", "테두리", "border");
-		addI18nAlias("img_baseline", "밑줄", "baseline");
-		addI18nAlias("img_sub", "아래첨자", "sub");
-		addI18nAlias("img_super", "위첨자", "super", "sup");
-		addI18nAlias("img_top", "위", "top");
-		addI18nAlias("img_text_top", "글자위", "텍스트위", "text-top");
-		addI18nAlias("img_middle", "중간", "middle");
-		addI18nAlias("img_bottom", "아래", "bottom");
-		addI18nAlias("img_text_bottom", "글자아래", "텍스트아래", "text-bottom");
-		addI18nAlias("img_link", "링크=$1", "link=$1");
-		addI18nAlias("img_alt", "대체글=$1", "alt=$1");
-		addI18nAlias("img_class", "클래스=$1", "class=$1");
-		addI18nCIAlias("int", "정수:", "INT:");
-		addI18nAlias("sitename", "사이트이름", "SITENAME");
-		addI18nCIAlias("ns", "이름:", "이름공간:", "NS:");
-		addI18nCIAlias("nse", "이름E:", "이름공간E:", "NSE:");
-		addI18nCIAlias("localurl", "지역주소:", "LOCALURL:");
-		addI18nCIAlias("localurle", "지역주소E:", "LOCALURLE:");
-		addI18nCIAlias("articlepath", "항목경로", "기사경로", "ARTICLEPATH");
-		addI18nCIAlias("pageid", "문서번호", "PAGEID");
-		addI18nCIAlias("server", "서버", "SERVER");
-		addI18nCIAlias("servername", "서버이름", "SERVERNAME");
-		addI18nCIAlias("scriptpath", "스크립트경로", "SCRIPTPATH");
-		addI18nCIAlias("stylepath", "스타일경로", "STYLEPATH");
-		addI18nCIAlias("grammar", "문법:", "GRAMMAR:");
-		addI18nCIAlias("gender", "성별:", "GENDER:");
-		addI18nCIAlias("notitleconvert", "__제목변환없음__", "__제변없음__", "__제목변환안함__", "__제변안함__", "__NOTITLECONVERT__", "__NOTC__");
-		addI18nCIAlias("nocontentconvert", "__내용변환없음__", "__내변없음__", "__내용변환안함__", "__내변안함__", "__NOCONTENTCONVERT__", "__NOCC__");
-		addI18nAlias("currentweek", "현재주", "CURRENTWEEK");
-		addI18nAlias("currentdow", "현재요일숫자", "CURRENTDOW");
-		addI18nAlias("localweek", "지역주", "LOCALWEEK");
-		addI18nAlias("localdow", "지역요일숫자", "LOCALDOW");
-		addI18nAlias("revisionid", "판번호", "REVISIONID");
-		addI18nAlias("revisionday", "판일", "REVISIONDAY");
-		addI18nAlias("revisionday2", "판일2", "REVISIONDAY2");
-		addI18nAlias("revisionmonth", "판월", "REVISIONMONTH");
-		addI18nAlias("revisionmonth1", "판월1", "REVISIONMONTH1");
-		addI18nAlias("revisionyear", "판년", "REVISIONYEAR");
-		addI18nAlias("revisiontimestamp", "판타임스탬프", "REVISIONTIMESTAMP");
-		addI18nAlias("revisionuser", "판사용자", "REVISIONUSER");
-		addI18nAlias("revisionsize", "판크기", "REVISIONSIZE");
-		addI18nCIAlias("plural", "복수:", "복수형:", "PLURAL:");
-		addI18nCIAlias("fullurl", "전체주소:", "FULLURL:");
-		addI18nCIAlias("fullurle", "전체주소E:", "FULLURLE:");
-		addI18nCIAlias("canonicalurl", "표준주소:", "CANONICALURL:");
-		addI18nCIAlias("canonicalurle", "표준주소E:", "CANONICALURLE:");
-		addI18nCIAlias("lcfirst", "첫소문자:", "LCFIRST:");
-		addI18nCIAlias("ucfirst", "첫대문자:", "UCFIRST:");
-		addI18nCIAlias("lc", "소문자:", "LC:");
-		addI18nCIAlias("uc", "대문자:", "UC:");
-		addI18nCIAlias("raw", "원본:", "RAW:");
-		addI18nAlias("displaytitle", "제목보이기", "제목표시", "DISPLAYTITLE");
-		addI18nAlias("rawsuffix", "원", "R");
-		addI18nCIAlias("nocommafysuffix", "구분자없음", "NOSEP");
-		addI18nAlias("newsectionlink", "__새글쓰기__", "__NEWSECTIONLINK__");
-		addI18nAlias("nonewsectionlink", "__새글쓰기숨기기__", "__NONEWSECTIONLINK__");
-		addI18nAlias("currentversion", "현재버전", "CURRENTVERSION");
-		addI18nCIAlias("urlencode", "주소인코딩:", "URLENCODE:");
-		addI18nCIAlias("anchorencode", "책갈피인코딩", "ANCHORENCODE");
-		addI18nAlias("currenttimestamp", "현재타임스탬프", "CURRENTTIMESTAMP");
-		addI18nAlias("localtimestamp", "지역타임스탬프", "LOCALTIMESTAMP");
-		addI18nAlias("directionmark", "명령검토", "DIRECTIONMARK", "DIRMARK");
-		addI18nCIAlias("language", "#언어:", "#LANGUAGE:");
-		addI18nAlias("contentlanguage", "기본언어", "CONTENTLANGUAGE", "CONTENTLANG");
-		addI18nAlias("pagesinnamespace", "이름공간문서수", "PAGESINNAMESPACE:", "PAGESINNS:");
-		addI18nAlias("numberofadmins", "관리자수", "NUMBEROFADMINS");
-		addI18nCIAlias("formatnum", "수형식", "FORMATNUM");
-		addI18nCIAlias("padleft", "대체왼쪽", "PADLEFT");
-		addI18nCIAlias("padright", "대체오른쪽", "PADRIGHT");
-		addI18nCIAlias("special", "특수기능", "special");
-		addI18nCIAlias("speciale", "특수기능E", "특수기능e", "speciale");
-		addI18nAlias("defaultsort", "기본정렬:", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:");
-		addI18nCIAlias("filepath", "파일경로:", "그림경로:", "FILEPATH:");
-		addI18nCIAlias("tag", "태그", "tag");
-		addI18nAlias("hiddencat", "__숨은분류__", "__HIDDENCAT__");
-		addI18nAlias("pagesincategory", "분류문서수", "PAGESINCATEGORY", "PAGESINCAT");
-		addI18nAlias("pagesize", "문서크기", "PAGESIZE");
-		addI18nAlias("index", "__색인__", "__INDEX__");
-		addI18nAlias("noindex", "__색인안함__", "__색인거부__", "__NOINDEX__");
-		addI18nAlias("numberingroup", "권한별사용자수", "그룹별사용자수", "NUMBERINGROUP", "NUMINGROUP");
-		addI18nAlias("staticredirect", "__넘겨주기고정__", "__STATICREDIRECT__");
-		addI18nAlias("protectionlevel", "보호수준", "PROTECTIONLEVEL");
-		addI18nCIAlias("formatdate", "날짜형식", "formatdate", "dateformat");
-		addI18nCIAlias("url_path", "경로", "PATH");
-		addI18nCIAlias("url_wiki", "위키", "WIKI");
-		addI18nCIAlias("url_query", "쿼리", "QUERY");
-		addI18nCIAlias("defaultsort_noerror", "오류없음", "noerror");
-		addI18nCIAlias("defaultsort_noreplace", "바꾸기없음", "noreplace");
-		addI18nCIAlias("pagesincategory_all", "모두", "all");
-		addI18nCIAlias("pagesincategory_pages", "문서", "pages");
-		addI18nCIAlias("pagesincategory_subcats", "하위분류", "subcats");
-		addI18nCIAlias("pagesincategory_files", "파일", "files");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://ko.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "ko";
-	}
-}
@@ -1,6 +1,3 @@
-package se.lth.cs.nlp.wikipedia.lang;
-
-import java.util.HashMap;
 /**
  * This file is part of Wikiforia.
  *
@@ -17,283 +14,95 @@ import java.util.HashMap;
  * You should have received a copy of the GNU General Public License
  * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
  */
- public class LangFactory {
- 	private static final HashMap<String,Class<? extends TemplateConfig>> languages = new HashMap<String,Class<? extends TemplateConfig>>();
+package se.lth.cs.nlp.wikipedia.lang;
+
+import se.lth.cs.nlp.mediawiki.model.Header;
+
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Language configs, every language with a [code].lang resource is supported.
+ */
+public class LangFactory {
+	/** Languages with a config class that adds to the resource, i.e. page type classification */
+	private static final HashMap<String,Class<? extends TemplateConfig>> custom = new HashMap<String,Class<? extends TemplateConfig>>();
+	private static final ConcurrentHashMap<String,TemplateConfig> configs = new ConcurrentHashMap<String,TemplateConfig>();
+	private static final ConcurrentHashMap<String,TemplateConfig> dumpConfigs = new ConcurrentHashMap<String,TemplateConfig>();
+
+	static {
+		custom.put("en", EnConfig.class);
+		custom.put("sv", SvConfig.class);
+	}
+
+	/**
+	 * @param lang the language code
+	 * @return true if there is a built-in config for the language
+	 */
+	public static boolean isSupported(String lang) {
+		return custom.containsKey(lang) || ResourceConfig.exists(lang);
+	}
+
+	/**
+	 * Get the config of a language, it is created on the first request and then shared by all callers.
+	 * @param lang the language code
+	 * @return config or null if the language is not supported
+	 */
+	public static TemplateConfig getConfig(String lang) {
+		TemplateConfig config = configs.get(lang);
+		if(config != null)
+			return config;
+
+		if(!isSupported(lang))
+			return null;
+
+		synchronized (configs) {
+			config = configs.get(lang);
+			if(config == null) {
+				Class<? extends TemplateConfig> clazz = custom.get(lang);
+				if(clazz != null) {
+					try {
+						config = clazz.newInstance();
+					} catch (InstantiationException e) {
+						throw new RuntimeException(e);
+					} catch (IllegalAccessException e) {
+						throw new RuntimeException(e);
+					}
+				}
+				else
+					config = new ResourceConfig(lang);
+
+				configs.put(lang, config);
+			}
+		}
+
+		return config;
+	}
+
+	/**
+	 * Get the config of a dump, the language config overlaid with the siteinfo of the header.
+	 * It is created on the first request and then shared by all callers with the same dbname.
+	 * @param header the dump header
+	 * @return config, the English config is overlaid if the language of the dump is not supported
+	 */
+	public static TemplateConfig getConfig(Header header) {
+		String key = header.getSiteinfo().getDbname() != null ? header.getSiteinfo().getDbname() : header.getLang();
+		TemplateConfig config = dumpConfigs.get(key);
+		if(config != null)
+			return config;
+
+		TemplateConfig base = getConfig(header.getLang());
+		if(base == null)
+			base = getConfig("en");
 
- 	static {
-		languages.put("ab", AbConfig.class);
-		languages.put("ace", AceConfig.class);
-		languages.put("aeb", AebConfig.class);
-		languages.put("af", AfConfig.class);
-		languages.put("ak", AkConfig.class);
-		languages.put("aln", AlnConfig.class);
-		languages.put("am", AmConfig.class);
-		languages.put("an", AnConfig.class);
-		languages.put("ang", AngConfig.class);
-		languages.put("anp", AnpConfig.class);
-		languages.put("ar", ArConfig.class);
-		languages.put("arc", ArcConfig.class);
-		languages.put("arn", ArnConfig.class);
-		languages.put("arq", ArqConfig.class);
-		languages.put("arz", ArzConfig.class);
-		languages.put("as", AsConfig.class);
-		languages.put("ast", AstConfig.class);
-		languages.put("av", AvConfig.class);
-		languages.put("avk", AvkConfig.class);
-		languages.put("ay", AyConfig.class);
-		languages.put("az", AzConfig.class);
-		languages.put("azb", AzbConfig.class);
-		languages.put("ba", BaConfig.class);
-		languages.put("bar", BarConfig.class);
-		languages.put("bbc", BbcConfig.class);
-		languages.put("bcc", BccConfig.class);
-		languages.put("bcl", BclConfig.class);
-		languages.put("be", BeConfig.class);
-		languages.put("bg", BgConfig.class);
-		languages.put("bh", BhConfig.class);
-		languages.put("bho", BhoConfig.class);
-		languages.put("bjn", BjnConfig.class);
-		languages.put("bm", BmConfig.class);
-		languages.put("bn", BnConfig.class);
-		languages.put("bo", BoConfig.class);
-		languages.put("bpy", BpyConfig.class);
-		languages.put("bqi", BqiConfig.class);
-		languages.put("br", BrConfig.class);
-		languages.put("bs", BsConfig.class);
-		languages.put("bug", BugConfig.class);
-		languages.put("bxr", BxrConfig.class);
-		languages.put("ca", CaConfig.class);
-		languages.put("cdo", CdoConfig.class);
-		languages.put("ce", CeConfig.class);
-		languages.put("ceb", CebConfig.class);
-		languages.put("ch", ChConfig.class);
-		languages.put("ckb", CkbConfig.class);
-		languages.put("co", CoConfig.class);
-		languages.put("crh", CrhConfig.class);
-		languages.put("cs", CsConfig.class);
-		languages.put("csb", CsbConfig.class);
-		languages.put("cu", CuConfig.class);
-		languages.put("cv", CvConfig.class);
-		languages.put("cy", CyConfig.class);
-		languages.put("da", DaConfig.class);
-		languages.put("de", DeConfig.class);
-		languages.put("diq", DiqConfig.class);
-		languages.put("dsb", DsbConfig.class);
-		languages.put("dtp", DtpConfig.class);
-		languages.put("dv", DvConfig.class);
-		languages.put("dz", DzConfig.class);
-		languages.put("egl", EglConfig.class);
-		languages.put("el", ElConfig.class);
-		languages.put("eml", EmlConfig.class);
-		languages.put("en", EnConfig.class);
-		languages.put("eo", EoConfig.class);
-		languages.put("es", EsConfig.class);
-		languages.put("et", EtConfig.class);
-		languages.put("eu", EuConfig.class);
-		languages.put("ext", ExtConfig.class);
-		languages.put("fa", FaConfig.class);
-		languages.put("ff", FfConfig.class);
-		languages.put("fi", FiConfig.class);
-		languages.put("fit", FitConfig.class);
-		languages.put("fo", FoConfig.class);
-		languages.put("fr", FrConfig.class);
-		languages.put("frc", FrcConfig.class);
-		languages.put("frp", FrpConfig.class);
-		languages.put("frr", FrrConfig.class);
-		languages.put("fur", FurConfig.class);
-		languages.put("fy", FyConfig.class);
-		languages.put("ga", GaConfig.class);
-		languages.put("gag", GagConfig.class);
-		languages.put("gan", GanConfig.class);
-		languages.put("gd", GdConfig.class);
-		languages.put("gl", GlConfig.class);
-		languages.put("glk", GlkConfig.class);
-		languages.put("gn", GnConfig.class);
-		languages.put("got", GotConfig.class);
-		languages.put("grc", GrcConfig.class);
-		languages.put("gsw", GswConfig.class);
-		languages.put("gu", GuConfig.class);
-		languages.put("gv", GvConfig.class);
-		languages.put("hak", HakConfig.class);
-		languages.put("haw", HawConfig.class);
-		languages.put("he", HeConfig.class);
-		languages.put("hi", HiConfig.class);
-		languages.put("hif", HifConfig.class);
-		languages.put("hr", HrConfig.class);
-		languages.put("hrx", HrxConfig.class);
-		languages.put("hsb", HsbConfig.class);
-		languages.put("ht", HtConfig.class);
-		languages.put("hu", HuConfig.class);
-		languages.put("hy", HyConfig.class);
-		languages.put("ia", IaConfig.class);
-		languages.put("id", IdConfig.class);
-		languages.put("ie", IeConfig.class);
-		languages.put("ig", IgConfig.class);
-		languages.put("ii", IiConfig.class);
-		languages.put("ilo", IloConfig.class);
-		languages.put("inh", InhConfig.class);
-		languages.put("io", IoConfig.class);
-		languages.put("is", IsConfig.class);
-		languages.put("it", ItConfig.class);
-		languages.put("iu", IuConfig.class);
-		languages.put("ja", JaConfig.class);
-		languages.put("jut", JutConfig.class);
-		languages.put("jv", JvConfig.class);
-		languages.put("ka", KaConfig.class);
-		languages.put("kaa", KaaConfig.class);
-		languages.put("kab", KabConfig.class);
-		languages.put("kbd", KbdConfig.class);
-		languages.put("kg", KgConfig.class);
-		languages.put("khw", KhwConfig.class);
-		languages.put("kiu", KiuConfig.class);
-		languages.put("kk", KkConfig.class);
-		languages.put("kl", KlConfig.class);
-		languages.put("km", KmConfig.class);
-		languages.put("kn", KnConfig.class);
-		languages.put("ko", KoConfig.class);
-		languages.put("koi", KoiConfig.class);
-		languages.put("krc", KrcConfig.class);
-		languages.put("ks", KsConfig.class);
-		languages.put("ksh", KshConfig.class);
-		languages.put("ku", KuConfig.class);
-		languages.put("kv", KvConfig.class);
-		languages.put("kw", KwConfig.class);
-		languages.put("ky", KyConfig.class);
-		languages.put("la", LaConfig.class);
-		languages.put("lad", LadConfig.class);
-		languages.put("lb", LbConfig.class);
-		languages.put("lbe", LbeConfig.class);
-		languages.put("lez", LezConfig.class);
-		languages.put("lfn", LfnConfig.class);
-		languages.put("li", LiConfig.class);
-		languages.put("lij", LijConfig.class);
-		languages.put("liv", LivConfig.class);
-		languages.put("lmo", LmoConfig.class);
-		languages.put("ln", LnConfig.class);
-		languages.put("lo", LoConfig.class);
-		languages.put("lrc", LrcConfig.class);
-		languages.put("lt", LtConfig.class);
-		languages.put("ltg", LtgConfig.class);
-		languages.put("lv", LvConfig.class);
-		languages.put("lzh", LzhConfig.class);
-		languages.put("lzz", LzzConfig.class);
-		languages.put("mai", MaiConfig.class);
-		languages.put("mdf", MdfConfig.class);
-		languages.put("mg", MgConfig.class);
-		languages.put("mhr", MhrConfig.class);
-		languages.put("min", MinConfig.class);
-		languages.put("mk", MkConfig.class);
-		languages.put("ml", MlConfig.class);
-		languages.put("mn", MnConfig.class);
-		languages.put("mo", MoConfig.class);
-		languages.put("mr", MrConfig.class);
-		languages.put("mrj", MrjConfig.class);
-		languages.put("ms", MsConfig.class);
-		languages.put("mt", MtConfig.class);
-		languages.put("mwl", MwlConfig.class);
-		languages.put("my", MyConfig.class);
-		languages.put("myv", MyvConfig.class);
-		languages.put("mzn", MznConfig.class);
-		languages.put("nah", NahConfig.class);
-		languages.put("nan", NanConfig.class);
-		languages.put("nap", NapConfig.class);
-		languages.put("nb", NbConfig.class);
-		languages.put("nds", NdsConfig.class);
-		languages.put("ne", NeConfig.class);
-		languages.put("new", NewConfig.class);
-		languages.put("nl", NlConfig.class);
-		languages.put("nn", NnConfig.class);
-		languages.put("nso", NsoConfig.class);
-		languages.put("nv", NvConfig.class);
-		languages.put("oc", OcConfig.class);
-		languages.put("or", OrConfig.class);
-		languages.put("os", OsConfig.class);
-		languages.put("pa", PaConfig.class);
-		languages.put("pcd", PcdConfig.class);
-		languages.put("pdc", PdcConfig.class);
-		languages.put("pdt", PdtConfig.class);
-		languages.put("pfl", PflConfig.class);
-		languages.put("pi", PiConfig.class);
-		languages.put("pl", PlConfig.class);
-		languages.put("pms", PmsConfig.class);
-		languages.put("pnb", PnbConfig.class);
-		languages.put("pnt", PntConfig.class);
-		languages.put("ps", PsConfig.class);
-		languages.put("pt", PtConfig.class);
-		languages.put("qu", QuConfig.class);
-		languages.put("qug", QugConfig.class);
-		languages.put("rgn", RgnConfig.class);
-		languages.put("rm", RmConfig.class);
-		languages.put("rmy", RmyConfig.class);
-		languages.put("ro", RoConfig.class);
-		languages.put("ru", RuConfig.class);
-		languages.put("rue", RueConfig.class);
-		languages.put("ruq", RuqConfig.class);
-		languages.put("sa", SaConfig.class);
-		languages.put("sah", SahConfig.class);
-		languages.put("sc", ScConfig.class);
-		languages.put("scn", ScnConfig.class);
-		languages.put("sd", SdConfig.class);
-		languages.put("sdc", SdcConfig.class);
-		languages.put("se", SeConfig.class);
-		languages.put("ses", SesConfig.class);
-		languages.put("sg", SgConfig.class);
-		languages.put("sgs", SgsConfig.class);
-		languages.put("sh", ShConfig.class);
-		languages.put("si", SiConfig.class);
-		languages.put("sk", SkConfig.class);
-		languages.put("sl", SlConfig.class);
-		languages.put("sli", SliConfig.class);
-		languages.put("sq", SqConfig.class);
-		languages.put("sr", SrConfig.class);
-		languages.put("srn", SrnConfig.class);
-		languages.put("stq", StqConfig.class);
-		languages.put("su", SuConfig.class);
-		languages.put("sv", SvConfig.class);
-		languages.put("sw", SwConfig.class);
-		languages.put("szl", SzlConfig.class);
-		languages.put("ta", TaConfig.class);
-		languages.put("tcy", TcyConfig.class);
-		languages.put("te", TeConfig.class);
-		languages.put("tet", TetConfig.class);
-		languages.put("tg", TgConfig.class);
-		languages.put("th", ThConfig.class);
-		languages.put("tk", TkConfig.class);
-		languages.put("tl", TlConfig.class);
-		languages.put("tly", TlyConfig.class);
-		languages.put("tpi", TpiConfig.class);
-		languages.put("tr", TrConfig.class);
-		languages.put("tt", TtConfig.class);
-		languages.put("ty", TyConfig.class);
-		languages.put("tyv", TyvConfig.class);
-		languages.put("udm", UdmConfig.class);
-		languages.put("ug", UgConfig.class);
-		languages.put("uk", UkConfig.class);
-		languages.put("ur", UrConfig.class);
-		languages.put("uz", UzConfig.class);
-		languages.put("vec", VecConfig.class);
-		languages.put("vep", VepConfig.class);
-		languages.put("vi", ViConfig.class);
-		languages.put("vls", VlsConfig.class);
-		languages.put("vmf", VmfConfig.class);
-		languages.put("vo", VoConfig.class);
-		languages.put("vot", VotConfig.class);
-		languages.put("vro", VroConfig.class);
-		languages.put("wa", WaConfig.class);
-		languages.put("war", WarConfig.class);
-		languages.put("wo", WoConfig.class);
-		languages.put("wuu", WuuConfig.class);
-		languages.put("xal", XalConfig.class);
-		languages.put("xmf", XmfConfig.class);
-		languages.put("yi", YiConfig.class);
-		languages.put("yo", YoConfig.class);
-		languages.put("yue", YueConfig.class);
-		languages.put("za", ZaConfig.class);
-		languages.put("zea", ZeaConfig.class);
-		languages.put("zh", ZhConfig.class);
- 	}
+		synchronized (dumpConfigs) {
+			config = dumpConfigs.get(key);
+			if(config == null) {
+				config = new SiteinfoConfig(header, base);
+				dumpConfigs.put(key, config);
+			}
+		}
 
- 	public static Class<? extends TemplateConfig> get(String lang) {
- 		return languages.get(lang);
- 	}
- }
+		return config;
+	}
+}
@@ -1,53 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class LfnConfig extends TemplateConfig {
-	public LfnConfig() {
-		addNamespaceAlias(-1, "Spesial");
-		addNamespaceAlias(1, "Discute");
-		addNamespaceAlias(2, "Usor");
-		addNamespaceAlias(3, "Usor_Discute");
-		addNamespaceAlias(5, "Wikipedia_Discute");
-		addNamespaceAlias(6, "Fix");
-		addNamespaceAlias(7, "Fix_Discute");
-		addNamespaceAlias(10, "Model");
-		addNamespaceAlias(11, "Model_Discute");
-		addNamespaceAlias(12, "Aida");
-		addNamespaceAlias(13, "Aida_Discute");
-		addNamespaceAlias(14, "Categoria");
-		addNamespaceAlias(15, "Categoria_Discute");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://lfn.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "lfn";
-	}
-}
@@ -1,212 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class LiConfig extends TemplateConfig {
-	public LiConfig() {
-		addNamespaceAlias(-2, "Media", "Media");
-		addNamespaceAlias(-1, "Speciaal", "Speciaal");
-		addNamespaceAlias(1, "Euverlèk", "Overleg");
-		addNamespaceAlias(2, "Gebroeker", "Gebruiker");
-		addNamespaceAlias(3, "Euverlèk_gebroeker", "Overleg_gebruiker");
-		addNamespaceAlias(5, "Euverlèk_Wikipedia", "Overleg_Wikipedia");
-		addNamespaceAlias(6, "Plaetje", "Aafbeilding", "Bestand", "Afbeelding");
-		addNamespaceAlias(7, "Euverlèk_plaetje", "Euverlèk_afbeelding", "Overleg_bestand", "Overleg_afbeelding");
-		addNamespaceAlias(8, "MediaWiki", "MediaWiki");
-		addNamespaceAlias(9, "Euverlèk_MediaWiki", "Overleg_MediaWiki");
-		addNamespaceAlias(10, "Sjabloon", "Sjabloon");
-		addNamespaceAlias(11, "Euverlèk_sjabloon", "Overleg_sjabloon");
-		addNamespaceAlias(12, "Help", "Help");
-		addNamespaceAlias(13, "Euverlèk_help", "Overleg_help");
-		addNamespaceAlias(14, "Categorie", "Kategorie", "Categorie");
-		addNamespaceAlias(15, "Euverlèk_categorie", "Euverlèk_kategorie", "Overleg_categorie");
-
-		addI18nCIAlias("redirect", "#DOORVERWIJZING", "#REDIRECT");
-		addI18nCIAlias("notoc", "__GEENINHOUD__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__GEEN_GALERIJ__", "__NOGALLERY__");
-		addI18nCIAlias("forcetoc", "__INHOUD_DWINGEN__", "__FORCEERINHOUD__", "__FORCETOC__");
-		addI18nCIAlias("toc", "__INHOUD__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__NIETBEWERKBARESECTIE__", "__NOEDITSECTION__");
-		addI18nAlias("currentmonth", "HUIDIGEMAAND", "HUIDIGEMAAND2", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonth1", "HUIDIGEMAAND1", "CURRENTMONTH1");
-		addI18nAlias("currentmonthname", "HUIDIGEMAANDNAAM", "CURRENTMONTHNAME");
-		addI18nAlias("currentmonthnamegen", "HUIDIGEMAANDGEN", "CURRENTMONTHNAMEGEN");
-		addI18nAlias("currentmonthabbrev", "HUIDIGEMAANDAFK", "CURRENTMONTHABBREV");
-		addI18nAlias("currentday", "HUIDIGEDAG", "CURRENTDAY");
-		addI18nAlias("currentday2", "HUIDIGEDAG2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "HUIDIGEDAGNAAM", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "HUIDIGJAAR", "CURRENTYEAR");
-		addI18nAlias("currenttime", "HUIDIGETIJD", "CURRENTTIME");
-		addI18nAlias("currenthour", "HUIDIGUUR", "CURRENTHOUR");
-		addI18nAlias("localmonth", "PLAATSELIJKEMAAND", "LOKALEMAAND", "LOKALEMAAND2", "LOCALMONTH", "LOCALMONTH2");
-		addI18nAlias("localmonth1", "LOKALEMAAND1", "LOCALMONTH1");
-		addI18nAlias("localmonthname", "PLAATSELIJKEMAANDNAAM", "LOKALEMAANDNAAM", "LOCALMONTHNAME");
-		addI18nAlias("localmonthnamegen", "PLAATSELIJKEMAANDNAAMGEN", "LOKALEMAANDNAAMGEN", "LOCALMONTHNAMEGEN");
-		addI18nAlias("localmonthabbrev", "PLAATSELIJKEMAANDAFK", "LOKALEMAANDAFK", "LOCALMONTHABBREV");
-		addI18nAlias("localday", "PLAATSELIJKEDAG", "LOKALEDAG", "LOCALDAY");
-		addI18nAlias("localday2", "PLAATSELIJKEDAG2", "LOKALEDAG2", "LOCALDAY2");
-		addI18nAlias("localdayname", "PLAATSELIJKEDAGNAAM", "LOKALEDAGNAAM", "LOCALDAYNAME");
-		addI18nAlias("localyear", "PLAATSELIJKJAAR", "LOKAALJAAR", "LOCALYEAR");
-		addI18nAlias("localtime", "PLAATSELIJKETIJD", "LOKALETIJD", "LOCALTIME");
-		addI18nAlias("localhour", "PLAATSELIJKUUR", "LOKAALUUR", "LOCALHOUR");
-		addI18nAlias("numberofpages", "AANTALPAGINAS", "AANTALPAGINA'S", "AANTALPAGINA’S", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "AANTALARTIKELEN", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "AANTALBESTANDEN", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "AANTALGEBRUIKERS", "NUMBEROFUSERS");
-		addI18nAlias("numberofactiveusers", "AANTALACTIEVEGEBRUIKERS", "ACTIEVEGEBRUIKERS", "NUMBEROFACTIVEUSERS");
-		addI18nAlias("numberofedits", "AANTALBEWERKINGEN", "NUMBEROFEDITS");
-		addI18nAlias("numberofviews", "AANTALKERENBEKEKEN", "NUMBEROFVIEWS");
-		addI18nAlias("pagename", "PAGINANAAM", "PAGENAME");
-		addI18nAlias("pagenamee", "PAGINANAAME", "PAGENAMEE");
-		addI18nAlias("namespace", "NAAMRUIMTE", "NAMESPACE");
-		addI18nAlias("namespacee", "NAAMRUIMTEE", "NAMESPACEE");
-		addI18nAlias("namespacenumber", "NAAMRUIMTENUMMER", "NAMESPACENUMBER");
-		addI18nAlias("talkspace", "OVERLEGRUIMTE", "TALKSPACE");
-		addI18nAlias("talkspacee", "OVERLEGRUIMTEE", "TALKSPACEE");
-		addI18nAlias("subjectspace", "ONDERWERPRUIMTE", "ARTIKELRUIMTE", "SUBJECTSPACE", "ARTICLESPACE");
-		addI18nAlias("subjectspacee", "ONDERWERPRUIMTEE", "ARTIKELRUIMTEE", "SUBJECTSPACEE", "ARTICLESPACEE");
-		addI18nAlias("fullpagename", "VOLLEDIGEPAGINANAAM", "FULLPAGENAME");
-		addI18nAlias("fullpagenamee", "VOLLEDIGEPAGINANAAME", "FULLPAGENAMEE");
-		addI18nAlias("subpagename", "DEELPAGINANAAM", "SUBPAGENAME");
-		addI18nAlias("subpagenamee", "DEELPAGINANAAME", "SUBPAGENAMEE");
-		addI18nAlias("rootpagename", "ROOTPAGINANAAM", "ROOTPAGENAME");
-		addI18nAlias("rootpagenamee", "ROOTPAGINANAAME", "ROOTPAGENAMEE");
-		addI18nAlias("basepagename", "BASISPAGINANAAM", "BASEPAGENAME");
-		addI18nAlias("basepagenamee", "BASISPAGINANAAME", "BASEPAGENAMEE");
-		addI18nAlias("talkpagename", "OVERLEGPAGINANAAM", "TALKPAGENAME");
-		addI18nAlias("talkpagenamee", "OVERLEGPAGINANAAME", "TALKPAGENAMEE");
-		addI18nAlias("subjectpagename", "ONDERWERPPAGINANAAM", "ARTIKELPAGINANAAM", "SUBJECTPAGENAME", "ARTICLEPAGENAME");
-		addI18nAlias("subjectpagenamee", "ONDERWERPPAGINANAAME", "ARTIKELPAGINANAAME", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE");
-		addI18nCIAlias("msg", "BERICHT:", "MSG:");
-		addI18nCIAlias("subst", "VERV:", "SUBST:");
-		addI18nCIAlias("safesubst", "VEILIGVERV:", "SAFESUBST:");
-		addI18nCIAlias("msgnw", "BERICHTNW", "MSGNW:");
-		addI18nAlias("img_thumbnail", "miniatuur", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "miniatuur=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "rechts", "right");
-		addI18nAlias("img_left", "links", "left");
-		addI18nAlias("img_none", "geen", "none");
-		addI18nAlias("img_center", "gecentreerd", "center", "centre");
-		addI18nAlias("img_framed", "omkaderd", "framed", "enframed", "frame");
-		addI18nAlias("img_frameless", "kaderloos", "frameless");
-		addI18nAlias("img_lang", "taal=$1", "lang=$1");
-		addI18nAlias("img_page", "pagina=$1", "pagina_$1", "page=$1", "page $1");
-		addI18nAlias("img_upright", "rechtop", "rechtop=$1", "rechtop$1", "upright", "upright=$1", "upright $1");
-		addI18nAlias("img_border", "rand", "border");
-		addI18nAlias("img_baseline", "grondlijn", "baseline");
-		addI18nAlias("img_top", "boven", "top");
-		addI18nAlias("img_text_top", "tekst-boven", "text-top");
-		addI18nAlias("img_middle", "midden", "middle");
-		addI18nAlias("img_bottom", "beneden", "bottom");
-		addI18nAlias("img_text_bottom", "tekst-beneden", "text-bottom");
-		addI18nAlias("img_link", "koppeling=$1", "verwijzing=$1", "link=$1");
-		addI18nAlias("img_class", "klasse=$1", "class=$1");
-		addI18nAlias("sitename", "SITENAAM", "SITENAME");
-		addI18nCIAlias("ns", "NR:", "NS:");
-		addI18nCIAlias("nse", "NRE:", "NSE:");
-		addI18nCIAlias("localurl", "LOKALEURL", "LOCALURL:");
-		addI18nCIAlias("localurle", "LOKALEURLE", "LOCALURLE:");
-		addI18nCIAlias("articlepath", "ARTIKELPAD", "ARTICLEPATH");
-		addI18nCIAlias("pageid", "PAGINAID", "PAGEID");
-		addI18nCIAlias("servername", "SERVERNAAM", "SERVERNAME");
-		addI18nCIAlias("scriptpath", "SCRIPTPAD", "SCRIPTPATH");
-		addI18nCIAlias("stylepath", "STIJLPAD", "STYLEPATH");
-		addI18nCIAlias("grammar", "GRAMMATICA:", "GRAMMAR:");
-		addI18nCIAlias("gender", "GESLACHT:", "GENDER:");
-		addI18nCIAlias("notitleconvert", "__GEENPAGINANAAMCONVERSIE__", "__GEENTITELCONVERSIE__", "__GEENTC__", "__NOTITLECONVERT__", "__NOTC__");
-		addI18nCIAlias("nocontentconvert", "__GEENINHOUDCONVERSIE__", "__GEENIC__", "__NOCONTENTCONVERT__", "__NOCC__");
-		addI18nAlias("currentweek", "HUIDIGEWEEK", "CURRENTWEEK");
-		addI18nAlias("currentdow", "HUIDIGEDVDW", "CURRENTDOW");
-		addI18nAlias("localweek", "PLAATSELIJKEWEEK", "LOKALEWEEK", "LOCALWEEK");
-		addI18nAlias("localdow", "PLAATSELIJKEDVDW", "LOKALEDVDW", "LOCALDOW");
-		addI18nAlias("revisionid", "VERSIEID", "REVISIONID");
-		addI18nAlias("revisionday", "VERSIEDAG", "REVISIONDAY");
-		addI18nAlias("revisionday2", "VERSIEDAG2", "REVISIONDAY2");
-		addI18nAlias("revisionmonth", "VERSIEMAAND", "REVISIONMONTH");
-		addI18nAlias("revisionmonth1", "VERSIEMAAND1", "REVISIONMONTH1");
-		addI18nAlias("revisionyear", "VERSIEJAAR", "REVISIONYEAR");
-		addI18nAlias("revisiontimestamp", "VERSIETIJD", "REVISIONTIMESTAMP");
-		addI18nAlias("revisionuser", "VERSIEGEBRUIKER", "REVISIONUSER");
-		addI18nAlias("revisionsize", "VERSIEGROOTTE", "REVISIONSIZE");
-		addI18nCIAlias("plural", "MEERVOUD:", "PLURAL:");
-		addI18nCIAlias("fullurl", "VOLLEDIGEURL:", "FULLURL:");
-		addI18nCIAlias("fullurle", "VOLLEDIGEURLE:", "FULLURLE:");
-		addI18nCIAlias("canonicalurl", "CANOIEKEURL:", "CANONICALURL:");
-		addI18nCIAlias("canonicalurle", "CANONIEKEURLE:", "CANONICALURLE:");
-		addI18nCIAlias("lcfirst", "KLEERSTE:", "LCFIRST:");
-		addI18nCIAlias("ucfirst", "GLEERSTE:", "HLEERSTE:", "UCFIRST:");
-		addI18nCIAlias("lc", "KL:", "LC:");
-		addI18nCIAlias("uc", "HL:", "UC:");
-		addI18nCIAlias("raw", "RAUW:", "RUW:", "RAW:");
-		addI18nAlias("displaytitle", "WEERGEGEVENTITEL", "TOONTITEL", "DISPLAYTITLE");
-		addI18nAlias("rawsuffix", "V", "R");
-		addI18nCIAlias("nocommafysuffix", "GEENSCHEIDINGSTEKEN", "NOSEP");
-		addI18nAlias("newsectionlink", "__NIEUWESECTIELINK__", "__NIEUWESECTIEKOPPELING__", "__NEWSECTIONLINK__");
-		addI18nAlias("nonewsectionlink", "__GEENNIEUWKOPJEKOPPELING__", "__GEENNIEUWESECTIELINK__", "__GEENNIEUWKOPJEVERWIJZING__", "__NONEWSECTIONLINK__");
-		addI18nAlias("currentversion", "HUIDIGEVERSIE", "CURRENTVERSION");
-		addI18nCIAlias("urlencode", "URLCODEREN", "CODEERURL", "URLENCODE:");
-		addI18nCIAlias("anchorencode", "ANKERCODEREN", "CODEERANKER", "ANCHORENCODE");
-		addI18nAlias("currenttimestamp", "HUIDIGETIJDSTEMPEL", "CURRENTTIMESTAMP");
-		addI18nAlias("localtimestamp", "PLAATSELIJKETIJDSTEMPEL", "LOKALETIJDSTEMPEL", "LOCALTIMESTAMP");
-		addI18nAlias("directionmark", "RICHTINGMARKERING", "RICHTINGSMARKERING", "DIRECTIONMARK", "DIRMARK");
-		addI18nCIAlias("language", "#TAAL:", "#LANGUAGE:");
-		addI18nAlias("contentlanguage", "INHOUDSTAAL", "INHOUDTAAL", "CONTENTLANGUAGE", "CONTENTLANG");
-		addI18nAlias("pagesinnamespace", "PAGINASINNAAMRUIMTE", "PAGINA’SINNAAMRUIMTE", "PAGINA'SINNAAMRUIMTE", "PAGESINNAMESPACE:", "PAGESINNS:");
-		addI18nAlias("numberofadmins", "AANTALBEHEERDERS", "AANTALADMINS", "NUMBEROFADMINS");
-		addI18nCIAlias("formatnum", "FORMATTEERNUM", "NUMFORMATTEREN", "FORMATNUM");
-		addI18nCIAlias("padleft", "LINKSOPVULLEN", "PADLEFT");
-		addI18nCIAlias("padright", "RECHTSOPVULLEN", "PADRIGHT");
-		addI18nCIAlias("special", "speciaal", "special");
-		addI18nCIAlias("speciale", "speciaale", "speciale");
-		addI18nAlias("defaultsort", "STANDAARDSORTERING:", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:");
-		addI18nCIAlias("filepath", "BESTANDSPAD:", "FILEPATH:");
-		addI18nCIAlias("tag", "label", "tag");
-		addI18nAlias("hiddencat", "__VERBORGENCAT__", "__HIDDENCAT__");
-		addI18nAlias("pagesincategory", "PAGINASINCATEGORIE", "PAGINASINCAT", "PAGESINCATEGORY", "PAGESINCAT");
-		addI18nAlias("pagesize", "PAGINAGROOTTE", "PAGESIZE");
-		addI18nAlias("noindex", "__GEENINDEX__", "__NOINDEX__");
-		addI18nAlias("numberingroup", "AANTALINGROEP", "NUMBERINGROUP", "NUMINGROUP");
-		addI18nAlias("staticredirect", "__STATISCHEDOORVERWIJZING__", "__STATISCHEREDIRECT__", "__STATICREDIRECT__");
-		addI18nAlias("protectionlevel", "BEVEILIGINGSNIVEAU", "PROTECTIONLEVEL");
-		addI18nCIAlias("formatdate", "datumopmaak", "formatdate", "dateformat");
-		addI18nCIAlias("url_path", "PAD", "PATH");
-		addI18nCIAlias("url_query", "ZOEKOPDRACHT", "QUERY");
-		addI18nCIAlias("defaultsort_noerror", "geenfout", "noerror");
-		addI18nCIAlias("defaultsort_noreplace", "nietvervangen", "noreplace");
-		addI18nCIAlias("pagesincategory_all", "alle", "all");
-		addI18nCIAlias("pagesincategory_pages", "paginas", "pages");
-		addI18nCIAlias("pagesincategory_subcats", "ondercategorieen", "subcats");
-		addI18nCIAlias("pagesincategory_files", "bestanden", "files");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://li.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "li";
-	}
-}
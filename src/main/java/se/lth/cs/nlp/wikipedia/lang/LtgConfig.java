@@ -1,56 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class LtgConfig extends TemplateConfig {
-	public LtgConfig() {
-		addNamespaceAlias(-2, "Medeja", "Media");
-		addNamespaceAlias(-1, "Seviškuo", "Special");
-		addNamespaceAlias(1, "Sprīža", "Diskusija");
-		addNamespaceAlias(2, "Lītuotuojs", "Lietotājs");
-		addNamespaceAlias(3, "Sprīža_ap_lītuotuoju", "Lietotāja_diskusija");
-		addNamespaceAlias(5, "Sprīža_ap_{{GRAMMAR:accusative|Wikipedia}}", "{{grammar:ģenitīvs|Wikipedia}}_diskusija");
-		addNamespaceAlias(6, "Fails", "Attēls");
-		addNamespaceAlias(7, "Sprīža_ap_failu", "Attēla_diskusija");
-		addNamespaceAlias(8, "MediaWiki", "MediaWiki");
-		addNamespaceAlias(9, "Sprīža_ap_MediaWiki", "MediaWiki_diskusija");
-		addNamespaceAlias(10, "Taiss", "Veidne");
-		addNamespaceAlias(11, "Sprīža_ap_taisu", "Veidnes_diskusija");
-		addNamespaceAlias(12, "Paleigs", "Palīdzība");
-		addNamespaceAlias(13, "Sprīža_ap_paleigu", "Palīdzības_diskusija");
-		addNamespaceAlias(14, "Kategoreja", "Kategorija");
-		addNamespaceAlias(15, "Sprīža_ap_kategoreju", "Kategorijas_diskusija");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://ltg.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "ltg";
-	}
-}
@@ -1,56 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class LvConfig extends TemplateConfig {
-	public LvConfig() {
-		addNamespaceAlias(-2, "Media");
-		addNamespaceAlias(-1, "Special");
-		addNamespaceAlias(1, "Diskusija");
-		addNamespaceAlias(2, "Lietotājs");
-		addNamespaceAlias(3, "Lietotāja_diskusija");
-		addNamespaceAlias(5, "{{grammar:ģenitīvs|Wikipedia}}_diskusija");
-		addNamespaceAlias(6, "Attēls");
-		addNamespaceAlias(7, "Attēla_diskusija");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "MediaWiki_diskusija");
-		addNamespaceAlias(10, "Veidne");
-		addNamespaceAlias(11, "Veidnes_diskusija");
-		addNamespaceAlias(12, "Palīdzība");
-		addNamespaceAlias(13, "Palīdzības_diskusija");
-		addNamespaceAlias(14, "Kategorija");
-		addNamespaceAlias(15, "Kategorijas_diskusija");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://lv.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "lv";
-	}
-}
@@ -1,208 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class MgConfig extends TemplateConfig {
-	public MgConfig() {
-		addNamespaceAlias(-2, "Rakitra", "Média", "Média");
-		addNamespaceAlias(-1, "Manokana", "Spécial");
-		addNamespaceAlias(1, "Dinika", "Discuter", "Discussion", "Discuter");
-		addNamespaceAlias(2, "Mpikambana", "Utilisateur", "Utilisateur", "Utilisateur", "Utilisatrice");
-		addNamespaceAlias(3, "Dinika_amin'ny_mpikambana", "Discussion_Utilisateur", "Discussion_utilisateur", "Discussion_Utilisateur", "Discussion_utilisateur", "Discussion_utilisatrice");
-		addNamespaceAlias(5, "Dinika_amin'ny_Wikipedia", "Discussion_Wikipedia", "Discussion_Wikipedia");
-		addNamespaceAlias(6, "Sary", "Fichier");
-		addNamespaceAlias(7, "Dinika_amin'ny_sary", "Discussion_Image", "Discussion_fichier", "Discussion_Fichier", "Discussion_Image");
-		addNamespaceAlias(8, "MediaWiki", "MediaWiki");
-		addNamespaceAlias(9, "Dinika_amin'ny_MediaWiki", "Discussion_MediaWiki", "Discussion_MediaWiki");
-		addNamespaceAlias(10, "Endrika", "Modèle", "Modèle");
-		addNamespaceAlias(11, "Dinika_amin'ny_endrika", "Discussion_Modèle", "Discussion_modèle", "Discussion_Modèle");
-		addNamespaceAlias(12, "Fanoroana", "Aide", "Fanampiana", "Aide");
-		addNamespaceAlias(13, "Dinika_amin'ny_fanoroana", "Discussion_Aide", "Dinika_amin'ny_fanampiana", "Discussion_aide", "Discussion_Aide");
-		addNamespaceAlias(14, "Sokajy", "Catégorie", "Catégorie");
-		addNamespaceAlias(15, "Dinika_amin'ny_sokajy", "Discussion_Catégorie", "Discussion_catégorie", "Discussion_Catégorie");
-
-		addI18nCIAlias("redirect", "#FIHODINANA", "#REDIRECTION", "#REDIRECT", "Array");
-		addI18nCIAlias("notoc", "__TSYASIANALAHATRA__", "__AUCUNSOMMAIRE__", "__AUCUNETDM__", "__NOTOC__", "Array");
-		addI18nCIAlias("nogallery", "__TSYASIANAGALLERY__", "__AUCUNEGALERIE__", "__NOGALLERY__", "Array");
-		addI18nCIAlias("forcetoc", "__TEREONYLAHATRA__", "__FORCERSOMMAIRE__", "__FORCERTDM__", "__FORCETOC__", "Array");
-		addI18nCIAlias("toc", "__LAHATRA__", "__LAHAT__", "__SOMMAIRE__", "__TDM__", "__TOC__", "Array");
-		addI18nCIAlias("noeditsection", "__TSYAZOOVAINA__", "__SECTIONNONEDITABLE__", "__NOEDITSECTION__", "Array");
-		addI18nAlias("currentmonth", "VOLANA", "MOISACTUEL", "MOIS2ACTUEL", "CURRENTMONTH", "CURRENTMONTH2", "Array");
-		addI18nAlias("currentmonth1", "VOLANA1", "MOIS1ACTUEL", "CURRENTMONTH1", "Array");
-		addI18nAlias("currentmonthname", "ANARAMBOLANA", "NOMMOISACTUEL", "CURRENTMONTHNAME", "Array");
-		addI18nAlias("currentmonthnamegen", "ANARAMBOLANAGEN", "ANARANAVOLANA", "CURRENTMONTHNAME", "NOMGENMOISACTUEL", "CURRENTMONTHNAMEGEN", "Array");
-		addI18nAlias("currentmonthabbrev", "ANARAMBOLANAFOHY", "ANARANAVOLANAFOHY", "ABREVMOISACTUEL", "CURRENTMONTHABBREV", "Array");
-		addI18nAlias("currentday", "ANDRO", "JOURACTUEL", "JOUR1ACTUEL", "CURRENTDAY", "Array");
-		addI18nAlias("currentday2", "ANDRO2", "JOUR2ACTUEL", "CURRENTDAY2", "Array");
-		addI18nAlias("currentdayname", "ANARANANDRO", "ANARANAANDRO", "NOMJOURACTUEL", "CURRENTDAYNAME", "Array");
-		addI18nAlias("currentyear", "TAONA", "ANNEEACTUELLE", "CURRENTYEAR", "Array");
-		addI18nAlias("currenttime", "LERA", "HORAIREACTUEL", "CURRENTTIME", "Array");
-		addI18nAlias("currenthour", "ORA", "HEUREACTUELLE", "CURRENTHOUR", "Array");
-		addI18nAlias("localmonth", "VOLANAANTOERANA", "MOISLOCAL", "MOIS2LOCAL", "LOCALMONTH", "LOCALMONTH2", "Array");
-		addI18nAlias("localmonth1", "VOLANAANTOERANA1", "MOIS1LOCAL", "LOCALMONTH1", "Array");
-		addI18nAlias("localmonthname", "ANARAMBOLANAANTOERANA", "NOMMOISLOCAL", "LOCALMONTHNAME", "Array");
-		addI18nAlias("localmonthnamegen", "ANARAMBOLANAANTOERANAGEN", "NOMGENMOISLOCAL", "LOCALMONTHNAMEGEN", "Array");
-		addI18nAlias("localmonthabbrev", "ANARAMBOLANAANTOERANAFOHY", "ABREVMOISLOCAL", "LOCALMONTHABBREV", "Array");
-		addI18nAlias("localday", "ANDROANTOERANA", "JOURLOCAL", "JOUR1LOCAL", "LOCALDAY", "Array");
-		addI18nAlias("localday2", "ANDROANTOERANA2", "JOUR2LOCAL", "LOCALDAY2", "Array");
-		addI18nAlias("localdayname", "ANARANANDROANTOERANA", "NOMJOURLOCAL", "LOCALDAYNAME", "Array");
-		addI18nAlias("localyear", "TAONAANTOERANA", "ANNEELOCALE", "LOCALYEAR", "Array");
-		addI18nAlias("localtime", "LERAANTOERANA", "HORAIRELOCAL", "LOCALTIME", "Array");
-		addI18nAlias("localhour", "ORAANTOERANA", "HEURELOCALE", "LOCALHOUR", "Array");
-		addI18nAlias("numberofpages", "ISAPEJY", "NOMBREPAGES", "NUMBEROFPAGES", "Array");
-		addI18nAlias("numberofarticles", "ISALAHATSORATRA", "NOMBREARTICLES", "NUMBEROFARTICLES", "Array");
-		addI18nAlias("numberoffiles", "ISARAKITRA", "NOMBREFICHIERS", "NUMBEROFFILES", "Array");
-		addI18nAlias("numberofusers", "ISAMPIKAMBANA", "NOMBREUTILISATEURS", "NUMBEROFUSERS", "Array");
-		addI18nAlias("numberofactiveusers", "ISAMPIKAMBANAMANOVA", "NOMBREUTILISATEURSACTIFS", "NUMBEROFACTIVEUSERS", "Array");
-		addI18nAlias("numberofedits", "ISAFANOVANA", "NOMBREMODIFS", "NUMBEROFEDITS", "Array");
-		addI18nAlias("numberofviews", "ISATOPIMASO", "NOMBREVUES", "NUMBEROFVIEWS", "Array");
-		addI18nAlias("pagename", "ANARAMPEJY", "ANARANAPEJY", "NOMPAGE", "PAGENAME", "Array");
-		addI18nAlias("pagenamee", "ANARAMPEJYX", "ANARANAPEJYX", "NOMPAGEX", "PAGENAMEE", "Array");
-		addI18nAlias("namespace", "ANARANTSEHATRA", "ANARANASEHATRA", "ESPACENOMMAGE", "NAMESPACE", "Array");
-		addI18nAlias("namespacee", "ANARANTSEHATRAX", "ANARANASEHATRAX", "ESPACENOMMAGEX", "NAMESPACEE", "Array");
-		addI18nAlias("talkspace", "PEJINDRESAKA", "PEJYRESAKA", "DINIKA", "ESPACEDISCUSSION", "TALKSPACE", "Array");
-		addI18nAlias("talkspacee", "PEJINDRESAKAX", "PEJYRESAKAX", "DINIKAX", "ESPACEDISCUSSIONX", "TALKSPACEE", "Array");
-		addI18nAlias("subjectspace", "TOERANALAHATSORATRA", "ESPACESUJET", "ESPACEARTICLE", "SUBJECTSPACE", "ARTICLESPACE", "Array");
-		addI18nAlias("subjectspacee", "TOERANNYLAHATSORATRA", "ESPACESUJETX", "ESPACEARTICLEX", "SUBJECTSPACEE", "ARTICLESPACEE", "Array");
-		addI18nAlias("fullpagename", "ANARAMPEJYFENO", "ANARANAPEJYFENO", "NOMPAGECOMPLET", "FULLPAGENAME", "Array");
-		addI18nAlias("fullpagenamee", "ANARAMPEJYFENOX", "ANARANAPEJYFENOX", "NOMPAGECOMPLETX", "FULLPAGENAMEE", "Array");
-		addI18nAlias("subpagename", "ANARANAZANAPEJY", "ANARANJANAPEJY", "NOMSOUSPAGE", "SUBPAGENAME", "Array");
-		addI18nAlias("subpagenamee", "ANARANJANAPEJYX", "ANARANAZANAPEJYX", "NOMSOUSPAGEX", "SUBPAGENAMEE", "Array");
-		addI18nAlias("basepagename", "ANARANAFOTOPEJY", "ANARAMPOTOPEJY", "NOMBASEDEPAGE", "BASEPAGENAME", "Array");
-		addI18nAlias("basepagenamee", "ANARANAFOTOPEJYE", "ANARAMPOTOPEJYE", "NOMBASEDEPAGEX", "BASEPAGENAMEE", "Array");
-		addI18nAlias("talkpagename", "ANARAMPEJINDRESAKA", "ANARANAPEJINDRESAKA", "NOMPAGEDISCUSSION", "TALKPAGENAME", "Array");
-		addI18nAlias("img_right", "ankavanana", "droite", "right", "Array");
-		addI18nAlias("img_left", "ankavia", "gauche", "left", "Array");
-		addI18nAlias("img_none", "tsymisy", "néant", "neant", "none", "Array");
-		addI18nAlias("img_center", "ampivoany", "anivony", "centré", "center", "centre", "Array");
-		addI18nAlias("img_page", "pejy $1", "page=$1", "page $1");
-		addI18nAlias("img_border", "sisiny", "bordure", "border", "Array");
-		addI18nAlias("img_top", "ambony", "haut", "top", "Array");
-		addI18nAlias("img_middle", "anivo", "milieu", "middle", "Array");
-		addI18nAlias("img_bottom", "ambany", "bas", "bottom", "Array");
-		addI18nAlias("currentweek", "HERINANDRO", "SEMAINEACTUELLE", "CURRENTWEEK", "Array");
-		addI18nAlias("currentdow", "ALAHADY", "JDSACTUEL", "CURRENTDOW", "Array");
-		addI18nAlias("localweek", "HERINANDROANTOERANA", "SEMAINELOCALE", "LOCALWEEK", "Array");
-		addI18nAlias("localdow", "ALAHADYANTOERANA", "JDSLOCAL", "LOCALDOW", "Array");
-		addI18nCIAlias("fullurl", "URLREHETRA:", "URLCOMPLETE:", "FULLURL:", "Array");
-		addI18nCIAlias("fullurle", "URLREHETRAX:", "URLCOMPLETEX:", "FULLURLE:", "Array");
-		addI18nAlias("displaytitle", "ASEHOLOHATENY", "AFFICHERTITRE", "DISPLAYTITLE", "Array");
-		addI18nAlias("namespacenumber", "NOMBREESPACENOMMAGE", "NAMESPACENUMBER");
-		addI18nAlias("rootpagename", "NOMPAGERACINE", "ROOTPAGENAME");
-		addI18nAlias("rootpagenamee", "NOMPAGERACINEX", "ROOTPAGENAMEE");
-		addI18nAlias("talkpagenamee", "NOMPAGEDISCUSSIONX", "TALKPAGENAMEE");
-		addI18nAlias("subjectpagename", "NOMPAGESUJET", "NOMPAGEARTICLE", "SUBJECTPAGENAME", "ARTICLEPAGENAME");
-		addI18nAlias("subjectpagenamee", "NOMPAGESUJETX", "NOMPAGEARTICLEX", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE");
-		addI18nAlias("img_thumbnail", "vignette", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "vignette=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_framed", "cadre", "encadré", "encadre", "framed", "enframed", "frame");
-		addI18nAlias("img_frameless", "sans_cadre", "non_encadré", "non_encadre", "frameless");
-		addI18nAlias("img_lang", "langue=$1", "lang=$1");
-		addI18nAlias("img_upright", "redresse", "redresse=$1", "redresse_$1", "upright", "upright=$1", "upright $1");
-		addI18nAlias("img_baseline", "ligne-de-base", "base", "baseline");
-		addI18nAlias("img_sub", "indice", "ind", "sub");
-		addI18nAlias("img_super", "exposant", "exp", "super", "sup");
-		addI18nAlias("img_text_top", "haut-texte", "haut-txt", "text-top");
-		addI18nAlias("img_text_bottom", "bas-texte", "bas-txt", "text-bottom");
-		addI18nAlias("img_link", "lien=$1", "link=$1");
-		addI18nAlias("img_class", "classe=$1", "class=$1");
-		addI18nAlias("sitename", "NOMSITE", "SITENAME");
-		addI18nCIAlias("ns", "ESPACEN:", "NS:");
-		addI18nCIAlias("nse", "ESPACENX:", "NSE:");
-		addI18nCIAlias("localurl", "URLLOCALE:", "LOCALURL:");
-		addI18nCIAlias("localurle", "URLLOCALEX:", "LOCALURLE:");
-		addI18nCIAlias("articlepath", "CHEMINARTICLE", "ARTICLEPATH");
-		addI18nCIAlias("pageid", "IDPAGE", "PAGEID");
-		addI18nCIAlias("server", "SERVEUR", "SERVER");
-		addI18nCIAlias("servername", "NOMSERVEUR", "SERVERNAME");
-		addI18nCIAlias("scriptpath", "CHEMINSCRIPT", "SCRIPTPATH");
-		addI18nCIAlias("stylepath", "CHEMINSTYLE", "STYLEPATH");
-		addI18nCIAlias("grammar", "GRAMMAIRE:", "GRAMMAR:");
-		addI18nCIAlias("gender", "GENRE:", "GENDER:");
-		addI18nCIAlias("notitleconvert", "__SANSCONVERSIONTITRE__", "__SANSCT__", "__NOTITLECONVERT__", "__NOTC__");
-		addI18nCIAlias("nocontentconvert", "__SANSCONVERSIONCONTENU__", "__SANSCC__", "__NOCONTENTCONVERT__", "__NOCC__");
-		addI18nAlias("revisionid", "IDVERSION", "REVISIONID");
-		addI18nAlias("revisionday", "JOURVERSION", "JOUR1VERSION", "REVISIONDAY");
-		addI18nAlias("revisionday2", "JOUR2VERSION", "REVISIONDAY2");
-		addI18nAlias("revisionmonth", "MOISVERSION", "REVISIONMONTH");
-		addI18nAlias("revisionmonth1", "MOISVERSION1", "REVISIONMONTH1");
-		addI18nAlias("revisionyear", "ANNEEVERSION", "REVISIONYEAR");
-		addI18nAlias("revisiontimestamp", "INSTANTVERSION", "REVISIONTIMESTAMP");
-		addI18nAlias("revisionuser", "UTILISATEURVERSION", "REVISIONUSER");
-		addI18nCIAlias("plural", "PLURIEL:", "PLURAL:");
-		addI18nCIAlias("canonicalurl", "URLCANONIQUE:", "CANONICALURL:");
-		addI18nCIAlias("canonicalurle", "URLCANONIQUEX:", "CANONICALURLE:");
-		addI18nCIAlias("lcfirst", "INITMINUS:", "LCFIRST:");
-		addI18nCIAlias("ucfirst", "INITMAJUS:", "INITCAPIT:", "UCFIRST:");
-		addI18nCIAlias("lc", "MINUS:", "LC:");
-		addI18nCIAlias("uc", "MAJUS:", "CAPIT:", "UC:");
-		addI18nCIAlias("raw", "BRUT:", "RAW:");
-		addI18nAlias("rawsuffix", "BRUT", "B", "R");
-		addI18nCIAlias("nocommafysuffix", "SANSSEP", "NOSEP");
-		addI18nAlias("newsectionlink", "__LIENNOUVELLESECTION__", "__NEWSECTIONLINK__");
-		addI18nAlias("nonewsectionlink", "__AUCUNLIENNOUVELLESECTION__", "__NONEWSECTIONLINK__");
-		addI18nAlias("currentversion", "VERSIONACTUELLE", "CURRENTVERSION");
-		addI18nCIAlias("urlencode", "ENCODEURL:", "URLENCODE:");
-		addI18nCIAlias("anchorencode", "ENCODEANCRE", "ANCHORENCODE");
-		addI18nAlias("currenttimestamp", "INSTANTACTUEL", "CURRENTTIMESTAMP");
-		addI18nAlias("localtimestamp", "INSTANTLOCAL", "LOCALTIMESTAMP");
-		addI18nAlias("directionmark", "MARQUEDIRECTION", "MARQUEDIR", "DIRECTIONMARK", "DIRMARK");
-		addI18nCIAlias("language", "#LANGUE:", "#LANGUAGE:");
-		addI18nAlias("contentlanguage", "LANGUECONTENU", "LANGCONTENU", "CONTENTLANGUAGE", "CONTENTLANG");
-		addI18nAlias("pagesinnamespace", "PAGESDANSESPACE:", "PAGESINNAMESPACE:", "PAGESINNS:");
-		addI18nAlias("numberofadmins", "NOMBREADMINS", "NUMBEROFADMINS");
-		addI18nCIAlias("formatnum", "FORMATNOMBRE", "FORMATNUM");
-		addI18nCIAlias("padleft", "BOURRAGEGAUCHE", "BOURREGAUCHE", "PADLEFT");
-		addI18nCIAlias("padright", "BOURRAGEDROITE", "BOURREDROITE", "PADRIGHT");
-		addI18nCIAlias("special", "spécial", "special");
-		addI18nCIAlias("speciale", "spéciale", "speciale");
-		addI18nAlias("defaultsort", "CLEFDETRI:", "CLEDETRI:", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:");
-		addI18nCIAlias("filepath", "CHEMIN:", "FILEPATH:");
-		addI18nCIAlias("tag", "balise", "tag");
-		addI18nAlias("hiddencat", "__CATCACHEE__", "__HIDDENCAT__");
-		addI18nAlias("pagesincategory", "PAGESDANSCAT", "PAGESINCATEGORY", "PAGESINCAT");
-		addI18nAlias("pagesize", "TAILLEPAGE", "PAGESIZE");
-		addI18nAlias("noindex", "__AUCUNINDEX__", "__NOINDEX__");
-		addI18nAlias("numberingroup", "NOMBREDANSGROUPE", "NBDANSGROUPE", "NUMBERINGROUP", "NUMINGROUP");
-		addI18nAlias("staticredirect", "__REDIRECTIONSTATIQUE__", "__STATICREDIRECT__");
-		addI18nAlias("protectionlevel", "NIVEAUDEPROTECTION", "PROTECTIONLEVEL");
-		addI18nCIAlias("url_path", "CHEMIN", "PATH");
-		addI18nCIAlias("url_query", "QUESTION", "QUERY");
-		addI18nCIAlias("defaultsort_noerror", "sanserreur", "noerror");
-		addI18nCIAlias("defaultsort_noreplace", "sansremplacer", "noreplace");
-		addI18nCIAlias("pagesincategory_all", "tous", "all");
-		addI18nCIAlias("pagesincategory_subcats", "souscats", "subcats");
-		addI18nCIAlias("pagesincategory_files", "fichiers", "files");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://mg.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "mg";
-	}
-}
@@ -1,198 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class MrConfig extends TemplateConfig {
-	public MrConfig() {
-		addNamespaceAlias(-2, "मिडिया");
-		addNamespaceAlias(-1, "विशेष");
-		addNamespaceAlias(1, "चर्चा");
-		addNamespaceAlias(2, "सदस्य");
-		addNamespaceAlias(3, "सदस्य चर्चा");
-		addNamespaceAlias(5, "Wikipedia_चर्चा");
-		addNamespaceAlias(6, "चित्र");
-		addNamespaceAlias(7, "चित्र_चर्चा");
-		addNamespaceAlias(8, "मिडियाविकी");
-		addNamespaceAlias(9, "मिडियाविकी_चर्चा");
-		addNamespaceAlias(10, "साचा");
-		addNamespaceAlias(11, "साचा_चर्चा");
-		addNamespaceAlias(12, "सहाय्य", "साहाय्य");
-		addNamespaceAlias(13, "सहाय्य_चर्चा", "साहाय्य_चर्चा");
-		addNamespaceAlias(14, "वर्ग");
-		addNamespaceAlias(15, "वर्ग_चर्चा");
-
-		addI18nCIAlias("redirect", "#पुनर्निर्देशन", "#पुर्ननिर्देशन", "#REDIRECT");
-		addI18nCIAlias("notoc", "__अनुक्रमणिकानको__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__प्रदर्शननको__", "__NOGALLERY__");
-		addI18nCIAlias("forcetoc", "__अनुक्रमणिकाहवीच__", "__FORCETOC__");
-		addI18nCIAlias("toc", "__अनुक्रमणिका__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__विभागअसंपादनक्षम__", "__NOEDITSECTION__");
-		addI18nAlias("currentmonth", "सद्यमहिना", "सद्यमहिना२", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonth1", "सद्यमहिना१", "CURRENTMONTH1");
-		addI18nAlias("currentmonthname", "सद्यमहिनानाव", "CURRENTMONTHNAME");
-		addI18nAlias("currentmonthnamegen", "सद्यमहिनासाधारण", "CURRENTMONTHNAMEGEN");
-		addI18nAlias("currentmonthabbrev", "सद्यमहिनासंक्षीप्त", "CURRENTMONTHABBREV");
-		addI18nAlias("currentday", "सद्यदिवस", "CURRENTDAY");
-		addI18nAlias("currentday2", "सद्यदिवस२", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "सद्यदिवसनाव", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "सद्यवर्ष", "CURRENTYEAR");
-		addI18nAlias("currenttime", "सद्यवेळ", "CURRENTTIME");
-		addI18nAlias("currenthour", "सद्यतास", "CURRENTHOUR");
-		addI18nAlias("localmonth", "स्थानिकमहिना", "स्थानिकमहिना२", "LOCALMONTH", "LOCALMONTH2");
-		addI18nAlias("localmonth1", "स्थानिकमहिना१", "LOCALMONTH1");
-		addI18nAlias("localmonthname", "स्थानिकमहिनानाव", "LOCALMONTHNAME");
-		addI18nAlias("localmonthnamegen", "स्थानिकमहिनासाधारण", "LOCALMONTHNAMEGEN");
-		addI18nAlias("localmonthabbrev", "स्थानिकमहिनासंक्षीप्त", "LOCALMONTHABBREV");
-		addI18nAlias("localday", "स्थानिकदिवस", "LOCALDAY");
-		addI18nAlias("localday2", "स्थानिकदिवस२", "LOCALDAY2");
-		addI18nAlias("localdayname", "स्थानिकदिवसनाव", "LOCALDAYNAME");
-		addI18nAlias("localyear", "स्थानिकवर्ष", "LOCALYEAR");
-		addI18nAlias("localtime", "स्थानिकवेळ", "LOCALTIME");
-		addI18nAlias("localhour", "स्थानिकतास", "LOCALHOUR");
-		addI18nAlias("numberofpages", "पानसंख्या", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "लेखसंख्या", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "संचिकासंख्या", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "सदस्यसंख्या", "NUMBEROFUSERS");
-		addI18nAlias("numberofactiveusers", "सक्रीयसदस्यसंख्या", "NUMBEROFACTIVEUSERS");
-		addI18nAlias("numberofedits", "संपादनसंख्या", "NUMBEROFEDITS");
-		addI18nAlias("numberofviews", "धडकसंख्या", "प्रेक्षासंख्या", "NUMBEROFVIEWS");
-		addI18nAlias("pagename", "लेखनाव", "PAGENAME");
-		addI18nAlias("pagenamee", "लेखानावव", "PAGENAMEE");
-		addI18nAlias("namespace", "नामविश्व", "NAMESPACE");
-		addI18nAlias("namespacee", "नामविश्वा", "नामविश्वाचे", "NAMESPACEE");
-		addI18nAlias("namespacenumber", "नामविश्वक्रमांक", "NAMESPACENUMBER");
-		addI18nAlias("talkspace", "चर्चाविश्व", "TALKSPACE");
-		addI18nAlias("talkspacee", "चर्चाविश्वा", "चर्चाविश्वाचे", "TALKSPACEE");
-		addI18nAlias("subjectspace", "विषयविश्व", "लेखविश्व", "SUBJECTSPACE", "ARTICLESPACE");
-		addI18nAlias("subjectspacee", "विषयविश्वा", "लेखविश्वा", "विषयविश्वाचे", "लेखविश्वाचे", "SUBJECTSPACEE", "ARTICLESPACEE");
-		addI18nAlias("fullpagename", "पूर्णलेखनाव", "FULLPAGENAME");
-		addI18nAlias("fullpagenamee", "पूर्णलेखनावे", "अंशदुवा", "FULLPAGENAMEE");
-		addI18nAlias("subpagename", "उपपाननाव", "SUBPAGENAME");
-		addI18nAlias("subpagenamee", "उपपाननावे", "उपपाननावाचे", "उपौंशदुवा", "SUBPAGENAMEE");
-		addI18nAlias("basepagename", "मूळपाननाव", "BASEPAGENAME");
-		addI18nAlias("basepagenamee", "मूळपाननावे", "BASEPAGENAMEE");
-		addI18nAlias("talkpagename", "चर्चापाननाव", "TALKPAGENAME");
-		addI18nAlias("talkpagenamee", "चर्चापाननावे", "TALKPAGENAMEE");
-		addI18nAlias("subjectpagename", "विषयपाननाव", "लेखपाननाव", "SUBJECTPAGENAME", "ARTICLEPAGENAME");
-		addI18nAlias("subjectpagenamee", "विषयपाननावे", "लेखपाननावे", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE");
-		addI18nCIAlias("msg", "संदेश:", "निरोप:", "MSG:");
-		addI18nCIAlias("subst", "पर्याय:", "समाविष्टी:", "अबाह्य:", "निरकंसबिंब:", "कंसत्याग:", "साचाहिन:", "साचान्तर:", "साचापरिस्फोट:", "साचोद्घाटन:", "SUBST:");
-		addI18nCIAlias("msgnw", "संदेशनवा:", "निरोपनवा:", "MSGNW:");
-		addI18nAlias("img_thumbnail", "इवलेसे", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "इवलेसे=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "उजवे", "right");
-		addI18nAlias("img_left", "डावे", "left");
-		addI18nAlias("img_none", "कोणतेचनाही", "नन्ना", "none");
-		addI18nAlias("img_width", "$1अंश", "$1कणी", "$1पक्ष", "$1px");
-		addI18nAlias("img_center", "मध्यवर्ती", "center", "centre");
-		addI18nAlias("img_framed", "चौकट", "फ़्रेम", "framed", "enframed", "frame");
-		addI18nAlias("img_frameless", "विनाचौकट", "विनाफ़्रेम", "frameless");
-		addI18nAlias("img_page", "पान=$1", "पान_$1", "page=$1", "page $1");
-		addI18nAlias("img_upright", "उभा", "उभा=$1", "उभा_$1", "upright", "upright=$1", "upright $1");
-		addI18nAlias("img_border", "सीमा", "border");
-		addI18nAlias("img_baseline", "तळरेषा", "आधाररेषा", "baseline");
-		addI18nAlias("img_sub", "अधो", "sub");
-		addI18nAlias("img_super", "उर्ध्व", "super", "sup");
-		addI18nAlias("img_top", "अत्यूच्च", "top");
-		addI18nAlias("img_text_top", "मजकूर-शीर्ष", "शीर्ष-मजकूर", "text-top");
-		addI18nAlias("img_middle", "मध्य", "middle");
-		addI18nAlias("img_bottom", "तळ", "बूड", "bottom");
-		addI18nAlias("img_text_bottom", "मजकुरतळ", "text-bottom");
-		addI18nAlias("img_link", "दुवा=$1", "link=$1");
-		addI18nAlias("img_alt", "अल्ट=$1", "alt=$1");
-		addI18nCIAlias("int", "इन्ट:", "INT:");
-		addI18nAlias("sitename", "संकेतस्थळनाव", "SITENAME");
-		addI18nCIAlias("ns", "नावि:", "NS:");
-		addI18nCIAlias("nse", "नाविअरिक्त:", "नाव्यारिक्त:", "नाव्याख:", "NSE:");
-		addI18nCIAlias("localurl", "स्थानिकस्थळ:", "स्थानिकसंकेतस्थळ:", "LOCALURL:");
-		addI18nCIAlias("localurle", "स्थानिकस्थली:", "LOCALURLE:");
-		addI18nCIAlias("server", "विदादाता", "SERVER");
-		addI18nCIAlias("servername", "विदादातानाव", "SERVERNAME");
-		addI18nCIAlias("scriptpath", "संहीतामार्ग", "SCRIPTPATH");
-		addI18nCIAlias("grammar", "व्याकरण:", "GRAMMAR:");
-		addI18nCIAlias("gender", "लिंग:", "GENDER:");
-		addI18nCIAlias("notitleconvert", "__विनाशीर्षकबदल__", "__विनाशीब__", "__NOTITLECONVERT__", "__NOTC__");
-		addI18nCIAlias("nocontentconvert", "__विनामजकुरबदल__", "__विनामब__", "__NOCONTENTCONVERT__", "__NOCC__");
-		addI18nAlias("currentweek", "सद्यआठवडा", "CURRENTWEEK");
-		addI18nAlias("currentdow", "सद्यउतरण", "सद्यउतार", "CURRENTDOW");
-		addI18nAlias("localweek", "स्थानिकआठवडा", "LOCALWEEK");
-		addI18nAlias("localdow", "स्थानिकउतरण", "स्थानिकउतार", "LOCALDOW");
-		addI18nAlias("revisionid", "आवृत्तीक्र्मांक", "REVISIONID");
-		addI18nAlias("revisionday", "आवृत्तीदिन", "REVISIONDAY");
-		addI18nAlias("revisionday2", "आवृत्तीदिन२", "REVISIONDAY2");
-		addI18nAlias("revisionmonth", "आवृत्तीमास", "REVISIONMONTH");
-		addI18nAlias("revisionyear", "आवृत्तीवर्ष", "REVISIONYEAR");
-		addI18nAlias("revisiontimestamp", "आवृत्तीमुद्रा", "आवृत्तीठसा", "REVISIONTIMESTAMP");
-		addI18nAlias("revisionuser", "आवृत्तीसदस्य", "REVISIONUSER");
-		addI18nCIAlias("plural", "बहुवचन:", "PLURAL:");
-		addI18nCIAlias("fullurl", "संपूर्णसंस्थळ", "FULLURL:");
-		addI18nCIAlias("fullurle", "संपूर्णसंस्थली:", "संपूर्णसंस्थळी:", "FULLURLE:");
-		addI18nCIAlias("raw", "कच्चे:", "RAW:");
-		addI18nAlias("displaytitle", "शीर्षकदाखवा", "DISPLAYTITLE");
-		addI18nAlias("rawsuffix", "ॠ", "R");
-		addI18nAlias("newsectionlink", "__नवविभागदुवा__", "__NEWSECTIONLINK__");
-		addI18nAlias("nonewsectionlink", "__विनानवविभागदुवा__", "__NONEWSECTIONLINK__");
-		addI18nAlias("currentversion", "सद्यआवृत्ती", "CURRENTVERSION");
-		addI18nCIAlias("urlencode", "संकेतस्थलीआंग्ल्संकेत:", "URLENCODE:");
-		addI18nCIAlias("anchorencode", "नांगरआंग्लसंकेत", "ANCHORENCODE");
-		addI18nAlias("currenttimestamp", "सद्यकालमुद्रा", "CURRENTTIMESTAMP");
-		addI18nAlias("localtimestamp", "स्थानिककालमुद्रा", "LOCALTIMESTAMP");
-		addI18nAlias("directionmark", "दिशाचिन्ह", "दिशादर्शक", "DIRECTIONMARK", "DIRMARK");
-		addI18nCIAlias("language", "#भाषा:", "#LANGUAGE:");
-		addI18nAlias("contentlanguage", "मसुदाभाषा", "मजकुरभाषा", "CONTENTLANGUAGE", "CONTENTLANG");
-		addI18nAlias("pagesinnamespace", "नामविश्वातीलपाने:", "PAGESINNAMESPACE:", "PAGESINNS:");
-		addI18nAlias("numberofadmins", "प्रचालकसंख्या", "NUMBEROFADMINS");
-		addI18nCIAlias("formatnum", "क्रमपद्धती", "FORMATNUM");
-		addI18nCIAlias("padleft", "डावाभरीव", "भरीवडावा", "PADLEFT");
-		addI18nCIAlias("padright", "उजवाभरीव", "भरीवउजवा", "PADRIGHT");
-		addI18nCIAlias("special", "विशेष", "special");
-		addI18nAlias("defaultsort", "अविचलवर्ग:", "अविचलवर्गकळ:", "अविचलवर्गवर्गीकरण:", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:");
-		addI18nCIAlias("filepath", "संचिकामार्ग:", "FILEPATH:");
-		addI18nCIAlias("tag", "खूण", "खूणगाठ", "tag");
-		addI18nAlias("hiddencat", "__वर्गलपवा__", "__HIDDENCAT__");
-		addI18nAlias("pagesincategory", "वर्गातीलपाने", "वर्गीतपाने", "श्रेणीतपाने", "PAGESINCATEGORY", "PAGESINCAT");
-		addI18nAlias("pagesize", "पानक्षमता", "PAGESIZE");
-		addI18nAlias("index", "__क्रमीत__", "__अनुक्रमीत__", "__INDEX__");
-		addI18nAlias("noindex", "__विनाक्रमीत__", "__विनाअनुक्रमीत__", "__NOINDEX__");
-		addI18nAlias("numberingroup", "गटक्रमांक", "NUMBERINGROUP", "NUMINGROUP");
-		addI18nAlias("staticredirect", "__अविचलपुर्ननिर्देश__", "__STATICREDIRECT__");
-		addI18nAlias("protectionlevel", "सुरक्षास्तर", "PROTECTIONLEVEL");
-		addI18nCIAlias("formatdate", "दिनांकनपद्धती", "formatdate", "dateformat");
-		addI18nCIAlias("url_wiki", "विकि", "WIKI");
-		addI18nCIAlias("pagesincategory_all", "सर्व", "all");
-		addI18nCIAlias("pagesincategory_pages", "पाने", "pages");
-		addI18nCIAlias("pagesincategory_subcats", "उपवर्ग", "subcats");
-		addI18nCIAlias("pagesincategory_files", "संचिका", "files");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://mr.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "mr";
-	}
-}
@@ -1,183 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class MtConfig extends TemplateConfig {
-	public MtConfig() {
-		addNamespaceAlias(-2, "Medja", "Midja");
-		addNamespaceAlias(-1, "Speċjali");
-		addNamespaceAlias(1, "Diskussjoni", "Diskuti");
-		addNamespaceAlias(2, "Utent");
-		addNamespaceAlias(3, "Diskussjoni_utent", "Diskuti_utent");
-		addNamespaceAlias(5, "Diskussjoni_Wikipedia", "Wikipedia_diskuti", "Wikipedia_diskussjoni");
-		addNamespaceAlias(6, "Stampa");
-		addNamespaceAlias(7, "Diskussjoni_stampa", "Diskuti_stampa");
-		addNamespaceAlias(8, "MediaWiki", "MedjaWiki");
-		addNamespaceAlias(9, "Diskussjoni_MediaWiki", "Diskuti_MedjaWiki");
-		addNamespaceAlias(10, "Mudell");
-		addNamespaceAlias(11, "Diskussjoni_mudell", "Diskuti_template");
-		addNamespaceAlias(12, "Għajnuna");
-		addNamespaceAlias(13, "Diskussjoni_għajnuna", "Diskuti_għajnuna");
-		addNamespaceAlias(14, "Kategorija");
-		addNamespaceAlias(15, "Diskussjoni_kategorija", "Diskuti_kategorija");
-
-		addI18nCIAlias("redirect", "#RINDIRIZZA", "#REDIRECT");
-		addI18nCIAlias("notoc", "__EBDAWERREJ__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__EBDAGALLERIJA__", "__NOGALLERY__");
-		addI18nCIAlias("forcetoc", "__SFORZAWERREJ__", "__FORCETOC__");
-		addI18nCIAlias("toc", "__WERREJ__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__EBDASEZZJONIMODIFIKA__", "__NOEDITSECTION__");
-		addI18nAlias("currentmonth", "XAHARKURRENTI", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonthname", "ISEMXAHARKURRENTI", "CURRENTMONTHNAME");
-		addI18nAlias("currentmonthnamegen", "ĠENISEMXAHARKURRENTI", "CURRENTMONTHNAMEGEN");
-		addI18nAlias("currentmonthabbrev", "ABBREVXAHARKURRENTI", "CURRENTMONTHABBREV");
-		addI18nAlias("currentday", "ĠURNATAKURRENTI", "CURRENTDAY");
-		addI18nAlias("currentday2", "ĠURNATAKURRENTI2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "ISEMĠURNATAKURRENTI", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "SENAKURRENTI", "CURRENTYEAR");
-		addI18nAlias("currenttime", "ĦINKURRENTI", "CURRENTTIME");
-		addI18nAlias("currenthour", "SIEGĦAKURRENTI", "CURRENTHOUR");
-		addI18nAlias("localmonth", "XAHARLOKALI", "XAHARLOKALI2", "LOCALMONTH", "LOCALMONTH2");
-		addI18nAlias("localmonth1", "XAHARLOKALI1", "LOCALMONTH1");
-		addI18nAlias("localmonthname", "ISEMXAHARLOKALI", "LOCALMONTHNAME");
-		addI18nAlias("localmonthnamegen", "ĠENISEMXAHARLOKALI", "LOCALMONTHNAMEGEN");
-		addI18nAlias("localmonthabbrev", "ABBREVXAHARLOKALI", "LOCALMONTHABBREV");
-		addI18nAlias("localday", "ĠURNATALOKALI", "LOCALDAY");
-		addI18nAlias("localday2", "ĠURNATALOKALI2", "LOCALDAY2");
-		addI18nAlias("localdayname", "ISEMTAL-ĠURNATALOKALI", "LOCALDAYNAME");
-		addI18nAlias("localyear", "SENALOKALI", "LOCALYEAR");
-		addI18nAlias("localtime", "ĦINLOKALI", "LOCALTIME");
-		addI18nAlias("localhour", "SIEGĦALOKALI", "LOCALHOUR");
-		addI18nAlias("numberofpages", "NUMRUTA'PAĠNI", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "NUMRUTA'ARTIKLI", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "NUMRUTA'FAJLS", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "NUMRUTA'UTENTI", "NUMBEROFUSERS");
-		addI18nAlias("numberofactiveusers", "NUMRUTA'UTENTIATTIVI", "NUMBEROFACTIVEUSERS");
-		addI18nAlias("numberofedits", "NUMBRUTA'MODIFIKI", "NUMBEROFEDITS");
-		addI18nAlias("numberofviews", "NUMRUTA'VISTI", "NUMBEROFVIEWS");
-		addI18nAlias("pagename", "ISEMTAL-PAĠNA", "PAGENAME");
-		addI18nAlias("pagenamee", "ISEMTAL-PAĠNAE", "PAGENAMEE");
-		addI18nAlias("namespace", "SPAZJUTAL-ISEM", "NAMESPACE");
-		addI18nAlias("namespacee", "SPAZJUTAL-ISEME", "NAMESPACEE");
-		addI18nAlias("talkspace", "SPAZJUTA'DISKUSSJONI", "TALKSPACE");
-		addI18nAlias("talkspacee", "SPAZJUTA'DISKUSSJONIE", "TALKSPACEE");
-		addI18nAlias("subjectspace", "SPAZJUTAS-SUĠĠETT", "SPAZJUTAL-ARTIKLU", "SUBJECTSPACE", "ARTICLESPACE");
-		addI18nAlias("fullpagename", "ISEMSĦIĦTAL-PAĠNA", "FULLPAGENAME");
-		addI18nAlias("fullpagenamee", "ISEMTAL-PAĠNASĦIĦAE", "FULLPAGENAMEE");
-		addI18nAlias("subpagename", "ISEMTAS-SOTTOPAĠNA", "SUBPAGENAME");
-		addI18nAlias("subpagenamee", "ISEMTAS-SUBPAĠNAE", "SUBPAGENAMEE");
-		addI18nAlias("basepagename", "ISEMBAŻIKUTAL-PAĠNA", "BASEPAGENAME");
-		addI18nAlias("basepagenamee", "ISEMTAL-PAĠNATAL-BAŻIE", "BASEPAGENAMEE");
-		addI18nAlias("talkpagename", "ISEMPAĠNATA'DISKUSSJONI", "TALKPAGENAME");
-		addI18nAlias("talkpagenamee", "ISEMTAL-PAĠNATAD-DISKUSSJONIE", "TALKPAGENAMEE");
-		addI18nAlias("subjectpagename", "ISEMTAS-SUĠĠETTTAL-PAĠNA", "ISEMTAL-ARTIKLUTAL-PAĠNA", "SUBJECTPAGENAME", "ARTICLEPAGENAME");
-		addI18nAlias("subjectpagenamee", "ISEMTAS-SUĠĠETTTAL-PAĠNAE", "ISEMTAL-ARTIKLUTAL-PAĠNAE", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE");
-		addI18nCIAlias("msg", "MSĠ:", "MSG:");
-		addI18nCIAlias("subst", "BIDDEL:", "SUBST:");
-		addI18nCIAlias("msgnw", "MSĠEW:", "MSGNW:");
-		addI18nAlias("img_thumbnail", "daqsminuri", "minuri", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "daqsminuri=$1", "minuri=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "lemin", "right");
-		addI18nAlias("img_left", "xellug", "left");
-		addI18nAlias("img_none", "xejn", "none");
-		addI18nAlias("img_center", "nofs", "ċentrali", "ċentru", "center", "centre");
-		addI18nAlias("img_framed", "tilat", "b'tilar", "tilar", "framed", "enframed", "frame");
-		addI18nAlias("img_frameless", "bla_tilar", "frameless");
-		addI18nAlias("img_page", "paġna=$1", "paġna $1", "page=$1", "page $1");
-		addI18nAlias("img_upright", "wieqaf", "wieqaf=$1", "wieqaf $1", "upright", "upright=$1", "upright $1");
-		addI18nAlias("img_border", "bordura", "burdura", "border");
-		addI18nAlias("img_baseline", "bażi_tal-linja", "baseline");
-		addI18nAlias("img_sub", "bid", "sub");
-		addI18nAlias("img_super", "tajjeb", "super", "sup");
-		addI18nAlias("img_top", "fuq", "top");
-		addI18nAlias("img_text_top", "test-fuq", "text-top");
-		addI18nAlias("img_bottom", "taħt", "bottom");
-		addI18nAlias("img_text_bottom", "test-taħt", "text-bottom");
-		addI18nAlias("img_link", "ħolqa=$1", "link=$1");
-		addI18nAlias("sitename", "ISEMTAS-SIT", "SITENAME");
-		addI18nCIAlias("ns", "IS:", "NS:");
-		addI18nCIAlias("localurl", "URLLOKALI:", "LOCALURL:");
-		addI18nCIAlias("localurle", "URLLOKALIE:", "LOCALURLE:");
-		addI18nCIAlias("servername", "ISEMTAS-SERVER", "SERVERNAME");
-		addI18nCIAlias("scriptpath", "DESTINAZZJONITA'SKRITT", "SCRIPTPATH");
-		addI18nCIAlias("grammar", "GRAMMATIKA:", "GRAMMAR:");
-		addI18nCIAlias("gender", "SESS:", "GENDER:");
-		addI18nCIAlias("notitleconvert", "__EBDAKONVERTURTITLU__", "__EBDAKT__", "__NOTITLECONVERT__", "__NOTC__");
-		addI18nCIAlias("nocontentconvert", "__EBDAKONVERTURKONTENUT__", "__EBDAKK__", "__NOCONTENTCONVERT__", "__NOCC__");
-		addI18nAlias("currentweek", "ĠIMGĦAKURRENTI", "CURRENTWEEK");
-		addI18nAlias("currentdow", "ĠTĠKURRENTI", "CURRENTDOW");
-		addI18nAlias("localweek", "ĠIMGĦALOKALI", "LOCALWEEK");
-		addI18nAlias("localdow", "ĠTĠLOKALI", "LOCALDOW");
-		addI18nAlias("revisionid", "IDTAR-REVIŻJONI", "REVISIONID");
-		addI18nAlias("revisionday", "ĠURNATATAR-REVIŻJONI", "REVISIONDAY");
-		addI18nAlias("revisionday2", "ĠURNATATAR-REVIŻJONI2", "REVISIONDAY2");
-		addI18nAlias("revisionmonth", "XAHARTAR-REVIŻJONI", "REVISIONMONTH");
-		addI18nAlias("revisionyear", "SENATAR-REVIŻJONI", "REVISIONYEAR");
-		addI18nAlias("revisiontimestamp", "TIMBRUTAR-REVIŻJONI", "REVISIONTIMESTAMP");
-		addI18nCIAlias("fullurl", "URLSĦIĦA:", "FULLURL:");
-		addI18nCIAlias("fullurle", "URLSĦIĦAE:", "FULLURLE:");
-		addI18nCIAlias("lcfirst", "IBDAKŻ:", "LCFIRST:");
-		addI18nCIAlias("ucfirst", "IBDAKK:", "UCFIRST:");
-		addI18nCIAlias("lc", "KŻ:", "LC:");
-		addI18nCIAlias("uc", "KK:", "UC:");
-		addI18nAlias("displaytitle", "URITITLU", "DISPLAYTITLE");
-		addI18nAlias("newsectionlink", "__ĦOLQASEZZJONIĠDIDA__", "__NEWSECTIONLINK__");
-		addI18nAlias("nonewsectionlink", "__EBDAĦOLQASEZZJONIĠDIDA__", "__NONEWSECTIONLINK__");
-		addI18nAlias("currentversion", "VERŻJONIKURRENTI", "CURRENTVERSION");
-		addI18nCIAlias("urlencode", "URLKODIĊI:", "URLENCODE:");
-		addI18nCIAlias("anchorencode", "ANKRAKODIĊI", "ANCHORENCODE");
-		addI18nAlias("currenttimestamp", "TIMBRUTAL-ĦINKURRENTI", "CURRENTTIMESTAMP");
-		addI18nAlias("localtimestamp", "TIMBRUTAL-ĦINLOKALI", "LOCALTIMESTAMP");
-		addI18nAlias("directionmark", "MARKATAD-DIREZZJONI", "MARKADIRE", "DIRECTIONMARK", "DIRMARK");
-		addI18nCIAlias("language", "#LINGWA:", "#LANGUAGE:");
-		addI18nAlias("contentlanguage", "LINGWATAL-KONTENUT", "LINGKONTENUT", "CONTENTLANGUAGE", "CONTENTLANG");
-		addI18nAlias("pagesinnamespace", "PAĠNIFL-ISPAZJUTAL-ISEM:", "PAĠNISI:", "PAGESINNAMESPACE:", "PAGESINNS:");
-		addI18nAlias("numberofadmins", "NUMRUTA'AMMIN", "NUMBEROFADMINS");
-		addI18nCIAlias("padleft", "PADXELLUG", "PADLEFT");
-		addI18nCIAlias("padright", "PADLEMIN", "PADRIGHT");
-		addI18nCIAlias("special", "speċjali", "special");
-		addI18nAlias("defaultsort", "DEFAULTSORTJA:", "DEFAULTSORTJAĊAVETTA:", "DEFAULTKATEGORIJISORTJA:", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:");
-		addI18nCIAlias("filepath", "DESTINAZZJONITAL-FAJL:", "FILEPATH:");
-		addI18nCIAlias("tag", "tabella", "tag");
-		addI18nAlias("hiddencat", "__KATMOĦBIJA__", "__HIDDENCAT__");
-		addI18nAlias("pagesincategory", "PAĠNIFIL-KATEGORIJA", "PAĠNIFILK", "PAGESINCATEGORY", "PAGESINCAT");
-		addI18nAlias("pagesize", "DAQSTAL-PAĠNI", "PAGESIZE");
-		addI18nAlias("index", "__INDIĊI__", "__INDEX__");
-		addI18nAlias("noindex", "__EBDAINDIĊI__", "__NOINDEX__");
-		addI18nAlias("numberingroup", "NUMRUFIL-GRUPP", "NUMFIL-GRUPP", "NUMBERINGROUP", "NUMINGROUP");
-		addI18nAlias("staticredirect", "__RIINDIRIZZSTATIKU__", "__STATICREDIRECT__");
-		addI18nAlias("protectionlevel", "LIVELLITA'PROTEZZJONI", "PROTECTIONLEVEL");
-		addI18nCIAlias("formatdate", "formatdata", "dataformat", "formatdate", "dateformat");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://mt.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "mt";
-	}
-}
@@ -1,167 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class MwlConfig extends TemplateConfig {
-	public MwlConfig() {
-		addNamespaceAlias(-2, "Media", "Multimédia");
-		addNamespaceAlias(-1, "Special", "Especial", "Especial");
-		addNamespaceAlias(1, "Cumbersa", "Discussão", "Discussão");
-		addNamespaceAlias(2, "Outelizador", "Usuário", "Utilizador", "Usuário", "Utilizador", "Utilizadora");
-		addNamespaceAlias(3, "Cumbersa_outelizador", "Usuário_Discussão", "Utilizador_Discussão", "Usuário_Discussão", "Utilizador_Discussão", "Utilizadora_Discussão");
-		addNamespaceAlias(5, "Wikipedia_cumbersa", "Wikipedia_Discussão", "Wikipedia_Discussão");
-		addNamespaceAlias(6, "Fexeiro", "Ficheiro", "Imagem", "Ficheiro", "Imagem", "Arquivo");
-		addNamespaceAlias(7, "Cumbersa_fexeiro", "Ficheiro_Discussão", "Imagem_Discussão", "Ficheiro_Discussão", "Imagem_Discussão", "Arquivo_Discussão");
-		addNamespaceAlias(8, "Biqui", "MediaWiki");
-		addNamespaceAlias(9, "Cumbersa_Biqui", "MediaWiki_Discussão", "MediaWiki_Discussão");
-		addNamespaceAlias(10, "Modelo", "Predefinição", "Predefinição");
-		addNamespaceAlias(11, "Cumbersa_Modelo", "Predefinição_Discussão", "Predefinição_Discussão");
-		addNamespaceAlias(12, "Ajuda", "Ajuda");
-		addNamespaceAlias(13, "Cumbersa_ajuda", "Ajuda_Discussão", "Ajuda_Discussão");
-		addNamespaceAlias(14, "Catadorie", "Categoria", "Categoria");
-		addNamespaceAlias(15, "Cumbersa_catadorie", "Categoria_Discussão", "Categoria_Discussão");
-
-		addI18nCIAlias("redirect", "#ANCAMINAR", "#REDIRECIONAMENTO", "#REDIRECT", "Array");
-		addI18nAlias("img_right", "dreita", "direita", "right", "Array");
-		addI18nAlias("img_left", "squierda", "esquerda", "left", "Array");
-		addI18nAlias("img_none", "nanhun", "nenhum", "none", "Array");
-		addI18nAlias("img_center", "centro", "center", "centre", "Array");
-		addI18nAlias("img_middle", "meio", "middle", "Array");
-		addI18nCIAlias("language", "#LHENGUA:", "#IDIOMA:", "#LANGUAGE:", "Array");
-		addI18nCIAlias("filepath", "CAMINOFEXEIRO:", "CAMINHODOARQUIVO", "FILEPATH:", "Array");
-		addI18nCIAlias("tag", "eitiqueta", "tag");
-		addI18nAlias("pagesize", "TAMANHOFEXEIRO", "TAMANHODAPAGINA", "TAMANHODAPÁGINA", "PAGESIZE", "Array");
-		addI18nAlias("staticredirect", "_ANCAMINARSTATICO_", "__REDIRECIONAMENTOESTATICO__", "__REDIRECIONAMENTOESTÁTICO__", "__STATICREDIRECT__", "Array");
-		addI18nCIAlias("notoc", "__SEMTDC__", "__SEMSUMÁRIO__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__SEMGALERIA__", "__NOGALLERY__");
-		addI18nCIAlias("forcetoc", "__FORCARTDC__", "__FORCARSUMARIO__", "__FORÇARTDC__", "__FORÇARSUMÁRIO__", "__FORCETOC__");
-		addI18nCIAlias("toc", "__TDC__", "__SUMÁRIO__", "__SUMARIO__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__NÃOEDITARSEÇÃO__", "__SEMEDITARSEÇÃO__", "__NAOEDITARSECAO__", "__SEMEDITARSECAO__", "__NOEDITSECTION__");
-		addI18nAlias("currentmonth", "MESATUAL", "MESATUAL2", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonth1", "MESATUAL1", "CURRENTMONTH1");
-		addI18nAlias("currentmonthname", "NOMEDOMESATUAL", "CURRENTMONTHNAME");
-		addI18nAlias("currentmonthabbrev", "MESATUALABREV", "MESATUALABREVIADO", "ABREVIATURADOMESATUAL", "CURRENTMONTHABBREV");
-		addI18nAlias("currentday", "DIAATUAL", "CURRENTDAY");
-		addI18nAlias("currentday2", "DIAATUAL2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "NOMEDODIAATUAL", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "ANOATUAL", "CURRENTYEAR");
-		addI18nAlias("currenttime", "HORARIOATUAL", "CURRENTTIME");
-		addI18nAlias("currenthour", "HORAATUAL", "CURRENTHOUR");
-		addI18nAlias("localmonth", "MESLOCAL", "LOCALMONTH", "LOCALMONTH2");
-		addI18nAlias("localmonth1", "MESLOCAL1", "LOCALMONTH1");
-		addI18nAlias("localmonthname", "NOMEDOMESLOCAL", "LOCALMONTHNAME");
-		addI18nAlias("localmonthabbrev", "MESLOCALABREV", "MESLOCALABREVIADO", "ABREVIATURADOMESLOCAL", "LOCALMONTHABBREV");
-		addI18nAlias("localday", "DIALOCAL", "LOCALDAY");
-		addI18nAlias("localday2", "DIALOCAL2", "LOCALDAY2");
-		addI18nAlias("localdayname", "NOMEDODIALOCAL", "LOCALDAYNAME");
-		addI18nAlias("localyear", "ANOLOCAL", "LOCALYEAR");
-		addI18nAlias("localtime", "HORARIOLOCAL", "LOCALTIME");
-		addI18nAlias("localhour", "HORALOCAL", "LOCALHOUR");
-		addI18nAlias("numberofpages", "NUMERODEPAGINAS", "NÚMERODEPÁGINAS", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "NUMERODEARTIGOS", "NÚMERODEARTIGOS", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "NUMERODEARQUIVOS", "NÚMERODEARQUIVOS", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "NUMERODEUSUARIOS", "NÚMERODEUSUÁRIOS", "NUMBEROFUSERS");
-		addI18nAlias("numberofactiveusers", "NUMERODEUSUARIOSATIVOS", "NÚMERODEUSUÁRIOSATIVOS", "NUMBEROFACTIVEUSERS");
-		addI18nAlias("numberofedits", "NUMERODEEDICOES", "NÚMERODEEDIÇÕES", "NUMBEROFEDITS");
-		addI18nAlias("numberofviews", "NUMERODEEXIBICOES", "NÚMERODEEXIBIÇÕES", "NUMBEROFVIEWS");
-		addI18nAlias("pagename", "NOMEDAPAGINA", "NOMEDAPÁGINA", "PAGENAME");
-		addI18nAlias("pagenamee", "NOMEDAPAGINAC", "NOMEDAPÁGINAC", "PAGENAMEE");
-		addI18nAlias("namespace", "DOMINIO", "DOMÍNIO", "ESPACONOMINAL", "ESPAÇONOMINAL", "NAMESPACE");
-		addI18nAlias("namespacee", "DOMINIOC", "DOMÍNIOC", "ESPACONOMINALC", "ESPAÇONOMINALC", "NAMESPACEE");
-		addI18nAlias("talkspace", "PAGINADEDISCUSSAO", "PÁGINADEDISCUSSÃO", "TALKSPACE");
-		addI18nAlias("talkspacee", "PAGINADEDISCUSSAOC", "PÁGINADEDISCUSSÃOC", "TALKSPACEE");
-		addI18nAlias("subjectspace", "PAGINADECONTEUDO", "PAGINADECONTEÚDO", "SUBJECTSPACE", "ARTICLESPACE");
-		addI18nAlias("subjectspacee", "PAGINADECONTEUDOC", "PAGINADECONTEÚDOC", "SUBJECTSPACEE", "ARTICLESPACEE");
-		addI18nAlias("fullpagename", "NOMECOMPLETODAPAGINA", "NOMECOMPLETODAPÁGINA", "FULLPAGENAME");
-		addI18nAlias("fullpagenamee", "NOMECOMPLETODAPAGINAC", "NOMECOMPLETODAPÁGINAC", "FULLPAGENAMEE");
-		addI18nAlias("subpagename", "NOMEDASUBPAGINA", "NOMEDASUBPÁGINA", "SUBPAGENAME");
-		addI18nAlias("subpagenamee", "NOMEDASUBPAGINAC", "NOMEDASUBPÁGINAC", "SUBPAGENAMEE");
-		addI18nAlias("basepagename", "NOMEDAPAGINABASE", "NOMEDAPÁGINABASE", "BASEPAGENAME");
-		addI18nAlias("basepagenamee", "NOMEDAPAGINABASEC", "NOMEDAPÁGINABASEC", "BASEPAGENAMEE");
-		addI18nAlias("talkpagename", "NOMEDAPAGINADEDISCUSSAO", "NOMEDAPÁGINADEDISCUSSÃO", "TALKPAGENAME");
-		addI18nAlias("talkpagenamee", "NOMEDAPAGINADEDISCUSSAOC", "NOMEDAPÁGINADEDISCUSSÃOC", "TALKPAGENAMEE");
-		addI18nAlias("subjectpagename", "NOMEDAPAGINADECONTEUDO", "NOMEDAPÁGINADECONTEÚDO", "SUBJECTPAGENAME", "ARTICLEPAGENAME");
-		addI18nAlias("subjectpagenamee", "NOMEDAPAGINADECONTEUDOC", "NOMEDAPÁGINADECONTEÚDOC", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE");
-		addI18nAlias("img_thumbnail", "miniaturadaimagem", "miniatura", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "miniaturadaimagem=$1", "miniatura=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_framed", "commoldura", "comborda", "framed", "enframed", "frame");
-		addI18nAlias("img_frameless", "semmoldura", "semborda", "frameless");
-		addI18nAlias("img_page", "página=$1", "página_$1", "página $1", "page=$1", "page $1");
-		addI18nAlias("img_upright", "superiordireito", "superiordireito=$1", "superiordireito_$1", "superiordireito $1", "upright", "upright=$1", "upright $1");
-		addI18nAlias("img_border", "borda", "border");
-		addI18nAlias("img_baseline", "linhadebase", "baseline");
-		addI18nAlias("img_top", "acima", "top");
-		addI18nAlias("img_bottom", "abaixo", "bottom");
-		addI18nAlias("img_link", "ligação=$1", "link=$1");
-		addI18nAlias("sitename", "NOMEDOSITE", "NOMEDOSÍTIO", "NOMEDOSITIO", "SITENAME");
-		addI18nCIAlias("server", "SERVIDOR", "SERVER");
-		addI18nCIAlias("servername", "NOMEDOSERVIDOR", "SERVERNAME");
-		addI18nCIAlias("scriptpath", "CAMINHODOSCRIPT", "SCRIPTPATH");
-		addI18nCIAlias("gender", "GENERO", "GÊNERO", "GENDER:");
-		addI18nCIAlias("notitleconvert", "__SEMCONVERTERTITULO__", "__SEMCONVERTERTÍTULO__", "__SEMCT__", "__NOTITLECONVERT__", "__NOTC__");
-		addI18nCIAlias("nocontentconvert", "__SEMCONVERTERCONTEUDO__", "__SEMCONVERTERCONTEÚDO__", "__SEMCC__", "__NOCONTENTCONVERT__", "__NOCC__");
-		addI18nAlias("currentweek", "SEMANAATUAL", "CURRENTWEEK");
-		addI18nAlias("currentdow", "DIADASEMANAATUAL", "CURRENTDOW");
-		addI18nAlias("localweek", "SEMANALOCAL", "LOCALWEEK");
-		addI18nAlias("localdow", "DIADASEMANALOCAL", "LOCALDOW");
-		addI18nAlias("revisionid", "IDDAREVISAO", "IDDAREVISÃO", "REVISIONID");
-		addI18nAlias("revisionday", "DIADAREVISAO", "DIADAREVISÃO", "REVISIONDAY");
-		addI18nAlias("revisionday2", "DIADAREVISAO2", "DIADAREVISÃO2", "REVISIONDAY2");
-		addI18nAlias("revisionmonth", "MESDAREVISAO", "MÊSDAREVISÃO", "REVISIONMONTH");
-		addI18nAlias("revisionyear", "ANODAREVISAO", "ANODAREVISÃO", "REVISIONYEAR");
-		addI18nAlias("revisionuser", "USUARIODAREVISAO", "USUÁRIODAREVISÃO", "REVISIONUSER");
-		addI18nCIAlias("fullurl", "URLCOMPLETO:", "FULLURL:");
-		addI18nCIAlias("fullurle", "URLCOMPLETOC:", "FULLURLE:");
-		addI18nCIAlias("lcfirst", "PRIMEIRAMINUSCULA:", "PRIMEIRAMINÚSCULA:", "LCFIRST:");
-		addI18nCIAlias("ucfirst", "PRIMEIRAMAIUSCULA:", "PRIMEIRAMAIÚSCULA:", "UCFIRST:");
-		addI18nCIAlias("lc", "MINUSCULA", "MINÚSCULA", "MINUSCULAS", "MINÚSCULAS", "LC:");
-		addI18nCIAlias("uc", "MAIUSCULA", "MAIÚSCULA", "MAIUSCULAS", "MAIÚSCULAS", "UC:");
-		addI18nAlias("displaytitle", "EXIBETITULO", "EXIBETÍTULO", "DISPLAYTITLE");
-		addI18nAlias("newsectionlink", "__LINKDENOVASECAO__", "__LINKDENOVASEÇÃO__", "__LIGACAODENOVASECAO__", "__LIGAÇÃODENOVASEÇÃO__", "__NEWSECTIONLINK__");
-		addI18nAlias("nonewsectionlink", "__SEMLINKDENOVASECAO__", "__SEMLINKDENOVASEÇÃO__", "__SEMLIGACAODENOVASECAO__", "__SEMLIGAÇÃODENOVASEÇÃO__", "__NONEWSECTIONLINK__");
-		addI18nAlias("currentversion", "REVISAOATUAL", "REVISÃOATUAL", "CURRENTVERSION");
-		addI18nCIAlias("urlencode", "CODIFICAURL:", "URLENCODE:");
-		addI18nCIAlias("anchorencode", "CODIFICAANCORA:", "CODIFICAÂNCORA:", "ANCHORENCODE");
-		addI18nAlias("contentlanguage", "IDIOMADOCONTEUDO", "IDIOMADOCONTEÚDO", "CONTENTLANGUAGE", "CONTENTLANG");
-		addI18nAlias("pagesinnamespace", "PAGINASNOESPACONOMINAL", "PÁGINASNOESPAÇONOMINAL", "PAGINASNODOMINIO", "PÁGINASNODOMÍNIO", "PAGESINNAMESPACE:", "PAGESINNS:");
-		addI18nAlias("numberofadmins", "NUMERODEADMINISTRADORES", "NÚMERODEADMINISTRADORES", "NUMBEROFADMINS");
-		addI18nAlias("defaultsort", "ORDENACAOPADRAO", "ORDENAÇÃOPADRÃO", "ORDEMPADRAO", "ORDEMPADRÃO", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:");
-		addI18nAlias("hiddencat", "__CATEGORIAOCULTA__", "__CATOCULTA__", "__HIDDENCAT__");
-		addI18nAlias("pagesincategory", "PAGINASNACATEGORIA", "PÁGINASNACATEGORIA", "PAGINASNACAT", "PÁGINASNACAT", "PAGESINCATEGORY", "PAGESINCAT");
-		addI18nAlias("index", "__INDEXAR__", "__INDEX__");
-		addI18nAlias("noindex", "__NAOINDEXAR__", "__NÃOINDEXAR__", "__NOINDEX__");
-		addI18nAlias("numberingroup", "NUMERONOGRUPO", "NÚMERONOGRUPO", "NUMBERINGROUP", "NUMINGROUP");
-		addI18nAlias("protectionlevel", "NIVELDEPROTECAO", "NÍVELDEPROTEÇÃO", "PROTECTIONLEVEL");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://mwl.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "mwl";
-	}
-}
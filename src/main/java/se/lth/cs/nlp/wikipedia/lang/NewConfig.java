@@ -1,54 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class NewConfig extends TemplateConfig {
-	public NewConfig() {
-		addNamespaceAlias(-2, "माध्यम");
-		addNamespaceAlias(-1, "विशेष");
-		addNamespaceAlias(1, "खँलाबँला");
-		addNamespaceAlias(2, "छ्येलेमि");
-		addNamespaceAlias(3, "छ्येलेमि_खँलाबँला");
-		addNamespaceAlias(5, "Wikipedia_खँलाबँला");
-		addNamespaceAlias(6, "किपा");
-		addNamespaceAlias(7, "किपा_खँलाबँला");
-		addNamespaceAlias(8, "मिडियाविकि");
-		addNamespaceAlias(9, "मिडियाविकि_खँलाबँला");
-		addNamespaceAlias(12, "ग्वाहालि");
-		addNamespaceAlias(13, "ग्वाहालि_खँलाबँला");
-		addNamespaceAlias(14, "पुचः");
-		addNamespaceAlias(15, "पुचः_खँलाबँला");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://new.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "new";
-	}
-}
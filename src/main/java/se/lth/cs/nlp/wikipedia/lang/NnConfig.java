@@ -1,148 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class NnConfig extends TemplateConfig {
-	public NnConfig() {
-		addNamespaceAlias(-2, "Filpeikar");
-		addNamespaceAlias(-1, "Spesial");
-		addNamespaceAlias(1, "Diskusjon");
-		addNamespaceAlias(2, "Brukar");
-		addNamespaceAlias(3, "Brukardiskusjon");
-		addNamespaceAlias(5, "Wikipedia-diskusjon");
-		addNamespaceAlias(6, "Fil");
-		addNamespaceAlias(7, "Fildiskusjon");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "MediaWiki-diskusjon");
-		addNamespaceAlias(10, "Mal");
-		addNamespaceAlias(11, "Maldiskusjon");
-		addNamespaceAlias(12, "Hjelp");
-		addNamespaceAlias(13, "Hjelpdiskusjon");
-		addNamespaceAlias(14, "Kategori");
-		addNamespaceAlias(15, "Kategoridiskusjon");
-
-		addI18nCIAlias("redirect", "#omdiriger", "#REDIRECT");
-		addI18nCIAlias("notoc", "__INGAINNHALDSLISTE__", "__INGENINNHOLDSLISTE__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__INKJEGALLERI__", "__NOGALLERY__");
-		addI18nCIAlias("forcetoc", "__ALLTIDINNHALDSLISTE__", "__ALLTIDINNHOLDSLISTE__", "__FORCETOC__");
-		addI18nCIAlias("toc", "__INNHALDSLISTE__", "__INNHOLDSLISTE__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__INGABOLKENDRING__", "__INGABOLKREDIGERING__", "__INGENDELENDRING__", "__NOEDITSECTION__");
-		addI18nAlias("currentmonth", "MÅNADNO", "MÅNEDNÅ", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonthname", "MÅNADNONAMN", "MÅNEDNÅNAVN", "CURRENTMONTHNAME");
-		addI18nAlias("currentmonthabbrev", "MÅNADNOKORT", "MÅNEDNÅKORT", "CURRENTMONTHABBREV");
-		addI18nAlias("currentday", "DAGNO", "DAGNÅ", "CURRENTDAY");
-		addI18nAlias("currentday2", "DAGNO2", "DAGNÅ2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "DAGNONAMN", "DAGNÅNAVN", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "ÅRNO", "ÅRNÅ", "CURRENTYEAR");
-		addI18nAlias("currenttime", "TIDNO", "TIDNÅ", "CURRENTTIME");
-		addI18nAlias("currenthour", "TIMENO", "CURRENTHOUR");
-		addI18nAlias("numberofpages", "SIDETAL", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "INNHALDSSIDETAL", "INNHOLDSSIDETALL", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "FILTAL", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "BRUKARTAL", "NUMBEROFUSERS");
-		addI18nAlias("numberofactiveusers", "AKTIVEBRUKARAR", "NUMBEROFACTIVEUSERS");
-		addI18nAlias("numberofedits", "ENDRINGSTAL", "NUMBEROFEDITS");
-		addI18nAlias("numberofviews", "VISINGSTAL", "TALPÅVISINGAR", "NUMBEROFVIEWS");
-		addI18nAlias("pagename", "SIDENAMN", "SIDENAVN", "PAGENAME");
-		addI18nAlias("pagenamee", "SIDENAMNE", "SIDENAVNE", "PAGENAMEE");
-		addI18nAlias("namespace", "NAMNEROM", "NAVNEROM", "NAMESPACE");
-		addI18nAlias("fullpagename", "FULLTSIDENAMN", "FULLPAGENAME");
-		addI18nAlias("subpagename", "UNDERSIDENAMN", "SUBPAGENAME");
-		addI18nAlias("basepagename", "HOVUDSIDENAMN", "BASEPAGENAME");
-		addI18nAlias("talkpagename", "DISKUSJONSSIDENAMN", "TALKPAGENAME");
-		addI18nCIAlias("msg", "MLD:", "MSG:");
-		addI18nCIAlias("subst", "LIMINN:", "SUBST:");
-		addI18nCIAlias("safesubst", "TRYGGLIMINN:", "SAFESUBST:");
-		addI18nCIAlias("msgnw", "IKWIKMELD:", "MSGNW:");
-		addI18nAlias("img_thumbnail", "mini", "miniatyr", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "mini=$1", "miniatyr=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "høgre", "høyre", "right");
-		addI18nAlias("img_left", "venstre", "left");
-		addI18nAlias("img_none", "ingen", "none");
-		addI18nAlias("img_width", "$1pk", "$1px");
-		addI18nAlias("img_center", "sentrum", "center", "centre");
-		addI18nAlias("img_framed", "ramme", "ramma", "framed", "enframed", "frame");
-		addI18nAlias("img_frameless", "rammelaus", "frameless");
-		addI18nAlias("img_page", "side=$1", "side_$1", "page=$1", "page $1");
-		addI18nAlias("img_link", "lenkje=$1", "lenke=$1", "link=$1");
-		addI18nAlias("sitename", "NETTSTADNAMN", "SITENAME");
-		addI18nCIAlias("ns", "NR:", "NS:");
-		addI18nCIAlias("localurl", "LOKALLENKJE:", "LOKALLENKE:", "LOCALURL:");
-		addI18nCIAlias("localurle", "LOKALLENKJEE:", "LOKALLENKEE:", "LOCALURLE:");
-		addI18nCIAlias("articlepath", "ARTIKKELSTIG", "ARTICLEPATH");
-		addI18nCIAlias("pageid", "SIDEID", "PAGEID");
-		addI18nCIAlias("server", "TENAR", "TJENER", "SERVER");
-		addI18nCIAlias("servername", "TENARNAMN", "TJENERNAVN", "SERVERNAME");
-		addI18nCIAlias("scriptpath", "SKRIPTSTIG", "SKRIPTSTI", "SCRIPTPATH");
-		addI18nCIAlias("grammar", "GRAMMATIKK:", "GRAMMAR:");
-		addI18nCIAlias("gender", "KJØNN:", "GENDER:");
-		addI18nAlias("currentweek", "VEKENRNO", "UKENRNÅ", "CURRENTWEEK");
-		addI18nAlias("currentdow", "VEKEDAGNRNO", "UKEDAGNRNÅ", "CURRENTDOW");
-		addI18nAlias("localweek", "LOKALVEKE", "LOCALWEEK");
-		addI18nAlias("revisionid", "VERSJONSID", "REVISIONID");
-		addI18nAlias("revisionday", "VERSJONSDAG", "REVISIONDAY");
-		addI18nAlias("revisionday2", "VERSJONSDAG2", "REVISIONDAY2");
-		addI18nAlias("revisionmonth", "VERSJONSMÅNAD", "REVISIONMONTH");
-		addI18nAlias("revisionmonth1", "VERSJONSMÅNAD1", "REVISIONMONTH1");
-		addI18nAlias("revisionyear", "VERSJONSÅR", "REVISIONYEAR");
-		addI18nAlias("revisiontimestamp", "VERSJONSTIDSTEMPEL", "REVISIONTIMESTAMP");
-		addI18nAlias("revisionuser", "VERSJONSBRUKAR", "REVISIONUSER");
-		addI18nCIAlias("plural", "FLEIRTAL:", "PLURAL:");
-		addI18nCIAlias("lcfirst", "LFYRST:", "LFØRST:", "LCFIRST:");
-		addI18nCIAlias("ucfirst", "SFYRST:", "SFØRST:", "UCFIRST:");
-		addI18nCIAlias("lc", "SMÅ:", "LC:");
-		addI18nCIAlias("uc", "STORE:", "UC:");
-		addI18nAlias("displaytitle", "VISTITTEL", "DISPLAYTITLE");
-		addI18nAlias("currentversion", "VERSJONNO", "CURRENTVERSION");
-		addI18nCIAlias("language", "#SPRÅK:", "#LANGUAGE:");
-		addI18nAlias("contentlanguage", "INNHALDSSPRÅK", "CONTENTLANGUAGE", "CONTENTLANG");
-		addI18nAlias("pagesinnamespace", "SIDERINAMNEROM", "PAGESINNAMESPACE:", "PAGESINNS:");
-		addI18nAlias("numberofadmins", "ADMINTAL", "ADMINISTRATORTAL", "NUMBEROFADMINS");
-		addI18nCIAlias("formatnum", "FORMATTAL", "FORMATNUM");
-		addI18nCIAlias("special", "spesial", "special");
-		addI18nAlias("defaultsort", "STANDARDSORTERING", "SORTERINGSNYKEL", "SORTERINGSNØKKEL", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:");
-		addI18nCIAlias("filepath", "FILSTIG", "FILEPATH:");
-		addI18nCIAlias("tag", "merke", "tag");
-		addI18nAlias("hiddencat", "__GØYMDKAT__", "__LØYNDKAT__", "__HIDDENCAT__");
-		addI18nAlias("pagesincategory", "SIDERIKAT", "SIDERIKATEGORI", "PAGESINCATEGORY", "PAGESINCAT");
-		addI18nAlias("pagesize", "SIDESTORLEIK", "PAGESIZE");
-		addI18nAlias("protectionlevel", "VERNENIVÅ", "PROTECTIONLEVEL");
-		addI18nCIAlias("formatdate", "datoformat", "formatdate", "dateformat");
-		addI18nCIAlias("url_path", "STIG", "PATH");
-		addI18nCIAlias("pagesincategory_all", "alle", "all");
-		addI18nCIAlias("pagesincategory_pages", "sider", "pages");
-		addI18nCIAlias("pagesincategory_subcats", "underkategoriar", "subcats");
-		addI18nCIAlias("pagesincategory_files", "filer", "files");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://nn.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "nn";
-	}
-}
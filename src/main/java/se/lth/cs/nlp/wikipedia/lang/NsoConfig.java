@@ -1,64 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class NsoConfig extends TemplateConfig {
-	public NsoConfig() {
-		addNamespaceAlias(-2, "Media");
-		addNamespaceAlias(-1, "Special");
-		addNamespaceAlias(1, "Bolediša");
-		addNamespaceAlias(2, "Mošomi");
-		addNamespaceAlias(3, "Boledišana_le_Mošomi");
-		addNamespaceAlias(5, "Wikipedia_Poledišano");
-		addNamespaceAlias(6, "Seswantšho");
-		addNamespaceAlias(7, "Poledišano_ya_Seswantšho");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "Poledišano_ya_MediaWiki");
-		addNamespaceAlias(10, "Template");
-		addNamespaceAlias(11, "Poledišano_ya_Template");
-		addNamespaceAlias(12, "Thušo");
-		addNamespaceAlias(13, "Poledišano_ya_Thušo");
-		addNamespaceAlias(14, "Setensele");
-		addNamespaceAlias(15, "Poledišano_ya_Setensele");
-
-		addI18nAlias("currentmonth", "KGWEDI_BJALE", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonthname", "LEINA_KGWEDI_BJALE", "CURRENTMONTHNAME");
-		addI18nAlias("currentday", "LEHONO_LETSATSI", "CURRENTDAY");
-		addI18nAlias("currentday2", "LEHONO_LETSATSI2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "LEHONO_LETSATSILEINA", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "NGWAGA_BJALE", "CURRENTYEAR");
-		addI18nAlias("currenttime", "NAKO_BJALE", "CURRENTTIME");
-		addI18nAlias("currenthour", "IRI_BJALE", "CURRENTHOUR");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://nso.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "nso";
-	}
-}
@@ -1,63 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class PaConfig extends TemplateConfig {
-	public PaConfig() {
-		addNamespaceAlias(-2, "ਮੀਡੀਆ");
-		addNamespaceAlias(-1, "ਖ਼ਾਸ", "ਖਾਸ");
-		addNamespaceAlias(1, "ਗੱਲ-ਬਾਤ", "ਚਰਚਾ");
-		addNamespaceAlias(2, "ਵਰਤੋਂਕਾਰ", "ਮੈਂਬਰ", "ਵਰਤੌਂਕਾਰ");
-		addNamespaceAlias(3, "ਵਰਤੋਂਕਾਰ_ਗੱਲ-ਬਾਤ", "ਮੈਂਬਰ_ਚਰਚਾ", "ਵਰਤੌਂਕਾਰ_ਗੱਲ-ਬਾਤ");
-		addNamespaceAlias(5, "Wikipedia_ਗੱਲ-ਬਾਤ", "Wikipedia_ਚਰਚਾ");
-		addNamespaceAlias(6, "ਤਸਵੀਰ");
-		addNamespaceAlias(7, "ਤਸਵੀਰ_ਗੱਲ-ਬਾਤ", "ਤਸਵੀਰ_ਚਰਚਾ");
-		addNamespaceAlias(8, "ਮੀਡੀਆਵਿਕੀ", "ਮੀਡੀਆਵਿਕਿ");
-		addNamespaceAlias(9, "ਮੀਡੀਆਵਿਕੀ_ਗੱਲ-ਬਾਤ", "ਮੀਡੀਆਵਿਕਿ_ਚਰਚਾ");
-		addNamespaceAlias(10, "ਫਰਮਾ", "ਨਮੂਨਾ");
-		addNamespaceAlias(11, "ਫਰਮਾ_ਗੱਲ-ਬਾਤ", "ਨਮੂਨਾ_ਚਰਚਾ");
-		addNamespaceAlias(12, "ਮਦਦ");
-		addNamespaceAlias(13, "ਮਦਦ_ਗੱਲ-ਬਾਤ", "ਮਦਦ_ਚਰਚਾ");
-		addNamespaceAlias(14, "ਸ਼੍ਰੇਣੀ");
-		addNamespaceAlias(15, "ਸ਼੍ਰੇਣੀ_ਗੱਲ-ਬਾਤ", "ਸ਼੍ਰੇਣੀ_ਚਰਚਾ");
-
-		addI18nCIAlias("redirect", "#ਰੀਡਿਰੈਕਟ", "#REDIRECT");
-		addI18nCIAlias("url_wiki", "ਵਿਕੀ", "WIKI");
-		addI18nCIAlias("defaultsort_noerror", "ਗਲਤੀ_ਨਹੀਂ", "noerror");
-		addI18nCIAlias("pagesincategory_all", "ਸਬ", "all");
-		addI18nCIAlias("pagesincategory_pages", "ਪੰਨੇ", "pages");
-		addI18nCIAlias("pagesincategory_subcats", "ਉਪਸ਼੍ਰੇਣੀਆਂ", "subcats");
-		addI18nCIAlias("pagesincategory_files", "ਫ਼ਾਈਲਾਂ", "files");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://pa.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "pa";
-	}
-}
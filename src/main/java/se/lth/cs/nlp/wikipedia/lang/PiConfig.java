@@ -1,56 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class PiConfig extends TemplateConfig {
-	public PiConfig() {
-		addNamespaceAlias(-2, "मीडिया");
-		addNamespaceAlias(-1, "विसेस");
-		addNamespaceAlias(1, "सम्भासित");
-		addNamespaceAlias(2, "अवयव");
-		addNamespaceAlias(3, "अवयव_सम्भासित");
-		addNamespaceAlias(5, "Wikipedia_सम्भासित");
-		addNamespaceAlias(6, "पटिमा");
-		addNamespaceAlias(7, "पटिमा_सम्भासित");
-		addNamespaceAlias(8, "मीडियाविकि");
-		addNamespaceAlias(9, "मीडियाविकि_सम्भासित");
-		addNamespaceAlias(10, "पटिरूप");
-		addNamespaceAlias(11, "पटिरूप_सम्भासित");
-		addNamespaceAlias(12, "अवस्सय");
-		addNamespaceAlias(13, "अवस्सय_सम्भासित");
-		addNamespaceAlias(14, "विभाग");
-		addNamespaceAlias(15, "विभाग_सम्भासित");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://pi.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "pi";
-	}
-}
@@ -1,167 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class PtConfig extends TemplateConfig {
-	public PtConfig() {
-		addNamespaceAlias(-2, "Multimédia", "Mídia");
-		addNamespaceAlias(-1, "Especial", "Especial");
-		addNamespaceAlias(1, "Discussão", "Discussão");
-		addNamespaceAlias(2, "Utilizador", "Usuário", "Utilizador", "Utilizadora", "Usuário", "Usuário", "Usuária");
-		addNamespaceAlias(3, "Utilizador_Discussão", "Usuário_Discussão", "Utilizador_Discussão", "Utilizadora_Discussão", "Usuário_Discussão", "Usuário_Discussão", "Usuária_Discussão");
-		addNamespaceAlias(5, "Wikipedia_Discussão", "Wikipedia_Discussão");
-		addNamespaceAlias(6, "Ficheiro", "Imagem", "Arquivo", "Arquivo", "Imagem", "Ficheiro");
-		addNamespaceAlias(7, "Ficheiro_Discussão", "Imagem_Discussão", "Arquivo_Discussão", "Arquivo_Discussão", "Imagem_Discussão", "Ficheiro_Discussão");
-		addNamespaceAlias(8, "MediaWiki", "MediaWiki");
-		addNamespaceAlias(9, "MediaWiki_Discussão", "MediaWiki_Discussão");
-		addNamespaceAlias(10, "Predefinição", "Predefinição");
-		addNamespaceAlias(11, "Predefinição_Discussão", "Predefinição_Discussão");
-		addNamespaceAlias(12, "Ajuda", "Ajuda");
-		addNamespaceAlias(13, "Ajuda_Discussão", "Ajuda_Discussão");
-		addNamespaceAlias(14, "Categoria", "Categoria");
-		addNamespaceAlias(15, "Categoria_Discussão", "Categoria_Discussão");
-
-		addI18nCIAlias("redirect", "#REDIRECIONAMENTO", "#REDIRECT", "Array");
-		addI18nCIAlias("notoc", "__SEMTDC__", "__SEMSUMÁRIO__", "__NOTOC__", "Array");
-		addI18nCIAlias("nogallery", "__SEMGALERIA__", "__NOGALLERY__", "Array");
-		addI18nCIAlias("forcetoc", "__FORCARTDC__", "__FORCARSUMARIO__", "__FORÇARTDC__", "__FORÇARSUMÁRIO__", "__FORCETOC__", "Array");
-		addI18nCIAlias("toc", "__TDC__", "__SUMÁRIO__", "__SUMARIO__", "__TOC__", "Array");
-		addI18nCIAlias("noeditsection", "__NÃOEDITARSEÇÃO__", "__SEMEDITARSEÇÃO__", "__NAOEDITARSECAO__", "__SEMEDITARSECAO__", "__NOEDITSECTION__", "Array");
-		addI18nAlias("currentmonth", "MESATUAL", "MESATUAL2", "CURRENTMONTH", "CURRENTMONTH2", "Array");
-		addI18nAlias("currentmonth1", "MESATUAL1", "CURRENTMONTH1", "Array");
-		addI18nAlias("currentmonthname", "NOMEDOMESATUAL", "CURRENTMONTHNAME", "Array");
-		addI18nAlias("currentmonthabbrev", "MESATUALABREV", "MESATUALABREVIADO", "ABREVIATURADOMESATUAL", "CURRENTMONTHABBREV", "Array");
-		addI18nAlias("currentday", "DIAATUAL", "CURRENTDAY", "Array");
-		addI18nAlias("currentday2", "DIAATUAL2", "CURRENTDAY2", "Array");
-		addI18nAlias("currentdayname", "NOMEDODIAATUAL", "CURRENTDAYNAME", "Array");
-		addI18nAlias("currentyear", "ANOATUAL", "CURRENTYEAR", "Array");
-		addI18nAlias("currenttime", "HORARIOATUAL", "CURRENTTIME", "Array");
-		addI18nAlias("currenthour", "HORAATUAL", "CURRENTHOUR", "Array");
-		addI18nAlias("localmonth", "MESLOCAL", "LOCALMONTH", "LOCALMONTH2", "Array");
-		addI18nAlias("localmonth1", "MESLOCAL1", "LOCALMONTH1", "Array");
-		addI18nAlias("localmonthname", "NOMEDOMESLOCAL", "LOCALMONTHNAME", "Array");
-		addI18nAlias("localmonthabbrev", "MESLOCALABREV", "MESLOCALABREVIADO", "ABREVIATURADOMESLOCAL", "LOCALMONTHABBREV", "Array");
-		addI18nAlias("localday", "DIALOCAL", "LOCALDAY", "Array");
-		addI18nAlias("localday2", "DIALOCAL2", "LOCALDAY2", "Array");
-		addI18nAlias("localdayname", "NOMEDODIALOCAL", "LOCALDAYNAME", "Array");
-		addI18nAlias("localyear", "ANOLOCAL", "LOCALYEAR", "Array");
-		addI18nAlias("localtime", "HORARIOLOCAL", "LOCALTIME", "Array");
-		addI18nAlias("localhour", "HORALOCAL", "LOCALHOUR", "Array");
-		addI18nAlias("numberofpages", "NUMERODEPAGINAS", "NÚMERODEPÁGINAS", "NUMBEROFPAGES", "Array");
-		addI18nAlias("numberofarticles", "NUMERODEARTIGOS", "NÚMERODEARTIGOS", "NUMBEROFARTICLES", "Array");
-		addI18nAlias("numberoffiles", "NUMERODEARQUIVOS", "NÚMERODEARQUIVOS", "NUMBEROFFILES", "Array");
-		addI18nAlias("numberofusers", "NUMERODEUSUARIOS", "NÚMERODEUSUÁRIOS", "NUMBEROFUSERS", "Array");
-		addI18nAlias("numberofactiveusers", "NUMERODEUSUARIOSATIVOS", "NÚMERODEUSUÁRIOSATIVOS", "NUMBEROFACTIVEUSERS", "Array");
-		addI18nAlias("numberofedits", "NUMERODEEDICOES", "NÚMERODEEDIÇÕES", "NUMBEROFEDITS", "Array");
-		addI18nAlias("numberofviews", "NUMERODEEXIBICOES", "NÚMERODEEXIBIÇÕES", "NUMBEROFVIEWS", "Array");
-		addI18nAlias("pagename", "NOMEDAPAGINA", "NOMEDAPÁGINA", "PAGENAME", "Array");
-		addI18nAlias("pagenamee", "NOMEDAPAGINAC", "NOMEDAPÁGINAC", "PAGENAMEE", "Array");
-		addI18nAlias("namespace", "DOMINIO", "DOMÍNIO", "ESPACONOMINAL", "ESPAÇONOMINAL", "NAMESPACE", "Array");
-		addI18nAlias("namespacee", "DOMINIOC", "DOMÍNIOC", "ESPACONOMINALC", "ESPAÇONOMINALC", "NAMESPACEE", "Array");
-		addI18nAlias("talkspace", "PAGINADEDISCUSSAO", "PÁGINADEDISCUSSÃO", "TALKSPACE", "Array");
-		addI18nAlias("talkspacee", "PAGINADEDISCUSSAOC", "PÁGINADEDISCUSSÃOC", "TALKSPACEE", "Array");
-		addI18nAlias("subjectspace", "PAGINADECONTEUDO", "PAGINADECONTEÚDO", "SUBJECTSPACE", "ARTICLESPACE", "Array");
-		addI18nAlias("subjectspacee", "PAGINADECONTEUDOC", "PAGINADECONTEÚDOC", "SUBJECTSPACEE", "ARTICLESPACEE", "Array");
-		addI18nAlias("fullpagename", "NOMECOMPLETODAPAGINA", "NOMECOMPLETODAPÁGINA", "FULLPAGENAME", "Array");
-		addI18nAlias("fullpagenamee", "NOMECOMPLETODAPAGINAC", "NOMECOMPLETODAPÁGINAC", "FULLPAGENAMEE", "Array");
-		addI18nAlias("subpagename", "NOMEDASUBPAGINA", "NOMEDASUBPÁGINA", "SUBPAGENAME", "Array");
-		addI18nAlias("subpagenamee", "NOMEDASUBPAGINAC", "NOMEDASUBPÁGINAC", "SUBPAGENAMEE", "Array");
-		addI18nAlias("basepagename", "NOMEDAPAGINABASE", "NOMEDAPÁGINABASE", "BASEPAGENAME", "Array");
-		addI18nAlias("basepagenamee", "NOMEDAPAGINABASEC", "NOMEDAPÁGINABASEC", "BASEPAGENAMEE", "Array");
-		addI18nAlias("talkpagename", "NOMEDAPAGINADEDISCUSSAO", "NOMEDAPÁGINADEDISCUSSÃO", "TALKPAGENAME", "Array");
-		addI18nAlias("talkpagenamee", "NOMEDAPAGINADEDISCUSSAOC", "NOMEDAPÁGINADEDISCUSSÃOC", "TALKPAGENAMEE", "Array");
-		addI18nAlias("subjectpagename", "NOMEDAPAGINADECONTEUDO", "NOMEDAPÁGINADECONTEÚDO", "SUBJECTPAGENAME", "ARTICLEPAGENAME", "Array");
-		addI18nAlias("subjectpagenamee", "NOMEDAPAGINADECONTEUDOC", "NOMEDAPÁGINADECONTEÚDOC", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE", "Array");
-		addI18nAlias("img_thumbnail", "miniaturadaimagem", "miniatura", "thumbnail", "thumb", "Array");
-		addI18nAlias("img_manualthumb", "miniaturadaimagem=$1", "miniatura=$1", "thumbnail=$1", "thumb=$1", "Array");
-		addI18nAlias("img_right", "direita", "right", "Array");
-		addI18nAlias("img_left", "esquerda", "left", "Array");
-		addI18nAlias("img_none", "nenhum", "none", "Array");
-		addI18nAlias("img_center", "centro", "center", "centre", "Array");
-		addI18nAlias("img_framed", "commoldura", "comborda", "framed", "enframed", "frame", "Array");
-		addI18nAlias("img_frameless", "semmoldura", "semborda", "frameless", "Array");
-		addI18nAlias("img_page", "página=$1", "página_$1", "página $1", "page=$1", "page $1", "Array");
-		addI18nAlias("img_upright", "superiordireito", "superiordireito=$1", "superiordireito_$1", "superiordireito $1", "upright", "upright=$1", "upright $1", "Array");
-		addI18nAlias("img_border", "borda", "border", "Array");
-		addI18nAlias("img_baseline", "linhadebase", "baseline", "Array");
-		addI18nAlias("img_top", "acima", "top", "Array");
-		addI18nAlias("img_middle", "meio", "middle", "Array");
-		addI18nAlias("img_bottom", "abaixo", "bottom", "Array");
-		addI18nAlias("img_link", "ligação=$1", "link=$1", "Array");
-		addI18nAlias("sitename", "NOMEDOSITE", "NOMEDOSÍTIO", "NOMEDOSITIO", "SITENAME", "Array");
-		addI18nCIAlias("server", "SERVIDOR", "SERVER", "Array");
-		addI18nCIAlias("servername", "NOMEDOSERVIDOR", "SERVERNAME", "Array");
-		addI18nCIAlias("scriptpath", "CAMINHODOSCRIPT", "SCRIPTPATH", "Array");
-		addI18nCIAlias("gender", "GENERO", "GÊNERO", "GENDER:", "Array");
-		addI18nCIAlias("notitleconvert", "__SEMCONVERTERTITULO__", "__SEMCONVERTERTÍTULO__", "__SEMCT__", "__NOTITLECONVERT__", "__NOTC__", "Array");
-		addI18nCIAlias("nocontentconvert", "__SEMCONVERTERCONTEUDO__", "__SEMCONVERTERCONTEÚDO__", "__SEMCC__", "__NOCONTENTCONVERT__", "__NOCC__", "Array");
-		addI18nAlias("currentweek", "SEMANAATUAL", "CURRENTWEEK", "Array");
-		addI18nAlias("currentdow", "DIADASEMANAATUAL", "CURRENTDOW", "Array");
-		addI18nAlias("localweek", "SEMANALOCAL", "LOCALWEEK", "Array");
-		addI18nAlias("localdow", "DIADASEMANALOCAL", "LOCALDOW", "Array");
-		addI18nAlias("revisionid", "IDDAREVISAO", "IDDAREVISÃO", "REVISIONID", "Array");
-		addI18nAlias("revisionday", "DIADAREVISAO", "DIADAREVISÃO", "REVISIONDAY", "Array");
-		addI18nAlias("revisionday2", "DIADAREVISAO2", "DIADAREVISÃO2", "REVISIONDAY2", "Array");
-		addI18nAlias("revisionmonth", "MESDAREVISAO", "MÊSDAREVISÃO", "REVISIONMONTH", "Array");
-		addI18nAlias("revisionyear", "ANODAREVISAO", "ANODAREVISÃO", "REVISIONYEAR", "Array");
-		addI18nAlias("revisionuser", "USUARIODAREVISAO", "USUÁRIODAREVISÃO", "REVISIONUSER", "Array");
-		addI18nCIAlias("fullurl", "URLCOMPLETO:", "FULLURL:", "Array");
-		addI18nCIAlias("fullurle", "URLCOMPLETOC:", "FULLURLE:", "Array");
-		addI18nCIAlias("lcfirst", "PRIMEIRAMINUSCULA:", "PRIMEIRAMINÚSCULA:", "LCFIRST:", "Array");
-		addI18nCIAlias("ucfirst", "PRIMEIRAMAIUSCULA:", "PRIMEIRAMAIÚSCULA:", "UCFIRST:", "Array");
-		addI18nCIAlias("lc", "MINUSCULA", "MINÚSCULA", "MINUSCULAS", "MINÚSCULAS", "LC:", "Array");
-		addI18nCIAlias("uc", "MAIUSCULA", "MAIÚSCULA", "MAIUSCULAS", "MAIÚSCULAS", "UC:", "Array");
-		addI18nAlias("displaytitle", "EXIBETITULO", "EXIBETÍTULO", "DISPLAYTITLE", "Array");
-		addI18nAlias("newsectionlink", "__LINKDENOVASECAO__", "__LINKDENOVASEÇÃO__", "__LIGACAODENOVASECAO__", "__LIGAÇÃODENOVASEÇÃO__", "__NEWSECTIONLINK__", "Array");
-		addI18nAlias("nonewsectionlink", "__SEMLINKDENOVASECAO__", "__SEMLINKDENOVASEÇÃO__", "__SEMLIGACAODENOVASECAO__", "__SEMLIGAÇÃODENOVASEÇÃO__", "__NONEWSECTIONLINK__", "Array");
-		addI18nAlias("currentversion", "REVISAOATUAL", "REVISÃOATUAL", "CURRENTVERSION", "Array");
-		addI18nCIAlias("urlencode", "CODIFICAURL:", "URLENCODE:", "Array");
-		addI18nCIAlias("anchorencode", "CODIFICAANCORA:", "CODIFICAÂNCORA:", "ANCHORENCODE", "Array");
-		addI18nCIAlias("language", "#IDIOMA:", "#LANGUAGE:", "Array");
-		addI18nAlias("contentlanguage", "IDIOMADOCONTEUDO", "IDIOMADOCONTEÚDO", "CONTENTLANGUAGE", "CONTENTLANG", "Array");
-		addI18nAlias("pagesinnamespace", "PAGINASNOESPACONOMINAL", "PÁGINASNOESPAÇONOMINAL", "PAGINASNODOMINIO", "PÁGINASNODOMÍNIO", "PAGESINNAMESPACE:", "PAGESINNS:", "Array");
-		addI18nAlias("numberofadmins", "NUMERODEADMINISTRADORES", "NÚMERODEADMINISTRADORES", "NUMBEROFADMINS", "Array");
-		addI18nAlias("defaultsort", "ORDENACAOPADRAO", "ORDENAÇÃOPADRÃO", "ORDEMPADRAO", "ORDEMPADRÃO", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:", "Array");
-		addI18nCIAlias("filepath", "CAMINHODOARQUIVO", "FILEPATH:", "Array");
-		addI18nAlias("hiddencat", "__CATEGORIAOCULTA__", "__CATOCULTA__", "__HIDDENCAT__", "Array");
-		addI18nAlias("pagesincategory", "PAGINASNACATEGORIA", "PÁGINASNACATEGORIA", "PAGINASNACAT", "PÁGINASNACAT", "PAGESINCATEGORY", "PAGESINCAT", "Array");
-		addI18nAlias("pagesize", "TAMANHODAPAGINA", "TAMANHODAPÁGINA", "PAGESIZE", "Array");
-		addI18nAlias("index", "__INDEXAR__", "__INDEX__", "Array");
-		addI18nAlias("noindex", "__NAOINDEXAR__", "__NÃOINDEXAR__", "__NOINDEX__", "Array");
-		addI18nAlias("numberingroup", "NUMERONOGRUPO", "NÚMERONOGRUPO", "NUMBERINGROUP", "NUMINGROUP", "Array");
-		addI18nAlias("staticredirect", "__REDIRECIONAMENTOESTATICO__", "__REDIRECIONAMENTOESTÁTICO__", "__STATICREDIRECT__", "Array");
-		addI18nAlias("protectionlevel", "NIVELDEPROTECAO", "NÍVELDEPROTEÇÃO", "PROTECTIONLEVEL", "Array");
-		addI18nCIAlias("url_path", "CAMINHO", "PATH");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://pt.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "pt";
-	}
-}
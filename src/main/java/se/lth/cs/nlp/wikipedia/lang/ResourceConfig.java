@@ -0,0 +1,173 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.wikipedia.lang;
+
+import java.io.*;
+import java.util.Arrays;
+
+/**
+ * Language config read from a language file instead of compiled in.
+ *
+ * The built-in languages are classpath resources named [code].lang next to this class,
+ * generated by autogenerate-configs.php. A file in the same format can be used for any other wiki.
+ *
+ * Format: UTF-8 text, one entry per line, fields separated by tabs, lines starting with # are ignored.
+ * <pre>
+ * sitename  [site name]
+ * url       [wiki url]
+ * iso639    [language code]
+ * ns        [namespace id]  [alias]...
+ * i18n      [magic word]    [alias]...    (case sensitive)
+ * i18nci    [magic word]    [alias]...    (case insensitive)
+ * sections  [title]...                    (excluded sections, in addition to the list of the language in sections.txt)
+ * </pre>
+ * Tabs, newlines and backslashes in aliases are escaped as \t, \n and \\.
+ */
+public class ResourceConfig extends TemplateConfig {
+    private String siteName = "Wikipedia";
+    private String wikiUrl;
+    private String iso639;
+
+    /**
+     * Load a built-in language
+     * @param lang the language code
+     * @throws IllegalArgumentException if there is no built-in config for the language
+     */
+    public ResourceConfig(String lang) {
+        InputStream input = ResourceConfig.class.getResourceAsStream(getResourceName(lang));
+        if(input == null)
+            throw new IllegalArgumentException("No language config for " + lang);
+
+        read(input, getResourceName(lang));
+    }
+
+    /**
+     * Load a language file
+     * @param file the language file
+     */
+    public ResourceConfig(File file) {
+        try {
+            read(new FileInputStream(file), file.getAbsolutePath());
+        } catch (FileNotFoundException e) {
+            throw new IOError(e);
+        }
+    }
+
+    /**
+     * @param lang the language code
+     * @return true if there is a built-in config for the language
+     */
+    public static boolean exists(String lang) {
+        return ResourceConfig.class.getResource(getResourceName(lang)) != null;
+    }
+
+    private static String getResourceName(String lang) {
+        return lang + ".lang";
+    }
+
+    private void read(InputStream input, String name) {
+        BufferedReader reader = null;
+        try {
+            reader = new BufferedReader(new InputStreamReader(input, "UTF-8"));
+
+            String line;
+            int lineno = 0;
+            while( (line = reader.readLine()) != null) {
+                lineno++;
+                if(line.isEmpty() || line.startsWith("#"))
+                    continue;
+
+                String[] fields = line.split("\t", -1);
+                if(fields.length < 2)
+                    throw new IllegalArgumentException(name + ":" + lineno + ": expected at least 2 fields");
+
+                for (int i = 1; i < fields.length; i++) {
+                    fields[i] = unescape(fields[i]);
+                }
+
+                String key = fields[0];
+                if(key.equals("sitename"))
+                    siteName = fields[1];
+                else if(key.equals("url"))
+                    wikiUrl = fields[1];
+                else if(key.equals("iso639"))
+                    iso639 = fields[1];
+                else if(key.equals("sections"))
+                    addExcludedSections(Arrays.asList(fields).subList(1, fields.length));
+                else if(fields.length < 3)
+                    throw new IllegalArgumentException(name + ":" + lineno + ": no aliases");
+                else if(key.equals("ns"))
+                    addNamespaceAlias(Integer.parseInt(fields[1]), Arrays.copyOfRange(fields, 2, fields.length));
+                else if(key.equals("i18n"))
+                    addI18nAlias(fields[1], Arrays.copyOfRange(fields, 2, fields.length));
+                else if(key.equals("i18nci"))
+                    addI18nCIAlias(fields[1], Arrays.copyOfRange(fields, 2, fields.length));
+                else
+                    throw new IllegalArgumentException(name + ":" + lineno + ": unknown entry " + key);
+            }
+        } catch (IOException e) {
+            throw new IOError(e);
+        } finally {
+            if(reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    throw new IOError(e);
+                }
+            }
+        }
+
+        if(iso639 == null || wikiUrl == null)
+            throw new IllegalArgumentException(name + ": iso639 and url are required");
+
+        addExcludedSections(iso639);
+    }
+
+    private static String unescape(String field) {
+        if(field.indexOf('\\') == -1)
+            return field;
+
+        StringBuilder sb = new StringBuilder(field.length());
+        for (int i = 0; i < field.length(); i++) {
+            char ch = field.charAt(i);
+            if(ch == '\\' && i + 1 < field.length()) {
+                ch = field.charAt(++i);
+                if(ch == 't')
+                    ch = '\t';
+                else if(ch == 'n')
+                    ch = '\n';
+            }
+            sb.append(ch);
+        }
+        return sb.toString();
+    }
+
+    @Override
+    protected String getSiteName() {
+        return siteName;
+    }
+
+    @Override
+    protected String getWikiUrl() {
+        return wikiUrl;
+    }
+
+    @Override
+    public String getIso639() {
+        return iso639;
+    }
+}
@@ -1,105 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class SdConfig extends TemplateConfig {
-	public SdConfig() {
-		addNamespaceAlias(-2, "ذريعات");
-		addNamespaceAlias(-1, "خاص");
-		addNamespaceAlias(1, "بحث");
-		addNamespaceAlias(2, "يوزر");
-		addNamespaceAlias(3, "يوزر_بحث");
-		addNamespaceAlias(5, "Wikipedia_بحث");
-		addNamespaceAlias(6, "عڪس");
-		addNamespaceAlias(7, "عڪس_بحث");
-		addNamespaceAlias(8, "ذريعات_وڪي");
-		addNamespaceAlias(9, "ذريعات_وڪي_بحث");
-		addNamespaceAlias(10, "سانچو");
-		addNamespaceAlias(11, "سنچو_بحث");
-		addNamespaceAlias(12, "مدد");
-		addNamespaceAlias(13, "مدد_بحث");
-		addNamespaceAlias(14, "زمرو");
-		addNamespaceAlias(15, "زمرو_بحث");
-
-		addI18nCIAlias("redirect", "#چوريو", "#REDIRECT");
-		addI18nAlias("localmonth", "مقاميمهينو", "LOCALMONTH", "LOCALMONTH2");
-		addI18nAlias("localmonthname", "مقاميمهينونالو", "LOCALMONTHNAME");
-		addI18nAlias("localday", "مقاميڏينهن", "LOCALDAY");
-		addI18nAlias("localday2", "مقاميڏينهن2", "LOCALDAY2");
-		addI18nAlias("localdayname", "مقاميڏينهننالو", "LOCALDAYNAME");
-		addI18nAlias("localyear", "مقاميسال", "LOCALYEAR");
-		addI18nAlias("localtime", "مقاميوقت", "LOCALTIME");
-		addI18nAlias("localhour", "مقاميڪلاڪ", "LOCALHOUR");
-		addI18nAlias("numberofpages", "صفحنجوتعداد", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "مضموننجوتعداد", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "فائيلنجوتعداد", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "يوزرسجوتعداد", "NUMBEROFUSERS");
-		addI18nAlias("numberofedits", "ترميمنجوتعداد", "NUMBEROFEDITS");
-		addI18nAlias("pagename", "صفحيجوعنوان", "PAGENAME");
-		addI18nAlias("namespace", "نانئپولار", "NAMESPACE");
-		addI18nAlias("talkspace", "بحثپولار", "TALKSPACE");
-		addI18nAlias("subjectspace", "مضمونپولار", "SUBJECTSPACE", "ARTICLESPACE");
-		addI18nAlias("fullpagename", "صحفيجوپورونالو", "FULLPAGENAME");
-		addI18nCIAlias("msg", "نياپو:", "MSG:");
-		addI18nAlias("img_right", "ساڄو", "right");
-		addI18nAlias("img_left", "کاٻو", "left");
-		addI18nAlias("img_none", "ڪجهنه", "none");
-		addI18nAlias("img_width", "$1 عڪسلون", "$1px");
-		addI18nAlias("img_center", "مرڪز", "center", "centre");
-		addI18nAlias("img_top", "سِرُ", "top");
-		addI18nAlias("img_middle", "وچ", "middle");
-		addI18nAlias("img_bottom", "تَرُ", "bottom");
-		addI18nAlias("sitename", "سرزميننالو", "SITENAME");
-		addI18nCIAlias("ns", "نپ", "NS:");
-		addI18nCIAlias("localurl", "مقامييوآريل", "LOCALURL:");
-		addI18nCIAlias("grammar", "وياڪرڻ", "GRAMMAR:");
-		addI18nAlias("currentweek", "هلندڙهفتو", "CURRENTWEEK");
-		addI18nAlias("currentdow", "اڄوڪوڏينهن", "CURRENTDOW");
-		addI18nAlias("localweek", "مقاميهفتو", "LOCALWEEK");
-		addI18nCIAlias("plural", "جمع", "PLURAL:");
-		addI18nCIAlias("fullurl", "مڪمليوآريل", "FULLURL:");
-		addI18nAlias("currenttimestamp", "هلندڙوقتمهر", "CURRENTTIMESTAMP");
-		addI18nAlias("localtimestamp", "مقاميوقتمهر", "LOCALTIMESTAMP");
-		addI18nAlias("directionmark", "طرفنشان", "DIRECTIONMARK", "DIRMARK");
-		addI18nCIAlias("language", "#ٻولي:", "#LANGUAGE:");
-		addI18nAlias("contentlanguage", "موادٻولي", "CONTENTLANGUAGE", "CONTENTLANG");
-		addI18nAlias("pagesinnamespace", "نپ۾صفحا", "PAGESINNAMESPACE:", "PAGESINNS:");
-		addI18nAlias("numberofadmins", "منتظمينجوتعداد", "NUMBEROFADMINS");
-		addI18nCIAlias("special", "خاص", "special");
-		addI18nCIAlias("filepath", "فائيلڏس", "FILEPATH:");
-		addI18nAlias("hiddencat", "__ لڪل زمرو __", "__HIDDENCAT__");
-		addI18nAlias("pagesincategory", "زمريجاصفحا", "PAGESINCATEGORY", "PAGESINCAT");
-		addI18nAlias("pagesize", "صفحيجيماپ", "PAGESIZE");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://sd.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "sd";
-	}
-}
@@ -1,54 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class SdcConfig extends TemplateConfig {
-	public SdcConfig() {
-		addNamespaceAlias(-1, "Ippiziari");
-		addNamespaceAlias(1, "Dischussioni");
-		addNamespaceAlias(2, "Utenti");
-		addNamespaceAlias(3, "Dischussioni_utenti");
-		addNamespaceAlias(5, "Dischussioni_Wikipedia");
-		addNamespaceAlias(6, "Immagina");
-		addNamespaceAlias(7, "Dischussioni_immagina");
-		addNamespaceAlias(9, "Dischussioni_MediaWiki");
-		addNamespaceAlias(10, "Mudellu");
-		addNamespaceAlias(11, "Dischussioni_mudellu");
-		addNamespaceAlias(12, "Aggiuddu");
-		addNamespaceAlias(13, "Dischussioni_aggiuddu");
-		addNamespaceAlias(14, "Categuria");
-		addNamespaceAlias(15, "Dischussioni_categuria");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://sdc.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "sdc";
-	}
-}
@@ -1,73 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class SeConfig extends TemplateConfig {
-	public SeConfig() {
-		addNamespaceAlias(-2, "Media");
-		addNamespaceAlias(-1, "Erenoamáš", "Doaimmat");
-		addNamespaceAlias(1, "Ságastallan");
-		addNamespaceAlias(2, "Geavaheaddji");
-		addNamespaceAlias(3, "Geavaheaddjeságastallan");
-		addNamespaceAlias(5, "Wikipedia-ságastallan");
-		addNamespaceAlias(6, "Fiila");
-		addNamespaceAlias(7, "Fiilaságastallan");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "MediaWiki-ságastallan");
-		addNamespaceAlias(10, "Málle");
-		addNamespaceAlias(11, "Málleságastallan");
-		addNamespaceAlias(12, "Veahkki");
-		addNamespaceAlias(13, "Veahkkeságastallan");
-		addNamespaceAlias(14, "Kategoriija");
-		addNamespaceAlias(15, "Kategoriijaságastallan");
-
-		addI18nCIAlias("redirect", "#STIVREN", "#OĐĐASITSTIVREN", "#REDIRECT");
-		addI18nCIAlias("notoc", "__IISISDOALLU__", "__IISIS__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__IIGALLERIIJA__", "__NOGALLERY__");
-		addI18nCIAlias("toc", "__SISDOALLU__", " __SIS__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__IIRIEVDADITOASI__", "__NOEDITSECTION__");
-		addI18nAlias("numberofarticles", "ARTIHKKALIIDMEARRI", " ARTIHKALMEARRI", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "FIILLAIDMEARRI", "FIILAMEARRI", " GOVAIDMEARRI", " GOVVAMEARRI", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "GEAVAHEDDJIIDMEARRI", " GEAVAHEADDJIMEARRI", " GEAVAHEADDJEMEARRI", "NUMBEROFUSERS");
-		addI18nAlias("numberofactiveusers", "AKTIIVAGEAVAHEDDJIIDMEARRI", " AKTIIVAGEAVAHEADDJIMEARRI", " AKTIIVAGEAVAHEADDJEMEARRI", "NUMBEROFACTIVEUSERS");
-		addI18nAlias("numberofedits", "RIEVDADUSAIDMEARRI", " RIEVDADUSMEARRI", "NUMBEROFEDITS");
-		addI18nCIAlias("subst", "LIIBME:", "SUBST:");
-		addI18nAlias("img_thumbnail", "mini", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "mini=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "olgeš", "right");
-		addI18nAlias("img_left", "gurut", "left");
-		addI18nAlias("img_center", "gasku", "center", "centre");
-		addI18nAlias("img_link", "liŋka=$1", "link=$1");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://se.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "se";
-	}
-}
@@ -1,141 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class ShConfig extends TemplateConfig {
-	public ShConfig() {
-		addNamespaceAlias(-1, "Posebno");
-		addNamespaceAlias(1, "Razgovor");
-		addNamespaceAlias(2, "Korisnik");
-		addNamespaceAlias(3, "Razgovor_sa_korisnikom");
-		addNamespaceAlias(5, "Razgovor_o_Wikipedia");
-		addNamespaceAlias(6, "Datoteka");
-		addNamespaceAlias(7, "Razgovor_o_datoteci");
-		addNamespaceAlias(9, "Mediawiki_razgovor");
-		addNamespaceAlias(10, "Šablon");
-		addNamespaceAlias(11, "Razgovor_o_šablonu");
-		addNamespaceAlias(12, "Pomoć");
-		addNamespaceAlias(13, "Razgovor_o_pomoći");
-		addNamespaceAlias(14, "Kategorija");
-		addNamespaceAlias(15, "Razgovor_o_kategoriji");
-
-		addI18nCIAlias("redirect", "#PREUSMJERI", "#PREUSMERI", "#REDIRECT");
-		addI18nCIAlias("notoc", "__BEZSADRŽAJA__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__BEZGALERIJE__", "__NOGALLERY__");
-		addI18nCIAlias("forcetoc", "__FORSIRANISADRŽAJ__", "__UKLJUČISADRŽAJ__", "__FORCETOC__");
-		addI18nCIAlias("toc", "__SADRŽAJ__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__BEZ_IZMJENA__", "__BEZIZMJENA__", "__BEZ_IZMENA__", "__BEZIZMENA__", "__NOEDITSECTION__");
-		addI18nAlias("currentmonth", "TRENUTNIMJESEC", "TRENUTNIMESEC", "TRENUTAČNIMJESEC", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonth1", "TRENUTNIMJESEC1", "TRENUTNIMESEC1", "TRENUTAČNIMJESEC1", "CURRENTMONTH1");
-		addI18nAlias("currentmonthname", "TRENUTNIMJESECIME", "TRENUTNIMESECIME", "TRENUTAČNIMJESECIME", "CURRENTMONTHNAME");
-		addI18nAlias("currentmonthnamegen", "TRENUTNIMJESECROD", "TRENUTNIMESECROD", "TRENUTAČNIMJESECROD", "CURRENTMONTHNAMEGEN");
-		addI18nAlias("currentmonthabbrev", "TRENUTNIMJESECSKR", "TRENUTNIMESECSKR", "TRENUTAČNIMJESECSKR", "CURRENTMONTHABBREV");
-		addI18nAlias("currentday", "TRENUTNIDAN", "TRENUTAČNIDAN", "CURRENTDAY");
-		addI18nAlias("currentday2", "TRENUTNIDAN2", "TRENUTAČNIDAN2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "TRENUTNIDANIME", "TRENUTAČNIDANIME", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "TRENUTNAGODINA", "TRENUTAČNAGODINA", "CURRENTYEAR");
-		addI18nAlias("currenttime", "TRENUTNOVRIJEME", "TRENUTNOVREME", "TRENUTAČNOVRIJEME", "CURRENTTIME");
-		addI18nAlias("currenthour", "TRENUTNISAT", "TRENUTAČNISAT", "CURRENTHOUR");
-		addI18nAlias("localmonth", "LOKALNIMJESEC", "LOKALNIMESEC", "LOCALMONTH", "LOCALMONTH2");
-		addI18nAlias("localmonth1", "LOKALNIMJESEC1", "LOKALNIMESEC1", "LOCALMONTH1");
-		addI18nAlias("localmonthname", "LOKALNIMJESECIME", "LOKALNIMESECIME", "LOCALMONTHNAME");
-		addI18nAlias("localmonthnamegen", "LOKALNIMJESECROD", "LOKALNIMESECROD", "LOKALNIMJESECGEN", "LOKALNIMESECGEN", "LOCALMONTHNAMEGEN");
-		addI18nAlias("localmonthabbrev", "LOKALNIMJESECSKR", "LOKALNIMESECSKR", "LOKALNIMJESECKRAT", "LOCALMONTHABBREV");
-		addI18nAlias("localday", "LOKALNIDAN", "LOCALDAY");
-		addI18nAlias("localday2", "LOKALNIDAN2", "LOCALDAY2");
-		addI18nAlias("localdayname", "LOKALNIDANIME", "LOCALDAYNAME");
-		addI18nAlias("localyear", "LOKALNAGODINA", "LOCALYEAR");
-		addI18nAlias("localtime", "LOKALNOVRIJEME", "LOKALNOVREME", "LOCALTIME");
-		addI18nAlias("localhour", "LOKALNISAT", "LOCALHOUR");
-		addI18nAlias("numberofpages", "BROJSTRANICA", "BROJSTRANA", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "BROJČLANAKA", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "BROJDATOTEKA", "BROJFAJLOVA", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "BROJKORISNIKA", "NUMBEROFUSERS");
-		addI18nAlias("numberofactiveusers", "BROJAKTIVNIHKORISNIKA", "NUMBEROFACTIVEUSERS");
-		addI18nAlias("numberofedits", "BROJIZMJENA", "BROJIZMENA", "BROJUREĐIVANJA", "NUMBEROFEDITS");
-		addI18nAlias("numberofviews", "BROJPREGLEDA", "NUMBEROFVIEWS");
-		addI18nAlias("pagename", "STRANICA", "IMESTRANICE", "PAGENAME");
-		addI18nAlias("pagenamee", "STRANICE", "IMESTRANICEE", "PAGENAMEE");
-		addI18nAlias("namespace", "IMENSKIPROSTOR", "NAMESPACE");
-		addI18nAlias("namespacee", "IMENSKIPROSTORI", "NAMESPACEE");
-		addI18nAlias("talkspace", "PROSTORZARAZGOVOR", "TALKSPACE");
-		addI18nAlias("talkspacee", "PROSTORIZARAZGOVOR", "TALKSPACEE");
-		addI18nAlias("fullpagename", "PUNOIMESTRANE", "PUNOIMESTRANICE", "FULLPAGENAME");
-		addI18nAlias("fullpagenamee", "PUNOIMESTRANEE", "PUNOIMESTRANICEE", "FULLPAGENAMEE");
-		addI18nCIAlias("msg", "POR:", "MSG:");
-		addI18nCIAlias("subst", "ZAMJENI:", "ZAMENI:", "ZAMJENA:", "SUBST:");
-		addI18nCIAlias("msgnw", "NVPOR:", "MSGNW:");
-		addI18nAlias("img_thumbnail", "minijatura", "mini", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "minijatura=$1", "mini=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "desno", "right");
-		addI18nAlias("img_left", "lijevo", "levo", "left");
-		addI18nAlias("img_none", "n", "bez", "ništa", "none");
-		addI18nAlias("img_center", "centar", "središte", "c", "center", "centre");
-		addI18nAlias("img_framed", "okvir", "ram", "framed", "enframed", "frame");
-		addI18nAlias("img_frameless", "bez_okvira", "bezokvira", "frameless");
-		addI18nAlias("img_page", "stranica=$1", "stranica_$1", "strana=$1", "strana_$1", "page=$1", "page $1");
-		addI18nAlias("img_upright", "na_gore", "na_gore=$1", "na_gore_$1", "uspravno", "uspravno=$1", "uspravno_$1", "upright", "upright=$1", "upright $1");
-		addI18nAlias("img_border", "granica", "obrub", "border");
-		addI18nAlias("img_baseline", "osnovnacrta", "pocetna_linija", "baseline");
-		addI18nAlias("img_top", "vrh", "top");
-		addI18nAlias("img_text_top", "vrh_teksta", "tekst_vrh", "text-top");
-		addI18nAlias("img_middle", "sredina", "middle");
-		addI18nAlias("img_bottom", "dno", "bottom");
-		addI18nAlias("img_text_bottom", "tekst-dno", "text-bottom");
-		addI18nCIAlias("localurl", "LOKALNIURL:", "LOCALURL:");
-		addI18nCIAlias("localurle", "LOKALNIURLE:", "LOCALURLE:");
-		addI18nCIAlias("notitleconvert", "__BEZTC__", "__BEZKN__", "__BPN__", "__NOTITLECONVERT__", "__NOTC__");
-		addI18nCIAlias("nocontentconvert", "__BEZCC__", "__BPS__", "__NOCONTENTCONVERT__", "__NOCC__");
-		addI18nAlias("currentweek", "TRENUTNASEDMICA", "TRENUTAČNITJEDAN", "TRENUTNANEDELJA", "TRENUTNITJEDAN", "CURRENTWEEK");
-		addI18nAlias("currentdow", "TRENUTNIDANSEDMICE", "TRENUTAČNIDANTJEDNA", "TRENUTNIDANNEDELJE", "TRENUTNIDANTJEDNA", "CURRENTDOW");
-		addI18nAlias("localweek", "LOKALNASEDMICA", "LOKALNITJEDAN", "LOKALNANEDELJA", "LOCALWEEK");
-		addI18nAlias("localdow", "LOKALNIDANSEDMICE", "LOKALNIDANTJEDNA", "LOKALNIDANNEDELJE", "LOCALDOW");
-		addI18nAlias("revisionid", "IDIZMJENE", "IDIZMENE", "REVISIONID");
-		addI18nAlias("revisionday", "IZMJENEDANA", "IZMENEDANA", "REVISIONDAY");
-		addI18nAlias("revisionday2", "IZMJENEDANA2", "IZMENEDANA2", "REVISIONDAY2");
-		addI18nAlias("revisionmonth", "MJESECIZMJENE", "MESECIZMENE", "REVISIONMONTH");
-		addI18nAlias("revisionmonth1", "MJESECIZMJENE1", "MESECIZMENE1", "REVISIONMONTH1");
-		addI18nAlias("revisionyear", "GODINAIZMJENE", "GODINAIZMENE", "REVISIONYEAR");
-		addI18nAlias("revisiontimestamp", "OZNAKAVREMENAIZMJENE", "OZNAKAVREMENAIZMENE", "REVISIONTIMESTAMP");
-		addI18nCIAlias("plural", "MNOŽINA:", "PLURAL:");
-		addI18nCIAlias("fullurl", "PUNIURL:", "PUNURL:", "FULLURL:");
-		addI18nCIAlias("fullurle", "PUNIURLE:", "PUNURLE:", "FULLURLE:");
-		addI18nAlias("currenttimestamp", "TRENUTNAOZNAKAVREMENA", "TRENUTAČNAOZNAKAVREMENA", "CURRENTTIMESTAMP");
-		addI18nAlias("localtimestamp", "LOKALNAOZNAKAVREMENA", "LOCALTIMESTAMP");
-		addI18nCIAlias("special", "posebno", "special");
-		addI18nAlias("hiddencat", "__SAKRIVENAKATEGORIJA__", "SKRIVENAKAT", "__SAKRIVENAKAT__", "__HIDDENCAT__");
-		addI18nAlias("pagesize", "VELICINASTRANICE", "VELIČINASTRANICE", "VELIČINASTRANE", "VELICINASTRANE", "PAGESIZE");
-		addI18nCIAlias("formatdate", "formatdatuma", "formatdate", "dateformat");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://sh.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "sh";
-	}
-}
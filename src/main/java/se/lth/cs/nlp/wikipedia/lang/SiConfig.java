@@ -1,96 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class SiConfig extends TemplateConfig {
-	public SiConfig() {
-		addNamespaceAlias(-2, "මාධ්‍යය");
-		addNamespaceAlias(-1, "විශේෂ");
-		addNamespaceAlias(1, "සාකච්ඡාව");
-		addNamespaceAlias(2, "පරිශීලක");
-		addNamespaceAlias(3, "පරිශීලක_සාකච්ඡාව");
-		addNamespaceAlias(5, "Wikipedia_සාකච්ඡාව");
-		addNamespaceAlias(6, "ගොනුව", "රූපය");
-		addNamespaceAlias(7, "ගොනුව_සාකච්ඡාව", "රූපය_සාකච්ඡාව");
-		addNamespaceAlias(8, "මාධ්‍යවිකි", "විකිමාධ්‍ය");
-		addNamespaceAlias(9, "මාධ්‍යවිකි_සාකච්ඡාව", "විකිමාධ්‍ය_සාකච්ඡාව");
-		addNamespaceAlias(10, "සැකිල්ල");
-		addNamespaceAlias(11, "සැකිලි_සාකච්ඡාව");
-		addNamespaceAlias(12, "උදවු");
-		addNamespaceAlias(13, "උදවු_සාකච්ඡාව", "උදව_සාකච්ඡාව");
-		addNamespaceAlias(14, "ප්‍රවර්ගය");
-		addNamespaceAlias(15, "ප්‍රවර්ග_සාකච්ඡාව");
-
-		addI18nCIAlias("redirect", "#යළියොමුව", "#REDIRECT");
-		addI18nAlias("currentmonth", "වත්මන්මාසය", "වත්මන්මාසය2", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonth1", "වත්මන්මාසය1", "CURRENTMONTH1");
-		addI18nAlias("currentmonthname", "වත්මන්මාසනාමය", "CURRENTMONTHNAME");
-		addI18nAlias("currentmonthnamegen", "වත්මන්මාසනාමයපොදු", "CURRENTMONTHNAMEGEN");
-		addI18nAlias("currentmonthabbrev", "වත්මන්මාසයකෙටි", "CURRENTMONTHABBREV");
-		addI18nAlias("currentday", "වත්මන්දිනය", "CURRENTDAY");
-		addI18nAlias("currentday2", "වත්මන්දිනය2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "වත්මන්දිනනාමය", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "වත්මන්වසර", "CURRENTYEAR");
-		addI18nAlias("currenttime", "වත්මන්වේලාව", "CURRENTTIME");
-		addI18nAlias("currenthour", "වත්මන්පැය", "CURRENTHOUR");
-		addI18nAlias("localmonth", "දේශීයමාසය", "LOCALMONTH", "LOCALMONTH2");
-		addI18nAlias("localmonthname", "දේශීයමාසනාමය", "LOCALMONTHNAME");
-		addI18nAlias("localmonthnamegen", "දේශීයමාසනාමයපොදු", "LOCALMONTHNAMEGEN");
-		addI18nAlias("localmonthabbrev", "දේශීයමාසයකෙටි", "LOCALMONTHABBREV");
-		addI18nAlias("localday", "දේශීයදිනය", "LOCALDAY");
-		addI18nAlias("localday2", "දේශීයදිනය2", "LOCALDAY2");
-		addI18nAlias("localdayname", "දේශීයදිනනාමය", "LOCALDAYNAME");
-		addI18nAlias("localyear", "දේශීයවසර", "LOCALYEAR");
-		addI18nAlias("localtime", "දේශීයවේලාව", "LOCALTIME");
-		addI18nAlias("localhour", "දේශීයපැය", "LOCALHOUR");
-		addI18nAlias("numberofpages", "පිටුසංඛ්‍යාව", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "ලිපිසංඛ්‍යාව", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "ගොනුසංඛ්‍යාව", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "පරිශීලකයන්සංඛ්‍යාව", "NUMBEROFUSERS");
-		addI18nAlias("numberofedits", "සංස්කරණසංඛ්‍යාව", "NUMBEROFEDITS");
-		addI18nAlias("pagename", "පිටුනාමය", "PAGENAME");
-		addI18nAlias("namespace", "නාමඅවකාශය", "NAMESPACE");
-		addI18nAlias("namespacee", "නාමඅවකාශයන්", "NAMESPACEE");
-		addI18nCIAlias("msg", "පණිවුඩ:", "MSG:");
-		addI18nAlias("img_right", "දකුණ", "right");
-		addI18nAlias("img_left", "වම", "left");
-		addI18nAlias("img_none", "නොමැත", "none");
-		addI18nAlias("img_width", "$1පික්", "$1px");
-		addI18nAlias("img_center", "මධ්‍යය", "center", "centre");
-		addI18nAlias("img_border", "දාරය", "border");
-		addI18nAlias("img_sub", "උප", "sub");
-		addI18nAlias("img_middle", "මැද", "middle");
-		addI18nCIAlias("special", "විශේෂ", "special");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://si.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "si";
-	}
-}
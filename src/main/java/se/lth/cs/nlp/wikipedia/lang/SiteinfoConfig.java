@@ -0,0 +1,116 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.wikipedia.lang;
+
+import org.sweble.wikitext.engine.config.NamespaceImpl;
+import org.sweble.wikitext.engine.config.WikiConfigImpl;
+import se.lth.cs.nlp.mediawiki.model.Header;
+import se.lth.cs.nlp.mediawiki.model.Page;
+import se.lth.cs.nlp.mediawiki.model.Siteinfo;
+import se.lth.cs.nlp.wikipedia.WikipediaPageType;
+
+import java.util.Map;
+
+/**
+ * Language config overlaid with the siteinfo of a dump header.
+ *
+ * The namespace names of the dump are added as aliases and take precedence over aliases of the
+ * base config, namespaces only found in the dump are added. Magic words, excluded sections, template renderers
+ * and page type classification come from the base config, the excluded sections of the dump language are added.
+ */
+public class SiteinfoConfig extends TemplateConfig {
+    private final TemplateConfig base;
+    private final Siteinfo siteinfo;
+    private final String siteName;
+    private final String wikiUrl;
+    private final String iso639;
+
+    /**
+     * @param header the dump header
+     * @param base the config to overlay, i.e. the config of the dump language
+     */
+    public SiteinfoConfig(Header header, TemplateConfig base) {
+        this.base = base;
+        this.siteinfo = header.getSiteinfo();
+        this.siteName = siteinfo.getSitename() != null ? siteinfo.getSitename() : base.getSiteName();
+        this.wikiUrl = siteinfo.getBase() != null ? getWikiUrl(siteinfo.getBase()) : base.getWikiUrl();
+        this.iso639 = header.getLang() != null ? header.getLang() : base.getIso639();
+
+        addAliases(base);
+        addExcludedSections(base.getExcludedSections());
+        addExcludedSections(iso639);
+        addTemplateRenderers(base);
+        for (Map.Entry<Integer, String> entry : siteinfo.getNamespaces().entrySet()) {
+            if(entry.getValue() != null && !entry.getValue().isEmpty())
+                claimNamespaceAlias(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * @param base the main page url of the siteinfo, e.g. http://sv.wikipedia.org/wiki/Huvudsida
+     * @return the wiki root, e.g. http://sv.wikipedia.org/
+     */
+    private static String getWikiUrl(String base) {
+        int start = base.indexOf("://");
+        int end = base.indexOf('/', start == -1 ? 0 : start + 3);
+        return end == -1 ? base + "/" : base.substring(0, end + 1);
+    }
+
+    @Override
+    protected void addNamespaces(WikiConfigImpl c) {
+        super.addNamespaces(c);
+
+        for (Map.Entry<Integer, String> entry : siteinfo.getNamespaces().entrySet()) {
+            if(c.getNamespace(entry.getKey()) == null) {
+                c.addNamespace(new NamespaceImpl(
+                        entry.getKey(),
+                        entry.getValue(),
+                        entry.getValue(),
+                        false,
+                        false,
+                        getNamespaceAliases(entry.getKey())));
+            }
+        }
+    }
+
+    @Override
+    public WikipediaPageType classifyPageType(Page page) {
+        return base.classifyPageType(page);
+    }
+
+    @Override
+    protected String getSiteName() {
+        return siteName;
+    }
+
+    @Override
+    protected String getWikiUrl() {
+        return wikiUrl;
+    }
+
+    @Override
+    public String getIso639() {
+        return iso639;
+    }
+
+    /**
+     * @return the config this config overlays
+     */
+    public TemplateConfig getBase() {
+        return base;
+    }
+}
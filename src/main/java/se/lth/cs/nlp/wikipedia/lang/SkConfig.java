@@ -1,119 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class SkConfig extends TemplateConfig {
-	public SkConfig() {
-		addNamespaceAlias(-2, "Médiá");
-		addNamespaceAlias(-1, "Špeciálne");
-		addNamespaceAlias(1, "Diskusia", "Komentár");
-		addNamespaceAlias(2, "Redaktor");
-		addNamespaceAlias(3, "Diskusia_s_redaktorom", "Komentár_k_redaktorovi");
-		addNamespaceAlias(5, "Diskusia_k_{{GRAMMAR:datív|Wikipedia}}", "Komentár_k_Wikipédii");
-		addNamespaceAlias(6, "Súbor", "Obrázok");
-		addNamespaceAlias(7, "Diskusia_k_súboru", "Diskusia_k_obrázku", "Komentár_k_obrázku");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "Diskusia_k_MediaWiki", "Komentár_k_MediaWiki");
-		addNamespaceAlias(10, "Šablóna");
-		addNamespaceAlias(11, "Diskusia_k_šablóne");
-		addNamespaceAlias(12, "Pomoc");
-		addNamespaceAlias(13, "Diskusia_k_pomoci");
-		addNamespaceAlias(14, "Kategória");
-		addNamespaceAlias(15, "Diskusia_ku_kategórii");
-
-		addI18nCIAlias("redirect", "#presmeruj", "#REDIRECT");
-		addI18nCIAlias("notoc", "__BEZOBSAHU__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__BEZGALÉRIE__", "__NOGALLERY__");
-		addI18nCIAlias("forcetoc", "__VYNÚTIŤOBSAH__", "__FORCETOC__");
-		addI18nCIAlias("toc", "__OBSAH__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__NEUPRAVOVAŤSEKCIE__", "__NOEDITSECTION__");
-		addI18nAlias("currentmonth", "AKTUÁLNYMESIAC", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonthname", "NÁZOVAKTUÁLNEHOMESIACA", "CURRENTMONTHNAME");
-		addI18nAlias("currentmonthnamegen", "NÁZOVAKTUÁLNEHOMESIACAGEN", "CURRENTMONTHNAMEGEN");
-		addI18nAlias("currentmonthabbrev", "NÁZOVAKTUÁLNEHOMESIACASKRATKA", "CURRENTMONTHABBREV");
-		addI18nAlias("currentday", "AKTUÁLNYDEŇ", "CURRENTDAY");
-		addI18nAlias("currentday2", "AKTUÁLNYDEŇ2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "NÁZOVAKTUÁLNEHODŇA", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "AKTUÁLNYROK", "CURRENTYEAR");
-		addI18nAlias("currenttime", "AKTUÁLNYČAS", "CURRENTTIME");
-		addI18nAlias("currenthour", "AKTUÁLNAHODINA", "CURRENTHOUR");
-		addI18nAlias("numberofpages", "POČETSTRÁNOK", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "POČETČLÁNKOV", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "POČETSÚBOROV", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "POČETPOUŽÍVATEĽOV", "NUMBEROFUSERS");
-		addI18nAlias("numberofedits", "POČETÚPRAV", "NUMBEROFEDITS");
-		addI18nAlias("pagename", "NÁZOVSTRÁNKY", "PAGENAME");
-		addI18nAlias("pagenamee", "NÁZOVSTRÁNKYE", "PAGENAMEE");
-		addI18nAlias("namespace", "MENNÝPRIESTOR", "NAMESPACE");
-		addI18nAlias("namespacee", "MENNÝPRIESTORE", "NAMESPACEE");
-		addI18nAlias("talkspace", "DISKUSNÝPRIESTOR", "TALKSPACE");
-		addI18nAlias("talkspacee", "DISKUSNÝPRIESTORE", "TALKSPACEE");
-		addI18nAlias("subjectspace", "PRIESTORČLÁNKOV", "SUBJECTSPACE", "ARTICLESPACE");
-		addI18nAlias("subjectspacee", "PRIESTORČLÁNKOVE", "SUBJECTSPACEE", "ARTICLESPACEE");
-		addI18nAlias("fullpagename", "PLNÝNÁZOVSTRÁNKY", "FULLPAGENAME");
-		addI18nAlias("fullpagenamee", "PLNÝNÁZOVSTRÁNKYE", "FULLPAGENAMEE");
-		addI18nAlias("subpagename", "NÁZOVPODSTRÁNKY", "SUBPAGENAME");
-		addI18nAlias("subpagenamee", "NÁZOVPODSTRÁNKYE", "SUBPAGENAMEE");
-		addI18nAlias("basepagename", "NÁZOVZÁKLADNEJSTRÁNKY", "BASEPAGENAME");
-		addI18nAlias("basepagenamee", "NÁZOVZÁKLADNEJSTRÁNKYE", "BASEPAGENAMEE");
-		addI18nAlias("talkpagename", "NÁZOVDISKUSNEJSTRÁNKY", "TALKPAGENAME");
-		addI18nAlias("talkpagenamee", "NÁZOVDISKUSNEJSTRÁNKYE", "TALKPAGENAMEE");
-		addI18nAlias("subjectpagename", "NÁZOVČLÁNKU", "SUBJECTPAGENAME", "ARTICLEPAGENAME");
-		addI18nAlias("subjectpagenamee", "NÁZOVČLÁNKUE", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE");
-		addI18nCIAlias("msg", "SPRÁVA:", "MSG:");
-		addI18nCIAlias("subst", "NAHR:", "SUBST:");
-		addI18nAlias("img_thumbnail", "náhľad", "náhľadobrázka", "thumbnail", "thumb");
-		addI18nAlias("img_right", "vpravo", "right");
-		addI18nAlias("img_left", "vľavo", "left");
-		addI18nAlias("img_none", "žiadny", "none");
-		addI18nAlias("img_width", "$1bod", "$1px");
-		addI18nAlias("img_center", "stred", "center", "centre");
-		addI18nAlias("img_framed", "rám", "framed", "enframed", "frame");
-		addI18nAlias("img_border", "okraj", "border");
-		addI18nAlias("sitename", "NÁZOVLOKALITY", "SITENAME");
-		addI18nCIAlias("ns", "MP:", "NS:");
-		addI18nCIAlias("servername", "NÁZOVSERVERA", "SERVERNAME");
-		addI18nCIAlias("scriptpath", "CESTAKUSKRIPTU", "SCRIPTPATH");
-		addI18nCIAlias("grammar", "GRAMATIKA:", "GRAMMAR:");
-		addI18nAlias("currentweek", "AKTUÁLNYTÝŽDEŇ", "CURRENTWEEK");
-		addI18nAlias("currentversion", "AKTUÁLNAVERZIA", "CURRENTVERSION");
-		addI18nCIAlias("language", "#JAZYK:", "#LANGUAGE:");
-		addI18nAlias("contentlanguage", "JAZYKOBSAHU", "CONTENTLANGUAGE", "CONTENTLANG");
-		addI18nAlias("numberofadmins", "POČETSPRÁVCOV", "NUMBEROFADMINS");
-		addI18nCIAlias("filepath", "CESTAKSÚBORU:", "FILEPATH:");
-		addI18nAlias("hiddencat", "__SKRYTÁKATEGÓRIA__", "__SKRYTÁKAT__", "__HIDDENCAT__");
-		addI18nAlias("pagesincategory", "STRÁNOKVKATEGÓRII", "STRÁNOKVKAT", "PAGESINCATEGORY", "PAGESINCAT");
-		addI18nAlias("pagesize", "VEĽKOSŤSTRÁNKY", "PAGESIZE");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://sk.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "sk";
-	}
-}
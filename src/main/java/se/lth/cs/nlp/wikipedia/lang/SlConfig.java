@@ -1,94 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class SlConfig extends TemplateConfig {
-	public SlConfig() {
-		addNamespaceAlias(-2, "Datoteka");
-		addNamespaceAlias(-1, "Posebno");
-		addNamespaceAlias(1, "Pogovor");
-		addNamespaceAlias(2, "Uporabnik");
-		addNamespaceAlias(3, "Uporabniški_pogovor");
-		addNamespaceAlias(5, "Pogovor_{{grammar:mestnik|Wikipedia}}");
-		addNamespaceAlias(6, "Slika");
-		addNamespaceAlias(7, "Pogovor_o_sliki");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "Pogovor_o_MediaWiki");
-		addNamespaceAlias(10, "Predloga");
-		addNamespaceAlias(11, "Pogovor_o_predlogi");
-		addNamespaceAlias(12, "Pomoč");
-		addNamespaceAlias(13, "Pogovor_o_pomoči");
-		addNamespaceAlias(14, "Kategorija");
-		addNamespaceAlias(15, "Pogovor_o_kategoriji");
-
-		addI18nCIAlias("redirect", "#PREUSMERITEV", "#REDIRECT");
-		addI18nCIAlias("notoc", "__BREZKAZALAVSEBINE__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__BREZGALERIJE__", "__NOGALLERY__");
-		addI18nCIAlias("forcetoc", "__VSILIKAZALOVSEBINE__", "__FORCETOC__");
-		addI18nCIAlias("toc", "__POGLAVJE__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__BREZUREJANJARAZDELKOV__", "__NOEDITSECTION__");
-		addI18nAlias("img_thumbnail", "sličica", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "sličica=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "desno", "right");
-		addI18nAlias("img_left", "levo", "left");
-		addI18nAlias("img_none", "brez", "none");
-		addI18nAlias("img_width", "$1_pik", "$1px");
-		addI18nAlias("img_center", "sredina", "sredinsko", "center", "centre");
-		addI18nAlias("img_framed", "okvir", "okvirjeno", "framed", "enframed", "frame");
-		addI18nAlias("img_frameless", "brezokvirja", "frameless");
-		addI18nAlias("img_page", "stran=$1", "m_stran $1", "page=$1", "page $1");
-		addI18nAlias("img_upright", "zgorajdesno", "zgorajdesno=$1", "zgorajdesno $1", "upright", "upright=$1", "upright $1");
-		addI18nAlias("img_border", "obroba", "border");
-		addI18nAlias("img_sub", "pod", "podpisano", "sub");
-		addI18nAlias("img_super", "nad", "nadpisano", "super", "sup");
-		addI18nAlias("img_top", "vrh", "top");
-		addI18nAlias("img_text_top", "vrh-besedila", "text-top");
-		addI18nAlias("img_bottom", "dno", "bottom");
-		addI18nAlias("img_text_bottom", "dno-besedila", "text-bottom");
-		addI18nAlias("sitename", "IMESTRANI", "SITENAME");
-		addI18nCIAlias("server", "STREZNIK", "SERVER");
-		addI18nCIAlias("grammar", "SKLON:", "GRAMMAR:");
-		addI18nCIAlias("gender", "SPOL:", "GENDER:");
-		addI18nCIAlias("plural", "MNOZINA:", "PLURAL:");
-		addI18nCIAlias("language", "#JEZIK:", "#LANGUAGE:");
-		addI18nCIAlias("tag", "oznaka", "tag");
-		addI18nAlias("hiddencat", "__SKRITAKATEGORIJA__", "__HIDDENCAT__");
-		addI18nAlias("index", "__KAZALO__", "__INDEX__");
-		addI18nAlias("noindex", "__BREZKAZALA__", "__NOINDEX__");
-		addI18nAlias("staticredirect", "__STATICNAPREUSMERITEV__", "__STATICREDIRECT__");
-		addI18nAlias("protectionlevel", "STOPNJAZASCITE", "PROTECTIONLEVEL");
-		addI18nCIAlias("url_path", "POT", "PATH");
-		addI18nCIAlias("url_query", "POIZVEDBA", "QUERY");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://sl.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "sl";
-	}
-}
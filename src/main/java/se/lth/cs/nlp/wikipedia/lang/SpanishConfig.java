@@ -151,6 +151,7 @@ public class SpanishConfig extends TemplateConfig {
         addI18nAlias("staticredirect", "__REDIRECCIONESTATICA__", "__REDIRECCIÓNESTÁTICA__", "__STATICREDIRECT__");
         addI18nAlias("protectionlevel", "NIVELDEPROTECCIÓN", "PROTECTIONLEVEL");
         addI18nCIAlias("formatdate", "formatodefecha", "formatearfecha", "formatdate", "dateformat");
+        addExcludedSections("es");
     }
 
     @Override
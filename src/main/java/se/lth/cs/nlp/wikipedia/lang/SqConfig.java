@@ -1,127 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class SqConfig extends TemplateConfig {
-	public SqConfig() {
-		addNamespaceAlias(-2, "Media");
-		addNamespaceAlias(-1, "Speciale");
-		addNamespaceAlias(1, "Diskutim");
-		addNamespaceAlias(2, "Përdoruesi", "Perdoruesi", "Përdoruesi", "Përdoruesja");
-		addNamespaceAlias(3, "Përdoruesi_diskutim", "Perdoruesi_diskutim", "Përdoruesi_diskutim", "Përdoruesja_diskutim");
-		addNamespaceAlias(5, "Wikipedia_diskutim");
-		addNamespaceAlias(6, "Skeda", "Figura");
-		addNamespaceAlias(7, "Skeda_diskutim", "Figura_diskutim");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "MediaWiki_diskutim");
-		addNamespaceAlias(10, "Stampa");
-		addNamespaceAlias(11, "Stampa_diskutim");
-		addNamespaceAlias(12, "Ndihmë");
-		addNamespaceAlias(13, "Ndihmë_diskutim");
-		addNamespaceAlias(14, "Kategoria", "Kategori");
-		addNamespaceAlias(15, "Kategoria_diskutim", "Kategori_Diskutim");
-
-		addI18nCIAlias("redirect", "#RIDREJTO", "#REDIRECT");
-		addI18nCIAlias("notoc", "__JOTP__", "__NOTOC__");
-		addI18nCIAlias("nogallery", "__JOGALERI__", "__NOGALLERY__");
-		addI18nCIAlias("toc", "__TP__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__JOREDAKTIMSEKSIONI__", "__NOEDITSECTION__");
-		addI18nAlias("currentmonth", "MUAJIMOMENTAL", "MUAJIMOMENTAL2", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonth1", "MUAJIMOMENTAL1", "CURRENTMONTH1");
-		addI18nAlias("currentmonthname", "EMRIIMUAJITMOMENTAL", "CURRENTMONTHNAME");
-		addI18nAlias("currentday", "DITASOT", "CURRENTDAY");
-		addI18nAlias("currentday2", "DITASOT2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "EMRIIDITËSOT", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "SIVJET", "CURRENTYEAR");
-		addI18nAlias("currenttime", "KOHATANI", "CURRENTTIME");
-		addI18nAlias("currenthour", "ORATANI", "CURRENTHOUR");
-		addI18nAlias("localmonth", "MUAJILOKAL", "LOCALMONTH", "LOCALMONTH2");
-		addI18nAlias("localmonthname", "EMRIIMUAJITLOKAL", "LOCALMONTHNAME");
-		addI18nAlias("localday", "DITALOKALE", "LOCALDAY");
-		addI18nAlias("localday2", "DITALOKALE2", "LOCALDAY2");
-		addI18nAlias("localdayname", "EMRIIDITËSLOKALE", "LOCALDAYNAME");
-		addI18nAlias("localyear", "VITILOKAL", "LOCALYEAR");
-		addI18nAlias("localtime", "KOHALOKALE", "LOCALTIME");
-		addI18nAlias("localhour", "ORALOKALE", "LOCALHOUR");
-		addI18nAlias("numberofpages", "NUMRIFAQEVE", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "NUMRIIARTIKUJVE", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "NUMRIISKEDAVE", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "NUMRIIPËRDORUESVE", "NUMBEROFUSERS");
-		addI18nAlias("numberofactiveusers", "NUMRIIPËRDORUESVEAKTIVË", "NUMBEROFACTIVEUSERS");
-		addI18nAlias("numberofedits", "NUMRIREDAKTIMEVE", "NUMBEROFEDITS");
-		addI18nAlias("numberofviews", "NUMRIISHIKIMEVE", "NUMBEROFVIEWS");
-		addI18nAlias("pagename", "EMRIFAQES", "PAGENAME");
-		addI18nAlias("namespace", "HAPËSIRA", "NAMESPACE");
-		addI18nAlias("fullpagename", "EMRIIPLOTËIFAQES", "FULLPAGENAME");
-		addI18nAlias("fullpagenamee", "EMRIIPLOTËIFAQESE", "FULLPAGENAMEE");
-		addI18nAlias("subpagename", "EMRIINËNFAQES", "SUBPAGENAME");
-		addI18nAlias("subpagenamee", "EMRIINËNFAQESE", "SUBPAGENAMEE");
-		addI18nAlias("basepagename", "EMRIIFAQESBAZË", "BASEPAGENAME");
-		addI18nAlias("basepagenamee", "EMRIIFAQESBAZËE", "BASEPAGENAMEE");
-		addI18nAlias("talkpagename", "EMRIIFAQESSËDISKUTIMIT", "TALKPAGENAME");
-		addI18nAlias("talkpagenamee", "EMRIIFAQESSËDISKUTIMITE", "TALKPAGENAMEE");
-		addI18nCIAlias("subst", "ZËVN", "SUBST:");
-		addI18nAlias("img_thumbnail", "parapamje", "pamje", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "parapamje=$1", "pamje=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "djathtas", "right");
-		addI18nAlias("img_left", "majtas", "left");
-		addI18nAlias("img_none", "s'ka", "none");
-		addI18nAlias("img_center", "qendër", "qendrore", "center", "centre");
-		addI18nAlias("img_framed", "i_kornizuar", "pa_kornizë", "kornizë", "framed", "enframed", "frame");
-		addI18nAlias("img_page", "faqja=$1", "faqja $1", "page=$1", "page $1");
-		addI18nAlias("img_upright", "lartdjathtas", "lartdjathtas=$1", "lartdjathtas $1", "upright", "upright=$1", "upright $1");
-		addI18nAlias("img_border", "kufi", "border");
-		addI18nAlias("img_baseline", "linjabazë", "baseline");
-		addI18nAlias("img_sub", "nën", "sub");
-		addI18nAlias("img_text_top", "tekst-top", "text-top");
-		addI18nAlias("img_middle", "mes", "middle");
-		addI18nAlias("img_bottom", "fund", "bottom");
-		addI18nAlias("img_text_bottom", "tekst-fund", "text-bottom");
-		addI18nAlias("img_link", "lidhje=$1", "link=$1");
-		addI18nAlias("sitename", "EMRIISAJTIT", "SITENAME");
-		addI18nCIAlias("localurl", "URLLOKALE", "LOCALURL:");
-		addI18nCIAlias("server", "SERVERI", "SERVER");
-		addI18nCIAlias("servername", "EMRIISERVERIT", "SERVERNAME");
-		addI18nCIAlias("grammar", "GRAMATIKA:", "GRAMMAR:");
-		addI18nCIAlias("gender", "GJINIA:", "GENDER:");
-		addI18nAlias("currentweek", "JAVAMOMENTALE", "CURRENTWEEK");
-		addI18nCIAlias("plural", "SHUMËS:", "PLURAL:");
-		addI18nCIAlias("fullurl", "URLEPLOTË", "FULLURL:");
-		addI18nCIAlias("language", "#GJUHA:", "#LANGUAGE:");
-		addI18nAlias("numberofadmins", "NUMRIIADMINISTRUESVE", "NUMBEROFADMINS");
-		addI18nCIAlias("special", "speciale", "special");
-		addI18nAlias("hiddencat", "__KATEGORIEFSHEHUR__", "__HIDDENCAT__");
-		addI18nAlias("pagesize", "MADHËSIAEFAQES", "PAGESIZE");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://sq.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "sq";
-	}
-}
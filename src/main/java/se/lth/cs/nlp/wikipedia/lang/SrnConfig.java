@@ -1,212 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class SrnConfig extends TemplateConfig {
-	public SrnConfig() {
-		addNamespaceAlias(-1, "Spesyal", "Speciaal", "Speciaal");
-		addNamespaceAlias(1, "Taki", "Overleg", "Overleg");
-		addNamespaceAlias(2, "Masyin", "Gebruiker", "Gebruiker");
-		addNamespaceAlias(3, "Taki_fu_masyin", "Overleg_gebruiker", "Overleg_gebruiker");
-		addNamespaceAlias(5, "Taki_fu_Wikipedia", "Overleg_Wikipedia", "Overleg_Wikipedia");
-		addNamespaceAlias(6, "Gefre", "Afbeelding", "Bestand", "Afbeelding");
-		addNamespaceAlias(7, "Taki_fu_gefre", "Overleg_afbeelding", "Overleg_bestand", "Overleg_afbeelding");
-		addNamespaceAlias(9, "Taki_fu_MediaWiki", "Overleg_MediaWiki", "Overleg_MediaWiki");
-		addNamespaceAlias(10, "Ankra", "Sjabloon", "Sjabloon");
-		addNamespaceAlias(11, "Taki_fu_ankra", "Overleg_sjabloon", "Overleg_sjabloon");
-		addNamespaceAlias(12, "Yepi", "Help", "Help");
-		addNamespaceAlias(13, "Taki_fu_yepi", "Overleg_help", "Overleg_help");
-		addNamespaceAlias(14, "Guru", "Categorie", "Categorie");
-		addNamespaceAlias(15, "Taki_fu_guru", "Overleg_categorie", "Overleg_categorie");
-		addNamespaceAlias(-2, "Media");
-		addNamespaceAlias(8, "MediaWiki");
-
-		addI18nCIAlias("redirect", "#STIR", "#DOORVERWIJZING", "#REDIRECT", "Array");
-		addI18nCIAlias("notoc", "__NOINOT__", "__GEENINHOUD__", "__NOTOC__", "Array");
-		addI18nCIAlias("nogallery", "__NOPIKTURAMA__", "__GEEN_GALERIJ__", "__NOGALLERY__", "Array");
-		addI18nCIAlias("forcetoc", "__INOTDWENGI__", "__INHOUD_DWINGEN__", "__FORCEERINHOUD__", "__FORCETOC__", "Array");
-		addI18nCIAlias("toc", "__INOT__", "__INHOUD__", "__TOC__", "Array");
-		addI18nCIAlias("noeditsection", "__NOKENKISKAKI__", "__NIETBEWERKBARESECTIE__", "__NOEDITSECTION__", "Array");
-		addI18nAlias("currentmonth", "CURRENTMOTNH", "DISIMUN", "HUIDIGEMAAND", "HUIDIGEMAAND2", "CURRENTMONTH", "CURRENTMONTH2", "Array");
-		addI18nAlias("currentmonthname", "DISIMUNNEN", "HUIDIGEMAANDNAAM", "CURRENTMONTHNAME", "Array");
-		addI18nAlias("currentmonthnamegen", "DISIMUNNENGEN", "HUIDIGEMAANDGEN", "CURRENTMONTHNAMEGEN", "Array");
-		addI18nAlias("currentmonthabbrev", "DISIMUNSH", "HUIDIGEMAANDAFK", "CURRENTMONTHABBREV", "Array");
-		addI18nAlias("currentday", "DISIDEY", "HUIDIGEDAG", "CURRENTDAY", "Array");
-		addI18nAlias("currentday2", "DISIDEY2", "HUIDIGEDAG2", "CURRENTDAY2", "Array");
-		addI18nAlias("currentdayname", "DISIDEYNEN", "HUIDIGEDAGNAAM", "CURRENTDAYNAME", "Array");
-		addI18nAlias("currentyear", "DISIYARI", "HUIDIGJAAR", "CURRENTYEAR", "Array");
-		addI18nAlias("currenttime", "DISITEN", "HUIDIGETIJD", "CURRENTTIME", "Array");
-		addI18nAlias("currenthour", "DISIYURU", "HUIDIGUUR", "CURRENTHOUR", "Array");
-		addI18nAlias("localmonth", "PRESIMUN", "PLAATSELIJKEMAAND", "LOKALEMAAND", "LOKALEMAAND2", "LOCALMONTH", "LOCALMONTH2", "Array");
-		addI18nAlias("localmonthname", "PRESIMUNNEN", "PLAATSELIJKEMAANDNAAM", "LOKALEMAANDNAAM", "LOCALMONTHNAME", "Array");
-		addI18nAlias("localmonthnamegen", "PRESIMUNNENGEN", "PLAATSELIJKEMAANDNAAMGEN", "LOKALEMAANDNAAMGEN", "LOCALMONTHNAMEGEN", "Array");
-		addI18nAlias("localmonthabbrev", "PRESIMUNSH", "PLAATSELIJKEMAANDAFK", "LOKALEMAANDAFK", "LOCALMONTHABBREV", "Array");
-		addI18nAlias("localday", "PRESIDEY", "PLAATSELIJKEDAG", "LOKALEDAG", "LOCALDAY", "Array");
-		addI18nAlias("localday2", "PRESIDEY2", "PLAATSELIJKEDAG2", "LOKALEDAG2", "LOCALDAY2", "Array");
-		addI18nAlias("localdayname", "PRESIDEYNEN", "PLAATSELIJKEDAGNAAM", "LOKALEDAGNAAM", "LOCALDAYNAME", "Array");
-		addI18nAlias("localyear", "PRESIYARI", "PLAATSELIJKJAAR", "LOKAALJAAR", "LOCALYEAR", "Array");
-		addI18nAlias("localtime", "PRESITEN", "PLAATSELIJKETIJD", "LOKALETIJD", "LOCALTIME", "Array");
-		addI18nAlias("localhour", "PRESIYURU", "PLAATSELIJKUUR", "LOKAALUUR", "LOCALHOUR", "Array");
-		addI18nAlias("numberofpages", "PAPIRANUMRO", "AANTALPAGINAS", "AANTALPAGINA'S", "AANTALPAGINA’S", "NUMBEROFPAGES", "Array");
-		addI18nAlias("numberofarticles", "PAPIRALEGIMNUMRO", "AANTALARTIKELEN", "NUMBEROFARTICLES", "Array");
-		addI18nAlias("numberoffiles", "GEFRENUMRO", "AANTALBESTANDEN", "NUMBEROFFILES", "Array");
-		addI18nAlias("numberofusers", "MASYINNUMRO", "AANTALGEBRUIKERS", "NUMBEROFUSERS", "Array");
-		addI18nAlias("numberofedits", "KENKINUMRO", "AANTALBEWERKINGEN", "NUMBEROFEDITS", "Array");
-		addI18nAlias("pagename", "PAPIRANEN", "PAGINANAAM", "PAGENAME", "Array");
-		addI18nAlias("pagenamee", "PAPIRANENE", "PAGINANAAME", "PAGENAMEE", "Array");
-		addI18nAlias("namespace", "NENPREKI", "NAAMRUIMTE", "NAMESPACE", "Array");
-		addI18nAlias("namespacee", "NENPREKIE", "NAAMRUIMTEE", "NAMESPACEE", "Array");
-		addI18nAlias("talkspace", "TAKIPREKI", "OVERLEGRUIMTE", "TALKSPACE", "Array");
-		addI18nAlias("talkspacee", "TAKIPREKIE", "OVERLEGRUIMTEE", "TALKSPACEE", "Array");
-		addI18nCIAlias("special", "spesyal", "speciaal", "special", "Array");
-		addI18nAlias("currentmonth1", "HUIDIGEMAAND1", "CURRENTMONTH1");
-		addI18nAlias("localmonth1", "LOKALEMAAND1", "LOCALMONTH1");
-		addI18nAlias("numberofactiveusers", "AANTALACTIEVEGEBRUIKERS", "ACTIEVEGEBRUIKERS", "NUMBEROFACTIVEUSERS");
-		addI18nAlias("numberofviews", "AANTALKERENBEKEKEN", "NUMBEROFVIEWS");
-		addI18nAlias("namespacenumber", "NAAMRUIMTENUMMER", "NAMESPACENUMBER");
-		addI18nAlias("subjectspace", "ONDERWERPRUIMTE", "ARTIKELRUIMTE", "SUBJECTSPACE", "ARTICLESPACE");
-		addI18nAlias("subjectspacee", "ONDERWERPRUIMTEE", "ARTIKELRUIMTEE", "SUBJECTSPACEE", "ARTICLESPACEE");
-		addI18nAlias("fullpagename", "VOLLEDIGEPAGINANAAM", "FULLPAGENAME");
-		addI18nAlias("fullpagenamee", "VOLLEDIGEPAGINANAAME", "FULLPAGENAMEE");
-		addI18nAlias("subpagename", "DEELPAGINANAAM", "SUBPAGENAME");
-		addI18nAlias("subpagenamee", "DEELPAGINANAAME", "SUBPAGENAMEE");
-		addI18nAlias("rootpagename", "ROOTPAGINANAAM", "ROOTPAGENAME");
-		addI18nAlias("rootpagenamee", "ROOTPAGINANAAME", "ROOTPAGENAMEE");
-		addI18nAlias("basepagename", "BASISPAGINANAAM", "BASEPAGENAME");
-		addI18nAlias("basepagenamee", "BASISPAGINANAAME", "BASEPAGENAMEE");
-		addI18nAlias("talkpagename", "OVERLEGPAGINANAAM", "TALKPAGENAME");
-		addI18nAlias("talkpagenamee", "OVERLEGPAGINANAAME", "TALKPAGENAMEE");
-		addI18nAlias("subjectpagename", "ONDERWERPPAGINANAAM", "ARTIKELPAGINANAAM", "SUBJECTPAGENAME", "ARTICLEPAGENAME");
-		addI18nAlias("subjectpagenamee", "ONDERWERPPAGINANAAME", "ARTIKELPAGINANAAME", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE");
-		addI18nCIAlias("msg", "BERICHT:", "MSG:");
-		addI18nCIAlias("subst", "VERV:", "SUBST:");
-		addI18nCIAlias("safesubst", "VEILIGVERV:", "SAFESUBST:");
-		addI18nCIAlias("msgnw", "BERICHTNW", "MSGNW:");
-		addI18nAlias("img_thumbnail", "miniatuur", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "miniatuur=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "rechts", "right");
-		addI18nAlias("img_left", "links", "left");
-		addI18nAlias("img_none", "geen", "none");
-		addI18nAlias("img_center", "gecentreerd", "center", "centre");
-		addI18nAlias("img_framed", "omkaderd", "framed", "enframed", "frame");
-		addI18nAlias("img_frameless", "kaderloos", "frameless");
-		addI18nAlias("img_lang", "taal=$1", "lang=$1");
-		addI18nAlias("img_page", "pagina=$1", "pagina_$1", "page=$1", "page $1");
-		addI18nAlias("img_upright", "rechtop", "rechtop=$1", "rechtop$1", "upright", "upright=$1", "upright $1");
-		addI18nAlias("img_border", "rand", "border");
-		addI18nAlias("img_baseline", "grondlijn", "baseline");
-		addI18nAlias("img_top", "boven", "top");
-		addI18nAlias("img_text_top", "tekst-boven", "text-top");
-		addI18nAlias("img_middle", "midden", "middle");
-		addI18nAlias("img_bottom", "beneden", "bottom");
-		addI18nAlias("img_text_bottom", "tekst-beneden", "text-bottom");
-		addI18nAlias("img_link", "koppeling=$1", "verwijzing=$1", "link=$1");
-		addI18nAlias("img_class", "klasse=$1", "class=$1");
-		addI18nAlias("sitename", "SITENAAM", "SITENAME");
-		addI18nCIAlias("ns", "NR:", "NS:");
-		addI18nCIAlias("nse", "NRE:", "NSE:");
-		addI18nCIAlias("localurl", "LOKALEURL", "LOCALURL:");
-		addI18nCIAlias("localurle", "LOKALEURLE", "LOCALURLE:");
-		addI18nCIAlias("articlepath", "ARTIKELPAD", "ARTICLEPATH");
-		addI18nCIAlias("pageid", "PAGINAID", "PAGEID");
-		addI18nCIAlias("servername", "SERVERNAAM", "SERVERNAME");
-		addI18nCIAlias("scriptpath", "SCRIPTPAD", "SCRIPTPATH");
-		addI18nCIAlias("stylepath", "STIJLPAD", "STYLEPATH");
-		addI18nCIAlias("grammar", "GRAMMATICA:", "GRAMMAR:");
-		addI18nCIAlias("gender", "GESLACHT:", "GENDER:");
-		addI18nCIAlias("notitleconvert", "__GEENPAGINANAAMCONVERSIE__", "__GEENTITELCONVERSIE__", "__GEENTC__", "__NOTITLECONVERT__", "__NOTC__");
-		addI18nCIAlias("nocontentconvert", "__GEENINHOUDCONVERSIE__", "__GEENIC__", "__NOCONTENTCONVERT__", "__NOCC__");
-		addI18nAlias("currentweek", "HUIDIGEWEEK", "CURRENTWEEK");
-		addI18nAlias("currentdow", "HUIDIGEDVDW", "CURRENTDOW");
-		addI18nAlias("localweek", "PLAATSELIJKEWEEK", "LOKALEWEEK", "LOCALWEEK");
-		addI18nAlias("localdow", "PLAATSELIJKEDVDW", "LOKALEDVDW", "LOCALDOW");
-		addI18nAlias("revisionid", "VERSIEID", "REVISIONID");
-		addI18nAlias("revisionday", "VERSIEDAG", "REVISIONDAY");
-		addI18nAlias("revisionday2", "VERSIEDAG2", "REVISIONDAY2");
-		addI18nAlias("revisionmonth", "VERSIEMAAND", "REVISIONMONTH");
-		addI18nAlias("revisionmonth1", "VERSIEMAAND1", "REVISIONMONTH1");
-		addI18nAlias("revisionyear", "VERSIEJAAR", "REVISIONYEAR");
-		addI18nAlias("revisiontimestamp", "VERSIETIJD", "REVISIONTIMESTAMP");
-		addI18nAlias("revisionuser", "VERSIEGEBRUIKER", "REVISIONUSER");
-		addI18nAlias("revisionsize", "VERSIEGROOTTE", "REVISIONSIZE");
-		addI18nCIAlias("plural", "MEERVOUD:", "PLURAL:");
-		addI18nCIAlias("fullurl", "VOLLEDIGEURL:", "FULLURL:");
-		addI18nCIAlias("fullurle", "VOLLEDIGEURLE:", "FULLURLE:");
-		addI18nCIAlias("canonicalurl", "CANOIEKEURL:", "CANONICALURL:");
-		addI18nCIAlias("canonicalurle", "CANONIEKEURLE:", "CANONICALURLE:");
-		addI18nCIAlias("lcfirst", "KLEERSTE:", "LCFIRST:");
-		addI18nCIAlias("ucfirst", "GLEERSTE:", "HLEERSTE:", "UCFIRST:");
-		addI18nCIAlias("lc", "KL:", "LC:");
-		addI18nCIAlias("uc", "HL:", "UC:");
-		addI18nCIAlias("raw", "RAUW:", "RUW:", "RAW:");
-		addI18nAlias("displaytitle", "WEERGEGEVENTITEL", "TOONTITEL", "DISPLAYTITLE");
-		addI18nAlias("rawsuffix", "V", "R");
-		addI18nCIAlias("nocommafysuffix", "GEENSCHEIDINGSTEKEN", "NOSEP");
-		addI18nAlias("newsectionlink", "__NIEUWESECTIELINK__", "__NIEUWESECTIEKOPPELING__", "__NEWSECTIONLINK__");
-		addI18nAlias("nonewsectionlink", "__GEENNIEUWKOPJEKOPPELING__", "__GEENNIEUWESECTIELINK__", "__GEENNIEUWKOPJEVERWIJZING__", "__NONEWSECTIONLINK__");
-		addI18nAlias("currentversion", "HUIDIGEVERSIE", "CURRENTVERSION");
-		addI18nCIAlias("urlencode", "URLCODEREN", "CODEERURL", "URLENCODE:");
-		addI18nCIAlias("anchorencode", "ANKERCODEREN", "CODEERANKER", "ANCHORENCODE");
-		addI18nAlias("currenttimestamp", "HUIDIGETIJDSTEMPEL", "CURRENTTIMESTAMP");
-		addI18nAlias("localtimestamp", "PLAATSELIJKETIJDSTEMPEL", "LOKALETIJDSTEMPEL", "LOCALTIMESTAMP");
-		addI18nAlias("directionmark", "RICHTINGMARKERING", "RICHTINGSMARKERING", "DIRECTIONMARK", "DIRMARK");
-		addI18nCIAlias("language", "#TAAL:", "#LANGUAGE:");
-		addI18nAlias("contentlanguage", "INHOUDSTAAL", "INHOUDTAAL", "CONTENTLANGUAGE", "CONTENTLANG");
-		addI18nAlias("pagesinnamespace", "PAGINASINNAAMRUIMTE", "PAGINA’SINNAAMRUIMTE", "PAGINA'SINNAAMRUIMTE", "PAGESINNAMESPACE:", "PAGESINNS:");
-		addI18nAlias("numberofadmins", "AANTALBEHEERDERS", "AANTALADMINS", "NUMBEROFADMINS");
-		addI18nCIAlias("formatnum", "FORMATTEERNUM", "NUMFORMATTEREN", "FORMATNUM");
-		addI18nCIAlias("padleft", "LINKSOPVULLEN", "PADLEFT");
-		addI18nCIAlias("padright", "RECHTSOPVULLEN", "PADRIGHT");
-		addI18nCIAlias("speciale", "speciaale", "speciale");
-		addI18nAlias("defaultsort", "STANDAARDSORTERING:", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:");
-		addI18nCIAlias("filepath", "BESTANDSPAD:", "FILEPATH:");
-		addI18nCIAlias("tag", "label", "tag");
-		addI18nAlias("hiddencat", "__VERBORGENCAT__", "__HIDDENCAT__");
-		addI18nAlias("pagesincategory", "PAGINASINCATEGORIE", "PAGINASINCAT", "PAGESINCATEGORY", "PAGESINCAT");
-		addI18nAlias("pagesize", "PAGINAGROOTTE", "PAGESIZE");
-		addI18nAlias("noindex", "__GEENINDEX__", "__NOINDEX__");
-		addI18nAlias("numberingroup", "AANTALINGROEP", "NUMBERINGROUP", "NUMINGROUP");
-		addI18nAlias("staticredirect", "__STATISCHEDOORVERWIJZING__", "__STATISCHEREDIRECT__", "__STATICREDIRECT__");
-		addI18nAlias("protectionlevel", "BEVEILIGINGSNIVEAU", "PROTECTIONLEVEL");
-		addI18nCIAlias("formatdate", "datumopmaak", "formatdate", "dateformat");
-		addI18nCIAlias("url_path", "PAD", "PATH");
-		addI18nCIAlias("url_query", "ZOEKOPDRACHT", "QUERY");
-		addI18nCIAlias("defaultsort_noerror", "geenfout", "noerror");
-		addI18nCIAlias("defaultsort_noreplace", "nietvervangen", "noreplace");
-		addI18nCIAlias("pagesincategory_all", "alle", "all");
-		addI18nCIAlias("pagesincategory_pages", "paginas", "pages");
-		addI18nCIAlias("pagesincategory_subcats", "ondercategorieen", "subcats");
-		addI18nCIAlias("pagesincategory_files", "bestanden", "files");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://srn.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "srn";
-	}
-}
@@ -173,6 +173,7 @@ public class SwedishConfig extends TemplateConfig {
         addI18nAlias("protectionlevel", "SKYDDSNIVÅ", "PROTECTIONLEVEL");
         addI18nCIAlias("formatdate", "formateradatum", "datumformat", "formatdate", "dateformat");
 
+        addExcludedSections("sv");
     }
 
     private static final Pattern stubTextPattern = Pattern.compile("\\{\\{\\s*?([a-zA-Z0-9åäöÅÄÖ\\ ]*?stub)\\s*?\\}\\}", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
@@ -1,56 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class TcyConfig extends TemplateConfig {
-	public TcyConfig() {
-		addNamespaceAlias(-2, "ಮೀಡಿಯ");
-		addNamespaceAlias(-1, "ವಿಶೇಷ");
-		addNamespaceAlias(1, "ಚರ್ಚೆಪುಟ");
-		addNamespaceAlias(2, "ಸದಸ್ಯ");
-		addNamespaceAlias(3, "ಸದಸ್ಯರ_ಚರ್ಚೆಪುಟ");
-		addNamespaceAlias(5, "Wikipedia_ಚರ್ಚೆ");
-		addNamespaceAlias(6, "ಚಿತ್ರ");
-		addNamespaceAlias(7, "ಚಿತ್ರ_ಚರ್ಚೆಪುಟ");
-		addNamespaceAlias(8, "ಮೀಡಿಯವಿಕಿ");
-		addNamespaceAlias(9, "ಮೀಡೀಯವಿಕಿ_ಚರ್ಚೆ");
-		addNamespaceAlias(10, "ಟೆಂಪ್ಲೇಟು");
-		addNamespaceAlias(11, "ಟೆಂಪ್ಲೇಟು_ಚರ್ಚೆ");
-		addNamespaceAlias(12, "ಸಹಾಯ");
-		addNamespaceAlias(13, "ಸಹಾಯ_ಚರ್ಚೆ");
-		addNamespaceAlias(14, "ವರ್ಗ");
-		addNamespaceAlias(15, "ವರ್ಗ_ಚರ್ಚೆ");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://tcy.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "tcy";
-	}
-}
@@ -0,0 +1,49 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.wikipedia.lang;
+
+import org.sweble.wikitext.parser.nodes.WtTemplate;
+import org.sweble.wikitext.parser.nodes.WtValue;
+
+/**
+ * Renders the text of an inline template, e.g. {{nowrap|...}}, without expanding it.
+ * Renderers are registered per language by template name, see {@link TemplateConfig#addTemplateRenderer}.
+ */
+public interface TemplateRenderer {
+
+    /**
+     * The text output of the walker that found the template
+     */
+    interface Output {
+        /**
+         * @param text text to add to the output
+         */
+        void append(String text);
+
+        /**
+         * Add the text of an argument value, its markup is parsed and nested templates are rendered
+         * @param value the argument value
+         */
+        void render(WtValue value);
+    }
+
+    /**
+     * @param template the template
+     * @param output where the text of the template is written
+     */
+    void render(WtTemplate template, Output output);
+}
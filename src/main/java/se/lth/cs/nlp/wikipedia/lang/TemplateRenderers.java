@@ -0,0 +1,136 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 2 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.wikipedia.lang;
+
+import org.sweble.wikitext.parser.nodes.WtNode;
+import org.sweble.wikitext.parser.nodes.WtTemplate;
+import org.sweble.wikitext.parser.nodes.WtTemplateArgument;
+import org.sweble.wikitext.parser.nodes.WtText;
+import org.sweble.wikitext.parser.nodes.WtValue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+/**
+ * Common template renderers
+ */
+public class TemplateRenderers {
+
+    /** Words between the two values of a range in {{convert}} */
+    private static final HashSet<String> convertRanges = new HashSet<String>(Arrays.asList(
+            "-", "\u2013", "to", "to(-)", "and", "or", "by", "x", "+", "+/-"));
+
+    /**
+     * Renderer of a template with a fixed text, i.e. {{ndash}}
+     * @param text the text
+     * @return renderer
+     */
+    public static TemplateRenderer text(final String text) {
+        return new TemplateRenderer() {
+            @Override
+            public void render(WtTemplate template, Output output) {
+                output.append(text);
+            }
+        };
+    }
+
+    /**
+     * Renderer of a template with the text of one of its arguments, i.e. {{nowrap|text}} or {{lang|code|text}}
+     * @param position the position of the argument, starting at 1
+     * @return renderer
+     */
+    public static TemplateRenderer argument(final int position) {
+        return new TemplateRenderer() {
+            @Override
+            public void render(WtTemplate template, Output output) {
+                WtValue value = getArgument(template, position);
+                if(value != null)
+                    output.render(value);
+            }
+        };
+    }
+
+    /**
+     * Renderer of {{convert|value|unit|...}} and {{convert|value|to|value|unit|...}}, the value is written
+     * with its unit as given, i.e. "100 km", without the conversion.
+     */
+    public static final TemplateRenderer convert = new TemplateRenderer() {
+        @Override
+        public void render(WtTemplate template, Output output) {
+            WtValue value = getArgument(template, 1);
+            WtValue unit = getArgument(template, 2);
+            if(value == null || unit == null)
+                return;
+
+            WtValue end = null;
+            String range = getText(unit);
+            if(range != null && convertRanges.contains(range)) {
+                end = getArgument(template, 3);
+                unit = getArgument(template, 4);
+                if(end == null || unit == null)
+                    return;
+            }
+
+            output.render(value);
+            if(end != null) {
+                output.append(" ");
+                output.append(range);
+                output.append(" ");
+                output.render(end);
+            }
+
+            output.append(" ");
+            output.render(unit);
+        }
+    };
+
+    /**
+     * Get a positional argument, also when named by its position, i.e. 1=text. If given more than once the last wins.
+     * @param template the template
+     * @param position the position of the argument, starting at 1
+     * @return the argument value or null if not given
+     */
+    public static WtValue getArgument(WtTemplate template, int position) {
+        WtValue value = null;
+        int unnamed = 0;
+        for (WtNode node : template.getArgs()) {
+            if(!(node instanceof WtTemplateArgument))
+                continue;
+
+            WtTemplateArgument argument = (WtTemplateArgument)node;
+            if(!argument.hasName()) {
+                if(++unnamed == position)
+                    value = argument.getValue();
+            }
+            else if(argument.getName().isResolved() && argument.getName().getAsString().trim().equals(Integer.toString(position))) {
+                value = argument.getValue();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * @param value the argument value
+     * @return the trimmed text of a value that is only text, otherwise null
+     */
+    private static String getText(WtValue value) {
+        if(value.size() != 1 || !(value.get(0) instanceof WtText))
+            return null;
+
+        return ((WtText)value.get(0)).getContent().trim();
+    }
+}
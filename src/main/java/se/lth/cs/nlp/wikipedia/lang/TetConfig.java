@@ -1,56 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class TetConfig extends TemplateConfig {
-	public TetConfig() {
-		addNamespaceAlias(-2, "Media");
-		addNamespaceAlias(-1, "Espesiál");
-		addNamespaceAlias(1, "Diskusaun");
-		addNamespaceAlias(2, "Uza-na'in");
-		addNamespaceAlias(3, "Diskusaun_Uza-na'in");
-		addNamespaceAlias(5, "Diskusaun_Wikipedia");
-		addNamespaceAlias(6, "Imajen");
-		addNamespaceAlias(7, "Diskusaun_Imajen");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "Diskusaun_MediaWiki");
-		addNamespaceAlias(10, "Template");
-		addNamespaceAlias(11, "Diskusaun_Template");
-		addNamespaceAlias(12, "Ajuda");
-		addNamespaceAlias(13, "Diskusaun_Ajuda");
-		addNamespaceAlias(14, "Kategoria", "Kategoría");
-		addNamespaceAlias(15, "Diskusaun_Kategoria", "Diskusaun_Kategoría");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://tet.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "tet";
-	}
-}
@@ -1,56 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class TgConfig extends TemplateConfig {
-	public TgConfig() {
-		addNamespaceAlias(-2, "Медиа");
-		addNamespaceAlias(-1, "Вижа");
-		addNamespaceAlias(1, "Баҳс");
-		addNamespaceAlias(2, "Корбар");
-		addNamespaceAlias(3, "Баҳси_корбар");
-		addNamespaceAlias(5, "Баҳси_Wikipedia");
-		addNamespaceAlias(6, "Акс");
-		addNamespaceAlias(7, "Баҳси_акс");
-		addNamespaceAlias(8, "Медиавики");
-		addNamespaceAlias(9, "Баҳси_медиавики");
-		addNamespaceAlias(10, "Шаблон");
-		addNamespaceAlias(11, "Баҳси_шаблон");
-		addNamespaceAlias(12, "Роҳнамо");
-		addNamespaceAlias(13, "Баҳси_роҳнамо");
-		addNamespaceAlias(14, "Гурӯҳ");
-		addNamespaceAlias(15, "Баҳси_гурӯҳ");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://tg.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "tg";
-	}
-}
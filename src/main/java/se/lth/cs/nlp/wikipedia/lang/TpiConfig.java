@@ -1,55 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class TpiConfig extends TemplateConfig {
-	public TpiConfig() {
-		addNamespaceAlias(-1, "Sipesol");
-		addNamespaceAlias(1, "Toktok");
-		addNamespaceAlias(2, "Yusa");
-		addNamespaceAlias(3, "Toktok_bilong_yusa");
-		addNamespaceAlias(5, "Wikipedia_toktok");
-		addNamespaceAlias(6, "Fail");
-		addNamespaceAlias(7, "Toktok_bilong_fail");
-		addNamespaceAlias(8, "MediaWiki");
-		addNamespaceAlias(9, "Toktok_bilong_mediawiki");
-		addNamespaceAlias(10, "Templet");
-		addNamespaceAlias(11, "Toktok_bilong_templet");
-		addNamespaceAlias(12, "Halivim");
-		addNamespaceAlias(13, "Toktok_bilong_halivim");
-		addNamespaceAlias(14, "Grup");
-		addNamespaceAlias(15, "Toktok_bilong_grup");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://tpi.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "tpi";
-	}
-}
@@ -1,55 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class UgConfig extends TemplateConfig {
-	public UgConfig() {
-		addNamespaceAlias(-2, "ۋاسىتە");
-		addNamespaceAlias(-1, "ئالاھىدە");
-		addNamespaceAlias(1, "مۇنازىرە");
-		addNamespaceAlias(2, "ئىشلەتكۈچى");
-		addNamespaceAlias(3, "ئىشلەتكۈچى_مۇنازىرىسى");
-		addNamespaceAlias(5, "Wikipediaمۇنازىرىسى", "مۇنازىرىسىWikipedia");
-		addNamespaceAlias(6, "ھۆججەت");
-		addNamespaceAlias(7, "ھۆججەت_مۇنازىرىسى");
-		addNamespaceAlias(9, "MediaWiki_مۇنازىرىسى");
-		addNamespaceAlias(10, "قېلىپ");
-		addNamespaceAlias(11, "قېلىپ_مۇنازىرىسى");
-		addNamespaceAlias(12, "ياردەم");
-		addNamespaceAlias(13, "ياردەم_مۇنازىرىسى");
-		addNamespaceAlias(14, "تۈر");
-		addNamespaceAlias(15, "تۈر_مۇنازىرىسى");
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://ug.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "ug";
-	}
-}
@@ -1,159 +0,0 @@
-/**
- * This file is part of Wikiforia.
- *
- * Wikiforia is free software: you can redistribute it and/or modify
- * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
- * (at your option) any later version.
- *
- * Wikiforia is distributed in the hope that it will be useful,
- * but WITHOUT ANY WARRANTY; without even the implied warranty of
- * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
- * GNU General Public License for more details.
- *
- * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
- */
- package se.lth.cs.nlp.wikipedia.lang;
-
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class VotConfig extends TemplateConfig {
-	public VotConfig() {
-		addNamespaceAlias(-2, "Media");
-		addNamespaceAlias(-1, "Toiminnot");
-		addNamespaceAlias(1, "Keskustelu");
-		addNamespaceAlias(2, "Käyttäjä");
-		addNamespaceAlias(3, "Keskustelu_käyttäjästä");
-		addNamespaceAlias(5, "Keskustelu_{{GRAMMAR:elative|Wikipedia}}");
-		addNamespaceAlias(6, "Tiedosto", "Kuva");
-		addNamespaceAlias(7, "Keskustelu_tiedostosta", "Keskustelu_kuvasta");
-		addNamespaceAlias(8, "Järjestelmäviesti");
-		addNamespaceAlias(9, "Keskustelu_järjestelmäviestistä");
-		addNamespaceAlias(10, "Malline");
-		addNamespaceAlias(11, "Keskustelu_mallineesta");
-		addNamespaceAlias(12, "Ohje");
-		addNamespaceAlias(13, "Keskustelu_ohjeesta");
-		addNamespaceAlias(14, "Luokka");
-		addNamespaceAlias(15, "Keskustelu_luokasta");
-
-		addI18nCIAlias("redirect", "#OHJAUS", "#UUDELLEENOHJAUS", "#REDIRECT");
-		addI18nCIAlias("notoc", "__EISISLUETT__", "__NOTOC__");
-		addI18nCIAlias("forcetoc", "__SISLUETTPAKOTUS__", "__FORCETOC__");
-		addI18nCIAlias("toc", "__SISÄLLYSLUETTELO__", "__TOC__");
-		addI18nCIAlias("noeditsection", "__EIOSIOMUOKKAUSTA__", "__NOEDITSECTION__");
-		addI18nAlias("currentmonth", "KULUVAKUU", "CURRENTMONTH", "CURRENTMONTH2");
-		addI18nAlias("currentmonthname", "KULUVAKUUNIMI", "CURRENTMONTHNAME");
-		addI18nAlias("currentmonthnamegen", "KULUVAKUUNIMIGEN", "CURRENTMONTHNAMEGEN");
-		addI18nAlias("currentmonthabbrev", "KULUVAKUUNIMILYHYT", "CURRENTMONTHABBREV");
-		addI18nAlias("currentday", "KULUVAPÄIVÄ", "CURRENTDAY");
-		addI18nAlias("currentday2", "KULUVAPÄIVÄ2", "CURRENTDAY2");
-		addI18nAlias("currentdayname", "KULUVAPÄIVÄNIMI", "CURRENTDAYNAME");
-		addI18nAlias("currentyear", "KULUVAVUOSI", "CURRENTYEAR");
-		addI18nAlias("currenttime", "KULUVAAIKA", "CURRENTTIME");
-		addI18nAlias("currenthour", "KULUVATUNTI", "CURRENTHOUR");
-		addI18nAlias("localmonth", "PAIKALLINENKUU", "LOCALMONTH", "LOCALMONTH2");
-		addI18nAlias("localmonthname", "PAIKALLINENKUUNIMI", "LOCALMONTHNAME");
-		addI18nAlias("localmonthnamegen", "PAIKALLINENKUUNIMIGEN", "LOCALMONTHNAMEGEN");
-		addI18nAlias("localmonthabbrev", "PAIKALLINENKUUNIMILYHYT", "LOCALMONTHABBREV");
-		addI18nAlias("localday", "PAIKALLINENPÄIVÄ", "LOCALDAY");
-		addI18nAlias("localday2", "PAIKALLINENPÄIVÄ2", "LOCALDAY2");
-		addI18nAlias("localdayname", "PAIKALLINENPÄIVÄNIMI", "LOCALDAYNAME");
-		addI18nAlias("localyear", "PAIKALLINENVUOSI", "LOCALYEAR");
-		addI18nAlias("localtime", "PAIKALLINENAIKA", "LOCALTIME");
-		addI18nAlias("localhour", "PAIKALLINENTUNTI", "LOCALHOUR");
-		addI18nAlias("numberofpages", "SIVUMÄÄRÄ", "NUMBEROFPAGES");
-		addI18nAlias("numberofarticles", "ARTIKKELIMÄÄRÄ", "NUMBEROFARTICLES");
-		addI18nAlias("numberoffiles", "TIEDOSTOMÄÄRÄ", "NUMBEROFFILES");
-		addI18nAlias("numberofusers", "KÄYTTÄJÄMÄÄRÄ", "NUMBEROFUSERS");
-		addI18nAlias("numberofedits", "MUOKKAUSMÄÄRÄ", "NUMBEROFEDITS");
-		addI18nAlias("numberofviews", "SIVUHAKUMÄÄRÄ", "NUMBEROFVIEWS");
-		addI18nAlias("pagename", "SIVUNIMI", "PAGENAME");
-		addI18nAlias("pagenamee", "SIVUNIMIE", "PAGENAMEE");
-		addI18nAlias("namespace", "NIMIAVARUUS", "NAMESPACE");
-		addI18nAlias("namespacee", "NIMIAVARUUSE", "NAMESPACEE");
-		addI18nAlias("talkspace", "KESKUSTELUAVARUUS", "TALKSPACE");
-		addI18nAlias("talkspacee", "KESKUSTELUAVARUUSE", "TALKSPACEE");
-		addI18nAlias("subjectspace", "AIHEAVARUUS", "ARTIKKELIAVARUUS", "SUBJECTSPACE", "ARTICLESPACE");
-		addI18nAlias("subjectspacee", "AIHEAVARUUSE", "ARTIKKELIAVARUUSE", "SUBJECTSPACEE", "ARTICLESPACEE");
-		addI18nAlias("fullpagename", "KOKOSIVUNIMI", "FULLPAGENAME");
-		addI18nAlias("fullpagenamee", "KOKOSIVUNIMIE", "FULLPAGENAMEE");
-		addI18nAlias("subpagename", "ALASIVUNIMI", "SUBPAGENAME");
-		addI18nAlias("subpagenamee", "ALASIVUNIMIE", "SUBPAGENAMEE");
-		addI18nAlias("basepagename", "KANTASIVUNIMI", "BASEPAGENAME");
-		addI18nAlias("basepagenamee", "KANTASIVUNIMIE", "BASEPAGENAMEE");
-		addI18nAlias("talkpagename", "KESKUSTELUSIVUNIMI", "TALKPAGENAME");
-		addI18nAlias("talkpagenamee", "KESKUSTELUSIVUNIMIE", "TALKPAGENAMEE");
-		addI18nAlias("subjectpagename", "AIHESIVUNIMI", "ARTIKKELISIVUNIMI", "SUBJECTPAGENAME", "ARTICLEPAGENAME");
-		addI18nAlias("subjectpagenamee", "AIHESIVUNIMIE", "ARTIKKELISIVUNIMIE", "SUBJECTPAGENAMEE", "ARTICLEPAGENAMEE");
-		addI18nCIAlias("subst", "VASTINE:", "SUBST:");
-		addI18nAlias("img_thumbnail", "pienoiskuva", "pienois", "thumbnail", "thumb");
-		addI18nAlias("img_manualthumb", "pienoiskuva=$1", "pienois=$1", "thumbnail=$1", "thumb=$1");
-		addI18nAlias("img_right", "oikea", "right");
-		addI18nAlias("img_left", "vasen", "left");
-		addI18nAlias("img_none", "tyhjä", "none");
-		addI18nAlias("img_center", "keskitetty", "keski", "center", "centre");
-		addI18nAlias("img_framed", "kehys", "kehystetty", "framed", "enframed", "frame");
-		addI18nAlias("img_frameless", "kehyksetön", "frameless");
-		addI18nAlias("img_page", "sivu=$1", "sivu_$1", "page=$1", "page $1");
-		addI18nAlias("img_upright", "yläoikea", "yläoikea=$1", "yläoikea_$1", "upright", "upright=$1", "upright $1");
-		addI18nAlias("img_border", "reunus", "border");
-		addI18nAlias("img_baseline", "perustaso", "baseline");
-		addI18nAlias("img_sub", "alaindeksi", "sub");
-		addI18nAlias("img_super", "yläindeksi", "super", "sup");
-		addI18nAlias("img_top", "ylös", "ylhäällä", "top");
-		addI18nAlias("img_middle", "keskellä", "middle");
-		addI18nAlias("img_bottom", "alas", "alhaalla", "bottom");
-		addI18nAlias("img_link", "linkki=$1", "link=$1");
-		addI18nAlias("sitename", "SIVUSTONIMI", "SITENAME");
-		addI18nCIAlias("ns", "NA:", "NS:");
-		addI18nCIAlias("localurl", "PAIKALLINENOSOITE:", "LOCALURL:");
-		addI18nCIAlias("localurle", "PAIKALLINENOSOITEE:", "LOCALURLE:");
-		addI18nCIAlias("server", "PALVELIN", "SERVER");
-		addI18nCIAlias("servername", "PALVELINNIMI", "SERVERNAME");
-		addI18nCIAlias("scriptpath", "SKRIPTIPOLKU", "SCRIPTPATH");
-		addI18nCIAlias("grammar", "TAIVUTUS:", "GRAMMAR:");
-		addI18nCIAlias("gender", "SUKUPUOLI:", "GENDER:");
-		addI18nAlias("currentweek", "KULUVAVIIKKO", "CURRENTWEEK");
-		addI18nAlias("currentdow", "KULUVAVIIKONPÄIVÄ", "CURRENTDOW");
-		addI18nAlias("localweek", "PAIKALLINENVIIKKO", "LOCALWEEK");
-		addI18nAlias("localdow", "PAIKALLINENVIIKONPÄIVÄ", "LOCALDOW");
-		addI18nAlias("revisionid", "VERSIOID", "REVISIONID");
-		addI18nAlias("revisionday", "VERSIOPÄIVÄ", "REVISIONDAY");
-		addI18nAlias("revisionday2", "VERSIOPÄIVÄ2", "REVISIONDAY2");
-		addI18nAlias("revisionmonth", "VERSIOKUUKAUSI", "REVISIONMONTH");
-		addI18nAlias("revisionyear", "VERSIOVUOSI", "REVISIONYEAR");
-		addI18nAlias("revisiontimestamp", "VERSIOAIKALEIMA", "REVISIONTIMESTAMP");
-		addI18nCIAlias("plural", "MONIKKO:", "PLURAL:");
-		addI18nCIAlias("fullurl", "TÄYSIOSOITE:", "FULLURL:");
-		addI18nCIAlias("fullurle", "TÄYSIOSOITEE:", "FULLURLE:");
-		addI18nAlias("displaytitle", "NÄKYVÄOTSIKKO", "DISPLAYTITLE");
-		addI18nAlias("currentversion", "NYKYINENVERSIO", "CURRENTVERSION");
-		addI18nAlias("currenttimestamp", "KULUVAAIKALEIMA", "CURRENTTIMESTAMP");
-		addI18nAlias("localtimestamp", "PAIKALLINENAIKALEIMA", "LOCALTIMESTAMP");
-		addI18nCIAlias("language", "#KIELI:", "#LANGUAGE:");
-		addI18nAlias("numberofadmins", "YLLÄPITÄJÄMÄÄRÄ", "NUMBEROFADMINS");
-		addI18nCIAlias("formatnum", "MUOTOILELUKU", "FORMATNUM");
-		addI18nAlias("defaultsort", "AAKKOSTUS:", "OLETUSAAKKOSTUS:", "DEFAULTSORT:", "DEFAULTSORTKEY:", "DEFAULTCATEGORYSORT:");
-		addI18nCIAlias("filepath", "TIEDOSTOPOLKU:", "FILEPATH:");
-		addI18nAlias("hiddencat", "__PIILOLUOKKA__", "__HIDDENCAT__");
-		addI18nAlias("pagesize", "SIVUKOKO", "PAGESIZE");
-		addI18nAlias("noindex", "__HAKUKONEKIELTO__", "__NOINDEX__");
-		addI18nAlias("protectionlevel", "SUOJAUSTASO", "PROTECTIONLEVEL");
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://vot.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "vot";
-	}
-}
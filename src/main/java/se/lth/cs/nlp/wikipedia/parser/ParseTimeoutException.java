@@ -3,7 +3,7 @@
  *
  * Wikiforia is free software: you can redistribute it and/or modify
  * it under the terms of the GNU General Public License as published by
- * the Free Software Foundation, either version 2 of the License, or
+ * the Free Software Foundation, either version 3 of the License, or
  * (at your option) any later version.
  *
  * Wikiforia is distributed in the hope that it will be useful,
@@ -12,29 +12,15 @@
  * GNU General Public License for more details.
  *
  * You should have received a copy of the GNU General Public License
- * along with Wikiforia. If not, see <http://www.gnu.org/licenses/>.
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
  */
- package se.lth.cs.nlp.wikipedia.lang;
+package se.lth.cs.nlp.wikipedia.parser;
 
-//Autogenerated from Wikimedia sources at 2015-04-16T13:55:11+00:00
-
-public class IuConfig extends TemplateConfig {
-	public IuConfig() {
-
-	}
-
-	@Override
-	protected String getSiteName() {
-		return "Wikipedia";
-	}
-
-	@Override
-	protected String getWikiUrl() {
-		return "http://iu.wikipedia.org/";
-	}
-
-	@Override
-	public String getIso639() {
-		return "iu";
-	}
+/**
+ * Thrown when the parse of a page exceeded the budget of the watchdog
+ */
+public class ParseTimeoutException extends RuntimeException {
+    public ParseTimeoutException(String message) {
+        super(message);
+    }
 }
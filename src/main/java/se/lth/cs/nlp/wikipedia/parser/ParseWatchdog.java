@@ -0,0 +1,244 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.wikipedia.parser;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import se.lth.cs.nlp.mediawiki.model.Page;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Enforces a wall clock budget on page parses.
+ *
+ * Every calling thread hands its parses to a parse thread of its own and waits at most the budget for the result.
+ * The parser has no points where it checks for cancellation and stopping it can leave the parser classes in a
+ * broken state, a parse that exceeds the budget is therefore abandoned: the caller continues with a new parse thread
+ * while the old one finishes the page in the background and exits.
+ *
+ * The number of abandoned parses that are still running is capped, beyond the cap a new parse waits until an
+ * abandoned parse has finished so that runaway pages can not pile up threads and memory.
+ */
+public class ParseWatchdog {
+
+    /**
+     * Parse of a single page
+     */
+    public interface Task<T> {
+        T run(Page page);
+    }
+
+    /**
+     * A parse that can be abandoned by the caller
+     */
+    class Parse<T> implements Callable<T> {
+        private final Page page;
+        private final Task<T> task;
+        private boolean done = false;
+        private boolean abandoned = false;
+
+        public Parse(Page page, Task<T> task) {
+            this.page = page;
+            this.task = task;
+        }
+
+        @Override
+        public T call() throws Exception {
+            try {
+                return task.run(page);
+            }
+            finally {
+                boolean wasAbandoned;
+                synchronized (this) {
+                    done = true;
+                    wasAbandoned = abandoned;
+                }
+
+                if(wasAbandoned) {
+                    synchronized (running) {
+                        running.decrementAndGet();
+                        running.notifyAll();
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return true if the parse was still running
+         */
+        public synchronized boolean abandon() {
+            if(done)
+                return false;
+
+            abandoned = true;
+            running.incrementAndGet();
+            return true;
+        }
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(ParseWatchdog.class);
+
+    private final long budget;
+    private final int maxAbandoned;
+    private final AtomicLong abandoned = new AtomicLong();
+    private final AtomicLong waits = new AtomicLong();
+    private final AtomicInteger running = new AtomicInteger();
+    private final AtomicInteger counter = new AtomicInteger();
+    private final ConcurrentLinkedQueue<ExecutorService> executors = new ConcurrentLinkedQueue<ExecutorService>();
+    private final ThreadLocal<ExecutorService> executor = new ThreadLocal<ExecutorService>() {
+        @Override
+        protected ExecutorService initialValue() {
+            ExecutorService service = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "Page Parser " + counter.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+
+            executors.add(service);
+            return service;
+        }
+    };
+
+    /**
+     * Create a watchdog, at most as many abandoned parses as there are processors may run
+     * @param budget the maximum wall clock time of a parse in milliseconds
+     */
+    public ParseWatchdog(long budget) {
+        this(budget, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create a watchdog
+     * @param budget the maximum wall clock time of a parse in milliseconds
+     * @param maxAbandoned the maximum number of abandoned parses that may still run, new parses wait beyond it
+     */
+    public ParseWatchdog(long budget, int maxAbandoned) {
+        if(maxAbandoned < 1)
+            throw new IllegalArgumentException("maxAbandoned must be > 0");
+
+        this.budget = budget;
+        this.maxAbandoned = maxAbandoned;
+    }
+
+    /**
+     * @return the budget in milliseconds
+     */
+    public long getBudget() {
+        return budget;
+    }
+
+    /**
+     * @return the number of parses that exceeded the budget
+     */
+    public long getAbandoned() {
+        return abandoned.get();
+    }
+
+    /**
+     * @return the number of abandoned parses that are still running
+     */
+    public int getRunning() {
+        return running.get();
+    }
+
+    /**
+     * @return the maximum number of abandoned parses that may still run
+     */
+    public int getMaxAbandoned() {
+        return maxAbandoned;
+    }
+
+    /**
+     * @return the number of parses that waited for an abandoned parse to finish
+     */
+    public long getWaits() {
+        return waits.get();
+    }
+
+    /**
+     * Wait while the maximum number of abandoned parses are running
+     */
+    private void awaitCapacity() throws InterruptedException {
+        synchronized (running) {
+            if(running.get() < maxAbandoned)
+                return;
+
+            if(waits.getAndIncrement() == 0)
+                logger.warn("{} abandoned parses are still running, new parses wait for them to finish.", running.get());
+
+            while(running.get() >= maxAbandoned)
+                running.wait();
+        }
+    }
+
+    /**
+     * Shut down the parse threads, abandoned parses are left to finish.
+     */
+    public void close() {
+        ExecutorService service;
+        while((service = executors.poll()) != null) {
+            service.shutdown();
+        }
+    }
+
+    /**
+     * Run a parse under the budget, the calling thread waits for the result.
+     * @param page the page to parse
+     * @param task the parse, must be safe to run on another thread
+     * @return the result of the task
+     * @throws ParseTimeoutException if the parse exceeded the budget
+     */
+    public <T> T run(Page page, Task<T> task) {
+        Parse<T> parse = new Parse<T>(page, task);
+
+        try {
+            awaitCapacity();
+
+            ExecutorService service = executor.get();
+            Future<T> future = service.submit(parse);
+            try {
+                return future.get(budget, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if(parse.abandon()) {
+                    //the parse thread exits when the page is done
+                    service.shutdown();
+                    executors.remove(service);
+                    executor.remove();
+
+                    abandoned.incrementAndGet();
+                    throw new ParseTimeoutException(page.getTitle() + " exceeded the parse budget of " + budget + " ms");
+                }
+
+                //finished in the meantime
+                return future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if(e.getCause() instanceof RuntimeException)
+                throw (RuntimeException)e.getCause();
+            else
+                throw new RuntimeException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.wikipedia.parser;
+
+import se.lth.cs.nlp.mediawiki.model.Page;
+
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Keeps the N pages that took the longest time to parse.
+ */
+public class SlowPageReport {
+
+    /**
+     * Parse time of a page
+     */
+    public static class Entry implements Comparable<Entry> {
+        private final long id;
+        private final String title;
+        private final int length;
+        private final long nanos;
+        private final boolean overBudget;
+
+        public Entry(long id, String title, int length, long nanos, boolean overBudget) {
+            this.id = id;
+            this.title = title;
+            this.length = length;
+            this.nanos = nanos;
+            this.overBudget = overBudget;
+        }
+
+        public long getId() {
+            return id;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        /**
+         * @return the number of chars in the page content
+         */
+        public int getLength() {
+            return length;
+        }
+
+        /**
+         * @return the parse time in nanoseconds
+         */
+        public long getNanos() {
+            return nanos;
+        }
+
+        /**
+         * @return true if the parse exceeded the budget of the watchdog
+         */
+        public boolean isOverBudget() {
+            return overBudget;
+        }
+
+        @Override
+        public int compareTo(Entry o) {
+            return nanos < o.nanos ? -1 : (nanos == o.nanos ? 0 : 1);
+        }
+    }
+
+    private final int size;
+    private final PriorityQueue<Entry> slowest;
+
+    /**
+     * Create a report
+     * @param size the number of pages to keep
+     */
+    public SlowPageReport(int size) {
+        this.size = size;
+        this.slowest = new PriorityQueue<Entry>(size + 1);
+    }
+
+    /**
+     * Record the parse time of a page
+     * @param page the parsed page
+     * @param nanos the parse time in nanoseconds
+     * @param overBudget true if the parse exceeded the budget of the watchdog
+     */
+    public void add(Page page, long nanos, boolean overBudget) {
+        synchronized (slowest) {
+            if(slowest.size() == size && slowest.peek().nanos >= nanos)
+                return;
+
+            slowest.add(new Entry(page.getId(), page.getTitle(), page.getContent().length(), nanos, overBudget));
+            if(slowest.size() > size)
+                slowest.poll();
+        }
+    }
+
+    /**
+     * @return the slowest pages, slowest first
+     */
+    public List<Entry> getSlowest() {
+        ArrayList<Entry> entries;
+        synchronized (slowest) {
+            entries = new ArrayList<Entry>(slowest);
+        }
+
+        Collections.sort(entries, Collections.reverseOrder());
+        return entries;
+    }
+
+    @Override
+    public String toString() {
+        NumberFormat nf = NumberFormat.getIntegerInstance();
+        nf.setGroupingUsed(true);
+
+        List<Entry> entries = getSlowest();
+        StringBuilder sb = new StringBuilder();
+        sb.append("Slowest ").append(entries.size()).append(" pages:");
+        for (Entry entry : entries) {
+            sb.append("\n * ")
+              .append(nf.format(entry.nanos / 1000000)).append(" ms, ")
+              .append(nf.format(entry.length)).append(" chars, ")
+              .append(entry.id).append(": ")
+              .append(entry.title)
+              .append(entry.overBudget ? " (over budget)" : "");
+        }
+
+        return sb.toString();
+    }
+}
@@ -5,23 +5,101 @@ import org.sweble.wikitext.engine.PageId;
 import org.sweble.wikitext.engine.PageTitle;
 import org.sweble.wikitext.engine.WtEngineImpl;
 import org.sweble.wikitext.engine.config.WikiConfig;
+import org.sweble.wikitext.engine.nodes.EngPage;
 import org.sweble.wikitext.engine.nodes.EngProcessedPage;
+import org.sweble.wikitext.parser.nodes.WtNode;
+import org.sweble.wikitext.parser.nodes.WtParagraph;
 import org.sweble.wikitext.parser.parser.LinkTargetException;
 
+import java.util.IdentityHashMap;
+
 /**
  * Created by csz-mkg on 15-01-20.
  */
 public class SwebleParserUtil {
+
+    /** Engines are confined to the thread that uses them, one per config */
+    private static final ThreadLocal<IdentityHashMap<WikiConfig,WtEngineImpl>> engines = new ThreadLocal<IdentityHashMap<WikiConfig, WtEngineImpl>>() {
+        @Override
+        protected IdentityHashMap<WikiConfig, WtEngineImpl> initialValue() {
+            return new IdentityHashMap<WikiConfig, WtEngineImpl>();
+        }
+    };
+
+    /**
+     * Get the engine of the calling thread for a config, the engine is created on first use.
+     * @param config the wiki config
+     * @return engine that must only be used by the calling thread
+     */
+    public static WtEngineImpl getEngine(WikiConfig config) {
+        IdentityHashMap<WikiConfig, WtEngineImpl> threadEngines = engines.get();
+        WtEngineImpl engine = threadEngines.get(config);
+        if(engine == null) {
+            engine = new WtEngineImpl(config);
+            threadEngines.put(config, engine);
+        }
+
+        return engine;
+    }
+
+    /**
+     * Get the page id used by the engine
+     * @param config the wiki config
+     * @param title the page title
+     * @param revision the page revision
+     * @return page id
+     * @throws LinkTargetException if the title is not valid
+     */
+    public static PageId getPageId(WikiConfig config, String title, long revision) throws LinkTargetException {
+        return new PageId(PageTitle.make(config, title), revision);
+    }
+
     public static EngProcessedPage parseWikipage(WtEngineImpl engine, PageId pageId, String markup) throws EngineException {
         return engine.postprocess(pageId, markup, null);
     }
 
+    /**
+     * Parse markup that belongs to an already resolved page, i.e. parts of a page such as template arguments.
+     * @param config the wiki config
+     * @param pageId the page id, see {@link #getPageId(WikiConfig, String, long)}
+     * @param markup the markup to parse
+     * @return the processed page
+     * @throws EngineException
+     */
+    public static EngProcessedPage parsePage(WikiConfig config, PageId pageId, String markup) throws EngineException {
+        return parseWikipage(getEngine(config), pageId, markup);
+    }
+
     public static EngProcessedPage parsePage(WikiConfig config, String title, long revision, String markup) throws EngineException, LinkTargetException {
-        WtEngineImpl engine = new WtEngineImpl(config);
+        return parseWikipage(getEngine(config), getPageId(config, title, revision), markup);
+    }
+
+    /**
+     * @param text text of the preprocessed AST, i.e. a template argument
+     * @return true if the text may contain inline markup: links, bold and italics, tags or entities
+     */
+    public static boolean hasInlineMarkup(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if(ch == '[' || ch == '\'' || ch == '<' || ch == '&')
+                return true;
+        }
+        return false;
+    }
 
-        PageTitle pageTitle = PageTitle.make(config, title);
-        PageId pageId = new PageId(pageTitle, revision);
+    /**
+     * Parse inline markup, i.e. the text of a template argument that is rendered as part of a sentence.
+     * @param config the wiki config
+     * @param pageId the page id, see {@link #getPageId(WikiConfig, String, long)}
+     * @param markup the markup to parse
+     * @return the paragraph if the markup is a single paragraph, otherwise the page
+     * @throws EngineException
+     */
+    public static WtNode parseInline(WikiConfig config, PageId pageId, String markup) throws EngineException {
+        EngPage page = parsePage(config, pageId, markup).getPage();
+        if(page.size() == 1 && page.get(0) instanceof WtParagraph)
+            return page.get(0);
 
-        return parseWikipage(engine, pageId, markup);
+        return page;
     }
 }
@@ -17,23 +17,49 @@
 package se.lth.cs.nlp.wikipedia.parser;
 
 import de.fau.cs.osr.ptk.common.AstVisitor;
-import org.apache.commons.lang.StringUtils;
+import org.sweble.wikitext.engine.EngineException;
+import org.sweble.wikitext.engine.PageId;
 import org.sweble.wikitext.engine.PageTitle;
 import org.sweble.wikitext.engine.config.WikiConfig;
 import org.sweble.wikitext.engine.nodes.EngPage;
 import org.sweble.wikitext.parser.nodes.*;
 import org.sweble.wikitext.parser.parser.LinkTargetException;
+import se.lth.cs.nlp.wikipedia.lang.TemplateConfig;
+import se.lth.cs.nlp.wikipedia.lang.TemplateRenderer;
 
 /**
  * A Sweble AST walker that extracts text content from the parser AST tree.
  */
 public class SwebleTextAstWalker extends AstVisitor<WtNode> {
+    private final TemplateConfig templateConfig;
     private final WikiConfig config;
+    private final StringBuilder buffer;
 
     private StringBuilder sb;
 
+    /** The page of parsed template arguments, the walker does not know the title of the page */
+    private PageId argumentPageId;
+
+    private final TemplateRenderer.Output templateOutput = new TemplateRenderer.Output() {
+        @Override
+        public void append(String text) {
+            sb.append(text);
+        }
+
+        @Override
+        public void render(WtValue value) {
+            for (WtNode node : value) {
+                if(node instanceof WtText && SwebleParserUtil.hasInlineMarkup(((WtText) node).getContent()))
+                    renderMarkup(((WtText) node).getContent());
+                else
+                    dispatch(node);
+            }
+        }
+    };
+
     private String currentSectionTitle;
 
+    private boolean excludedSection;
     private boolean filterOutput;
     private boolean expectSectionTitle;
 
@@ -42,15 +68,82 @@ public class SwebleTextAstWalker extends AstVisitor<WtNode> {
 
     public SwebleTextAstWalker(WikiConfig config)
     {
+        this(config, null);
+    }
+
+    /**
+     * Walker with the English excluded sections and template renderers, for configs without a language config.
+     * @param config the wiki config
+     * @param buffer the text buffer, null for a new String for every walk
+     */
+    public SwebleTextAstWalker(WikiConfig config, StringBuilder buffer)
+    {
+        this(getDefaultTemplateConfig(), config, buffer);
+    }
+
+    public SwebleTextAstWalker(TemplateConfig config)
+    {
+        this(config, null);
+    }
+
+    /**
+     * Walker that writes into a reusable buffer, go() then returns the buffer instead of a String.
+     * The buffer is cleared when a walk starts, the walker and buffer must be confined to one thread.
+     * @param config the language config, which also decides the excluded sections
+     * @param buffer the text buffer
+     */
+    public SwebleTextAstWalker(TemplateConfig config, StringBuilder buffer)
+    {
+        this(config, config.get(), buffer);
+    }
+
+    private SwebleTextAstWalker(TemplateConfig templateConfig, WikiConfig config, StringBuilder buffer)
+    {
+        this.templateConfig = templateConfig;
         this.config = config;
+        this.buffer = buffer;
+    }
+
+    private static TemplateConfig defaultTemplateConfig;
+
+    /**
+     * @return the defaults of all language configs, only used for its excluded sections and template renderers
+     */
+    private static synchronized TemplateConfig getDefaultTemplateConfig() {
+        if(defaultTemplateConfig == null) {
+            defaultTemplateConfig = new TemplateConfig() {
+                @Override
+                protected String getSiteName() {
+                    return "Wikipedia";
+                }
+
+                @Override
+                protected String getWikiUrl() {
+                    return "http://en.wikipedia.org/";
+                }
+
+                @Override
+                public String getIso639() {
+                    return "en";
+                }
+            };
+        }
+        return defaultTemplateConfig;
     }
 
     @Override
     protected boolean before(WtNode node)
     {
         // This method is called by go() before visitation starts
-        sb = new StringBuilder();
+        if(buffer != null) {
+            sb = buffer;
+            sb.setLength(0);
+        }
+        else
+            sb = new StringBuilder();
+
         currentSectionTitle = "";
+        excludedSection = false;
         expectSectionTitle = false;
         return super.before(node);
     }
@@ -58,7 +151,7 @@ public class SwebleTextAstWalker extends AstVisitor<WtNode> {
     @Override
     protected Object after(WtNode node, Object result)
     {
-        return sb.toString();
+        return buffer != null ? sb : sb.toString();
     }
 
     // =========================================================================
@@ -96,8 +189,12 @@ public class SwebleTextAstWalker extends AstVisitor<WtNode> {
         int end = sb.length();
 
         if(start != end) {
-            String endpart = StringUtils.trim(sb.substring(start,end));
-            if(endpart.length() > 0 && !endpart.endsWith("."))
+            //the last char of the item when trimmed
+            int last = end - 1;
+            while(last >= start && sb.charAt(last) <= ' ')
+                last--;
+
+            if(last >= start && sb.charAt(last) != '.')
                 sb.append(". ");
             else
                 sb.append(" ");
@@ -112,13 +209,14 @@ public class SwebleTextAstWalker extends AstVisitor<WtNode> {
     public void visit(WtText text)
     {
         if(expectSectionTitle) {
-            if(!text.getContent().trim().equalsIgnoreCase("")) {
-                currentSectionTitle = text.getContent().trim();
+            String title = text.getContent().trim();
+            if(!title.isEmpty()) {
+                currentSectionTitle = title;
             }
             expectSectionTitle = false;
         }
 
-        if(!isInsideFilteredSection() && !text.getContent().replaceAll("[\n\r]", "").equalsIgnoreCase("")) {
+        if(!isInsideFilteredSection() && !TextNormalizer.isNewlines(text.getContent())) {
             sb.append(text.getContent());
         }
     }
@@ -143,7 +241,7 @@ public class SwebleTextAstWalker extends AstVisitor<WtNode> {
     public void visit(WtXmlCharRef cr)
     {
         if(!isInsideFilteredSection()) {
-            sb.append(Character.toChars(cr.getCodePoint()));
+            sb.appendCodePoint(cr.getCodePoint());
         }
     }
 
@@ -153,7 +251,7 @@ public class SwebleTextAstWalker extends AstVisitor<WtNode> {
         if (ch == null)
         {
             if(!isInsideFilteredSection()) {
-                sb.append('&' + er.getName() + ';');
+                sb.append('&').append(er.getName()).append(';');
             }
         }
         else
@@ -170,7 +268,7 @@ public class SwebleTextAstWalker extends AstVisitor<WtNode> {
         if (!wtUrl.getProtocol().isEmpty())
         {
             if(!isInsideFilteredSection()) {
-                sb.append(wtUrl.getProtocol() + ':');
+                sb.append(wtUrl.getProtocol()).append(':');
             }
         }
         if(!isInsideFilteredSection()) {
@@ -232,7 +330,7 @@ public class SwebleTextAstWalker extends AstVisitor<WtNode> {
         WtHeading heading = s.getHeading();
 
         iterate(s.getHeading());
-        String title = currentSectionTitle;
+        excludedSection = templateConfig.isExcludedSection(currentSectionTitle);
 
         expectSectionTitle = false;
         filterOutput = false;
@@ -300,9 +398,10 @@ public class SwebleTextAstWalker extends AstVisitor<WtNode> {
 
     public void visit(WtTemplate n)
     {
-        if(!isInsideFilteredSection()) {
-            if(n.toString().equalsIgnoreCase("WtTemplate([0] = WtName[WtText(\"spaced ndash\")], [1] = WtTemplateArguments[])")) {
-                sb.append(" - ");
+        if(!isInsideFilteredSection() && n.getName().isResolved()) {
+            TemplateRenderer renderer = templateConfig.getTemplateRenderer(n.getName().getAsString());
+            if(renderer != null) {
+                renderer.render(n, templateOutput);
             }
         }
     }
@@ -325,35 +424,22 @@ public class SwebleTextAstWalker extends AstVisitor<WtNode> {
 
     // =========================================================================
 
-    private boolean isInsideFilteredSection() {
-        if(filterOutput) {
-            return true;
-        }
+    private void renderMarkup(String markup) {
+        try {
+            if(argumentPageId == null)
+                argumentPageId = SwebleParserUtil.getPageId(config, "Template argument", -1);
 
-        if(this.currentSectionTitle.equalsIgnoreCase("See also") ||
-                this.currentSectionTitle.equalsIgnoreCase("Notes") ||
-                this.currentSectionTitle.equalsIgnoreCase("Writings") ||
-                this.currentSectionTitle.equalsIgnoreCase("References") ||
-                this.currentSectionTitle.equalsIgnoreCase("Publications") ||
-                this.currentSectionTitle.equalsIgnoreCase("Bibliography") ||
-                this.currentSectionTitle.equalsIgnoreCase("Bibliografi") ||
-                this.currentSectionTitle.equalsIgnoreCase("Further reading") ||
-                this.currentSectionTitle.equalsIgnoreCase("External links") ||
-                this.currentSectionTitle.equalsIgnoreCase("Se även") ||
-                this.currentSectionTitle.equalsIgnoreCase("Källor") ||
-                this.currentSectionTitle.equalsIgnoreCase("Externa länkar") ||
-                this.currentSectionTitle.equalsIgnoreCase("Referenser") ||
-                this.currentSectionTitle.equalsIgnoreCase("Litteratur") ||
-                this.currentSectionTitle.equalsIgnoreCase("参见") ||
-                this.currentSectionTitle.equalsIgnoreCase("相关条目") ||
-                this.currentSectionTitle.equalsIgnoreCase("注释") ||
-                this.currentSectionTitle.equalsIgnoreCase("参考资料") ||
-                this.currentSectionTitle.equalsIgnoreCase("外部链接") ||
-                this.currentSectionTitle.equalsIgnoreCase("参看")) {
-            return true;
-        } else {
-            return false;
+            iterate(SwebleParserUtil.parseInline(config, argumentPageId, markup));
         }
+        catch (EngineException e) {
+            sb.append(markup);
+        }
+        catch (LinkTargetException e) {
+            sb.append(markup);
+        }
+    }
 
+    private boolean isInsideFilteredSection() {
+        return filterOutput || excludedSection;
     }
-}
\ No newline at end of file
+}
@@ -16,22 +16,106 @@
  */
 package se.lth.cs.nlp.wikipedia.parser;
 
+import org.sweble.wikitext.engine.EngineException;
+import org.sweble.wikitext.engine.PageId;
 import org.sweble.wikitext.engine.config.WikiConfig;
 import org.sweble.wikitext.engine.nodes.EngProcessedPage;
+import org.sweble.wikitext.parser.parser.LinkTargetException;
+import se.lth.cs.nlp.mediawiki.model.FailedPage;
 import se.lth.cs.nlp.mediawiki.model.Page;
 import se.lth.cs.nlp.pipeline.Mapper;
 import se.lth.cs.nlp.wikipedia.lang.TemplateConfig;
 
+import java.text.NumberFormat;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * The Sweble parser base
  */
 public abstract class SwebleWikimarkupParserBase<T> extends Mapper<Page,T,Page> {
+    protected final TemplateConfig templateConfig;
     protected final WikiConfig config;
 
+    //Huge page lane: pages longer than the threshold are parsed by a separate bounded executor
+    private int hugePageThreshold = 0;
+    private boolean preserveOrder = false;
+    private boolean detached = false;
+    private ThreadPoolExecutor hugePageLane = null;
+    private volatile RuntimeException laneFailure = null;
+    private final LaneStats smallPages = new LaneStats("Small page lane");
+    private final LaneStats hugePages = new LaneStats("Huge page lane");
+
+    private TemplateExpansion templateExpansion = null;
+    private ParseWatchdog watchdog = null;
+    private SlowPageReport slowPages = null;
+    private final ParseWatchdog.Task<T> parseTask = new ParseWatchdog.Task<T>() {
+        @Override
+        public T run(Page page) {
+            return parse(page);
+        }
+    };
+
+    /**
+     * Throughput counters of a lane
+     */
+    public static class LaneStats {
+        private final String name;
+        private final AtomicLong pages = new AtomicLong();
+        private final AtomicLong chars = new AtomicLong();
+        private final AtomicLong nanos = new AtomicLong();
+
+        public LaneStats(String name) {
+            this.name = name;
+        }
+
+        public void add(Page page, long elapsed) {
+            pages.incrementAndGet();
+            chars.addAndGet(page.getContent().length());
+            nanos.addAndGet(elapsed);
+        }
+
+        /**
+         * @return the number of parsed pages
+         */
+        public long getPages() {
+            return pages.get();
+        }
+
+        /**
+         * @return the number of chars in the parsed pages
+         */
+        public long getChars() {
+            return chars.get();
+        }
+
+        /**
+         * @return the total parse time in nanoseconds, summed over all threads
+         */
+        public long getNanos() {
+            return nanos.get();
+        }
+
+        @Override
+        public String toString() {
+            NumberFormat nf = NumberFormat.getIntegerInstance();
+            nf.setGroupingUsed(true);
+
+            double seconds = Math.max(nanos.get(), 1) / 1e9;
+            return String.format("%s: %s pages, %s chars, %s pages/s, %s chars/s per thread",
+                                 name,
+                                 nf.format(pages.get()),
+                                 nf.format(chars.get()),
+                                 nf.format(pages.get() / seconds),
+                                 nf.format(chars.get() / seconds));
+        }
+    }
+
     public SwebleWikimarkupParserBase(TemplateConfig config) {
+        this.templateConfig = config;
         this.config = config.get();
     }
 
@@ -45,14 +129,24 @@ public abstract class SwebleWikimarkupParserBase<T> extends Mapper<Page,T,Page>
         throw new UnsupportedOperationException();
     }
 
+    /**
+     * Parse the markup of a page, its templates are expanded if enabled
+     * @param page the page
+     * @return the processed page that contains the AST
+     * @throws EngineException
+     * @throws LinkTargetException if the title is not valid
+     */
+    protected EngProcessedPage parseWikipage(Page page) throws EngineException, LinkTargetException {
+        PageId pageId = SwebleParserUtil.getPageId(config, page.getTitle(), page.getRevision());
+        if(templateExpansion != null)
+            return templateExpansion.parsePage(config, pageId, page.getContent());
+        else
+            return SwebleParserUtil.parsePage(config, pageId, page.getContent());
+    }
+
     public T parse(Page page) {
         try {
-            return extract(page, SwebleParserUtil.parsePage(
-                    config,
-                    page.getTitle(),
-                    page.getRevision(),
-                    page.getContent())
-            );
+            return extract(page, parseWikipage(page));
         }
         catch (Exception ex)
         {
@@ -64,18 +158,245 @@ public abstract class SwebleWikimarkupParserBase<T> extends Mapper<Page,T,Page>
         return config;
     }
 
+    /**
+     * @return the language config that the Sweble config was built from
+     */
+    public TemplateConfig getTemplateConfig() {
+        return templateConfig;
+    }
+
+    /**
+     * Parse huge pages on a separate bounded executor, so that they do not hold up the smaller pages of their batch.
+     *
+     * The calling thread parses and emits the small pages of a batch while the huge pages are parsed by the lane,
+     * it then waits for the huge pages and emits them. A batch is therefore still completely emitted when process
+     * returns and it is emitted by the calling thread, as required by sequenced and checkpointed sources.
+     *
+     * A detached lane emits the huge pages itself and process returns without waiting for them, the calling thread
+     * is then free to parse its next batch. Only for sources that are neither sequenced nor checkpointed, their
+     * batches must be completely emitted when process returns. The end signal waits for the lane to finish.
+     *
+     * @param threshold pages with more chars of content than this are huge
+     * @param threads the number of threads parsing huge pages
+     * @param capacity the number of huge pages that may wait for a thread, the caller parses the page if the lane is full
+     * @param preserveOrder emit the pages of a batch in the original order, the small pages are then emitted
+     *                      together with the huge pages instead of directly. Ignored by a detached lane.
+     * @param detached emit huge pages from the lane without waiting for them
+     */
+    public void enableHugePageLane(int threshold, int threads, int capacity, boolean preserveOrder, boolean detached) {
+        final AtomicInteger counter = new AtomicInteger();
+
+        this.hugePageThreshold = threshold;
+        this.preserveOrder = preserveOrder && !detached;
+        this.detached = detached;
+        this.hugePageLane = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                                                   new ArrayBlockingQueue<Runnable>(capacity),
+                                                   new ThreadFactory() {
+                                                       @Override
+                                                       public Thread newThread(Runnable r) {
+                                                           Thread thread = new Thread(r, "Huge Page Parser " + counter.getAndIncrement());
+                                                           thread.setDaemon(true);
+                                                           return thread;
+                                                       }
+                                                   },
+                                                   new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * Expand the templates of pages before the text is extracted, templates that are not expanded
+     * are handled as without expansion.
+     * @param expansion the templates and the limits of the expansion, null for no expansion
+     */
+    public void setTemplateExpansion(TemplateExpansion expansion) {
+        this.templateExpansion = expansion;
+    }
+
+    /**
+     * @return the template expansion, null if not enabled
+     */
+    public TemplateExpansion getTemplateExpansion() {
+        return templateExpansion;
+    }
+
+    /**
+     * Abandon parses that take longer than the budget, these pages are sent to the error sink
+     * as a {@link FailedPage} with reason {@link FailedPage.Reason#TIMEOUT}.
+     * @param budget the maximum parse time of a page in milliseconds, 0 for no budget
+     */
+    public void setParseBudget(long budget) {
+        this.watchdog = budget > 0 ? new ParseWatchdog(budget) : null;
+    }
+
+    /**
+     * Log the slowest pages and their parse times at the end of the dump
+     * @param size the number of pages to report, 0 for no report
+     */
+    public void setSlowPageReport(int size) {
+        this.slowPages = size > 0 ? new SlowPageReport(size) : null;
+    }
+
+    /**
+     * @return the slowest pages so far, null if not enabled
+     */
+    public SlowPageReport getSlowPageReport() {
+        return slowPages;
+    }
+
+    /**
+     * @return the counters of pages parsed by the calling threads
+     */
+    public LaneStats getSmallPageStats() {
+        return smallPages;
+    }
+
+    /**
+     * @return the counters of pages parsed by the huge page lane
+     */
+    public LaneStats getHugePageStats() {
+        return hugePages;
+    }
+
+    /**
+     * Parse a page under the budget and count it in a lane
+     */
+    private T parse(Page page, LaneStats lane) {
+        long start = System.nanoTime();
+        boolean overBudget = false;
+        try {
+            return watchdog != null ? watchdog.run(page, parseTask) : parse(page);
+        }
+        catch (ParseTimeoutException ex) {
+            overBudget = true;
+            throw ex;
+        }
+        finally {
+            long elapsed = System.nanoTime() - start;
+            lane.add(page, elapsed);
+            if(slowPages != null)
+                slowPages.add(page, elapsed, overBudget);
+        }
+    }
+
+    /**
+     * Wrap a page that could not be parsed with the reason
+     */
+    private static FailedPage failure(Page page, Throwable ex) {
+        if(ex instanceof ParseTimeoutException)
+            return new FailedPage(page, FailedPage.Reason.TIMEOUT, ex.getMessage());
+        else
+            return new FailedPage(page, FailedPage.Reason.ERROR, String.valueOf(ex.getCause() != null ? ex.getCause() : ex));
+    }
+
+    /**
+     * Parse and emit a huge page in the lane, failures of the pipeline after the parser are rethrown by process
+     */
+    private void emitDetached(Page page) {
+        try {
+            T result;
+            try {
+                result = parse(page, hugePages);
+            } catch (Exception ex) {
+                ArrayList<Page> failed = new ArrayList<Page>(1);
+                failed.add(failure(page, ex));
+                error(failed);
+                return;
+            }
+
+            ArrayList<T> single = new ArrayList<T>(1);
+            single.add(result);
+            output(single);
+        } catch (RuntimeException ex) {
+            if(laneFailure == null)
+                laneFailure = ex;
+        }
+    }
+
     @Override
     public void process(List<Page> batch) {
+        if(laneFailure != null)
+            throw laneFailure;
+
+        if(batch.isEmpty()) {
+            //end signal, every batch has been completed by the threads that emitted it
+            if(hugePageLane != null) {
+                hugePageLane.shutdown();
+                if(detached) {
+                    //detached huge pages are emitted before the end signal
+                    try {
+                        while(!hugePageLane.awaitTermination(1, TimeUnit.SECONDS)) {
+                            //keep waiting, the parses are bounded by the parse budget
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RuntimeException(e);
+                    }
+
+                    if(laneFailure != null)
+                        throw laneFailure;
+                }
+                log(smallPages.toString(), hugePages.toString());
+            }
+
+            if(watchdog != null) {
+                watchdog.close();
+                log(String.format("Parses abandoned after %d ms: %d, still running: %d, parses that waited for the %d abandoned parses allowed to run: %d",
+                                  watchdog.getBudget(), watchdog.getAbandoned(), watchdog.getRunning(), watchdog.getMaxAbandoned(), watchdog.getWaits()));
+            }
+
+            if(slowPages != null)
+                log(slowPages.toString());
+
+            if(templateExpansion != null)
+                log(templateExpansion.toString());
+        }
+
         ArrayList<T> mapped = new ArrayList<T>(batch.size());
         ArrayList<Page> failed = new ArrayList<Page>();
 
-        for(Page page : batch) {
+        //Results in batch order, either a result or a future of a huge page
+        ArrayList<Object> ordered = preserveOrder && hugePageLane != null ? new ArrayList<Object>(batch.size()) : null;
+        ArrayList<Future<T>> huge = new ArrayList<Future<T>>();
+        ArrayList<Page> hugeSource = new ArrayList<Page>();
+        int numDetached = 0;
+
+        for(final Page page : batch) {
             if(page.getFormat().equals("text/x-wiki")) {
+                if(hugePageLane != null && page.getContent().length() > hugePageThreshold) {
+                    if(detached) {
+                        hugePageLane.execute(new Runnable() {
+                            @Override
+                            public void run() {
+                                emitDetached(page);
+                            }
+                        });
+
+                        numDetached++;
+                        continue;
+                    }
+
+                    Future<T> future = hugePageLane.submit(new Callable<T>() {
+                        @Override
+                        public T call() throws Exception {
+                            return parse(page, hugePages);
+                        }
+                    });
+
+                    huge.add(future);
+                    hugeSource.add(page);
+                    if(ordered != null)
+                        ordered.add(future);
+
+                    continue;
+                }
 
                 try {
-                    mapped.add(parse(page));
+                    T result = parse(page, smallPages);
+                    if(ordered != null)
+                        ordered.add(result);
+                    else
+                        mapped.add(result);
                 } catch (Exception ex) {
-                    failed.add(page);
+                    failed.add(failure(page, ex));
                 }
             }
             else
@@ -85,7 +406,46 @@ public abstract class SwebleWikimarkupParserBase<T> extends Mapper<Page,T,Page>
             }
         }
 
-        output(mapped);
+        if(ordered == null) {
+            //an empty output is taken for the end signal, not emitted when all pages of the batch went to the lane
+            if(!mapped.isEmpty() || (huge.isEmpty() && numDetached == 0))
+                output(mapped);
+
+            for (int i = 0; i < huge.size(); i++) {
+                try {
+                    ArrayList<T> single = new ArrayList<T>(1);
+                    single.add(huge.get(i).get());
+                    output(single);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(e);
+                } catch (ExecutionException e) {
+                    failed.add(failure(hugeSource.get(i), e.getCause()));
+                }
+            }
+        }
+        else {
+            for (Object item : ordered) {
+                if(item instanceof Future) {
+                    int i = huge.indexOf(item);
+                    try {
+                        mapped.add(huge.get(i).get());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RuntimeException(e);
+                    } catch (ExecutionException e) {
+                        failed.add(failure(hugeSource.get(i), e.getCause()));
+                    }
+                }
+                else {
+                    @SuppressWarnings("unchecked")
+                    T result = (T)item;
+                    mapped.add(result);
+                }
+            }
+
+            output(mapped);
+        }
 
         if(failed.size() > 0)
             error(failed);
@@ -21,31 +21,54 @@ import se.lth.cs.nlp.mediawiki.model.Page;
 import se.lth.cs.nlp.mediawiki.model.WikipediaPage;
 import se.lth.cs.nlp.wikipedia.lang.TemplateConfig;
 
-import java.util.regex.Pattern;
-
 /**
  * Sweble Wikimarkup to text
  */
 public class SwebleWikimarkupToText extends SwebleWikimarkupParserBase<WikipediaPage> {
 
+    /** Buffers larger than this are released after a page instead of kept for the next */
+    private static final int MAX_RETAINED_CAPACITY = 1024 * 1024;
+
+    /**
+     * The walker and normalizer of a thread, with buffers reused from page to page
+     */
+    private final class TextExtractor {
+        private final StringBuilder text = new StringBuilder(16 * 1024);
+        private final StringBuilder normalized = new StringBuilder(16 * 1024);
+        private final SwebleTextAstWalker walker = new SwebleTextAstWalker(templateConfig, text);
+        private final TextNormalizer normalizer = new TextNormalizer(normalized);
+
+        public String extract(EngProcessedPage cp) {
+            walker.go(cp.getPage());
+            normalizer.reset();
+            normalizer.append(text);
+            String result = normalizer.toString();
+
+            release(text);
+            release(normalized);
+            return result;
+        }
+
+        private void release(StringBuilder buffer) {
+            buffer.setLength(0);
+            if(buffer.capacity() > MAX_RETAINED_CAPACITY)
+                buffer.trimToSize();
+        }
+    }
+
+    private final ThreadLocal<TextExtractor> extractors = new ThreadLocal<TextExtractor>() {
+        @Override
+        protected TextExtractor initialValue() {
+            return new TextExtractor();
+        }
+    };
+
     public SwebleWikimarkupToText(TemplateConfig config) {
         super(config);
     }
 
-    private final Pattern trimLineStartFix = Pattern.compile("^[\\t ]+", Pattern.MULTILINE);
-    private final Pattern trimLineEndFix = Pattern.compile("[\\t ]+$", Pattern.MULTILINE);
-
     @Override
     protected WikipediaPage extract(Page page, EngProcessedPage cp) {
-        SwebleTextAstWalker walker = new SwebleTextAstWalker(config);
-        String text = (String)walker.go(cp.getPage());
-        text = text.replaceAll("\\(\\s*\\)", " ");
-        text = text.replaceAll(" {2,}", " ");
-        text = text.replaceAll("\n{2,}", "\n\n");
-        text = trimLineStartFix.matcher(text).replaceAll("");
-        text = trimLineEndFix.matcher(text).replaceAll("");
-        text = text.trim();
-
-        return new WikipediaPage(page, text);
+        return new WikipediaPage(page, extractors.get().extract(cp));
     }
 }
@@ -0,0 +1,242 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.wikipedia.parser;
+
+import org.sweble.wikitext.engine.*;
+import org.sweble.wikitext.engine.config.WikiConfig;
+import org.sweble.wikitext.engine.nodes.EngProcessedPage;
+import org.sweble.wikitext.parser.ParserConfig;
+import org.sweble.wikitext.parser.WikitextEncodingValidator;
+import org.sweble.wikitext.parser.WikitextPreprocessor;
+import org.sweble.wikitext.parser.WtEntityMap;
+import org.sweble.wikitext.parser.WtEntityMapImpl;
+import org.sweble.wikitext.parser.encval.ValidatedWikitext;
+import org.sweble.wikitext.parser.nodes.WtNodeList;
+import org.sweble.wikitext.parser.nodes.WtPreproWikitextPage;
+
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Expands the templates of pages with the templates of a {@link TemplateStore}.
+ *
+ * Templates are expanded by Sweble, this class only supplies the template text and limits the work:
+ * a template nested deeper than the maximum depth or requested after the time budget of the page is spent is
+ * left unexpanded, it is then handled as if there was no such template. Every thread keeps an LRU cache of
+ * preprocessed templates, a template that is used again is expanded from a copy of its cached AST.
+ */
+public class TemplateExpansion {
+    /** The maximum template depth of MediaWiki */
+    public static final int DEFAULT_MAX_DEPTH = 40;
+    public static final long DEFAULT_BUDGET = 1000;
+    public static final int DEFAULT_CACHE_SIZE = 256;
+
+    private final TemplateStore store;
+    private final int maxDepth;
+    private final long budget;
+    private final int cacheSize;
+
+    private final AtomicLong expanded = new AtomicLong();
+    private final AtomicLong missing = new AtomicLong();
+    private final AtomicLong tooDeep = new AtomicLong();
+    private final AtomicLong overBudget = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+
+    /** Engines are confined to the thread that uses them, one per config */
+    private final ThreadLocal<IdentityHashMap<WikiConfig,Engine>> engines = new ThreadLocal<IdentityHashMap<WikiConfig,Engine>>() {
+        @Override
+        protected IdentityHashMap<WikiConfig, Engine> initialValue() {
+            return new IdentityHashMap<WikiConfig, Engine>();
+        }
+    };
+
+    /**
+     * Expansion with the default limits
+     * @param store the templates
+     */
+    public TemplateExpansion(TemplateStore store) {
+        this(store, DEFAULT_MAX_DEPTH, DEFAULT_BUDGET);
+    }
+
+    /**
+     * @param store the templates
+     * @param maxDepth the maximum depth of nested templates
+     * @param budget the maximum time in milliseconds to spend on the templates of a page, 0 for no budget
+     */
+    public TemplateExpansion(TemplateStore store, int maxDepth, long budget) {
+        this(store, maxDepth, budget, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param store the templates
+     * @param maxDepth the maximum depth of nested templates
+     * @param budget the maximum time in milliseconds to spend on the templates of a page, 0 for no budget
+     * @param cacheSize the number of preprocessed templates cached by every thread, 0 for no cache
+     */
+    public TemplateExpansion(TemplateStore store, int maxDepth, long budget, int cacheSize) {
+        this.store = store;
+        this.maxDepth = maxDepth;
+        this.budget = budget;
+        this.cacheSize = cacheSize;
+    }
+
+    /**
+     * @return the templates
+     */
+    public TemplateStore getStore() {
+        return store;
+    }
+
+    /**
+     * Template text of a single page, counts the work done for the page
+     */
+    private class Callback implements ExpansionCallback {
+        private final long deadline;
+        private boolean exhausted = false;
+
+        public Callback() {
+            this.deadline = System.nanoTime() + budget * 1000000L;
+        }
+
+        @Override
+        public FullPage retrieveWikitext(ExpansionFrame frame, PageTitle title) throws Exception {
+            int depth = 0;
+            for(ExpansionFrame parent = frame; parent.getParentFrame() != null; parent = parent.getParentFrame()) {
+                depth++;
+            }
+
+            if(depth >= maxDepth) {
+                tooDeep.incrementAndGet();
+                return null;
+            }
+
+            if(exhausted || (budget > 0 && System.nanoTime() > deadline)) {
+                if(!exhausted)
+                    overBudget.incrementAndGet();
+
+                exhausted = true;
+                return null;
+            }
+
+            String text = store.get(title);
+            if(text == null) {
+                missing.incrementAndGet();
+                return null;
+            }
+
+            expanded.incrementAndGet();
+            return new FullPage(new PageId(title, -1), text);
+        }
+
+        @Override
+        public String fileUrl(PageTitle title, int width, int height) throws Exception {
+            return null;
+        }
+    }
+
+    /**
+     * Engine that preprocesses every template once per thread and keeps the AST in an LRU cache
+     */
+    private class Engine extends WtEngineImpl {
+        private final ParserConfig parserConfig;
+        private final WikitextEncodingValidator validator = new WikitextEncodingValidator();
+        private final LinkedHashMap<String,WtPreproWikitextPage> cache = new LinkedHashMap<String,WtPreproWikitextPage>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, WtPreproWikitextPage> eldest) {
+                return size() > cacheSize;
+            }
+        };
+
+        public Engine(WikiConfig config) {
+            super(config);
+            this.parserConfig = config.getParserConfig();
+        }
+
+        @Override
+        protected EngProcessedPage preprocessAndExpand(ExpansionCallback callback,
+                                                       PageId pageId,
+                                                       String wikitext,
+                                                       boolean forInclusion,
+                                                       WtEntityMap entityMap,
+                                                       Map<String, WtNodeList> arguments,
+                                                       ExpansionFrame rootFrame,
+                                                       ExpansionFrame parentFrame) throws EngineException {
+            if(!forInclusion || cacheSize == 0)
+                return super.preprocessAndExpand(callback, pageId, wikitext, forInclusion, entityMap, arguments, rootFrame, parentFrame);
+
+            String title = pageId.getTitle().getDenormalizedFullTitle();
+            WtPreproWikitextPage ast = cache.get(title);
+            if(ast == null) {
+                try {
+                    //entities are numbered per page, a template with entities can not be shared between pages
+                    WtEntityMapImpl entities = new WtEntityMapImpl();
+                    ValidatedWikitext validated = validator.validate(parserConfig, entities, title, wikitext);
+                    if(!entities.isEmpty())
+                        return super.preprocessAndExpand(callback, pageId, wikitext, forInclusion, entityMap, arguments, rootFrame, parentFrame);
+
+                    ast = (WtPreproWikitextPage) new WikitextPreprocessor(parserConfig).parseArticle(validated, title, true);
+                } catch (Exception e) {
+                    //reported by the engine
+                    return super.preprocessAndExpand(callback, pageId, wikitext, forInclusion, entityMap, arguments, rootFrame, parentFrame);
+                }
+
+                cache.put(title, ast);
+            }
+            else
+                cacheHits.incrementAndGet();
+
+            //the expansion replaces nodes of the AST, the cached AST is kept as it was preprocessed
+            return expand(callback, pageId, (WtPreproWikitextPage) ast.deepCloneWrapException(), entityMap, true, arguments, rootFrame, parentFrame);
+        }
+    }
+
+    /**
+     * Get the engine of the calling thread for a config, the engine is created on first use.
+     * @param config the wiki config
+     * @return engine that must only be used by the calling thread
+     */
+    private Engine getEngine(WikiConfig config) {
+        IdentityHashMap<WikiConfig, Engine> threadEngines = engines.get();
+        Engine engine = threadEngines.get(config);
+        if(engine == null) {
+            engine = new Engine(config);
+            threadEngines.put(config, engine);
+        }
+
+        return engine;
+    }
+
+    /**
+     * Parse a page and expand its templates
+     * @param config the wiki config
+     * @param pageId the page id, see {@link SwebleParserUtil#getPageId(WikiConfig, String, long)}
+     * @param markup the markup of the page
+     * @return the processed page
+     * @throws EngineException
+     */
+    public EngProcessedPage parsePage(WikiConfig config, PageId pageId, String markup) throws EngineException {
+        return getEngine(config).postprocess(pageId, markup, new Callback());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Template expansion: %d expanded (%d from the cache), %d missing, %d deeper than %d, %d pages over the budget of %d ms",
+                             expanded.get(), cacheHits.get(), missing.get(), tooDeep.get(), maxDepth, overBudget.get(), budget);
+    }
+}
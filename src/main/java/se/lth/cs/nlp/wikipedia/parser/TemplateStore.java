@@ -0,0 +1,249 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.wikipedia.parser;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sweble.wikitext.engine.PageTitle;
+import org.sweble.wikitext.engine.config.WikiConfig;
+import org.sweble.wikitext.parser.parser.LinkTargetException;
+import se.lth.cs.nlp.mediawiki.model.Page;
+import se.lth.cs.nlp.pipeline.PipelineBuilder;
+import se.lth.cs.nlp.pipeline.Sink;
+import se.lth.cs.nlp.pipeline.Source;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * The template pages of a dump, used to expand templates.
+ *
+ * The text of the templates is appended as UTF-8 to a file that is memory mapped when the store is complete,
+ * only the index from title to position is kept on the heap. The store is filled as a sink of a pass over
+ * the dump, pages that are not templates are ignored.
+ */
+public class TemplateStore implements Sink<Page>, Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(TemplateStore.class);
+    private static final Charset UTF8 = Charset.forName("UTF-8");
+
+    /** The namespace of templates */
+    public static final int TEMPLATE_NAMESPACE = 10;
+
+    //Positions are packed as offset << LENGTH_BITS | length, a text never crosses a segment
+    private static final int LENGTH_BITS = 24;
+    private static final int MAX_LENGTH = (1 << LENGTH_BITS) - 1;
+    private static final long SEGMENT_SIZE = 1L << 30;
+
+    private final WikiConfig config;
+    private final long segmentSize;
+    private final int maxLength;
+    private final File file;
+    private final HashMap<String,Long> index = new HashMap<String,Long>();
+    private OutputStream writer;
+    private long size = 0;
+    private volatile ByteBuffer[] segments = null;
+
+    /**
+     * Create an empty store in a temporary file
+     * @param config the wiki config, used to normalize titles
+     */
+    public TemplateStore(WikiConfig config) {
+        this(config, SEGMENT_SIZE);
+    }
+
+    /**
+     * Create an empty store in a temporary file
+     * @param config the wiki config, used to normalize titles
+     * @param segmentSize the size of the mapped segments, templates larger than a segment are ignored
+     */
+    TemplateStore(WikiConfig config, long segmentSize) {
+        this.config = config;
+        this.segmentSize = segmentSize;
+        this.maxLength = (int)Math.min(MAX_LENGTH, segmentSize);
+        try {
+            this.file = File.createTempFile("wikiforia-templates", ".bin");
+            this.file.deleteOnExit();
+            this.writer = new BufferedOutputStream(new FileOutputStream(file), 1 << 16);
+        } catch (IOException e) {
+            throw new IOError(e);
+        }
+    }
+
+    /**
+     * Read all templates of a source into a new store
+     * @param config the wiki config, used to normalize titles
+     * @param source the pages of the dump, preferably only the template namespace
+     * @return complete store
+     */
+    public static TemplateStore build(WikiConfig config, Source<Page,Void> source) {
+        TemplateStore store = new TemplateStore(config);
+        PipelineBuilder.input(source).pipe(store).run();
+        store.complete();
+        return store;
+    }
+
+    /**
+     * Get the key of a title, titles given by Sweble and the dump are normalized the same
+     * @param title the title
+     * @return key
+     */
+    private static String key(PageTitle title) {
+        return title.getNamespace().getId() + ":" + title.getTitle().replace('_', ' ');
+    }
+
+    @Override
+    public void process(List<Page> batch) {
+        for (Page page : batch) {
+            if(page.getNamespace() == TEMPLATE_NAMESPACE && page.getFormat().equals("text/x-wiki"))
+                add(page.getTitle(), page.getContent());
+        }
+    }
+
+    /**
+     * Add a template, a title that is added twice is replaced
+     * @param title the full title of the page, i.e. Template:Name
+     * @param text the wikimarkup of the page
+     */
+    public synchronized void add(String title, String text) {
+        if(writer == null)
+            throw new IllegalStateException("The store is complete, no templates can be added.");
+
+        String key;
+        try {
+            key = key(PageTitle.make(config, title));
+        } catch (LinkTargetException e) {
+            logger.warn("Template {} ignored, the title is not valid.", title);
+            return;
+        }
+
+        byte[] data = text.getBytes(UTF8);
+        if(data.length > maxLength) {
+            logger.warn("Template {} ignored, {} bytes is larger than the maximum of {} bytes.", title, data.length, maxLength);
+            return;
+        }
+
+        try {
+            //pad to the next segment rather than splitting the text
+            long left = segmentSize - size % segmentSize;
+            if(data.length > left) {
+                for(; left > 0; left--) {
+                    writer.write(0);
+                }
+                size = (size / segmentSize + 1) * segmentSize;
+            }
+
+            writer.write(data);
+        } catch (IOException e) {
+            throw new IOError(e);
+        }
+
+        index.put(key, size << LENGTH_BITS | data.length);
+        size += data.length;
+    }
+
+    /**
+     * Finish adding templates and map the file, must be called before {@link #get(PageTitle)}
+     */
+    public synchronized void complete() {
+        if(writer == null)
+            return;
+
+        try {
+            writer.close();
+            writer = null;
+
+            RandomAccessFile raf = new RandomAccessFile(file, "r");
+            try {
+                FileChannel channel = raf.getChannel();
+                ByteBuffer[] mapped = new ByteBuffer[(int)((size + segmentSize - 1) / segmentSize)];
+                for (int i = 0; i < mapped.length; i++) {
+                    long start = i * segmentSize;
+                    mapped[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(segmentSize, size - start));
+                }
+                segments = mapped;
+            } finally {
+                raf.close();
+            }
+        } catch (IOException e) {
+            throw new IOError(e);
+        }
+
+        logger.info("Template store: {} templates, {} bytes in {}", index.size(), size, file.getAbsolutePath());
+    }
+
+    /**
+     * Get the text of a template, safe to call from any thread once the store is complete
+     * @param title the title
+     * @return the wikimarkup or null if there is no such template
+     */
+    public String get(PageTitle title) {
+        if(segments == null)
+            throw new IllegalStateException("The store is not complete.");
+
+        Long position = index.get(key(title));
+        if(position == null)
+            return null;
+
+        long offset = position >>> LENGTH_BITS;
+        int length = (int)(position & MAX_LENGTH);
+        if(length == 0)
+            return "";
+
+        //duplicates share the content but have their own position, so that threads do not interfere
+        ByteBuffer segment = segments[(int)(offset / segmentSize)].duplicate();
+        segment.position((int)(offset % segmentSize));
+
+        byte[] data = new byte[length];
+        segment.get(data);
+        return new String(data, UTF8);
+    }
+
+    /**
+     * @return the number of templates
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Release the mapping and remove the file, the mapping is unmapped by the garbage collector
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            if(writer != null)
+                writer.close();
+        } catch (IOException e) {
+            throw new IOError(e);
+        } finally {
+            writer = null;
+            segments = new ByteBuffer[0];
+            index.clear();
+            if(!file.delete())
+                logger.debug("Template store {} is removed on exit.", file.getAbsolutePath());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Template store { templates: %d, bytes: %d }", index.size(), size);
+    }
+}
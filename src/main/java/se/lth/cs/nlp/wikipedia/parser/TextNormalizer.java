@@ -0,0 +1,296 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.wikipedia.parser;
+
+/**
+ * Linear time text cleanup without regular expressions, used by both the text and the annotation parser.
+ *
+ * An instance is a streaming normalizer for page text, chars pass through four stages in a single pass,
+ * which gives the same result as applying these replacements one after another:
+ * <ol>
+ *     <li>( followed by whitespace* and ) =&gt; space</li>
+ *     <li>2 or more spaces =&gt; space</li>
+ *     <li>more than 2 newlines in sequence are truncated to 2</li>
+ *     <li>spaces and tabs at the start and end of every line are removed</li>
+ * </ol>
+ * and a final trim.
+ */
+public class TextNormalizer {
+    private final StringBuilder output;
+
+    //Stage 1: empty parentheses
+    private boolean parenthesis = false;
+    private final StringBuilder parenthesisWhitespace = new StringBuilder();
+
+    //Stage 2: space runs
+    private boolean space = false;
+
+    //Stage 3: newline runs
+    private int newlines = 0;
+
+    //Stage 4: line trimming
+    private boolean lineStart = true;
+    private final StringBuilder lineBlanks = new StringBuilder();
+
+    public TextNormalizer() {
+        this(new StringBuilder());
+    }
+
+    /**
+     * @param output where the normalized text is appended
+     */
+    public TextNormalizer(StringBuilder output) {
+        this.output = output;
+    }
+
+    /**
+     * Normalize text
+     * @param text the text to normalize
+     * @return normalized text
+     */
+    public static String normalize(CharSequence text) {
+        TextNormalizer normalizer = new TextNormalizer(new StringBuilder(text.length()));
+        normalizer.append(text);
+        return normalizer.toString();
+    }
+
+    /**
+     * Clear the output and the state, to normalize another text with the same buffers
+     */
+    public void reset() {
+        output.setLength(0);
+        parenthesis = false;
+        parenthesisWhitespace.setLength(0);
+        space = false;
+        newlines = 0;
+        lineStart = true;
+        lineBlanks.setLength(0);
+    }
+
+    public TextNormalizer append(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            append(text.charAt(i));
+        }
+        return this;
+    }
+
+    public TextNormalizer append(char ch) {
+        if(parenthesis) {
+            if(isWhitespace(ch)) {
+                parenthesisWhitespace.append(ch);
+                return this;
+            }
+            else if(ch == ')') {
+                parenthesis = false;
+                parenthesisWhitespace.setLength(0);
+                spaces(' ');
+                return this;
+            }
+            else {
+                flushParenthesis();
+            }
+        }
+
+        if(ch == '(')
+            parenthesis = true;
+        else
+            spaces(ch);
+
+        return this;
+    }
+
+    private void flushParenthesis() {
+        parenthesis = false;
+        spaces('(');
+        for (int i = 0; i < parenthesisWhitespace.length(); i++) {
+            spaces(parenthesisWhitespace.charAt(i));
+        }
+        parenthesisWhitespace.setLength(0);
+    }
+
+    private void spaces(char ch) {
+        if(ch == ' ') {
+            if(space)
+                return;
+
+            space = true;
+        }
+        else
+            space = false;
+
+        newlines(ch);
+    }
+
+    private void newlines(char ch) {
+        if(ch == '\n') {
+            if(++newlines > 2)
+                return;
+        }
+        else
+            newlines = 0;
+
+        lines(ch);
+    }
+
+    private void lines(char ch) {
+        if(ch == ' ' || ch == '\t') {
+            if(!lineStart)
+                lineBlanks.append(ch);
+        }
+        else if(isLineTerminator(ch)) {
+            lineBlanks.setLength(0);
+            output.append(ch);
+            lineStart = true;
+        }
+        else {
+            output.append(lineBlanks);
+            lineBlanks.setLength(0);
+            output.append(ch);
+            lineStart = false;
+        }
+    }
+
+    /**
+     * End of text, flushes pending chars and trims the output.
+     * @return normalized text
+     */
+    @Override
+    public String toString() {
+        if(parenthesis)
+            flushParenthesis();
+
+        int end = output.length();
+        while(end > 0 && output.charAt(end - 1) <= ' ')
+            end--;
+
+        int start = 0;
+        while(start < end && output.charAt(start) <= ' ')
+            start++;
+
+        return output.substring(start, end);
+    }
+
+    /** Whitespace as in the regex \s */
+    private static boolean isWhitespace(char ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000B' || ch == '\f' || ch == '\r';
+    }
+
+    /** Line terminators as in regex multiline mode */
+    private static boolean isLineTerminator(char ch) {
+        return ch == '\n' || ch == '\r' || ch == '\u0085' || ch == '\u2028' || ch == '\u2029';
+    }
+
+    /**
+     * @param text the text to test
+     * @return true if text only contains \n and \r, or is empty
+     */
+    public static boolean isNewlines(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if(ch != '\n' && ch != '\r')
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Whitespace cleanup of a run of spaces, newlines and parentheses, the same result as applying one after another:
+     * <ol>
+     *     <li>spaces before and after a newline are removed</li>
+     *     <li>more than 2 newlines in sequence are truncated to 2</li>
+     *     <li>( followed by any of ( ) and space and then ) =&gt; [nothing], the longest such sequence is removed</li>
+     *     <li>2 or more spaces =&gt; space</li>
+     * </ol>
+     * @param run a run of ' ', '\n', '(' and ')'
+     * @param output where the result is appended
+     */
+    public static void normalizeWhitespaceRun(CharSequence run, StringBuilder output) {
+        int start = output.length();
+
+        //newline rules, written directly to the output
+        int spaces = 0;
+        int newlines = 0;
+        boolean afterNewline = false;
+        for (int i = 0; i < run.length(); i++) {
+            char ch = run.charAt(i);
+            if(ch == ' ') {
+                if(!afterNewline)
+                    spaces++;
+            }
+            else if(ch == '\n') {
+                spaces = 0;
+                afterNewline = true;
+                if(++newlines <= 2)
+                    output.append('\n');
+            }
+            else {
+                for (; spaces > 0; spaces--) {
+                    output.append(' ');
+                }
+                afterNewline = false;
+                newlines = 0;
+                output.append(ch);
+            }
+        }
+
+        for (; spaces > 0; spaces--) {
+            output.append(' ');
+        }
+
+        //parenthesis and space rules, in place on every line of the output
+        int write = start;
+        int read = start;
+        int end = output.length();
+        boolean space = false;
+        while(read < end) {
+            int lineEnd = read;
+            while(lineEnd < end && output.charAt(lineEnd) != '\n')
+                lineEnd++;
+
+            int open = -1;
+            int close = -1;
+            for (int i = read; i < lineEnd; i++) {
+                char ch = output.charAt(i);
+                if(ch == '(' && open == -1)
+                    open = i;
+                else if(ch == ')' && open != -1)
+                    close = i;
+            }
+
+            for (int i = read; i <= lineEnd && i < end; i++) {
+                if(close != -1 && i >= open && i <= close)
+                    continue;
+
+                char ch = output.charAt(i);
+                if(ch == ' ') {
+                    if(space)
+                        continue;
+
+                    space = true;
+                }
+                else
+                    space = false;
+
+                output.setCharAt(write++, ch);
+            }
+
+            read = lineEnd + 1;
+        }
+
+        output.setLength(write);
+    }
+}
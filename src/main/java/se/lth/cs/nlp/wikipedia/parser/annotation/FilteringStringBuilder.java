@@ -1,6 +1,6 @@
 package se.lth.cs.nlp.wikipedia.parser.annotation;
 
-import java.util.regex.Pattern;
+import se.lth.cs.nlp.wikipedia.parser.TextNormalizer;
 
 /**
  * Utility class to do some text cleaning on the fly.
@@ -22,11 +22,6 @@ public class FilteringStringBuilder {
 
     private final StringBuilder workingBuffer = new StringBuilder();
 
-    private final static Pattern removeWhitespaceNewline = Pattern.compile("( *)\n( )*");
-    private final static Pattern removeRedudantNewline = Pattern.compile("\n{2,}");
-    private final static Pattern removeRedudantWhitespace = Pattern.compile(" {2,}");
-    private final static Pattern removeParanthesis = Pattern.compile("(\\(((\\(|\\)| )*)\\))");
-
     protected final void append(final char chr) {
         switch (chr) {
             case ' ':
@@ -47,17 +42,11 @@ public class FilteringStringBuilder {
     public final void flush() {
         if(workingBuffer.length() > 0) {
 
-            //Rules:
+            //Rules, see TextNormalizer.normalizeWhitespaceRun:
             // * space followed by newline => newline
             // * ( followed by whitespace* ) => [nothing]
             // * more than 2 newlines in sequence are truncated to 2
-            String text = workingBuffer.toString();
-            text = removeWhitespaceNewline.matcher(text).replaceAll("\n");
-            text = removeRedudantNewline.matcher(text).replaceAll("\n\n");
-            text = removeParanthesis.matcher(text).replaceAll("");
-            text = removeRedudantWhitespace.matcher(text).replaceAll(" ");
-
-            flushed.append(text);
+            TextNormalizer.normalizeWhitespaceRun(workingBuffer, flushed);
             workingBuffer.setLength(0);
         }
     }
@@ -3,7 +3,6 @@ package se.lth.cs.nlp.wikipedia.parser.annotation;
 import org.sweble.wikitext.engine.nodes.EngProcessedPage;
 import se.lth.cs.nlp.mediawiki.model.Page;
 import se.lth.cs.nlp.wikipedia.lang.TemplateConfig;
-import se.lth.cs.nlp.wikipedia.parser.SwebleParserUtil;
 import se.lth.cs.nlp.wikipedia.parser.SwebleWikimarkupParserBase;
 
 /**
@@ -34,7 +33,7 @@ public class SwebleAnnotationParser<T,Out> extends SwebleWikimarkupParserBase<Ou
     @Override
     public Out parse(Page page) {
         try{
-            EngProcessedPage eng = SwebleParserUtil.parsePage(config, page.getTitle(), page.getRevision(), page.getContent());
+            EngProcessedPage eng = parseWikipage(page);
 
             TextParser<T,Out> parser = new TextParser<T,Out>(this, page);
             parser.parser.startDocument(parser.context);
@@ -3,6 +3,7 @@ package se.lth.cs.nlp.wikipedia.parser.annotation;
 import de.fau.cs.osr.ptk.common.AstVisitor;
 import org.apache.commons.lang.StringUtils;
 import org.sweble.wikitext.engine.EngineException;
+import org.sweble.wikitext.engine.PageId;
 import org.sweble.wikitext.engine.PageTitle;
 import org.sweble.wikitext.engine.config.WikiConfig;
 import org.sweble.wikitext.engine.nodes.EngPage;
@@ -10,8 +11,11 @@ import org.sweble.wikitext.engine.nodes.EngProcessedPage;
 import org.sweble.wikitext.parser.nodes.*;
 import org.sweble.wikitext.parser.parser.LinkTargetException;
 import se.lth.cs.nlp.mediawiki.model.Page;
+import se.lth.cs.nlp.wikipedia.lang.TemplateConfig;
+import se.lth.cs.nlp.wikipedia.lang.TemplateRenderer;
 import se.lth.cs.nlp.wikipedia.parser.SwebleParserUtil;
 import se.lth.cs.nlp.wikipedia.parser.SwebleTextAstWalker;
+import se.lth.cs.nlp.wikipedia.parser.TextNormalizer;
 
 import java.util.*;
 
@@ -22,27 +26,58 @@ public class TextParser<T,Out> extends AstVisitor<WtNode> {
     protected FilteringStringBuilder sb;
 
     private String currentSectionTitle = "@Abstract";
+    private boolean excludedSection = false;
 
     private int currentDepth = 1;
     private TreeMap<Integer,String> headers = new TreeMap<Integer, String>();
 
     private boolean hasNotReadAbstract = true;
 
+    protected final TemplateConfig templateConfig;
     protected final WikiConfig config;
     protected AnnotationParser<T,Out> parser;
 
     protected AnnotationContext<T> context;
     protected final Page page;
+    private PageId pageId = null;
+
+    private final TemplateRenderer.Output templateOutput = new TemplateRenderer.Output() {
+        @Override
+        public void append(String text) {
+            sb.append(text);
+        }
+
+        @Override
+        public void render(WtValue value) {
+            for (WtNode node : value) {
+                if(node instanceof WtText && SwebleParserUtil.hasInlineMarkup(((WtText) node).getContent()))
+                    renderMarkup(((WtText) node).getContent());
+                else
+                    dispatch(node);
+            }
+        }
+    };
 
     public AnnotationContext<T> getContext() {
         return context;
     }
 
-    protected TextParser(WikiConfig config, Page page){
+    /**
+     * @return the page id used to parse template arguments, resolved once per page
+     */
+    protected PageId getPageId() throws LinkTargetException {
+        if(pageId == null)
+            pageId = SwebleParserUtil.getPageId(config, page.getTitle(), page.getRevision());
+
+        return pageId;
+    }
+
+    protected TextParser(TemplateConfig config, Page page){
         sb = new FilteringStringBuilder();
 
         this.page = page;
-        this.config = config;
+        this.templateConfig = config;
+        this.config = config.get();
         this.context = new AnnotationContext<T>() {
             @Override
             public String getText() {
@@ -52,7 +87,7 @@ public class TextParser<T,Out> extends AstVisitor<WtNode> {
     }
 
     public TextParser(SwebleAnnotationParser<T,Out> parent, Page page) {
-        this(parent.getConfig(), page);
+        this(parent.getTemplateConfig(), page);
         this.parser = parent.newParser(this.context, page);
     }
 
@@ -154,7 +189,7 @@ public class TextParser<T,Out> extends AstVisitor<WtNode> {
 
     public void visit(WtText text)
     {
-        if(!isInsideFilteredSection() && !text.getContent().replaceAll("[\n\r]", "").equalsIgnoreCase("")) {
+        if(!isInsideFilteredSection() && !TextNormalizer.isNewlines(text.getContent())) {
             sb.append(text.getContent());
         }
     }
@@ -287,8 +322,9 @@ public class TextParser<T,Out> extends AstVisitor<WtNode> {
         int start = sb.length();
         WtHeading heading = s.getHeading();
 
-        SwebleTextAstWalker textAstWalker = new SwebleTextAstWalker(config);
+        SwebleTextAstWalker textAstWalker = new SwebleTextAstWalker(templateConfig);
         currentSectionTitle = ((String)textAstWalker.go(s.getHeading())).trim();
+        excludedSection = templateConfig.isExcludedSection(currentSectionTitle);
 
         if(heading.getRtd().getFields().length >= 1 && heading.getRtd().getFields()[0].length >= 1) {
             String startText = heading.getRtd().getFields()[0][0].toString();
@@ -333,7 +369,7 @@ public class TextParser<T,Out> extends AstVisitor<WtNode> {
                         output_cols.add(new TableCell(row, col) {
                             @Override
                             public <T2, Out> void parse(T2 model, AnnotationParser<T2, Out> parser) {
-                                TextParser<T2,Out> textParser = new TextParser<T2,Out>(config, page);
+                                TextParser<T2,Out> textParser = new TextParser<T2,Out>(templateConfig, page);
                                 textParser.parser = parser;
                                 textParser.context.setModel(model);
 
@@ -422,9 +458,10 @@ public class TextParser<T,Out> extends AstVisitor<WtNode> {
     {
         boolean handled = false;
 
-        if(!isInsideFilteredSection()) {
-            if (n.toString().equalsIgnoreCase("WtTemplate([0] = WtName[WtText(\"spaced ndash\")], [1] = WtTemplateArguments[])")) {
-                sb.append(" - ");
+        if(!isInsideFilteredSection() && n.getName().isResolved()) {
+            TemplateRenderer renderer = templateConfig.getTemplateRenderer(n.getName().getAsString());
+            if(renderer != null) {
+                renderer.render(n, templateOutput);
                 handled = true;
             }
         }
@@ -452,8 +489,7 @@ public class TextParser<T,Out> extends AstVisitor<WtNode> {
                                     EngProcessedPage cp =
                                             SwebleParserUtil.parsePage(
                                                     config,
-                                                    page.getTitle(),
-                                                    page.getRevision(),
+                                                    getPageId(),
                                                     templateProperty.content
                                             );
 
@@ -468,7 +504,7 @@ public class TextParser<T,Out> extends AstVisitor<WtNode> {
 
                                 @Override
                                 public <M2,Out> void parse(M2 model, AnnotationParser<M2,Out> parser) throws EngineException, LinkTargetException {
-                                    TextParser<M2,Out> textParser = new TextParser<M2,Out>(config, page);
+                                    TextParser<M2,Out> textParser = new TextParser<M2,Out>(templateConfig, page);
                                     textParser.parser = parser;
                                     textParser.context.setModel(model);
 
@@ -480,8 +516,7 @@ public class TextParser<T,Out> extends AstVisitor<WtNode> {
                                     EngProcessedPage cp =
                                             SwebleParserUtil.parsePage(
                                                     config,
-                                                    page.getTitle(),
-                                                    page.getRevision(),
+                                                    getPageId(),
                                                     templateProperty.content
                                             );
 
@@ -501,31 +536,19 @@ public class TextParser<T,Out> extends AstVisitor<WtNode> {
 
     // =========================================================================
 
-    private boolean isInsideFilteredSection() {
-        if(this.currentSectionTitle.equalsIgnoreCase("See also") ||
-                this.currentSectionTitle.equalsIgnoreCase("Notes") ||
-                this.currentSectionTitle.equalsIgnoreCase("Writings") ||
-                this.currentSectionTitle.equalsIgnoreCase("References") ||
-                this.currentSectionTitle.equalsIgnoreCase("Publications") ||
-                this.currentSectionTitle.equalsIgnoreCase("Bibliography") ||
-                this.currentSectionTitle.equalsIgnoreCase("Bibliografi") ||
-                this.currentSectionTitle.equalsIgnoreCase("Further reading") ||
-                this.currentSectionTitle.equalsIgnoreCase("External links") ||
-                this.currentSectionTitle.equalsIgnoreCase("Se även") ||
-                this.currentSectionTitle.equalsIgnoreCase("Källor") ||
-                this.currentSectionTitle.equalsIgnoreCase("Externa länkar") ||
-                this.currentSectionTitle.equalsIgnoreCase("Referenser") ||
-                this.currentSectionTitle.equalsIgnoreCase("Litteratur") ||
-                this.currentSectionTitle.equalsIgnoreCase("参见") ||
-                this.currentSectionTitle.equalsIgnoreCase("相关条目") ||
-                this.currentSectionTitle.equalsIgnoreCase("注释") ||
-                this.currentSectionTitle.equalsIgnoreCase("参考资料") ||
-                this.currentSectionTitle.equalsIgnoreCase("外部链接") ||
-                this.currentSectionTitle.equalsIgnoreCase("参看")) {
-            return true;
-        } else {
-            return false;
+    private void renderMarkup(String markup) {
+        try {
+            iterate(SwebleParserUtil.parseInline(config, getPageId(), markup));
+        }
+        catch (EngineException e) {
+            sb.append(markup);
         }
+        catch (LinkTargetException e) {
+            sb.append(markup);
+        }
+    }
 
+    private boolean isInsideFilteredSection() {
+        return excludedSection;
     }
 }
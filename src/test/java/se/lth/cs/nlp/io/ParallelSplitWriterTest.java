@@ -0,0 +1,114 @@
+package se.lth.cs.nlp.io;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.TreeSet;
+
+/**
+ * Tests of split writer checkpoints
+ */
+public class ParallelSplitWriterTest extends TestCase
+{
+    private File basepath;
+
+    public ParallelSplitWriterTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( ParallelSplitWriterTest.class );
+    }
+
+    @Override
+    protected void setUp() throws IOException {
+        basepath = File.createTempFile("wikiforia-splits", "");
+        if(!basepath.delete())
+            throw new IOException("Could not remove " + basepath);
+    }
+
+    @Override
+    protected void tearDown() {
+        File[] files = basepath.listFiles();
+        if(files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        basepath.delete();
+    }
+
+    /**
+     * Open a writer that fills a split with two lines
+     */
+    private ParallelSplitWriter<String> open(String tag) {
+        ParallelSplitWriter<String> writer = LineWriter.openParallelWriter(basepath, 10, 1);
+        writer.setTag(tag);
+        return writer;
+    }
+
+    private TreeSet<String> files() {
+        return new TreeSet<String>(Arrays.asList(basepath.list()));
+    }
+
+    private static TreeSet<String> splits(String... names) {
+        return new TreeSet<String>(Arrays.asList(names));
+    }
+
+    public void testRestore() throws IOException {
+        //a split of another writer sharing the basepath
+        assertTrue(basepath.mkdirs());
+        assertTrue(new File(basepath, "part-b-00003").createNewFile());
+
+        ParallelSplitWriter<String> writer = open("a");
+        writer.write(Arrays.asList("line 1", "line 2", "line 3"));
+
+        //the second split is open, the checkpoint completes it
+        Properties state = new Properties();
+        writer.checkpoint(state);
+        assertEquals("2", state.getProperty("splits.counter"));
+        assertEquals("3", state.getProperty("splits.written"));
+        assertEquals(splits("part-a-00001", "part-a-00002"), splits(state.getProperty("splits.completed").split(",")));
+
+        //written after the checkpoint, then the run fails without closing
+        writer.write(Arrays.asList("line 4", "line 5", "line 6"));
+        assertEquals(splits("part-a-00001", "part-a-00002", "part-a-00003", "part-a-00004", "part-b-00003"), files());
+
+        ParallelSplitWriter<String> resumed = open("a");
+        resumed.restore(state);
+        assertEquals(splits("part-a-00001", "part-a-00002", "part-b-00003"), files());
+
+        //numbering continues after the checkpoint, the count includes the items before it
+        resumed.write(Arrays.asList("line 4"));
+        resumed.close();
+        assertEquals(splits("_count-a", "part-a-00001", "part-a-00002", "part-a-00003", "part-b-00003"), files());
+
+        Properties next = new Properties();
+        resumed.checkpoint(next);
+        assertEquals("3", next.getProperty("splits.counter"));
+        assertEquals("4", next.getProperty("splits.written"));
+        assertEquals(splits("part-a-00001", "part-a-00002", "part-a-00003"), splits(next.getProperty("splits.completed").split(",")));
+    }
+
+    public void testRestoreEmpty() {
+        ParallelSplitWriter<String> writer = open(null);
+        Properties state = new Properties();
+        writer.checkpoint(state);
+        writer.write(Arrays.asList("line 1"));
+
+        ParallelSplitWriter<String> resumed = open(null);
+        resumed.restore(state);
+        assertTrue(files().isEmpty());
+
+        resumed.write(Arrays.asList("line 1"));
+        resumed.close();
+        assertEquals(splits("_count", "part-00001"), files());
+    }
+}
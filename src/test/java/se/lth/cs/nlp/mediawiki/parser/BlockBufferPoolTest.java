@@ -0,0 +1,158 @@
+package se.lth.cs.nlp.mediawiki.parser;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import se.lth.cs.nlp.mediawiki.model.Page;
+import se.lth.cs.nlp.pipeline.PipelineBuilder;
+import se.lth.cs.nlp.pipeline.Sequencer;
+import se.lth.cs.nlp.pipeline.Sink;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests of the block buffer pool
+ */
+public class BlockBufferPoolTest extends TestCase
+{
+    private static final int KiB = 1024;
+
+    public BlockBufferPoolTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( BlockBufferPoolTest.class );
+    }
+
+    public void testReuse() {
+        BlockBufferPool pool = new BlockBufferPool(1024 * KiB, false);
+        ByteBuffer buffer = pool.borrow(100);
+        assertEquals(0, buffer.position());
+        assertEquals(100, buffer.limit());
+        assertEquals(64 * KiB, buffer.capacity());
+        assertEquals(64 * KiB, pool.getUsedBytes());
+
+        buffer.put((byte)1);
+        pool.release(buffer);
+        assertEquals(0, pool.getUsedBytes());
+        assertEquals(64 * KiB, pool.getIdleBytes());
+
+        //the same size class gets the same buffer, cleared
+        ByteBuffer reused = pool.borrow(64 * KiB);
+        assertSame(buffer, reused);
+        assertEquals(0, reused.position());
+        assertEquals(64 * KiB, reused.limit());
+        assertEquals(1, pool.getHits());
+        assertEquals(1, pool.getMisses());
+        assertEquals(0, pool.getIdleBytes());
+
+        //a larger size class is allocated
+        ByteBuffer larger = pool.borrow(64 * KiB + 1);
+        assertNotSame(buffer, larger);
+        assertEquals(128 * KiB, larger.capacity());
+        assertEquals(2, pool.getMisses());
+        assertEquals(192 * KiB, pool.getPeakBytes());
+
+        pool.release(reused);
+        pool.release(larger);
+        assertEquals(0, pool.getUsedBytes());
+        assertSame(larger, pool.borrow(100 * KiB));
+        assertSame(reused, pool.borrow(1));
+    }
+
+    public void testBounded() {
+        BlockBufferPool pool = new BlockBufferPool(128 * KiB, false);
+        List<ByteBuffer> buffers = new ArrayList<ByteBuffer>();
+        for (int i = 0; i < 4; i++) {
+            buffers.add(pool.borrow(64 * KiB));
+        }
+        assertEquals(256 * KiB, pool.getUsedBytes());
+
+        //idle buffers are kept up to the capacity, the rest are dropped
+        for (ByteBuffer buffer : buffers) {
+            pool.release(buffer);
+        }
+        assertEquals(0, pool.getUsedBytes());
+        assertEquals(128 * KiB, pool.getIdleBytes());
+        assertEquals(2, pool.getDropped());
+
+        //a buffer larger than the capacity is never kept
+        pool.borrow(64 * KiB);
+        pool.borrow(64 * KiB);
+        pool.release(pool.borrow(256 * KiB));
+        assertEquals(0, pool.getIdleBytes());
+        assertEquals(3, pool.getDropped());
+        assertEquals(2, pool.getHits());
+    }
+
+    public void testNoCapacity() {
+        BlockBufferPool pool = new BlockBufferPool(0, false);
+        ByteBuffer buffer = pool.borrow(10);
+        pool.release(buffer);
+        assertNotSame(buffer, pool.borrow(10));
+        assertEquals(0, pool.getHits());
+        assertEquals(1, pool.getDropped());
+    }
+
+    public void testDirect() {
+        BlockBufferPool pool = new BlockBufferPool(1024 * KiB, true);
+        assertTrue(pool.isDirect());
+        assertTrue(pool.borrow(10).isDirect());
+        assertFalse(new BlockBufferPool(1024 * KiB, false).borrow(10).isDirect());
+    }
+
+    private static int run(MultistreamBzip2XmlDumpParser parser) {
+        final List<Page> pages = new ArrayList<Page>();
+        PipelineBuilder.input(parser).pipe(new Sink<Page>() {
+            @Override
+            public synchronized void process(List<Page> batch) {
+                pages.addAll(batch);
+            }
+        }).run();
+        return pages.size();
+    }
+
+    public void testParser() throws IOException {
+        TestDump dump = new TestDump(2000, 10);
+        try {
+            //all buffers are returned after a run, and reused during it
+            MultistreamBzip2XmlDumpParser parser = new MultistreamBzip2XmlDumpParser(dump.index, dump.pages, 10, 2);
+            parser.setBufferPool(1024 * KiB, false);
+            assertEquals(dump.numPages, run(parser));
+            assertEquals(0, parser.getCompressedPool().getUsedBytes());
+            assertTrue(parser.getCompressedPool().getHits() > 0);
+            assertTrue(parser.getCompressedPool().getIdleBytes() <= 1024 * KiB);
+
+            //blocks parsed one at a time
+            parser = new MultistreamBzip2XmlDumpParser(dump.index, dump.pages, 10, 2);
+            parser.setBufferPool(1024 * KiB, false);
+            parser.setSequencer(new Sequencer() {
+                @Override
+                public void begin(long sequence) {
+                }
+
+                @Override
+                public void complete(long sequence) {
+                }
+            });
+            assertEquals(dump.numPages, run(parser));
+            assertEquals(0, parser.getCompressedPool().getUsedBytes());
+
+            parser = new MultistreamBzip2XmlDumpParser(dump.index, dump.pages, 10, 2);
+            parser.setBufferPool(1024 * KiB, false);
+            parser.setStages(2, 1, 2);
+            assertEquals(dump.numPages, run(parser));
+            assertEquals(0, parser.getCompressedPool().getUsedBytes());
+            assertEquals(0, parser.getDecodedPool().getUsedBytes());
+            assertTrue(parser.getDecodedPool().getHits() > 0);
+        } finally {
+            dump.delete();
+        }
+    }
+}
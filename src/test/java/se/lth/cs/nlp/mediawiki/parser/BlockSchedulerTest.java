@@ -0,0 +1,188 @@
+package se.lth.cs.nlp.mediawiki.parser;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests of the block scheduler
+ */
+public class BlockSchedulerTest extends TestCase
+{
+    public BlockSchedulerTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( BlockSchedulerTest.class );
+    }
+
+    public void testFifoOrder() throws InterruptedException {
+        BlockScheduler<Integer> scheduler = new BlockScheduler<Integer>(3, true);
+        for (int i = 0; i < 9; i++) {
+            assertTrue(scheduler.put(i));
+        }
+
+        //every worker takes from the same deque, in the order the blocks were put
+        for (int i = 0; i < 9; i++) {
+            assertEquals(Integer.valueOf(i), scheduler.take(i % 3));
+        }
+
+        assertEquals(0, scheduler.getSteals());
+    }
+
+    public void testFifoWorkersBlockOnSharedDeque() throws Exception {
+        final BlockScheduler<Integer> scheduler = new BlockScheduler<Integer>(2, true);
+        final Integer[] taken = new Integer[1];
+        Thread worker = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    taken[0] = scheduler.take(1);
+                } catch (InterruptedException e) {
+                    //fails below
+                }
+            }
+        };
+
+        worker.start();
+        Thread.sleep(50);
+        scheduler.put(42);
+        worker.join(1000);
+
+        assertFalse(worker.isAlive());
+        assertEquals(Integer.valueOf(42), taken[0]);
+    }
+
+    public void testSteal() throws InterruptedException {
+        BlockScheduler<Integer> scheduler = new BlockScheduler<Integer>(2, false);
+
+        //blocks go to the shortest deque: 0 and 2 to the first worker, 1 and 3 to the second
+        for (int i = 0; i < 4; i++) {
+            assertTrue(scheduler.put(i));
+        }
+
+        assertEquals(Integer.valueOf(0), scheduler.take(0));
+        assertEquals(Integer.valueOf(2), scheduler.take(0));
+        assertEquals(0, scheduler.getSteals());
+
+        //the own deque is empty, the oldest block of the other worker is stolen
+        assertEquals(Integer.valueOf(1), scheduler.take(0));
+        assertEquals(1, scheduler.getSteals());
+        assertEquals(Integer.valueOf(3), scheduler.take(1));
+    }
+
+    public void testCloseDrains() throws InterruptedException {
+        BlockScheduler<Integer> scheduler = new BlockScheduler<Integer>(2, false);
+        scheduler.put(1);
+        scheduler.put(2);
+        scheduler.put(3);
+        scheduler.close();
+
+        assertFalse(scheduler.put(4));
+
+        List<Integer> blocks = new ArrayList<Integer>();
+        Integer block;
+        while((block = scheduler.take(1)) != null) {
+            blocks.add(block);
+        }
+
+        Collections.sort(blocks);
+        assertEquals(3, blocks.size());
+        assertEquals(Integer.valueOf(1), blocks.get(0));
+        assertEquals(Integer.valueOf(3), blocks.get(2));
+        assertNull(scheduler.take(0));
+    }
+
+    public void testCloseWakesWaitingWorkers() throws Exception {
+        final BlockScheduler<Integer> scheduler = new BlockScheduler<Integer>(2, false);
+        final boolean[] done = new boolean[1];
+        Thread worker = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    done[0] = scheduler.take(0) == null;
+                } catch (InterruptedException e) {
+                    //fails below
+                }
+            }
+        };
+
+        worker.start();
+        Thread.sleep(50);
+        scheduler.close();
+        worker.join(1000);
+
+        assertFalse(worker.isAlive());
+        assertTrue(done[0]);
+    }
+
+    /**
+     * Every block is taken exactly once by concurrent workers, a FIFO scheduler hands them out in order
+     */
+    private void assertConcurrent(final boolean fifo) throws Exception {
+        final int numBlocks = 10000;
+        final int numWorkers = 4;
+        final BlockScheduler<Integer> scheduler = new BlockScheduler<Integer>(numWorkers, fifo);
+        final BitSet seen = new BitSet();
+        final boolean[] failed = new boolean[1];
+
+        ArrayList<Thread> workers = new ArrayList<Thread>();
+        for (int i = 0; i < numWorkers; i++) {
+            final int worker = i;
+            workers.add(new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        int last = -1;
+                        Integer block;
+                        while((block = scheduler.take(worker)) != null) {
+                            synchronized (seen) {
+                                if(seen.get(block) || (fifo && block < last))
+                                    failed[0] = true;
+
+                                seen.set(block);
+                            }
+                            last = block;
+                            scheduler.finished(1000);
+                        }
+                    } catch (InterruptedException e) {
+                        failed[0] = true;
+                    }
+                }
+            });
+        }
+
+        for (Thread worker : workers) {
+            worker.start();
+        }
+
+        for (int i = 0; i < numBlocks; i++) {
+            scheduler.put(i);
+        }
+        scheduler.close();
+
+        for (Thread worker : workers) {
+            worker.join(10000);
+            assertFalse(worker.isAlive());
+        }
+
+        assertFalse(failed[0]);
+        assertEquals(numBlocks, seen.cardinality());
+    }
+
+    public void testConcurrent() throws Exception {
+        assertConcurrent(false);
+    }
+
+    public void testConcurrentFifo() throws Exception {
+        assertConcurrent(true);
+    }
+}
@@ -0,0 +1,119 @@
+package se.lth.cs.nlp.mediawiki.parser;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+/**
+ * Tests of the binary block index and its sidecar
+ */
+public class MultistreamBlockIndexTest extends TestCase
+{
+    /** A time in the past for the sidecar, a rewritten sidecar gets the current time */
+    private static final long OLD = 1000000000000L;
+
+    private TestDump dump;
+
+    public MultistreamBlockIndexTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( MultistreamBlockIndexTest.class );
+    }
+
+    @Override
+    protected void setUp() throws IOException {
+        dump = new TestDump(95, 10);
+    }
+
+    @Override
+    protected void tearDown() {
+        dump.delete();
+    }
+
+    private static void assertStreams(TestDump dump, MultistreamBlockIndex index) {
+        //the header stream and ten page streams, the last with five pages
+        assertEquals(11, index.size());
+        assertEquals(0, index.getStart(0));
+        assertEquals(-1, index.getFirstPageId(0));
+        assertEquals(-1, index.getLastPageId(0));
+
+        for (int stream = 1; stream < index.size(); stream++) {
+            assertEquals(index.getEnd(stream - 1), index.getStart(stream));
+            assertEquals((stream - 1) * 10 + 1, index.getFirstPageId(stream));
+            assertEquals(Math.min(stream * 10, 95), index.getLastPageId(stream));
+        }
+
+        assertEquals(dump.pages.length(), index.getEnd(index.size() - 1));
+    }
+
+    public void testBuild() throws IOException {
+        assertStreams(dump, MultistreamBlockIndex.build(dump.index, dump.pages));
+    }
+
+    public void testSidecarReload() {
+        File sidecar = MultistreamBlockIndex.getSidecar(dump.index);
+        assertFalse(sidecar.exists());
+
+        assertStreams(dump, MultistreamBlockIndex.open(dump.index, dump.pages));
+        assertTrue(sidecar.exists());
+
+        //a valid sidecar is mapped, not written again
+        assertTrue(sidecar.setLastModified(OLD));
+        assertStreams(dump, MultistreamBlockIndex.open(dump.index, dump.pages));
+        assertEquals(OLD, sidecar.lastModified());
+    }
+
+    public void testFingerprintMismatch() throws IOException {
+        File sidecar = MultistreamBlockIndex.getSidecar(dump.index);
+        MultistreamBlockIndex.open(dump.index, dump.pages);
+        assertTrue(sidecar.setLastModified(OLD));
+
+        //a changed dump makes the sidecar stale
+        FileOutputStream output = new FileOutputStream(dump.pages, true);
+        try {
+            output.write(0);
+        } finally {
+            output.close();
+        }
+
+        MultistreamBlockIndex index = MultistreamBlockIndex.open(dump.index, dump.pages);
+        assertTrue(sidecar.lastModified() != OLD);
+        assertEquals(dump.pages.length(), index.getEnd(index.size() - 1));
+    }
+
+    public void testTruncatedSidecar() throws IOException {
+        File sidecar = MultistreamBlockIndex.getSidecar(dump.index);
+        MultistreamBlockIndex.open(dump.index, dump.pages);
+        long length = sidecar.length();
+
+        RandomAccessFile file = new RandomAccessFile(sidecar, "rw");
+        try {
+            file.setLength(length - 8);
+        } finally {
+            file.close();
+        }
+
+        assertStreams(dump, MultistreamBlockIndex.open(dump.index, dump.pages));
+        assertEquals(length, sidecar.length());
+    }
+
+    public void testFindStream() {
+        MultistreamBlockIndex index = MultistreamBlockIndex.open(dump.index, dump.pages);
+
+        for (int stream = 0; stream < index.size(); stream++) {
+            assertEquals(stream, index.findStream(index.getStart(stream)));
+            assertEquals(stream, index.findStream(index.getEnd(stream) - 1));
+        }
+
+        assertEquals(index.size() - 1, index.findStream(Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,249 @@
+package se.lth.cs.nlp.mediawiki.parser;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import se.lth.cs.nlp.mediawiki.model.Page;
+import se.lth.cs.nlp.pipeline.PipelineBuilder;
+import se.lth.cs.nlp.pipeline.Sequencer;
+import se.lth.cs.nlp.pipeline.Sink;
+
+import java.io.IOError;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests of the threaded multistream dump parser
+ */
+public class MultistreamBzip2XmlDumpParserTest extends TestCase
+{
+    private TestDump dump;
+
+    public MultistreamBzip2XmlDumpParserTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( MultistreamBzip2XmlDumpParserTest.class );
+    }
+
+    @Override
+    protected void setUp() throws IOException {
+        dump = new TestDump(2000, 10);
+    }
+
+    @Override
+    protected void tearDown() {
+        dump.delete();
+    }
+
+    /**
+     * Count the pages of a run, the sink fails on its first batch if failing is set
+     */
+    private int run(boolean memoryMapped, final boolean failing) {
+        final AtomicInteger pages = new AtomicInteger();
+        final AtomicInteger batches = new AtomicInteger();
+        MultistreamBzip2XmlDumpParser source = new MultistreamBzip2XmlDumpParser(dump.index, dump.pages, 10, 4, memoryMapped);
+
+        PipelineBuilder.input(source).pipe(new Sink<Page>() {
+            @Override
+            public void process(List<Page> batch) {
+                pages.addAndGet(batch.size());
+                if(failing && !batch.isEmpty() && batches.incrementAndGet() == 1)
+                    throw new IOError(new IOException("Failing sink")); //an exception would make the parser save the blocks
+            }
+        }).run();
+
+        return pages.get();
+    }
+
+    public void testAllPages() {
+        assertEquals(dump.numPages, run(false, false));
+        assertEquals(dump.numPages, run(true, false));
+    }
+
+    /**
+     * Read all pages of the dump
+     * @return the pages as id, namespace, title and text, sorted
+     */
+    private List<String> readPages(MultistreamBzip2XmlDumpParser source) {
+        final List<String> pages = Collections.synchronizedList(new ArrayList<String>());
+        PipelineBuilder.input(source).pipe(new Sink<Page>() {
+            @Override
+            public void process(List<Page> batch) {
+                for (Page page : batch) {
+                    pages.add(page.getId() + "\t" + page.getNamespace() + "\t" + page.getTitle() + "\t" + page.getContent());
+                }
+            }
+        }).run();
+
+        assertFalse(source.isTerminated());
+        Collections.sort(pages);
+        return pages;
+    }
+
+    public void testStages() {
+        List<String> expected = readPages(new MultistreamBzip2XmlDumpParser(dump.index, dump.pages, 10, 4));
+        assertEquals(dump.numPages, expected.size());
+        assertEquals("1\t0\t" + TestDump.title(1) + "\t" + TestDump.text(1), expected.get(0));
+
+        for (int[] stages : new int[][] {{1, 1, 1}, {2, 1, 3}, {3, 2, 1}}) {
+            MultistreamBzip2XmlDumpParser staged = new MultistreamBzip2XmlDumpParser(dump.index, dump.pages, 10, 4);
+            staged.setStages(stages[0], stages[1], stages[2]);
+            assertEquals(expected, readPages(staged));
+        }
+    }
+
+    public void testPagePredicate() {
+        //every page is evaluated, only the templates are emitted
+        final BitSet evaluated = new BitSet();
+        MultistreamBzip2XmlDumpParser source = new MultistreamBzip2XmlDumpParser(dump.index, dump.pages, 10, 4);
+        source.setPagePredicate(new PagePredicate() {
+            @Override
+            public boolean accept(long id, int namespace, String title, boolean redirect) {
+                synchronized (evaluated) {
+                    evaluated.set((int)id);
+                }
+                assertEquals(TestDump.title(id), title);
+                return namespace == 10;
+            }
+        });
+
+        List<String> pages = readPages(source);
+        assertEquals(dump.numPages, evaluated.cardinality());
+        assertEquals(dump.numPages / 10, pages.size());
+        for (String page : pages) {
+            String[] fields = page.split("\t");
+            long id = Long.parseLong(fields[0]);
+            assertEquals(0, id % 10);
+            assertEquals(TestDump.title(id), fields[2]);
+            assertEquals(TestDump.text(id), fields[3]);
+        }
+    }
+
+    public void testWhitelist() throws IOException {
+        List<Long> ids = Arrays.asList(5L, 57L);
+        List<String> titles = Arrays.asList("Mall:Exempel 80", "Sida_123", "Sida 99999");
+
+        //the streams of the pages, stream 0 is the header, no other stream holds a whitelisted page
+        MultistreamPageLookup lookup = new MultistreamPageLookup(dump.index, dump.pages);
+        try {
+            assertEquals(new TreeSet<Integer>(Arrays.asList(1, 6, 8, 13)), lookup.findStreams(ids, titles));
+        } finally {
+            lookup.close();
+        }
+
+        MultistreamBzip2XmlDumpParser source = new MultistreamBzip2XmlDumpParser(dump.index, dump.pages, 10, 4);
+        source.setWhitelist(ids, titles);
+        assertEquals(Arrays.asList(
+                "123\t0\tSida 123\tText 123",
+                "5\t0\tSida 5\tText 5",
+                "57\t0\tSida 57\tText 57",
+                "80\t10\tMall:Exempel 80\tText 80"), readPages(source));
+
+        //only the selected blocks are read
+        final Set<Long> blocks = Collections.synchronizedSet(new TreeSet<Long>());
+        source = new MultistreamBzip2XmlDumpParser(dump.index, dump.pages, 10, 4);
+        source.setWhitelist(ids, titles);
+        source.setSequencer(new Sequencer() {
+            @Override
+            public void begin(long sequence) {
+                blocks.add(sequence);
+            }
+
+            @Override
+            public void complete(long sequence) {
+            }
+        });
+        assertEquals(4, readPages(source).size());
+        assertEquals(new TreeSet<Long>(Arrays.asList(0L, 1L, 2L, 3L)), blocks);
+    }
+
+    public void testTerminate() {
+        assertTrue(run(false, true) < dump.numPages / 2);
+    }
+
+    public void testTerminateMemoryMapped() {
+        //workers fetch their own blocks, they must stop after the fatal error of another worker
+        assertTrue(run(true, true) < dump.numPages / 2);
+    }
+
+    /**
+     * Read a shard, the ids of the pages are set in ids
+     * @return the number of pages of the shard
+     */
+    private static int runShard(TestDump dump, int shard, int numShards, boolean interleaved, final BitSet ids) {
+        final AtomicInteger pages = new AtomicInteger();
+        final List<String> errors = Collections.synchronizedList(new ArrayList<String>());
+        MultistreamBzip2XmlDumpParser source = new MultistreamBzip2XmlDumpParser(dump.index, dump.pages, 10, 2);
+        source.setShard(shard, numShards, interleaved);
+
+        PipelineBuilder.input(source).pipe(new Sink<Page>() {
+            @Override
+            public void process(List<Page> batch) {
+                for (Page page : batch) {
+                    //the header is parsed by every shard
+                    if(page.getHeader() == null || !"svwiki".equals(page.getHeader().getSiteinfo().getDbname()))
+                        errors.add("Page " + page.getId() + " has no header");
+
+                    synchronized (ids) {
+                        if(ids.get((int)page.getId()))
+                            errors.add("Page " + page.getId() + " is read twice");
+
+                        ids.set((int)page.getId());
+                    }
+                    pages.incrementAndGet();
+                }
+            }
+        }).run();
+
+        String message = "Shard " + shard + "/" + numShards + (interleaved ? " interleaved" : " contiguous");
+        assertFalse(message, source.isTerminated());
+        assertEquals(message, Collections.<String>emptyList(), errors);
+        return pages.get();
+    }
+
+    private static void assertShards(TestDump dump, int numShards, boolean interleaved) {
+        BitSet ids = new BitSet();
+        int nonEmpty = 0;
+        for (int shard = 0; shard < numShards; shard++) {
+            if(runShard(dump, shard, numShards, interleaved, ids) > 0)
+                nonEmpty++;
+        }
+
+        //together the shards read every block exactly once
+        String message = numShards + (interleaved ? " interleaved" : " contiguous") + " shards";
+        assertEquals(message, dump.numPages, ids.cardinality());
+        assertEquals(message, 1, ids.nextSetBit(0));
+        assertEquals(message, dump.numPages + 1, ids.nextClearBit(1));
+
+        //interleaved shards get a block each until there are no more, contiguous shards split on compressed size
+        int numBlocks = (dump.numPages + dump.pagesPerStream - 1) / dump.pagesPerStream;
+        if(interleaved)
+            assertEquals(message, Math.min(numShards, numBlocks), nonEmpty);
+        else
+            assertTrue(message, nonEmpty <= numBlocks);
+    }
+
+    public void testShards() throws IOException {
+        //10 page blocks, the last one partial
+        TestDump small = new TestDump(95, 10);
+        try {
+            for (int numShards : new int[] {1, 2, 3, 4, 7, 10, 11, 13}) {
+                assertShards(small, numShards, false);
+                assertShards(small, numShards, true);
+            }
+        } finally {
+            small.delete();
+        }
+    }
+}
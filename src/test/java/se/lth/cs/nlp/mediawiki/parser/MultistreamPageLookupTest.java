@@ -0,0 +1,181 @@
+package se.lth.cs.nlp.mediawiki.parser;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import se.lth.cs.nlp.mediawiki.model.Page;
+import se.lth.cs.nlp.pipeline.PipelineBuilder;
+import se.lth.cs.nlp.pipeline.Sink;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Tests of page lookup by id and title
+ */
+public class MultistreamPageLookupTest extends TestCase
+{
+    private TestDump dump;
+    private MultistreamPageLookup lookup;
+
+    public MultistreamPageLookupTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( MultistreamPageLookupTest.class );
+    }
+
+    @Override
+    protected void setUp() throws IOException {
+        dump = new TestDump(95, 10);
+        lookup = new MultistreamPageLookup(dump.index, dump.pages);
+    }
+
+    @Override
+    protected void tearDown() throws IOException {
+        lookup.close();
+        dump.delete();
+    }
+
+    private static void assertPage(long id, Page page) {
+        assertNotNull(page);
+        assertEquals(id, page.getId());
+        assertEquals(TestDump.title(id), page.getTitle());
+        assertEquals(TestDump.text(id), page.getContent());
+    }
+
+    private static List<Long> ids(List<Page> pages) {
+        List<Long> ids = new ArrayList<Long>();
+        for (Page page : pages) {
+            ids.add(page.getId());
+        }
+        return ids;
+    }
+
+    public void testSidecar() throws IOException {
+        File sidecar = MultistreamPageLookup.getSidecar(dump.index);
+        assertTrue(sidecar.exists());
+
+        //a valid sidecar is mapped, not written again
+        long old = 1000000000000L;
+        assertTrue(sidecar.setLastModified(old));
+        MultistreamPageLookup reopened = new MultistreamPageLookup(dump.index, dump.pages);
+        try {
+            assertEquals(old, sidecar.lastModified());
+            assertPage(42, reopened.getById(42));
+            assertPage(43, reopened.getByTitle("Sida 43"));
+        } finally {
+            reopened.close();
+        }
+    }
+
+    public void testSegments() throws IOException {
+        //8 entries per mapped segment, the 95 entries of every table span 12 segments
+        MultistreamPageLookup segmented = new MultistreamPageLookup(dump.index, dump.pages, 16, 64);
+        try {
+            for (long id = 1; id <= 95; id++) {
+                assertPage(id, segmented.getById(id));
+                assertPage(id, segmented.getByTitle(TestDump.title(id)));
+            }
+            assertNull(segmented.getById(96));
+            assertNull(segmented.getByTitle("Sida 30"));
+        } finally {
+            segmented.close();
+        }
+    }
+
+    public void testInvalidSidecar() throws IOException {
+        //a count that does not match the size of the file, the sidecar is rebuilt
+        File sidecar = MultistreamPageLookup.getSidecar(dump.index);
+        RandomAccessFile file = new RandomAccessFile(sidecar, "rw");
+        try {
+            file.seek(4 + 4 + 8 + 8);
+            file.writeInt(Integer.MAX_VALUE);
+        } finally {
+            file.close();
+        }
+
+        MultistreamPageLookup rebuilt = new MultistreamPageLookup(dump.index, dump.pages);
+        try {
+            assertPage(42, rebuilt.getById(42));
+            assertPage(43, rebuilt.getByTitle("Sida 43"));
+        } finally {
+            rebuilt.close();
+        }
+
+        file = new RandomAccessFile(sidecar, "r");
+        try {
+            file.seek(4 + 4 + 8 + 8);
+            assertEquals(95, file.readInt());
+        } finally {
+            file.close();
+        }
+    }
+
+    public void testGetById() {
+        assertPage(1, lookup.getById(1));
+        assertPage(10, lookup.getById(10));
+        assertPage(95, lookup.getById(95));
+        assertNull(lookup.getById(96));
+        assertNull(lookup.getById(0));
+    }
+
+    public void testGetByTitle() {
+        assertPage(42, lookup.getByTitle("Sida 42"));
+        assertPage(42, lookup.getByTitle("Sida_42"));
+        assertPage(7, lookup.getByTitle(" Sida 7 "));
+        assertPage(30, lookup.getByTitle("Mall:Exempel 30"));
+        assertNull(lookup.getByTitle("Sida 30"));
+        assertNull(lookup.getByTitle("Sida 999"));
+    }
+
+    public void testFindStreams() {
+        TreeSet<Integer> streams = lookup.findStreams(Arrays.asList(1L, 11L, 95L), Collections.singleton("Sida_55"));
+        assertEquals(new TreeSet<Integer>(Arrays.asList(1, 2, 6, 10)), streams);
+    }
+
+    public void testLookup() {
+        //a page requested by both id and title is found once, pages are in dump order
+        List<Page> found = lookup.lookup(Arrays.asList(95L, 3L, 1000L), Arrays.asList("Sida 51", "Sida_3"));
+        assertEquals(Arrays.asList(3L, 51L, 95L), ids(found));
+    }
+
+    public void testSource() {
+        final List<Long> ids = new ArrayList<Long>();
+        final List<Integer> batches = new ArrayList<Integer>();
+        List<Long> requested = new ArrayList<Long>();
+        for (long id = 1; id <= 95; id += 3) {
+            requested.add(id);
+        }
+
+        PipelineBuilder.input(lookup.source(requested, Collections.singleton("Mall:Exempel 20"), 4)).pipe(new Sink<Page>() {
+            @Override
+            public void process(List<Page> batch) {
+                batches.add(batch.size());
+                for (Page page : batch) {
+                    assertPage(page.getId(), page);
+                    ids.add(page.getId());
+                }
+            }
+        }).run();
+
+        requested.add(20L);
+        Collections.sort(requested);
+        assertEquals(requested, ids);
+
+        //full batches, then the end signal
+        assertEquals(0, (int)batches.get(batches.size() - 1));
+        for (int i = 0; i < batches.size() - 2; i++) {
+            assertEquals(4, (int)batches.get(i));
+        }
+    }
+}
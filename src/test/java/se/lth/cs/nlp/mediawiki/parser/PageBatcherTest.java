@@ -0,0 +1,104 @@
+package se.lth.cs.nlp.mediawiki.parser;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import org.apache.commons.lang3.StringUtils;
+import se.lth.cs.nlp.mediawiki.model.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests of the page and byte limits of batches
+ */
+public class PageBatcherTest extends TestCase
+{
+    public PageBatcherTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( PageBatcherTest.class );
+    }
+
+    /**
+     * @param bytes the size of the page, two bytes per char
+     */
+    private static Page page(int bytes) {
+        return new Page(null, 1L, "", StringUtils.repeat('a', bytes / 2), 1L, 0, "text/x-wiki");
+    }
+
+    /**
+     * Batch pages as the parsers do
+     * @return the sizes of the batches in pages
+     */
+    private static List<Integer> batch(PageBatcher batcher, long maxBytes, int... sizes) {
+        List<ArrayList<Page>> batches = new ArrayList<ArrayList<Page>>();
+        for (int size : sizes) {
+            Page page = page(size);
+            if(batcher.wouldOverflow(page))
+                batches.add(batcher.take());
+
+            if(batcher.add(page))
+                batches.add(batcher.take());
+        }
+
+        if(!batcher.isEmpty())
+            batches.add(batcher.take());
+
+        List<Integer> pages = new ArrayList<Integer>();
+        for (ArrayList<Page> batch : batches) {
+            long bytes = 0;
+            for (Page page : batch) {
+                bytes += PageBatcher.size(page);
+            }
+
+            //only a single page may go over the limit
+            if(maxBytes > 0 && batch.size() > 1)
+                assertTrue(bytes <= maxBytes);
+
+            pages.add(batch.size());
+        }
+        return pages;
+    }
+
+    private static List<Integer> sizes(Integer... sizes) {
+        List<Integer> list = new ArrayList<Integer>();
+        for (Integer size : sizes) {
+            list.add(size);
+        }
+        return list;
+    }
+
+    public void testPageCap() {
+        PageBatcher batcher = new PageBatcher(3, 0);
+        assertEquals(sizes(3, 3, 1), batch(batcher, 0, 100, 100, 100, 100, 100, 100, 100));
+    }
+
+    public void testByteCap() {
+        PageBatcher batcher = new PageBatcher(100, 1000);
+        assertEquals(sizes(2, 2, 1), batch(batcher, 1000, 400, 400, 400, 400, 400));
+
+        //a batch that reaches the limit exactly is full
+        assertEquals(sizes(2, 1), batch(batcher, 1000, 500, 500, 200));
+    }
+
+    public void testPageAfterFullBatch() {
+        //990 bytes of pages are taken before a page that would take the batch over the limit
+        PageBatcher batcher = new PageBatcher(100, 1000);
+        assertEquals(sizes(3, 1, 1), batch(batcher, 1000, 330, 330, 330, 2000, 100));
+    }
+
+    public void testOversizedPage() {
+        PageBatcher batcher = new PageBatcher(100, 1000);
+        assertFalse(batcher.wouldOverflow(page(2000)));
+        assertTrue(batcher.add(page(2000)));
+        assertEquals(1, batcher.take().size());
+        assertTrue(batcher.isEmpty());
+
+        assertEquals(sizes(1, 1, 1), batch(batcher, 1000, 2000, 4000, 2000));
+    }
+}
@@ -0,0 +1,107 @@
+package se.lth.cs.nlp.mediawiki.parser;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+
+import java.io.*;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Round trip tests of the parallel bzip2 decoder against the sequential decoder
+ */
+public class ParallelBzip2InputStreamTest extends TestCase
+{
+    public ParallelBzip2InputStreamTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( ParallelBzip2InputStreamTest.class );
+    }
+
+    /**
+     * Text like data that compresses about as well as wikimarkup
+     */
+    private static byte[] text(int size, long seed) {
+        String[] words = {"[[Stockholm]]", "är", "en", "stad", "i", "Sverige", "{{Infobox", "|namn=", "}}", "\n", "'''", "och", "den", "1998"};
+        Random random = new Random(seed);
+        StringBuilder sb = new StringBuilder(size + 32);
+        while(sb.length() < size) {
+            sb.append(words[random.nextInt(words.length)]).append(random.nextInt(4) == 0 ? random.nextInt(10000) : ' ');
+        }
+        sb.setLength(size);
+
+        try {
+            return sb.toString().getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IOError(e);
+        }
+    }
+
+    private static byte[] compress(byte[] data, int blockSize) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        BZip2CompressorOutputStream bzip2 = new BZip2CompressorOutputStream(output, blockSize);
+        bzip2.write(data);
+        bzip2.close();
+        return output.toByteArray();
+    }
+
+    private static byte[] readAll(InputStream input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while((read = input.read(buffer)) != -1) {
+            output.write(buffer, 0, read);
+        }
+        input.close();
+        return output.toByteArray();
+    }
+
+    private static void assertRoundTrip(byte[] compressed, byte[] expected) throws IOException {
+        byte[] sequential = readAll(new BZip2CompressorInputStream(new ByteArrayInputStream(compressed), true));
+        assertTrue(Arrays.equals(expected, sequential));
+
+        for (int numThreads : new int[] {1, 2, 4}) {
+            byte[] parallel = readAll(new ParallelBzip2InputStream(new ByteArrayInputStream(compressed), numThreads));
+            assertEquals(sequential.length, parallel.length);
+            assertTrue(Arrays.equals(sequential, parallel));
+        }
+    }
+
+    public void testMultiBlock() throws IOException {
+        //blocks of 100 kB
+        byte[] data = text(1500 * 1024, 1);
+        assertRoundTrip(compress(data, 1), data);
+    }
+
+    public void testMultistream() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+
+        //small streams like a multistream dump, one larger stream with several blocks and an empty stream
+        int[] sizes = {200, 5000, 1, 350 * 1024, 0, 64 * 1024, 9};
+        for (int i = 0; i < sizes.length; i++) {
+            byte[] data = text(sizes[i], i);
+            compressed.write(compress(data, 1));
+            expected.write(data);
+        }
+
+        assertRoundTrip(compressed.toByteArray(), expected.toByteArray());
+    }
+
+    public void testTruncated() throws IOException {
+        byte[] compressed = compress(text(300 * 1024, 2), 1);
+        try {
+            readAll(new ParallelBzip2InputStream(new ByteArrayInputStream(Arrays.copyOf(compressed, compressed.length / 2)), 2));
+            fail("Truncated data must fail");
+        } catch (IOException e) {
+            //expected
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package se.lth.cs.nlp.mediawiki.parser;
+
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+
+import java.io.*;
+
+/**
+ * A generated multistream dump for tests: page i has id i, title "Sida i" and text "Text i",
+ * every tenth page is the template "Mall:Exempel i". Streams hold a fixed number of pages as in real dumps.
+ */
+public class TestDump {
+    public static final String HEADER =
+            "<mediawiki xmlns=\"http://www.mediawiki.org/xml/export-0.8/\" version=\"0.8\" xml:lang=\"sv\">\n" +
+            "  <siteinfo>\n" +
+            "    <sitename>Wikipedia</sitename>\n" +
+            "    <dbname>svwiki</dbname>\n" +
+            "    <base>http://sv.wikipedia.org/wiki/Portal:Huvudsida</base>\n" +
+            "    <generator>MediaWiki 1.23wmf10</generator>\n" +
+            "    <case>first-letter</case>\n" +
+            "    <namespaces>\n" +
+            "      <namespace key=\"0\" case=\"first-letter\" />\n" +
+            "      <namespace key=\"10\" case=\"first-letter\">Mall</namespace>\n" +
+            "    </namespaces>\n" +
+            "  </siteinfo>\n";
+
+    public static final String FOOTER = "</mediawiki>\n";
+
+    public final File directory;
+    public final File pages;
+    public final File index;
+    public final int numPages;
+    public final int pagesPerStream;
+
+    /**
+     * Write a dump to a new temporary directory
+     * @param numPages the number of pages, with ids 1 to numPages
+     * @param pagesPerStream the number of pages in a bzip2 stream
+     */
+    public TestDump(int numPages, int pagesPerStream) throws IOException {
+        this.numPages = numPages;
+        this.pagesPerStream = pagesPerStream;
+        this.directory = File.createTempFile("wikiforia-test", "");
+        if(!directory.delete() || !directory.mkdir())
+            throw new IOException("Could not create " + directory);
+
+        this.pages = new File(directory, "svwiki-test-pages-articles-multistream.xml.bz2");
+        this.index = new File(directory, "svwiki-test-pages-articles-multistream-index.txt.bz2");
+
+        FileOutputStream output = new FileOutputStream(pages);
+        StringBuilder indexText = new StringBuilder();
+        try {
+            long offset = stream(output, HEADER);
+            for (int first = 1; first <= numPages; first += pagesPerStream) {
+                StringBuilder xml = new StringBuilder();
+                for (int id = first; id < first + pagesPerStream && id <= numPages; id++) {
+                    indexText.append(offset).append(':').append(id).append(':').append(title(id)).append('\n');
+                    xml.append(page(id));
+                }
+                offset += stream(output, xml.toString());
+            }
+            stream(output, FOOTER);
+        } finally {
+            output.close();
+        }
+
+        output = new FileOutputStream(index);
+        try {
+            stream(output, indexText.toString());
+        } finally {
+            output.close();
+        }
+    }
+
+    public static String title(long id) {
+        return id % 10 == 0 ? "Mall:Exempel " + id : "Sida " + id;
+    }
+
+    public static String text(long id) {
+        return "Text " + id;
+    }
+
+    public static String page(long id) {
+        return "  <page>\n" +
+               "    <title>" + title(id) + "</title>\n" +
+               "    <ns>" + (id % 10 == 0 ? 10 : 0) + "</ns>\n" +
+               "    <id>" + id + "</id>\n" +
+               "    <revision>\n" +
+               "      <id>" + (id * 10) + "</id>\n" +
+               "      <text xml:space=\"preserve\">" + text(id) + "</text>\n" +
+               "      <model>wikitext</model>\n" +
+               "      <format>text/x-wiki</format>\n" +
+               "    </revision>\n" +
+               "  </page>\n";
+    }
+
+    /**
+     * Write text as a bzip2 stream of its own
+     * @return the number of compressed bytes
+     */
+    private static long stream(OutputStream output, String text) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        BZip2CompressorOutputStream bzip2 = new BZip2CompressorOutputStream(compressed);
+        bzip2.write(text.getBytes("UTF-8"));
+        bzip2.close();
+        compressed.writeTo(output);
+        return compressed.size();
+    }
+
+    /**
+     * Remove the dump and its sidecars
+     */
+    public void delete() {
+        File[] files = directory.listFiles();
+        if(files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+        directory.delete();
+    }
+}
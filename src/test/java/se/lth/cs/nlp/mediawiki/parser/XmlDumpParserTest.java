@@ -0,0 +1,145 @@
+package se.lth.cs.nlp.mediawiki.parser;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import se.lth.cs.nlp.mediawiki.model.Page;
+
+import java.io.ByteArrayInputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tests of page predicates in the StAX dump parser
+ */
+public class XmlDumpParserTest extends TestCase
+{
+    private static final String XML =
+            TestDump.HEADER +
+            page(1, 0, "Artikel", "", revision("Artikeltext")) +
+            page(2, 0, "Omdirigering", "    <redirect title=\"Artikel\" />\n", revision("#OMDIRIGERING [[Artikel]]")) +
+            page(3, 10, "Mall:Exempel", "", revision("F\u00f6rsta") + revision("Andra {{{1}}}")) +
+            page(4, 1, "Diskussion:Artikel", "", "") +
+            page(5, 10, "Mall:Annan", "    <redirect title=\"Mall:Exempel\" />\n", revision("#OMDIRIGERING [[Mall:Exempel]]")) +
+            page(6, 0, "Sista", "", revision("Sista texten")) +
+            TestDump.FOOTER;
+
+    public XmlDumpParserTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( XmlDumpParserTest.class );
+    }
+
+    private static String page(long id, int ns, String title, String redirect, String revisions) {
+        return "  <page>\n" +
+               "    <title>" + title + "</title>\n" +
+               "    <ns>" + ns + "</ns>\n" +
+               "    <id>" + id + "</id>\n" +
+               redirect +
+               revisions +
+               "  </page>\n";
+    }
+
+    private static String revision(String text) {
+        return "    <revision>\n" +
+               "      <id>1000</id>\n" +
+               "      <timestamp>2014-01-01T00:00:00Z</timestamp>\n" +
+               "      <model>wikitext</model>\n" +
+               "      <format>text/x-wiki</format>\n" +
+               "      <text xml:space=\"preserve\">" + text + "</text>\n" +
+               "    </revision>\n";
+    }
+
+    private static List<Page> parse(PagePredicate predicate) {
+        XmlDumpParser parser;
+        try {
+            parser = new XmlDumpParser(new ByteArrayInputStream(XML.getBytes("UTF-8")));
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+        parser.setPredicate(predicate);
+
+        ArrayList<Page> pages = new ArrayList<Page>();
+        Page page;
+        while( (page = parser.next()) != null) {
+            pages.add(page);
+        }
+        return pages;
+    }
+
+    /**
+     * Parse with a predicate and compare with the pages of a parse without it
+     * @param predicate the predicate
+     * @param ids the ids of the expected pages
+     */
+    private static void assertPages(PagePredicate predicate, Long...ids) {
+        List<Page> all = parse(null);
+        List<Page> filtered = parse(predicate);
+
+        List<Long> actualIds = new ArrayList<Long>();
+        for (Page page : filtered) {
+            actualIds.add(page.getId());
+        }
+        assertEquals(Arrays.asList(ids), actualIds);
+
+        //accepted pages are complete, also after skipped pages
+        for (Page page : filtered) {
+            Page expected = null;
+            for (Page candidate : all) {
+                if(candidate.getId() == page.getId())
+                    expected = candidate;
+            }
+
+            assertEquals(expected.getTitle(), page.getTitle());
+            assertEquals(expected.getNamespace(), page.getNamespace());
+            assertEquals(expected.getContent(), page.getContent());
+            assertEquals(expected.getRevision(), page.getRevision());
+            assertEquals(expected.getFormat(), page.getFormat());
+        }
+    }
+
+    public void testNoPredicate() {
+        assertPages(null, 1L, 2L, 3L, 4L, 5L, 6L);
+        assertEquals("Artikeltext", parse(null).get(0).getContent());
+    }
+
+    public void testPredicates() {
+        assertPages(PagePredicates.noRedirects(), 1L, 3L, 4L, 6L);
+        assertPages(PagePredicates.namespaces(Arrays.asList(10)), 3L, 5L);
+        assertPages(PagePredicates.namespaces(Arrays.asList(0, 1)), 1L, 2L, 4L, 6L);
+        assertPages(PagePredicates.titlePrefixes(Arrays.asList("Mall:", "S")), 3L, 5L, 6L);
+        assertPages(PagePredicates.all(Arrays.asList(PagePredicates.noRedirects(),
+                                                     PagePredicates.namespaces(Arrays.asList(10)))), 3L);
+        assertPages(PagePredicates.namespaces(Arrays.asList(14)));
+    }
+
+    public void testEveryPageEvaluated() {
+        //every page reaches the predicate with its fields, whether or not the previous page was skipped
+        final List<String> seen = new ArrayList<String>();
+        List<Page> pages = parse(new PagePredicate() {
+            @Override
+            public boolean accept(long id, int namespace, String title, boolean redirect) {
+                String fields = id + " " + namespace + " " + title + " " + redirect;
+                if(seen.isEmpty() || !seen.get(seen.size() - 1).equals(fields))
+                    seen.add(fields);
+
+                return id % 2 == 0;
+            }
+        });
+
+        assertEquals(Arrays.asList("1 0 Artikel false",
+                                   "2 0 Omdirigering true",
+                                   "3 10 Mall:Exempel false",
+                                   "4 1 Diskussion:Artikel false",
+                                   "5 10 Mall:Annan true",
+                                   "6 0 Sista false"), seen);
+        assertEquals(3, pages.size());
+        assertEquals("Sista texten", pages.get(2).getContent());
+    }
+}
@@ -0,0 +1,218 @@
+package se.lth.cs.nlp.mediawiki.parser;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import se.lth.cs.nlp.mediawiki.model.Header;
+import se.lth.cs.nlp.mediawiki.model.Page;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOError;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Equivalence tests of the byte level scanner against the StAX parser
+ */
+public class XmlDumpScannerTest extends TestCase
+{
+    private static final String HEADER =
+            "<mediawiki xmlns=\"http://www.mediawiki.org/xml/export-0.8/\" version=\"0.8\" xml:lang=\"sv\">\n" +
+            "  <siteinfo>\n" +
+            "    <sitename>Wikipedia</sitename>\n" +
+            "    <base>http://sv.wikipedia.org/wiki/Portal:Huvudsida</base>\n" +
+            "    <generator>MediaWiki 1.23wmf10</generator>\n" +
+            "    <case>first-letter</case>\n" +
+            "    <namespaces>\n" +
+            "      <namespace key=\"-1\" case=\"first-letter\">Special</namespace>\n" +
+            "      <namespace key=\"0\" case=\"first-letter\" />\n" +
+            "      <namespace key=\"10\" case=\"first-letter\">Mall</namespace>\n" +
+            "    </namespaces>\n" +
+            "  </siteinfo>\n";
+
+    private static final String FOOTER = "</mediawiki>\n";
+
+    public XmlDumpScannerTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( XmlDumpScannerTest.class );
+    }
+
+    private static String page(long id, int ns, String title, String revision) {
+        return "  <page>\n" +
+               "    <title>" + title + "</title>\n" +
+               "    <ns>" + ns + "</ns>\n" +
+               "    <id>" + id + "</id>\n" +
+               revision +
+               "  </page>\n";
+    }
+
+    private static String revision(String timestamp, String text) {
+        return "    <revision>\n" +
+               "      <id>1000</id>\n" +
+               "      <parentid>999</parentid>\n" +
+               "      <timestamp>" + timestamp + "</timestamp>\n" +
+               "      <contributor>\n" +
+               "        <username>Användare</username>\n" +
+               "        <id>42</id>\n" +
+               "      </contributor>\n" +
+               "      <comment>Ändrade &lt;b&gt; &amp; annat</comment>\n" +
+               "      <model>wikitext</model>\n" +
+               "      <format>text/x-wiki</format>\n" +
+               "      " + text + "\n" +
+               "      <sha1>abcdef</sha1>\n" +
+               "    </revision>\n";
+    }
+
+    private static String pages() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(page(1, 0, "Alfred Nobel", revision("2013-12-24T11:07:45Z",
+                "<text xml:space=\"preserve\" bytes=\"10\">'''Alfred''' [[Sverige|Sverige]] {{Mall|a=b}} &lt;ref&gt;x&lt;/ref&gt; &amp;nbsp;</text>")));
+        sb.append(page(2, 0, "AT&amp;T", revision("2000-02-29T23:59:59Z",
+                "<text xml:space=\"preserve\">Åäö &#229;&#xE4; &#x1F600; &quot;citat&quot; &apos;x&apos;</text>")));
+        sb.append(page(3, 10, "Mall:Tom", revision("2014-01-01T00:00:00Z",
+                "<text xml:space=\"preserve\" bytes=\"0\" />")));
+        sb.append("  <page>\n    <title>Omdirigering</title>\n    <ns>0</ns>\n    <id>4</id>\n" +
+                  "    <redirect title=\"Alfred &gt; Nobel\" />\n" +
+                  revision("2012-06-30T12:00:00Z", "<text xml:space=\"preserve\">#OMDIRIGERING [[Alfred Nobel]]</text>") +
+                  "  </page>\n");
+        sb.append(page(5, 0, "Flera versioner",
+                revision("2010-01-01T00:00:00Z", "<text>Första</text>") +
+                revision("2011-01-01T00:00:00Z", "<text>Andra <!-- kommentar --><![CDATA[<b>rå & data</b>]]> slut</text>")));
+        sb.append(page(6, 0, "Radslut", revision("1999-12-31T23:59:59Z",
+                "<text xml:space=\"preserve\">rad 1\r\nrad 2\rrad 3&#13;\n</text>")));
+        sb.append(page(7, 1, "Diskussion:Utan revision", ""));
+        sb.append("  <!-- kommentar mellan sidor -->\n");
+        sb.append(page(8, 0, "Sista", revision("2014-03-02T01:02:03Z",
+                "<text deleted=\"deleted\" />")));
+        return sb.toString();
+    }
+
+    private static byte[] utf8(String xml) {
+        try {
+            return xml.getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static List<Page> readAll(PageParser parser) {
+        ArrayList<Page> pages = new ArrayList<Page>();
+        Page page;
+        while( (page = parser.next()) != null) {
+            pages.add(page);
+        }
+        return pages;
+    }
+
+    private static void assertSamePages(List<Page> expected, List<Page> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Page a = expected.get(i);
+            Page b = actual.get(i);
+            assertEquals(a.getId(), b.getId());
+            assertEquals(a.getTitle(), b.getTitle());
+            assertEquals(a.getNamespace(), b.getNamespace());
+            assertEquals(a.getRevision(), b.getRevision());
+            assertEquals(a.getFormat(), b.getFormat());
+            assertEquals(a.getTitle(), a.getContent(), b.getContent());
+        }
+    }
+
+    private void assertEquivalent(PagePredicate predicate) {
+        byte[] xml = utf8(HEADER + pages() + FOOTER);
+
+        XmlDumpParser stax = new XmlDumpParser(new ByteArrayInputStream(xml));
+        stax.setPredicate(predicate);
+        List<Page> expected = readAll(stax);
+
+        for (int bufferSize : Arrays.asList(1, 2, 3, 7, 64, 1024, 256 * 1024)) {
+            XmlDumpScanner scanner = new XmlDumpScanner(null, new ByteArrayInputStream(xml), bufferSize);
+            scanner.setPredicate(predicate);
+            assertSamePages(expected, readAll(scanner));
+        }
+    }
+
+    public void testStandalone() {
+        assertEquivalent(null);
+    }
+
+    public void testPredicate() {
+        assertEquivalent(PagePredicates.noRedirects());
+        assertEquivalent(PagePredicates.namespaces(Arrays.asList(10)));
+        assertEquivalent(PagePredicates.titlePrefixes(Arrays.asList("A", "Sista")));
+    }
+
+    public void testHeader() {
+        byte[] xml = utf8(HEADER + pages() + FOOTER);
+        Header expected = new XmlDumpParser(new ByteArrayInputStream(xml)).next().getHeader();
+        Header actual = new XmlDumpScanner(null, new ByteArrayInputStream(xml), 5).next().getHeader();
+
+        assertEquals(expected.getLang(), actual.getLang());
+        assertEquals(expected.getVersion(), actual.getVersion());
+        assertEquals(expected.getSiteinfo().getSitename(), actual.getSiteinfo().getSitename());
+        assertEquals(expected.getSiteinfo().getBase(), actual.getSiteinfo().getBase());
+        assertEquals(expected.getSiteinfo().getGenerator(), actual.getSiteinfo().getGenerator());
+        assertEquals(expected.getSiteinfo().getNamespaces(), actual.getSiteinfo().getNamespaces());
+    }
+
+    /**
+     * Multistream blocks have no header and the last one ends with the closing mediawiki tag
+     */
+    public void testMultistreamBlock() throws IOException {
+        Header header = XmlDumpParser.readHeaderStream(new ByteArrayInputStream(utf8(HEADER)));
+
+        for (String block : Arrays.asList(pages(), pages() + FOOTER)) {
+            byte[] xml = utf8(block);
+            List<Page> expected = readAll(new XmlDumpParser(header, new ByteArrayInputStream(xml)));
+            assertEquals(8, expected.size());
+
+            assertSamePages(expected, readAll(new XmlDumpScanner(header, xml)));
+            assertSamePages(expected, readAll(new XmlDumpScanner(header, new ByteArrayInputStream(xml), 3)));
+        }
+    }
+
+    public void testTimestamps() {
+        for (String timestamp : Arrays.asList("1970-01-01T00:00:00Z", "2000-02-29T23:59:59Z", "2001-09-09T01:46:40Z",
+                                              "2038-01-19T03:14:08Z", "1600-03-01T12:30:00Z", "2014-12-31T23:59:59Z",
+                                              "2014-01-01T00:00:00+02:00")) {
+            assertEquals(timestamp,
+                         javax.xml.bind.DatatypeConverter.parseDate(timestamp).getTimeInMillis(),
+                         XmlDumpScanner.parseTimestamp(timestamp));
+        }
+    }
+
+    private static String scanText(String text) {
+        byte[] xml = utf8(HEADER + page(1, 0, "Tecken", revision("2014-01-01T00:00:00Z", "<text>" + text + "</text>")) + FOOTER);
+        return new XmlDumpScanner(null, new ByteArrayInputStream(xml), 7).next().getContent();
+    }
+
+    public void testCharacterReferences() {
+        assertEquals("\t", scanText("&#9;"));
+        assertEquals("a", scanText("&#x61;"));
+        assertEquals("\ud7ff", scanText("&#xD7FF;"));
+        assertEquals("\ue000", scanText("&#57344;"));
+        assertEquals(new String(Character.toChars(Character.MAX_CODE_POINT)), scanText("&#x10FFFF;"));
+        assertEquals(new String(Character.toChars(Character.MAX_CODE_POINT)), scanText("&#1114111;"));
+
+        //out of range, surrogates, NUL, no digits and invalid digits
+        for (String reference : Arrays.asList("&#x110000;", "&#1114112;", "&#99999999999;", "&#xFFFFFFFFF;",
+                                              "&#xD800;", "&#xDFFF;", "&#55296;", "&#57343;",
+                                              "&#0;", "&#x0;", "&#x00;",
+                                              "&#x;", "&#;", "&#12a;", "&#xG;")) {
+            try {
+                scanText(reference);
+                fail(reference + " is not a valid character reference");
+            } catch (IOError e) {
+                assertTrue(e.getCause().getMessage(), e.getCause().getMessage().startsWith("Invalid character reference"));
+            }
+        }
+    }
+}
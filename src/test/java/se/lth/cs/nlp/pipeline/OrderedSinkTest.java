@@ -0,0 +1,128 @@
+package se.lth.cs.nlp.pipeline;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tests of the reordering sink
+ */
+public class OrderedSinkTest extends TestCase
+{
+    public OrderedSinkTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( OrderedSinkTest.class );
+    }
+
+    /**
+     * Collects the items of all batches in the order they are released, counts the batches
+     */
+    private static class Collector implements Sink<Integer> {
+        public final List<Integer> items = new ArrayList<Integer>();
+        public int batches = 0;
+
+        @Override
+        public synchronized void process(List<Integer> batch) {
+            items.addAll(batch);
+            batches++;
+        }
+    }
+
+    public void testOutOfOrder() {
+        Collector collector = new Collector();
+        OrderedSink<Integer> sink = new OrderedSink<Integer>(collector, 4);
+
+        sink.begin(1);
+        sink.process(Arrays.asList(2, 3));
+        sink.complete(1);
+        assertTrue(collector.items.isEmpty());
+
+        //the oldest sequence is released directly, later sequences when it completes
+        sink.begin(0);
+        sink.process(Arrays.asList(0, 1));
+        assertEquals(Arrays.asList(0, 1), collector.items);
+
+        sink.complete(0);
+        assertEquals(Arrays.asList(0, 1, 2, 3), collector.items);
+    }
+
+    public void testEmptySequence() {
+        Collector collector = new Collector();
+        OrderedSink<Integer> sink = new OrderedSink<Integer>(collector, 4);
+
+        sink.begin(1);
+        sink.process(Arrays.asList(1));
+        sink.complete(1);
+
+        //a sequence without pages still releases the sequences after it, empty batches are dropped
+        sink.begin(0);
+        sink.process(Collections.<Integer>emptyList());
+        sink.complete(0);
+        assertEquals(Arrays.asList(1), collector.items);
+        assertEquals(1, collector.batches);
+
+        //outside of a sequence batches pass through, including the empty end signal
+        sink.process(Collections.<Integer>emptyList());
+        assertEquals(2, collector.batches);
+    }
+
+    public void testThreads() throws InterruptedException {
+        final int numSequences = 500;
+        final int batchesPerSequence = 3;
+        final Collector collector = new Collector();
+        final OrderedSink<Integer> sink = new OrderedSink<Integer>(collector, 8);
+        final AtomicLong sequences = new AtomicLong();
+
+        ArrayList<Thread> threads = new ArrayList<Thread>();
+        for (int i = 0; i < 6; i++) {
+            final Random random = new Random(i);
+            threads.add(new Thread() {
+                @Override
+                public void run() {
+                    long sequence;
+                    while((sequence = sequences.getAndIncrement()) < numSequences) {
+                        sink.begin(sequence);
+                        //every fifth sequence is empty
+                        for (int k = 0; k < batchesPerSequence && sequence % 5 != 4; k++) {
+                            if(random.nextInt(4) == 0)
+                                Thread.yield();
+
+                            sink.process(Arrays.asList((int)sequence * batchesPerSequence + k));
+                        }
+                        sink.complete(sequence);
+                    }
+                }
+            });
+        }
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+
+        for (Thread thread : threads) {
+            thread.join(10000);
+            assertFalse(thread.isAlive());
+        }
+
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int sequence = 0; sequence < numSequences; sequence++) {
+            for (int k = 0; k < batchesPerSequence && sequence % 5 != 4; k++) {
+                expected.add(sequence * batchesPerSequence + k);
+            }
+        }
+
+        assertEquals(expected, collector.items);
+    }
+}
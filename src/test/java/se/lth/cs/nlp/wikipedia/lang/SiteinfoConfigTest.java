@@ -0,0 +1,111 @@
+package se.lth.cs.nlp.wikipedia.lang;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import org.sweble.wikitext.engine.PageTitle;
+import org.sweble.wikitext.engine.config.WikiConfig;
+import se.lth.cs.nlp.mediawiki.model.Header;
+import se.lth.cs.nlp.mediawiki.parser.XmlDumpParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * Tests of the language config overlaid with the siteinfo of a dump header
+ */
+public class SiteinfoConfigTest extends TestCase
+{
+    private static String header(String lang, String dbname, String namespaces) {
+        return "<mediawiki xmlns=\"http://www.mediawiki.org/xml/export-0.8/\" version=\"0.8\" xml:lang=\"" + lang + "\">\n" +
+               "  <siteinfo>\n" +
+               "    <sitename>Testwiki</sitename>\n" +
+               "    <dbname>" + dbname + "</dbname>\n" +
+               "    <base>http://" + lang + ".example.org/wiki/Huvudsida</base>\n" +
+               "    <generator>MediaWiki 1.23wmf10</generator>\n" +
+               "    <case>first-letter</case>\n" +
+               "    <namespaces>\n" +
+               "      <namespace key=\"0\" case=\"first-letter\" />\n" +
+               namespaces +
+               "    </namespaces>\n" +
+               "  </siteinfo>\n";
+    }
+
+    private static String namespace(int key, String name) {
+        return "      <namespace key=\"" + key + "\" case=\"first-letter\">" + name + "</namespace>\n";
+    }
+
+    private static Header read(String xml) throws IOException {
+        return XmlDumpParser.readHeaderStream(new ByteArrayInputStream(xml.getBytes("UTF-8")));
+    }
+
+    private static int namespace(WikiConfig config, String title) throws Exception {
+        return PageTitle.make(config, title).getNamespace().getId();
+    }
+
+    public SiteinfoConfigTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( SiteinfoConfigTest.class );
+    }
+
+    public void testOverlay() throws Exception {
+        Header header = read(header("sv", "svtest", namespace(10, "Mall") + namespace(2300, "Gadget") + namespace(2301, "Bild")));
+        TemplateConfig base = new SwedishConfig();
+        SiteinfoConfig config = new SiteinfoConfig(header, base);
+        WikiConfig wiki = config.get();
+
+        assertSame(base, config.getBase());
+        assertEquals("sv", config.getIso639());
+        assertEquals("Testwiki", wiki.getSiteName());
+        assertEquals("http://sv.example.org/", wiki.getWikiUrl());
+
+        //namespaces of the base config and the dump
+        assertTrue(config.getNamespaceAliases(10).contains("Mall"));
+        assertEquals(10, namespace(wiki, "Mall:Exempel"));
+        assertEquals(6, namespace(wiki, "Fil:Exempel.jpg"));
+        assertEquals(0, namespace(wiki, "Ok\u00e4nd:Exempel"));
+
+        //only in the dump
+        assertNotNull(wiki.getNamespace(2300));
+        assertEquals(2300, namespace(wiki, "Gadget:Exempel"));
+
+        //an alias of the base config named by the dump moves to the namespace of the dump
+        assertTrue(base.getNamespaceAliases(6).contains("Bild"));
+        assertFalse(config.getNamespaceAliases(6).contains("Bild"));
+        assertEquals(2301, namespace(wiki, "Bild:Exempel.jpg"));
+
+        //magic words stay with the base config
+        assertEquals(base.getCI18nAlias("redirect"), config.getCI18nAlias("redirect"));
+    }
+
+    public void testLanguage() throws Exception {
+        //the language of the header wins over the base config
+        SiteinfoConfig config = new SiteinfoConfig(read(header("fi", "fitest", namespace(10, "Malline"))), new SwedishConfig());
+        assertEquals("fi", config.getIso639());
+        assertEquals("http://fi.example.org/", config.get().getWikiUrl());
+        assertEquals(10, namespace(config.get(), "Malline:Esimerkki"));
+        assertEquals(10, namespace(config.get(), "Mall:Exempel"));
+    }
+
+    public void testLangFactory() throws Exception {
+        Header header = read(header("sv", "svfactorytest", namespace(10, "Mall")));
+        TemplateConfig config = LangFactory.getConfig(header);
+        assertTrue(config instanceof SiteinfoConfig);
+        assertEquals("sv", ((SiteinfoConfig) config).getBase().getIso639());
+
+        //shared by dbname
+        assertSame(config, LangFactory.getConfig(read(header("sv", "svfactorytest", namespace(10, "Mall")))));
+
+        //unsupported languages overlay the English config
+        config = LangFactory.getConfig(read(header("xx-unknown", "unknownwiki", namespace(10, "Vorlage"))));
+        assertEquals("xx-unknown", config.getIso639());
+        assertEquals("en", ((SiteinfoConfig) config).getBase().getIso639());
+        assertEquals(10, namespace(config.get(), "Vorlage:Beispiel"));
+        assertEquals(10, namespace(config.get(), "Template:Example"));
+    }
+}
@@ -0,0 +1,125 @@
+package se.lth.cs.nlp.wikipedia.lang;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+/**
+ * Tests of the excluded sections of the language configs
+ */
+public class TemplateConfigTest extends TestCase
+{
+    private static final String[] ENGLISH = {"See also", "Notes", "Writings", "References", "Publications",
+                                             "Bibliography", "Further reading", "External links"};
+
+    public TemplateConfigTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( TemplateConfigTest.class );
+    }
+
+    private static void assertExcluded(TemplateConfig config, String...titles) {
+        for (String title : titles) {
+            assertTrue(config.getIso639() + ": " + title, config.isExcludedSection(title));
+        }
+    }
+
+    private static void assertNotExcluded(TemplateConfig config, String...titles) {
+        for (String title : titles) {
+            assertFalse(config.getIso639() + ": " + title, config.isExcludedSection(title));
+        }
+    }
+
+    public void testLanguageSections() {
+        TemplateConfig sv = new ResourceConfig("sv");
+        assertExcluded(sv, ENGLISH);
+        assertExcluded(sv, "K\u00e4llor", "Se \u00e4ven", "Externa l\u00e4nkar", "Referenser", "Noter");
+        assertNotExcluded(sv, "Historia", "", "\u53c2\u8003\u8d44\u6599", "Einzelnachweise");
+
+        TemplateConfig de = new ResourceConfig("de");
+        assertExcluded(de, ENGLISH);
+        assertExcluded(de, "Einzelnachweise", "Weblinks", "Siehe auch");
+        assertNotExcluded(de, "Geschichte", "K\u00e4llor");
+
+        TemplateConfig zh = new ResourceConfig("zh");
+        assertExcluded(zh, ENGLISH);
+        assertExcluded(zh, "\u53c2\u8003\u8d44\u6599", "\u5916\u90e8\u94fe\u63a5", "\u53c3\u8003\u8cc7\u6599");
+        assertNotExcluded(zh, "K\u00e4llor", "Weblinks");
+
+        //languages without a list in sections.txt only exclude the English sections
+        TemplateConfig ku = new ResourceConfig("ku");
+        assertEquals(ENGLISH.length, ku.getExcludedSections().size());
+        assertExcluded(ku, ENGLISH);
+    }
+
+    public void testHandWrittenConfigs() {
+        assertEquals(new ResourceConfig("sv").getExcludedSections(), new SwedishConfig().getExcludedSections());
+        assertEquals(new ResourceConfig("de").getExcludedSections(), new GermanConfig().getExcludedSections());
+        assertEquals(new ResourceConfig("fr").getExcludedSections(), new FrenchConfig().getExcludedSections());
+        assertEquals(new ResourceConfig("es").getExcludedSections(), new SpanishConfig().getExcludedSections());
+    }
+
+    public void testIgnoreCase() {
+        TemplateConfig sv = new ResourceConfig("sv");
+        assertExcluded(sv, "K\u00c4LLOR", "k\u00e4llor", "externa L\u00c4NKAR", "SEE ALSO", "see Also");
+        assertNotExcluded(sv, "K\u00e4llor ", "K\u00e4lla");
+    }
+
+    private static File langFile(String iso639, String sections) throws IOException {
+        File file = File.createTempFile("wikiforia-test", ".lang");
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+        try {
+            writer.write("# test config\n");
+            writer.write("sitename\tTestwiki\n");
+            writer.write("url\thttp://" + iso639 + ".example.org/\n");
+            writer.write("iso639\t" + iso639 + "\n");
+            writer.write("ns\t10\tMall\n");
+            if(sections != null)
+                writer.write("sections\t" + sections + "\n");
+        } finally {
+            writer.close();
+        }
+        return file;
+    }
+
+    public void testLangFileSections() throws IOException {
+        File file = langFile("sv", "Egna k\u00e4llor\tMer att l\u00e4sa");
+        try {
+            //in addition to the English sections and the list of the language
+            TemplateConfig config = new ResourceConfig(file);
+            assertExcluded(config, "Egna k\u00e4llor", "MER ATT L\u00c4SA", "K\u00e4llor");
+            assertExcluded(config, ENGLISH);
+            assertNotExcluded(config, "Historia");
+        } finally {
+            assertTrue(file.delete());
+        }
+
+        file = langFile("xx", " Own sources \tMore");
+        try {
+            TemplateConfig config = new ResourceConfig(file);
+            assertExcluded(config, "Own sources", "more");
+            assertExcluded(config, ENGLISH);
+            assertNotExcluded(config, "K\u00e4llor");
+            assertEquals(ENGLISH.length + 2, config.getExcludedSections().size());
+        } finally {
+            assertTrue(file.delete());
+        }
+
+        file = langFile("xx", null);
+        try {
+            assertEquals(ENGLISH.length, new ResourceConfig(file).getExcludedSections().size());
+        } finally {
+            assertTrue(file.delete());
+        }
+    }
+}
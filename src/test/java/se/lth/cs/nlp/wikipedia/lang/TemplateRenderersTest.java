@@ -0,0 +1,103 @@
+package se.lth.cs.nlp.wikipedia.lang;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import se.lth.cs.nlp.mediawiki.model.Page;
+import se.lth.cs.nlp.wikipedia.parser.SwebleWikimarkupToText;
+
+/**
+ * Tests of the inline template renderers through the text parser
+ */
+public class TemplateRenderersTest extends TestCase
+{
+    private static SwebleWikimarkupToText parser;
+
+    public TemplateRenderersTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( TemplateRenderersTest.class );
+    }
+
+    @Override
+    protected void setUp() {
+        if(parser == null)
+            parser = new SwebleWikimarkupToText(new SwedishConfig());
+    }
+
+    private static void assertText(String expected, String markup) {
+        Page page = new Page(null, 1L, "Test", markup, 1L, 0, "text/x-wiki");
+        assertEquals(markup, expected, parser.parse(page).getText());
+    }
+
+    public void testFixedText() {
+        assertText("1990\u20132000", "1990{{ndash}}2000");
+        assertText("a\u2014b", "a{{mdash}}b");
+        assertText("a - b", "a {{spaced ndash}} b");
+        assertText("a - b", "a{{snd}}b");
+        assertText("a b", "a{{nbsp}}b");
+    }
+
+    public void testArgument() {
+        assertText("A b c d", "A {{nowrap|b c}} d");
+        assertText("A b d", "A {{nobr|b}} d");
+        assertText("On 2001-01-02.", "On {{date|2001-01-02}}.");
+        assertText("A hej d", "A {{lang|sv|hej}} d");
+
+        //missing arguments render nothing
+        assertText("A d", "A {{nowrap}} d");
+        assertText("A d", "A {{lang|sv}} d");
+    }
+
+    public void testNamedPosition() {
+        assertText("A b c d", "A {{nowrap|1=b c}} d");
+        assertText("A hej d", "A {{lang|sv|2=hej}} d");
+        assertText("A hej d", "A {{lang|1=sv|2=hej}} d");
+
+        //the last of an unnamed and a named argument at the same position wins
+        assertText("A b d", "A {{nowrap|x|1=b}} d");
+        assertText("A 2 km d", "A {{convert|1|km|1=2}} d");
+    }
+
+    public void testConvert() {
+        assertText("It is 100 km long.", "It is {{convert|100|km}} long.");
+        assertText("It is 5 kg.", "It is {{cvt|5|kg|lb}}.");
+        assertText("It is 100 km long.", "It is {{convert|100|km|mi|abbr=on}} long.");
+
+        //ranges
+        assertText("It is 1 to 2 mi long.", "It is {{convert|1|to|2|mi|km}} long.");
+        assertText("It is 1 - 2 mi long.", "It is {{convert|1|-|2|mi}} long.");
+        assertText("It is 1 \u2013 2 mi long.", "It is {{convert|1|\u2013|2|mi}} long.");
+        assertText("It is 3 by 4 m.", "It is {{convert|3|by|4|m}}.");
+
+        //incomplete conversions render nothing
+        assertText("It is long.", "It is {{convert|1}} long.");
+        assertText("It is long.", "It is {{convert|1|to|2}} long.");
+    }
+
+    public void testNested() {
+        assertText("A b c d", "A {{nowrap|{{lang|fr|b}} c}} d");
+        assertText("A b \u2013 c d", "A {{nowrap|b {{ndash}} c}} d");
+        assertText("A 1\u20132 km d", "A {{nowrap|{{convert|1{{ndash}}2|km}}}} d");
+    }
+
+    public void testInlineMarkup() {
+        assertText("A the city is d", "A {{nowrap|[[Paris|the city]] is}} d");
+        assertText("A Paris d", "A {{lang|fr|[[Paris]]}} d");
+        assertText("A bonjour d", "A {{lang|fr|''bonjour''}} d");
+    }
+
+    public void testNames() {
+        assertText("A b d", "A {{Nowrap|b}} d");
+        assertText("A b d", "A {{nowrap |b}} d");
+        assertText("A \u2013 d", "A {{NDASH}} d");
+        assertText("A - d", "A {{Spaced_ndash}} d");
+
+        //templates without a renderer are dropped
+        assertText("A d", "A {{unknown|b}} d");
+    }
+}
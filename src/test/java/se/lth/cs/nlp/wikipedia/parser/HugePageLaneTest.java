@@ -0,0 +1,130 @@
+package se.lth.cs.nlp.wikipedia.parser;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import se.lth.cs.nlp.mediawiki.model.FailedPage;
+import se.lth.cs.nlp.mediawiki.model.Page;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static se.lth.cs.nlp.wikipedia.parser.TestParser.batch;
+import static se.lth.cs.nlp.wikipedia.parser.TestParser.page;
+
+/**
+ * Tests of the huge page lane, pages longer than 50 chars are huge
+ */
+public class HugePageLaneTest extends TestCase
+{
+    private static final int THRESHOLD = 50;
+    private static final int HUGE = 100;
+    private static final int SMALL = 10;
+
+    public HugePageLaneTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( HugePageLaneTest.class );
+    }
+
+    private static boolean isLaneThread(Thread thread) {
+        return thread.getName().startsWith("Huge Page Parser");
+    }
+
+    public void testPreserveOrder() {
+        TestParser parser = new TestParser();
+        parser.enableHugePageLane(THRESHOLD, 2, 4, true, false);
+
+        parser.process(batch(page("A", 0, SMALL), page("B", 200, HUGE), page("C", 0, SMALL), page("D", 50, HUGE), page("E", 0, SMALL)));
+
+        //the whole batch is emitted as one batch in the original order before process returns
+        assertEquals(Arrays.asList("A", "B", "C", "D", "E"), parser.output);
+        assertEquals(Arrays.asList(5), parser.batches);
+
+        assertTrue(isLaneThread(parser.threads.get("B")));
+        assertTrue(isLaneThread(parser.threads.get("D")));
+        assertSame(Thread.currentThread(), parser.threads.get("A"));
+
+        parser.process(Collections.<Page>emptyList());
+        assertEquals(Arrays.asList(5, 0), parser.batches);
+        assertEquals(2, parser.getHugePageStats().getPages());
+        assertEquals(3, parser.getSmallPageStats().getPages());
+    }
+
+    public void testUnordered() {
+        TestParser parser = new TestParser();
+        parser.enableHugePageLane(THRESHOLD, 2, 4, false, false);
+
+        parser.process(batch(page("A", 0, SMALL), page("B", 200, HUGE), page("C", 0, SMALL), page("D", 50, HUGE)));
+
+        //the small pages first, then every huge page on its own, all before process returns
+        assertEquals(Arrays.asList("A", "C", "B", "D"), parser.output);
+        assertEquals(Arrays.asList(2, 1, 1), parser.batches);
+
+        //a batch of only huge pages emits no empty batch, which would be taken for the end signal
+        parser.process(batch(page("E", 0, HUGE)));
+        assertEquals(Arrays.asList(2, 1, 1, 1), parser.batches);
+
+        parser.process(Collections.<Page>emptyList());
+        assertEquals(Arrays.asList(2, 1, 1, 1, 0), parser.batches);
+    }
+
+    public void testDetached() {
+        TestParser parser = new TestParser();
+        parser.enableHugePageLane(THRESHOLD, 1, 4, true, true);
+
+        long start = System.nanoTime();
+        parser.process(batch(page("A", 0, SMALL), page("B", 500, HUGE), page("C", 0, SMALL)));
+        parser.process(batch(page("D", 0, HUGE)));
+        long elapsed = (System.nanoTime() - start) / 1000000;
+
+        //process returned without waiting for the huge pages, only the small pages are emitted
+        assertTrue("process waited " + elapsed + " ms", elapsed < 400);
+        assertEquals(Arrays.asList("A", "C"), parser.output);
+
+        //the end signal waits for the lane and comes last
+        parser.process(Collections.<Page>emptyList());
+        assertEquals(Arrays.asList("A", "C", "B", "D"), parser.output);
+        assertEquals(Arrays.asList(2, 1, 1, 0), parser.batches);
+        assertTrue(isLaneThread(parser.threads.get("B")));
+    }
+
+    public void testLaneFull() {
+        for (boolean detached : new boolean[] {false, true}) {
+            TestParser parser = new TestParser();
+            parser.enableHugePageLane(THRESHOLD, 1, 1, false, detached);
+
+            //one page runs on the lane and one waits, the caller parses the other pages
+            parser.process(batch(page("A", 200, HUGE), page("B", 200, HUGE), page("C", 0, HUGE), page("D", 0, HUGE)));
+            parser.process(Collections.<Page>emptyList());
+
+            assertEquals(new HashSet<String>(Arrays.asList("A", "B", "C", "D")), new HashSet<String>(parser.output));
+            assertEquals(4, parser.output.size());
+            assertTrue(isLaneThread(parser.threads.get("A")));
+            assertTrue(isLaneThread(parser.threads.get("B")));
+            assertSame(Thread.currentThread(), parser.threads.get("C"));
+            assertSame(Thread.currentThread(), parser.threads.get("D"));
+            assertEquals(0, (int)parser.batches.get(parser.batches.size() - 1));
+        }
+    }
+
+    public void testFailures() {
+        for (boolean detached : new boolean[] {false, true}) {
+            TestParser parser = new TestParser();
+            parser.enableHugePageLane(THRESHOLD, 1, 4, true, detached);
+
+            parser.process(batch(page("A", 0, SMALL), page("B", -1, HUGE), page("C", 0, HUGE)));
+            parser.process(Collections.<Page>emptyList());
+
+            assertEquals(Arrays.asList("A", "C"), parser.output);
+            assertEquals(1, parser.errors.size());
+            assertEquals("B", parser.errors.get(0).getTitle());
+            assertEquals(FailedPage.Reason.ERROR, ((FailedPage)parser.errors.get(0)).getReason());
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package se.lth.cs.nlp.wikipedia.parser;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import se.lth.cs.nlp.mediawiki.model.FailedPage;
+import se.lth.cs.nlp.mediawiki.model.Page;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Tests of the parse budget
+ */
+public class ParseWatchdogTest extends TestCase
+{
+    public ParseWatchdogTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( ParseWatchdogTest.class );
+    }
+
+    private static Page page(String title) {
+        return new Page(null, 1L, title, "", 1L, 0, "text/x-wiki");
+    }
+
+    /**
+     * A task that blocks until released, records its thread
+     */
+    private static class BlockingTask implements ParseWatchdog.Task<String> {
+        public final CountDownLatch started = new CountDownLatch(1);
+        public final CountDownLatch release = new CountDownLatch(1);
+        public final AtomicReference<Thread> thread = new AtomicReference<Thread>();
+
+        @Override
+        public String run(Page page) {
+            thread.set(Thread.currentThread());
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return page.getTitle();
+        }
+    }
+
+    private static class ThreadTask implements ParseWatchdog.Task<Thread> {
+        @Override
+        public Thread run(Page page) {
+            return Thread.currentThread();
+        }
+    }
+
+    /**
+     * Wait for the abandoned parses to finish
+     */
+    private static void awaitRunning(ParseWatchdog watchdog, int running) throws InterruptedException {
+        long end = System.currentTimeMillis() + 10000;
+        while(watchdog.getRunning() != running && System.currentTimeMillis() < end)
+            Thread.sleep(5);
+
+        assertEquals(running, watchdog.getRunning());
+    }
+
+    public void testWithinBudget() {
+        ParseWatchdog watchdog = new ParseWatchdog(10000);
+        try {
+            Thread first = watchdog.run(page("A"), new ThreadTask());
+            Thread second = watchdog.run(page("B"), new ThreadTask());
+
+            //parses run on a parse thread of the caller, the same for every parse
+            assertNotSame(Thread.currentThread(), first);
+            assertSame(first, second);
+            assertEquals(0, watchdog.getAbandoned());
+        } finally {
+            watchdog.close();
+        }
+    }
+
+    public void testTimeout() throws InterruptedException {
+        ParseWatchdog watchdog = new ParseWatchdog(50, 4);
+        try {
+            Thread before = watchdog.run(page("A"), new ThreadTask());
+
+            BlockingTask blocked = new BlockingTask();
+            try {
+                watchdog.run(page("Slow"), blocked);
+                fail("The parse must exceed the budget");
+            } catch (ParseTimeoutException e) {
+                assertTrue(e.getMessage().contains("Slow"));
+            }
+
+            assertEquals(1, watchdog.getAbandoned());
+            assertEquals(1, watchdog.getRunning());
+            assertSame(before, blocked.thread.get());
+
+            //the abandoned parse keeps its thread, the caller continues on a new one
+            Thread after = watchdog.run(page("B"), new ThreadTask());
+            assertNotSame(before, after);
+            assertTrue(before.isAlive());
+
+            //the abandoned parse finishes in the background and its thread exits
+            blocked.release.countDown();
+            awaitRunning(watchdog, 0);
+            before.join(10000);
+            assertFalse(before.isAlive());
+            assertSame(after, watchdog.run(page("C"), new ThreadTask()));
+        } finally {
+            watchdog.close();
+        }
+    }
+
+    public void testFinishedAfterTimeout() throws Exception {
+        ParseWatchdog watchdog = new ParseWatchdog(50, 4);
+        try {
+            //the parse is done when the caller tries to abandon it, the result is used
+            ParseWatchdog.Parse<String> parse = watchdog.new Parse<String>(page("A"), new ParseWatchdog.Task<String>() {
+                @Override
+                public String run(Page page) {
+                    return page.getTitle();
+                }
+            });
+            assertEquals("A", parse.call());
+            assertFalse(parse.abandon());
+            assertEquals(0, watchdog.getRunning());
+
+            //abandoned while running, counted as running until done
+            final BlockingTask blocked = new BlockingTask();
+            final ParseWatchdog.Parse<String> running = watchdog.new Parse<String>(page("B"), blocked);
+            Thread thread = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        running.call();
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            };
+            thread.start();
+            blocked.started.await();
+            assertTrue(running.abandon());
+            assertEquals(1, watchdog.getRunning());
+            blocked.release.countDown();
+            thread.join(10000);
+            assertEquals(0, watchdog.getRunning());
+
+            //parses that end close to the budget either return their result or time out, never both
+            int results = 0;
+            for (int i = 0; i < 100; i++) {
+                try {
+                    assertEquals("C", watchdog.run(page("C"), new ParseWatchdog.Task<String>() {
+                        @Override
+                        public String run(Page page) {
+                            long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50);
+                            while(System.nanoTime() < end) {
+                                //busy wait to end as close to the budget as possible
+                            }
+                            return page.getTitle();
+                        }
+                    }));
+                    results++;
+                } catch (ParseTimeoutException e) {
+                    //abandoned
+                }
+            }
+
+            assertEquals(100 - results, watchdog.getAbandoned());
+            awaitRunning(watchdog, 0);
+        } finally {
+            watchdog.close();
+        }
+    }
+
+    public void testMaxAbandoned() throws InterruptedException {
+        final ParseWatchdog watchdog = new ParseWatchdog(50, 1);
+        try {
+            BlockingTask blocked = new BlockingTask();
+            try {
+                watchdog.run(page("Slow"), blocked);
+                fail("The parse must exceed the budget");
+            } catch (ParseTimeoutException e) {
+                //expected
+            }
+
+            //the cap is reached, the next parse waits for the abandoned parse
+            final AtomicInteger parsed = new AtomicInteger();
+            Thread waiting = new Thread() {
+                @Override
+                public void run() {
+                    watchdog.run(page("A"), new ParseWatchdog.Task<String>() {
+                        @Override
+                        public String run(Page page) {
+                            parsed.incrementAndGet();
+                            return page.getTitle();
+                        }
+                    });
+                }
+            };
+            waiting.start();
+
+            Thread.sleep(200);
+            assertTrue(waiting.isAlive());
+            assertEquals(0, parsed.get());
+            assertEquals(1, watchdog.getWaits());
+
+            blocked.release.countDown();
+            waiting.join(10000);
+            assertFalse(waiting.isAlive());
+            assertEquals(1, parsed.get());
+            assertEquals(0, watchdog.getRunning());
+        } finally {
+            watchdog.close();
+        }
+    }
+
+    public void testExceptions() {
+        ParseWatchdog watchdog = new ParseWatchdog(10000);
+        try {
+            watchdog.run(page("A"), new ParseWatchdog.Task<String>() {
+                @Override
+                public String run(Page page) {
+                    throw new IllegalStateException("broken");
+                }
+            });
+            fail("The exception of the parse must be rethrown");
+        } catch (IllegalStateException e) {
+            assertEquals("broken", e.getMessage());
+        } finally {
+            watchdog.close();
+        }
+
+        try {
+            new ParseWatchdog(100, 0);
+            fail("At least one abandoned parse must be allowed");
+        } catch (IllegalArgumentException e) {
+            //expected
+        }
+    }
+
+    public void testErrorSink() {
+        TestParser parser = new TestParser();
+        parser.setParseBudget(100);
+
+        parser.process(TestParser.batch(TestParser.page("Fast", 0, 10),
+                                        TestParser.page("Slow", 500, 10),
+                                        TestParser.page("Broken", -1, 10)));
+        parser.process(Collections.<Page>emptyList());
+
+        assertEquals("Fast", parser.output.get(0));
+        assertEquals(2, parser.errors.size());
+
+        FailedPage slow = (FailedPage)parser.errors.get(0);
+        assertEquals("Slow", slow.getTitle());
+        assertEquals(FailedPage.Reason.TIMEOUT, slow.getReason());
+        assertTrue(slow.getMessage().contains("100 ms"));
+
+        FailedPage broken = (FailedPage)parser.errors.get(1);
+        assertEquals("Broken", broken.getTitle());
+        assertEquals(FailedPage.Reason.ERROR, broken.getReason());
+    }
+}
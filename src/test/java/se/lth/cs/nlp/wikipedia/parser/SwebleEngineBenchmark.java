@@ -0,0 +1,133 @@
+package se.lth.cs.nlp.wikipedia.parser;
+
+import org.sweble.wikitext.engine.PageId;
+import org.sweble.wikitext.engine.PageTitle;
+import org.sweble.wikitext.engine.WtEngineImpl;
+import org.sweble.wikitext.engine.config.WikiConfig;
+import se.lth.cs.nlp.wikipedia.lang.SwedishConfig;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+
+/**
+ * Benchmark of the per parse setup cost that the thread confined engines remove.
+ *
+ * Compares a new engine and page id per parse (the old behaviour) with the engine of the thread and a page id
+ * resolved once per page, for setup only, template argument sized markup and complete articles.
+ *
+ * Run from the project root: java -cp target/classes:target/test-classes:[deps] se.lth.cs.nlp.wikipedia.parser.SwebleEngineBenchmark [rounds]
+ */
+public class SwebleEngineBenchmark {
+
+    private interface Case {
+        void run() throws Exception;
+    }
+
+    private static final String TITLE = "Alfred Nobel";
+
+    /** Typical template arguments, parsed one by one by the annotation parser */
+    private static final String[] ARGUMENTS = new String[] {
+            "[[Stockholm]], [[Sverige]]",
+            "21 oktober 1833",
+            "[[Kemist]], [[uppfinnare]] och [[industriman]]",
+            "'''Alfred Bernhard Nobel'''",
+            "[[Fil:Alfred Nobel.png|200px]]",
+            "[[Immanuel Nobel]] och Andriette Ahlsell"
+    };
+
+    private static String read(String name) throws IOException {
+        BufferedReader reader = new BufferedReader(new FileReader(new File("testdata/" + name + ".wiki")));
+        try {
+            StringBuilder sb = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                sb.append(line).append("\n");
+            }
+            return sb.toString();
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Run a case for a number of rounds after a warmup
+     * @return nanoseconds per round
+     */
+    private static double measure(Case c, int rounds) throws Exception {
+        for (int i = 0; i < Math.max(rounds / 5, 1); i++) {
+            c.run();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            c.run();
+        }
+        return (System.nanoTime() - start) / (double)rounds;
+    }
+
+    private static void report(String name, double before, double after) {
+        System.out.println(String.format("%-22s new engine: %12.1f us, reused engine: %12.1f us, saved: %6.1f %%",
+                                         name, before / 1000.0, after / 1000.0, 100.0 * (before - after) / before));
+    }
+
+    public static void main(String[] args) throws Exception {
+        final int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        final WikiConfig config = new SwedishConfig().get();
+        final String alfred = read("alfred_nobel");
+        final String helsingborg = read("helsingborg");
+        final PageId pageId = SwebleParserUtil.getPageId(config, TITLE, 1);
+
+        report("Setup",
+               measure(new Case() {
+                   @Override
+                   public void run() throws Exception {
+                       new WtEngineImpl(config);
+                       new PageId(PageTitle.make(config, TITLE), 1);
+                   }
+               }, rounds * 100),
+               measure(new Case() {
+                   @Override
+                   public void run() throws Exception {
+                       SwebleParserUtil.getEngine(config);
+                   }
+               }, rounds * 100));
+
+        report("Template arguments",
+               measure(new Case() {
+                   @Override
+                   public void run() throws Exception {
+                       for (String argument : ARGUMENTS) {
+                           WtEngineImpl engine = new WtEngineImpl(config);
+                           SwebleParserUtil.parseWikipage(engine, new PageId(PageTitle.make(config, TITLE), 1), argument);
+                       }
+                   }
+               }, rounds),
+               measure(new Case() {
+                   @Override
+                   public void run() throws Exception {
+                       for (String argument : ARGUMENTS) {
+                           SwebleParserUtil.parsePage(config, pageId, argument);
+                       }
+                   }
+               }, rounds));
+
+        report("Articles",
+               measure(new Case() {
+                   @Override
+                   public void run() throws Exception {
+                       SwebleParserUtil.parseWikipage(new WtEngineImpl(config), new PageId(PageTitle.make(config, "Alfred Nobel"), 1), alfred);
+                       SwebleParserUtil.parseWikipage(new WtEngineImpl(config), new PageId(PageTitle.make(config, "Helsingborg"), 1), helsingborg);
+                   }
+               }, Math.max(rounds / 100, 1)),
+               measure(new Case() {
+                   @Override
+                   public void run() throws Exception {
+                       SwebleParserUtil.parsePage(config, "Alfred Nobel", 1, alfred);
+                       SwebleParserUtil.parsePage(config, "Helsingborg", 1, helsingborg);
+                   }
+               }, Math.max(rounds / 100, 1)));
+    }
+}
@@ -0,0 +1,97 @@
+package se.lth.cs.nlp.wikipedia.parser;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import org.sweble.wikitext.engine.nodes.EngProcessedPage;
+import se.lth.cs.nlp.mediawiki.model.Page;
+import se.lth.cs.nlp.wikipedia.lang.SwedishConfig;
+import se.lth.cs.nlp.wikipedia.lang.TemplateConfig;
+
+/**
+ * Tests of the excluded sections of the text walker
+ */
+public class SwebleTextAstWalkerTest extends TestCase
+{
+    private static final String MARKUP =
+            "Inledning.\n" +
+            "== Historia ==\n" +
+            "Historia.\n" +
+            "== K\u00e4llor ==\n" +
+            "Svensk k\u00e4lla.\n" +
+            "== References ==\n" +
+            "English reference.\n" +
+            "== \u53c2\u8003\u8d44\u6599 ==\n" +
+            "Chinese reference.\n" +
+            "== Slut ==\n" +
+            "Slut.\n";
+
+    private static TemplateConfig config;
+
+    public SwebleTextAstWalkerTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( SwebleTextAstWalkerTest.class );
+    }
+
+    @Override
+    protected void setUp() {
+        if(config == null)
+            config = new SwedishConfig();
+    }
+
+    /**
+     * Parser that walks the page with a walker of either the language config or only the wiki config
+     */
+    private static class WalkerParser extends SwebleWikimarkupParserBase<String> {
+        private final boolean languageConfig;
+
+        public WalkerParser(TemplateConfig config, boolean languageConfig) {
+            super(config);
+            this.languageConfig = languageConfig;
+        }
+
+        @Override
+        protected String extract(Page page, EngProcessedPage cp) {
+            SwebleTextAstWalker walker = languageConfig ? new SwebleTextAstWalker(templateConfig)
+                                                        : new SwebleTextAstWalker(templateConfig.get());
+            return TextNormalizer.normalize((String)walker.go(cp.getPage()));
+        }
+    }
+
+    private static String parse(boolean languageConfig) {
+        return new WalkerParser(config, languageConfig).parse(new Page(null, 1L, "Sida", MARKUP, 1L, 0, "text/x-wiki"));
+    }
+
+    public void testLanguageSections() {
+        String text = parse(true);
+        assertTrue(text, text.contains("Historia."));
+        assertTrue(text, text.contains("Slut."));
+        assertTrue(text, text.contains("Chinese reference."));
+        assertFalse(text, text.contains("Svensk k\u00e4lla."));
+        assertFalse(text, text.contains("English reference."));
+    }
+
+    public void testDefaultSections() {
+        //a walker of a bare wiki config only excludes the English sections
+        String text = parse(false);
+        assertTrue(text, text.contains("Historia."));
+        assertTrue(text, text.contains("Slut."));
+        assertTrue(text, text.contains("Chinese reference."));
+        assertTrue(text, text.contains("Svensk k\u00e4lla."));
+        assertFalse(text, text.contains("English reference."));
+    }
+
+    public void testBuffer() throws Exception {
+        StringBuilder buffer = new StringBuilder("old");
+        SwebleTextAstWalker walker = new SwebleTextAstWalker(config.get(), buffer);
+        WalkerParser parser = new WalkerParser(config, true);
+        EngProcessedPage cp = parser.parseWikipage(new Page(null, 1L, "Sida", "Text.", 1L, 0, "text/x-wiki"));
+        assertSame(buffer, walker.go(cp.getPage()));
+        assertEquals("Text.", buffer.toString().trim());
+    }
+}
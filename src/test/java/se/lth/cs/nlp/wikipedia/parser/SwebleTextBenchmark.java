@@ -0,0 +1,106 @@
+/**
+ * This file is part of Wikiforia.
+ *
+ * Wikiforia is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Wikiforia is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with Foobar.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package se.lth.cs.nlp.wikipedia.parser;
+
+import org.sweble.wikitext.engine.nodes.EngProcessedPage;
+import se.lth.cs.nlp.mediawiki.model.Page;
+import se.lth.cs.nlp.wikipedia.lang.SwedishConfig;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Benchmark of the bytes allocated and the time spent per page when converting a parsed page to text,
+ * the Sweble parse itself is measured separately for comparison.
+ *
+ * Run from the project root: java -cp target/classes:target/test-classes:[deps] se.lth.cs.nlp.wikipedia.parser.SwebleTextBenchmark [rounds]
+ */
+public class SwebleTextBenchmark {
+
+    private interface Case {
+        void run() throws Exception;
+    }
+
+    private static String read(String name) throws IOException {
+        BufferedReader reader = new BufferedReader(new FileReader(new File("testdata/" + name + ".wiki")));
+        try {
+            StringBuilder sb = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                sb.append(line).append("\n");
+            }
+            return sb.toString();
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean)ManagementFactory.getThreadMXBean()).getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Run a case for a number of rounds after a warmup, and report bytes and time per round
+     */
+    private static void measure(String name, Case c, int rounds) throws Exception {
+        for (int i = 0; i < Math.max(rounds / 5, 1); i++) {
+            c.run();
+        }
+
+        long bytes = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < rounds; i++) {
+            c.run();
+        }
+        long time = System.nanoTime() - start;
+        bytes = allocatedBytes() - bytes;
+
+        System.out.println(String.format("%-28s %12.1f KiB/page %12.1f us/page",
+                                         name, bytes / 1024.0 / rounds, time / 1000.0 / rounds));
+    }
+
+    private static void measureArticle(final SwebleWikimarkupToText parser, String name, int rounds) throws Exception {
+        final Page page = new Page(null, 1L, name, read(name), 1L, 0, "text/x-wiki");
+        final EngProcessedPage cp = SwebleParserUtil.parsePage(parser.getConfig(), page.getTitle(), page.getRevision(), page.getContent());
+
+        measure(name + ", parse", new Case() {
+            @Override
+            public void run() throws Exception {
+                SwebleParserUtil.parsePage(parser.getConfig(), page.getTitle(), page.getRevision(), page.getContent());
+            }
+        }, Math.max(rounds / 10, 1));
+
+        measure(name + ", text", new Case() {
+            @Override
+            public void run() throws Exception {
+                parser.extract(page, cp);
+            }
+        }, rounds);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        SwebleWikimarkupToText parser = new SwebleWikimarkupToText(new SwedishConfig());
+
+        measureArticle(parser, "alfred_nobel", rounds);
+        measureArticle(parser, "helsingborg", rounds);
+    }
+}
@@ -0,0 +1,100 @@
+package se.lth.cs.nlp.wikipedia.parser;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import se.lth.cs.nlp.mediawiki.model.Page;
+import se.lth.cs.nlp.wikipedia.lang.SwedishConfig;
+import se.lth.cs.nlp.wikipedia.lang.TemplateConfig;
+
+/**
+ * Tests of template expansion through the text parser
+ */
+public class TemplateExpansionTest extends TestCase
+{
+    private static TemplateConfig config;
+    private TemplateStore store;
+
+    public TemplateExpansionTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( TemplateExpansionTest.class );
+    }
+
+    @Override
+    protected void setUp() {
+        if(config == null)
+            config = new SwedishConfig();
+
+        store = new TemplateStore(config.get());
+        store.add("Mall:Enkel", "enkel");
+        store.add("Mall:Argument", "[{{{1}}}]");
+        store.add("Mall:Djup1", "a {{Djup2}}");
+        store.add("Mall:Djup2", "b {{Djup3}}");
+        store.add("Mall:Djup3", "c {{Djup4}}");
+        store.add("Mall:Djup4", "d");
+        store.add("Mall:Loop", "x {{Loop}}");
+        store.complete();
+    }
+
+    @Override
+    protected void tearDown() {
+        store.close();
+    }
+
+    private static String parse(TemplateExpansion expansion, String markup) {
+        SwebleWikimarkupToText parser = new SwebleWikimarkupToText(config);
+        parser.setTemplateExpansion(expansion);
+        return parser.parse(new Page(null, 1L, "Sida", markup, 1L, 0, "text/x-wiki")).getText();
+    }
+
+    public void testExpansion() {
+        TemplateExpansion expansion = new TemplateExpansion(store);
+        assertEquals("Ett enkel test.", parse(expansion, "Ett {{Enkel}} test."));
+        assertEquals("Ett [arg] test.", parse(expansion, "Ett {{argument|arg}} test."));
+        assertEquals("Ett a b c d test.", parse(expansion, "Ett {{Djup1}} test."));
+
+        //missing templates are handled as if there was no expansion
+        assertEquals("Ett test.", parse(expansion, "Ett {{Saknas}} test."));
+    }
+
+    public void testMaxDepth() {
+        assertEquals("Ett a b test.", parse(new TemplateExpansion(store, 2, 0), "Ett {{Djup1}} test."));
+        assertEquals("Ett a test.", parse(new TemplateExpansion(store, 1, 0), "Ett {{Djup1}} test."));
+        assertEquals("Ett test.", parse(new TemplateExpansion(store, 0, 0), "Ett {{Djup1}} test."));
+
+        //recursion ends, by the loop detection of Sweble or at the maximum depth
+        String text = parse(new TemplateExpansion(store, 5, 0), "Ett {{Loop}} test.");
+        assertTrue(text, text.startsWith("Ett x"));
+        assertTrue(text, text.endsWith("test."));
+    }
+
+    public void testBudget() {
+        StringBuilder markup = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            markup.append("{{Enkel}} ");
+        }
+
+        //the whole page can not be expanded within a millisecond, the rest of the templates are left unexpanded
+        String text = parse(new TemplateExpansion(store, TemplateExpansion.DEFAULT_MAX_DEPTH, 1), markup.toString());
+        int expanded = text.isEmpty() ? 0 : text.split(" ").length;
+        assertTrue(String.valueOf(expanded), expanded < 5000);
+
+        text = parse(new TemplateExpansion(store, TemplateExpansion.DEFAULT_MAX_DEPTH, 0), markup.toString());
+        assertEquals(5000, text.split(" ").length);
+    }
+
+    public void testCache() {
+        TemplateExpansion cached = new TemplateExpansion(store, TemplateExpansion.DEFAULT_MAX_DEPTH, 0, 2);
+        TemplateExpansion uncached = new TemplateExpansion(store, TemplateExpansion.DEFAULT_MAX_DEPTH, 0, 0);
+        String markup = "{{Enkel}} {{argument|1}} {{Djup1}} {{argument|2}} {{Enkel}} {{Djup3}}";
+        for (int i = 0; i < 3; i++) {
+            assertEquals(parse(uncached, markup), parse(cached, markup));
+        }
+        assertEquals("enkel [1] a b c d [2] enkel c d", parse(cached, markup));
+    }
+}
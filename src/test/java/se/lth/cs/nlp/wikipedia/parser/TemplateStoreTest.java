@@ -0,0 +1,153 @@
+package se.lth.cs.nlp.wikipedia.parser;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+import org.sweble.wikitext.engine.PageTitle;
+import org.sweble.wikitext.engine.config.WikiConfig;
+import se.lth.cs.nlp.mediawiki.model.Page;
+import se.lth.cs.nlp.wikipedia.lang.SwedishConfig;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Tests of the template store
+ */
+public class TemplateStoreTest extends TestCase
+{
+    private static WikiConfig config;
+
+    public TemplateStoreTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( TemplateStoreTest.class );
+    }
+
+    @Override
+    protected void setUp() {
+        if(config == null)
+            config = new SwedishConfig().get();
+    }
+
+    private static String get(TemplateStore store, String title) throws Exception {
+        return store.get(PageTitle.make(config, title));
+    }
+
+    private static String text(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            //multibyte chars, so that byte and char lengths differ
+            sb.append("ab\u00e5\u00e4\u00f6\u20ac".charAt(random.nextInt(6)));
+        }
+        return sb.toString();
+    }
+
+    public void testRoundTrip() throws Exception {
+        TemplateStore store = new TemplateStore(config);
+        try {
+            store.add("Mall:Exempel", "Text {{{1}}}");
+            store.add("Template:English", "English");
+            store.add("Mall:Tom", "");
+            store.complete();
+
+            assertEquals(3, store.size());
+            assertEquals("Text {{{1}}}", get(store, "Mall:Exempel"));
+            assertEquals("Text {{{1}}}", get(store, "Mall:exempel"));
+            assertEquals("Text {{{1}}}", get(store, "Template:Exempel"));
+            assertEquals("English", get(store, "Mall:English"));
+            assertEquals("", get(store, "Mall:Tom"));
+            assertNull(get(store, "Mall:Saknas"));
+            assertNull(get(store, "Exempel"));
+        } finally {
+            store.close();
+        }
+    }
+
+    public void testSegments() throws Exception {
+        //every segment holds a few texts, texts that do not fit are moved to the next segment
+        TemplateStore store = new TemplateStore(config, 64);
+        try {
+            Random random = new Random(25);
+            String[] texts = new String[500];
+            for (int i = 0; i < texts.length; i++) {
+                texts[i] = text(random, random.nextInt(22));
+                store.add("Mall:T" + i, texts[i]);
+            }
+
+            //exactly one segment, then an empty text at the boundary
+            char[] full = new char[64];
+            Arrays.fill(full, 'x');
+            store.add("Mall:Full", new String(full));
+            store.add("Mall:Empty", "");
+
+            //larger than a segment
+            store.add("Mall:Large", new String(full) + "x");
+            store.complete();
+
+            assertEquals(texts.length + 2, store.size());
+            for (int i = 0; i < texts.length; i++) {
+                assertEquals(texts[i], get(store, "Mall:T" + i));
+            }
+            assertEquals(new String(full), get(store, "Mall:Full"));
+            assertEquals("", get(store, "Mall:Empty"));
+            assertNull(get(store, "Mall:Large"));
+        } finally {
+            store.close();
+        }
+    }
+
+    public void testReplace() throws Exception {
+        TemplateStore store = new TemplateStore(config, 16);
+        try {
+            store.add("Mall:A", "first");
+            store.add("Mall:A", "second");
+            store.complete();
+
+            assertEquals(1, store.size());
+            assertEquals("second", get(store, "Mall:A"));
+        } finally {
+            store.close();
+        }
+    }
+
+    public void testProcess() throws Exception {
+        TemplateStore store = new TemplateStore(config);
+        try {
+            store.process(Arrays.asList(
+                    new Page(null, 1L, "Mall:A", "a", 1L, 10, "text/x-wiki"),
+                    new Page(null, 2L, "Sida", "b", 1L, 0, "text/x-wiki"),
+                    new Page(null, 3L, "Mall:C", "c", 1L, 10, "text/css")));
+            store.complete();
+
+            assertEquals(1, store.size());
+            assertEquals("a", get(store, "Mall:A"));
+        } finally {
+            store.close();
+        }
+    }
+
+    public void testStates() throws Exception {
+        TemplateStore store = new TemplateStore(config);
+        try {
+            get(store, "Mall:A");
+            fail("The store is not complete.");
+        } catch (IllegalStateException e) {
+            //expected
+        }
+
+        store.complete();
+        try {
+            store.add("Mall:A", "a");
+            fail("The store is complete.");
+        } catch (IllegalStateException e) {
+            //expected
+        } finally {
+            store.close();
+        }
+    }
+}
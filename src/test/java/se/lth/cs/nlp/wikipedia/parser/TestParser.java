@@ -0,0 +1,84 @@
+package se.lth.cs.nlp.wikipedia.parser;
+
+import org.apache.commons.lang3.StringUtils;
+import se.lth.cs.nlp.mediawiki.model.Page;
+import se.lth.cs.nlp.pipeline.Sink;
+import se.lth.cs.nlp.wikipedia.lang.SwedishConfig;
+import se.lth.cs.nlp.wikipedia.lang.TemplateConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Parser for tests of how parses are scheduled, a page is parsed to its title.
+ *
+ * The content of a page is "sleep:[ms]" or "fail" padded to the length of the page, the parse sleeps
+ * for the given time or throws. The threads that parsed the pages are recorded.
+ */
+class TestParser extends SwebleWikimarkupParserBase<String> {
+    private static TemplateConfig config;
+
+    public final ConcurrentHashMap<String,Thread> threads = new ConcurrentHashMap<String,Thread>();
+    public final List<String> output = Collections.synchronizedList(new ArrayList<String>());
+    public final List<Integer> batches = Collections.synchronizedList(new ArrayList<Integer>());
+    public final List<Page> errors = Collections.synchronizedList(new ArrayList<Page>());
+
+    private static synchronized TemplateConfig getSharedConfig() {
+        if(config == null)
+            config = new SwedishConfig();
+        return config;
+    }
+
+    public TestParser() {
+        super(getSharedConfig());
+        appendOutputSink(new Sink<String>() {
+            @Override
+            public void process(List<String> batch) {
+                batches.add(batch.size());
+                output.addAll(batch);
+            }
+        });
+        appendErrorSink(new Sink<Page>() {
+            @Override
+            public void process(List<Page> batch) {
+                errors.addAll(batch);
+            }
+        });
+    }
+
+    /**
+     * @param title the title
+     * @param sleep the parse time in milliseconds, -1 for a parse that throws
+     * @param length the number of chars of the content
+     */
+    public static Page page(String title, long sleep, int length) {
+        String content = StringUtils.rightPad(sleep < 0 ? "fail" : "sleep:" + sleep, length);
+        return new Page(null, 1L, title, content, 1L, 0, "text/x-wiki");
+    }
+
+    public static List<Page> batch(Page...pages) {
+        ArrayList<Page> batch = new ArrayList<Page>();
+        Collections.addAll(batch, pages);
+        return batch;
+    }
+
+    @Override
+    public String parse(Page page) {
+        threads.put(page.getTitle(), Thread.currentThread());
+
+        String content = page.getContent().trim();
+        if(content.equals("fail"))
+            throw new IllegalStateException(page.getTitle() + " failed");
+
+        try {
+            Thread.sleep(Long.parseLong(content.substring("sleep:".length())));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+
+        return page.getTitle();
+    }
+}
@@ -0,0 +1,181 @@
+package se.lth.cs.nlp.wikipedia.parser;
+
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+import java.util.Random;
+import java.util.regex.Pattern;
+
+/**
+ * Tests of the text cleanup against the regex chains it replaces
+ */
+public class TextNormalizerTest extends TestCase
+{
+    private static final Pattern trimLineStartFix = Pattern.compile("^[\\t ]+", Pattern.MULTILINE);
+    private static final Pattern trimLineEndFix = Pattern.compile("[\\t ]+$", Pattern.MULTILINE);
+
+    private static final Pattern removeWhitespaceNewline = Pattern.compile("( *)\n( )*");
+    private static final Pattern removeRedudantNewline = Pattern.compile("\n{2,}");
+    private static final Pattern removeRedudantWhitespace = Pattern.compile(" {2,}");
+    private static final Pattern removeParanthesis = Pattern.compile("(\\(((\\(|\\)| )*)\\))");
+
+    private static final String[] edgeCases = {
+            "",
+            " ",
+            "\n\n\n",
+            "()",
+            "( )",
+            "( ( )",
+            "(( ))",
+            "( ) ( )",
+            "a (\t\n) b",
+            "a ( b )",
+            "(",
+            "a (",
+            ")",
+            "a\r\nb",
+            "a \r\n b",
+            "a\r\n\r\n\r\nb",
+            "a  b",
+            " a     b ",
+            "a \tb\u0085 c",
+            "a \u2028 b",
+            "a\u2028\u2028\u2028b",
+            "a\n\u2028\n\nb",
+            "a\n \n \n \nb",
+            "a\n\t\n\t\n\t\nb",
+            "a  \n  \n\n\n  b",
+            "a\n( )\n( )\nb",
+            "  a  b  ",
+            "a\f\n\fb",
+    };
+
+    public TextNormalizerTest( String testName )
+    {
+        super( testName );
+    }
+
+    public static Test suite()
+    {
+        return new TestSuite( TextNormalizerTest.class );
+    }
+
+    /**
+     * The cleanup of SwebleWikimarkupToText.extract before TextNormalizer
+     */
+    private static String normalizeRegex(String text) {
+        text = text.replaceAll("\\(\\s*\\)", " ");
+        text = text.replaceAll(" {2,}", " ");
+        text = text.replaceAll("\n{2,}", "\n\n");
+        text = trimLineStartFix.matcher(text).replaceAll("");
+        text = trimLineEndFix.matcher(text).replaceAll("");
+        return text.trim();
+    }
+
+    /**
+     * The cleanup of FilteringStringBuilder.flush before TextNormalizer
+     */
+    private static String normalizeWhitespaceRunRegex(String text) {
+        text = removeWhitespaceNewline.matcher(text).replaceAll("\n");
+        text = removeRedudantNewline.matcher(text).replaceAll("\n\n");
+        text = removeParanthesis.matcher(text).replaceAll("");
+        text = removeRedudantWhitespace.matcher(text).replaceAll(" ");
+        return text;
+    }
+
+    private static String normalizeWhitespaceRun(String run) {
+        //the output already holds text, the run is appended after it
+        StringBuilder output = new StringBuilder("text ");
+        TextNormalizer.normalizeWhitespaceRun(run, output);
+        assertEquals("text ", output.substring(0, 5));
+        return output.substring(5);
+    }
+
+    private static String random(Random random, String alphabet, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    private static String escape(String text) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if(ch < ' ' || ch > '~')
+                sb.append(String.format("\\u%04x", (int)ch));
+            else
+                sb.append(ch);
+        }
+        return sb.toString();
+    }
+
+    private static void assertNormalize(String text) {
+        assertEquals(escape(text), escape(normalizeRegex(text)), escape(TextNormalizer.normalize(text)));
+    }
+
+    private static void assertNormalizeWhitespaceRun(String run) {
+        assertEquals(escape(run), escape(normalizeWhitespaceRunRegex(run)), escape(normalizeWhitespaceRun(run)));
+    }
+
+    public void testEdgeCases() {
+        for (String text : edgeCases) {
+            assertNormalize(text);
+        }
+
+        assertEquals("a ( b", TextNormalizer.normalize("a ( ( ) b"));
+        assertEquals("a\r\nb", TextNormalizer.normalize(" a \r\n b "));
+        assertEquals("a b", TextNormalizer.normalize("a   b"));
+        assertEquals("a\u2028b", TextNormalizer.normalize("a \u2028 b"));
+
+        //a line of blanks becomes empty after trimming, the newlines around it are not truncated again
+        assertEquals("a\n\n\nb", TextNormalizer.normalize("a\n\n \nb"));
+    }
+
+    public void testRandom() {
+        Random random = new Random(21);
+        for (int i = 0; i < 100000; i++) {
+            assertNormalize(random(random, "  \t\n\n\r\f\u000B\u2028\u0085(()ab", 24));
+        }
+    }
+
+    public void testReset() {
+        TextNormalizer normalizer = new TextNormalizer();
+        for (String text : edgeCases) {
+            normalizer.reset();
+            assertEquals(escape(text), normalizeRegex(text), normalizer.append(text).toString());
+        }
+    }
+
+    public void testWhitespaceRunEdgeCases() {
+        String[] runs = {
+                "", " ", "  ", "\n", "\n\n\n", " \n ", "  \n\n\n  ",
+                "()", "( )", "( ( )", "(( ))", ")(", "( ) ( )", "(\n)", "( (\n) )",
+                " ( ) \n ( ) ", "(", ")", ") (",
+        };
+
+        for (String run : runs) {
+            assertNormalizeWhitespaceRun(run);
+        }
+
+        assertEquals(" ", normalizeWhitespaceRun(" ( ( ) "));
+        assertEquals("\n\n", normalizeWhitespaceRun("  \n \n\n  "));
+    }
+
+    public void testWhitespaceRunRandom() {
+        Random random = new Random(21);
+        for (int i = 0; i < 100000; i++) {
+            assertNormalizeWhitespaceRun(random(random, "   \n\n()", 20));
+        }
+    }
+
+    public void testIsNewlines() {
+        assertTrue(TextNormalizer.isNewlines(""));
+        assertTrue(TextNormalizer.isNewlines("\r\n\n"));
+        assertFalse(TextNormalizer.isNewlines("\n \n"));
+        assertFalse(TextNormalizer.isNewlines(" "));
+    }
+}